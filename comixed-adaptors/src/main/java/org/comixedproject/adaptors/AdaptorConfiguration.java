@@ -23,21 +23,27 @@ import org.apache.tika.metadata.Metadata;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 /**
  * <code>AdaptorConfiguration</code> provides beans for the adaptors package.
  *
+ * <p>The Tika beans are lazy since loading the detectors is expensive and is not needed until the
+ * first file is examined.
+ *
  * @author Darryl L. Pierce
  */
 @Configuration
 @ComponentScan
 class AdaptorConfiguration {
   @Bean
+  @Lazy
   public Tika tika() {
     return new Tika();
   }
 
   @Bean
+  @Lazy
   public Metadata metadata() {
     return new Metadata();
   }
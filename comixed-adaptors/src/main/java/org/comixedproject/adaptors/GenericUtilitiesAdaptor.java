@@ -20,10 +20,11 @@ package org.comixedproject.adaptors;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.comicpages.PageHash;
 import org.springframework.stereotype.Component;
-import org.springframework.util.DigestUtils;
 
 /**
  * <code>GenericUtilitiesAdaptor</code> provides useful utility functions.
@@ -33,17 +34,53 @@ import org.springframework.util.DigestUtils;
 @Component
 @Log4j2
 public class GenericUtilitiesAdaptor {
+  private static final int BUFFER_SIZE = 8192;
+
+  private static final ThreadLocal<MessageDigest> MD5_DIGEST =
+      ThreadLocal.withInitial(
+          () -> {
+            try {
+              return MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException error) {
+              throw new IllegalStateException("MD5 digest is not available", error);
+            }
+          });
+
   public String createHash(byte[] bytes) {
-    var result = new StringBuilder(convertToHexString(DigestUtils.md5Digest(bytes)));
-    while (result.length() < 32) result = result.insert(0, "0");
-    return result.toString();
+    return this.createPageHash(bytes).toString();
   }
 
   public String createHash(final InputStream inputStream) throws IOException {
-    return convertToHexString(DigestUtils.md5Digest(inputStream));
+    return this.createPageHash(inputStream).toString();
+  }
+
+  /**
+   * Creates the binary MD5 hash for the given content.
+   *
+   * @param bytes the content
+   * @return the hash
+   */
+  public PageHash createPageHash(final byte[] bytes) {
+    final MessageDigest digest = MD5_DIGEST.get();
+    digest.reset();
+    return PageHash.fromBytes(digest.digest(bytes));
   }
 
-  private String convertToHexString(final byte[] content) {
-    return new BigInteger(1, content).toString(16).toUpperCase();
+  /**
+   * Creates the binary MD5 hash for the content of the given stream, reading it to the end.
+   *
+   * @param inputStream the input stream
+   * @return the hash
+   * @throws IOException if an error occurs reading the stream
+   */
+  public PageHash createPageHash(final InputStream inputStream) throws IOException {
+    final MessageDigest digest = MD5_DIGEST.get();
+    digest.reset();
+    final byte[] buffer = new byte[BUFFER_SIZE];
+    int read;
+    while ((read = inputStream.read(buffer)) != -1) {
+      digest.update(buffer, 0, read);
+    }
+    return PageHash.fromBytes(digest.digest());
   }
 }
@@ -18,10 +18,15 @@
 
 package org.comixedproject.adaptors.archive;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +44,9 @@ import org.springframework.beans.factory.annotation.Autowired;
  * <code>AbstractArchiveAdaptor</code> provides a foundation of {@link ArchiveAdaptor} for building
  * support for new archive types.
  *
+ * <p>The time spent in each archive operation and the number of bytes read and written are recorded
+ * by archive type.
+ *
  * @param <R> the archive read handle type
  * @param <W> the archive write handle type
  * @author Darryl L. Pierce
@@ -48,16 +56,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 public abstract class AbstractArchiveAdaptor<
         R extends ArchiveReadHandle, W extends ArchiveWriteHandle>
     implements ArchiveAdaptor {
+  static final String ARCHIVE_OPERATION_METRIC = "comixed.archive.operation";
+  static final String ARCHIVE_BYTES_METRIC = "comixed.archive.bytes";
+
   @Autowired @Getter private FileTypeAdaptor fileTypeAdaptor;
 
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
   @Getter @NonNull private ArchiveType archiveType;
 
   @Override
   public R openArchiveForRead(@NonNull final String filename) throws ArchiveAdaptorException {
+    final long started = System.nanoTime();
     try {
       return this.doOpenArchiveForRead(filename);
     } catch (Exception error) {
       throw new ArchiveAdaptorException("Failed to open archive for read", error);
+    } finally {
+      this.doRecordOperation("open-read", started);
     }
   }
 
@@ -78,10 +95,13 @@ public abstract class AbstractArchiveAdaptor<
   @Override
   public List<ComicArchiveEntry> getEntries(@NonNull final ArchiveReadHandle archiveHandle)
       throws ArchiveAdaptorException {
+    final long started = System.nanoTime();
     try {
       return this.doGetEntries((R) archiveHandle);
     } catch (Exception error) {
       throw new ArchiveAdaptorException("Failed to load archive entries", error);
+    } finally {
+      this.doRecordOperation("list-entries", started);
     }
   }
 
@@ -91,10 +111,15 @@ public abstract class AbstractArchiveAdaptor<
   public byte[] readEntry(
       @NonNull final ArchiveReadHandle archiveHandle, @NonNull final String filename)
       throws ArchiveAdaptorException {
+    final long started = System.nanoTime();
     try {
-      return this.doGetEntry((R) archiveHandle, filename);
+      final byte[] content = this.doGetEntry((R) archiveHandle, filename);
+      if (Objects.nonNull(content)) this.doRecordBytes("read", content.length);
+      return content;
     } catch (Exception error) {
       throw new ArchiveAdaptorException("Failed to get entry", error);
+    } finally {
+      this.doRecordOperation("read-entry", started);
     }
   }
 
@@ -113,10 +138,13 @@ public abstract class AbstractArchiveAdaptor<
   @Override
   public ArchiveWriteHandle openArchiveForWrite(@NonNull final String filename)
       throws ArchiveAdaptorException {
+    final long started = System.nanoTime();
     try {
       return this.doOpenArchiveForWrite(filename);
     } catch (Exception error) {
       throw new ArchiveAdaptorException("Failed to open archive for write", error);
+    } finally {
+      this.doRecordOperation("open-write", started);
     }
   }
 
@@ -128,10 +156,14 @@ public abstract class AbstractArchiveAdaptor<
       @NonNull final String filename,
       @NonNull final byte[] content)
       throws ArchiveAdaptorException {
+    final long started = System.nanoTime();
     try {
       this.doWriteEntry((W) archiveHandle, filename, content);
+      this.doRecordBytes("write", content.length);
     } catch (Exception error) {
       throw new ArchiveAdaptorException("Failed to write entry to archive", error);
+    } finally {
+      this.doRecordOperation("write-entry", started);
     }
   }
 
@@ -141,12 +173,34 @@ public abstract class AbstractArchiveAdaptor<
   @Override
   public void closeArchiveForWrite(@NonNull final ArchiveWriteHandle archiveHandle)
       throws ArchiveAdaptorException {
+    final long started = System.nanoTime();
     try {
       this.doCloseArchiveForWrite((W) archiveHandle);
     } catch (Exception error) {
       throw new ArchiveAdaptorException("Failed to close archive", error);
+    } finally {
+      this.doRecordOperation("close-write", started);
     }
   }
 
   protected abstract void doCloseArchiveForWrite(final W archiveHandle) throws Exception;
+
+  private void doRecordOperation(final String operation, final long started) {
+    Timer.builder(ARCHIVE_OPERATION_METRIC)
+        .description("Time spent in archive operations")
+        .tag("type", this.archiveType.name())
+        .tag("operation", operation)
+        .register(this.meterRegistry)
+        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+  }
+
+  private void doRecordBytes(final String direction, final long length) {
+    DistributionSummary.builder(ARCHIVE_BYTES_METRIC)
+        .description("Bytes read from and written to archive entries")
+        .baseUnit("bytes")
+        .tag("type", this.archiveType.name())
+        .tag("direction", direction)
+        .register(this.meterRegistry)
+        .record(length);
+  }
 }
@@ -0,0 +1,272 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.adaptors.archive;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.io.File;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.adaptors.AdaptorException;
+import org.comixedproject.adaptors.archive.model.ArchiveReadHandle;
+import org.comixedproject.adaptors.file.FileTypeAdaptor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>ArchiveReadHandlePool</code> keeps a bounded set of archives open for reading, so that
+ * repeated page requests against the same comic book file do not reopen the archive and reparse its
+ * directory each time.
+ *
+ * <p>Handles are keyed by the absolute path, the last modified time and the length of the file. A
+ * file that has changed on disk is reopened on next use. Handles that have not been used within the
+ * idle timeout are closed, and the least recently used handle is closed when the pool is full.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class ArchiveReadHandlePool implements InitializingBean, DisposableBean {
+  static final String POOL_REQUESTS_METRIC = "comixed.archive.pool.requests";
+  static final String POOL_OPEN_METRIC = "comixed.archive.pool.open";
+  static final String POOL_SIZE_METRIC = "comixed.archive.pool.size";
+
+  @Autowired private FileTypeAdaptor fileTypeAdaptor;
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+  @Value("${comixed.archive.pool.max-size:32}")
+  @Getter
+  private int maxSize = 32;
+
+  @Value("${comixed.archive.pool.idle-timeout:60000}")
+  @Getter
+  private long idleTimeout = 60000L;
+
+  final Map<String, PooledArchive> pool = new ConcurrentHashMap<>();
+
+  private Counter hitCounter;
+  private Counter missCounter;
+
+  @Override
+  public void afterPropertiesSet() {
+    this.hitCounter =
+        Counter.builder(POOL_REQUESTS_METRIC)
+            .description("Archive read handle pool requests")
+            .tag("result", "hit")
+            .register(this.meterRegistry);
+    this.missCounter =
+        Counter.builder(POOL_REQUESTS_METRIC)
+            .description("Archive read handle pool requests")
+            .tag("result", "miss")
+            .register(this.meterRegistry);
+    Gauge.builder(POOL_SIZE_METRIC, this.pool, Map::size)
+        .description("Open archive read handles")
+        .register(this.meterRegistry);
+  }
+
+  /**
+   * Reads the content of a single entry, using a pooled handle for the archive.
+   *
+   * @param filename the archive filename
+   * @param entryName the entry name
+   * @return the entry content
+   * @throws AdaptorException if the archive cannot be opened or the entry cannot be read
+   */
+  public byte[] readEntry(final String filename, final String entryName) throws AdaptorException {
+    final File file = new File(filename);
+    final ArchiveKey key =
+        new ArchiveKey(file.getAbsolutePath(), file.lastModified(), file.length());
+    while (true) {
+      final PooledArchive pooledArchive = this.doGetPooledArchive(key);
+      pooledArchive.lock.lock();
+      try {
+        if (pooledArchive.closed) {
+          log.trace("Pooled archive closed while waiting, retrying: {}", key.path);
+          continue;
+        }
+        if (pooledArchive.readHandle == null) {
+          this.missCounter.increment();
+          this.doOpenArchive(pooledArchive, filename);
+        } else {
+          this.hitCounter.increment();
+        }
+        pooledArchive.lastAccessed = System.currentTimeMillis();
+        log.trace("Reading pooled archive entry: {} => {}", key.path, entryName);
+        return pooledArchive.archiveAdaptor.readEntry(pooledArchive.readHandle, entryName);
+      } catch (AdaptorException | ArchiveAdaptorException error) {
+        this.pool.remove(key.path, pooledArchive);
+        this.doClose(pooledArchive);
+        throw new AdaptorException("Failed to read pooled archive entry", error);
+      } finally {
+        pooledArchive.lock.unlock();
+      }
+    }
+  }
+
+  private PooledArchive doGetPooledArchive(final ArchiveKey key) {
+    final PooledArchive existing = this.pool.get(key.path);
+    if (Objects.nonNull(existing) && !existing.key.equals(key)) {
+      log.trace("Archive changed on disk, discarding pooled handle: {}", key.path);
+      this.doRemove(existing);
+    }
+    final PooledArchive result =
+        this.pool.computeIfAbsent(key.path, path -> new PooledArchive(key));
+    if (this.pool.size() > this.maxSize) {
+      this.doEvictLeastRecentlyUsed(result);
+    }
+    return result;
+  }
+
+  private void doOpenArchive(final PooledArchive pooledArchive, final String filename)
+      throws AdaptorException, ArchiveAdaptorException {
+    log.debug("Opening pooled archive: {}", pooledArchive.key.path);
+    final long started = System.nanoTime();
+    final ArchiveAdaptor archiveAdaptor = this.fileTypeAdaptor.getArchiveAdaptorFor(filename);
+    final ArchiveReadHandle readHandle = archiveAdaptor.openArchiveForRead(filename);
+    Timer.builder(POOL_OPEN_METRIC)
+        .description("Time spent opening archives for the read handle pool")
+        .tag("type", archiveAdaptor.getArchiveType().name())
+        .register(this.meterRegistry)
+        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    pooledArchive.archiveAdaptor = archiveAdaptor;
+    pooledArchive.readHandle = readHandle;
+  }
+
+  private void doEvictLeastRecentlyUsed(final PooledArchive keep) {
+    final Optional<PooledArchive> oldest =
+        this.pool.values().stream()
+            .filter(pooledArchive -> pooledArchive != keep)
+            .min(Comparator.comparingLong(pooledArchive -> pooledArchive.lastAccessed));
+    if (oldest.isPresent()) {
+      log.trace("Pool full, evicting archive: {}", oldest.get().key.path);
+      this.doRemove(oldest.get());
+    }
+  }
+
+  /**
+   * Closes any pooled handle for the given file. Invoked before a file is moved, replaced or
+   * deleted.
+   *
+   * @param file the file
+   */
+  public void invalidate(final File file) {
+    final PooledArchive pooledArchive = this.pool.get(file.getAbsolutePath());
+    if (Objects.nonNull(pooledArchive)) {
+      log.debug("Invalidating pooled archive: {}", file.getAbsolutePath());
+      this.doRemove(pooledArchive);
+    }
+  }
+
+  /** Closes all handles that have been idle longer than the configured timeout. */
+  @Scheduled(fixedDelayString = "${comixed.archive.pool.eviction-interval:30000}")
+  public void evictIdleHandles() {
+    final long cutoff = System.currentTimeMillis() - this.idleTimeout;
+    this.pool.values().stream()
+        .filter(pooledArchive -> pooledArchive.lastAccessed < cutoff)
+        .forEach(
+            pooledArchive -> {
+              if (pooledArchive.lock.tryLock()) {
+                try {
+                  log.trace("Evicting idle archive: {}", pooledArchive.key.path);
+                  this.pool.remove(pooledArchive.key.path, pooledArchive);
+                  this.doClose(pooledArchive);
+                } finally {
+                  pooledArchive.lock.unlock();
+                }
+              }
+            });
+  }
+
+  @Override
+  public void destroy() {
+    log.debug("Closing all pooled archives");
+    this.pool.values().forEach(this::doRemove);
+  }
+
+  private void doRemove(final PooledArchive pooledArchive) {
+    this.pool.remove(pooledArchive.key.path, pooledArchive);
+    pooledArchive.lock.lock();
+    try {
+      this.doClose(pooledArchive);
+    } finally {
+      pooledArchive.lock.unlock();
+    }
+  }
+
+  private void doClose(final PooledArchive pooledArchive) {
+    pooledArchive.closed = true;
+    if (Objects.nonNull(pooledArchive.readHandle)) {
+      try {
+        pooledArchive.archiveAdaptor.closeArchiveForRead(pooledArchive.readHandle);
+      } catch (ArchiveAdaptorException error) {
+        log.error("Failed to close pooled archive", error);
+      }
+      pooledArchive.readHandle = null;
+    }
+  }
+
+  @RequiredArgsConstructor
+  static class ArchiveKey {
+    private final String path;
+    private final long lastModified;
+    private final long length;
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      final ArchiveKey that = (ArchiveKey) o;
+      return lastModified == that.lastModified
+          && length == that.length
+          && Objects.equals(path, that.path);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, lastModified, length);
+    }
+  }
+
+  @RequiredArgsConstructor
+  static class PooledArchive {
+    private final ArchiveKey key;
+    private final ReentrantLock lock = new ReentrantLock();
+    private ArchiveAdaptor archiveAdaptor;
+    private ArchiveReadHandle readHandle;
+    private volatile long lastAccessed = System.currentTimeMillis();
+    private volatile boolean closed = false;
+  }
+}
@@ -81,19 +81,13 @@ public class Cb7ArchiveAdaptor
   protected byte[] doGetEntry(final Cb7ArchiveReadHandle archiveHandle, final String filename)
       throws Exception {
     log.trace("Loading archive entry: {}", filename);
-    final Iterator<SevenZArchiveEntry> entries =
-        archiveHandle.getArchiveHandle().getEntries().iterator();
+    final SevenZArchiveEntry entry = archiveHandle.getEntry(filename);
+    if (entry == null) throw new ArchiveAdaptorException("No such entry: " + filename);
 
-    while (entries.hasNext()) {
-      final SevenZArchiveEntry entry = entries.next();
-      if (entry.getName().equals(filename)) {
-        log.trace("Loading file entry content: {} bytes", entry.getSize());
-        final byte[] result = new byte[(int) entry.getSize()];
-        IOUtils.readFully(archiveHandle.getArchiveHandle().getInputStream(entry), result);
-        return result;
-      }
-    }
-    throw new ArchiveAdaptorException("No such entry: " + filename);
+    log.trace("Loading file entry content: {} bytes", entry.getSize());
+    final byte[] result = new byte[(int) entry.getSize()];
+    IOUtils.readFully(archiveHandle.getArchiveHandle().getInputStream(entry), result);
+    return result;
   }
 
   @Override
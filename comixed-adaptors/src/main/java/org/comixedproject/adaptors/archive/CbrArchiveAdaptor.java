@@ -26,7 +26,6 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.compress.utils.IOUtils;
 import org.comixedproject.adaptors.archive.model.CbrArchiveReadHandle;
@@ -82,15 +81,12 @@ public class CbrArchiveAdaptor
   @Override
   protected byte[] doGetEntry(final CbrArchiveReadHandle archiveHandle, final String filename)
       throws Exception {
-    final Optional<FileHeader> fileHeader =
-        archiveHandle.getArchiveHandle().getFileHeaders().stream()
-            .filter(header -> header.getFileName().equals(filename))
-            .findFirst();
+    final FileHeader fileHeader = archiveHandle.getFileHeader(filename);
 
-    if (fileHeader.isEmpty()) throw new ArchiveAdaptorException("No such entry: " + filename);
+    if (fileHeader == null) throw new ArchiveAdaptorException("No such entry: " + filename);
 
-    byte[] result = new byte[(int) fileHeader.get().getFullUnpackSize()];
-    IOUtils.readFully(archiveHandle.getArchiveHandle().getInputStream(fileHeader.get()), result);
+    byte[] result = new byte[(int) fileHeader.getFullUnpackSize()];
+    IOUtils.readFully(archiveHandle.getArchiveHandle().getInputStream(fileHeader), result);
     return result;
   }
 
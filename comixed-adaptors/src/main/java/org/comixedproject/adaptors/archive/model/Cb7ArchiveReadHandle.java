@@ -18,6 +18,9 @@
 
 package org.comixedproject.adaptors.archive.model;
 
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.compress.archivers.sevenz.SevenZArchiveEntry;
 import org.apache.commons.compress.archivers.sevenz.SevenZFile;
 
 /**
@@ -26,7 +29,26 @@ import org.apache.commons.compress.archivers.sevenz.SevenZFile;
  * @author Darryl L. Pierce
  */
 public class Cb7ArchiveReadHandle extends AbstractArchiveReadHandle<SevenZFile> {
+  private Map<String, SevenZArchiveEntry> entryIndex;
+
   public Cb7ArchiveReadHandle(final SevenZFile archiveHandle, final String filename) {
     super(archiveHandle, filename);
   }
+
+  /**
+   * Returns the entry with the given name. The name to entry index is built on first use and kept
+   * for the lifetime of the handle.
+   *
+   * @param filename the entry filename
+   * @return the entry, or null if not found
+   */
+  public SevenZArchiveEntry getEntry(final String filename) {
+    if (this.entryIndex == null) {
+      this.entryIndex = new HashMap<>();
+      for (SevenZArchiveEntry entry : this.getArchiveHandle().getEntries()) {
+        this.entryIndex.putIfAbsent(entry.getName(), entry);
+      }
+    }
+    return this.entryIndex.get(filename);
+  }
 }
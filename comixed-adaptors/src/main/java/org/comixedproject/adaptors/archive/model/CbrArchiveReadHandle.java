@@ -19,9 +19,36 @@
 package org.comixedproject.adaptors.archive.model;
 
 import com.github.junrar.Archive;
+import com.github.junrar.rarfile.FileHeader;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * <code>CbrArchiveReadHandle</code> provides an archive handle for reading CBR files.
+ *
+ * @author Darryl L. Pierce
+ */
 public class CbrArchiveReadHandle extends AbstractArchiveReadHandle<Archive> {
+  private Map<String, FileHeader> entryIndex;
+
   public CbrArchiveReadHandle(final Archive archiveHandle, final String filename) {
     super(archiveHandle, filename);
   }
+
+  /**
+   * Returns the file header with the given name. The name to header index is built on first use and
+   * kept for the lifetime of the handle.
+   *
+   * @param filename the entry filename
+   * @return the file header, or null if not found
+   */
+  public FileHeader getFileHeader(final String filename) {
+    if (this.entryIndex == null) {
+      this.entryIndex = new HashMap<>();
+      for (FileHeader header : this.getArchiveHandle().getFileHeaders()) {
+        this.entryIndex.putIfAbsent(header.getFileName(), header);
+      }
+    }
+    return this.entryIndex.get(filename);
+  }
 }
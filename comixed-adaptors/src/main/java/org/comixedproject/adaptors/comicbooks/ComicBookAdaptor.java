@@ -30,6 +30,7 @@ import org.apache.commons.lang.StringUtils;
 import org.comixedproject.adaptors.AdaptorException;
 import org.comixedproject.adaptors.archive.ArchiveAdaptor;
 import org.comixedproject.adaptors.archive.ArchiveAdaptorException;
+import org.comixedproject.adaptors.archive.ArchiveReadHandlePool;
 import org.comixedproject.adaptors.archive.model.ArchiveEntryType;
 import org.comixedproject.adaptors.archive.model.ArchiveReadHandle;
 import org.comixedproject.adaptors.archive.model.ArchiveWriteHandle;
@@ -60,6 +61,7 @@ public class ComicBookAdaptor {
   @Autowired private ComicPageAdaptor comicPageAdaptor;
   @Autowired private ComicMetadataContentAdaptor comicMetadataContentAdaptor;
   @Autowired private FileAdaptor fileAdaptor;
+  @Autowired private ArchiveReadHandlePool archiveReadHandlePool;
 
   /**
    * Creates a new comic. Determines the archive type for the underlying file.
@@ -273,20 +275,14 @@ public class ComicBookAdaptor {
   public byte[] loadPageContent(final ComicBook comicBook, final int pageNumber)
       throws AdaptorException {
     try {
-      log.trace("Getting archive adaptor for comic book file");
-      final ArchiveAdaptor archiveAdaptor =
-          this.fileTypeAdaptor.getArchiveAdaptorFor(comicBook.getComicDetail().getFilename());
-      log.trace("Opening archive");
-      final ArchiveReadHandle readHandle =
-          archiveAdaptor.openArchiveForRead(comicBook.getComicDetail().getFilename());
-      log.trace("Loading page content");
+      log.trace("Loading page content from pooled archive");
       final byte[] content =
-          archiveAdaptor.readEntry(readHandle, comicBook.getPages().get(pageNumber).getFilename());
-      log.trace("Closing archive");
-      archiveAdaptor.closeArchiveForRead(readHandle);
+          this.archiveReadHandlePool.readEntry(
+              comicBook.getComicDetail().getFilename(),
+              comicBook.getPages().get(pageNumber).getFilename());
       log.trace("Returning {} bytes", content.length);
       return content;
-    } catch (AdaptorException | ArchiveAdaptorException error) {
+    } catch (AdaptorException error) {
       throw new AdaptorException("Failed to load page content", error);
     }
   }
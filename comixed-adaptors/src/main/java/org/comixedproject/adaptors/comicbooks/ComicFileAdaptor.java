@@ -18,15 +18,14 @@
 
 package org.comixedproject.adaptors.comicbooks;
 
-import static org.apache.commons.lang.StringUtils.leftPad;
-
 import java.io.File;
 import java.text.MessageFormat;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.FilenameUtils;
 import org.comixedproject.model.comicbooks.ComicBook;
@@ -56,7 +55,23 @@ public class ComicFileAdaptor {
   public static final String PLACEHOLDER_PUBLISHED_YEAR = "$PUBYEAR";
   public static final String PLACEHOLDER_PUBLISHED_MONTH = "$PUBMONTH";
 
-  private final SimpleDateFormat coverDateFormat = new SimpleDateFormat("MMM yyyy");
+  private static final DateTimeFormatter COVER_DATE_FORMAT =
+      DateTimeFormatter.ofPattern("MMM yyyy");
+
+  private final RenamingRuleCompiler renamingRuleCompiler =
+      new RenamingRuleCompiler(
+          List.of(
+              PLACEHOLDER_PUBLISHER,
+              PLACEHOLDER_IMPRINT,
+              PLACEHOLDER_SERIES,
+              PLACEHOLDER_VOLUME,
+              PLACEHOLDER_ISSUE_NUMBER,
+              PLACEHOLDER_TITLE,
+              PLACEHOLDER_COVER_DATE,
+              PLACEHOLDER_PUBLISHED_YEAR,
+              PLACEHOLDER_PUBLISHED_MONTH),
+          List.of(PLACEHOLDER_ISSUE_NUMBER),
+          FORBIDDEN_RULE_CHARACTERS);
 
   /**
    * Looks for the next available filename for a comic file.
@@ -120,10 +135,7 @@ public class ComicFileAdaptor {
           targetDirectory, FilenameUtils.getBaseName(comicBook.getComicDetail().getFilename()));
     }
 
-    log.trace("Scrubbing renaming rule: {}", renamingRule);
-    final String rule = this.scrub(renamingRule, FORBIDDEN_RULE_CHARACTERS);
-
-    log.trace("Generating relative filename based on renaming rule: {}", rule);
+    log.trace("Generating relative filename based on renaming rule: {}", renamingRule);
     final String publisher =
         StringUtils.hasLength(comicBook.getComicDetail().getPublisher())
             ? scrub(comicBook.getComicDetail().getPublisher())
@@ -144,17 +156,18 @@ public class ComicFileAdaptor {
         StringUtils.hasLength(comicBook.getComicDetail().getTitle())
             ? comicBook.getComicDetail().getTitle()
             : UNKNOWN_VALUE;
-    String issueNumber =
+    final String issueNumber =
         StringUtils.hasLength(comicBook.getComicDetail().getIssueNumber())
             ? scrub(comicBook.getComicDetail().getIssueNumber())
             : UNKNOWN_VALUE;
     final String coverDate =
         comicBook.getComicDetail().getCoverDate() != null
-            ? coverDateFormat.format(comicBook.getComicDetail().getCoverDate())
+            ? COVER_DATE_FORMAT.format(
+                Instant.ofEpochMilli(comicBook.getComicDetail().getCoverDate().getTime())
+                    .atZone(ZoneId.systemDefault()))
             : NO_COVER_DATE;
-    issueNumber = this.checkForPadding(rule, PLACEHOLDER_ISSUE_NUMBER, issueNumber);
-    String publishedMonth = "";
-    String publishedYear = "";
+    final String publishedMonth;
+    final String publishedYear;
     if (comicBook.getComicDetail().getStoreDate() != null) {
       final GregorianCalendar calendar = new GregorianCalendar();
       calendar.setTime(comicBook.getComicDetail().getStoreDate());
@@ -162,48 +175,34 @@ public class ComicFileAdaptor {
       publishedYear = String.valueOf(calendar.get(Calendar.YEAR));
       log.trace("Getting store month");
       publishedMonth = String.valueOf(calendar.get(Calendar.MONTH));
+    } else {
+      publishedYear = "";
+      publishedMonth = "";
     }
 
-    String result =
-        rule.replace(PLACEHOLDER_PUBLISHER, publisher)
-            .replace(PLACEHOLDER_IMPRINT, imprint)
-            .replace(PLACEHOLDER_SERIES, series)
-            .replace(PLACEHOLDER_VOLUME, volume)
-            .replace(PLACEHOLDER_TITLE, title)
-            .replaceAll(
-                // need to look for the longer version of the regex first
-                String.format(
-                    "(\\%s\\([\\d]+\\)|\\%s)", PLACEHOLDER_ISSUE_NUMBER, PLACEHOLDER_ISSUE_NUMBER),
-                issueNumber)
-            .replace(PLACEHOLDER_COVER_DATE, coverDate)
-            .replace(PLACEHOLDER_PUBLISHED_YEAR, publishedYear)
-            .replace(PLACEHOLDER_PUBLISHED_MONTH, publishedMonth);
-
-    result = String.format("%s/%s", targetDirectory, result);
+    final String result =
+        String.format(
+            "%s/%s",
+            targetDirectory,
+            this.renamingRuleCompiler.render(
+                renamingRule,
+                placeholder ->
+                    switch (placeholder) {
+                      case PLACEHOLDER_PUBLISHER -> publisher;
+                      case PLACEHOLDER_IMPRINT -> imprint;
+                      case PLACEHOLDER_SERIES -> series;
+                      case PLACEHOLDER_VOLUME -> volume;
+                      case PLACEHOLDER_ISSUE_NUMBER -> issueNumber;
+                      case PLACEHOLDER_TITLE -> title;
+                      case PLACEHOLDER_COVER_DATE -> coverDate;
+                      case PLACEHOLDER_PUBLISHED_YEAR -> publishedYear;
+                      case PLACEHOLDER_PUBLISHED_MONTH -> publishedMonth;
+                      default -> "";
+                    }));
     log.trace("Relative comicBook filename: {}", result);
     return result;
   }
 
-  private String checkForPadding(final String rule, final String placeholder, final String value) {
-    log.trace(
-        "Checking if value needs padding: rule={} placeholder={} value={}",
-        rule,
-        placeholder,
-        value);
-    final Pattern pattern = Pattern.compile(String.format(".*(\\%s\\([\\d]+\\)).*", placeholder));
-    final Matcher matcher = pattern.matcher(rule);
-    if (matcher.find()) {
-      log.trace("Extracting full placeholder");
-      final String fullValue = matcher.group(1);
-      final int length =
-          Integer.parseInt(fullValue.substring(fullValue.indexOf("(") + 1, fullValue.length() - 1));
-      return leftPad(value, length, "0");
-    } else {
-      log.trace("Not padding value");
-      return value;
-    }
-  }
-
   private String scrub(final String text) {
     return this.scrub(text, FORBIDDEN_PROPERTY_CHARACTERS);
   }
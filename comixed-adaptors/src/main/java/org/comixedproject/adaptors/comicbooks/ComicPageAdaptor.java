@@ -18,6 +18,7 @@
 
 package org.comixedproject.adaptors.comicbooks;
 
+import java.util.List;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang.StringUtils;
 import org.codehaus.plexus.util.FileUtils;
@@ -33,6 +34,10 @@ import org.springframework.stereotype.Component;
 @Log4j2
 public class ComicPageAdaptor {
   private static final String FORBIDDEN_RULE_CHARACTERS = "[\"':\\\\*?|<>]";
+  static final String PLACEHOLDER_INDEX = "$INDEX";
+
+  private final RenamingRuleCompiler renamingRuleCompiler =
+      new RenamingRuleCompiler(List.of(PLACEHOLDER_INDEX), List.of(), FORBIDDEN_RULE_CHARACTERS);
 
   /**
    * Generates a new filename for the given page with a specified length for the page number.
@@ -45,21 +50,13 @@ public class ComicPageAdaptor {
    */
   public String createFilenameFromRule(
       final Page page, final String renamingRule, final int pageIndex, final int length) {
-    log.debug("Scrubbing renaming rule: {}", renamingRule);
-    final String rule = this.scrub(renamingRule, FORBIDDEN_RULE_CHARACTERS);
-
-    log.debug("Generating relative filename based on renaming rule: {}", rule);
+    log.debug("Generating relative filename based on renaming rule: {}", renamingRule);
     final String index = StringUtils.leftPad(String.valueOf(pageIndex + 1), length, '0');
 
-    String result = rule.replace("$INDEX", index);
+    final String result = this.renamingRuleCompiler.render(renamingRule, placeholder -> index);
 
     log.debug("Relative page name: {}", result);
 
     return String.format("%s.%s", result, FileUtils.getExtension(page.getFilename()));
   }
-
-  private String scrub(final String text, final String forbidden) {
-    log.trace("Pre-sanitized text: {}", text);
-    return text.replaceAll(forbidden, "_");
-  }
 }
@@ -18,12 +18,13 @@
 
 package org.comixedproject.adaptors.comicbooks;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.PatternSyntaxException;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.lang.StringUtils;
+import org.comixedproject.adaptors.comicbooks.model.CompiledFilenameScrapingRule;
+import org.comixedproject.adaptors.comicbooks.model.FilenameScrapingRuleSet;
 import org.comixedproject.model.metadata.FilenameMetadata;
 import org.comixedproject.model.metadata.FilenameScrapingRule;
 import org.springframework.stereotype.Component;
@@ -49,67 +50,33 @@ public class FilenameScraperAdaptor {
         "Applying filename scraping rule: filename={} rule={}",
         filename,
         filenameScrapingRule.getRule());
-    return this.applyRule(filename, filenameScrapingRule);
-  }
-
-  private FilenameMetadata applyRule(
-      final String filename, final FilenameScrapingRule filenameScrapingRule) {
-    var expression = Pattern.compile(filenameScrapingRule.getRule());
-
-    if (this.ruleApplies(expression, filename)) {
-      log.trace("Rule applies");
-      String[] elements = this.extractElements(expression, filename);
-      String series = null;
-      String volume = null;
-      String issueNumber = null;
-      Date coverDate = null;
-
-      if (filenameScrapingRule.getCoverDatePosition() != null
-          && !StringUtils.isEmpty(filenameScrapingRule.getDateFormat())) {
-        try {
-          final SimpleDateFormat dateFormat =
-              new SimpleDateFormat(filenameScrapingRule.getDateFormat());
-          coverDate = dateFormat.parse(elements[filenameScrapingRule.getCoverDatePosition()]);
-        } catch (ParseException error) {
-          log.error("Failed to parse cover date", error);
-          coverDate = null;
-        }
-      }
-
-      if (filenameScrapingRule.getSeriesPosition() != null) {
-        series = elements[filenameScrapingRule.getSeriesPosition()];
-      }
-
-      if (filenameScrapingRule.getVolumePosition() != null) {
-        volume = elements[filenameScrapingRule.getVolumePosition()];
-      }
-      if (filenameScrapingRule.getIssueNumberPosition() != null)
-        issueNumber = elements[filenameScrapingRule.getIssueNumberPosition()];
-
-      return new FilenameMetadata(true, series, volume, issueNumber, coverDate);
-    } else {
+    final FilenameMetadata result =
+        new CompiledFilenameScrapingRule(filenameScrapingRule).apply(filename);
+    if (Objects.isNull(result)) {
       log.trace("Rule does not apply");
       return new FilenameMetadata();
     }
+    return result;
   }
 
-  private boolean ruleApplies(final Pattern expression, final String filename) {
-    log.trace("Checking if filename matches scraping pattern");
-    return expression.matcher(filename) != null && expression.matcher(filename).matches();
-  }
-
-  private String[] extractElements(final Pattern expression, final String filename) {
-    log.trace("Extracting scraping elements from filename");
-    var matches = expression.matcher(filename);
-    var result = new String[matches.groupCount() + 1];
-
-    while (matches.find()) {
-      for (var index = 0; index < result.length; index++) {
-        result[index] = matches.group(index);
-        log.trace("Setting index={} to {}", index, result[index]);
+  /**
+   * Compiles a list of scraping rules into an immutable rule set. Rules with an invalid expression
+   * are logged and skipped.
+   *
+   * @param filenameScrapingRules the scraping rules
+   * @return the rule set
+   */
+  public FilenameScrapingRuleSet compileRules(
+      final List<FilenameScrapingRule> filenameScrapingRules) {
+    log.debug("Compiling filename scraping rules: count={}", filenameScrapingRules.size());
+    final List<CompiledFilenameScrapingRule> rules = new ArrayList<>();
+    for (FilenameScrapingRule rule : filenameScrapingRules) {
+      try {
+        rules.add(new CompiledFilenameScrapingRule(rule));
+      } catch (PatternSyntaxException error) {
+        log.error("Invalid filename scraping rule: name=" + rule.getName(), error);
       }
     }
-
-    return result;
+    return new FilenameScrapingRuleSet(rules);
   }
 }
@@ -0,0 +1,170 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.adaptors.comicbooks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.adaptors.comicbooks.model.RenamingRuleProgram;
+
+/**
+ * <code>RenamingRuleCompiler</code> parses renaming rules into {@link RenamingRuleProgram}s and
+ * caches them by rule. Forbidden characters in the rule are scrubbed once, when it is compiled.
+ *
+ * <p>A placeholder that supports padding may be followed by a width, such as <code>$ISSUE(3)
+ * </code>, in which case its value is left padded with zeroes.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class RenamingRuleCompiler {
+  static final int MAXIMUM_CACHED_RULES = 256;
+
+  private final List<String> placeholders;
+  private final Set<String> paddedPlaceholders;
+  private final String forbiddenCharacters;
+  private final Map<String, RenamingRuleProgram> programs = new ConcurrentHashMap<>();
+  private final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(StringBuilder::new);
+
+  /**
+   * Creates a compiler for a set of placeholders.
+   *
+   * @param placeholders the placeholders
+   * @param paddedPlaceholders the placeholders that support a padding width
+   * @param forbiddenCharacters the expression for characters to scrub from rules
+   */
+  public RenamingRuleCompiler(
+      final Collection<String> placeholders,
+      final Collection<String> paddedPlaceholders,
+      final String forbiddenCharacters) {
+    // match the longest placeholder first so that one can be the prefix of another
+    this.placeholders =
+        placeholders.stream().sorted(Comparator.comparingInt(String::length).reversed()).toList();
+    this.paddedPlaceholders = Set.copyOf(paddedPlaceholders);
+    this.forbiddenCharacters = forbiddenCharacters;
+  }
+
+  /**
+   * Returns the compiled program for a rule, compiling it if it is not already cached.
+   *
+   * @param rule the rule
+   * @return the program
+   */
+  public RenamingRuleProgram getProgram(final String rule) {
+    RenamingRuleProgram result = this.programs.get(rule);
+    if (result == null) {
+      if (this.programs.size() >= MAXIMUM_CACHED_RULES) {
+        log.debug("Clearing renaming rule cache");
+        this.programs.clear();
+      }
+      result = this.programs.computeIfAbsent(rule, this::doCompile);
+    }
+    return result;
+  }
+
+  /**
+   * Renders a rule.
+   *
+   * @param rule the rule
+   * @param values returns the value for a placeholder
+   * @return the rendered text
+   */
+  public String render(final String rule, final Function<String, String> values) {
+    final RenamingRuleProgram program = this.getProgram(rule);
+    final StringBuilder target = this.buffer.get();
+    target.setLength(0);
+    program.render(target, values);
+    return target.toString();
+  }
+
+  private RenamingRuleProgram doCompile(final String rule) {
+    log.trace("Compiling renaming rule: {}", rule);
+    final String scrubbed = rule.replaceAll(this.forbiddenCharacters, "_");
+    final List<String> literals = new ArrayList<>();
+    final List<String> placeholderList = new ArrayList<>();
+    final List<Integer> widths = new ArrayList<>();
+    final StringBuilder literal = new StringBuilder();
+    int position = 0;
+    while (position < scrubbed.length()) {
+      final String placeholder = this.doFindPlaceholder(scrubbed, position);
+      if (placeholder == null) {
+        literal.append(scrubbed.charAt(position));
+        position++;
+        continue;
+      }
+      if (literal.length() > 0) {
+        literals.add(literal.toString());
+        placeholderList.add(null);
+        widths.add(0);
+        literal.setLength(0);
+      }
+      position += placeholder.length();
+      int width = 0;
+      if (this.paddedPlaceholders.contains(placeholder)) {
+        final int end = this.doFindWidthEnd(scrubbed, position);
+        if (end > 0) {
+          width = Integer.parseInt(scrubbed.substring(position + 1, end));
+          position = end + 1;
+        }
+      }
+      literals.add(null);
+      placeholderList.add(placeholder);
+      widths.add(width);
+    }
+    if (literal.length() > 0) {
+      literals.add(literal.toString());
+      placeholderList.add(null);
+      widths.add(0);
+    }
+    return new RenamingRuleProgram(literals, placeholderList, widths);
+  }
+
+  private String doFindPlaceholder(final String rule, final int position) {
+    if (rule.charAt(position) != '$') {
+      return null;
+    }
+    for (int index = 0; index < this.placeholders.size(); index++) {
+      final String placeholder = this.placeholders.get(index);
+      if (rule.startsWith(placeholder, position)) {
+        return placeholder;
+      }
+    }
+    return null;
+  }
+
+  private int doFindWidthEnd(final String rule, final int position) {
+    if (position >= rule.length() || rule.charAt(position) != '(') {
+      return -1;
+    }
+    int index = position + 1;
+    while (index < rule.length() && Character.isDigit(rule.charAt(index))) {
+      index++;
+    }
+    if (index == position + 1 || index >= rule.length() || rule.charAt(index) != ')') {
+      return -1;
+    }
+    return index;
+  }
+}
@@ -0,0 +1,225 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.adaptors.comicbooks.model;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang.StringUtils;
+import org.comixedproject.model.metadata.FilenameMetadata;
+import org.comixedproject.model.metadata.FilenameScrapingRule;
+
+/**
+ * <code>CompiledFilenameScrapingRule</code> is an immutable, precompiled form of a {@link
+ * FilenameScrapingRule}. The expression and the date format are compiled once, and a filename is
+ * matched only once when the rule is applied, so instances can be shared freely between threads.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class CompiledFilenameScrapingRule {
+  private static final Map<Character, ChronoField> NUMERIC_FIELDS =
+      Map.of(
+          'M', ChronoField.MONTH_OF_YEAR,
+          'L', ChronoField.MONTH_OF_YEAR,
+          'd', ChronoField.DAY_OF_MONTH,
+          'H', ChronoField.HOUR_OF_DAY,
+          'k', ChronoField.CLOCK_HOUR_OF_DAY,
+          'K', ChronoField.HOUR_OF_AMPM,
+          'h', ChronoField.CLOCK_HOUR_OF_AMPM,
+          'm', ChronoField.MINUTE_OF_HOUR,
+          's', ChronoField.SECOND_OF_MINUTE);
+
+  @Getter private final int priority;
+  private final Pattern expression;
+  private final Integer seriesPosition;
+  private final Integer volumePosition;
+  private final Integer issueNumberPosition;
+  private final Integer coverDatePosition;
+  private final String dateFormat;
+  private final DateTimeFormatter dateFormatter;
+
+  /**
+   * Compiles the given rule.
+   *
+   * @param rule the rule
+   * @throws java.util.regex.PatternSyntaxException if the rule's expression is invalid
+   */
+  public CompiledFilenameScrapingRule(final FilenameScrapingRule rule) {
+    this.priority = Objects.isNull(rule.getPriority()) ? 0 : rule.getPriority();
+    this.expression = Pattern.compile(rule.getRule());
+    this.seriesPosition = rule.getSeriesPosition();
+    this.volumePosition = rule.getVolumePosition();
+    this.issueNumberPosition = rule.getIssueNumberPosition();
+    this.coverDatePosition = rule.getCoverDatePosition();
+    if (Objects.nonNull(this.coverDatePosition) && !StringUtils.isEmpty(rule.getDateFormat())) {
+      this.dateFormat = rule.getDateFormat();
+      this.dateFormatter = this.doCreateDateFormatter(this.dateFormat);
+    } else {
+      this.dateFormat = null;
+      this.dateFormatter = null;
+    }
+  }
+
+  /**
+   * Applies the rule to a filename.
+   *
+   * @param filename the filename
+   * @return the metadata, or null if the rule does not apply
+   */
+  public FilenameMetadata apply(final String filename) {
+    final Matcher matcher = this.expression.matcher(filename);
+    if (!matcher.matches()) {
+      return null;
+    }
+    log.trace("Rule applies: {}", this.expression);
+    return new FilenameMetadata(
+        true,
+        this.doGetElement(matcher, this.seriesPosition),
+        this.doGetElement(matcher, this.volumePosition),
+        this.doGetElement(matcher, this.issueNumberPosition),
+        this.doParseCoverDate(this.doGetElement(matcher, this.coverDatePosition)));
+  }
+
+  private String doGetElement(final Matcher matcher, final Integer position) {
+    if (Objects.isNull(position) || position < 0 || position > matcher.groupCount()) {
+      return null;
+    }
+    return matcher.group(position);
+  }
+
+  private Date doParseCoverDate(final String text) {
+    if (Objects.isNull(this.dateFormat) || Objects.isNull(text)) {
+      return null;
+    }
+    try {
+      if (Objects.nonNull(this.dateFormatter)) {
+        final LocalDate coverDate = LocalDate.from(this.dateFormatter.parse(text));
+        return Date.from(coverDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+      }
+      return new SimpleDateFormat(this.dateFormat).parse(text);
+    } catch (DateTimeParseException | ParseException error) {
+      log.error("Failed to parse cover date", error);
+      return null;
+    }
+  }
+
+  private DateTimeFormatter doCreateDateFormatter(final String format) {
+    try {
+      final DateTimeFormatterBuilder builder =
+          new DateTimeFormatterBuilder().parseCaseInsensitive();
+      this.doAppendDateFormat(builder, format);
+      return builder
+          .parseDefaulting(ChronoField.MONTH_OF_YEAR, 1)
+          .parseDefaulting(ChronoField.DAY_OF_MONTH, 1)
+          .toFormatter(Locale.getDefault());
+    } catch (IllegalArgumentException error) {
+      log.debug("Date format not supported by formatter, using legacy parser: {}", format);
+      return null;
+    }
+  }
+
+  /**
+   * Appends a {@link SimpleDateFormat} pattern to the builder so that it parses the same text as
+   * the legacy formatter:
+   *
+   * <ul>
+   *   <li>four or more text letters are the full text form, where the new formatter uses five
+   *       letters for the narrow form,
+   *   <li>one or two year letters are a two digit year relative to the century starting 80 years
+   *       ago, unless more digits are given,
+   *   <li>one or two numeric letters accept one or two digits, unless directly followed by another
+   *       field.
+   * </ul>
+   *
+   * Patterns using letters with a different meaning are rejected so that the legacy parser is used
+   * instead.
+   */
+  private void doAppendDateFormat(final DateTimeFormatterBuilder builder, final String format) {
+    final StringBuilder pattern = new StringBuilder();
+    boolean quoted = false;
+    int index = 0;
+    while (index < format.length()) {
+      final char letter = format.charAt(index);
+      if (letter == '\'') {
+        quoted = !quoted;
+        pattern.append(letter);
+        index++;
+        continue;
+      }
+      if (quoted || !Character.isLetter(letter)) {
+        pattern.append(letter);
+        index++;
+        continue;
+      }
+      int count = 1;
+      while (index + count < format.length() && format.charAt(index + count) == letter) {
+        count++;
+      }
+      final boolean adjacent =
+          index + count < format.length() && Character.isLetter(format.charAt(index + count));
+      if (letter == 'y' && count <= 2) {
+        this.doFlushPattern(builder, pattern);
+        builder.appendValueReduced(
+            ChronoField.YEAR, 2, adjacent ? 2 : 4, LocalDate.now().minusYears(80));
+      } else if (NUMERIC_FIELDS.containsKey(letter) && count <= 2 && !adjacent) {
+        this.doFlushPattern(builder, pattern);
+        builder.appendValue(NUMERIC_FIELDS.get(letter), 1, 2, SignStyle.NOT_NEGATIVE);
+      } else {
+        switch (letter) {
+          case 'M', 'L', 'E' -> pattern.append(String.valueOf(letter).repeat(Math.min(count, 4)));
+          case 'u',
+              'Y',
+              'F',
+              'S',
+              'W',
+              'w',
+              'D',
+              'z',
+              'Z',
+              'X' -> throw new IllegalArgumentException("Unsupported pattern letter: " + letter);
+          default -> pattern.append(String.valueOf(letter).repeat(count));
+        }
+      }
+      index += count;
+    }
+    this.doFlushPattern(builder, pattern);
+  }
+
+  private void doFlushPattern(final DateTimeFormatterBuilder builder, final StringBuilder pattern) {
+    if (pattern.length() > 0) {
+      builder.appendPattern(pattern.toString());
+      pattern.setLength(0);
+    }
+  }
+}
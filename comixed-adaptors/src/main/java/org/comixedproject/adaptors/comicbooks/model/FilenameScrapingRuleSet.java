@@ -0,0 +1,79 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.adaptors.comicbooks.model;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.metadata.FilenameMetadata;
+
+/**
+ * <code>FilenameScrapingRuleSet</code> is an immutable, ordered set of compiled filename scraping
+ * rules. The first rule, by priority, that applies to a filename provides its metadata.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class FilenameScrapingRuleSet {
+  private final List<CompiledFilenameScrapingRule> rules;
+
+  public FilenameScrapingRuleSet(final List<CompiledFilenameScrapingRule> rules) {
+    this.rules =
+        rules.stream()
+            .sorted(Comparator.comparingInt(CompiledFilenameScrapingRule::getPriority))
+            .toList();
+  }
+
+  /**
+   * Returns the number of rules in the set.
+   *
+   * @return the rule count
+   */
+  public int size() {
+    return this.rules.size();
+  }
+
+  /**
+   * Scrapes metadata from a filename.
+   *
+   * @param filename the filename
+   * @return the metadata
+   */
+  public FilenameMetadata apply(final String filename) {
+    for (int index = 0; index < this.rules.size(); index++) {
+      final FilenameMetadata result = this.rules.get(index).apply(filename);
+      if (Objects.nonNull(result)) {
+        return result;
+      }
+    }
+    log.trace("No applicable rule found: {}", filename);
+    return new FilenameMetadata();
+  }
+
+  /**
+   * Scrapes metadata from a list of filenames.
+   *
+   * @param filenames the filenames
+   * @return the metadata, in the same order as the filenames
+   */
+  public List<FilenameMetadata> applyAll(final List<String> filenames) {
+    return filenames.stream().map(this::apply).toList();
+  }
+}
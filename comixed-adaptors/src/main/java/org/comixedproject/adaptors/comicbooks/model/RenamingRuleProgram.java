@@ -0,0 +1,73 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.adaptors.comicbooks.model;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * <code>RenamingRuleProgram</code> is an immutable, compiled renaming rule. It is a sequence of
+ * literal segments and placeholders, each placeholder having an optional padding width, which is
+ * rendered without any further parsing of the rule.
+ *
+ * @author Darryl L. Pierce
+ */
+public class RenamingRuleProgram {
+  private final String[] literals;
+  private final String[] placeholders;
+  private final int[] widths;
+
+  /**
+   * Creates a program from parsed segments. For each segment either the literal or the placeholder
+   * is set.
+   *
+   * @param literals the literal segments
+   * @param placeholders the placeholder segments
+   * @param widths the padding widths
+   */
+  public RenamingRuleProgram(
+      final List<String> literals, final List<String> placeholders, final List<Integer> widths) {
+    this.literals = literals.toArray(new String[0]);
+    this.placeholders = placeholders.toArray(new String[0]);
+    this.widths = widths.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Renders the program into the given buffer.
+   *
+   * @param target the buffer
+   * @param values returns the value for a placeholder
+   */
+  public void render(final StringBuilder target, final Function<String, String> values) {
+    for (int index = 0; index < this.literals.length; index++) {
+      if (Objects.nonNull(this.literals[index])) {
+        target.append(this.literals[index]);
+      } else {
+        final String value = values.apply(this.placeholders[index]);
+        if (this.widths[index] > 0) {
+          target.append(StringUtils.leftPad(value, this.widths[index], '0'));
+        } else {
+          target.append(value);
+        }
+      }
+    }
+  }
+}
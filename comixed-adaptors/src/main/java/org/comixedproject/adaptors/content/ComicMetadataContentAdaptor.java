@@ -93,6 +93,7 @@ public class ComicMetadataContentAdaptor extends AbstractContentAdaptor
         comicBook.setMetadataSourceName(comicInfo.getMetadata().getName());
         comicBook.setMetadataReferenceId(comicInfo.getMetadata().getReferenceId());
       }
+      comicBook.setMetadataWebAddress(comicInfo.getWeb());
       final ComicDetail detail = comicBook.getComicDetail();
       log.debug("Clearing comic tags");
       detail.getTags().clear();
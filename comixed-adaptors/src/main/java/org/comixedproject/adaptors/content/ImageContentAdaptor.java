@@ -26,6 +26,7 @@ import lombok.extern.log4j.Log4j2;
 import org.comixedproject.adaptors.GenericUtilitiesAdaptor;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.model.comicpages.Page;
+import org.comixedproject.model.comicpages.PageHash;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -38,6 +39,7 @@ import org.springframework.stereotype.Component;
 @Log4j2
 public class ImageContentAdaptor extends AbstractContentAdaptor {
   @Autowired private GenericUtilitiesAdaptor genericUtilitiesAdaptor;
+  @Autowired private PerceptualHashAdaptor perceptualHashAdaptor;
 
   @Override
   public void loadContent(
@@ -47,10 +49,21 @@ public class ImageContentAdaptor extends AbstractContentAdaptor {
       final ContentAdaptorRules rules) {
     log.trace("Loading image into comicBook");
     // if the comicBook already has this offset then update the offset's content
-    if (comicBook.hasPageWithFilename(filename)) {
-      log.trace("Ignore known file: {}", filename);
+    final Page existing = comicBook.getPageWithFilename(filename);
+    if (existing != null) {
+      if (existing.getPerceptualHash() == null) {
+        log.trace("Adding perceptual hash to known file: {}", filename);
+        try {
+          final BufferedImage bimage = ImageIO.read(new ByteArrayInputStream(content));
+          if (bimage != null) existing.setPerceptualHash(perceptualHashAdaptor.createHash(bimage));
+        } catch (IOException error) {
+          log.error("Failed to load content: {}", filename, error);
+        }
+      } else {
+        log.trace("Ignore known file: {}", filename);
+      }
     } else {
-      final String hash = genericUtilitiesAdaptor.createHash(content);
+      final PageHash hash = genericUtilitiesAdaptor.createPageHash(content);
 
       try {
         final BufferedImage bimage = ImageIO.read(new ByteArrayInputStream(content));
@@ -58,9 +71,10 @@ public class ImageContentAdaptor extends AbstractContentAdaptor {
         final int height = bimage.getHeight();
         var page = new Page();
         page.setFilename(filename);
-        page.setHash(hash);
+        page.setPageHash(hash);
         page.setWidth(width);
         page.setHeight(height);
+        page.setPerceptualHash(perceptualHashAdaptor.createHash(bimage));
         page.setComicBook(comicBook);
         comicBook.getPages().add(page);
         page.setPageNumber(comicBook.getPages().size());
@@ -0,0 +1,93 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.adaptors.content;
+
+import java.awt.image.BufferedImage;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>PerceptualHashAdaptor</code> creates a 64-bit difference hash (dHash) for an image. The
+ * image is reduced to a 9x8 grid of average brightness and each bit records whether a pixel is
+ * brighter than its right-hand neighbor, so re-encoded or slightly altered copies of a page produce
+ * hashes that differ by only a few bits.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class PerceptualHashAdaptor {
+  static final int HASH_WIDTH = 9;
+  static final int HASH_HEIGHT = 8;
+
+  /**
+   * Returns the number of bits that differ between two perceptual hashes.
+   *
+   * @param first the first hash
+   * @param second the second hash
+   * @return the Hamming distance
+   */
+  public static int distance(final long first, final long second) {
+    return Long.bitCount(first ^ second);
+  }
+
+  /**
+   * Creates the perceptual hash for an image. The image is reduced by averaging the brightness of
+   * every pixel in each cell of the grid, which keeps the hash stable when the page is rescaled.
+   *
+   * @param image the image
+   * @return the hash
+   */
+  public long createHash(final BufferedImage image) {
+    final int width = image.getWidth();
+    final int height = image.getHeight();
+    final long[] totals = new long[HASH_WIDTH * HASH_HEIGHT];
+    final long[] counts = new long[HASH_WIDTH * HASH_HEIGHT];
+    final int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      image.getRGB(0, y, width, 1, row, 0, width);
+      final int cellRow = (int) ((long) y * HASH_HEIGHT / height) * HASH_WIDTH;
+      for (int x = 0; x < width; x++) {
+        final int cell = cellRow + (int) ((long) x * HASH_WIDTH / width);
+        totals[cell] += this.getLuminance(row[x]);
+        counts[cell]++;
+      }
+    }
+    final double[] cells = new double[totals.length];
+    for (int index = 0; index < cells.length; index++) {
+      cells[index] = counts[index] == 0 ? 0.0 : (double) totals[index] / counts[index];
+    }
+    long result = 0L;
+    for (int y = 0; y < HASH_HEIGHT; y++) {
+      for (int x = 0; x < HASH_WIDTH - 1; x++) {
+        result <<= 1;
+        if (cells[y * HASH_WIDTH + x] > cells[y * HASH_WIDTH + x + 1]) result |= 1L;
+      }
+    }
+    log.trace("Created perceptual hash: {}", Long.toHexString(result));
+    return result;
+  }
+
+  private int getLuminance(final int rgb) {
+    final int red = (rgb >> 16) & 0xFF;
+    final int green = (rgb >> 8) & 0xFF;
+    final int blue = rgb & 0xFF;
+    return (299 * red + 587 * green + 114 * blue) / 1000;
+  }
+}
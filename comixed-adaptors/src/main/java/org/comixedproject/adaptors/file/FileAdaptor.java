@@ -20,11 +20,20 @@ package org.comixedproject.adaptors.file;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.io.FileExistsException;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOCase;
 import org.apache.commons.lang.SystemUtils;
+import org.comixedproject.adaptors.archive.ArchiveReadHandlePool;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
@@ -36,6 +45,8 @@ import org.springframework.stereotype.Component;
 @Component
 @Log4j2
 public class FileAdaptor {
+  @Autowired private ArchiveReadHandlePool archiveReadHandlePool;
+
   /**
    * Deletes an disk file file.
    *
@@ -43,6 +54,7 @@ public class FileAdaptor {
    */
   public void deleteFile(final File file) {
     log.trace("Deleting file: {}", file);
+    this.archiveReadHandlePool.invalidate(file);
     try {
       FileUtils.forceDelete(file);
     } catch (IOException error) {
@@ -86,7 +98,9 @@ public class FileAdaptor {
   }
 
   /**
-   * Copies a file from one location to another.
+   * Moves a file from one location to another. Uses an atomic rename when both locations are on the
+   * same file system, and otherwise copies the content with a channel transfer before deleting the
+   * source.
    *
    * @param source the source file
    * @param destination the destination file
@@ -94,7 +108,38 @@ public class FileAdaptor {
    */
   public void moveFile(final File source, final File destination) throws IOException {
     log.trace("Moving file: {} => {}", source.getAbsoluteFile(), destination.getAbsoluteFile());
-    FileUtils.moveFile(source, destination);
+    this.archiveReadHandlePool.invalidate(source);
+    this.archiveReadHandlePool.invalidate(destination);
+    if (destination.exists()) {
+      throw new FileExistsException("Destination already exists: " + destination);
+    }
+    final Path sourcePath = source.toPath();
+    final Path destinationPath = destination.getAbsoluteFile().toPath();
+    if (destinationPath.getParent() != null) {
+      Files.createDirectories(destinationPath.getParent());
+    }
+    try {
+      Files.move(sourcePath, destinationPath, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException error) {
+      log.trace("Atomic move not supported, copying file across file systems");
+      this.doTransferFile(sourcePath, destinationPath);
+      Files.delete(sourcePath);
+    }
+  }
+
+  private void doTransferFile(final Path source, final Path destination) throws IOException {
+    try (FileChannel input = FileChannel.open(source, StandardOpenOption.READ);
+        FileChannel output =
+            FileChannel.open(
+                destination, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+      final long size = input.size();
+      long position = 0L;
+      while (position < size) {
+        position += input.transferTo(position, size - position, output);
+      }
+      output.force(true);
+    }
+    Files.setLastModifiedTime(destination, Files.getLastModifiedTime(source));
   }
 
   /**
@@ -18,10 +18,14 @@
 
 package org.comixedproject.adaptors.file;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import lombok.*;
 import lombok.extern.log4j.Log4j2;
 import org.apache.tika.Tika;
@@ -37,6 +41,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Component;
 
@@ -51,9 +56,14 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties(prefix = "file-type")
 @Log4j2
 public class FileTypeAdaptor {
+  static final String DETECTION_METRIC = "comixed.file-type.detection";
+
   @Autowired private ApplicationContext applicationContext;
-  @Autowired private Tika tika;
-  @Autowired private Metadata metadata;
+  @Autowired @Lazy private Tika tika;
+  @Autowired @Lazy private Metadata metadata;
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry = Metrics.globalRegistry;
 
   @Getter private List<ArchiveAdaptorDefinition> archiveAdaptors = new ArrayList<>();
   @Getter private List<EntryTypeDefinition> entryTypeLoaders = new ArrayList<>();
@@ -165,9 +175,15 @@ public class FileTypeAdaptor {
     log.trace("Attempting to detect mime type for stream");
     MediaType result = null;
 
+    final long started = System.nanoTime();
     input.mark(Integer.MAX_VALUE);
     result = this.tika.getDetector().detect(input, this.metadata);
     input.reset();
+    Timer.builder(DETECTION_METRIC)
+        .description("Time spent detecting the type of files and entries")
+        .tag("type", result != null ? result.getType() : "unknown")
+        .register(this.meterRegistry)
+        .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
 
     log.trace("result={}", result);
 
@@ -0,0 +1,105 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.adaptors;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.comixedproject.model.comicpages.PageHash;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GenericUtilitiesAdaptorTest {
+  private static final byte[] TEST_CONTENT = "The quick brown fox".getBytes(StandardCharsets.UTF_8);
+  private static final String TEST_CONTENT_HASH = "A2004F37730B9445670A738FA0FC9EE5";
+  private static final String TEST_EMPTY_HASH = "D41D8CD98F00B204E9800998ECF8427E";
+  private static final String TEST_LEADING_ZERO_HASH = "000000000000000000000000000000FF";
+
+  @InjectMocks private GenericUtilitiesAdaptor adaptor;
+
+  @Test
+  public void testCreateHash() {
+    assertEquals(TEST_CONTENT_HASH, adaptor.createHash(TEST_CONTENT));
+  }
+
+  @Test
+  public void testCreateHashEmptyContent() {
+    assertEquals(TEST_EMPTY_HASH, adaptor.createHash(new byte[0]));
+  }
+
+  @Test
+  public void testCreateHashFromStream() throws IOException {
+    assertEquals(TEST_CONTENT_HASH, adaptor.createHash(new ByteArrayInputStream(TEST_CONTENT)));
+  }
+
+  @Test
+  public void testCreatePageHash() throws IOException {
+    final PageHash result = adaptor.createPageHash(TEST_CONTENT);
+
+    assertEquals(PageHash.fromHex(TEST_CONTENT_HASH), result);
+    assertEquals(result, adaptor.createPageHash(new ByteArrayInputStream(TEST_CONTENT)));
+  }
+
+  @Test
+  public void testPageHashPadsLeadingZeroes() {
+    final PageHash result = PageHash.fromHex("FF");
+
+    assertEquals(TEST_LEADING_ZERO_HASH, result.toString());
+    assertEquals(result, PageHash.fromHex(TEST_LEADING_ZERO_HASH));
+  }
+
+  @Test
+  public void testPageHashBytesRoundTrip() {
+    final PageHash hash = PageHash.fromHex(TEST_CONTENT_HASH);
+
+    final byte[] bytes = hash.toBytes();
+
+    assertEquals(PageHash.BYTE_LENGTH, bytes.length);
+    assertEquals(hash, PageHash.fromBytes(bytes));
+    assertArrayEquals(bytes, PageHash.fromBytes(bytes).toBytes());
+  }
+
+  @Test
+  public void testPageHashIgnoresCase() {
+    assertEquals(
+        PageHash.fromHex(TEST_CONTENT_HASH), PageHash.fromHex(TEST_CONTENT_HASH.toLowerCase()));
+  }
+
+  @Test
+  public void testPageHashComparesUnsigned() {
+    assertTrue(PageHash.fromHex("F" + "0".repeat(31)).compareTo(PageHash.fromHex("1")) > 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPageHashInvalidDigit() {
+    PageHash.fromHex("XYZ");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPageHashInvalidLength() {
+    PageHash.fromBytes(new byte[8]);
+  }
+}
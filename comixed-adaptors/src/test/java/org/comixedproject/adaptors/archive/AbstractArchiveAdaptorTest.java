@@ -0,0 +1,152 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.adaptors.archive;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertSame;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.comixedproject.adaptors.archive.model.ArchiveReadHandle;
+import org.comixedproject.adaptors.archive.model.ArchiveWriteHandle;
+import org.comixedproject.adaptors.archive.model.ComicArchiveEntry;
+import org.comixedproject.model.archives.ArchiveType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AbstractArchiveAdaptorTest {
+  private static final String TEST_ARCHIVE_FILENAME = "comicbook.cbz";
+  private static final String TEST_ENTRY_FILENAME = "page-001.jpg";
+  private static final byte[] TEST_ENTRY_CONTENT = "The entry content".getBytes();
+
+  @Mock private ArchiveReadHandle readHandle;
+  @Mock private ArchiveWriteHandle writeHandle;
+
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private TestArchiveAdaptor adaptor;
+
+  @Before
+  public void setUp() {
+    adaptor = new TestArchiveAdaptor(readHandle, writeHandle);
+    ReflectionTestUtils.setField(adaptor, "meterRegistry", meterRegistry);
+  }
+
+  @Test(expected = ArchiveAdaptorException.class)
+  public void testReadEntryFailureIsTimed() throws ArchiveAdaptorException {
+    try {
+      adaptor.readEntry(readHandle, "missing.jpg");
+    } finally {
+      assertEquals(1L, this.getOperationCount("read-entry"));
+      assertNull(meterRegistry.find(AbstractArchiveAdaptor.ARCHIVE_BYTES_METRIC).summary());
+    }
+  }
+
+  @Test
+  public void testReadOperations() throws ArchiveAdaptorException {
+    assertSame(readHandle, adaptor.openArchiveForRead(TEST_ARCHIVE_FILENAME));
+    adaptor.getEntries(readHandle);
+    assertSame(TEST_ENTRY_CONTENT, adaptor.readEntry(readHandle, TEST_ENTRY_FILENAME));
+
+    assertEquals(1L, this.getOperationCount("open-read"));
+    assertEquals(1L, this.getOperationCount("list-entries"));
+    assertEquals(1L, this.getOperationCount("read-entry"));
+    assertEquals((double) TEST_ENTRY_CONTENT.length, this.getBytesTotal("read"));
+  }
+
+  @Test
+  public void testWriteOperations() throws ArchiveAdaptorException {
+    assertSame(writeHandle, adaptor.openArchiveForWrite(TEST_ARCHIVE_FILENAME));
+    adaptor.writeEntry(writeHandle, TEST_ENTRY_FILENAME, TEST_ENTRY_CONTENT);
+    adaptor.writeEntry(writeHandle, TEST_ENTRY_FILENAME, TEST_ENTRY_CONTENT);
+    adaptor.closeArchiveForWrite(writeHandle);
+
+    assertEquals(1L, this.getOperationCount("open-write"));
+    assertEquals(2L, this.getOperationCount("write-entry"));
+    assertEquals(1L, this.getOperationCount("close-write"));
+    assertEquals(2.0 * TEST_ENTRY_CONTENT.length, this.getBytesTotal("write"));
+  }
+
+  private long getOperationCount(final String operation) {
+    return meterRegistry
+        .get(AbstractArchiveAdaptor.ARCHIVE_OPERATION_METRIC)
+        .tag("type", ArchiveType.CBZ.name())
+        .tag("operation", operation)
+        .timer()
+        .count();
+  }
+
+  private double getBytesTotal(final String direction) {
+    return meterRegistry
+        .get(AbstractArchiveAdaptor.ARCHIVE_BYTES_METRIC)
+        .tag("type", ArchiveType.CBZ.name())
+        .tag("direction", direction)
+        .summary()
+        .totalAmount();
+  }
+
+  private static class TestArchiveAdaptor
+      extends AbstractArchiveAdaptor<ArchiveReadHandle, ArchiveWriteHandle> {
+    private final ArchiveReadHandle readHandle;
+    private final ArchiveWriteHandle writeHandle;
+
+    TestArchiveAdaptor(final ArchiveReadHandle readHandle, final ArchiveWriteHandle writeHandle) {
+      super(ArchiveType.CBZ);
+      this.readHandle = readHandle;
+      this.writeHandle = writeHandle;
+    }
+
+    @Override
+    protected ArchiveReadHandle doOpenArchiveForRead(final String filename) {
+      return this.readHandle;
+    }
+
+    @Override
+    protected void doCloseArchiveForRead(final ArchiveReadHandle archiveHandle) {}
+
+    @Override
+    protected List<ComicArchiveEntry> doGetEntries(final ArchiveReadHandle archiveHandle) {
+      return List.of();
+    }
+
+    @Override
+    protected byte[] doGetEntry(final ArchiveReadHandle archiveHandle, final String filename)
+        throws Exception {
+      if (!TEST_ENTRY_FILENAME.equals(filename)) throw new Exception("No such entry");
+      return TEST_ENTRY_CONTENT;
+    }
+
+    @Override
+    protected ArchiveWriteHandle doOpenArchiveForWrite(final String filename) {
+      return this.writeHandle;
+    }
+
+    @Override
+    protected void doWriteEntry(
+        final ArchiveWriteHandle archiveHandle, final String filename, final byte[] content) {}
+
+    @Override
+    protected void doCloseArchiveForWrite(final ArchiveWriteHandle archiveHandle) {}
+  }
+}
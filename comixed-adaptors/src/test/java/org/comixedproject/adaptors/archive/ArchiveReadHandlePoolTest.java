@@ -0,0 +1,183 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.adaptors.archive;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import org.comixedproject.adaptors.AdaptorException;
+import org.comixedproject.adaptors.archive.model.ArchiveReadHandle;
+import org.comixedproject.adaptors.file.FileTypeAdaptor;
+import org.comixedproject.model.archives.ArchiveType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ArchiveReadHandlePoolTest {
+  private static final File TEST_ARCHIVE_FILE = new File("target/test-classes/pooled-archive.cbz");
+  private static final String TEST_ARCHIVE_FILENAME = TEST_ARCHIVE_FILE.getAbsolutePath();
+  private static final String TEST_ENTRY_FILENAME = "page-001.jpg";
+  private static final byte[] TEST_ENTRY_CONTENT = "The entry content".getBytes();
+
+  @InjectMocks private ArchiveReadHandlePool pool;
+  @Mock private FileTypeAdaptor fileTypeAdaptor;
+  @Mock private ArchiveAdaptor archiveAdaptor;
+  @Mock private ArchiveReadHandle readHandle;
+
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Before
+  public void setUp() throws IOException, AdaptorException, ArchiveAdaptorException {
+    try (FileWriter output = new FileWriter(TEST_ARCHIVE_FILE)) {
+      output.write("Here is some content");
+    }
+
+    ReflectionTestUtils.setField(pool, "meterRegistry", meterRegistry);
+    pool.afterPropertiesSet();
+
+    Mockito.when(fileTypeAdaptor.getArchiveAdaptorFor(Mockito.anyString()))
+        .thenReturn(archiveAdaptor);
+    Mockito.when(archiveAdaptor.getArchiveType()).thenReturn(ArchiveType.CBZ);
+    Mockito.when(archiveAdaptor.openArchiveForRead(Mockito.anyString())).thenReturn(readHandle);
+    Mockito.when(
+            archiveAdaptor.readEntry(Mockito.any(ArchiveReadHandle.class), Mockito.anyString()))
+        .thenReturn(TEST_ENTRY_CONTENT);
+  }
+
+  @After
+  public void tearDown() {
+    pool.destroy();
+    TEST_ARCHIVE_FILE.delete();
+  }
+
+  @Test(expected = AdaptorException.class)
+  public void testReadEntryOpenFails() throws AdaptorException, ArchiveAdaptorException {
+    Mockito.when(archiveAdaptor.openArchiveForRead(Mockito.anyString()))
+        .thenThrow(ArchiveAdaptorException.class);
+
+    try {
+      pool.readEntry(TEST_ARCHIVE_FILENAME, TEST_ENTRY_FILENAME);
+    } finally {
+      assertTrue(pool.pool.isEmpty());
+    }
+  }
+
+  @Test(expected = AdaptorException.class)
+  public void testReadEntryReadFails() throws AdaptorException, ArchiveAdaptorException {
+    Mockito.when(
+            archiveAdaptor.readEntry(Mockito.any(ArchiveReadHandle.class), Mockito.anyString()))
+        .thenThrow(ArchiveAdaptorException.class);
+
+    try {
+      pool.readEntry(TEST_ARCHIVE_FILENAME, TEST_ENTRY_FILENAME);
+    } finally {
+      assertTrue(pool.pool.isEmpty());
+      Mockito.verify(archiveAdaptor, Mockito.times(1)).closeArchiveForRead(readHandle);
+    }
+  }
+
+  @Test
+  public void testReadEntryReusesOpenHandle() throws AdaptorException, ArchiveAdaptorException {
+    for (int index = 0; index < 5; index++) {
+      final byte[] result = pool.readEntry(TEST_ARCHIVE_FILENAME, TEST_ENTRY_FILENAME);
+      assertSame(TEST_ENTRY_CONTENT, result);
+    }
+
+    assertEquals(1, pool.pool.size());
+    assertEquals(
+        4.0,
+        meterRegistry
+            .get(ArchiveReadHandlePool.POOL_REQUESTS_METRIC)
+            .tag("result", "hit")
+            .counter()
+            .count());
+    assertEquals(1L, meterRegistry.get(ArchiveReadHandlePool.POOL_OPEN_METRIC).timer().count());
+
+    Mockito.verify(fileTypeAdaptor, Mockito.times(1)).getArchiveAdaptorFor(TEST_ARCHIVE_FILENAME);
+    Mockito.verify(archiveAdaptor, Mockito.times(1)).openArchiveForRead(TEST_ARCHIVE_FILENAME);
+    Mockito.verify(archiveAdaptor, Mockito.times(5)).readEntry(readHandle, TEST_ENTRY_FILENAME);
+    Mockito.verify(archiveAdaptor, Mockito.never()).closeArchiveForRead(readHandle);
+  }
+
+  @Test
+  public void testReadEntryReopensChangedFile() throws AdaptorException, ArchiveAdaptorException {
+    pool.readEntry(TEST_ARCHIVE_FILENAME, TEST_ENTRY_FILENAME);
+    TEST_ARCHIVE_FILE.setLastModified(TEST_ARCHIVE_FILE.lastModified() - 10000L);
+    pool.readEntry(TEST_ARCHIVE_FILENAME, TEST_ENTRY_FILENAME);
+
+    assertEquals(1, pool.pool.size());
+
+    Mockito.verify(archiveAdaptor, Mockito.times(2)).openArchiveForRead(TEST_ARCHIVE_FILENAME);
+    Mockito.verify(archiveAdaptor, Mockito.times(1)).closeArchiveForRead(readHandle);
+  }
+
+  @Test
+  public void testReadEntryEvictsLeastRecentlyUsed()
+      throws AdaptorException, ArchiveAdaptorException, IOException {
+    ReflectionTestUtils.setField(pool, "maxSize", 1);
+    final File otherFile = new File("target/test-classes/other-pooled-archive.cbz");
+    try (FileWriter output = new FileWriter(otherFile)) {
+      output.write("Here is some other content");
+    }
+
+    pool.readEntry(TEST_ARCHIVE_FILENAME, TEST_ENTRY_FILENAME);
+    pool.readEntry(otherFile.getAbsolutePath(), TEST_ENTRY_FILENAME);
+    otherFile.delete();
+
+    assertEquals(1, pool.pool.size());
+    assertTrue(pool.pool.containsKey(otherFile.getAbsolutePath()));
+
+    Mockito.verify(archiveAdaptor, Mockito.times(1)).closeArchiveForRead(readHandle);
+  }
+
+  @Test
+  public void testInvalidate() throws AdaptorException, ArchiveAdaptorException {
+    pool.readEntry(TEST_ARCHIVE_FILENAME, TEST_ENTRY_FILENAME);
+
+    pool.invalidate(TEST_ARCHIVE_FILE);
+
+    assertTrue(pool.pool.isEmpty());
+
+    Mockito.verify(archiveAdaptor, Mockito.times(1)).closeArchiveForRead(readHandle);
+  }
+
+  @Test
+  public void testEvictIdleHandles() throws AdaptorException, ArchiveAdaptorException {
+    ReflectionTestUtils.setField(pool, "idleTimeout", -1L);
+    pool.readEntry(TEST_ARCHIVE_FILENAME, TEST_ENTRY_FILENAME);
+
+    pool.evictIdleHandles();
+
+    assertTrue(pool.pool.isEmpty());
+
+    Mockito.verify(archiveAdaptor, Mockito.times(1)).closeArchiveForRead(readHandle);
+  }
+}
@@ -27,6 +27,7 @@ import java.util.List;
 import org.comixedproject.adaptors.AdaptorException;
 import org.comixedproject.adaptors.archive.ArchiveAdaptor;
 import org.comixedproject.adaptors.archive.ArchiveAdaptorException;
+import org.comixedproject.adaptors.archive.ArchiveReadHandlePool;
 import org.comixedproject.adaptors.archive.model.ArchiveEntryType;
 import org.comixedproject.adaptors.archive.model.ArchiveReadHandle;
 import org.comixedproject.adaptors.archive.model.ArchiveWriteHandle;
@@ -83,6 +84,7 @@ public class ComicBookAdaptorTest {
   @Mock private ComicPageAdaptor comicPageAdaptor;
   @Mock private ComicMetadataContentAdaptor comicMetadataContentAdaptor;
   @Mock private FileAdaptor fileAdaptor;
+  @Mock private ArchiveReadHandlePool archiveReadHandlePool;
   @Mock private ContentAdaptorRules contentAdaptorRules;
 
   @Captor private ArgumentCaptor<File> moveSourceFile;
@@ -468,43 +470,31 @@ public class ComicBookAdaptorTest {
   }
 
   @Test(expected = AdaptorException.class)
-  public void testLoadPageExceptionOnGetArchiveAdaptor() throws AdaptorException {
-    Mockito.when(fileTypeAdaptor.getArchiveAdaptorFor(Mockito.anyString()))
+  public void testLoadPageExceptionOnReadEntry() throws AdaptorException {
+    Mockito.when(archiveReadHandlePool.readEntry(Mockito.anyString(), Mockito.anyString()))
         .thenThrow(AdaptorException.class);
 
     try {
       adaptor.loadPageContent(comicBook, TEST_PAGE_INDEX);
     } finally {
-      Mockito.verify(fileTypeAdaptor, Mockito.times(1)).getArchiveAdaptorFor(TEST_COMIC_FILENAME);
-    }
-  }
-
-  @Test(expected = AdaptorException.class)
-  public void testLoadPageExceptionOnOpenArchive()
-      throws AdaptorException, ArchiveAdaptorException {
-    Mockito.when(readableArchiveAdaptor.openArchiveForRead(Mockito.anyString()))
-        .thenThrow(ArchiveAdaptorException.class);
-
-    try {
-      adaptor.loadPageContent(comicBook, TEST_PAGE_INDEX);
-    } finally {
-      Mockito.verify(fileTypeAdaptor, Mockito.times(1)).getArchiveAdaptorFor(TEST_COMIC_FILENAME);
+      Mockito.verify(archiveReadHandlePool, Mockito.times(1))
+          .readEntry(TEST_COMIC_FILENAME, TEST_ENTRY_FILENAME);
     }
   }
 
   @Test
-  public void testLoadPage() throws AdaptorException, ArchiveAdaptorException {
+  public void testLoadPage() throws AdaptorException {
+    Mockito.when(archiveReadHandlePool.readEntry(Mockito.anyString(), Mockito.anyString()))
+        .thenReturn(TEST_ARCHIVE_ENTRY_CONTENT);
+
     final byte[] result = adaptor.loadPageContent(comicBook, TEST_PAGE_INDEX);
 
     assertNotNull(result);
     assertSame(TEST_ARCHIVE_ENTRY_CONTENT, result);
 
-    Mockito.verify(fileTypeAdaptor, Mockito.times(1)).getArchiveAdaptorFor(TEST_COMIC_FILENAME);
-    Mockito.verify(readableArchiveAdaptor, Mockito.times(1))
-        .openArchiveForRead(TEST_COMIC_FILENAME);
-    Mockito.verify(readableArchiveAdaptor, Mockito.times(1))
-        .readEntry(readHandle, TEST_ENTRY_FILENAME);
-    Mockito.verify(readableArchiveAdaptor, Mockito.times(1)).closeArchiveForRead(readHandle);
+    Mockito.verify(archiveReadHandlePool, Mockito.times(1))
+        .readEntry(TEST_COMIC_FILENAME, TEST_ENTRY_FILENAME);
+    Mockito.verify(fileTypeAdaptor, Mockito.never()).getArchiveAdaptorFor(Mockito.anyString());
   }
 
   @Test(expected = AdaptorException.class)
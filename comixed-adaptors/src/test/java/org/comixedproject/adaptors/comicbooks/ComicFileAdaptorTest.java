@@ -349,6 +349,29 @@ public class ComicFileAdaptorTest {
         result);
   }
 
+  @Test
+  public void testCreateFileFromRuleSqlCoverDate() {
+    Mockito.when(comicDetail.getCoverDate())
+        .thenReturn(new java.sql.Date(TEST_COVER_DATE.getTime()));
+
+    final String result =
+        adaptor.createFilenameFromRule(comicBook, TEST_RENAMING_RULE, TEST_TARGET_DIRECTORY);
+
+    assertEquals(
+        formattedName(
+            TEST_TARGET_DIRECTORY,
+            TEST_PUBLISHER,
+            TEST_IMPRINT,
+            TEST_SERIES,
+            TEST_VOLUME,
+            TEST_ISSUE,
+            TEST_TITLE,
+            TEST_FORMATTED_COVER_DATE,
+            TEST_PUBLISHED_MONTH,
+            TEST_PUBLISHED_YEAR),
+        result);
+  }
+
   @Test
   public void testCreateFileFromRuleNoCoverDate() {
     Mockito.when(comicDetail.getCoverDate()).thenReturn(null);
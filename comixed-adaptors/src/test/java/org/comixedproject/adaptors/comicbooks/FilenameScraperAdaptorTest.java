@@ -22,6 +22,12 @@ import static junit.framework.TestCase.*;
 import static org.junit.Assert.assertNotNull;
 
 import java.text.MessageFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import org.comixedproject.adaptors.comicbooks.model.FilenameScrapingRuleSet;
 import org.comixedproject.model.metadata.FilenameMetadata;
 import org.comixedproject.model.metadata.FilenameScrapingRule;
 import org.junit.Before;
@@ -52,8 +58,16 @@ public class FilenameScraperAdaptorTest {
       MessageFormat.format(
           "{0} Vol.{1} #{2} (Farkle, 2019).cbz", TEST_SERIES, TEST_VOLUME, TEST_ISSUE_NUMBER);
 
+  private static final String TEST_NUMERIC_DATE_RULE = "^(.*) \\#([0-9]+) \\((.*)\\)\\.cbz$";
+
+  private static final String TEST_INVALID_RULE = "^([a-z+$";
+  private static final String TEST_FALLBACK_RULE = "^(.*)\\.cbz$";
+
   @InjectMocks private FilenameScraperAdaptor adaptor;
   @Mock private FilenameScrapingRule filenameScrapingRule;
+  @Mock private FilenameScrapingRule invalidScrapingRule;
+  @Mock private FilenameScrapingRule fallbackScrapingRule;
+  @Mock private FilenameScrapingRule numericDateScrapingRule;
 
   @Before
   public void setUp() {
@@ -97,4 +111,99 @@ public class FilenameScraperAdaptorTest {
     assertEquals(TEST_VOLUME, result.getVolume());
     assertEquals(TEST_ISSUE_NUMBER, result.getIssueNumber());
   }
+
+  @Test
+  public void testExecuteParsesCoverDate() {
+    final FilenameMetadata result = adaptor.execute(TEST_FILENAME, filenameScrapingRule);
+
+    assertEquals(
+        LocalDate.of(2019, 4, 1),
+        result.getCoverDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
+  }
+
+  @Test
+  public void testCompileRules() {
+    Mockito.when(invalidScrapingRule.getRule()).thenReturn(TEST_INVALID_RULE);
+    Mockito.when(fallbackScrapingRule.getRule()).thenReturn(TEST_FALLBACK_RULE);
+    Mockito.when(fallbackScrapingRule.getPriority()).thenReturn(10);
+    Mockito.when(fallbackScrapingRule.getSeriesPosition()).thenReturn(1);
+
+    final FilenameScrapingRuleSet result =
+        adaptor.compileRules(
+            List.of(fallbackScrapingRule, invalidScrapingRule, filenameScrapingRule));
+
+    assertNotNull(result);
+    assertEquals(2, result.size());
+
+    final List<FilenameMetadata> metadata =
+        result.applyAll(List.of(TEST_FILENAME, "Other Comic.cbz", TEST_INVALID_FILENAME));
+
+    assertEquals(3, metadata.size());
+    assertTrue(metadata.get(0).isFound());
+    assertEquals(TEST_SERIES, metadata.get(0).getSeries());
+    assertTrue(metadata.get(1).isFound());
+    assertEquals("Other Comic", metadata.get(1).getSeries());
+    assertTrue(metadata.get(2).isFound());
+  }
+
+  @Test
+  public void testCompileRulesNoneApply() {
+    final FilenameScrapingRuleSet result = adaptor.compileRules(List.of(filenameScrapingRule));
+
+    final FilenameMetadata metadata = result.apply(TEST_INVALID_FILENAME);
+
+    assertNotNull(metadata);
+    assertFalse(metadata.isFound());
+  }
+
+  @Test
+  public void testExecuteTwoDigitYear() throws ParseException {
+    this.doTestNumericCoverDate("MM-yy", "04-99", LocalDate.of(1999, 4, 1));
+  }
+
+  @Test
+  public void testExecuteTwoDigitYearCurrentCentury() throws ParseException {
+    this.doTestNumericCoverDate("MM-yy", "04-19", LocalDate.of(2019, 4, 1));
+  }
+
+  @Test
+  public void testExecuteTwoDigitYearPatternWithFullYear() throws ParseException {
+    this.doTestNumericCoverDate("MM-yy", "04-2019", LocalDate.of(2019, 4, 1));
+  }
+
+  @Test
+  public void testExecuteSingleDigitMonth() throws ParseException {
+    this.doTestNumericCoverDate("MM-yyyy", "4-2019", LocalDate.of(2019, 4, 1));
+  }
+
+  @Test
+  public void testExecuteSingleDigitMonthAndDay() throws ParseException {
+    this.doTestNumericCoverDate("MM/dd/yyyy", "4/7/2019", LocalDate.of(2019, 4, 7));
+  }
+
+  @Test
+  public void testExecuteAdjacentNumericFields() throws ParseException {
+    this.doTestNumericCoverDate("yyMM", "9904", LocalDate.of(1999, 4, 1));
+  }
+
+  private void doTestNumericCoverDate(
+      final String dateFormat, final String coverDate, final LocalDate expected)
+      throws ParseException {
+    Mockito.when(numericDateScrapingRule.getRule()).thenReturn(TEST_NUMERIC_DATE_RULE);
+    Mockito.when(numericDateScrapingRule.getDateFormat()).thenReturn(dateFormat);
+    Mockito.when(numericDateScrapingRule.getSeriesPosition()).thenReturn(1);
+    Mockito.when(numericDateScrapingRule.getIssueNumberPosition()).thenReturn(2);
+    Mockito.when(numericDateScrapingRule.getCoverDatePosition()).thenReturn(3);
+
+    final FilenameMetadata result =
+        adaptor.execute(
+            MessageFormat.format("{0} #{1} ({2}).cbz", TEST_SERIES, TEST_ISSUE_NUMBER, coverDate),
+            numericDateScrapingRule);
+
+    assertNotNull(result);
+    assertNotNull(result.getCoverDate());
+    assertEquals(
+        expected, result.getCoverDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
+    assertEquals(new SimpleDateFormat(dateFormat).parse(coverDate), result.getCoverDate());
+  }
 }
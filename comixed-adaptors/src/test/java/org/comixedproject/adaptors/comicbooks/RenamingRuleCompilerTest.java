@@ -0,0 +1,79 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.adaptors.comicbooks;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertSame;
+
+import java.util.List;
+import java.util.Map;
+import org.comixedproject.adaptors.comicbooks.model.RenamingRuleProgram;
+import org.junit.Test;
+
+public class RenamingRuleCompilerTest {
+  private static final String FORBIDDEN_CHARACTERS = "[\"':\\\\*?|<>]";
+  private static final Map<String, String> TEST_VALUES =
+      Map.of("$PUB", "Publisher", "$PUBYEAR", "2023", "$ISSUE", "17");
+
+  private final RenamingRuleCompiler compiler =
+      new RenamingRuleCompiler(
+          List.of("$PUB", "$PUBYEAR", "$ISSUE"), List.of("$ISSUE"), FORBIDDEN_CHARACTERS);
+
+  @Test
+  public void testRenderLiteralOnly() {
+    assertEquals("no placeholders", compiler.render("no placeholders", TEST_VALUES::get));
+  }
+
+  @Test
+  public void testRenderMatchesLongestPlaceholder() {
+    assertEquals("Publisher/2023", compiler.render("$PUB/$PUBYEAR", TEST_VALUES::get));
+  }
+
+  @Test
+  public void testRenderPadsValue() {
+    assertEquals("#00017 #17", compiler.render("#$ISSUE(5) #$ISSUE", TEST_VALUES::get));
+  }
+
+  @Test
+  public void testRenderIgnoresMalformedWidth() {
+    assertEquals("17(x) 17()", compiler.render("$ISSUE(x) $ISSUE()", TEST_VALUES::get));
+  }
+
+  @Test
+  public void testRenderScrubsRule() {
+    assertEquals("__Publisher_", compiler.render("?*$PUB:", TEST_VALUES::get));
+  }
+
+  @Test
+  public void testRenderDoesNotExpandValues() {
+    assertEquals("$PUBYEAR", compiler.render("$PUB", placeholder -> "$PUBYEAR"));
+  }
+
+  @Test
+  public void testRenderUnknownPlaceholder() {
+    assertEquals("$UNKNOWN", compiler.render("$UNKNOWN", TEST_VALUES::get));
+  }
+
+  @Test
+  public void testGetProgramIsCached() {
+    final RenamingRuleProgram program = compiler.getProgram("$PUB/$ISSUE");
+
+    assertSame(program, compiler.getProgram("$PUB/$ISSUE"));
+  }
+}
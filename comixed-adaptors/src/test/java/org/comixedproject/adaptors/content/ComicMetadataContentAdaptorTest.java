@@ -54,6 +54,7 @@ public class ComicMetadataContentAdaptorTest extends BaseContentAdaptorTest {
   private static final String TEST_DESCRIPTION = "Test summary <em>inner tag</em>";
   private static final String TEST_METADATA_SOURCE_NAME = "ComicVine";
   private static final String TEST_METADATA_REFERENCE_ID = "12971";
+  private static final String TEST_WEB_ADDRESS = "http://comicvine.gamespot.com/foo/71765-12971/";
 
   @Autowired ComicMetadataContentAdaptor adaptor;
 
@@ -95,6 +96,7 @@ public class ComicMetadataContentAdaptorTest extends BaseContentAdaptorTest {
 
     assertEquals(TEST_METADATA_SOURCE_NAME, comicBook.getMetadataSourceName());
     assertEquals(TEST_METADATA_REFERENCE_ID, comicBook.getMetadataReferenceId());
+    assertEquals(TEST_WEB_ADDRESS, comicBook.getMetadataWebAddress());
   }
 
   @Test
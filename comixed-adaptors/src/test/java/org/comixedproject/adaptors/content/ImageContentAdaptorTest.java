@@ -20,9 +20,12 @@ package org.comixedproject.adaptors.content;
 
 import static org.junit.Assert.*;
 
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 import org.comixedproject.adaptors.GenericUtilitiesAdaptor;
 import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.model.comicpages.Page;
+import org.comixedproject.model.comicpages.PageHash;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -39,10 +42,12 @@ import org.springframework.test.context.TestPropertySource;
 public class ImageContentAdaptorTest extends BaseContentAdaptorTest {
   private static final String TEST_JPEG_FILENAME = "src/test/resources/example.jpg";
   private static final String TEST_WEBP_FILENAME = "src/test/resources/example.webp";
-  private static final String TEST_HASH = "928375298571098571209857";
+  private static final long TEST_PERCEPTUAL_HASH = 0x0F0F0F0F0F0F0F0FL;
+  private static final PageHash TEST_HASH = PageHash.fromHex("928375298571098571209857");
 
   @InjectMocks private ImageContentAdaptor loader;
   @Mock private GenericUtilitiesAdaptor genericUtilitiesAdaptor;
+  @Mock private PerceptualHashAdaptor perceptualHashAdaptor;
 
   private ComicBook comicBook;
   private ContentAdaptorRules contentAdaptorRules = new ContentAdaptorRules();
@@ -50,18 +55,57 @@ public class ImageContentAdaptorTest extends BaseContentAdaptorTest {
   @Before
   public void setUp() {
     comicBook = new ComicBook();
-    Mockito.when(genericUtilitiesAdaptor.createHash(Mockito.any(byte[].class)))
+    Mockito.when(genericUtilitiesAdaptor.createPageHash(Mockito.any(byte[].class)))
         .thenReturn(TEST_HASH);
   }
 
   @Test
   public void testLoadJPGImage() throws IOException {
+    Mockito.when(perceptualHashAdaptor.createHash(Mockito.any(BufferedImage.class)))
+        .thenReturn(TEST_PERCEPTUAL_HASH);
+
     byte[] content = loadFile(TEST_JPEG_FILENAME);
 
     loader.loadContent(comicBook, TEST_JPEG_FILENAME, content, contentAdaptorRules);
 
     assertEquals(1, comicBook.getPageCount());
     assertNotNull(comicBook.getPage(0));
+    assertEquals(TEST_HASH, comicBook.getPage(0).getPageHash());
+    assertEquals(Long.valueOf(TEST_PERCEPTUAL_HASH), comicBook.getPage(0).getPerceptualHash());
+  }
+
+  @Test
+  public void testLoadKnownImageWithoutPerceptualHash() throws IOException {
+    Mockito.when(perceptualHashAdaptor.createHash(Mockito.any(BufferedImage.class)))
+        .thenReturn(TEST_PERCEPTUAL_HASH);
+    final Page page = new Page();
+    page.setFilename(TEST_JPEG_FILENAME);
+    comicBook.getPages().add(page);
+
+    loader.loadContent(
+        comicBook, TEST_JPEG_FILENAME, loadFile(TEST_JPEG_FILENAME), contentAdaptorRules);
+
+    assertEquals(1, comicBook.getPageCount());
+    assertEquals(Long.valueOf(TEST_PERCEPTUAL_HASH), page.getPerceptualHash());
+
+    Mockito.verify(genericUtilitiesAdaptor, Mockito.never())
+        .createPageHash(Mockito.any(byte[].class));
+  }
+
+  @Test
+  public void testLoadKnownImageWithPerceptualHash() throws IOException {
+    final Page page = new Page();
+    page.setFilename(TEST_JPEG_FILENAME);
+    page.setPerceptualHash(TEST_PERCEPTUAL_HASH);
+    comicBook.getPages().add(page);
+
+    loader.loadContent(
+        comicBook, TEST_JPEG_FILENAME, loadFile(TEST_JPEG_FILENAME), contentAdaptorRules);
+
+    assertEquals(1, comicBook.getPageCount());
+
+    Mockito.verify(perceptualHashAdaptor, Mockito.never())
+        .createHash(Mockito.any(BufferedImage.class));
   }
 
   @Test
@@ -72,5 +116,6 @@ public class ImageContentAdaptorTest extends BaseContentAdaptorTest {
 
     assertEquals(1, comicBook.getPageCount());
     assertNotNull(comicBook.getPage(0));
+    assertEquals(TEST_HASH, comicBook.getPage(0).getPageHash());
   }
 }
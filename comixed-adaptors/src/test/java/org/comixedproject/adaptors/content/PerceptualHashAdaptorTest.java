@@ -0,0 +1,105 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.adaptors.content;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PerceptualHashAdaptorTest {
+  private static final String TEST_JPEG_FILENAME = "src/test/resources/example.jpg";
+  private static final int TEST_NEAR_DUPLICATE_DISTANCE = 6;
+
+  @InjectMocks private PerceptualHashAdaptor adaptor;
+
+  private BufferedImage image;
+
+  @Before
+  public void setUp() throws IOException {
+    image = ImageIO.read(new File(TEST_JPEG_FILENAME));
+  }
+
+  @Test
+  public void testCreateHashIsRepeatable() {
+    assertEquals(adaptor.createHash(image), adaptor.createHash(image));
+  }
+
+  @Test
+  public void testCreateHashForSolidImage() {
+    final BufferedImage solid = new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB);
+    final Graphics2D graphics = solid.createGraphics();
+    graphics.setColor(Color.GRAY);
+    graphics.fillRect(0, 0, 64, 64);
+    graphics.dispose();
+
+    assertEquals(0L, adaptor.createHash(solid));
+  }
+
+  @Test
+  public void testCreateHashForReencodedImage() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final BufferedImage scaled =
+        new BufferedImage(image.getWidth() / 2, image.getHeight() / 2, BufferedImage.TYPE_INT_RGB);
+    final Graphics2D graphics = scaled.createGraphics();
+    graphics.drawImage(image, 0, 0, scaled.getWidth(), scaled.getHeight(), null);
+    graphics.dispose();
+    ImageIO.write(scaled, "png", output);
+    final BufferedImage reencoded = ImageIO.read(new ByteArrayInputStream(output.toByteArray()));
+
+    final int distance =
+        PerceptualHashAdaptor.distance(adaptor.createHash(image), adaptor.createHash(reencoded));
+
+    assertTrue(distance <= TEST_NEAR_DUPLICATE_DISTANCE);
+  }
+
+  @Test
+  public void testCreateHashForDifferentImage() {
+    final BufferedImage flipped =
+        new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+    final Graphics2D graphics = flipped.createGraphics();
+    graphics.drawImage(image, image.getWidth(), 0, -image.getWidth(), image.getHeight(), null);
+    graphics.dispose();
+
+    final int distance =
+        PerceptualHashAdaptor.distance(adaptor.createHash(image), adaptor.createHash(flipped));
+
+    assertTrue(distance > TEST_NEAR_DUPLICATE_DISTANCE);
+  }
+
+  @Test
+  public void testDistance() {
+    assertEquals(0, PerceptualHashAdaptor.distance(0xFFL, 0xFFL));
+    assertEquals(4, PerceptualHashAdaptor.distance(0xF0L, 0xFFL));
+    assertEquals(64, PerceptualHashAdaptor.distance(0L, -1L));
+  }
+}
@@ -16,7 +16,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 @RunWith(MockitoJUnitRunner.class)
 public class CsvAdaptorTest {
   private static final String TEST_PAGE_LABEL = "The blocked page label";
-  private static final String TEST_PAGE_HASH = "The page hash";
+  private static final String TEST_PAGE_HASH = "0123456789ABCDEF0123456789ABCDEF";
   private static final String TEST_PAGE_THUMBNAIL = "The blocked page content encoded";
   private static final String LABEL = "LABEL";
   private static final String HASH = "HASH";
@@ -18,17 +18,23 @@
 
 package org.comixedproject.adaptors.file;
 
+import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import org.apache.commons.io.FileExistsException;
 import org.apache.commons.lang.SystemUtils;
+import org.comixedproject.adaptors.archive.ArchiveReadHandlePool;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -38,9 +44,12 @@ public class FileAdaptorTest {
   private static final File TEST_FILE_1 = new File("target/maven-javadoc-stale-data.txt");
   private static final File TEST_FILE_1_NAME_UPPER_CASE =
       new File(TEST_FILE_1.getAbsolutePath().toUpperCase());
+  private static final File TEST_MOVED_FILE =
+      new File("target/test-classes/moved-directory/moved-file");
   private static final File TEST_NOT_FILE_1 = new File("target/maven-javadoc-stale-data.txt");
 
   @InjectMocks private FileAdaptor adaptor;
+  @Mock private ArchiveReadHandlePool archiveReadHandlePool;
 
   @Before
   public void setUp() throws IOException {
@@ -54,6 +63,32 @@ public class FileAdaptorTest {
     adaptor.deleteFile(TEST_DELETABLE_FILE);
 
     assertFalse(TEST_DELETABLE_FILE.exists());
+
+    Mockito.verify(archiveReadHandlePool, Mockito.times(1)).invalidate(TEST_DELETABLE_FILE);
+  }
+
+  @Test
+  public void testMoveFile() throws IOException {
+    TEST_MOVED_FILE.delete();
+
+    adaptor.moveFile(TEST_DELETABLE_FILE, TEST_MOVED_FILE);
+
+    assertFalse(TEST_DELETABLE_FILE.exists());
+    assertTrue(TEST_MOVED_FILE.exists());
+    assertEquals("Here is some content", Files.readString(TEST_MOVED_FILE.toPath()));
+
+    Mockito.verify(archiveReadHandlePool, Mockito.times(1)).invalidate(TEST_DELETABLE_FILE);
+    Mockito.verify(archiveReadHandlePool, Mockito.times(1)).invalidate(TEST_MOVED_FILE);
+    TEST_MOVED_FILE.delete();
+  }
+
+  @Test(expected = FileExistsException.class)
+  public void testMoveFileDestinationExists() throws IOException {
+    try {
+      adaptor.moveFile(TEST_DELETABLE_FILE, TEST_DELETABLE_FILE);
+    } finally {
+      assertTrue(TEST_DELETABLE_FILE.exists());
+    }
   }
 
   @Test
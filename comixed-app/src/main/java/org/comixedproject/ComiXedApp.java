@@ -24,6 +24,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -31,15 +32,22 @@ import org.springframework.context.ConfigurableApplicationContext;
 /**
  * <code>ComiXedApp</code> is the main entry point for the ComiXed application.
  *
+ * <p>The timing of each startup phase is recorded and made available through the <code>startup
+ * </code> actuator endpoint.
+ *
  * @author Darryl L. Pierce
  */
 @SpringBootApplication
 @Log4j2
 public class ComiXedApp implements CommandLineRunner, ApplicationContextAware {
+  static final int STARTUP_STEP_CAPACITY = 4096;
+
   private ApplicationContext applicationContext;
 
   public static void main(String[] args) {
-    new SpringApplication(ComiXedApp.class).run(args);
+    final SpringApplication application = new SpringApplication(ComiXedApp.class);
+    application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+    application.run(args);
   }
 
   @Override
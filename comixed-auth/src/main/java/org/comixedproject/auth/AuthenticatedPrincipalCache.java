@@ -0,0 +1,146 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.service.user.UserAccountChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <code>AuthenticatedPrincipalCache</code> holds recently verified principals, keyed by a digest of
+ * the credentials that were verified, so that repeated requests with the same token or basic
+ * credentials skip loading the user and verifying the credentials again.
+ *
+ * <p>Entries expire after a fixed time, or when the token they were created from expires, and are
+ * discarded as soon as the user's account changes.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class AuthenticatedPrincipalCache {
+  @Value("${comixed.auth.principal-cache.time-to-live:60000}")
+  private long timeToLive = 60000L;
+
+  @Value("${comixed.auth.principal-cache.maximum-size:1024}")
+  private int maximumSize = 1024;
+
+  final Map<String, CachedPrincipal> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Returns the principal previously verified with the given credentials.
+   *
+   * @param credentials the credentials
+   * @return the principal, or null if none is cached
+   */
+  public UserDetails get(final String credentials) {
+    final String key = this.doCreateKey(credentials);
+    synchronized (this.entries) {
+      final CachedPrincipal entry = this.entries.get(key);
+      if (Objects.isNull(entry)) {
+        return null;
+      }
+      if (entry.getExpires() <= System.currentTimeMillis()) {
+        log.trace("Cached principal expired: {}", entry.getUserDetails().getUsername());
+        this.entries.remove(key);
+        return null;
+      }
+      return entry.getUserDetails();
+    }
+  }
+
+  /**
+   * Stores a verified principal.
+   *
+   * @param credentials the credentials
+   * @param userDetails the principal
+   * @param expiration when the credentials expire, or null if they do not
+   */
+  public void put(final String credentials, final UserDetails userDetails, final Date expiration) {
+    if (this.maximumSize <= 0 || this.timeToLive <= 0L) {
+      return;
+    }
+    long expires = System.currentTimeMillis() + this.timeToLive;
+    if (Objects.nonNull(expiration)) {
+      expires = Math.min(expires, expiration.getTime());
+    }
+    final String key = this.doCreateKey(credentials);
+    synchronized (this.entries) {
+      this.entries.put(key, new CachedPrincipal(userDetails, expires));
+      while (this.entries.size() > this.maximumSize) {
+        final String eldest = this.entries.keySet().iterator().next();
+        this.entries.remove(eldest);
+      }
+    }
+  }
+
+  /**
+   * Discards all cached principals for the given user.
+   *
+   * @param username the username
+   */
+  public void invalidate(final String username) {
+    log.debug("Invalidating cached principals: {}", username);
+    synchronized (this.entries) {
+      this.entries
+          .values()
+          .removeIf(entry -> Objects.equals(username, entry.getUserDetails().getUsername()));
+    }
+  }
+
+  /**
+   * Discards the cached principals for a user once the change to their account is committed.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserAccountChanged(final UserAccountChangedEvent event) {
+    this.invalidate(event.getEmail());
+  }
+
+  private String doCreateKey(final String credentials) {
+    try {
+      return HexFormat.of()
+          .formatHex(
+              MessageDigest.getInstance("SHA-256")
+                  .digest(credentials.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException error) {
+      throw new IllegalStateException("SHA-256 not available", error);
+    }
+  }
+
+  @AllArgsConstructor
+  static class CachedPrincipal {
+    @Getter private final UserDetails userDetails;
+    @Getter private final long expires;
+  }
+}
@@ -31,12 +31,14 @@ import org.comixedproject.adaptors.GenericUtilitiesAdaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
- * <code>ComiXedAuthenticationFilter</code> authenticates the user request.
+ * <code>ComiXedAuthenticationFilter</code> authenticates the user request. Verified principals are
+ * cached by credentials in the {@link AuthenticatedPrincipalCache}.
  *
  * @author Darryl L. Pierce
  */
@@ -51,51 +53,82 @@ public class ComiXedAuthenticationFilter extends OncePerRequestFilter {
   @Autowired private ComiXedUserDetailsService userDetailsService;
   @Autowired private JwtTokenUtil jwtTokenUtil;
   @Autowired private GenericUtilitiesAdaptor genericUtilitiesAdaptor;
+  @Autowired private AuthenticatedPrincipalCache authenticatedPrincipalCache;
 
   @Override
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
     String header = request.getHeader(HEADER_STRING);
-    String username = null;
-    String password = null;
-    String authToken = null;
+    String credentials = null;
+    boolean basicAuth = false;
     if (StringUtils.startsWith(header, TOKEN_PREFIX)) {
-      authToken = header.replace(TOKEN_PREFIX, "").trim();
-      try {
-        username = this.jwtTokenUtil.getEmailFromToken(authToken);
-      } catch (Exception error) {
-        log.trace("Unable to extract username from auth token", error);
-      }
+      credentials = header.replace(TOKEN_PREFIX, "").trim();
     } else if (StringUtils.startsWith(header, BASIC_PREFIX)) {
-      String base64Credentials = header.substring(BASIC_PREFIX.length()).trim();
-      byte[] credDecoded = Base64.getDecoder().decode(base64Credentials);
-      var credentials = new String(credDecoded, StandardCharsets.UTF_8);
-
-      String[] userDetails = credentials.split(":", 2);
-      if (!userDetails[0].equals(USER_PREFIX)) {
-        username = userDetails[0];
-        password = this.genericUtilitiesAdaptor.createHash(userDetails[1].getBytes());
-      }
+      credentials = header;
+      basicAuth = true;
     } else {
       log.trace("couldn't find bearer string, will ignore the header");
     }
-    if (!StringUtils.isEmpty(username)
-        && (SecurityContextHolder.getContext().getAuthentication() == null)) {
-
-      var userDetails = this.userDetailsService.loadUserByUsername(username);
+    if (credentials != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+      var userDetails = this.authenticatedPrincipalCache.get(credentials);
+      if (userDetails == null) {
+        userDetails =
+            basicAuth ? this.doVerifyBasicCredentials(header) : this.doVerifyToken(credentials);
+      } else {
+        log.trace("Using cached principal: {}", userDetails.getUsername());
+      }
 
-      if (userDetails.getPassword().equals(password)
-          || this.jwtTokenUtil.validateToken(authToken, userDetails).booleanValue()) {
+      if (userDetails != null) {
         var authentication =
             new UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities());
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-        log.trace("authenticated user " + username + ", setting security context");
+        log.trace("authenticated user " + userDetails.getUsername() + ", setting security context");
         SecurityContextHolder.getContext().setAuthentication(authentication);
       }
     }
 
     filterChain.doFilter(request, response);
   }
+
+  private UserDetails doVerifyToken(final String authToken) {
+    String username = null;
+    try {
+      username = this.jwtTokenUtil.getEmailFromToken(authToken);
+    } catch (Exception error) {
+      log.trace("Unable to extract username from auth token", error);
+    }
+    if (StringUtils.isEmpty(username)) {
+      return null;
+    }
+    var userDetails = this.userDetailsService.loadUserByUsername(username);
+    if (!this.jwtTokenUtil.validateToken(authToken, userDetails).booleanValue()) {
+      return null;
+    }
+    log.trace("Caching verified principal: {}", username);
+    this.authenticatedPrincipalCache.put(
+        authToken, userDetails, this.jwtTokenUtil.getExpirationDateFromToken(authToken));
+    return userDetails;
+  }
+
+  private UserDetails doVerifyBasicCredentials(final String header) {
+    String base64Credentials = header.substring(BASIC_PREFIX.length()).trim();
+    byte[] credDecoded = Base64.getDecoder().decode(base64Credentials);
+    var credentials = new String(credDecoded, StandardCharsets.UTF_8);
+
+    String[] userDetails = credentials.split(":", 2);
+    if (userDetails[0].equals(USER_PREFIX) || StringUtils.isEmpty(userDetails[0])) {
+      return null;
+    }
+    var username = userDetails[0];
+    var password = this.genericUtilitiesAdaptor.createHash(userDetails[1].getBytes());
+    var result = this.userDetailsService.loadUserByUsername(username);
+    if (!result.getPassword().equals(password)) {
+      return null;
+    }
+    log.trace("Caching verified principal: {}", username);
+    this.authenticatedPrincipalCache.put(header, result, null);
+    return result;
+  }
 }
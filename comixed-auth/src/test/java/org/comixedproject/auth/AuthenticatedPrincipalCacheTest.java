@@ -0,0 +1,136 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.auth;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.assertTrue;
+
+import java.util.Date;
+import org.comixedproject.service.user.UserAccountChangedEvent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AuthenticatedPrincipalCacheTest {
+  private static final String TEST_CREDENTIALS = "The.auth.token";
+  private static final String TEST_OTHER_CREDENTIALS = "The.other.auth.token";
+  private static final String TEST_EMAIL = "reader@comixedproject.org";
+
+  @InjectMocks private AuthenticatedPrincipalCache cache;
+  @Mock private UserDetails userDetails;
+  @Mock private UserDetails otherUserDetails;
+
+  @Test
+  public void testGetNotCached() {
+    assertNull(cache.get(TEST_CREDENTIALS));
+  }
+
+  @Test
+  public void testPutAndGet() {
+    cache.put(TEST_CREDENTIALS, userDetails, null);
+
+    assertSame(userDetails, cache.get(TEST_CREDENTIALS));
+    assertNull(cache.get(TEST_OTHER_CREDENTIALS));
+  }
+
+  @Test
+  public void testEntriesAreKeyedByDigest() {
+    cache.put(TEST_CREDENTIALS, userDetails, null);
+
+    assertEquals(1, cache.entries.size());
+    assertTrue(cache.entries.keySet().stream().noneMatch(key -> key.contains(TEST_CREDENTIALS)));
+  }
+
+  @Test
+  public void testGetExpiredWithToken() {
+    Mockito.when(userDetails.getUsername()).thenReturn(TEST_EMAIL);
+    cache.put(TEST_CREDENTIALS, userDetails, new Date(System.currentTimeMillis() - 1000L));
+
+    assertNull(cache.get(TEST_CREDENTIALS));
+    assertTrue(cache.entries.isEmpty());
+  }
+
+  @Test
+  public void testGetExpiredTimeToLive() {
+    Mockito.when(userDetails.getUsername()).thenReturn(TEST_EMAIL);
+    ReflectionTestUtils.setField(cache, "timeToLive", 1L);
+    cache.put(TEST_CREDENTIALS, userDetails, null);
+    ReflectionTestUtils.setField(cache, "timeToLive", 60000L);
+
+    try {
+      Thread.sleep(5L);
+    } catch (InterruptedException error) {
+      Thread.currentThread().interrupt();
+    }
+
+    assertNull(cache.get(TEST_CREDENTIALS));
+  }
+
+  @Test
+  public void testPutDisabled() {
+    ReflectionTestUtils.setField(cache, "maximumSize", 0);
+
+    cache.put(TEST_CREDENTIALS, userDetails, null);
+
+    assertNull(cache.get(TEST_CREDENTIALS));
+  }
+
+  @Test
+  public void testPutEvictsLeastRecentlyUsed() {
+    ReflectionTestUtils.setField(cache, "maximumSize", 1);
+
+    cache.put(TEST_CREDENTIALS, userDetails, null);
+    cache.put(TEST_OTHER_CREDENTIALS, otherUserDetails, null);
+
+    assertEquals(1, cache.entries.size());
+    assertNull(cache.get(TEST_CREDENTIALS));
+    assertSame(otherUserDetails, cache.get(TEST_OTHER_CREDENTIALS));
+  }
+
+  @Test
+  public void testInvalidate() {
+    Mockito.when(userDetails.getUsername()).thenReturn(TEST_EMAIL);
+    Mockito.when(otherUserDetails.getUsername()).thenReturn("other@comixedproject.org");
+    cache.put(TEST_CREDENTIALS, userDetails, null);
+    cache.put(TEST_OTHER_CREDENTIALS, otherUserDetails, null);
+
+    cache.invalidate(TEST_EMAIL);
+
+    assertNull(cache.get(TEST_CREDENTIALS));
+    assertSame(otherUserDetails, cache.get(TEST_OTHER_CREDENTIALS));
+  }
+
+  @Test
+  public void testOnUserAccountChanged() {
+    Mockito.when(userDetails.getUsername()).thenReturn(TEST_EMAIL);
+    cache.put(TEST_CREDENTIALS, userDetails, null);
+
+    cache.onUserAccountChanged(new UserAccountChangedEvent(TEST_EMAIL));
+
+    assertNull(cache.get(TEST_CREDENTIALS));
+  }
+}
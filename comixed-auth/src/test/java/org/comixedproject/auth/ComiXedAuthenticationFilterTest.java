@@ -28,6 +28,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Base64;
+import java.util.Date;
 import org.comixedproject.adaptors.GenericUtilitiesAdaptor;
 import org.junit.Before;
 import org.junit.Test;
@@ -57,6 +58,8 @@ public class ComiXedAuthenticationFilterTest {
   @Mock private FilterChain filterChain;
   @Mock private UserDetails userDetails;
   @Mock private SecurityContext securityContext;
+  @Mock private AuthenticatedPrincipalCache authenticatedPrincipalCache;
+  @Mock private Date expiration;
 
   @Captor
   private ArgumentCaptor<UsernamePasswordAuthenticationToken> authenticationTokenArgumentCaptor;
@@ -76,6 +79,48 @@ public class ComiXedAuthenticationFilterTest {
 
     authenticationFilter.doFilterInternal(request, response, filterChain);
 
+    Mockito.verify(authenticatedPrincipalCache, Mockito.never())
+        .put(Mockito.anyString(), Mockito.any(UserDetails.class), Mockito.any());
+    Mockito.verify(filterChain, Mockito.times(1)).doFilter(request, response);
+  }
+
+  @Test
+  public void testDoFilterInternalBasicAuthValidPassword() throws ServletException, IOException {
+    Mockito.when(request.getHeader(HEADER_STRING)).thenReturn(TEST_BASIC_AUTH_HEADER);
+    Mockito.when(genericUtilitiesAdaptor.createHash(Mockito.any(byte[].class)))
+        .thenReturn(TEST_PASSWORD);
+    Mockito.doNothing()
+        .when(securityContext)
+        .setAuthentication(authenticationTokenArgumentCaptor.capture());
+
+    authenticationFilter.doFilterInternal(request, response, filterChain);
+
+    assertSame(userDetails, authenticationTokenArgumentCaptor.getValue().getPrincipal());
+
+    Mockito.verify(userDetailsService, Mockito.times(1)).loadUserByUsername(TEST_EMAIL);
+    Mockito.verify(authenticatedPrincipalCache, Mockito.times(1))
+        .put(TEST_BASIC_AUTH_HEADER, userDetails, null);
+    Mockito.verify(filterChain, Mockito.times(1)).doFilter(request, response);
+  }
+
+  @Test
+  public void testDoFilterInternalCachedPrincipal() throws ServletException, IOException {
+    Mockito.reset(userDetailsService, userDetails);
+    Mockito.when(request.getHeader(HEADER_STRING)).thenReturn(TEST_TOKEN_AUTH_TOKEN);
+    Mockito.when(authenticatedPrincipalCache.get(Mockito.anyString())).thenReturn(userDetails);
+    Mockito.doNothing()
+        .when(securityContext)
+        .setAuthentication(authenticationTokenArgumentCaptor.capture());
+
+    authenticationFilter.doFilterInternal(request, response, filterChain);
+
+    assertSame(userDetails, authenticationTokenArgumentCaptor.getValue().getPrincipal());
+
+    Mockito.verify(authenticatedPrincipalCache, Mockito.times(1)).get(TEST_AUTH_TOKEN);
+    Mockito.verify(userDetailsService, Mockito.never()).loadUserByUsername(Mockito.anyString());
+    Mockito.verify(jwtTokenUtil, Mockito.never()).getEmailFromToken(Mockito.anyString());
+    Mockito.verify(jwtTokenUtil, Mockito.never())
+        .validateToken(Mockito.anyString(), Mockito.any(UserDetails.class));
     Mockito.verify(filterChain, Mockito.times(1)).doFilter(request, response);
   }
 
@@ -96,6 +141,8 @@ public class ComiXedAuthenticationFilterTest {
     Mockito.when(jwtTokenUtil.getEmailFromToken(Mockito.anyString())).thenReturn(TEST_EMAIL);
     Mockito.when(jwtTokenUtil.validateToken(Mockito.anyString(), Mockito.any(UserDetails.class)))
         .thenReturn(true);
+    Mockito.when(jwtTokenUtil.getExpirationDateFromToken(Mockito.anyString()))
+        .thenReturn(expiration);
     Mockito.doNothing()
         .when(securityContext)
         .setAuthentication(authenticationTokenArgumentCaptor.capture());
@@ -107,6 +154,8 @@ public class ComiXedAuthenticationFilterTest {
 
     Mockito.verify(jwtTokenUtil, Mockito.times(1)).getEmailFromToken(TEST_AUTH_TOKEN);
     Mockito.verify(jwtTokenUtil, Mockito.times(1)).validateToken(TEST_AUTH_TOKEN, userDetails);
+    Mockito.verify(authenticatedPrincipalCache, Mockito.times(1))
+        .put(TEST_AUTH_TOKEN, userDetails, expiration);
     Mockito.verify(securityContext, Mockito.times(1))
         .setAuthentication(authenticationTokenArgumentCaptor.getValue());
     Mockito.verify(filterChain, Mockito.times(1)).doFilter(request, response);
@@ -123,6 +172,8 @@ public class ComiXedAuthenticationFilterTest {
 
     Mockito.verify(jwtTokenUtil, Mockito.times(1)).getEmailFromToken(TEST_AUTH_TOKEN);
     Mockito.verify(jwtTokenUtil, Mockito.times(1)).validateToken(TEST_AUTH_TOKEN, userDetails);
+    Mockito.verify(authenticatedPrincipalCache, Mockito.never())
+        .put(Mockito.anyString(), Mockito.any(UserDetails.class), Mockito.any());
     Mockito.verify(filterChain, Mockito.times(1)).doFilter(request, response);
   }
 }
@@ -18,14 +18,18 @@
 
 package org.comixedproject.batch;
 
+import javax.sql.DataSource;
+import org.comixedproject.batch.scheduling.BatchJobScheduler;
+import org.comixedproject.batch.scheduling.PriorityJobLauncher;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.job.DefaultJobParametersExtractor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.batch.BatchProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
@@ -38,6 +42,22 @@ import org.springframework.core.task.TaskExecutor;
  */
 @Configuration
 public class BatchConfiguration {
+  /**
+   * Returns the initializer for the batch schema.
+   *
+   * @param dataSource the data source
+   * @param batchProperties the batch properties
+   * @param skipIfPresent skip the schema scripts if the schema exists
+   * @return the initializer
+   */
+  @Bean
+  public BatchSchemaInitializer batchDataSourceInitializer(
+      final DataSource dataSource,
+      final BatchProperties batchProperties,
+      final @Value("${comixed.batch.schema.skip-if-present:false}") boolean skipIfPresent) {
+    return new BatchSchemaInitializer(dataSource, batchProperties.getJdbc(), skipIfPresent);
+  }
+
   /**
    * Returns the task executor for jobs.
    *
@@ -61,24 +81,22 @@ public class BatchConfiguration {
   }
 
   /**
-   * Returns the batch job launcher.
+   * Returns the batch job launcher. Jobs are queued by the scheduler and started by priority.
    *
    * @param jobRepository the job repository
-   * @param taskExecutor the task executor
+   * @param batchJobScheduler the job scheduler
    * @return the job launcher
    * @throws Exception if an error occurs
    */
   @Bean
   @Qualifier("batchJobLauncher")
   public JobLauncher batchJobLauncher(
-      final JobRepository jobRepository,
-      @Qualifier("jobTaskExecutor") final TaskExecutor taskExecutor)
+      final JobRepository jobRepository, final BatchJobScheduler batchJobScheduler)
       throws Exception {
-    final TaskExecutorJobLauncher taskExecutorJobLauncher = new TaskExecutorJobLauncher();
-    taskExecutorJobLauncher.setJobRepository(jobRepository);
-    taskExecutorJobLauncher.setTaskExecutor(taskExecutor);
-    taskExecutorJobLauncher.afterPropertiesSet();
-    return taskExecutorJobLauncher;
+    final PriorityJobLauncher priorityJobLauncher = new PriorityJobLauncher(batchJobScheduler);
+    priorityJobLauncher.setJobRepository(jobRepository);
+    priorityJobLauncher.afterPropertiesSet();
+    return priorityJobLauncher;
   }
 
   /**
@@ -0,0 +1,87 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.batch.BatchDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.batch.BatchProperties;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+/**
+ * <code>BatchSchemaInitializer</code> initializes the Spring Batch schema. When enabled, the schema
+ * scripts are skipped if the job instance table already exists, rather than being run against the
+ * database on every start.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class BatchSchemaInitializer extends BatchDataSourceScriptDatabaseInitializer {
+  static final String JOB_INSTANCE_TABLE = "JOB_INSTANCE";
+
+  private final String tableName;
+  private final boolean skipIfPresent;
+
+  public BatchSchemaInitializer(
+      final DataSource dataSource,
+      final BatchProperties.Jdbc properties,
+      final boolean skipIfPresent) {
+    super(dataSource, properties);
+    final String prefix = properties.getTablePrefix();
+    this.tableName =
+        (prefix == null ? "BATCH_" : prefix.substring(prefix.lastIndexOf('.') + 1))
+            + JOB_INSTANCE_TABLE;
+    this.skipIfPresent = skipIfPresent;
+  }
+
+  @Override
+  public boolean initializeDatabase() {
+    if (this.skipIfPresent && this.isSchemaPresent()) {
+      log.debug("Batch schema already present: {}", this.tableName);
+      return false;
+    }
+    return super.initializeDatabase();
+  }
+
+  boolean isSchemaPresent() {
+    try {
+      return JdbcUtils.extractDatabaseMetaData(this.getDataSource(), this::doFindTable);
+    } catch (MetaDataAccessException error) {
+      log.debug("Failed to check for batch schema", error);
+      return false;
+    }
+  }
+
+  private boolean doFindTable(final DatabaseMetaData metaData) throws SQLException {
+    return this.doFindTable(metaData, this.tableName.toUpperCase(Locale.ROOT))
+        || this.doFindTable(metaData, this.tableName.toLowerCase(Locale.ROOT));
+  }
+
+  private boolean doFindTable(final DatabaseMetaData metaData, final String name)
+      throws SQLException {
+    try (ResultSet tables = metaData.getTables(null, null, name, null)) {
+      return tables.next();
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.chunks;
+
+import static org.comixedproject.model.messaging.batch.ProcessComicStatus.CHUNK_SIZE;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.repeat.policy.SimpleCompletionPolicy;
+
+/**
+ * <code>AdaptiveChunkPolicy</code> completes a chunk after a number of items, the same as {@link
+ * SimpleCompletionPolicy}, but can change that number after each chunk based on how the chunk
+ * performed.
+ *
+ * <p>The time spent per item is used to size the next chunk so that it takes about the target chunk
+ * time. The size doubles when committing takes a large share of the chunk time, halves when the
+ * free heap drops below the minimum or the chunk fails, and never changes by more than a factor of
+ * two at a time or leaves the configured bounds.
+ *
+ * <p>The chosen size is stored in the step's execution context under {@link
+ * org.comixedproject.model.messaging.batch.ProcessComicStatus#CHUNK_SIZE}.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class AdaptiveChunkPolicy extends SimpleCompletionPolicy
+    implements ChunkListener, ItemWriteListener<Object> {
+  @Getter private final boolean adaptive;
+  @Getter private final int minimumSize;
+  @Getter private final int maximumSize;
+  @Getter private final long targetChunkTime;
+  @Getter private final double maximumCommitShare;
+  @Getter private final double minimumHeapFree;
+
+  private long chunkStarted = 0L;
+  private long writeFinished = 0L;
+  private long chunkReadCount = 0L;
+
+  public AdaptiveChunkPolicy(
+      final int chunkSize,
+      final boolean adaptive,
+      final int minimumSize,
+      final int maximumSize,
+      final long targetChunkTime,
+      final double maximumCommitShare,
+      final double minimumHeapFree) {
+    super(adaptive ? Math.max(minimumSize, Math.min(maximumSize, chunkSize)) : chunkSize);
+    this.adaptive = adaptive;
+    this.minimumSize = minimumSize;
+    this.maximumSize = maximumSize;
+    this.targetChunkTime = targetChunkTime;
+    this.maximumCommitShare = maximumCommitShare;
+    this.minimumHeapFree = minimumHeapFree;
+  }
+
+  @Override
+  public void beforeChunk(final ChunkContext context) {
+    final StepExecution stepExecution = context.getStepContext().getStepExecution();
+    this.chunkStarted = System.nanoTime();
+    this.writeFinished = 0L;
+    this.chunkReadCount = stepExecution.getReadCount();
+    stepExecution.getExecutionContext().putInt(CHUNK_SIZE, this.getChunkSize());
+  }
+
+  @Override
+  public void afterWrite(final Chunk<?> items) {
+    this.writeFinished = System.nanoTime();
+  }
+
+  @Override
+  public void afterChunk(final ChunkContext context) {
+    final StepExecution stepExecution = context.getStepContext().getStepExecution();
+    final long items = stepExecution.getReadCount() - this.chunkReadCount;
+    if (this.adaptive && items > 0L) {
+      final long finished = System.nanoTime();
+      final long elapsed = (finished - this.chunkStarted) / 1_000_000L;
+      final long commit =
+          this.writeFinished > 0L ? (finished - this.writeFinished) / 1_000_000L : 0L;
+      final int chunkSize = this.doCalculateChunkSize(items, elapsed, commit, this.doGetHeapFree());
+      if (chunkSize != this.getChunkSize()) {
+        log.debug(
+            "Changing chunk size: step={} size={} items={} elapsed={}ms commit={}ms",
+            stepExecution.getStepName(),
+            chunkSize,
+            items,
+            elapsed,
+            commit);
+        this.setChunkSize(chunkSize);
+      }
+    }
+    stepExecution.getExecutionContext().putInt(CHUNK_SIZE, this.getChunkSize());
+  }
+
+  @Override
+  public void afterChunkError(final ChunkContext context) {
+    if (this.adaptive) {
+      log.debug("Shrinking chunk size after error");
+      this.setChunkSize(Math.max(this.minimumSize, this.getChunkSize() / 2));
+    }
+    context
+        .getStepContext()
+        .getStepExecution()
+        .getExecutionContext()
+        .putInt(CHUNK_SIZE, this.getChunkSize());
+  }
+
+  int doCalculateChunkSize(
+      final long items, final long elapsed, final long commit, final double heapFree) {
+    final int current = this.getChunkSize();
+    long result;
+    if (heapFree < this.minimumHeapFree) {
+      log.trace("Free heap below minimum: {}", heapFree);
+      result = current / 2;
+    } else {
+      final double itemTime = Math.max(1.0, (double) Math.max(0L, elapsed - commit) / items);
+      result = (long) (this.targetChunkTime / itemTime);
+      if (commit > elapsed * this.maximumCommitShare) {
+        log.trace("Commit time exceeds maximum share: {}ms of {}ms", commit, elapsed);
+        result = Math.max(result, current * 2L);
+      }
+      result = Math.max(current / 2L, Math.min(current * 2L, result));
+    }
+    return (int) Math.max(this.minimumSize, Math.min(this.maximumSize, result));
+  }
+
+  double doGetHeapFree() {
+    final Runtime runtime = Runtime.getRuntime();
+    final long used = runtime.totalMemory() - runtime.freeMemory();
+    return (double) (runtime.maxMemory() - used) / runtime.maxMemory();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.chunks;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * <code>ChunkPolicyFactory</code> creates the {@link AdaptiveChunkPolicy} for each chunk oriented
+ * step. Adaptive sizing is disabled by default, in which case each step uses its configured chunk
+ * size.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class ChunkPolicyFactory {
+  @Value("${comixed.batch.adaptive-chunk.enabled:false}")
+  boolean adaptive = false;
+
+  @Value("${comixed.batch.adaptive-chunk.min-size:1}")
+  int minimumSize = 1;
+
+  @Value("${comixed.batch.adaptive-chunk.max-size:100}")
+  int maximumSize = 100;
+
+  @Value("${comixed.batch.adaptive-chunk.target-chunk-time:2000}")
+  long targetChunkTime = 2000L;
+
+  @Value("${comixed.batch.adaptive-chunk.max-commit-share:0.25}")
+  double maximumCommitShare = 0.25;
+
+  @Value("${comixed.batch.adaptive-chunk.min-heap-free:0.2}")
+  double minimumHeapFree = 0.2;
+
+  /**
+   * Creates a chunk policy.
+   *
+   * @param chunkSize the initial chunk size
+   * @return the policy
+   */
+  public AdaptiveChunkPolicy createPolicy(final int chunkSize) {
+    log.trace("Creating chunk policy: size={} adaptive={}", chunkSize, this.adaptive);
+    return new AdaptiveChunkPolicy(
+        chunkSize,
+        this.adaptive,
+        this.minimumSize,
+        this.maximumSize,
+        this.targetChunkTime,
+        this.maximumCommitShare,
+        this.minimumHeapFree);
+  }
+
+  /**
+   * Starts a chunk oriented step using a new chunk policy, which is also registered as a listener
+   * on the step.
+   *
+   * @param stepBuilder the step builder
+   * @param chunkSize the initial chunk size
+   * @param platformTransactionManager the transaction manager
+   * @return the step builder
+   * @param <I> the input type
+   * @param <O> the output type
+   */
+  public <I, O> SimpleStepBuilder<I, O> chunk(
+      final StepBuilder stepBuilder,
+      final int chunkSize,
+      final PlatformTransactionManager platformTransactionManager) {
+    final AdaptiveChunkPolicy policy = this.createPolicy(chunkSize);
+    return stepBuilder
+        .<I, O>chunk(policy, platformTransactionManager)
+        .listener((ChunkListener) policy)
+        .listener((ItemWriteListener<Object>) policy);
+  }
+}
@@ -19,6 +19,7 @@
 package org.comixedproject.batch.comicbooks;
 
 import lombok.extern.log4j.Log4j2;
+import org.comixedproject.batch.chunks.ChunkPolicyFactory;
 import org.comixedproject.batch.comicbooks.listeners.AddComicsToLibraryJobListener;
 import org.comixedproject.batch.comicbooks.listeners.CreateInsertStepExecutionListener;
 import org.comixedproject.batch.comicbooks.listeners.ProcessedComicChunkListener;
@@ -36,6 +37,7 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -54,9 +56,11 @@ public class AddComicsConfiguration {
   public static final String PARAM_SKIP_METADATA = "job.add-comics.skip-metadata";
   public static final String PARAM_SKIP_BLOCKING_PAGES = "job.add-comics.skip-blocking-pages";
 
-  @Value("${comixed.batch.chunk-size}")
+  @Value("${comixed.batch.add-comics.chunk-size:${comixed.batch.chunk-size}}")
   private int batchChunkSize = 10;
 
+  @Autowired private ChunkPolicyFactory chunkPolicyFactory;
+
   /**
    * Returns the add comics batch job.
    *
@@ -105,9 +109,11 @@ public class AddComicsConfiguration {
       final ComicInsertProcessor processor,
       final ComicInsertWriter writer,
       final ProcessedComicChunkListener chunkListener) {
-    return new StepBuilder("createInsertStep", jobRepository)
-        .listener(stepExecutionListener)
-        .<ComicFileDescriptor, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
+    return this.chunkPolicyFactory
+        .<ComicFileDescriptor, ComicBook>chunk(
+            new StepBuilder("createInsertStep", jobRepository).listener(stepExecutionListener),
+            this.batchChunkSize,
+            platformTransactionManager)
         .reader(reader)
         .processor(processor)
         .writer(writer)
@@ -135,8 +141,11 @@ public class AddComicsConfiguration {
       final RecordInsertedReader reader,
       final NoopComicProcessor processor,
       final ReaderInsertedWriter writer) {
-    return new StepBuilder("recordInsertedStep", jobRepository)
-        .<ComicBook, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
+    return this.chunkPolicyFactory
+        .<ComicBook, ComicBook>chunk(
+            new StepBuilder("recordInsertedStep", jobRepository),
+            this.batchChunkSize,
+            platformTransactionManager)
         .reader(reader)
         .processor(processor)
         .writer(writer)
@@ -18,17 +18,16 @@
 
 package org.comixedproject.batch.comicbooks;
 
-import java.io.File;
 import lombok.extern.log4j.Log4j2;
-import org.comixedproject.batch.comicbooks.processors.DeleteComicProcessor;
-import org.comixedproject.batch.comicbooks.processors.DeleteEmptyDirectoriesProcessor;
+import org.comixedproject.batch.chunks.ChunkPolicyFactory;
+import org.comixedproject.batch.comicbooks.listeners.ConsolidationJobListener;
 import org.comixedproject.batch.comicbooks.processors.MoveComicProcessor;
-import org.comixedproject.batch.comicbooks.readers.DeleteComicReader;
-import org.comixedproject.batch.comicbooks.readers.DeleteEmptyDirectoriesReader;
 import org.comixedproject.batch.comicbooks.readers.MoveComicReader;
+import org.comixedproject.batch.comicbooks.tasklets.DeleteComicsTasklet;
+import org.comixedproject.batch.comicbooks.tasklets.DeleteEmptyDirectoriesTasklet;
+import org.comixedproject.batch.comicbooks.tasklets.ExecuteConsolidationPlanTasklet;
+import org.comixedproject.batch.comicbooks.tasklets.PlanConsolidationTasklet;
 import org.comixedproject.batch.comicbooks.writers.MoveComicBookWriter;
-import org.comixedproject.batch.comicbooks.writers.PurgeMarkedComicBooksWriter;
-import org.comixedproject.batch.writers.NoopWriter;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -36,6 +35,7 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -56,14 +56,19 @@ public class ConsolidationConfiguration {
   public static final String PARAM_TARGET_DIRECTORY = "job.consolidation.target-directory";
   public static final String PARAM_RENAMING_RULE = "job.consolidation.renaming-rule";
 
-  @Value("${comixed.batch.chunk-size}")
+  @Value("${comixed.batch.consolidation.chunk-size:${comixed.batch.chunk-size}}")
   private int batchChunkSize = 10;
 
+  @Autowired private ChunkPolicyFactory chunkPolicyFactory;
+
   /**
    * Returns a consolidate library job bean.
    *
    * @param jobRepository the job repository
+   * @param jobListener the job listener
    * @param deleteComicStep the delete comics step
+   * @param planConsolidationStep the plan consolidation step
+   * @param moveComicFilesStep the move comic files step
    * @param moveComicStep the move comics step
    * @param deleteEmptyDirectoriesStep the delete empty directories step
    * @return the job
@@ -72,12 +77,18 @@ public class ConsolidationConfiguration {
   @Qualifier("consolidateLibraryJob")
   public Job consolidateLibraryJob(
       final JobRepository jobRepository,
+      final ConsolidationJobListener jobListener,
       @Qualifier("deleteComicStep") final Step deleteComicStep,
+      @Qualifier("planConsolidationStep") final Step planConsolidationStep,
+      @Qualifier("moveComicFilesStep") final Step moveComicFilesStep,
       @Qualifier("moveComicStep") final Step moveComicStep,
       @Qualifier("deleteEmptyDirectoriesStep") final Step deleteEmptyDirectoriesStep) {
     return new JobBuilder("consolidateLibraryJob", jobRepository)
         .incrementer(new RunIdIncrementer())
+        .listener(jobListener)
         .start(deleteComicStep)
+        .next(planConsolidationStep)
+        .next(moveComicFilesStep)
         .next(moveComicStep)
         .next(deleteEmptyDirectoriesStep)
         .build();
@@ -88,9 +99,7 @@ public class ConsolidationConfiguration {
    *
    * @param jobRepository the job repository
    * @param platformTransactionManager the transaction manager
-   * @param reader the reader
-   * @param processor the processor
-   * @param writer the writer
+   * @param tasklet the tasklet
    * @return the step
    */
   @Bean
@@ -98,14 +107,47 @@ public class ConsolidationConfiguration {
   public Step deleteComicStep(
       final JobRepository jobRepository,
       final PlatformTransactionManager platformTransactionManager,
-      final DeleteComicReader reader,
-      final DeleteComicProcessor processor,
-      final PurgeMarkedComicBooksWriter writer) {
+      final DeleteComicsTasklet tasklet) {
     return new StepBuilder("deleteComicStep", jobRepository)
-        .<ComicBook, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
-        .reader(reader)
-        .processor(processor)
-        .writer(writer)
+        .tasklet(tasklet, platformTransactionManager)
+        .build();
+  }
+
+  /**
+   * Returns the plan consolidation step bean.
+   *
+   * @param jobRepository the job repository
+   * @param platformTransactionManager the transaction manager
+   * @param tasklet the tasklet
+   * @return the step
+   */
+  @Bean
+  @Qualifier("planConsolidationStep")
+  public Step planConsolidationStep(
+      final JobRepository jobRepository,
+      final PlatformTransactionManager platformTransactionManager,
+      final PlanConsolidationTasklet tasklet) {
+    return new StepBuilder("planConsolidationStep", jobRepository)
+        .tasklet(tasklet, platformTransactionManager)
+        .build();
+  }
+
+  /**
+   * Returns the move comic files step bean.
+   *
+   * @param jobRepository the job repository
+   * @param platformTransactionManager the transaction manager
+   * @param tasklet the tasklet
+   * @return the step
+   */
+  @Bean
+  @Qualifier("moveComicFilesStep")
+  public Step moveComicFilesStep(
+      final JobRepository jobRepository,
+      final PlatformTransactionManager platformTransactionManager,
+      final ExecuteConsolidationPlanTasklet tasklet) {
+    return new StepBuilder("moveComicFilesStep", jobRepository)
+        .tasklet(tasklet, platformTransactionManager)
         .build();
   }
 
@@ -127,8 +169,11 @@ public class ConsolidationConfiguration {
       final MoveComicReader reader,
       final MoveComicProcessor processor,
       final MoveComicBookWriter writer) {
-    return new StepBuilder("moveComicStep", jobRepository)
-        .<ComicBook, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
+    return this.chunkPolicyFactory
+        .<ComicBook, ComicBook>chunk(
+            new StepBuilder("moveComicStep", jobRepository),
+            this.batchChunkSize,
+            platformTransactionManager)
         .reader(reader)
         .processor(processor)
         .writer(writer)
@@ -140,9 +185,7 @@ public class ConsolidationConfiguration {
    *
    * @param jobRepository the job repository
    * @param platformTransactionManager the transaction manager
-   * @param reader the reader
-   * @param processor the processor
-   * @param writer the writer
+   * @param tasklet the tasklet
    * @return the step
    */
   @Bean
@@ -150,14 +193,9 @@ public class ConsolidationConfiguration {
   public Step deleteEmptyDirectoriesStep(
       final JobRepository jobRepository,
       final PlatformTransactionManager platformTransactionManager,
-      final DeleteEmptyDirectoriesReader reader,
-      final DeleteEmptyDirectoriesProcessor processor,
-      final NoopWriter<Void> writer) {
+      final DeleteEmptyDirectoriesTasklet tasklet) {
     return new StepBuilder("deleteEmptyDirectoriesStep", jobRepository)
-        .<File, Void>chunk(this.batchChunkSize, platformTransactionManager)
-        .reader(reader)
-        .processor(processor)
-        .writer(writer)
+        .tasklet(tasklet, platformTransactionManager)
         .build();
   }
 }
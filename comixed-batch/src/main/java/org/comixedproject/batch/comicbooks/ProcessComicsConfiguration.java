@@ -19,6 +19,7 @@
 package org.comixedproject.batch.comicbooks;
 
 import lombok.extern.log4j.Log4j2;
+import org.comixedproject.batch.chunks.ChunkPolicyFactory;
 import org.comixedproject.batch.comicbooks.listeners.*;
 import org.comixedproject.batch.comicbooks.processors.*;
 import org.comixedproject.batch.comicbooks.readers.*;
@@ -30,6 +31,7 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -40,6 +42,11 @@ import org.springframework.transaction.PlatformTransactionManager;
 /**
  * <code>ProcessComicsConfiguration</code> defines the batch process for importing comics.
  *
+ * <p>By default each comic passes through separate steps to load its file contents, mark blocked
+ * pages, create its metadata source and mark it as processed. When single pass processing is
+ * enabled then each comic is instead processed by one step, with its file opened once and its state
+ * changed once.
+ *
  * @author Darryl L. Pierce
  */
 @Configuration
@@ -48,9 +55,14 @@ import org.springframework.transaction.PlatformTransactionManager;
 public class ProcessComicsConfiguration {
   public static final String JOB_RESCAN_COMICS_START = "job.rescan-comics.started";
 
-  @Value("${comixed.batch.chunk-size}")
+  @Value("${comixed.batch.process-comics.chunk-size:${comixed.batch.chunk-size}}")
   private int batchChunkSize = 10;
 
+  @Autowired private ChunkPolicyFactory chunkPolicyFactory;
+
+  @Value("${comixed.batch.process-comics.single-pass:false}")
+  boolean singlePass = false;
+
   /**
    * Returns the process comics job.
    *
@@ -60,6 +72,7 @@ public class ProcessComicsConfiguration {
    * @param markBlockedPagesStep the mark blocked pages step
    * @param createMetadataSourceStep the create metadata source step
    * @param contentsProcessedStep the mark contents processed step
+   * @param processComicStep the single pass process comic step
    * @return the job
    */
   @Bean
@@ -70,7 +83,16 @@ public class ProcessComicsConfiguration {
       @Qualifier("loadFileContentsStep") final Step loadFileContentsStep,
       @Qualifier("markBlockedPagesStep") final Step markBlockedPagesStep,
       @Qualifier("createMetadataSourceStep") final Step createMetadataSourceStep,
-      @Qualifier("contentsProcessedStep") final Step contentsProcessedStep) {
+      @Qualifier("contentsProcessedStep") final Step contentsProcessedStep,
+      @Qualifier("processComicStep") final Step processComicStep) {
+    if (this.singlePass) {
+      log.debug("Processing comics in a single pass");
+      return new JobBuilder("processComicsJob", jobRepository)
+          .incrementer(new RunIdIncrementer())
+          .listener(jobListener)
+          .start(processComicStep)
+          .build();
+    }
     return new JobBuilder("processComicsJob", jobRepository)
         .incrementer(new RunIdIncrementer())
         .listener(jobListener)
@@ -81,6 +103,47 @@ public class ProcessComicsConfiguration {
         .build();
   }
 
+  /**
+   * Returns the single pass process comic step.
+   *
+   * @param jobRepository the job repository
+   * @param platformTransactionManager the transaction manager
+   * @param stepListener the step listener
+   * @param reader the reader
+   * @param processor the processor
+   * @param writer the writer
+   * @param chunkListener the chunk listener
+   * @param stepMetricsListener the step metrics listener
+   * @param itemMetricsListener the item metrics listener
+   * @return the step
+   */
+  @Bean
+  @Qualifier("processComicStep")
+  public Step processComicStep(
+      final JobRepository jobRepository,
+      final PlatformTransactionManager platformTransactionManager,
+      final ProcessComicStepListener stepListener,
+      final ProcessComicReader reader,
+      final ProcessComicProcessor processor,
+      final ProcessComicWriter writer,
+      final ProcessedComicChunkListener chunkListener,
+      final StepThroughputMetricsListener stepMetricsListener,
+      final ItemProcessingMetricsListener itemMetricsListener) {
+    return this.chunkPolicyFactory
+        .<ComicBook, ComicBook>chunk(
+            new StepBuilder("processComicStep", jobRepository)
+                .listener(stepListener)
+                .listener(stepMetricsListener),
+            this.batchChunkSize,
+            platformTransactionManager)
+        .reader(reader)
+        .processor(processor)
+        .writer(writer)
+        .listener(chunkListener)
+        .listener(itemMetricsListener)
+        .build();
+  }
+
   /**
    * Returns the load file contents step.
    *
@@ -91,6 +154,8 @@ public class ProcessComicsConfiguration {
    * @param processor the processor
    * @param writer the writer
    * @param chunkListener the chunk listener
+   * @param stepMetricsListener the step metrics listener
+   * @param itemMetricsListener the item metrics listener
    * @return the step
    */
   @Bean
@@ -102,14 +167,21 @@ public class ProcessComicsConfiguration {
       final LoadFileContentsReader reader,
       final LoadFileContentsProcessor processor,
       final LoadFileContentsWriter writer,
-      final ProcessedComicChunkListener chunkListener) {
-    return new StepBuilder("loadFileContentsStep", jobRepository)
-        .listener(stepListener)
-        .<ComicBook, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
+      final ProcessedComicChunkListener chunkListener,
+      final StepThroughputMetricsListener stepMetricsListener,
+      final ItemProcessingMetricsListener itemMetricsListener) {
+    return this.chunkPolicyFactory
+        .<ComicBook, ComicBook>chunk(
+            new StepBuilder("loadFileContentsStep", jobRepository)
+                .listener(stepListener)
+                .listener(stepMetricsListener),
+            this.batchChunkSize,
+            platformTransactionManager)
         .reader(reader)
         .processor(processor)
         .writer(writer)
         .listener(chunkListener)
+        .listener(itemMetricsListener)
         .build();
   }
 
@@ -123,6 +195,8 @@ public class ProcessComicsConfiguration {
    * @param processor the processor
    * @param writer the writer
    * @param chunkListener the chunk listener
+   * @param stepMetricsListener the step metrics listener
+   * @param itemMetricsListener the item metrics listener
    * @return the step
    */
   @Bean
@@ -134,14 +208,21 @@ public class ProcessComicsConfiguration {
       final CreateMetadataSourceReader reader,
       final CreateMetadataSourceProcessor processor,
       final CreateMetadataSourceWriter writer,
-      final ProcessedComicChunkListener chunkListener) {
-    return new StepBuilder("createMetadataSourceStep", jobRepository)
-        .listener(stepListener)
-        .<ComicBook, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
+      final ProcessedComicChunkListener chunkListener,
+      final StepThroughputMetricsListener stepMetricsListener,
+      final ItemProcessingMetricsListener itemMetricsListener) {
+    return this.chunkPolicyFactory
+        .<ComicBook, ComicBook>chunk(
+            new StepBuilder("createMetadataSourceStep", jobRepository)
+                .listener(stepListener)
+                .listener(stepMetricsListener),
+            this.batchChunkSize,
+            platformTransactionManager)
         .reader(reader)
         .processor(processor)
         .writer(writer)
         .listener(chunkListener)
+        .listener(itemMetricsListener)
         .build();
   }
 
@@ -155,6 +236,8 @@ public class ProcessComicsConfiguration {
    * @param processor the processor
    * @param writer the writer
    * @param chunkListener the chunk listener
+   * @param stepMetricsListener the step metrics listener
+   * @param itemMetricsListener the item metrics listener
    * @return the step
    */
   @Bean
@@ -166,14 +249,21 @@ public class ProcessComicsConfiguration {
       final MarkBlockedPagesReader reader,
       final MarkBlockedPagesProcessor processor,
       final MarkBlockedPagesWriter writer,
-      final ProcessedComicChunkListener chunkListener) {
-    return new StepBuilder("markBlockedPagesStep", jobRepository)
-        .listener(stepListener)
-        .<ComicBook, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
+      final ProcessedComicChunkListener chunkListener,
+      final StepThroughputMetricsListener stepMetricsListener,
+      final ItemProcessingMetricsListener itemMetricsListener) {
+    return this.chunkPolicyFactory
+        .<ComicBook, ComicBook>chunk(
+            new StepBuilder("markBlockedPagesStep", jobRepository)
+                .listener(stepListener)
+                .listener(stepMetricsListener),
+            this.batchChunkSize,
+            platformTransactionManager)
         .reader(reader)
         .processor(processor)
         .writer(writer)
         .listener(chunkListener)
+        .listener(itemMetricsListener)
         .build();
   }
 
@@ -187,6 +277,8 @@ public class ProcessComicsConfiguration {
    * @param processor the processor
    * @param writer the writer @Param chunkListener the chunk listener
    * @param chunkListener the chunk listener
+   * @param stepMetricsListener the step metrics listener
+   * @param itemMetricsListener the item metrics listener
    * @return the step
    */
   @Bean
@@ -198,14 +290,21 @@ public class ProcessComicsConfiguration {
       final ContentsProcessedReader reader,
       final NoopComicProcessor processor,
       final ContentsProcessedWriter writer,
-      final ProcessedComicChunkListener chunkListener) {
-    return new StepBuilder("contentsProcessedStep", jobRepository)
-        .listener(stepListener)
-        .<ComicBook, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
+      final ProcessedComicChunkListener chunkListener,
+      final StepThroughputMetricsListener stepMetricsListener,
+      final ItemProcessingMetricsListener itemMetricsListener) {
+    return this.chunkPolicyFactory
+        .<ComicBook, ComicBook>chunk(
+            new StepBuilder("contentsProcessedStep", jobRepository)
+                .listener(stepListener)
+                .listener(stepMetricsListener),
+            this.batchChunkSize,
+            platformTransactionManager)
         .reader(reader)
         .processor(processor)
         .writer(writer)
         .listener(chunkListener)
+        .listener(itemMetricsListener)
         .build();
   }
 }
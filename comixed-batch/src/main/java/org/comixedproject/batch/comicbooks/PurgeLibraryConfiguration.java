@@ -19,11 +19,10 @@
 package org.comixedproject.batch.comicbooks;
 
 import lombok.extern.log4j.Log4j2;
-import org.comixedproject.batch.comicbooks.processors.PurgeMarkedComicsProcessor;
+import org.comixedproject.batch.chunks.ChunkPolicyFactory;
 import org.comixedproject.batch.comicbooks.processors.RemoveComicBooksWithoutDetailsProcessor;
-import org.comixedproject.batch.comicbooks.readers.PurgeMarkedComicsReader;
 import org.comixedproject.batch.comicbooks.readers.RemoveComicBooksWithoutDetailsReader;
-import org.comixedproject.batch.comicbooks.writers.PurgeMarkedComicBooksWriter;
+import org.comixedproject.batch.comicbooks.tasklets.PurgeMarkedComicsTasklet;
 import org.comixedproject.batch.writers.NoopWriter;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.springframework.batch.core.Job;
@@ -32,6 +31,7 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -49,9 +49,11 @@ import org.springframework.transaction.PlatformTransactionManager;
 public class PurgeLibraryConfiguration {
   public static final String JOB_PURGE_LIBRARY_START = "job.purge-library.started";
 
-  @Value("${comixed.batch.chunk-size}")
+  @Value("${comixed.batch.purge.chunk-size:${comixed.batch.chunk-size}}")
   private int batchChunkSize = 10;
 
+  @Autowired private ChunkPolicyFactory chunkPolicyFactory;
+
   /**
    * Returns the purge library job.
    *
@@ -90,8 +92,11 @@ public class PurgeLibraryConfiguration {
       final RemoveComicBooksWithoutDetailsReader reader,
       final RemoveComicBooksWithoutDetailsProcessor processor,
       final NoopWriter<ComicBook> writer) {
-    return new StepBuilder("removeComicBooksWithoutDetailsStep", jobRepository)
-        .<ComicBook, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
+    return this.chunkPolicyFactory
+        .<ComicBook, ComicBook>chunk(
+            new StepBuilder("removeComicBooksWithoutDetailsStep", jobRepository),
+            this.batchChunkSize,
+            platformTransactionManager)
         .reader(reader)
         .processor(processor)
         .writer(writer)
@@ -103,9 +108,7 @@ public class PurgeLibraryConfiguration {
    *
    * @param jobRepository the job repository
    * @param platformTransactionManager the transaction manager
-   * @param reader the reader
-   * @param processor the processor
-   * @param writer the writer
+   * @param tasklet the tasklet
    * @return the step
    */
   @Bean
@@ -113,14 +116,9 @@ public class PurgeLibraryConfiguration {
   public Step purgeMarkedComicsStep(
       final JobRepository jobRepository,
       final PlatformTransactionManager platformTransactionManager,
-      final PurgeMarkedComicsReader reader,
-      final PurgeMarkedComicsProcessor processor,
-      final PurgeMarkedComicBooksWriter writer) {
+      final PurgeMarkedComicsTasklet tasklet) {
     return new StepBuilder("purgeMarkedComicsStep", jobRepository)
-        .<ComicBook, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
-        .reader(reader)
-        .processor(processor)
-        .writer(writer)
+        .tasklet(tasklet, platformTransactionManager)
         .build();
   }
 }
@@ -19,6 +19,7 @@
 package org.comixedproject.batch.comicbooks;
 
 import lombok.extern.log4j.Log4j2;
+import org.comixedproject.batch.chunks.ChunkPolicyFactory;
 import org.comixedproject.batch.comicbooks.processors.RecreateComicFileProcessor;
 import org.comixedproject.batch.comicbooks.readers.RecreateComicFileReader;
 import org.comixedproject.batch.comicbooks.writers.RecreateComicFileWriter;
@@ -29,6 +30,7 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -47,9 +49,11 @@ public class RecreateComicFilesConfiguration {
   public static final String JOB_TARGET_ARCHIVE = "job.recreate-comic.target-archive";
   public static final String JOB_DELETE_MARKED_PAGES = "job.recreate-comic.delete-blocked-pages";
 
-  @Value("${comixed.batch.chunk-size}")
+  @Value("${comixed.batch.recreate-comic-files.chunk-size:${comixed.batch.chunk-size}}")
   private int batchChunkSize = 10;
 
+  @Autowired private ChunkPolicyFactory chunkPolicyFactory;
+
   @Bean
   @Qualifier("recreateComicFilesJob")
   public Job recreateComicFilesJob(
@@ -71,8 +75,11 @@ public class RecreateComicFilesConfiguration {
       final RecreateComicFileReader reader,
       final RecreateComicFileProcessor processor,
       final RecreateComicFileWriter writer) {
-    return new StepBuilder("recreateComicFileStep", jobRepository)
-        .<ComicBook, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
+    return this.chunkPolicyFactory
+        .<ComicBook, ComicBook>chunk(
+            new StepBuilder("recreateComicFileStep", jobRepository),
+            this.batchChunkSize,
+            platformTransactionManager)
         .reader(reader)
         .processor(processor)
         .writer(writer)
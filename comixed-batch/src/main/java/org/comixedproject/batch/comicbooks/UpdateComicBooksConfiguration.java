@@ -19,6 +19,7 @@
 package org.comixedproject.batch.comicbooks;
 
 import lombok.extern.log4j.Log4j2;
+import org.comixedproject.batch.chunks.ChunkPolicyFactory;
 import org.comixedproject.batch.comicbooks.processors.UpdateComicBooksProcessor;
 import org.comixedproject.batch.comicbooks.readers.UpdateComicBooksReader;
 import org.comixedproject.batch.comicbooks.writers.UpdateComicBooksWriter;
@@ -29,6 +30,7 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -52,9 +54,11 @@ public class UpdateComicBooksConfiguration {
   public static final String JOB_UPDATE_COMICBOOKS_IMPRINT = "job.update-comic.imprint";
   public static final String JOB_UPDATE_COMICBOOKS_COMIC_TYPE = "job.update-comic.comic-type";
 
-  @Value("${comixed.batch.chunk-size}")
+  @Value("${comixed.batch.update-comic-books.chunk-size:${comixed.batch.chunk-size}}")
   private int batchChunkSize = 10;
 
+  @Autowired private ChunkPolicyFactory chunkPolicyFactory;
+
   @Bean
   @Qualifier("updateComicBooksJob")
   public Job updateComicBooksJob(
@@ -74,8 +78,11 @@ public class UpdateComicBooksConfiguration {
       final UpdateComicBooksReader reader,
       final UpdateComicBooksProcessor processor,
       final UpdateComicBooksWriter writer) {
-    return new StepBuilder("updateComicBooksStep", jobRepository)
-        .<ComicBook, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
+    return this.chunkPolicyFactory
+        .<ComicBook, ComicBook>chunk(
+            new StepBuilder("updateComicBooksStep", jobRepository),
+            this.batchChunkSize,
+            platformTransactionManager)
         .reader(reader)
         .processor(processor)
         .writer(writer)
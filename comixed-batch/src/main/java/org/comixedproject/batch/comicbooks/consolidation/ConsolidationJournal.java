@@ -0,0 +1,197 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.consolidation;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>ConsolidationJournal</code> records the consolidation plan and the moves that have been
+ * completed, so that an interrupted consolidation can resume without planning again.
+ *
+ * <p>The journal is a tab-separated text file stored in the target directory. The first line
+ * records the renaming rule used to create the plan, followed by one line per planned move and one
+ * line per completed move.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class ConsolidationJournal {
+  static final String JOURNAL_FILENAME = ".comixed-consolidation.journal";
+  static final String PLAN_RECORD = "PLAN";
+  static final String MOVE_RECORD = "MOVE";
+  static final String DONE_RECORD = "DONE";
+  private static final String SEPARATOR = "\t";
+
+  /**
+   * Returns the journal file for the given target directory.
+   *
+   * @param targetDirectory the target directory
+   * @return the journal file
+   */
+  public File getJournalFile(final String targetDirectory) {
+    return new File(targetDirectory, JOURNAL_FILENAME);
+  }
+
+  /**
+   * Loads the plan for the target directory. If the journal was created with a different renaming
+   * rule then it is discarded and an empty plan is returned.
+   *
+   * @param targetDirectory the target directory
+   * @param renamingRule the renaming rule
+   * @return the planned moves
+   * @throws IOException if an error occurs reading the journal
+   */
+  public List<ConsolidationMove> loadPlan(final String targetDirectory, final String renamingRule)
+      throws IOException {
+    final File journalFile = this.getJournalFile(targetDirectory);
+    final List<ConsolidationMove> result = new ArrayList<>();
+    if (!journalFile.exists()) {
+      log.trace("No consolidation journal found: {}", journalFile);
+      return result;
+    }
+    final List<String> lines = Files.readAllLines(journalFile.toPath(), StandardCharsets.UTF_8);
+    if (lines.isEmpty()
+        || !Objects.equals(
+            this.encodeRecord(PLAN_RECORD, this.toText(renamingRule)), lines.get(0))) {
+      log.debug("Discarding consolidation journal created with a different rule");
+      this.delete(targetDirectory);
+      return result;
+    }
+    final Map<Long, ConsolidationMove> moves = new HashMap<>();
+    for (int index = 1; index < lines.size(); index++) {
+      final String[] fields = lines.get(index).split(SEPARATOR, -1);
+      if (MOVE_RECORD.equals(fields[0]) && fields.length == 6) {
+        final ConsolidationMove move =
+            new ConsolidationMove(
+                Long.parseLong(fields[1]),
+                fields[2],
+                fields[3],
+                this.fromText(fields[4]),
+                this.fromText(fields[5]),
+                false);
+        moves.put(move.getComicBookId(), move);
+        result.add(move);
+      } else if (DONE_RECORD.equals(fields[0]) && fields.length == 2) {
+        final ConsolidationMove move = moves.get(Long.parseLong(fields[1]));
+        if (Objects.nonNull(move)) {
+          move.setCompleted(true);
+        }
+      } else {
+        log.warn("Ignoring malformed consolidation journal entry: line={}", index + 1);
+      }
+    }
+    log.debug(
+        "Loaded consolidation plan: moves={} completed={}",
+        result.size(),
+        result.stream().filter(ConsolidationMove::isCompleted).count());
+    return result;
+  }
+
+  /**
+   * Appends planned moves to the journal, creating it if needed.
+   *
+   * @param targetDirectory the target directory
+   * @param renamingRule the renaming rule
+   * @param moves the planned moves
+   * @throws IOException if an error occurs writing the journal
+   */
+  public synchronized void appendMoves(
+      final String targetDirectory, final String renamingRule, final List<ConsolidationMove> moves)
+      throws IOException {
+    final File journalFile = this.getJournalFile(targetDirectory);
+    final List<String> lines = new ArrayList<>();
+    if (!journalFile.exists()) {
+      log.trace("Creating consolidation journal: {}", journalFile);
+      Files.createDirectories(journalFile.getAbsoluteFile().getParentFile().toPath());
+      lines.add(this.encodeRecord(PLAN_RECORD, this.toText(renamingRule)));
+    }
+    moves.forEach(
+        move ->
+            lines.add(
+                this.encodeRecord(
+                    MOVE_RECORD,
+                    String.valueOf(move.getComicBookId()),
+                    move.getSource(),
+                    move.getTarget(),
+                    this.toText(move.getMetadataSource()),
+                    this.toText(move.getMetadataTarget()))));
+    Files.write(
+        journalFile.toPath(),
+        lines,
+        StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.APPEND);
+  }
+
+  /**
+   * Records that a planned move has been completed.
+   *
+   * @param targetDirectory the target directory
+   * @param move the move
+   * @throws IOException if an error occurs writing the journal
+   */
+  public synchronized void markCompleted(final String targetDirectory, final ConsolidationMove move)
+      throws IOException {
+    Files.write(
+        this.getJournalFile(targetDirectory).toPath(),
+        List.of(this.encodeRecord(DONE_RECORD, String.valueOf(move.getComicBookId()))),
+        StandardCharsets.UTF_8,
+        StandardOpenOption.APPEND);
+    move.setCompleted(true);
+  }
+
+  /**
+   * Deletes the journal for the target directory.
+   *
+   * @param targetDirectory the target directory
+   */
+  public void delete(final String targetDirectory) {
+    final File journalFile = this.getJournalFile(targetDirectory);
+    log.trace("Deleting consolidation journal: {}", journalFile);
+    try {
+      Files.deleteIfExists(journalFile.toPath());
+    } catch (IOException error) {
+      log.error("Failed to delete consolidation journal", error);
+    }
+  }
+
+  private String encodeRecord(final String... fields) {
+    return String.join(SEPARATOR, fields);
+  }
+
+  private String toText(final String value) {
+    return Objects.isNull(value) ? "" : value;
+  }
+
+  private String fromText(final String value) {
+    return value.isEmpty() ? null : value;
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.consolidation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * <code>ConsolidationMove</code> represents a single planned file move during consolidation.
+ *
+ * @author Darryl L. Pierce
+ */
+@AllArgsConstructor
+public class ConsolidationMove {
+  @Getter private long comicBookId;
+  @Getter private String source;
+  @Getter private String target;
+  @Getter private String metadataSource;
+  @Getter private String metadataTarget;
+  @Getter @Setter private boolean completed;
+}
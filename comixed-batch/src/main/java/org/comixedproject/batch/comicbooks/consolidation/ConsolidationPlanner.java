@@ -0,0 +1,138 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.consolidation;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang.SystemUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * <code>ConsolidationPlanner</code> resolves target filenames for a consolidation run entirely in
+ * memory. Each target directory is listed once, and every filename handed out is claimed so that no
+ * two planned moves can collide, which allows the plan to be executed in parallel.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class ConsolidationPlanner {
+  private final boolean caseInsensitive;
+  private final Map<String, Set<String>> directoryEntries = new HashMap<>();
+  private final Set<String> claimed = new HashSet<>();
+
+  public ConsolidationPlanner(final Collection<ConsolidationMove> existingMoves) {
+    this(existingMoves, SystemUtils.IS_OS_WINDOWS);
+  }
+
+  ConsolidationPlanner(
+      final Collection<ConsolidationMove> existingMoves, final boolean caseInsensitive) {
+    this.caseInsensitive = caseInsensitive;
+    existingMoves.forEach(
+        move -> {
+          this.claimed.add(this.toKey(move.getTarget()));
+          if (Objects.nonNull(move.getMetadataTarget())) {
+            this.claimed.add(this.toKey(move.getMetadataTarget()));
+          }
+        });
+  }
+
+  /**
+   * Finds the next available filename for a comic file, using the same naming scheme as the
+   * sequential consolidation: the root filename, then the root filename with an increasing numeric
+   * suffix.
+   *
+   * @param originalFilename the original filename
+   * @param filename the root filename
+   * @param extension the extension
+   * @return the filename to use
+   */
+  public String findAvailableFilename(
+      final String originalFilename, final String filename, final String extension) {
+    int attempt = 0;
+    while (true) {
+      final String candidate =
+          attempt > 0
+              ? String.format("%s-%d.%s", filename, attempt, extension)
+              : String.format("%s.%s", filename, extension);
+      if (StringUtils.pathEquals(originalFilename, candidate)) {
+        log.trace("Using original filename: {}", originalFilename);
+        this.claimed.add(this.toKey(candidate));
+        return originalFilename;
+      }
+      if (!this.isUsed(candidate)) {
+        log.trace("Claiming filename: {}", candidate);
+        this.claimed.add(this.toKey(candidate));
+        return candidate;
+      }
+      attempt++;
+    }
+  }
+
+  /**
+   * Claims a specific filename, such as the target for an external metadata file.
+   *
+   * @param filename the filename
+   */
+  public void claim(final String filename) {
+    this.claimed.add(this.toKey(filename));
+  }
+
+  /**
+   * Returns if the file exists on disk, using the cached directory listing.
+   *
+   * @param filename the filename
+   * @return true if the file exists
+   */
+  public boolean exists(final String filename) {
+    final File file = new File(filename).getAbsoluteFile();
+    final File parent = file.getParentFile();
+    if (Objects.isNull(parent)) return false;
+    return this.directoryEntries
+        .computeIfAbsent(this.toKey(parent.getPath()), key -> this.doListDirectory(parent))
+        .contains(this.toKey(file.getName()));
+  }
+
+  private boolean isUsed(final String filename) {
+    return this.claimed.contains(this.toKey(filename)) || this.exists(filename);
+  }
+
+  private Set<String> doListDirectory(final File directory) {
+    log.trace("Listing directory: {}", directory);
+    final String[] names = directory.list();
+    if (Objects.isNull(names)) return new HashSet<>();
+    return Arrays.stream(names).map(this::toKey).collect(Collectors.toSet());
+  }
+
+  private String toKey(final String filename) {
+    final String path =
+        filename.contains(File.separator) || filename.contains("/")
+            ? new File(filename).getAbsolutePath()
+            : filename;
+    return this.caseInsensitive ? path.toLowerCase(Locale.ROOT) : path;
+  }
+}
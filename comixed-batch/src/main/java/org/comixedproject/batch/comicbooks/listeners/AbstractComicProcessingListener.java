@@ -48,6 +48,9 @@ public abstract class AbstractComicProcessingListener {
     state.setStepName(context.getString(STEP_NAME));
     state.setTotal(context.getLong(TOTAL_COMICS));
     state.setProcessed(context.getLong(PROCESSED_COMICS));
+    if (context.containsKey(CHUNK_SIZE)) {
+      state.setChunkSize(context.getInt(CHUNK_SIZE));
+    }
     log.trace("Publishing add comics to library state");
     try {
       this.publishProcessComicsStatusAction.publish(state);
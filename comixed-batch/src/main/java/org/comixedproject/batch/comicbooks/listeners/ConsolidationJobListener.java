@@ -0,0 +1,54 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.listeners;
+
+import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_TARGET_DIRECTORY;
+
+import java.io.File;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationJournal;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>ConsolidationJobListener</code> removes the consolidation journal once the consolidation
+ * job has completed. A journal left by a failed run is kept so the next run can resume it.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class ConsolidationJobListener implements JobExecutionListener {
+  @Autowired private ConsolidationJournal consolidationJournal;
+
+  @Override
+  public void afterJob(final JobExecution jobExecution) {
+    if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+      log.debug("Consolidation did not complete, keeping journal");
+      return;
+    }
+    final String targetDirectory =
+        jobExecution.getJobParameters().getString(PARAM_TARGET_DIRECTORY);
+    log.trace("Removing consolidation journal");
+    this.consolidationJournal.delete(new File(targetDirectory).getAbsolutePath());
+  }
+}
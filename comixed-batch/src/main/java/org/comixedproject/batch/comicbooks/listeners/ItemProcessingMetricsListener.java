@@ -0,0 +1,86 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.listeners;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>ItemProcessingMetricsListener</code> records the time taken to process each comic book,
+ * tagged with the name of the step doing the processing, and publishes latency percentiles.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class ItemProcessingMetricsListener implements ItemProcessListener<ComicBook, ComicBook> {
+  static final String ITEM_PROCESS_METRIC = "comixed.batch.item.process";
+  static final String UNKNOWN_STEP = "unknown";
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+  private final ThreadLocal<Long> started = new ThreadLocal<>();
+
+  @Override
+  public void beforeProcess(final ComicBook item) {
+    this.started.set(System.nanoTime());
+  }
+
+  @Override
+  public void afterProcess(final ComicBook item, final ComicBook result) {
+    this.doRecordProcessing("success");
+  }
+
+  @Override
+  public void onProcessError(final ComicBook item, final Exception error) {
+    this.doRecordProcessing("failure");
+  }
+
+  private void doRecordProcessing(final String outcome) {
+    final Long start = this.started.get();
+    this.started.remove();
+    if (Objects.isNull(start)) return;
+    final String stepName = this.doGetStepName();
+    log.trace("Recording item processing time: step={} outcome={}", stepName, outcome);
+    Timer.builder(ITEM_PROCESS_METRIC)
+        .description("Time spent processing a single comic book in a batch step")
+        .tag("step", stepName)
+        .tag("outcome", outcome)
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .publishPercentileHistogram()
+        .register(this.meterRegistry)
+        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+
+  private String doGetStepName() {
+    final StepContext context = StepSynchronizationManager.getContext();
+    return Objects.isNull(context) ? UNKNOWN_STEP : context.getStepName();
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * ComiXed - A digital comic book library management application.
- * Copyright (C) 2021, The ComiXed Project
+ * Copyright (C) 2023, The ComiXed Project
  *
  * This program is free software: you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -16,28 +16,34 @@
  * along with this program. If not, see <http://www.gnu.org/licenses>
  */
 
-package org.comixedproject.batch.comicbooks.readers;
+package org.comixedproject.batch.comicbooks.listeners;
+
+import static org.comixedproject.model.messaging.batch.ProcessComicStatus.*;
 
-import java.util.List;
 import lombok.extern.log4j.Log4j2;
-import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.service.comicbooks.ComicBookService;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
- * <code>PurgeMarkedComicsReader</code> provides a reader that loads comics marked for purging.
+ * <code>ProcessComicStepListener</code> relays batch status while processing comics in a single
+ * pass.
  *
  * @author Darryl L. Pierce
  */
 @Component
 @Log4j2
-public class PurgeMarkedComicsReader extends AbstractComicReader {
+public class ProcessComicStepListener extends AbstractComicProcessingStepExecutionListener {
   @Autowired private ComicBookService comicBookService;
 
   @Override
-  protected List<ComicBook> doLoadComics() {
-    log.trace("Loading comics marked for purging");
-    return this.comicBookService.findComicsMarkedForPurging(this.getBatchChunkSize());
+  public void beforeStep(final StepExecution stepExecution) {
+    final ExecutionContext context = stepExecution.getJobExecution().getExecutionContext();
+    context.putString(STEP_NAME, PROCESS_COMIC_STEP_NAME);
+    log.trace("Getting comic count");
+    context.putLong(TOTAL_COMICS, this.comicBookService.getUnprocessedComicsCount());
+    this.doPublishState(context);
   }
 }
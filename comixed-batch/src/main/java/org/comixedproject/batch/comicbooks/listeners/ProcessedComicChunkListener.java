@@ -18,17 +18,19 @@
 
 package org.comixedproject.batch.comicbooks.listeners;
 
+import static org.comixedproject.model.messaging.batch.ProcessComicStatus.CHUNK_SIZE;
 import static org.comixedproject.model.messaging.batch.ProcessComicStatus.PROCESSED_COMICS;
 
 import lombok.extern.log4j.Log4j2;
 import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.stereotype.Component;
 
 /**
  * <code>ProcessedComicChunkListener</code> provides a chunk listener to relay the status of comics
- * processed.
+ * processed, along with the chunk size chosen for the step.
  *
  * @author Darryl L. Pierce
  */
@@ -52,11 +54,13 @@ public class ProcessedComicChunkListener extends AbstractComicProcessingListener
   }
 
   private void doPublishChunkState(ChunkContext context) {
-    final ExecutionContext executionContext =
-        context.getStepContext().getStepExecution().getJobExecution().getExecutionContext();
+    final StepExecution stepExecution = context.getStepContext().getStepExecution();
+    final ExecutionContext executionContext = stepExecution.getJobExecution().getExecutionContext();
     log.trace("Publishing status after chunk");
-    executionContext.putLong(
-        PROCESSED_COMICS, context.getStepContext().getStepExecution().getWriteCount());
+    executionContext.putLong(PROCESSED_COMICS, stepExecution.getWriteCount());
+    if (stepExecution.getExecutionContext().containsKey(CHUNK_SIZE)) {
+      executionContext.putInt(CHUNK_SIZE, stepExecution.getExecutionContext().getInt(CHUNK_SIZE));
+    }
     this.doPublishState(executionContext);
   }
 }
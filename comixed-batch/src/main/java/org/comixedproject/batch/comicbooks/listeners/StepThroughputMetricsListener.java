@@ -0,0 +1,69 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.listeners;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>StepThroughputMetricsListener</code> records the number of comic books written per second
+ * by each step once the step completes.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class StepThroughputMetricsListener implements StepExecutionListener {
+  static final String STEP_THROUGHPUT_METRIC = "comixed.batch.step.throughput";
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+  @Override
+  public ExitStatus afterStep(final StepExecution stepExecution) {
+    if (Objects.nonNull(stepExecution.getStartTime())) {
+      final long elapsed =
+          Math.max(
+              1L, Duration.between(stepExecution.getStartTime(), LocalDateTime.now()).toMillis());
+      final double throughput = stepExecution.getWriteCount() * 1000.0 / elapsed;
+      log.debug(
+          "Step throughput: step={} items={} items/sec={}",
+          stepExecution.getStepName(),
+          stepExecution.getWriteCount(),
+          throughput);
+      DistributionSummary.builder(STEP_THROUGHPUT_METRIC)
+          .description("Comic books written per second by a batch step")
+          .baseUnit("items/sec")
+          .tag("step", stepExecution.getStepName())
+          .register(this.meterRegistry)
+          .record(throughput);
+    }
+    return stepExecution.getExitStatus();
+  }
+}
@@ -75,36 +75,9 @@ public class CreateMetadataSourceProcessor
                 .readValue(new ByteArrayInputStream(content), ComicInfo.class);
         if (comicInfo.getMetadata() != null) {
           final ComicInfoMetadataSource metadata = comicInfo.getMetadata();
-          final String name = metadata.getName();
-          final String referenceId = metadata.getReferenceId();
-          log.debug("Looking up metadata source: {}", name);
-          final MetadataSource source = this.metadataSourceService.getByName(name);
-          if (source != null) {
-            log.debug("Creating {} metadata source reference", name);
-            comicBook.setMetadata(new ComicMetadataSource(comicBook, source, referenceId));
-          } else {
-            log.debug("No such metadata source");
-          }
+          this.createMetadataSource(comicBook, metadata.getName(), metadata.getReferenceId(), null);
         } else {
-          final String web = comicInfo.getWeb();
-          if (StringUtils.hasLength(web)) {
-            log.trace("Loading ComicVine metadata source");
-            final MetadataSource source =
-                this.metadataSourceService.getByAdaptorName(COMIC_VINE_METADATA_ADAPTOR);
-            if (source != null) {
-
-              log.trace("Checking if web address is for ComicVine: {}", web);
-              final Matcher matcher = this.pattern.matcher(web);
-              if (matcher.matches()) {
-                log.trace("Web address matches: extracting ComicVine ID");
-                final String comicVineId = matcher.group(1);
-                log.trace("Creating ComicVine metadata source reference");
-                comicBook.setMetadata(new ComicMetadataSource(comicBook, source, comicVineId));
-              }
-            } else {
-              log.debug("ComicVine metadata source not found");
-            }
-          }
+          this.createMetadataSource(comicBook, null, null, comicInfo.getWeb());
         }
       }
     } catch (Exception error) {
@@ -112,4 +85,46 @@ public class CreateMetadataSourceProcessor
     }
     return comicBook;
   }
+
+  /**
+   * Creates the metadata source reference for a comic from its ComicInfo.xml details. A named
+   * metadata source is used if present, otherwise a ComicVine web address is used.
+   *
+   * @param comicBook the comic book
+   * @param name the metadata source name
+   * @param referenceId the metadata reference id
+   * @param webAddress the web address
+   */
+  public void createMetadataSource(
+      final ComicBook comicBook,
+      final String name,
+      final String referenceId,
+      final String webAddress) {
+    if (StringUtils.hasLength(name)) {
+      log.debug("Looking up metadata source: {}", name);
+      final MetadataSource source = this.metadataSourceService.getByName(name);
+      if (source != null) {
+        log.debug("Creating {} metadata source reference", name);
+        comicBook.setMetadata(new ComicMetadataSource(comicBook, source, referenceId));
+      } else {
+        log.debug("No such metadata source");
+      }
+    } else if (StringUtils.hasLength(webAddress)) {
+      log.trace("Loading ComicVine metadata source");
+      final MetadataSource source =
+          this.metadataSourceService.getByAdaptorName(COMIC_VINE_METADATA_ADAPTOR);
+      if (source != null) {
+        log.trace("Checking if web address is for ComicVine: {}", webAddress);
+        final Matcher matcher = this.pattern.matcher(webAddress);
+        if (matcher.matches()) {
+          log.trace("Web address matches: extracting ComicVine ID");
+          final String comicVineId = matcher.group(1);
+          log.trace("Creating ComicVine metadata source reference");
+          comicBook.setMetadata(new ComicMetadataSource(comicBook, source, comicVineId));
+        }
+      } else {
+        log.debug("ComicVine metadata source not found");
+      }
+    }
+  }
 }
@@ -26,6 +26,7 @@ import org.apache.commons.io.FileUtils;
 import org.comixedproject.adaptors.comicbooks.ComicBookAdaptor;
 import org.comixedproject.adaptors.content.ComicMetadataContentAdaptor;
 import org.comixedproject.adaptors.content.ContentAdaptorRules;
+import org.comixedproject.batch.scheduling.BatchIoBudget;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobParameters;
@@ -46,6 +47,7 @@ public class LoadFileContentsProcessor
     implements ItemProcessor<ComicBook, ComicBook>, StepExecutionListener {
   @Autowired private ComicBookAdaptor comicBookAdaptor;
   @Autowired private ComicMetadataContentAdaptor comicMetadataContentAdaptor;
+  @Autowired private BatchIoBudget batchIoBudget;
 
   private JobParameters jobParameters;
 
@@ -58,6 +60,7 @@ public class LoadFileContentsProcessor
             : false);
     log.debug("Loading comicBook file contents: id={} rules={}", comicBook.getId(), rules);
     try {
+      this.batchIoBudget.acquire(comicBook, 1);
       this.comicBookAdaptor.load(comicBook, rules);
       log.trace("Sorting comicBook pages");
       comicBook.getPages().sort((o1, o2) -> o1.getFilename().compareTo(o2.getFilename()));
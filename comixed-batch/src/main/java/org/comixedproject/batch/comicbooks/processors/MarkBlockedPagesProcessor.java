@@ -20,21 +20,32 @@ package org.comixedproject.batch.comicbooks.processors;
 
 import static org.comixedproject.batch.comicbooks.AddComicsConfiguration.PARAM_SKIP_BLOCKING_PAGES;
 
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.model.comicpages.Page;
+import org.comixedproject.model.comicpages.PageHash;
 import org.comixedproject.model.comicpages.PageState;
 import org.comixedproject.service.comicpages.BlockedHashService;
+import org.comixedproject.service.comicpages.PageService;
+import org.comixedproject.service.comicpages.PerceptualHashTree;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
  * <code>MarkBlockedPagesProcessor</code> processes comics, marking blocked pages for deletion.
  *
+ * <p>When a similar distance is configured, pages whose perceptual hash is within that many bits of
+ * a blocked page's perceptual hash are also marked for deletion.
+ *
  * @author Darryl L. Pierce
  */
 @Component
@@ -42,8 +53,14 @@ import org.springframework.stereotype.Component;
 public class MarkBlockedPagesProcessor
     implements ItemProcessor<ComicBook, ComicBook>, StepExecutionListener {
   @Autowired private BlockedHashService blockedHashService;
+  @Autowired private PageService pageService;
+
+  @Value("${comixed.batch.mark-blocked-pages.similar-distance:0}")
+  int similarDistance = 0;
 
   private JobParameters jobParameters;
+  private Set<PageHash> blockedHashes = new HashSet<>();
+  private PerceptualHashTree<Long> blockedPerceptualHashes = new PerceptualHashTree<>();
 
   @Override
   public ComicBook process(final ComicBook comicBook) {
@@ -59,9 +76,10 @@ public class MarkBlockedPagesProcessor
         .getPages()
         .forEach(
             page -> {
-              final String hash = page.getHash();
+              final PageHash hash = page.getPageHash();
               log.trace("Checking if page has is blocked: {}", hash);
-              final boolean deleted = this.blockedHashService.isHashBlocked(hash);
+              final boolean deleted =
+                  this.blockedHashes.contains(hash) || this.isSimilarToBlockedPage(page);
               log.trace("Setting deleted state: {}", deleted);
               page.setPageState(deleted ? PageState.DELETED : PageState.STABLE);
             });
@@ -71,6 +89,21 @@ public class MarkBlockedPagesProcessor
   @Override
   public void beforeStep(final StepExecution stepExecution) {
     this.jobParameters = stepExecution.getJobExecution().getJobParameters();
+    log.trace("Loading blocked page hashes");
+    this.blockedHashes = new HashSet<>(this.blockedHashService.getHashes());
+    this.blockedPerceptualHashes = new PerceptualHashTree<>();
+    if (this.similarDistance > 0) {
+      log.trace("Loading blocked perceptual hashes");
+      this.pageService
+          .getBlockedPerceptualHashes()
+          .forEach(hash -> this.blockedPerceptualHashes.add(hash, hash));
+    }
+  }
+
+  private boolean isSimilarToBlockedPage(final Page page) {
+    final Long perceptualHash = page.getPerceptualHash();
+    return Objects.nonNull(perceptualHash)
+        && this.blockedPerceptualHashes.containsWithin(perceptualHash, this.similarDistance);
   }
 
   @Override
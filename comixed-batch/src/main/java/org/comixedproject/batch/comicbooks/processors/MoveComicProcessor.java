@@ -22,13 +22,15 @@ import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PAR
 import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_TARGET_DIRECTORY;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import lombok.extern.log4j.Log4j2;
-import org.comixedproject.adaptors.comicbooks.ComicBookAdaptor;
-import org.comixedproject.adaptors.comicbooks.ComicFileAdaptor;
-import org.comixedproject.adaptors.file.FileAdaptor;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationJournal;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationMove;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.springframework.batch.core.ExitStatus;
-import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.item.ItemProcessor;
@@ -36,8 +38,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
- * <code>MoveComicProcessor</code> performs the action of moving comics during the consolidation
- * process.
+ * <code>MoveComicProcessor</code> updates the filename of each consolidated comic using the moves
+ * completed by the consolidation plan. No file is moved here.
  *
  * @author Darryl L. Pierce
  */
@@ -45,73 +47,41 @@ import org.springframework.stereotype.Component;
 @Log4j2
 public class MoveComicProcessor
     implements ItemProcessor<ComicBook, ComicBook>, StepExecutionListener {
-  @Autowired private FileAdaptor fileAdaptor;
-  @Autowired private ComicFileAdaptor comicFileAdaptor;
-  @Autowired private ComicBookAdaptor comicBookAdaptor;
+  @Autowired private ConsolidationJournal consolidationJournal;
 
-  JobParameters jobParameters;
+  Map<Long, ConsolidationMove> moves = new HashMap<>();
 
   @Override
   public ComicBook process(final ComicBook comicBook) {
-    log.debug("Getting target directory: id={}", comicBook.getId());
-    final File targetDirectory = new File(this.jobParameters.getString(PARAM_TARGET_DIRECTORY));
-    log.trace("Getting renaming rule");
-    final String renamingRule = this.jobParameters.getString(PARAM_RENAMING_RULE);
-
-    try {
-      log.trace("Creating target directory (if needed)");
-      this.fileAdaptor.createDirectory(targetDirectory);
-      log.trace("Getting comicBook extension");
-      final String comicExtension = comicBook.getComicDetail().getArchiveType().getExtension();
-      log.trace("Generating new comicBook filename");
-      String rebuiltFilename =
-          this.comicFileAdaptor.createFilenameFromRule(
-              comicBook, renamingRule, targetDirectory.getAbsolutePath());
-      final File metadataSourceFile =
-          new File(this.comicBookAdaptor.getMetadataFilename(comicBook));
-      log.trace("Finding available filename");
-      File comicDetailFile = comicBook.getComicDetail().getFile();
-      rebuiltFilename =
-          this.comicFileAdaptor.findAvailableFilename(
-              comicBook.getComicDetail().getFilename(), rebuiltFilename, 0, comicExtension);
-      File rebuiltFile = new File(rebuiltFilename);
-      if (!this.fileAdaptor.sameFile(rebuiltFile, comicDetailFile)) {
-        log.debug(
-            "Moving comicBook file: {} => {}",
-            comicDetailFile.getAbsolutePath(),
-            rebuiltFile.getAbsolutePath());
-        this.fileAdaptor.moveFile(comicDetailFile, rebuiltFile);
-        log.trace("Updating comicBook filename: {}", rebuiltFile.getAbsoluteFile());
-        comicBook.getComicDetail().setFilename(rebuiltFile.getAbsolutePath());
-      } else {
-        log.debug("Not moving file: already at destination");
-      }
-
-      if (metadataSourceFile.exists()) {
-        File metadataTargetFile = new File(this.comicBookAdaptor.getMetadataFilename(comicBook));
-        if (!this.fileAdaptor.sameFile(metadataSourceFile, metadataTargetFile)) {
-          log.trace(
-              "Moving comic metadata file: {} => {}",
-              metadataSourceFile.getAbsolutePath(),
-              metadataTargetFile.getAbsolutePath());
-          this.fileAdaptor.moveFile(metadataSourceFile, metadataTargetFile);
-        }
-      }
-    } catch (Exception error) {
-      log.error("Failed to move comics", error);
+    final ConsolidationMove move = this.moves.get(comicBook.getId());
+    if (Objects.isNull(move) || !move.isCompleted()) {
+      log.debug("Comic was not moved: id={}", comicBook.getId());
+    } else {
+      log.trace("Updating comic filename: id={} {}", comicBook.getId(), move.getTarget());
+      comicBook.getComicDetail().setFilename(move.getTarget());
     }
-
     return comicBook;
   }
 
   @Override
   public void beforeStep(final StepExecution stepExecution) {
-    log.trace("Loading execution context");
-    this.jobParameters = stepExecution.getJobExecution().getJobParameters();
+    log.trace("Loading consolidation plan");
+    final var jobParameters = stepExecution.getJobExecution().getJobParameters();
+    this.moves = new HashMap<>();
+    try {
+      this.consolidationJournal
+          .loadPlan(
+              new File(jobParameters.getString(PARAM_TARGET_DIRECTORY)).getAbsolutePath(),
+              jobParameters.getString(PARAM_RENAMING_RULE))
+          .forEach(move -> this.moves.put(move.getComicBookId(), move));
+    } catch (IOException error) {
+      log.error("Failed to load consolidation plan", error);
+    }
   }
 
   @Override
   public ExitStatus afterStep(final StepExecution stepExecution) {
+    this.moves = new HashMap<>();
     return null;
   }
 }
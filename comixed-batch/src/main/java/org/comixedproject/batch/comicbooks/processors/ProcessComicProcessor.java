@@ -0,0 +1,96 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.processors;
+
+import static org.comixedproject.batch.comicbooks.AddComicsConfiguration.PARAM_SKIP_METADATA;
+
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>ProcessComicProcessor</code> processes a comic in a single pass. The comic file is opened
+ * once to load its contents, blocked pages are then marked and the metadata source is created from
+ * the ComicInfo.xml details that were loaded with the contents.
+ *
+ * <p>Any work already completed for the comic, such as by an earlier run of the separate processing
+ * steps, is skipped.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class ProcessComicProcessor
+    implements ItemProcessor<ComicBook, ComicBook>, StepExecutionListener {
+  @Autowired private LoadFileContentsProcessor loadFileContentsProcessor;
+  @Autowired private MarkBlockedPagesProcessor markBlockedPagesProcessor;
+  @Autowired private CreateMetadataSourceProcessor createMetadataSourceProcessor;
+
+  private JobParameters jobParameters;
+
+  @Override
+  public ComicBook process(final ComicBook comicBook) throws Exception {
+    final boolean loadContents = !comicBook.isFileContentsLoaded();
+    if (loadContents) {
+      log.debug("Loading comic file contents: id={}", comicBook.getId());
+      this.loadFileContentsProcessor.process(comicBook);
+    }
+    if (!comicBook.isBlockedPagesMarked()) {
+      log.debug("Marking blocked pages: id={}", comicBook.getId());
+      this.markBlockedPagesProcessor.process(comicBook);
+    }
+    if (comicBook.isCreateMetadataSource()) {
+      if (loadContents && !this.isSkipMetadata()) {
+        log.debug("Creating metadata source from loaded details: id={}", comicBook.getId());
+        this.createMetadataSourceProcessor.createMetadataSource(
+            comicBook,
+            comicBook.getMetadataSourceName(),
+            comicBook.getMetadataReferenceId(),
+            comicBook.getMetadataWebAddress());
+      } else {
+        log.debug("Creating metadata source from comic file: id={}", comicBook.getId());
+        this.createMetadataSourceProcessor.process(comicBook);
+      }
+    }
+    return comicBook;
+  }
+
+  private boolean isSkipMetadata() {
+    return this.jobParameters.getParameters().containsKey(PARAM_SKIP_METADATA)
+        && Boolean.valueOf(this.jobParameters.getString(PARAM_SKIP_METADATA));
+  }
+
+  @Override
+  public void beforeStep(final StepExecution stepExecution) {
+    this.jobParameters = stepExecution.getJobExecution().getJobParameters();
+    this.loadFileContentsProcessor.beforeStep(stepExecution);
+    this.markBlockedPagesProcessor.beforeStep(stepExecution);
+  }
+
+  @Override
+  public ExitStatus afterStep(final StepExecution stepExecution) {
+    return null;
+  }
+}
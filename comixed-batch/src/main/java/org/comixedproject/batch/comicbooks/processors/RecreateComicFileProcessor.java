@@ -25,6 +25,7 @@ import static org.comixedproject.service.admin.ConfigurationService.CFG_LIBRARY_
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.adaptors.AdaptorException;
 import org.comixedproject.adaptors.comicbooks.ComicBookAdaptor;
+import org.comixedproject.batch.scheduling.BatchIoBudget;
 import org.comixedproject.model.archives.ArchiveType;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.service.admin.ConfigurationService;
@@ -47,6 +48,7 @@ public class RecreateComicFileProcessor
     implements ItemProcessor<ComicBook, ComicBook>, StepExecutionListener {
   @Autowired private ComicBookAdaptor comicBookAdaptor;
   @Autowired private ConfigurationService configurationService;
+  @Autowired private BatchIoBudget batchIoBudget;
 
   private JobParameters jobParameters;
 
@@ -58,6 +60,7 @@ public class RecreateComicFileProcessor
     final boolean removeDeletedPages =
         Boolean.parseBoolean(this.jobParameters.getString(JOB_DELETE_MARKED_PAGES));
     try {
+      this.batchIoBudget.acquire(comicBook, 2);
       log.trace("Recreating comicBook files");
       this.comicBookAdaptor.save(
           comicBook,
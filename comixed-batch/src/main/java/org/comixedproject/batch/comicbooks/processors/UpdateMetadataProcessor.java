@@ -21,6 +21,7 @@ package org.comixedproject.batch.comicbooks.processors;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.adaptors.AdaptorException;
 import org.comixedproject.adaptors.comicbooks.ComicBookAdaptor;
+import org.comixedproject.batch.scheduling.BatchIoBudget;
 import org.comixedproject.model.archives.ArchiveType;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.service.admin.ConfigurationService;
@@ -38,6 +39,7 @@ import org.springframework.stereotype.Component;
 public class UpdateMetadataProcessor implements ItemProcessor<ComicBook, ComicBook> {
   @Autowired private ComicBookAdaptor comicBookAdaptor;
   @Autowired private ConfigurationService configurationService;
+  @Autowired private BatchIoBudget batchIoBudget;
 
   @Override
   public ComicBook process(final ComicBook comicBook) {
@@ -65,6 +67,7 @@ public class UpdateMetadataProcessor implements ItemProcessor<ComicBook, ComicBo
     }
 
     try {
+      this.batchIoBudget.acquire(comicBook, 2);
       log.debug("Updating comic book metadata: id={}", comicBook.getId());
       this.comicBookAdaptor.save(comicBook, comicBook.getComicDetail().getArchiveType(), false, "");
     } catch (AdaptorException error) {
@@ -1,6 +1,6 @@
 /*
  * ComiXed - A digital comic book library management application.
- * Copyright (C) 2021, The ComiXed Project
+ * Copyright (C) 2023, The ComiXed Project
  *
  * This program is free software: you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -18,49 +18,134 @@
 
 package org.comixedproject.batch.comicbooks.readers;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Objects;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.model.comicbooks.ComicBook;
-import org.springframework.batch.item.ItemReader;
+import org.comixedproject.repositories.comicbooks.ComicBookSelection;
+import org.comixedproject.service.comicbooks.ComicBookService;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 
 /**
- * <code>AbstractComicReader</code> provides a foundation for building new {@link ItemReader}
+ * <code>AbstractComicReader</code> provides a foundation for building new {@link ItemStreamReader}
  * classes that work with instances of {@link ComicBook}.
  *
+ * <p>When opened the reader records the highest id in its {@link ComicBookSelection}, then walks
+ * the matching ids in ascending order, one page at a time, never going past that id. Comics are
+ * loaded with their details and pages a chunk at a time. The id of the last comic returned is saved
+ * in the step's execution context so that a restarted step resumes after it.
+ *
  * @author Darryl L. Pierce
  */
 @Log4j2
-public abstract class AbstractComicReader implements ItemReader<ComicBook> {
+public abstract class AbstractComicReader implements ItemStreamReader<ComicBook> {
+  static final String LAST_ID_KEY = "comic-reader.last-id";
+  static final String MAX_ID_KEY = "comic-reader.max-id";
+
+  @Autowired private ComicBookService comicBookService;
+
   @Value("${comixed.batch.chunk-size}")
   @Getter
   private int batchChunkSize = 10;
 
-  @Getter @Setter List<ComicBook> comicBookList = null;
+  @Value("${comixed.batch.reader.id-page-size:1000}")
+  @Getter
+  private int idPageSize = 1000;
+
+  final Deque<Long> idList = new ArrayDeque<>();
+  final Deque<ComicBook> comicBookList = new ArrayDeque<>();
+  boolean opened = false;
+  long lastQueuedId = 0L;
+  long lastReadId = 0L;
+  long maxId = 0L;
+
+  @Override
+  public void open(final ExecutionContext executionContext) {
+    this.idList.clear();
+    this.comicBookList.clear();
+    if (executionContext.containsKey(LAST_ID_KEY)) {
+      this.lastReadId = executionContext.getLong(LAST_ID_KEY);
+      this.maxId = executionContext.getLong(MAX_ID_KEY);
+      log.debug("Resuming comic reader: last id={} max id={}", this.lastReadId, this.maxId);
+    } else {
+      this.lastReadId = 0L;
+      final Long id = this.comicBookService.getMaxIdForSelection(this.getSelection());
+      this.maxId = Objects.isNull(id) ? 0L : id;
+      log.debug("Opening comic reader: selection={} max id={}", this.getSelection(), this.maxId);
+    }
+    this.lastQueuedId = this.lastReadId;
+    this.opened = true;
+  }
+
+  @Override
+  public void update(final ExecutionContext executionContext) {
+    executionContext.putLong(LAST_ID_KEY, this.lastReadId);
+    executionContext.putLong(MAX_ID_KEY, this.maxId);
+  }
+
+  @Override
+  public void close() {
+    log.trace("Closing comic reader");
+    this.idList.clear();
+    this.comicBookList.clear();
+    this.opened = false;
+  }
 
   @Override
   public ComicBook read() {
-    if (this.comicBookList == null || this.comicBookList.isEmpty()) {
-      log.trace("Load more comics to process");
-      this.comicBookList = this.doLoadComics();
+    if (!this.opened) {
+      this.open(new ExecutionContext());
     }
 
-    if (this.comicBookList.isEmpty()) {
-      log.trace("No comics to process");
-      this.comicBookList = null;
-      return null;
+    while (this.comicBookList.isEmpty()) {
+      if (!this.doLoadComics()) {
+        log.trace("No comics to process");
+        return null;
+      }
     }
 
     log.trace("Returning next comic to process");
-    return this.comicBookList.remove(0);
+    final ComicBook comicBook = this.comicBookList.removeFirst();
+    this.lastReadId = comicBook.getId();
+    return comicBook;
+  }
+
+  private boolean doLoadComics() {
+    if (this.idList.isEmpty() && this.lastQueuedId < this.maxId) {
+      log.trace("Loading more comic ids: after={}", this.lastQueuedId);
+      final List<Long> ids =
+          this.comicBookService.findIdsForSelection(
+              this.getSelection(), this.lastQueuedId, this.maxId, this.idPageSize);
+      if (ids.isEmpty()) {
+        this.lastQueuedId = this.maxId;
+      } else {
+        this.lastQueuedId = ids.get(ids.size() - 1);
+        this.idList.addAll(ids);
+      }
+    }
+    if (this.idList.isEmpty()) return false;
+
+    final List<Long> ids = new ArrayList<>();
+    while (!this.idList.isEmpty() && ids.size() < this.batchChunkSize) {
+      ids.add(this.idList.removeFirst());
+    }
+    log.trace("Loading more comics to process: count={}", ids.size());
+    this.comicBookList.addAll(
+        this.comicBookService.findComicsWithDetailsAndPages(this.getSelection(), ids));
+    return true;
   }
 
   /**
-   * Called to load more comics to be processed.
+   * Returns the selection of comics to be processed.
    *
-   * @return the comics
+   * @return the selection
    */
-  protected abstract List<ComicBook> doLoadComics();
+  protected abstract ComicBookSelection getSelection();
 }
@@ -18,21 +18,14 @@
 
 package org.comixedproject.batch.comicbooks.readers;
 
-import java.util.List;
-import lombok.extern.log4j.Log4j2;
-import org.comixedproject.model.comicbooks.ComicBook;
-import org.comixedproject.service.comicbooks.ComicBookService;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.comixedproject.repositories.comicbooks.ComicBookSelection;
 import org.springframework.stereotype.Component;
 
 /** <code>CreateMetadataSourceReader</code> loads comics that have the */
 @Component
-@Log4j2
 public class CreateMetadataSourceReader extends AbstractComicReader {
-  @Autowired private ComicBookService comicBookService;
-
   @Override
-  protected List<ComicBook> doLoadComics() {
-    return this.comicBookService.findComicsWithCreateMetadataFlagSet(this.getBatchChunkSize());
+  protected ComicBookSelection getSelection() {
+    return ComicBookSelection.UNPROCESSED_WITH_CREATE_METADATA_SOURCE;
   }
 }
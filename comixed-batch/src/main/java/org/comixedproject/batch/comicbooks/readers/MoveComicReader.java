@@ -18,11 +18,7 @@
 
 package org.comixedproject.batch.comicbooks.readers;
 
-import java.util.List;
-import lombok.extern.log4j.Log4j2;
-import org.comixedproject.model.comicbooks.ComicBook;
-import org.comixedproject.service.comicbooks.ComicBookService;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.comixedproject.repositories.comicbooks.ComicBookSelection;
 import org.springframework.stereotype.Component;
 
 /**
@@ -31,13 +27,9 @@ import org.springframework.stereotype.Component;
  * @author Darryl L. Pierce
  */
 @Component
-@Log4j2
 public class MoveComicReader extends AbstractComicReader {
-  @Autowired private ComicBookService comicBookService;
-
   @Override
-  protected List<ComicBook> doLoadComics() {
-    log.trace("Loading comics to be moved");
-    return this.comicBookService.findComicsToBeMoved(this.getBatchChunkSize());
+  protected ComicBookSelection getSelection() {
+    return ComicBookSelection.TO_BE_MOVED;
   }
 }
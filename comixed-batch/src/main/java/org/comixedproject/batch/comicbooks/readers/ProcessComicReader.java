@@ -1,6 +1,6 @@
 /*
  * ComiXed - A digital comic book library management application.
- * Copyright (C) 2021, The ComiXed Project
+ * Copyright (C) 2023, The ComiXed Project
  *
  * This program is free software: you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -18,26 +18,18 @@
 
 package org.comixedproject.batch.comicbooks.readers;
 
-import java.util.List;
-import lombok.extern.log4j.Log4j2;
-import org.comixedproject.model.comicbooks.ComicBook;
-import org.comixedproject.service.comicbooks.ComicBookService;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.comixedproject.repositories.comicbooks.ComicBookSelection;
 import org.springframework.stereotype.Component;
 
 /**
- * <code>DeleteComicReader</code> returns comics that are marked for removing from the library.
+ * <code>ProcessComicReader</code> loads unprocessed comics for single pass processing.
  *
  * @author Darryl L. Pierce
  */
 @Component
-@Log4j2
-public class DeleteComicReader extends AbstractComicReader {
-  @Autowired private ComicBookService comicBookService;
-
+public class ProcessComicReader extends AbstractComicReader {
   @Override
-  protected List<ComicBook> doLoadComics() {
-    log.trace("Loading comics in the DELETED state");
-    return this.comicBookService.findComicsMarkedForDeletion(this.getBatchChunkSize());
+  protected ComicBookSelection getSelection() {
+    return ComicBookSelection.UNPROCESSED;
   }
 }
@@ -0,0 +1,115 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.tasklets;
+
+import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_DELETE_REMOVED_COMIC_FILES;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.adaptors.comicbooks.ComicBookAdaptor;
+import org.comixedproject.adaptors.file.FileAdaptor;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.service.comicbooks.ComicBookService;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * <code>DeleteComicsTasklet</code> removes comics that have been marked for deletion from the
+ * database during consolidation. Each pass purges one batch with set-based deletes and then, if
+ * requested, removes the physical files for that batch once the purge is committed.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class DeleteComicsTasklet implements Tasklet {
+  @Autowired private ComicBookService comicBookService;
+  @Autowired private FileAdaptor fileAdaptor;
+  @Autowired private ComicBookAdaptor comicBookAdaptor;
+
+  @Value("${comixed.batch.purge.batch-size:500}")
+  private int batchSize = 500;
+
+  @Override
+  public RepeatStatus execute(final StepContribution contribution, final ChunkContext chunkContext)
+      throws Exception {
+    log.trace("Loading batch of comics marked for deletion");
+    final List<ComicBook> comicBooks =
+        this.comicBookService.findComicsMarkedForDeletion(this.batchSize);
+    if (comicBooks.isEmpty()) {
+      log.debug("No comics remaining to be deleted");
+      return RepeatStatus.FINISHED;
+    }
+
+    final boolean deleteFiles =
+        Boolean.parseBoolean(
+            contribution
+                .getStepExecution()
+                .getJobParameters()
+                .getString(PARAM_DELETE_REMOVED_COMIC_FILES, String.valueOf(false)));
+    final List<Long> ids = new ArrayList<>();
+    final List<File> files = new ArrayList<>();
+    comicBooks.forEach(
+        comicBook -> {
+          ids.add(comicBook.getId());
+          if (deleteFiles) {
+            files.add(comicBook.getComicDetail().getFile());
+            files.add(new File(this.comicBookAdaptor.getMetadataFilename(comicBook)));
+          }
+        });
+
+    log.debug("Removing comics from database: count={}", ids.size());
+    this.comicBookService.purgeComicBooks(ids);
+    contribution.incrementWriteCount(ids.size());
+
+    if (deleteFiles) {
+      this.doAfterCommit(() -> this.doDeleteFiles(files));
+    }
+    return RepeatStatus.CONTINUABLE;
+  }
+
+  private void doDeleteFiles(final List<File> files) {
+    log.debug("Deleting physical files: count={}", files.size());
+    files.forEach(file -> this.fileAdaptor.deleteFile(file));
+  }
+
+  private void doAfterCommit(final Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    log.trace("Deferring physical file deletion until commit");
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
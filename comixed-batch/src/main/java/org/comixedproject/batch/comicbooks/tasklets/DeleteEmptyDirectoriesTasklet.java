@@ -0,0 +1,103 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.tasklets;
+
+import static org.comixedproject.service.admin.ConfigurationService.CFG_LIBRARY_DELETE_EMPTY_DIRECTORIES;
+import static org.comixedproject.service.admin.ConfigurationService.CFG_LIBRARY_ROOT_DIRECTORY;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.adaptors.file.FileAdaptor;
+import org.comixedproject.service.admin.ConfigurationService;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * <code>DeleteEmptyDirectoriesTasklet</code> deletes all empty directories below the library root
+ * in a single bottom-up pass, so that a directory left empty by deleting its children is also
+ * removed.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class DeleteEmptyDirectoriesTasklet implements Tasklet {
+  @Autowired private ConfigurationService configurationService;
+  @Autowired private FileAdaptor fileAdaptor;
+
+  @Override
+  public RepeatStatus execute(final StepContribution contribution, final ChunkContext chunkContext)
+      throws Exception {
+    log.trace("Loading library root directory");
+    final String rootDirectory =
+        this.configurationService.getOptionValue(CFG_LIBRARY_ROOT_DIRECTORY);
+    if (!StringUtils.hasLength(rootDirectory)) {
+      log.error("No root directory defined");
+      return RepeatStatus.FINISHED;
+    }
+    log.trace("Checking if empty directories are to be deleted");
+    final boolean deleteEmptyDirectories =
+        Boolean.parseBoolean(
+            this.configurationService.getOptionValue(
+                CFG_LIBRARY_DELETE_EMPTY_DIRECTORIES, Boolean.FALSE.toString()));
+    if (!deleteEmptyDirectories) {
+      log.trace("Not deleting empty directories: aborting...");
+      return RepeatStatus.FINISHED;
+    }
+
+    final Path root = new File(rootDirectory).toPath();
+    if (!Files.isDirectory(root)) {
+      log.error("Root directory not found: {}", rootDirectory);
+      return RepeatStatus.FINISHED;
+    }
+    log.debug("Deleting empty directories under: {}", rootDirectory);
+    Files.walkFileTree(
+        root,
+        new SimpleFileVisitor<>() {
+          @Override
+          public FileVisitResult postVisitDirectory(final Path directory, final IOException error)
+              throws IOException {
+            if (!directory.equals(root) && isEmpty(directory)) {
+              log.trace("Deleting empty directory: {}", directory);
+              fileAdaptor.deleteDirectory(directory.toFile());
+              contribution.incrementWriteCount(1);
+            }
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    return RepeatStatus.FINISHED;
+  }
+
+  private boolean isEmpty(final Path directory) throws IOException {
+    try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+      return !entries.iterator().hasNext();
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.tasklets;
+
+import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_RENAMING_RULE;
+import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_TARGET_DIRECTORY;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.adaptors.file.FileAdaptor;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationJournal;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationMove;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.UnexpectedJobExecutionException;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>ExecuteConsolidationPlanTasklet</code> performs the file moves recorded in the
+ * consolidation plan. Target directories are created up front, and the moves are then run on a
+ * bounded pool of I/O threads. Each completed move is journaled so that an interrupted run only
+ * performs the remaining moves.
+ *
+ * <p>If any move fails then the step fails, so that the journal is kept and the remaining moves are
+ * performed when the consolidation is run again.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class ExecuteConsolidationPlanTasklet implements Tasklet {
+  @Autowired private FileAdaptor fileAdaptor;
+  @Autowired private ConsolidationJournal consolidationJournal;
+
+  @Value("${comixed.batch.consolidation.io-threads:4}")
+  private int ioThreads = 4;
+
+  @Override
+  public RepeatStatus execute(final StepContribution contribution, final ChunkContext chunkContext)
+      throws Exception {
+    final JobParameters jobParameters = contribution.getStepExecution().getJobParameters();
+    final String targetDirectory =
+        new File(jobParameters.getString(PARAM_TARGET_DIRECTORY)).getAbsolutePath();
+    final String renamingRule = jobParameters.getString(PARAM_RENAMING_RULE);
+
+    log.trace("Loading consolidation plan");
+    final List<ConsolidationMove> moves =
+        this.consolidationJournal.loadPlan(targetDirectory, renamingRule).stream()
+            .filter(move -> !move.isCompleted())
+            .toList();
+    if (moves.isEmpty()) {
+      log.debug("No consolidation moves remaining");
+      return RepeatStatus.FINISHED;
+    }
+
+    log.trace("Creating target directories");
+    for (File directory :
+        moves.stream()
+            .map(move -> new File(move.getTarget()).getAbsoluteFile().getParentFile())
+            .distinct()
+            .toList()) {
+      this.fileAdaptor.createDirectory(directory);
+    }
+
+    log.debug("Executing consolidation plan: moves={} threads={}", moves.size(), this.ioThreads);
+    final AtomicLong completed = new AtomicLong(0L);
+    final AtomicLong failed = new AtomicLong(0L);
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, this.ioThreads), new CustomizableThreadFactory("CX-Consolidate-"));
+    try {
+      final List<Future<?>> results = new ArrayList<>();
+      moves.forEach(
+          move ->
+              results.add(
+                  executor.submit(
+                      () -> {
+                        if (this.doMove(targetDirectory, move)) {
+                          completed.incrementAndGet();
+                        } else {
+                          failed.incrementAndGet();
+                        }
+                      })));
+      for (Future<?> result : results) {
+        result.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    contribution.incrementWriteCount(completed.get());
+    if (failed.get() > 0L) {
+      throw new UnexpectedJobExecutionException(
+          String.format(
+              "Failed to move %d comic%s during consolidation",
+              failed.get(), failed.get() == 1L ? "" : "s"));
+    }
+    log.debug("Consolidation plan executed: moved={}", completed.get());
+    return RepeatStatus.FINISHED;
+  }
+
+  private boolean doMove(final String targetDirectory, final ConsolidationMove move) {
+    try {
+      final File source = new File(move.getSource());
+      final File target = new File(move.getTarget());
+      if (!source.exists() && target.exists()) {
+        log.debug("Comic file already moved: {}", target);
+      } else if (!this.fileAdaptor.sameFile(source, target)) {
+        log.debug("Moving comic file: {} => {}", source, target);
+        this.fileAdaptor.moveFile(source, target);
+      }
+      if (Objects.nonNull(move.getMetadataSource())) {
+        final File metadataSource = new File(move.getMetadataSource());
+        final File metadataTarget = new File(move.getMetadataTarget());
+        if (metadataSource.exists() && !this.fileAdaptor.sameFile(metadataSource, metadataTarget)) {
+          log.trace("Moving comic metadata file: {} => {}", metadataSource, metadataTarget);
+          this.fileAdaptor.moveFile(metadataSource, metadataTarget);
+        }
+      }
+      this.consolidationJournal.markCompleted(targetDirectory, move);
+      return true;
+    } catch (Exception error) {
+      log.error("Failed to move comic: id=" + move.getComicBookId(), error);
+      return false;
+    }
+  }
+}
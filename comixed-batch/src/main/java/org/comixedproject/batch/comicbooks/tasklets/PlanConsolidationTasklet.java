@@ -0,0 +1,135 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.tasklets;
+
+import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_RENAMING_RULE;
+import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_TARGET_DIRECTORY;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.io.FilenameUtils;
+import org.comixedproject.adaptors.comicbooks.ComicBookAdaptor;
+import org.comixedproject.adaptors.comicbooks.ComicFileAdaptor;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationJournal;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationMove;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationPlanner;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.service.comicbooks.ComicBookService;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>PlanConsolidationTasklet</code> computes the target filename for every comic to be moved
+ * before any file is touched, and records the plan in the consolidation journal. When a journal
+ * from an interrupted run exists for the same renaming rule, only comics not already in the plan
+ * are planned.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class PlanConsolidationTasklet implements Tasklet {
+  @Autowired private ComicBookService comicBookService;
+  @Autowired private ComicFileAdaptor comicFileAdaptor;
+  @Autowired private ComicBookAdaptor comicBookAdaptor;
+  @Autowired private ConsolidationJournal consolidationJournal;
+
+  @Value("${comixed.batch.consolidation.page-size:500}")
+  private int pageSize = 500;
+
+  @Override
+  public RepeatStatus execute(final StepContribution contribution, final ChunkContext chunkContext)
+      throws Exception {
+    final JobParameters jobParameters = contribution.getStepExecution().getJobParameters();
+    final String targetDirectory =
+        new File(jobParameters.getString(PARAM_TARGET_DIRECTORY)).getAbsolutePath();
+    final String renamingRule = jobParameters.getString(PARAM_RENAMING_RULE);
+
+    log.trace("Loading existing consolidation plan");
+    final List<ConsolidationMove> existing =
+        this.consolidationJournal.loadPlan(targetDirectory, renamingRule);
+    final Set<Long> planned =
+        existing.stream().map(ConsolidationMove::getComicBookId).collect(Collectors.toSet());
+    final ConsolidationPlanner planner = new ConsolidationPlanner(existing);
+
+    int pageIndex = 0;
+    List<ComicBook> comicBooks;
+    do {
+      log.trace("Planning page of comics: page={}", pageIndex);
+      comicBooks = this.comicBookService.findComicsToBeMoved(pageIndex, this.pageSize);
+      final List<ConsolidationMove> moves = new ArrayList<>();
+      for (ComicBook comicBook : comicBooks) {
+        if (planned.contains(comicBook.getId())) {
+          log.trace("Comic already planned: id={}", comicBook.getId());
+          continue;
+        }
+        final ConsolidationMove move =
+            this.doPlanMove(planner, comicBook, targetDirectory, renamingRule);
+        if (Objects.nonNull(move)) {
+          moves.add(move);
+          contribution.incrementWriteCount(1);
+        }
+      }
+      if (!moves.isEmpty()) {
+        log.debug("Journaling planned moves: count={}", moves.size());
+        this.consolidationJournal.appendMoves(targetDirectory, renamingRule, moves);
+      }
+      pageIndex++;
+    } while (comicBooks.size() == this.pageSize);
+
+    return RepeatStatus.FINISHED;
+  }
+
+  private ConsolidationMove doPlanMove(
+      final ConsolidationPlanner planner,
+      final ComicBook comicBook,
+      final String targetDirectory,
+      final String renamingRule) {
+    final String source = comicBook.getComicDetail().getFile().getAbsolutePath();
+    final String rootFilename =
+        this.comicFileAdaptor.createFilenameFromRule(comicBook, renamingRule, targetDirectory);
+    final String extension = comicBook.getComicDetail().getArchiveType().getExtension();
+    final String target = planner.findAvailableFilename(source, rootFilename, extension);
+    final String metadataSource = this.comicBookAdaptor.getMetadataFilename(comicBook);
+    String metadataTarget = null;
+    if (planner.exists(metadataSource)) {
+      metadataTarget = String.format("%s.xml", FilenameUtils.removeExtension(target));
+      planner.claim(metadataTarget);
+    }
+    log.trace("Planned move: id={} {} => {}", comicBook.getId(), source, target);
+    return new ConsolidationMove(
+        comicBook.getId(),
+        source,
+        target,
+        Objects.nonNull(metadataTarget) ? metadataSource : null,
+        metadataTarget,
+        false);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.tasklets;
+
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.service.comicbooks.ComicBookService;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>PurgeMarkedComicsTasklet</code> purges comics that have been marked for purging. Each pass
+ * loads one batch of comic ids and removes them with set-based deletes, so that every batch is
+ * committed in its own transaction.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class PurgeMarkedComicsTasklet implements Tasklet {
+  @Autowired private ComicBookService comicBookService;
+
+  @Value("${comixed.batch.purge.batch-size:500}")
+  private int batchSize = 500;
+
+  @Override
+  public RepeatStatus execute(final StepContribution contribution, final ChunkContext chunkContext)
+      throws Exception {
+    log.trace("Loading batch of comics marked for purging");
+    final List<Long> ids = this.comicBookService.findIdsMarkedForPurging(this.batchSize);
+    if (ids.isEmpty()) {
+      log.debug("No comics remaining to be purged");
+      return RepeatStatus.FINISHED;
+    }
+    log.debug("Purging comics: count={}", ids.size());
+    this.comicBookService.purgeComicBooks(ids);
+    contribution.incrementWriteCount(ids.size());
+    return RepeatStatus.CONTINUABLE;
+  }
+}
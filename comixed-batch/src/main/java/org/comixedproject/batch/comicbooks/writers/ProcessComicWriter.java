@@ -1,6 +1,6 @@
 /*
  * ComiXed - A digital comic book library management application.
- * Copyright (C) 2021, The ComiXed Project
+ * Copyright (C) 2023, The ComiXed Project
  *
  * This program is free software: you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
@@ -18,19 +18,20 @@
 
 package org.comixedproject.batch.comicbooks.writers;
 
-import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.state.comicbooks.ComicEvent;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.stereotype.Component;
 
 /**
- * <code>PurgeMarkedComicBooksWriter</code> fires an event after a comic has been purged.
+ * <code>ProcessComicWriter</code> provides an {@link ItemWriter} for instances of {@link ComicBook}
+ * that were processed in a single pass, moving them directly to their final state.
  *
  * @author Darryl L. Pierce
  */
 @Component
-@Log4j2
-public class PurgeMarkedComicBooksWriter extends AbstractComicBookWriter {
-  public PurgeMarkedComicBooksWriter() {
-    super(ComicEvent.comicPurged);
+public class ProcessComicWriter extends AbstractComicBookWriter {
+  public ProcessComicWriter() {
+    super(ComicEvent.comicProcessed);
   }
 }
@@ -19,6 +19,7 @@
 package org.comixedproject.batch.comicpages;
 
 import lombok.extern.log4j.Log4j2;
+import org.comixedproject.batch.chunks.ChunkPolicyFactory;
 import org.comixedproject.batch.comicpages.readers.MarkPageWithHashReader;
 import org.comixedproject.batch.comicpages.writers.MarkPageWithHashWriter;
 import org.comixedproject.batch.processors.NoopProcessor;
@@ -29,6 +30,7 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -49,9 +51,11 @@ public class MarkPagesWithHashConfiguration {
   public static final String PARAM_MARK_PAGES_TARGET_HASH =
       "job.delete-pages-with-hash.target-hash";
 
-  @Value("${comixed.batch.chunk-size}")
+  @Value("${comixed.batch.mark-pages-with-hash.chunk-size:${comixed.batch.chunk-size}}")
   private int batchChunkSize = 10;
 
+  @Autowired private ChunkPolicyFactory chunkPolicyFactory;
+
   /**
    * Returns the job bean to delete pages with a hash.
    *
@@ -88,8 +92,11 @@ public class MarkPagesWithHashConfiguration {
       final MarkPageWithHashReader reader,
       final NoopProcessor<Page> processor,
       final MarkPageWithHashWriter writer) {
-    return new StepBuilder("markPageWithHashStep", jobRepository)
-        .<Page, Page>chunk(this.batchChunkSize, platformTransactionManager)
+    return this.chunkPolicyFactory
+        .<Page, Page>chunk(
+            new StepBuilder("markPageWithHashStep", jobRepository),
+            this.batchChunkSize,
+            platformTransactionManager)
         .reader(reader)
         .processor(processor)
         .writer(writer)
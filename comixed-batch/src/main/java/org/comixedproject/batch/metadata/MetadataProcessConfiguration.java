@@ -19,6 +19,7 @@
 package org.comixedproject.batch.metadata;
 
 import lombok.extern.log4j.Log4j2;
+import org.comixedproject.batch.chunks.ChunkPolicyFactory;
 import org.comixedproject.batch.metadata.listeners.ScrapeComicBookChunkListener;
 import org.comixedproject.batch.metadata.listeners.UpdateComicBookMetadataJobListener;
 import org.comixedproject.batch.metadata.processors.ScrapeComicBookProcessor;
@@ -30,6 +31,7 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -50,9 +52,11 @@ public class MetadataProcessConfiguration {
   public static final String PARAM_METADATA_UPDATE_TOTAL_COMICS =
       "job.metadata-process.total-comics";
 
-  @Value("${comixed.batch.chunk-size}")
+  @Value("${comixed.batch.metadata-process.chunk-size:${comixed.batch.chunk-size}}")
   private int batchChunkSize = 10;
 
+  @Autowired private ChunkPolicyFactory chunkPolicyFactory;
+
   /**
    * Returns the job bean to perform the batch comic scraping process.
    *
@@ -91,8 +95,11 @@ public class MetadataProcessConfiguration {
       final ScrapeComicBookReader reader,
       final ScrapeComicBookProcessor processor,
       final ScrapeComicBookWriter writer) {
-    return new StepBuilder("scrapeComicBook", jobRepository)
-        .<ComicBook, ComicBook>chunk(this.batchChunkSize, platformTransactionManager)
+    return this.chunkPolicyFactory
+        .<ComicBook, ComicBook>chunk(
+            new StepBuilder("scrapeComicBook", jobRepository),
+            this.batchChunkSize,
+            platformTransactionManager)
         .reader(reader)
         .processor(processor)
         .writer(writer)
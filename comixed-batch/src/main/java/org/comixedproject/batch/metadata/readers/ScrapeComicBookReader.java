@@ -18,12 +18,8 @@
 
 package org.comixedproject.batch.metadata.readers;
 
-import java.util.List;
-import lombok.extern.log4j.Log4j2;
 import org.comixedproject.batch.comicbooks.readers.AbstractComicReader;
-import org.comixedproject.model.comicbooks.ComicBook;
-import org.comixedproject.service.comicbooks.ComicBookService;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.comixedproject.repositories.comicbooks.ComicBookSelection;
 import org.springframework.stereotype.Component;
 
 /**
@@ -32,13 +28,9 @@ import org.springframework.stereotype.Component;
  * @author Darryl L. Pierce
  */
 @Component
-@Log4j2
 public class ScrapeComicBookReader extends AbstractComicReader {
-  @Autowired private ComicBookService comicBookService;
-
   @Override
-  protected List<ComicBook> doLoadComics() {
-    log.trace("Loading comics to have their metadata batch updated");
-    return this.comicBookService.findComicsForBatchMetadataUpdate(this.getBatchChunkSize());
+  protected ComicBookSelection getSelection() {
+    return ComicBookSelection.FOR_BATCH_METADATA_UPDATE;
   }
 }
@@ -0,0 +1,75 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.plugins;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>PluginSelectionStore</code> holds the comic ids selected for a plugin run until the run has
+ * read them, so that large selections do not need to be passed as job parameters.
+ *
+ * <p>Selections are only held in memory and are removed when the run's step ends or when the run
+ * fails to launch, so a plugin run cannot be restarted.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class PluginSelectionStore {
+  final Map<String, List<Long>> selections = new ConcurrentHashMap<>();
+
+  /**
+   * Stores a selection of comic ids.
+   *
+   * @param ids the comic ids
+   * @return the key for the selection
+   */
+  public String store(final List<Long> ids) {
+    final String result = UUID.randomUUID().toString();
+    log.debug("Storing plugin selection: key={} count={}", result, ids.size());
+    this.selections.put(result, new ArrayList<>(ids));
+    return result;
+  }
+
+  /**
+   * Returns a selection of comic ids, or an empty list if the key is unknown.
+   *
+   * @param key the selection key
+   * @return the comic ids
+   */
+  public List<Long> get(final String key) {
+    return this.selections.getOrDefault(key, new ArrayList<>());
+  }
+
+  /**
+   * Discards a selection.
+   *
+   * @param key the selection key
+   */
+  public void remove(final String key) {
+    log.debug("Removing plugin selection: key={}", key);
+    this.selections.remove(key);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.plugins;
+
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.batch.chunks.ChunkPolicyFactory;
+import org.comixedproject.batch.plugins.readers.RunPluginReader;
+import org.comixedproject.batch.plugins.writers.RunPluginWriter;
+import org.comixedproject.batch.processors.NoopProcessor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * <code>RunPluginConfiguration</code> defines a batch process that runs a plugin against a
+ * selection of comics. Each chunk of comic ids is handed to the plugin runner, which runs the
+ * plugin for those comics in parallel.
+ *
+ * <p>The selection is held in memory by {@link PluginSelectionStore} and is discarded when the step
+ * ends, so a failed or interrupted run cannot be restarted; the plugin must be run again instead.
+ *
+ * @author Darryl L. Pierce
+ */
+@Configuration
+@Log4j2
+public class RunPluginConfiguration {
+  public static final String PARAM_RUN_PLUGIN_STARTED = "job.run-plugin.started";
+  public static final String PARAM_RUN_PLUGIN_NAME = "job.run-plugin.name";
+  public static final String PARAM_RUN_PLUGIN_SELECTION = "job.run-plugin.selection";
+
+  @Value("${comixed.batch.run-plugin.chunk-size:${comixed.batch.chunk-size}}")
+  private int batchChunkSize = 10;
+
+  @Autowired private ChunkPolicyFactory chunkPolicyFactory;
+
+  /**
+   * Returns the job bean to run a plugin.
+   *
+   * @param jobRepository the job repository
+   * @param runPluginStep the run plugin step
+   * @return the job
+   */
+  @Bean
+  @Qualifier("runPluginJob")
+  public Job runPluginJob(
+      final JobRepository jobRepository, @Qualifier("runPluginStep") final Step runPluginStep) {
+    return new JobBuilder("runPluginJob", jobRepository)
+        .incrementer(new RunIdIncrementer())
+        .start(runPluginStep)
+        .build();
+  }
+
+  /**
+   * The run plugin step.
+   *
+   * @param jobRepository the job repository
+   * @param platformTransactionManager the transaction manager
+   * @param reader the reader
+   * @param processor the processor
+   * @param writer the writer
+   * @return the step
+   */
+  @Bean
+  @Qualifier("runPluginStep")
+  public Step runPluginStep(
+      final JobRepository jobRepository,
+      final PlatformTransactionManager platformTransactionManager,
+      final RunPluginReader reader,
+      final NoopProcessor<Long> processor,
+      final RunPluginWriter writer) {
+    return this.chunkPolicyFactory
+        .<Long, Long>chunk(
+            new StepBuilder("runPluginStep", jobRepository),
+            this.batchChunkSize,
+            platformTransactionManager)
+        .reader(reader)
+        .processor(processor)
+        .writer(writer)
+        .build();
+  }
+}
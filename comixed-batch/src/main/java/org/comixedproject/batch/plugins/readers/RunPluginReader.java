@@ -0,0 +1,76 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.plugins.readers;
+
+import static org.comixedproject.batch.plugins.RunPluginConfiguration.PARAM_RUN_PLUGIN_SELECTION;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.batch.plugins.PluginSelectionStore;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>RunPluginReader</code> returns the ids of the comics selected for a plugin run. The comics
+ * themselves are loaded by each plugin run, so that they are used within that run's transaction.
+ *
+ * <p>The reader is step scoped, since it holds the selection for a single run.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@StepScope
+@Log4j2
+public class RunPluginReader implements ItemReader<Long>, StepExecutionListener {
+  @Autowired private PluginSelectionStore pluginSelectionStore;
+
+  final Deque<Long> idList = new ArrayDeque<>();
+  String selectionKey;
+
+  @Override
+  public Long read() {
+    if (this.idList.isEmpty()) {
+      log.trace("No comics to process");
+      return null;
+    }
+
+    log.trace("Returning next comic to process");
+    return this.idList.removeFirst();
+  }
+
+  @Override
+  public void beforeStep(final StepExecution stepExecution) {
+    this.selectionKey = stepExecution.getJobParameters().getString(PARAM_RUN_PLUGIN_SELECTION);
+    this.idList.clear();
+    this.idList.addAll(this.pluginSelectionStore.get(this.selectionKey));
+    log.debug("Loaded plugin selection: count={}", this.idList.size());
+  }
+
+  @Override
+  public ExitStatus afterStep(final StepExecution stepExecution) {
+    this.pluginSelectionStore.remove(this.selectionKey);
+    return null;
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.plugins.writers;
+
+import static org.comixedproject.batch.plugins.RunPluginConfiguration.PARAM_RUN_PLUGIN_NAME;
+
+import java.util.List;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.plugins.PluginException;
+import org.comixedproject.plugins.PluginManager;
+import org.comixedproject.plugins.model.Plugin;
+import org.comixedproject.plugins.runners.PluginRunner;
+import org.comixedproject.repositories.comicbooks.ComicBookSelection;
+import org.comixedproject.service.comicbooks.ComicBookService;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>RunPluginWriter</code> runs the plugin for each comic in a chunk, with the runs for the
+ * chunk proceeding in parallel. Each run loads its comic on the plugin's thread, in its own
+ * transaction, and the comic is available to the plugin as the variable <code>comic</code>. Comics
+ * that were deleted since the run started are skipped.
+ *
+ * <p>The writer is step scoped, since it holds the plugin and the failure count for a single run.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@StepScope
+@Log4j2
+public class RunPluginWriter implements ItemWriter<Long>, StepExecutionListener {
+  public static final String COMIC_VARIABLE = "comic";
+  public static final String FAILED_RUNS_KEY = "run-plugin.failed";
+
+  @Autowired private PluginManager pluginManager;
+  @Autowired private PluginRunner pluginRunner;
+  @Autowired private ComicBookService comicBookService;
+
+  String pluginName;
+  int failedRuns = 0;
+
+  @Override
+  public void write(final Chunk<? extends Long> ids) throws PluginException {
+    final Plugin plugin = this.pluginManager.loadPlugin(this.pluginName);
+    log.debug("Running plugin for comics: name={} count={}", this.pluginName, ids.size());
+    this.failedRuns +=
+        this.pluginRunner.executeAll(plugin, List.copyOf(ids.getItems()), this::doLoadVariables);
+  }
+
+  private Map<String, Object> doLoadVariables(final Long id) {
+    log.trace("Loading comic for plugin run: id={}", id);
+    final List<ComicBook> comicBooks =
+        this.comicBookService.findComicsWithDetailsAndPages(
+            ComicBookSelection.NOT_DELETED, List.of(id));
+    if (comicBooks.isEmpty()) {
+      log.debug("Comic is no longer available: id={}", id);
+      return null;
+    }
+    return Map.of(COMIC_VARIABLE, comicBooks.get(0));
+  }
+
+  @Override
+  public void beforeStep(final StepExecution stepExecution) {
+    this.pluginName = stepExecution.getJobParameters().getString(PARAM_RUN_PLUGIN_NAME);
+    this.failedRuns = 0;
+  }
+
+  @Override
+  public ExitStatus afterStep(final StepExecution stepExecution) {
+    log.debug("Plugin run finished: name={} failed={}", this.pluginName, this.failedRuns);
+    stepExecution.getExecutionContext().putInt(FAILED_RUNS_KEY, this.failedRuns);
+    return null;
+  }
+}
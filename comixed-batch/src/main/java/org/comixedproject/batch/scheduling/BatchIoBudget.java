@@ -0,0 +1,140 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.scheduling;
+
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>BatchIoBudget</code> limits the rate at which batch jobs read and write comic archives,
+ * using a token bucket measured in bytes per second. Callers may take more bytes than are available
+ * and then wait until the bucket has refilled.
+ *
+ * <p>The rate backs off while page requests are slower than the target latency: it halves each time
+ * the average latency is over the target, down to the minimum share of the budget. It recovers in
+ * small steps once requests are fast again, and also over time, so the rate returns to the full
+ * budget when no further page requests are made.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class BatchIoBudget {
+  static final double LATENCY_SMOOTHING = 0.2;
+  static final double RECOVERY_STEP = 0.05;
+
+  @Value("${comixed.batch.io.bytes-per-second:0}")
+  long bytesPerSecond = 0L;
+
+  @Value("${comixed.batch.io.target-latency:250}")
+  long targetLatency = 250L;
+
+  @Value("${comixed.batch.io.minimum-rate:0.1}")
+  double minimumRate = 0.1;
+
+  @Getter double rate = 1.0;
+  @Getter double averageLatency = 0.0;
+  double tokens = 0.0;
+  private boolean started = false;
+  private long lastRefill = 0L;
+  private long lastRateChange = 0L;
+
+  /**
+   * Takes the bytes for reading or writing a comic's archive, waiting if the budget is exhausted.
+   *
+   * @param comicBook the comic book
+   * @param passes the number of times the archive is read or written
+   */
+  public void acquire(final ComicBook comicBook, final int passes) {
+    this.acquire(comicBook.getComicDetail().getFile().length() * passes);
+  }
+
+  /**
+   * Takes bytes from the budget, waiting if the budget is exhausted.
+   *
+   * @param bytes the byte count
+   */
+  public void acquire(final long bytes) {
+    final long wait = this.reserve(bytes, System.nanoTime());
+    if (wait > 0L) {
+      log.trace("Waiting for I/O budget: bytes={} wait={}ns", bytes, wait);
+      try {
+        TimeUnit.NANOSECONDS.sleep(wait);
+      } catch (InterruptedException error) {
+        log.debug("Interrupted while waiting for I/O budget");
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Records the latency of a page request.
+   *
+   * @param latency the latency in milliseconds
+   */
+  public void recordLatency(final long latency) {
+    this.recordLatency(latency, System.nanoTime());
+  }
+
+  synchronized void recordLatency(final long latency, final long now) {
+    this.doRecover(now);
+    this.averageLatency =
+        this.averageLatency == 0.0
+            ? latency
+            : this.averageLatency * (1.0 - LATENCY_SMOOTHING) + latency * LATENCY_SMOOTHING;
+    if (this.averageLatency > this.targetLatency) {
+      this.rate = Math.max(this.minimumRate, this.rate / 2.0);
+      log.trace("Page latency over target: average={}ms rate={}", this.averageLatency, this.rate);
+    } else {
+      this.rate = Math.min(1.0, this.rate + RECOVERY_STEP);
+    }
+  }
+
+  synchronized long reserve(final long bytes, final long now) {
+    if (this.bytesPerSecond <= 0L || bytes <= 0L) return 0L;
+    this.doRecover(now);
+    final double capacity = this.bytesPerSecond * this.rate;
+    final double bytesPerNano = capacity / TimeUnit.SECONDS.toNanos(1L);
+    if (this.started) {
+      this.tokens = Math.min(capacity, this.tokens + (now - this.lastRefill) * bytesPerNano);
+    } else {
+      this.tokens = capacity;
+      this.started = true;
+    }
+    this.lastRefill = now;
+    this.tokens -= bytes;
+    return this.tokens >= 0.0 ? 0L : (long) (-this.tokens / bytesPerNano);
+  }
+
+  private void doRecover(final long now) {
+    if (now <= this.lastRateChange) return;
+    if (this.rate < 1.0) {
+      this.rate =
+          Math.min(
+              1.0,
+              this.rate
+                  + RECOVERY_STEP * (now - this.lastRateChange) / TimeUnit.SECONDS.toNanos(1L));
+    }
+    this.lastRateChange = now;
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.scheduling;
+
+import java.util.Objects;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <code>BatchJobClass</code> groups the batch jobs by the resources they use. Each class has a
+ * priority, with higher priority jobs started first, and its own concurrency limit.
+ *
+ * @author Darryl L. Pierce
+ */
+@AllArgsConstructor
+public enum BatchJobClass {
+  DATABASE(30, Set.of("updateComicBooksJob", "markPagesWithHashJob", "unmarkPagesWithHashJob")),
+  IMPORT(20, Set.of("addComicsToLibraryJob", "processComicsJob")),
+  OTHER(15, Set.of()),
+  METADATA(10, Set.of("updateComicBookMetadata")),
+  ARCHIVE(
+      0,
+      Set.of(
+          "recreateComicFilesJob",
+          "consolidateLibraryJob",
+          "updateMetadataJob",
+          "purgeLibraryJob"));
+
+  @Getter private int priority;
+  @Getter private Set<String> jobNames;
+
+  /**
+   * Returns the class for a job.
+   *
+   * @param jobName the job name
+   * @return the job class
+   */
+  public static BatchJobClass forJob(final String jobName) {
+    if (Objects.isNull(jobName)) return OTHER;
+    for (BatchJobClass value : values()) {
+      if (value.jobNames.contains(jobName)) return value;
+    }
+    return OTHER;
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.scheduling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>BatchJobScheduler</code> queues batch jobs and starts them in priority order, limiting how
+ * many jobs of each {@link BatchJobClass} run at once as well as the total number of running jobs.
+ * Jobs of the same priority start in the order they were submitted.
+ *
+ * <p>The scheduler is used as the task executor for {@link PriorityJobLauncher}, which records the
+ * name of the job being launched before handing its task to the scheduler.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class BatchJobScheduler implements TaskExecutor {
+  @Autowired
+  @Qualifier("jobTaskExecutor")
+  private TaskExecutor jobTaskExecutor;
+
+  @Value("${comixed.batch.scheduler.max-concurrent-jobs:4}")
+  int maximumJobs = 4;
+
+  @Value("${comixed.batch.scheduler.database.max-concurrent-jobs:2}")
+  int maximumDatabaseJobs = 2;
+
+  @Value("${comixed.batch.scheduler.import.max-concurrent-jobs:1}")
+  int maximumImportJobs = 1;
+
+  @Value("${comixed.batch.scheduler.metadata.max-concurrent-jobs:1}")
+  int maximumMetadataJobs = 1;
+
+  @Value("${comixed.batch.scheduler.archive.max-concurrent-jobs:1}")
+  int maximumArchiveJobs = 1;
+
+  private final ThreadLocal<String> submittingJob = new ThreadLocal<>();
+  final List<QueuedJob> queue = new ArrayList<>();
+  final Map<BatchJobClass, Integer> running = new EnumMap<>(BatchJobClass.class);
+  private long sequence = 0L;
+
+  /**
+   * Records the name of the job whose task is about to be submitted from the current thread.
+   *
+   * @param jobName the job name
+   */
+  public void setSubmittingJob(final String jobName) {
+    this.submittingJob.set(jobName);
+  }
+
+  /** Clears the name of the job being submitted from the current thread. */
+  public void clearSubmittingJob() {
+    this.submittingJob.remove();
+  }
+
+  @Override
+  public void execute(final Runnable task) {
+    final String jobName = this.submittingJob.get();
+    final BatchJobClass jobClass = BatchJobClass.forJob(jobName);
+    synchronized (this) {
+      log.debug("Queueing batch job: name={} class={}", jobName, jobClass);
+      this.queue.add(new QueuedJob(jobName, jobClass, this.sequence++, task));
+      this.doStartJobs();
+    }
+  }
+
+  /**
+   * Returns the number of jobs waiting to start.
+   *
+   * @return the job count
+   */
+  public synchronized int getQueuedJobCount() {
+    return this.queue.size();
+  }
+
+  /**
+   * Returns the number of running jobs.
+   *
+   * @return the job count
+   */
+  public synchronized int getRunningJobCount() {
+    return this.running.values().stream().mapToInt(Integer::intValue).sum();
+  }
+
+  private void doStartJobs() {
+    this.queue.sort(
+        Comparator.comparing((QueuedJob job) -> job.getJobClass().getPriority())
+            .reversed()
+            .thenComparing(QueuedJob::getSequence));
+    final Iterator<QueuedJob> jobs = this.queue.iterator();
+    while (jobs.hasNext() && this.getRunningJobCount() < this.maximumJobs) {
+      final QueuedJob job = jobs.next();
+      final int runningForClass = this.running.getOrDefault(job.getJobClass(), 0);
+      if (runningForClass < this.doGetLimit(job.getJobClass())) {
+        log.debug("Starting batch job: name={} class={}", job.getJobName(), job.getJobClass());
+        jobs.remove();
+        this.running.put(job.getJobClass(), runningForClass + 1);
+        try {
+          this.jobTaskExecutor.execute(
+              () -> {
+                try {
+                  job.getTask().run();
+                } finally {
+                  this.doJobFinished(job);
+                }
+              });
+        } catch (RuntimeException error) {
+          log.error("Failed to start batch job: name={}", job.getJobName(), error);
+          this.running.merge(job.getJobClass(), -1, Integer::sum);
+          throw error;
+        }
+      }
+    }
+  }
+
+  private synchronized void doJobFinished(final QueuedJob job) {
+    log.debug("Batch job finished: name={} class={}", job.getJobName(), job.getJobClass());
+    this.running.merge(job.getJobClass(), -1, Integer::sum);
+    this.doStartJobs();
+  }
+
+  private int doGetLimit(final BatchJobClass jobClass) {
+    switch (jobClass) {
+      case DATABASE:
+        return this.maximumDatabaseJobs;
+      case IMPORT:
+        return this.maximumImportJobs;
+      case METADATA:
+        return this.maximumMetadataJobs;
+      case ARCHIVE:
+        return this.maximumArchiveJobs;
+      default:
+        return this.maximumJobs;
+    }
+  }
+
+  @AllArgsConstructor
+  static class QueuedJob {
+    @Getter private String jobName;
+    @Getter private BatchJobClass jobClass;
+    @Getter private long sequence;
+    @Getter private Runnable task;
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.scheduling;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRestartException;
+
+/**
+ * <code>PriorityJobLauncher</code> launches jobs through the {@link BatchJobScheduler}, which
+ * decides when each job is started.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class PriorityJobLauncher extends TaskExecutorJobLauncher {
+  private final BatchJobScheduler batchJobScheduler;
+
+  public PriorityJobLauncher(final BatchJobScheduler batchJobScheduler) {
+    this.batchJobScheduler = batchJobScheduler;
+    this.setTaskExecutor(batchJobScheduler);
+  }
+
+  @Override
+  public JobExecution run(final Job job, final JobParameters jobParameters)
+      throws JobExecutionAlreadyRunningException,
+          JobRestartException,
+          JobInstanceAlreadyCompleteException,
+          JobParametersInvalidException {
+    log.trace("Submitting batch job: {}", job.getName());
+    this.batchJobScheduler.setSubmittingJob(job.getName());
+    try {
+      return super.run(job, jobParameters);
+    } finally {
+      this.batchJobScheduler.clearSubmittingJob();
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.boot.autoconfigure.batch.BatchProperties;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BatchSchemaInitializerTest {
+  private static final String TEST_TABLE_NAME = "BATCH_JOB_INSTANCE";
+
+  @Mock private DataSource dataSource;
+  @Mock private Connection connection;
+  @Mock private DatabaseMetaData databaseMetaData;
+  @Mock private ResultSet tables;
+
+  private BatchProperties.Jdbc properties = new BatchProperties.Jdbc();
+  private BatchSchemaInitializer initializer;
+
+  @Before
+  public void setUp() throws SQLException {
+    properties.setPlatform("h2");
+    properties.setInitializeSchema(DatabaseInitializationMode.NEVER);
+    initializer = new BatchSchemaInitializer(dataSource, properties, true);
+
+    Mockito.when(dataSource.getConnection()).thenReturn(connection);
+    Mockito.when(connection.getMetaData()).thenReturn(databaseMetaData);
+    Mockito.when(
+            databaseMetaData.getTables(
+                Mockito.isNull(), Mockito.isNull(), Mockito.anyString(), Mockito.isNull()))
+        .thenReturn(tables);
+  }
+
+  @Test
+  public void testInitializeDatabaseSchemaPresent() throws SQLException {
+    Mockito.when(tables.next()).thenReturn(true);
+
+    assertFalse(initializer.initializeDatabase());
+
+    Mockito.verify(databaseMetaData, Mockito.times(1)).getTables(null, null, TEST_TABLE_NAME, null);
+  }
+
+  @Test
+  public void testIsSchemaPresentLowercase() throws SQLException {
+    Mockito.when(tables.next()).thenReturn(false, true);
+
+    assertTrue(initializer.isSchemaPresent());
+
+    Mockito.verify(databaseMetaData, Mockito.times(1))
+        .getTables(null, null, TEST_TABLE_NAME.toLowerCase(), null);
+  }
+
+  @Test
+  public void testIsSchemaPresentWithSchemaPrefix() throws SQLException {
+    properties.setTablePrefix("COMIXED.BATCH_");
+    initializer = new BatchSchemaInitializer(dataSource, properties, true);
+    Mockito.when(tables.next()).thenReturn(true);
+
+    assertTrue(initializer.isSchemaPresent());
+
+    Mockito.verify(databaseMetaData, Mockito.times(1)).getTables(null, null, TEST_TABLE_NAME, null);
+  }
+
+  @Test
+  public void testIsSchemaPresentNotFound() throws SQLException {
+    Mockito.when(tables.next()).thenReturn(false);
+
+    assertFalse(initializer.isSchemaPresent());
+  }
+}
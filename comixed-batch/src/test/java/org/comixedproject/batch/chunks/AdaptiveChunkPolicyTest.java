@@ -0,0 +1,176 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.chunks;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.comixedproject.model.messaging.batch.ProcessComicStatus.CHUNK_SIZE;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatContext;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AdaptiveChunkPolicyTest {
+  private static final int TEST_CHUNK_SIZE = 10;
+  private static final int TEST_MINIMUM_SIZE = 2;
+  private static final int TEST_MAXIMUM_SIZE = 50;
+  private static final long TEST_TARGET_CHUNK_TIME = 1000L;
+  private static final double TEST_MAXIMUM_COMMIT_SHARE = 0.25;
+  private static final double TEST_MINIMUM_HEAP_FREE = 0.2;
+  private static final double TEST_HEAP_FREE = 0.5;
+
+  @Mock private ChunkContext chunkContext;
+  @Mock private StepContext stepContext;
+  @Mock private StepExecution stepExecution;
+
+  private final ExecutionContext executionContext = new ExecutionContext();
+
+  private AdaptiveChunkPolicy policy;
+
+  @Before
+  public void setUp() {
+    policy = this.doCreatePolicy(true);
+  }
+
+  @Test
+  public void testCompletesAfterChunkSize() {
+    final RepeatContext context = policy.start(null);
+    for (int index = 0; index < TEST_CHUNK_SIZE; index++) {
+      assertFalse(policy.isComplete(context));
+      policy.update(context);
+    }
+    assertTrue(policy.isComplete(context));
+  }
+
+  @Test
+  public void testInitialSizeWithinBounds() {
+    assertEquals(
+        TEST_MAXIMUM_SIZE,
+        new AdaptiveChunkPolicy(
+                TEST_MAXIMUM_SIZE * 2,
+                true,
+                TEST_MINIMUM_SIZE,
+                TEST_MAXIMUM_SIZE,
+                TEST_TARGET_CHUNK_TIME,
+                TEST_MAXIMUM_COMMIT_SHARE,
+                TEST_MINIMUM_HEAP_FREE)
+            .getChunkSize());
+  }
+
+  @Test
+  public void testCalculateGrowsFastChunks() {
+    assertEquals(20, policy.doCalculateChunkSize(10L, 100L, 0L, TEST_HEAP_FREE));
+  }
+
+  @Test
+  public void testCalculateShrinksSlowChunks() {
+    assertEquals(5, policy.doCalculateChunkSize(10L, 5000L, 0L, TEST_HEAP_FREE));
+  }
+
+  @Test
+  public void testCalculateTargetsChunkTime() {
+    assertEquals(12, policy.doCalculateChunkSize(10L, 800L, 0L, TEST_HEAP_FREE));
+  }
+
+  @Test
+  public void testCalculateGrowsWhenCommitDominates() {
+    assertEquals(20, policy.doCalculateChunkSize(10L, 1000L, 400L, TEST_HEAP_FREE));
+  }
+
+  @Test
+  public void testCalculateShrinksWhenHeapIsLow() {
+    assertEquals(5, policy.doCalculateChunkSize(10L, 100L, 0L, TEST_MINIMUM_HEAP_FREE / 2));
+  }
+
+  @Test
+  public void testCalculateStaysWithinBounds() {
+    policy.setChunkSize(TEST_MAXIMUM_SIZE);
+    assertEquals(TEST_MAXIMUM_SIZE, policy.doCalculateChunkSize(10L, 10L, 0L, TEST_HEAP_FREE));
+
+    policy.setChunkSize(TEST_MINIMUM_SIZE);
+    assertEquals(TEST_MINIMUM_SIZE, policy.doCalculateChunkSize(2L, 100000L, 0L, TEST_HEAP_FREE));
+  }
+
+  @Test
+  public void testAfterChunkAdjustsSize() {
+    this.doPrepareChunkContext();
+    Mockito.when(stepExecution.getReadCount()).thenReturn(0L, (long) TEST_CHUNK_SIZE);
+
+    policy.beforeChunk(chunkContext);
+
+    assertEquals(TEST_CHUNK_SIZE, executionContext.getInt(CHUNK_SIZE));
+
+    policy.afterWrite(new Chunk<>());
+    policy.afterChunk(chunkContext);
+
+    assertEquals(TEST_CHUNK_SIZE * 2, policy.getChunkSize());
+    assertEquals(TEST_CHUNK_SIZE * 2, executionContext.getInt(CHUNK_SIZE));
+  }
+
+  @Test
+  public void testAfterChunkNotAdaptive() {
+    policy = this.doCreatePolicy(false);
+    this.doPrepareChunkContext();
+    Mockito.when(stepExecution.getReadCount()).thenReturn(0L, (long) TEST_CHUNK_SIZE);
+
+    policy.beforeChunk(chunkContext);
+    policy.afterChunk(chunkContext);
+
+    assertEquals(TEST_CHUNK_SIZE, policy.getChunkSize());
+    assertEquals(TEST_CHUNK_SIZE, executionContext.getInt(CHUNK_SIZE));
+  }
+
+  @Test
+  public void testAfterChunkError() {
+    this.doPrepareChunkContext();
+
+    policy.afterChunkError(chunkContext);
+
+    assertEquals(TEST_CHUNK_SIZE / 2, policy.getChunkSize());
+    assertEquals(TEST_CHUNK_SIZE / 2, executionContext.getInt(CHUNK_SIZE));
+  }
+
+  private void doPrepareChunkContext() {
+    Mockito.when(chunkContext.getStepContext()).thenReturn(stepContext);
+    Mockito.when(stepContext.getStepExecution()).thenReturn(stepExecution);
+    Mockito.when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+  }
+
+  private AdaptiveChunkPolicy doCreatePolicy(final boolean adaptive) {
+    return new AdaptiveChunkPolicy(
+        TEST_CHUNK_SIZE,
+        adaptive,
+        TEST_MINIMUM_SIZE,
+        TEST_MAXIMUM_SIZE,
+        TEST_TARGET_CHUNK_TIME,
+        TEST_MAXIMUM_COMMIT_SHARE,
+        TEST_MINIMUM_HEAP_FREE);
+  }
+}
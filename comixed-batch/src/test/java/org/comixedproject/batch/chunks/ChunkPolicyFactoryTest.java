@@ -0,0 +1,71 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.chunks;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNotNull;
+import static junit.framework.TestCase.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ChunkPolicyFactoryTest {
+  private static final int TEST_CHUNK_SIZE = 500;
+  private static final int TEST_MINIMUM_SIZE = 5;
+  private static final int TEST_MAXIMUM_SIZE = 250;
+  private static final long TEST_TARGET_CHUNK_TIME = 3000L;
+  private static final double TEST_MAXIMUM_COMMIT_SHARE = 0.4;
+  private static final double TEST_MINIMUM_HEAP_FREE = 0.1;
+
+  @InjectMocks private ChunkPolicyFactory factory;
+
+  @Test
+  public void testCreatePolicyNotAdaptive() {
+    final AdaptiveChunkPolicy result = factory.createPolicy(TEST_CHUNK_SIZE);
+
+    assertNotNull(result);
+    assertFalse(result.isAdaptive());
+    assertEquals(TEST_CHUNK_SIZE, result.getChunkSize());
+  }
+
+  @Test
+  public void testCreatePolicyAdaptive() {
+    factory.adaptive = true;
+    factory.minimumSize = TEST_MINIMUM_SIZE;
+    factory.maximumSize = TEST_MAXIMUM_SIZE;
+    factory.targetChunkTime = TEST_TARGET_CHUNK_TIME;
+    factory.maximumCommitShare = TEST_MAXIMUM_COMMIT_SHARE;
+    factory.minimumHeapFree = TEST_MINIMUM_HEAP_FREE;
+
+    final AdaptiveChunkPolicy result = factory.createPolicy(TEST_CHUNK_SIZE);
+
+    assertNotNull(result);
+    assertTrue(result.isAdaptive());
+    assertEquals(TEST_MAXIMUM_SIZE, result.getChunkSize());
+    assertEquals(TEST_MINIMUM_SIZE, result.getMinimumSize());
+    assertEquals(TEST_MAXIMUM_SIZE, result.getMaximumSize());
+    assertEquals(TEST_TARGET_CHUNK_TIME, result.getTargetChunkTime());
+    assertEquals(TEST_MAXIMUM_COMMIT_SHARE, result.getMaximumCommitShare());
+    assertEquals(TEST_MINIMUM_HEAP_FREE, result.getMinimumHeapFree());
+  }
+}
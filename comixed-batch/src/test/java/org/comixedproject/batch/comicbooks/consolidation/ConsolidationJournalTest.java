@@ -0,0 +1,96 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.consolidation;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConsolidationJournalTest {
+  private static final String TEST_TARGET_DIRECTORY =
+      new File("target/test-classes/consolidation-journal").getAbsolutePath();
+  private static final String TEST_RENAMING_RULE = "$PUBLISHER/$SERIES/$ISSUE";
+  private static final String TEST_OTHER_RENAMING_RULE = "$SERIES/$ISSUE";
+
+  private ConsolidationJournal journal = new ConsolidationJournal();
+  private ConsolidationMove move1 =
+      new ConsolidationMove(1L, "/source/1.cbz", "/target/1.cbz", null, null, false);
+  private ConsolidationMove move2 =
+      new ConsolidationMove(
+          2L, "/source/2.cbz", "/target/2.cbz", "/source/2.xml", "/target/2.xml", false);
+
+  @Before
+  public void setUp() throws IOException {
+    FileUtils.deleteDirectory(new File(TEST_TARGET_DIRECTORY));
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(new File(TEST_TARGET_DIRECTORY));
+  }
+
+  @Test
+  public void testLoadPlanNoJournal() throws IOException {
+    assertTrue(journal.loadPlan(TEST_TARGET_DIRECTORY, TEST_RENAMING_RULE).isEmpty());
+  }
+
+  @Test
+  public void testLoadPlan() throws IOException {
+    journal.appendMoves(TEST_TARGET_DIRECTORY, TEST_RENAMING_RULE, List.of(move1, move2));
+    journal.markCompleted(TEST_TARGET_DIRECTORY, move2);
+
+    final List<ConsolidationMove> result =
+        journal.loadPlan(TEST_TARGET_DIRECTORY, TEST_RENAMING_RULE);
+
+    assertEquals(2, result.size());
+    assertEquals(1L, result.get(0).getComicBookId());
+    assertEquals("/target/1.cbz", result.get(0).getTarget());
+    assertNull(result.get(0).getMetadataSource());
+    assertFalse(result.get(0).isCompleted());
+    assertEquals("/source/2.xml", result.get(1).getMetadataSource());
+    assertEquals("/target/2.xml", result.get(1).getMetadataTarget());
+    assertTrue(result.get(1).isCompleted());
+  }
+
+  @Test
+  public void testLoadPlanDifferentRule() throws IOException {
+    journal.appendMoves(TEST_TARGET_DIRECTORY, TEST_RENAMING_RULE, List.of(move1));
+
+    assertTrue(journal.loadPlan(TEST_TARGET_DIRECTORY, TEST_OTHER_RENAMING_RULE).isEmpty());
+    assertFalse(journal.getJournalFile(TEST_TARGET_DIRECTORY).exists());
+  }
+
+  @Test
+  public void testDelete() throws IOException {
+    journal.appendMoves(TEST_TARGET_DIRECTORY, TEST_RENAMING_RULE, List.of(move1));
+
+    journal.delete(TEST_TARGET_DIRECTORY);
+
+    assertFalse(journal.getJournalFile(TEST_TARGET_DIRECTORY).exists());
+  }
+}
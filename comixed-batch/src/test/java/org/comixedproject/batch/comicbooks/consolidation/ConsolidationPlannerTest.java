@@ -0,0 +1,121 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.consolidation;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConsolidationPlannerTest {
+  private static final File TEST_DIRECTORY = new File("target/test-classes/consolidation-planner");
+  private static final String TEST_ROOT_FILENAME =
+      new File(TEST_DIRECTORY, "Series v1 #001").getAbsolutePath();
+  private static final String TEST_EXTENSION = "cbz";
+  private static final String TEST_ORIGINAL_FILENAME =
+      new File("target/test-classes/original.cbz").getAbsolutePath();
+
+  private ConsolidationPlanner planner;
+
+  @Before
+  public void setUp() throws IOException {
+    FileUtils.forceMkdir(TEST_DIRECTORY);
+    planner = new ConsolidationPlanner(List.of(), false);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(TEST_DIRECTORY);
+  }
+
+  @Test
+  public void testFindAvailableFilename() {
+    assertEquals(
+        TEST_ROOT_FILENAME + ".cbz",
+        planner.findAvailableFilename(TEST_ORIGINAL_FILENAME, TEST_ROOT_FILENAME, TEST_EXTENSION));
+  }
+
+  @Test
+  public void testFindAvailableFilenameClaimed() {
+    planner.findAvailableFilename(TEST_ORIGINAL_FILENAME, TEST_ROOT_FILENAME, TEST_EXTENSION);
+
+    assertEquals(
+        TEST_ROOT_FILENAME + "-1.cbz",
+        planner.findAvailableFilename(TEST_ORIGINAL_FILENAME, TEST_ROOT_FILENAME, TEST_EXTENSION));
+  }
+
+  @Test
+  public void testFindAvailableFilenameExistsOnDisk() throws IOException {
+    FileUtils.touch(new File(TEST_ROOT_FILENAME + ".cbz"));
+    planner = new ConsolidationPlanner(List.of(), false);
+
+    assertEquals(
+        TEST_ROOT_FILENAME + "-1.cbz",
+        planner.findAvailableFilename(TEST_ORIGINAL_FILENAME, TEST_ROOT_FILENAME, TEST_EXTENSION));
+  }
+
+  @Test
+  public void testFindAvailableFilenameIsOriginal() throws IOException {
+    final String original = TEST_ROOT_FILENAME + ".cbz";
+    FileUtils.touch(new File(original));
+
+    assertEquals(
+        original, planner.findAvailableFilename(original, TEST_ROOT_FILENAME, TEST_EXTENSION));
+  }
+
+  @Test
+  public void testFindAvailableFilenameClaimedByExistingPlan() {
+    planner =
+        new ConsolidationPlanner(
+            List.of(
+                new ConsolidationMove(
+                    1L, TEST_ORIGINAL_FILENAME, TEST_ROOT_FILENAME + ".cbz", null, null, true)),
+            false);
+
+    assertEquals(
+        TEST_ROOT_FILENAME + "-1.cbz",
+        planner.findAvailableFilename(TEST_ORIGINAL_FILENAME, TEST_ROOT_FILENAME, TEST_EXTENSION));
+  }
+
+  @Test
+  public void testFindAvailableFilenameCaseInsensitive() {
+    planner = new ConsolidationPlanner(List.of(), true);
+    planner.claim(TEST_ROOT_FILENAME.toUpperCase() + ".CBZ");
+
+    assertEquals(
+        TEST_ROOT_FILENAME + "-1.cbz",
+        planner.findAvailableFilename(TEST_ORIGINAL_FILENAME, TEST_ROOT_FILENAME, TEST_EXTENSION));
+  }
+
+  @Test
+  public void testExists() throws IOException {
+    final File file = new File(TEST_DIRECTORY, "metadata.xml");
+    FileUtils.touch(file);
+
+    assertTrue(planner.exists(file.getAbsolutePath()));
+    assertFalse(planner.exists(new File(TEST_DIRECTORY, "missing.xml").getAbsolutePath()));
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.listeners;
+
+import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_TARGET_DIRECTORY;
+
+import java.io.File;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationJournal;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConsolidationJobListenerTest {
+  private static final String TEST_TARGET_DIRECTORY = "/library/root";
+
+  @InjectMocks private ConsolidationJobListener listener;
+  @Mock private ConsolidationJournal consolidationJournal;
+  @Mock private JobExecution jobExecution;
+  @Mock private JobParameters jobParameters;
+
+  @Before
+  public void setUp() {
+    Mockito.lenient().when(jobExecution.getJobParameters()).thenReturn(jobParameters);
+    Mockito.lenient()
+        .when(jobParameters.getString(PARAM_TARGET_DIRECTORY))
+        .thenReturn(TEST_TARGET_DIRECTORY);
+  }
+
+  @Test
+  public void testAfterJobCompleted() {
+    Mockito.when(jobExecution.getStatus()).thenReturn(BatchStatus.COMPLETED);
+
+    listener.afterJob(jobExecution);
+
+    Mockito.verify(consolidationJournal, Mockito.times(1))
+        .delete(new File(TEST_TARGET_DIRECTORY).getAbsolutePath());
+  }
+
+  @Test
+  public void testAfterJobFailed() {
+    Mockito.when(jobExecution.getStatus()).thenReturn(BatchStatus.FAILED);
+
+    listener.afterJob(jobExecution);
+
+    Mockito.verify(consolidationJournal, Mockito.never()).delete(Mockito.anyString());
+  }
+}
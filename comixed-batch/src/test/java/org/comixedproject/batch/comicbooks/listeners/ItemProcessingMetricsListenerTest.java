@@ -0,0 +1,105 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.listeners;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ItemProcessingMetricsListenerTest {
+  private static final String TEST_STEP_NAME = "step-name";
+
+  @InjectMocks private ItemProcessingMetricsListener listener;
+  @Mock private ComicBook comicBook;
+
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Before
+  public void setUp() {
+    ReflectionTestUtils.setField(listener, "meterRegistry", meterRegistry);
+    StepSynchronizationManager.register(new StepExecution(TEST_STEP_NAME, new JobExecution(1L)));
+  }
+
+  @After
+  public void tearDown() {
+    StepSynchronizationManager.close();
+  }
+
+  @Test
+  public void testAfterProcess() {
+    listener.beforeProcess(comicBook);
+    listener.afterProcess(comicBook, comicBook);
+
+    assertEquals(1L, this.getProcessCount("success"));
+  }
+
+  @Test
+  public void testOnProcessError() {
+    listener.beforeProcess(comicBook);
+    listener.onProcessError(comicBook, new Exception("expected"));
+
+    assertEquals(1L, this.getProcessCount("failure"));
+  }
+
+  @Test
+  public void testAfterProcessNotStarted() {
+    listener.afterProcess(comicBook, comicBook);
+
+    assertNull(meterRegistry.find(ItemProcessingMetricsListener.ITEM_PROCESS_METRIC).timer());
+  }
+
+  @Test
+  public void testAfterProcessWithoutStepContext() {
+    StepSynchronizationManager.close();
+
+    listener.beforeProcess(comicBook);
+    listener.afterProcess(comicBook, comicBook);
+
+    assertEquals(
+        1L,
+        meterRegistry
+            .get(ItemProcessingMetricsListener.ITEM_PROCESS_METRIC)
+            .tag("step", ItemProcessingMetricsListener.UNKNOWN_STEP)
+            .timer()
+            .count());
+  }
+
+  private long getProcessCount(final String outcome) {
+    return meterRegistry
+        .get(ItemProcessingMetricsListener.ITEM_PROCESS_METRIC)
+        .tag("step", TEST_STEP_NAME)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+}
@@ -43,6 +43,7 @@ public class ProcessedComicBookChunkListenerTest {
   private static final Date TEST_JOB_STARTED = new Date();
   private static final String TEST_STEP_NAME = "step-name";
   private static final long TEST_PROCESSED_COMICS = 15L;
+  private static final int TEST_CHUNK_SIZE = 25;
 
   @InjectMocks private ProcessedComicChunkListener listener;
   @Mock private ChunkContext chunkContext;
@@ -50,6 +51,7 @@ public class ProcessedComicBookChunkListenerTest {
   @Mock private JobExecution jobExecution;
   @Mock private ExecutionContext executionContext;
   @Mock private StepExecution stepExecution;
+  @Mock private ExecutionContext stepExecutionContext;
   @Mock private PublishProcessComicsStatusAction publishProcessComicsStatusAction;
 
   @Captor ArgumentCaptor<ProcessComicStatus> processComicStatusArgumentCaptor;
@@ -61,6 +63,7 @@ public class ProcessedComicBookChunkListenerTest {
     Mockito.when(stepExecution.getJobExecution()).thenReturn(jobExecution);
     Mockito.when(jobExecution.getExecutionContext()).thenReturn(executionContext);
     Mockito.when(stepExecution.getWriteCount()).thenReturn(TEST_WRITE_COUNT);
+    Mockito.when(stepExecution.getExecutionContext()).thenReturn(stepExecutionContext);
     Mockito.when(executionContext.containsKey(JOB_STARTED)).thenReturn(true);
     Mockito.when(executionContext.containsKey(JOB_FINISHED)).thenReturn(false);
     Mockito.when(executionContext.getLong(JOB_STARTED)).thenReturn(TEST_JOB_STARTED.getTime());
@@ -114,6 +117,23 @@ public class ProcessedComicBookChunkListenerTest {
     Mockito.verify(executionContext, Mockito.times(1)).putLong(PROCESSED_COMICS, TEST_WRITE_COUNT);
   }
 
+  @Test
+  public void testAfterChunkWithChunkSize() throws PublishingException {
+    Mockito.when(stepExecutionContext.containsKey(CHUNK_SIZE)).thenReturn(true);
+    Mockito.when(stepExecutionContext.getInt(CHUNK_SIZE)).thenReturn(TEST_CHUNK_SIZE);
+    Mockito.when(executionContext.containsKey(CHUNK_SIZE)).thenReturn(true);
+    Mockito.when(executionContext.getInt(CHUNK_SIZE)).thenReturn(TEST_CHUNK_SIZE);
+
+    listener.afterChunk(chunkContext);
+
+    final ProcessComicStatus status = processComicStatusArgumentCaptor.getValue();
+
+    assertNotNull(status);
+    assertEquals(TEST_CHUNK_SIZE, status.getChunkSize());
+
+    Mockito.verify(executionContext, Mockito.times(1)).putInt(CHUNK_SIZE, TEST_CHUNK_SIZE);
+  }
+
   @Test
   public void testAfterChunkError() throws PublishingException {
     Mockito.when(executionContext.containsKey(JOB_STARTED)).thenReturn(true);
@@ -0,0 +1,83 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.listeners;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.assertTrue;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StepThroughputMetricsListenerTest {
+  private static final String TEST_STEP_NAME = "step-name";
+  private static final long TEST_WRITE_COUNT = 500L;
+
+  @InjectMocks private StepThroughputMetricsListener listener;
+  @Mock private StepExecution stepExecution;
+
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Before
+  public void setUp() {
+    ReflectionTestUtils.setField(listener, "meterRegistry", meterRegistry);
+    Mockito.when(stepExecution.getExitStatus()).thenReturn(ExitStatus.COMPLETED);
+  }
+
+  @Test
+  public void testAfterStep() {
+    Mockito.when(stepExecution.getStartTime()).thenReturn(LocalDateTime.now().minusSeconds(10L));
+    Mockito.when(stepExecution.getStepName()).thenReturn(TEST_STEP_NAME);
+    Mockito.when(stepExecution.getWriteCount()).thenReturn(TEST_WRITE_COUNT);
+
+    final ExitStatus result = listener.afterStep(stepExecution);
+
+    assertSame(ExitStatus.COMPLETED, result);
+    final DistributionSummary summary =
+        meterRegistry
+            .get(StepThroughputMetricsListener.STEP_THROUGHPUT_METRIC)
+            .tag("step", TEST_STEP_NAME)
+            .summary();
+    assertEquals(1L, summary.count());
+    assertTrue(summary.max() > 0.0 && summary.max() <= 50.0);
+  }
+
+  @Test
+  public void testAfterStepNotStarted() {
+    Mockito.when(stepExecution.getStartTime()).thenReturn(null);
+
+    final ExitStatus result = listener.afterStep(stepExecution);
+
+    assertSame(ExitStatus.COMPLETED, result);
+    assertNull(meterRegistry.find(StepThroughputMetricsListener.STEP_THROUGHPUT_METRIC).summary());
+  }
+}
@@ -29,6 +29,7 @@ import org.comixedproject.adaptors.comicbooks.ComicBookAdaptor;
 import org.comixedproject.adaptors.content.ComicMetadataContentAdaptor;
 import org.comixedproject.adaptors.content.ContentAdaptorException;
 import org.comixedproject.adaptors.content.ContentAdaptorRules;
+import org.comixedproject.batch.scheduling.BatchIoBudget;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.model.comicpages.Page;
 import org.junit.Before;
@@ -48,6 +49,7 @@ public class LoadFileContentsProcessorTest {
   @InjectMocks private LoadFileContentsProcessor processor;
   @Mock private ComicBookAdaptor comicBookAdaptor;
   @Mock private ComicMetadataContentAdaptor comicMetadataContentAdaptor;
+  @Mock private BatchIoBudget batchIoBudget;
   @Mock private ComicBook comicBook;
   @Mock private List<Page> pageList;
   @Mock private Map<String, JobParameter<?>> parameters;
@@ -108,6 +110,7 @@ public class LoadFileContentsProcessorTest {
     Mockito.verify(pageList, Mockito.times(1)).sort(Mockito.any());
     Mockito.verify(comicMetadataContentAdaptor, Mockito.times(1))
         .loadContent(comicBook, "", content, contentRules);
+    Mockito.verify(batchIoBudget, Mockito.times(1)).acquire(comicBook, 1);
   }
 
   @Test
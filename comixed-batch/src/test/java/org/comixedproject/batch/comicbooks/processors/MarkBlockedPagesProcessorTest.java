@@ -26,8 +26,10 @@ import java.util.List;
 import java.util.Map;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.model.comicpages.Page;
+import org.comixedproject.model.comicpages.PageHash;
 import org.comixedproject.model.comicpages.PageState;
 import org.comixedproject.service.comicpages.BlockedHashService;
+import org.comixedproject.service.comicpages.PageService;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -42,10 +44,13 @@ import org.springframework.batch.core.StepExecution;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MarkBlockedPagesProcessorTest {
-  private static final String TEST_HASH = "0123456789ABCDEF";
+  private static final PageHash TEST_HASH = PageHash.fromHex("0123456789ABCDEF");
+  private static final long TEST_BLOCKED_PERCEPTUAL_HASH = 0xFF00FF00FF00FF00L;
+  private static final int TEST_SIMILAR_DISTANCE = 4;
 
   @InjectMocks private MarkBlockedPagesProcessor processor;
   @Mock private BlockedHashService blockedHashService;
+  @Mock private PageService pageService;
   @Mock private ComicBook comicBook;
   @Mock private Page page;
   @Mock private Map<String, JobParameter<?>> parameters;
@@ -54,11 +59,13 @@ public class MarkBlockedPagesProcessorTest {
   @Mock private StepExecution stepExecution;
 
   private List<Page> pageList = new ArrayList<>();
+  private List<PageHash> blockedHashList = new ArrayList<>();
+  private List<Long> blockedPerceptualHashList = new ArrayList<>();
 
   @Before
   public void setUp() {
     Mockito.when(comicBook.getPages()).thenReturn(pageList);
-    Mockito.when(page.getHash()).thenReturn(TEST_HASH);
+    Mockito.when(page.getPageHash()).thenReturn(TEST_HASH);
     pageList.add(page);
 
     Mockito.when(parameters.containsKey(PARAM_SKIP_BLOCKING_PAGES)).thenReturn(true);
@@ -67,25 +74,27 @@ public class MarkBlockedPagesProcessorTest {
         .thenReturn(Boolean.FALSE.toString());
     Mockito.when(jobExecution.getJobParameters()).thenReturn(jobParameters);
     Mockito.when(stepExecution.getJobExecution()).thenReturn(jobExecution);
-    processor.beforeStep(stepExecution);
+    Mockito.when(blockedHashService.getHashes()).thenReturn(blockedHashList);
   }
 
   @Test
   public void testProcessWithBlockedPage() {
-    Mockito.when(blockedHashService.isHashBlocked(Mockito.anyString())).thenReturn(true);
+    blockedHashList.add(TEST_HASH);
+    processor.beforeStep(stepExecution);
 
     final ComicBook result = processor.process(comicBook);
 
     assertNotNull(result);
     assertSame(comicBook, result);
 
-    Mockito.verify(blockedHashService, Mockito.times(1)).isHashBlocked(TEST_HASH);
+    Mockito.verify(blockedHashService, Mockito.times(1)).getHashes();
     Mockito.verify(page, Mockito.times(1)).setPageState(PageState.DELETED);
   }
 
   @Test
   public void testProcessSkipBlockingPagesNotProvided() {
-    Mockito.when(blockedHashService.isHashBlocked(Mockito.anyString())).thenReturn(true);
+    blockedHashList.add(TEST_HASH);
+    processor.beforeStep(stepExecution);
     Mockito.when(parameters.containsKey(PARAM_SKIP_BLOCKING_PAGES)).thenReturn(false);
 
     final ComicBook result = processor.process(comicBook);
@@ -93,7 +102,7 @@ public class MarkBlockedPagesProcessorTest {
     assertNotNull(result);
     assertSame(comicBook, result);
 
-    Mockito.verify(blockedHashService, Mockito.times(1)).isHashBlocked(TEST_HASH);
+    Mockito.verify(blockedHashService, Mockito.times(1)).getHashes();
     Mockito.verify(page, Mockito.times(1)).setPageState(PageState.DELETED);
   }
 
@@ -101,31 +110,84 @@ public class MarkBlockedPagesProcessorTest {
   public void testProcessSkipBlockingPages() {
     Mockito.when(jobParameters.getString(PARAM_SKIP_BLOCKING_PAGES))
         .thenReturn(Boolean.TRUE.toString());
+    processor.beforeStep(stepExecution);
 
     final ComicBook result = processor.process(comicBook);
 
     assertNotNull(result);
     assertSame(comicBook, result);
 
-    Mockito.verify(blockedHashService, Mockito.never()).isHashBlocked(Mockito.anyString());
+    Mockito.verify(page, Mockito.never()).getPageHash();
     Mockito.verify(page, Mockito.never()).setPageState(Mockito.any());
   }
 
   @Test
   public void testProcessWithoutBlockedPage() {
-    Mockito.when(blockedHashService.isHashBlocked(Mockito.anyString())).thenReturn(false);
+    processor.beforeStep(stepExecution);
+
+    final ComicBook result = processor.process(comicBook);
+
+    assertNotNull(result);
+    assertSame(comicBook, result);
+
+    Mockito.verify(blockedHashService, Mockito.times(1)).getHashes();
+    Mockito.verify(pageService, Mockito.never()).getBlockedPerceptualHashes();
+    Mockito.verify(page, Mockito.times(1)).setPageState(PageState.STABLE);
+  }
+
+  @Test
+  public void testProcessWithSimilarPage() {
+    blockedPerceptualHashList.add(TEST_BLOCKED_PERCEPTUAL_HASH);
+    Mockito.when(pageService.getBlockedPerceptualHashes()).thenReturn(blockedPerceptualHashList);
+    Mockito.when(page.getPerceptualHash()).thenReturn(TEST_BLOCKED_PERCEPTUAL_HASH ^ 0b111L);
+    processor.similarDistance = TEST_SIMILAR_DISTANCE;
+    processor.beforeStep(stepExecution);
+
+    final ComicBook result = processor.process(comicBook);
+
+    assertNotNull(result);
+    assertSame(comicBook, result);
+
+    Mockito.verify(pageService, Mockito.times(1)).getBlockedPerceptualHashes();
+    Mockito.verify(page, Mockito.times(1)).setPageState(PageState.DELETED);
+  }
+
+  @Test
+  public void testProcessWithDissimilarPage() {
+    blockedPerceptualHashList.add(TEST_BLOCKED_PERCEPTUAL_HASH);
+    Mockito.when(pageService.getBlockedPerceptualHashes()).thenReturn(blockedPerceptualHashList);
+    Mockito.when(page.getPerceptualHash()).thenReturn(TEST_BLOCKED_PERCEPTUAL_HASH ^ 0b11111L);
+    processor.similarDistance = TEST_SIMILAR_DISTANCE;
+    processor.beforeStep(stepExecution);
+
+    final ComicBook result = processor.process(comicBook);
+
+    assertNotNull(result);
+    assertSame(comicBook, result);
+
+    Mockito.verify(page, Mockito.times(1)).setPageState(PageState.STABLE);
+  }
+
+  @Test
+  public void testProcessWithoutPerceptualHash() {
+    blockedPerceptualHashList.add(TEST_BLOCKED_PERCEPTUAL_HASH);
+    Mockito.when(pageService.getBlockedPerceptualHashes()).thenReturn(blockedPerceptualHashList);
+    Mockito.when(page.getPerceptualHash()).thenReturn(null);
+    processor.similarDistance = TEST_SIMILAR_DISTANCE;
+    processor.beforeStep(stepExecution);
 
     final ComicBook result = processor.process(comicBook);
 
     assertNotNull(result);
     assertSame(comicBook, result);
 
-    Mockito.verify(blockedHashService, Mockito.times(1)).isHashBlocked(TEST_HASH);
     Mockito.verify(page, Mockito.times(1)).setPageState(PageState.STABLE);
   }
 
   @Test
   public void testAfterStep() {
+    processor.beforeStep(stepExecution);
+
     assertNull(processor.afterStep(stepExecution));
   }
 }
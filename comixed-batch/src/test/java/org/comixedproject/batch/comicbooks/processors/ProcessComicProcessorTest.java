@@ -0,0 +1,129 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.processors;
+
+import static junit.framework.TestCase.assertSame;
+import static org.comixedproject.batch.comicbooks.AddComicsConfiguration.PARAM_SKIP_METADATA;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProcessComicProcessorTest {
+  private static final String TEST_METADATA_SOURCE_NAME = "ComicVine";
+  private static final String TEST_METADATA_REFERENCE_ID = "12971";
+  private static final String TEST_WEB_ADDRESS =
+      "https://comicvine.gamespot.com/spider-man-1/4000-12971/";
+
+  @InjectMocks private ProcessComicProcessor processor;
+  @Mock private LoadFileContentsProcessor loadFileContentsProcessor;
+  @Mock private MarkBlockedPagesProcessor markBlockedPagesProcessor;
+  @Mock private CreateMetadataSourceProcessor createMetadataSourceProcessor;
+  @Mock private StepExecution stepExecution;
+  @Mock private JobExecution jobExecution;
+  @Mock private JobParameters jobParameters;
+  @Mock private ComicBook comicBook;
+
+  private Map<String, JobParameter<?>> parameterMap = new HashMap<>();
+
+  @Before
+  public void setUp() {
+    Mockito.when(stepExecution.getJobExecution()).thenReturn(jobExecution);
+    Mockito.when(jobExecution.getJobParameters()).thenReturn(jobParameters);
+
+    processor.beforeStep(stepExecution);
+  }
+
+  @Test
+  public void testBeforeStep() {
+    Mockito.verify(loadFileContentsProcessor, Mockito.times(1)).beforeStep(stepExecution);
+    Mockito.verify(markBlockedPagesProcessor, Mockito.times(1)).beforeStep(stepExecution);
+  }
+
+  @Test
+  public void testProcess() throws Exception {
+    Mockito.when(jobParameters.getParameters()).thenReturn(parameterMap);
+    Mockito.when(comicBook.isCreateMetadataSource()).thenReturn(true);
+    Mockito.when(comicBook.getMetadataSourceName()).thenReturn(TEST_METADATA_SOURCE_NAME);
+    Mockito.when(comicBook.getMetadataReferenceId()).thenReturn(TEST_METADATA_REFERENCE_ID);
+    Mockito.when(comicBook.getMetadataWebAddress()).thenReturn(TEST_WEB_ADDRESS);
+
+    final ComicBook result = processor.process(comicBook);
+
+    assertSame(comicBook, result);
+
+    Mockito.verify(loadFileContentsProcessor, Mockito.times(1)).process(comicBook);
+    Mockito.verify(markBlockedPagesProcessor, Mockito.times(1)).process(comicBook);
+    Mockito.verify(createMetadataSourceProcessor, Mockito.times(1))
+        .createMetadataSource(
+            comicBook, TEST_METADATA_SOURCE_NAME, TEST_METADATA_REFERENCE_ID, TEST_WEB_ADDRESS);
+    Mockito.verify(createMetadataSourceProcessor, Mockito.never()).process(Mockito.any());
+  }
+
+  @Test
+  public void testProcessNoMetadataSourceRequested() throws Exception {
+    Mockito.when(comicBook.isCreateMetadataSource()).thenReturn(false);
+
+    processor.process(comicBook);
+
+    Mockito.verify(loadFileContentsProcessor, Mockito.times(1)).process(comicBook);
+    Mockito.verify(markBlockedPagesProcessor, Mockito.times(1)).process(comicBook);
+    Mockito.verifyNoInteractions(createMetadataSourceProcessor);
+  }
+
+  @Test
+  public void testProcessSkippingMetadata() throws Exception {
+    Mockito.when(jobParameters.getParameters()).thenReturn(parameterMap);
+    parameterMap.put(PARAM_SKIP_METADATA, new JobParameter<>("true", String.class));
+    Mockito.when(jobParameters.getString(PARAM_SKIP_METADATA)).thenReturn("true");
+    Mockito.when(comicBook.isCreateMetadataSource()).thenReturn(true);
+
+    processor.process(comicBook);
+
+    Mockito.verify(loadFileContentsProcessor, Mockito.times(1)).process(comicBook);
+    Mockito.verify(createMetadataSourceProcessor, Mockito.times(1)).process(comicBook);
+    Mockito.verify(createMetadataSourceProcessor, Mockito.never())
+        .createMetadataSource(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void testProcessContentsAlreadyLoaded() throws Exception {
+    Mockito.when(comicBook.isFileContentsLoaded()).thenReturn(true);
+    Mockito.when(comicBook.isBlockedPagesMarked()).thenReturn(true);
+    Mockito.when(comicBook.isCreateMetadataSource()).thenReturn(true);
+
+    processor.process(comicBook);
+
+    Mockito.verify(loadFileContentsProcessor, Mockito.never()).process(Mockito.any());
+    Mockito.verify(markBlockedPagesProcessor, Mockito.never()).process(Mockito.any());
+    Mockito.verify(createMetadataSourceProcessor, Mockito.times(1)).process(comicBook);
+  }
+}
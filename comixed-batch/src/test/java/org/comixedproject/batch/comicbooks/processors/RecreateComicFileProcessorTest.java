@@ -25,6 +25,7 @@ import static junit.framework.TestCase.assertSame;
 import org.comixedproject.adaptors.AdaptorException;
 import org.comixedproject.adaptors.comicbooks.ComicBookAdaptor;
 import org.comixedproject.batch.comicbooks.RecreateComicFilesConfiguration;
+import org.comixedproject.batch.scheduling.BatchIoBudget;
 import org.comixedproject.model.archives.ArchiveType;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.service.admin.ConfigurationService;
@@ -49,6 +50,7 @@ public class RecreateComicFileProcessorTest {
   @Mock private StepExecution stepExecution;
   @Mock private JobParameters jobParameters;
   @Mock private ComicBookAdaptor comicBookAdaptor;
+  @Mock private BatchIoBudget batchIoBudget;
   @Mock private ComicBook comicBook;
 
   @Before
@@ -97,6 +99,7 @@ public class RecreateComicFileProcessorTest {
     Mockito.verify(comicBook, Mockito.never()).removeDeletedPages();
     Mockito.verify(comicBookAdaptor, Mockito.times(1))
         .save(comicBook, TEST_TARGET_ARCHIVE, false, TEST_PAGE_RENAMING_RULE);
+    Mockito.verify(batchIoBudget, Mockito.times(1)).acquire(comicBook, 2);
   }
 
   @Test
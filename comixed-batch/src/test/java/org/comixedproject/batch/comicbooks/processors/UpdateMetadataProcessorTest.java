@@ -26,6 +26,7 @@ import static org.comixedproject.service.admin.ConfigurationService.CREATE_EXTER
 
 import org.comixedproject.adaptors.AdaptorException;
 import org.comixedproject.adaptors.comicbooks.ComicBookAdaptor;
+import org.comixedproject.batch.scheduling.BatchIoBudget;
 import org.comixedproject.model.archives.ArchiveType;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.model.comicbooks.ComicDetail;
@@ -46,6 +47,7 @@ public class UpdateMetadataProcessorTest {
 
   @InjectMocks private UpdateMetadataProcessor processor;
   @Mock private ComicBookAdaptor comicBookAdaptor;
+  @Mock private BatchIoBudget batchIoBudget;
   @Mock private ConfigurationService configurationService;
   @Mock private ComicBook comicBook;
   @Mock private ComicDetail comicDetail;
@@ -175,5 +177,6 @@ public class UpdateMetadataProcessorTest {
         .save(comicBook, TEST_ARCHIVE_TYPE, false, "");
     Mockito.verify(configurationService, Mockito.times(1))
         .isFeatureEnabled(CREATE_EXTERNAL_METADATA_FILE);
+    Mockito.verify(batchIoBudget, Mockito.times(1)).acquire(comicBook, 2);
   }
 }
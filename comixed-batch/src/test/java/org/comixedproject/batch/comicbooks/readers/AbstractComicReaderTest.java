@@ -0,0 +1,262 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.readers;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNotNull;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.repositories.comicbooks.ComicBookSelection;
+import org.comixedproject.service.comicbooks.ComicBookService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AbstractComicReaderTest {
+  private static final ComicBookSelection TEST_SELECTION = ComicBookSelection.UNPROCESSED;
+  private static final long TEST_MAX_ID = 47L;
+  private static final long TEST_LAST_ID = 29L;
+  private static final int TEST_CHUNK_SIZE = 5;
+  private static final int TEST_ID_PAGE_SIZE = 12;
+
+  @InjectMocks private TestComicReader reader;
+  @Mock private ComicBookService comicBookService;
+
+  private final ExecutionContext executionContext = new ExecutionContext();
+
+  @Before
+  public void setUp() {
+    ReflectionTestUtils.setField(reader, "batchChunkSize", TEST_CHUNK_SIZE);
+    ReflectionTestUtils.setField(reader, "idPageSize", TEST_ID_PAGE_SIZE);
+  }
+
+  @Test
+  public void testOpen() {
+    Mockito.when(comicBookService.getMaxIdForSelection(Mockito.any(ComicBookSelection.class)))
+        .thenReturn(TEST_MAX_ID);
+
+    reader.open(executionContext);
+
+    assertTrue(reader.opened);
+    assertEquals(0L, reader.lastReadId);
+    assertEquals(0L, reader.lastQueuedId);
+    assertEquals(TEST_MAX_ID, reader.maxId);
+
+    Mockito.verify(comicBookService, Mockito.times(1)).getMaxIdForSelection(TEST_SELECTION);
+  }
+
+  @Test
+  public void testOpenNoComicsSelected() {
+    Mockito.when(comicBookService.getMaxIdForSelection(Mockito.any(ComicBookSelection.class)))
+        .thenReturn(null);
+
+    reader.open(executionContext);
+
+    assertNull(reader.read());
+
+    Mockito.verify(comicBookService, Mockito.never())
+        .findIdsForSelection(
+            Mockito.any(ComicBookSelection.class),
+            Mockito.anyLong(),
+            Mockito.anyLong(),
+            Mockito.anyInt());
+  }
+
+  @Test
+  public void testOpenRestart() {
+    executionContext.putLong(AbstractComicReader.LAST_ID_KEY, TEST_LAST_ID);
+    executionContext.putLong(AbstractComicReader.MAX_ID_KEY, TEST_MAX_ID);
+
+    reader.open(executionContext);
+
+    assertEquals(TEST_LAST_ID, reader.lastReadId);
+    assertEquals(TEST_LAST_ID, reader.lastQueuedId);
+    assertEquals(TEST_MAX_ID, reader.maxId);
+
+    Mockito.verify(comicBookService, Mockito.never())
+        .getMaxIdForSelection(Mockito.any(ComicBookSelection.class));
+  }
+
+  @Test
+  public void testUpdate() {
+    reader.lastReadId = TEST_LAST_ID;
+    reader.maxId = TEST_MAX_ID;
+
+    reader.update(executionContext);
+
+    assertEquals(TEST_LAST_ID, executionContext.getLong(AbstractComicReader.LAST_ID_KEY));
+    assertEquals(TEST_MAX_ID, executionContext.getLong(AbstractComicReader.MAX_ID_KEY));
+  }
+
+  @Test
+  public void testClose() {
+    reader.opened = true;
+    reader.idList.add(TEST_LAST_ID);
+    reader.comicBookList.add(new ComicBook());
+
+    reader.close();
+
+    assertFalse(reader.opened);
+    assertTrue(reader.idList.isEmpty());
+    assertTrue(reader.comicBookList.isEmpty());
+  }
+
+  @Test
+  public void testReadAll() {
+    Mockito.when(comicBookService.getMaxIdForSelection(Mockito.any(ComicBookSelection.class)))
+        .thenReturn(TEST_MAX_ID);
+    this.doStubComicLoading();
+
+    reader.open(executionContext);
+    final List<Long> result = this.doReadAll();
+
+    assertEquals(
+        LongStream.rangeClosed(1L, TEST_MAX_ID).boxed().collect(Collectors.toList()), result);
+
+    Mockito.verify(comicBookService, Mockito.times(4))
+        .findIdsForSelection(
+            Mockito.eq(TEST_SELECTION),
+            Mockito.anyLong(),
+            Mockito.eq(TEST_MAX_ID),
+            Mockito.eq(TEST_ID_PAGE_SIZE));
+    Mockito.verify(comicBookService, Mockito.times(12))
+        .findComicsWithDetailsAndPages(Mockito.eq(TEST_SELECTION), Mockito.anyList());
+  }
+
+  @Test
+  public void testReadAfterRestart() {
+    executionContext.putLong(AbstractComicReader.LAST_ID_KEY, TEST_LAST_ID);
+    executionContext.putLong(AbstractComicReader.MAX_ID_KEY, TEST_MAX_ID);
+    this.doStubComicLoading();
+
+    reader.open(executionContext);
+    final List<Long> result = this.doReadAll();
+
+    assertEquals(
+        LongStream.rangeClosed(TEST_LAST_ID + 1L, TEST_MAX_ID).boxed().collect(Collectors.toList()),
+        result);
+  }
+
+  @Test
+  public void testReadSkipsComicsNoLongerSelected() {
+    Mockito.when(comicBookService.getMaxIdForSelection(Mockito.any(ComicBookSelection.class)))
+        .thenReturn(TEST_MAX_ID);
+    Mockito.when(
+            comicBookService.findIdsForSelection(
+                Mockito.any(ComicBookSelection.class),
+                Mockito.anyLong(),
+                Mockito.anyLong(),
+                Mockito.anyInt()))
+        .thenAnswer(this::doLoadIds);
+    Mockito.when(
+            comicBookService.findComicsWithDetailsAndPages(
+                Mockito.any(ComicBookSelection.class), Mockito.anyList()))
+        .thenReturn(new ArrayList<>())
+        .thenAnswer(this::doLoadComics);
+
+    reader.open(executionContext);
+    final ComicBook result = reader.read();
+
+    assertNotNull(result);
+    assertEquals(TEST_CHUNK_SIZE + 1L, result.getId().longValue());
+  }
+
+  @Test
+  public void testReadWithoutOpen() {
+    Mockito.when(comicBookService.getMaxIdForSelection(Mockito.any(ComicBookSelection.class)))
+        .thenReturn(TEST_MAX_ID);
+    this.doStubComicLoading();
+
+    final ComicBook result = reader.read();
+
+    assertNotNull(result);
+    assertTrue(reader.opened);
+    assertEquals(1L, reader.lastReadId);
+  }
+
+  private void doStubComicLoading() {
+    Mockito.when(
+            comicBookService.findIdsForSelection(
+                Mockito.any(ComicBookSelection.class),
+                Mockito.anyLong(),
+                Mockito.anyLong(),
+                Mockito.anyInt()))
+        .thenAnswer(this::doLoadIds);
+    Mockito.when(
+            comicBookService.findComicsWithDetailsAndPages(
+                Mockito.any(ComicBookSelection.class), Mockito.anyList()))
+        .thenAnswer(this::doLoadComics);
+  }
+
+  private List<Long> doReadAll() {
+    final List<Long> result = new ArrayList<>();
+    ComicBook comicBook;
+    while ((comicBook = reader.read()) != null) {
+      result.add(comicBook.getId());
+      reader.update(executionContext);
+      assertEquals(
+          comicBook.getId().longValue(), executionContext.getLong(AbstractComicReader.LAST_ID_KEY));
+    }
+    return result;
+  }
+
+  private List<Long> doLoadIds(final InvocationOnMock invocation) {
+    final long lastId = invocation.getArgument(1);
+    final long maxId = invocation.getArgument(2);
+    final int count = invocation.getArgument(3);
+    return LongStream.rangeClosed(lastId + 1L, Math.min(lastId + count, maxId))
+        .boxed()
+        .collect(Collectors.toList());
+  }
+
+  private List<ComicBook> doLoadComics(final InvocationOnMock invocation) {
+    final List<Long> ids = invocation.getArgument(1);
+    assertTrue(ids.size() <= TEST_CHUNK_SIZE);
+    return ids.stream()
+        .map(
+            id -> {
+              final ComicBook comicBook = new ComicBook();
+              comicBook.setId(id);
+              return comicBook;
+            })
+        .collect(Collectors.toList());
+  }
+
+  static class TestComicReader extends AbstractComicReader {
+    @Override
+    protected ComicBookSelection getSelection() {
+      return TEST_SELECTION;
+    }
+  }
+}
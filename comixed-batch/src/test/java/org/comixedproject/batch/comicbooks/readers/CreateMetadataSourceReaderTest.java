@@ -18,15 +18,12 @@
 
 package org.comixedproject.batch.comicbooks.readers;
 
-import static junit.framework.TestCase.assertEquals;
-import static junit.framework.TestCase.assertFalse;
-import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertNull;
 import static junit.framework.TestCase.assertSame;
 
-import java.util.ArrayList;
 import java.util.List;
 import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.repositories.comicbooks.ComicBookSelection;
 import org.comixedproject.service.comicbooks.ComicBookService;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -34,62 +31,57 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.item.ExecutionContext;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CreateMetadataSourceReaderTest {
-  private static final int MAX_RECORDS = 25;
+  private static final ComicBookSelection TEST_SELECTION =
+      ComicBookSelection.UNPROCESSED_WITH_CREATE_METADATA_SOURCE;
+  private static final long TEST_COMIC_BOOK_ID = 717L;
 
   @InjectMocks private CreateMetadataSourceReader reader;
   @Mock private ComicBookService comicBookService;
   @Mock private ComicBook comicBook;
 
-  private List<ComicBook> comicBookList = new ArrayList<>();
-
   @Test
-  public void testReadNoneLoadedManyFound() {
-    for (int index = 0; index < MAX_RECORDS; index++) comicBookList.add(comicBook);
-
-    Mockito.when(comicBookService.findComicsWithCreateMetadataFlagSet(Mockito.anyInt()))
-        .thenReturn(comicBookList);
-
-    final ComicBook result = reader.read();
-
-    assertNotNull(result);
-    assertSame(comicBook, result);
-    assertFalse(comicBookList.isEmpty());
-    assertEquals(MAX_RECORDS - 1, comicBookList.size());
-
-    Mockito.verify(comicBookService, Mockito.times(1))
-        .findComicsWithCreateMetadataFlagSet(reader.getBatchChunkSize());
-  }
-
-  @Test
-  public void testReadNoneRemaining() {
-    Mockito.when(comicBookService.findComicsWithCreateMetadataFlagSet(Mockito.anyInt()))
-        .thenReturn(comicBookList);
-
-    reader.comicBookList = comicBookList;
+  public void testReadNoneFound() {
+    Mockito.when(comicBookService.getMaxIdForSelection(Mockito.any(ComicBookSelection.class)))
+        .thenReturn(null);
 
+    reader.open(new ExecutionContext());
     final ComicBook result = reader.read();
 
     assertNull(result);
-    assertNull(reader.comicBookList);
 
-    Mockito.verify(comicBookService, Mockito.times(1))
-        .findComicsWithCreateMetadataFlagSet(reader.getBatchChunkSize());
+    Mockito.verify(comicBookService, Mockito.times(1)).getMaxIdForSelection(TEST_SELECTION);
   }
 
   @Test
-  public void testReadNoneLoadedNoneFound() {
-    Mockito.when(comicBookService.findComicsWithCreateMetadataFlagSet(Mockito.anyInt()))
-        .thenReturn(comicBookList);
-
+  public void testRead() {
+    Mockito.when(comicBookService.getMaxIdForSelection(Mockito.any(ComicBookSelection.class)))
+        .thenReturn(TEST_COMIC_BOOK_ID);
+    Mockito.when(
+            comicBookService.findIdsForSelection(
+                Mockito.any(ComicBookSelection.class),
+                Mockito.anyLong(),
+                Mockito.anyLong(),
+                Mockito.anyInt()))
+        .thenReturn(List.of(TEST_COMIC_BOOK_ID));
+    Mockito.when(
+            comicBookService.findComicsWithDetailsAndPages(
+                Mockito.any(ComicBookSelection.class), Mockito.anyList()))
+        .thenReturn(List.of(comicBook));
+    Mockito.when(comicBook.getId()).thenReturn(TEST_COMIC_BOOK_ID);
+
+    reader.open(new ExecutionContext());
     final ComicBook result = reader.read();
 
-    assertNull(result);
-    assertNull(reader.comicBookList);
+    assertSame(comicBook, result);
+    assertNull(reader.read());
 
     Mockito.verify(comicBookService, Mockito.times(1))
-        .findComicsWithCreateMetadataFlagSet(reader.getBatchChunkSize());
+        .findIdsForSelection(TEST_SELECTION, 0L, TEST_COMIC_BOOK_ID, reader.getIdPageSize());
+    Mockito.verify(comicBookService, Mockito.times(1))
+        .findComicsWithDetailsAndPages(TEST_SELECTION, List.of(TEST_COMIC_BOOK_ID));
   }
 }
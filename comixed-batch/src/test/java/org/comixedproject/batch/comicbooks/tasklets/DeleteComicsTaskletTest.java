@@ -0,0 +1,153 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.tasklets;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_DELETE_REMOVED_COMIC_FILES;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.comixedproject.adaptors.comicbooks.ComicBookAdaptor;
+import org.comixedproject.adaptors.file.FileAdaptor;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.model.comicbooks.ComicDetail;
+import org.comixedproject.service.comicbooks.ComicBookService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DeleteComicsTaskletTest {
+  private static final int TEST_BATCH_SIZE = 25;
+  private static final long TEST_COMIC_BOOK_ID = 717L;
+  private static final File TEST_COMIC_FILE = new File("/library/comic.cbz");
+  private static final String TEST_METADATA_FILENAME = "/library/comic.xml";
+
+  @InjectMocks private DeleteComicsTasklet tasklet;
+  @Mock private ComicBookService comicBookService;
+  @Mock private FileAdaptor fileAdaptor;
+  @Mock private ComicBookAdaptor comicBookAdaptor;
+  @Mock private StepContribution contribution;
+  @Mock private StepExecution stepExecution;
+  @Mock private JobParameters jobParameters;
+  @Mock private ChunkContext chunkContext;
+  @Mock private ComicBook comicBook;
+  @Mock private ComicDetail comicDetail;
+
+  private List<ComicBook> comicBookList = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    ReflectionTestUtils.setField(tasklet, "batchSize", TEST_BATCH_SIZE);
+    Mockito.when(comicBookService.findComicsMarkedForDeletion(Mockito.anyInt()))
+        .thenReturn(comicBookList);
+  }
+
+  @Test
+  public void testExecuteNoneRemaining() throws Exception {
+    final RepeatStatus result = tasklet.execute(contribution, chunkContext);
+
+    assertEquals(RepeatStatus.FINISHED, result);
+
+    Mockito.verify(comicBookService, Mockito.times(1)).findComicsMarkedForDeletion(TEST_BATCH_SIZE);
+    Mockito.verify(comicBookService, Mockito.never()).purgeComicBooks(Mockito.anyList());
+  }
+
+  @Test
+  public void testExecuteKeepFiles() throws Exception {
+    comicBookList.add(comicBook);
+    Mockito.when(contribution.getStepExecution()).thenReturn(stepExecution);
+    Mockito.when(stepExecution.getJobParameters()).thenReturn(jobParameters);
+    Mockito.when(comicBook.getId()).thenReturn(TEST_COMIC_BOOK_ID);
+    Mockito.when(jobParameters.getString(PARAM_DELETE_REMOVED_COMIC_FILES, String.valueOf(false)))
+        .thenReturn(String.valueOf(false));
+
+    final RepeatStatus result = tasklet.execute(contribution, chunkContext);
+
+    assertEquals(RepeatStatus.CONTINUABLE, result);
+
+    Mockito.verify(comicBookService, Mockito.times(1)).purgeComicBooks(List.of(TEST_COMIC_BOOK_ID));
+    Mockito.verify(contribution, Mockito.times(1)).incrementWriteCount(1);
+    Mockito.verify(fileAdaptor, Mockito.never()).deleteFile(Mockito.any(File.class));
+  }
+
+  @Test
+  public void testExecuteDeleteFiles() throws Exception {
+    comicBookList.add(comicBook);
+    Mockito.when(contribution.getStepExecution()).thenReturn(stepExecution);
+    Mockito.when(stepExecution.getJobParameters()).thenReturn(jobParameters);
+    Mockito.when(comicBook.getId()).thenReturn(TEST_COMIC_BOOK_ID);
+    Mockito.when(comicBook.getComicDetail()).thenReturn(comicDetail);
+    Mockito.when(comicDetail.getFile()).thenReturn(TEST_COMIC_FILE);
+    Mockito.when(comicBookAdaptor.getMetadataFilename(Mockito.any(ComicBook.class)))
+        .thenReturn(TEST_METADATA_FILENAME);
+    Mockito.when(jobParameters.getString(PARAM_DELETE_REMOVED_COMIC_FILES, String.valueOf(false)))
+        .thenReturn(String.valueOf(true));
+
+    final RepeatStatus result = tasklet.execute(contribution, chunkContext);
+
+    assertEquals(RepeatStatus.CONTINUABLE, result);
+
+    Mockito.verify(comicBookService, Mockito.times(1)).purgeComicBooks(List.of(TEST_COMIC_BOOK_ID));
+    Mockito.verify(fileAdaptor, Mockito.times(1)).deleteFile(TEST_COMIC_FILE);
+    Mockito.verify(fileAdaptor, Mockito.times(1)).deleteFile(new File(TEST_METADATA_FILENAME));
+  }
+
+  @Test
+  public void testExecuteDeleteFilesAfterCommit() throws Exception {
+    comicBookList.add(comicBook);
+    Mockito.when(contribution.getStepExecution()).thenReturn(stepExecution);
+    Mockito.when(stepExecution.getJobParameters()).thenReturn(jobParameters);
+    Mockito.when(comicBook.getId()).thenReturn(TEST_COMIC_BOOK_ID);
+    Mockito.when(comicBook.getComicDetail()).thenReturn(comicDetail);
+    Mockito.when(comicDetail.getFile()).thenReturn(TEST_COMIC_FILE);
+    Mockito.when(comicBookAdaptor.getMetadataFilename(Mockito.any(ComicBook.class)))
+        .thenReturn(TEST_METADATA_FILENAME);
+    Mockito.when(jobParameters.getString(PARAM_DELETE_REMOVED_COMIC_FILES, String.valueOf(false)))
+        .thenReturn(String.valueOf(true));
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      tasklet.execute(contribution, chunkContext);
+
+      Mockito.verify(fileAdaptor, Mockito.never()).deleteFile(Mockito.any(File.class));
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    Mockito.verify(fileAdaptor, Mockito.times(1)).deleteFile(TEST_COMIC_FILE);
+    Mockito.verify(fileAdaptor, Mockito.times(1)).deleteFile(new File(TEST_METADATA_FILENAME));
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.tasklets;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.comixedproject.service.admin.ConfigurationService.CFG_LIBRARY_DELETE_EMPTY_DIRECTORIES;
+import static org.comixedproject.service.admin.ConfigurationService.CFG_LIBRARY_ROOT_DIRECTORY;
+
+import java.io.File;
+import java.io.IOException;
+import org.apache.commons.io.FileUtils;
+import org.comixedproject.adaptors.file.FileAdaptor;
+import org.comixedproject.service.admin.ConfigurationService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DeleteEmptyDirectoriesTaskletTest {
+  private static final File TEST_ROOT_DIRECTORY = new File("target/test-classes/empty-dirs-root");
+  private static final File TEST_EMPTY_PARENT = new File(TEST_ROOT_DIRECTORY, "parent");
+  private static final File TEST_EMPTY_CHILD = new File(TEST_EMPTY_PARENT, "child");
+  private static final File TEST_NON_EMPTY = new File(TEST_ROOT_DIRECTORY, "not-empty");
+
+  @InjectMocks private DeleteEmptyDirectoriesTasklet tasklet;
+  @Mock private ConfigurationService configurationService;
+  @Mock private FileAdaptor fileAdaptor;
+  @Mock private StepContribution contribution;
+  @Mock private ChunkContext chunkContext;
+
+  @Before
+  public void setUp() throws IOException {
+    FileUtils.forceMkdir(TEST_EMPTY_CHILD);
+    FileUtils.touch(new File(TEST_NON_EMPTY, "comic.cbz"));
+    Mockito.when(configurationService.getOptionValue(CFG_LIBRARY_ROOT_DIRECTORY))
+        .thenReturn(TEST_ROOT_DIRECTORY.getAbsolutePath());
+    Mockito.when(
+            configurationService.getOptionValue(
+                CFG_LIBRARY_DELETE_EMPTY_DIRECTORIES, Boolean.FALSE.toString()))
+        .thenReturn(String.valueOf(true));
+    Mockito.doAnswer(
+            invocation -> {
+              FileUtils.deleteDirectory(invocation.getArgument(0, File.class));
+              return null;
+            })
+        .when(fileAdaptor)
+        .deleteDirectory(Mockito.any(File.class));
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(TEST_ROOT_DIRECTORY);
+  }
+
+  @Test
+  public void testExecuteNoRootDirectory() throws Exception {
+    Mockito.when(configurationService.getOptionValue(CFG_LIBRARY_ROOT_DIRECTORY)).thenReturn("");
+
+    assertEquals(RepeatStatus.FINISHED, tasklet.execute(contribution, chunkContext));
+
+    Mockito.verify(fileAdaptor, Mockito.never()).deleteDirectory(Mockito.any(File.class));
+  }
+
+  @Test
+  public void testExecuteNotDeletingEmptyDirectories() throws Exception {
+    Mockito.when(
+            configurationService.getOptionValue(
+                CFG_LIBRARY_DELETE_EMPTY_DIRECTORIES, Boolean.FALSE.toString()))
+        .thenReturn(String.valueOf(false));
+
+    assertEquals(RepeatStatus.FINISHED, tasklet.execute(contribution, chunkContext));
+
+    Mockito.verify(fileAdaptor, Mockito.never()).deleteDirectory(Mockito.any(File.class));
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    assertEquals(RepeatStatus.FINISHED, tasklet.execute(contribution, chunkContext));
+
+    Mockito.verify(fileAdaptor, Mockito.times(1))
+        .deleteDirectory(TEST_EMPTY_CHILD.getAbsoluteFile());
+    Mockito.verify(fileAdaptor, Mockito.times(2)).deleteDirectory(Mockito.any(File.class));
+    Mockito.verify(contribution, Mockito.times(2)).incrementWriteCount(1);
+  }
+}
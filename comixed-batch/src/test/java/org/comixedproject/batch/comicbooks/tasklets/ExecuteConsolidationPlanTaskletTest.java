@@ -0,0 +1,142 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.tasklets;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_RENAMING_RULE;
+import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_TARGET_DIRECTORY;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.commons.io.FileUtils;
+import org.comixedproject.adaptors.file.FileAdaptor;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationJournal;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationMove;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.UnexpectedJobExecutionException;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ExecuteConsolidationPlanTaskletTest {
+  private static final File TEST_WORK_DIRECTORY =
+      new File("target/test-classes/consolidation-execute");
+  private static final String TEST_TARGET_DIRECTORY =
+      new File(TEST_WORK_DIRECTORY, "target").getAbsolutePath();
+  private static final String TEST_RENAMING_RULE = "$SERIES/$ISSUE";
+  private static final File TEST_SOURCE_FILE = new File(TEST_WORK_DIRECTORY, "source/1.cbz");
+  private static final File TEST_SOURCE_METADATA_FILE =
+      new File(TEST_WORK_DIRECTORY, "source/1.xml");
+  private static final File TEST_TARGET_FILE = new File(TEST_TARGET_DIRECTORY, "Series/1.cbz");
+  private static final File TEST_TARGET_METADATA_FILE =
+      new File(TEST_TARGET_DIRECTORY, "Series/1.xml");
+
+  @InjectMocks private ExecuteConsolidationPlanTasklet tasklet;
+  @Mock private FileAdaptor fileAdaptor;
+  @Mock private ConsolidationJournal consolidationJournal;
+  @Mock private StepContribution contribution;
+  @Mock private StepExecution stepExecution;
+  @Mock private JobParameters jobParameters;
+  @Mock private ChunkContext chunkContext;
+
+  private ConsolidationMove move;
+  private ConsolidationMove completedMove;
+
+  @Before
+  public void setUp() throws IOException {
+    FileUtils.touch(TEST_SOURCE_FILE);
+    FileUtils.touch(TEST_SOURCE_METADATA_FILE);
+    Mockito.when(contribution.getStepExecution()).thenReturn(stepExecution);
+    Mockito.when(stepExecution.getJobParameters()).thenReturn(jobParameters);
+    Mockito.when(jobParameters.getString(PARAM_TARGET_DIRECTORY)).thenReturn(TEST_TARGET_DIRECTORY);
+    Mockito.when(jobParameters.getString(PARAM_RENAMING_RULE)).thenReturn(TEST_RENAMING_RULE);
+
+    move =
+        new ConsolidationMove(
+            1L,
+            TEST_SOURCE_FILE.getAbsolutePath(),
+            TEST_TARGET_FILE.getAbsolutePath(),
+            TEST_SOURCE_METADATA_FILE.getAbsolutePath(),
+            TEST_TARGET_METADATA_FILE.getAbsolutePath(),
+            false);
+    completedMove = new ConsolidationMove(2L, "/source/2.cbz", "/target/2.cbz", null, null, true);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(TEST_WORK_DIRECTORY);
+  }
+
+  @Test
+  public void testExecuteNothingToMove() throws Exception {
+    Mockito.when(consolidationJournal.loadPlan(TEST_TARGET_DIRECTORY, TEST_RENAMING_RULE))
+        .thenReturn(List.of(completedMove));
+
+    assertEquals(RepeatStatus.FINISHED, tasklet.execute(contribution, chunkContext));
+
+    Mockito.verify(fileAdaptor, Mockito.never())
+        .moveFile(Mockito.any(File.class), Mockito.any(File.class));
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    Mockito.when(consolidationJournal.loadPlan(TEST_TARGET_DIRECTORY, TEST_RENAMING_RULE))
+        .thenReturn(List.of(move, completedMove));
+
+    assertEquals(RepeatStatus.FINISHED, tasklet.execute(contribution, chunkContext));
+
+    Mockito.verify(fileAdaptor, Mockito.times(1))
+        .createDirectory(TEST_TARGET_FILE.getAbsoluteFile().getParentFile());
+    Mockito.verify(fileAdaptor, Mockito.times(1))
+        .moveFile(new File(move.getSource()), new File(move.getTarget()));
+    Mockito.verify(fileAdaptor, Mockito.times(1))
+        .moveFile(new File(move.getMetadataSource()), new File(move.getMetadataTarget()));
+    Mockito.verify(consolidationJournal, Mockito.times(1))
+        .markCompleted(TEST_TARGET_DIRECTORY, move);
+    Mockito.verify(contribution, Mockito.times(1)).incrementWriteCount(1L);
+  }
+
+  @Test(expected = UnexpectedJobExecutionException.class)
+  public void testExecuteMoveFails() throws Exception {
+    Mockito.when(consolidationJournal.loadPlan(TEST_TARGET_DIRECTORY, TEST_RENAMING_RULE))
+        .thenReturn(List.of(move));
+    Mockito.doThrow(IOException.class)
+        .when(fileAdaptor)
+        .moveFile(Mockito.any(File.class), Mockito.any(File.class));
+
+    try {
+      tasklet.execute(contribution, chunkContext);
+    } finally {
+      Mockito.verify(consolidationJournal, Mockito.never())
+          .markCompleted(Mockito.anyString(), Mockito.any(ConsolidationMove.class));
+      Mockito.verify(contribution, Mockito.times(1)).incrementWriteCount(0L);
+    }
+  }
+}
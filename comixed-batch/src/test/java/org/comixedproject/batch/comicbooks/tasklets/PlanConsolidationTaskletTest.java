@@ -0,0 +1,148 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.tasklets;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_RENAMING_RULE;
+import static org.comixedproject.batch.comicbooks.ConsolidationConfiguration.PARAM_TARGET_DIRECTORY;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.comixedproject.adaptors.comicbooks.ComicBookAdaptor;
+import org.comixedproject.adaptors.comicbooks.ComicFileAdaptor;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationJournal;
+import org.comixedproject.batch.comicbooks.consolidation.ConsolidationMove;
+import org.comixedproject.model.archives.ArchiveType;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.model.comicbooks.ComicDetail;
+import org.comixedproject.service.comicbooks.ComicBookService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PlanConsolidationTaskletTest {
+  private static final String TEST_TARGET_DIRECTORY =
+      new File("target/test-classes/consolidation-target").getAbsolutePath();
+  private static final String TEST_RENAMING_RULE = "$SERIES/$ISSUE";
+  private static final String TEST_ROOT_FILENAME = TEST_TARGET_DIRECTORY + "/Series/001";
+  private static final int TEST_PAGE_SIZE = 2;
+
+  @InjectMocks private PlanConsolidationTasklet tasklet;
+  @Mock private ComicBookService comicBookService;
+  @Mock private ComicFileAdaptor comicFileAdaptor;
+  @Mock private ComicBookAdaptor comicBookAdaptor;
+  @Mock private ConsolidationJournal consolidationJournal;
+  @Mock private StepContribution contribution;
+  @Mock private StepExecution stepExecution;
+  @Mock private JobParameters jobParameters;
+  @Mock private ChunkContext chunkContext;
+
+  @Captor private ArgumentCaptor<List<ConsolidationMove>> movesArgumentCaptor;
+
+  private List<ComicBook> comicBooks = new ArrayList<>();
+
+  @Before
+  public void setUp() throws Exception {
+    ReflectionTestUtils.setField(tasklet, "pageSize", TEST_PAGE_SIZE);
+    Mockito.when(contribution.getStepExecution()).thenReturn(stepExecution);
+    Mockito.when(stepExecution.getJobParameters()).thenReturn(jobParameters);
+    Mockito.when(jobParameters.getString(PARAM_TARGET_DIRECTORY)).thenReturn(TEST_TARGET_DIRECTORY);
+    Mockito.when(jobParameters.getString(PARAM_RENAMING_RULE)).thenReturn(TEST_RENAMING_RULE);
+    Mockito.when(
+            comicFileAdaptor.createFilenameFromRule(
+                Mockito.any(ComicBook.class), Mockito.anyString(), Mockito.anyString()))
+        .thenReturn(TEST_ROOT_FILENAME);
+    Mockito.when(comicBookAdaptor.getMetadataFilename(Mockito.any(ComicBook.class)))
+        .thenReturn("/not/a/real/metadata.xml");
+
+    for (int index = 0; index < 3; index++) {
+      final ComicBook comicBook = Mockito.mock(ComicBook.class);
+      final ComicDetail comicDetail = Mockito.mock(ComicDetail.class);
+      Mockito.when(comicBook.getId()).thenReturn((long) index);
+      Mockito.when(comicBook.getComicDetail()).thenReturn(comicDetail);
+      Mockito.when(comicDetail.getFile()).thenReturn(new File("/source/" + index + ".cbz"));
+      Mockito.when(comicDetail.getArchiveType()).thenReturn(ArchiveType.CBZ);
+      comicBooks.add(comicBook);
+    }
+    Mockito.when(comicBookService.findComicsToBeMoved(0, TEST_PAGE_SIZE))
+        .thenReturn(comicBooks.subList(0, 2));
+    Mockito.when(comicBookService.findComicsToBeMoved(1, TEST_PAGE_SIZE))
+        .thenReturn(comicBooks.subList(2, 3));
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    Mockito.when(consolidationJournal.loadPlan(TEST_TARGET_DIRECTORY, TEST_RENAMING_RULE))
+        .thenReturn(new ArrayList<>());
+
+    final RepeatStatus result = tasklet.execute(contribution, chunkContext);
+
+    assertEquals(RepeatStatus.FINISHED, result);
+
+    Mockito.verify(consolidationJournal, Mockito.times(2))
+        .appendMoves(
+            Mockito.eq(TEST_TARGET_DIRECTORY),
+            Mockito.eq(TEST_RENAMING_RULE),
+            movesArgumentCaptor.capture());
+    final List<List<ConsolidationMove>> moves = movesArgumentCaptor.getAllValues();
+    assertEquals(TEST_ROOT_FILENAME + ".cbz", moves.get(0).get(0).getTarget());
+    assertEquals(TEST_ROOT_FILENAME + "-1.cbz", moves.get(0).get(1).getTarget());
+    assertEquals(TEST_ROOT_FILENAME + "-2.cbz", moves.get(1).get(0).getTarget());
+    assertNull(moves.get(1).get(0).getMetadataTarget());
+    Mockito.verify(contribution, Mockito.times(3)).incrementWriteCount(1);
+  }
+
+  @Test
+  public void testExecuteResumesExistingPlan() throws Exception {
+    Mockito.when(consolidationJournal.loadPlan(TEST_TARGET_DIRECTORY, TEST_RENAMING_RULE))
+        .thenReturn(
+            List.of(
+                new ConsolidationMove(
+                    0L, "/source/0.cbz", TEST_ROOT_FILENAME + ".cbz", null, null, true),
+                new ConsolidationMove(
+                    1L, "/source/1.cbz", TEST_ROOT_FILENAME + "-1.cbz", null, null, false)));
+
+    tasklet.execute(contribution, chunkContext);
+
+    Mockito.verify(consolidationJournal, Mockito.times(1))
+        .appendMoves(
+            Mockito.eq(TEST_TARGET_DIRECTORY),
+            Mockito.eq(TEST_RENAMING_RULE),
+            movesArgumentCaptor.capture());
+    final List<ConsolidationMove> moves = movesArgumentCaptor.getValue();
+    assertEquals(1, moves.size());
+    assertEquals(2L, moves.get(0).getComicBookId());
+    assertEquals(TEST_ROOT_FILENAME + "-2.cbz", moves.get(0).getTarget());
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.comicbooks.tasklets;
+
+import static junit.framework.TestCase.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.comixedproject.service.comicbooks.ComicBookService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PurgeMarkedComicsTaskletTest {
+  private static final int TEST_BATCH_SIZE = 25;
+  private static final long TEST_COMIC_BOOK_ID = 717L;
+
+  @InjectMocks private PurgeMarkedComicsTasklet tasklet;
+  @Mock private ComicBookService comicBookService;
+  @Mock private StepContribution contribution;
+  @Mock private ChunkContext chunkContext;
+
+  private List<Long> idList = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    ReflectionTestUtils.setField(tasklet, "batchSize", TEST_BATCH_SIZE);
+    Mockito.when(comicBookService.findIdsMarkedForPurging(Mockito.anyInt())).thenReturn(idList);
+  }
+
+  @Test
+  public void testExecuteNoneRemaining() throws Exception {
+    final RepeatStatus result = tasklet.execute(contribution, chunkContext);
+
+    assertEquals(RepeatStatus.FINISHED, result);
+
+    Mockito.verify(comicBookService, Mockito.times(1)).findIdsMarkedForPurging(TEST_BATCH_SIZE);
+    Mockito.verify(comicBookService, Mockito.never()).purgeComicBooks(Mockito.anyList());
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    idList.add(TEST_COMIC_BOOK_ID);
+
+    final RepeatStatus result = tasklet.execute(contribution, chunkContext);
+
+    assertEquals(RepeatStatus.CONTINUABLE, result);
+
+    Mockito.verify(comicBookService, Mockito.times(1)).purgeComicBooks(idList);
+    Mockito.verify(contribution, Mockito.times(1)).incrementWriteCount(idList.size());
+  }
+}
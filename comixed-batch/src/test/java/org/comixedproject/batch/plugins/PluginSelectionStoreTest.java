@@ -0,0 +1,52 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.plugins;
+
+import static junit.framework.TestCase.*;
+
+import java.util.List;
+import org.junit.Test;
+
+public class PluginSelectionStoreTest {
+  private static final List<Long> TEST_IDS = List.of(17L, 29L, 65L);
+
+  private PluginSelectionStore store = new PluginSelectionStore();
+
+  @Test
+  public void testStoreAndGet() {
+    final String key = store.store(TEST_IDS);
+
+    assertNotNull(key);
+    assertEquals(TEST_IDS, store.get(key));
+  }
+
+  @Test
+  public void testGetUnknownKey() {
+    assertTrue(store.get("unknown").isEmpty());
+  }
+
+  @Test
+  public void testRemove() {
+    final String key = store.store(TEST_IDS);
+
+    store.remove(key);
+
+    assertTrue(store.get(key).isEmpty());
+  }
+}
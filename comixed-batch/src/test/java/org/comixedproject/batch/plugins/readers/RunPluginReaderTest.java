@@ -0,0 +1,83 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.plugins.readers;
+
+import static junit.framework.TestCase.*;
+import static org.comixedproject.batch.plugins.RunPluginConfiguration.PARAM_RUN_PLUGIN_SELECTION;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.comixedproject.batch.plugins.PluginSelectionStore;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RunPluginReaderTest {
+  private static final String TEST_SELECTION_KEY = "the-selection-key";
+
+  @InjectMocks private RunPluginReader reader;
+  @Mock private PluginSelectionStore pluginSelectionStore;
+  @Mock private StepExecution stepExecution;
+  @Mock private JobParameters jobParameters;
+
+  private List<Long> idList = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    Mockito.when(stepExecution.getJobParameters()).thenReturn(jobParameters);
+    Mockito.when(jobParameters.getString(PARAM_RUN_PLUGIN_SELECTION))
+        .thenReturn(TEST_SELECTION_KEY);
+    Mockito.when(pluginSelectionStore.get(TEST_SELECTION_KEY)).thenReturn(idList);
+  }
+
+  @Test
+  public void testReadNoSelection() {
+    reader.beforeStep(stepExecution);
+
+    assertNull(reader.read());
+  }
+
+  @Test
+  public void testRead() {
+    for (long id = 1L; id <= 3L; id++) idList.add(id);
+
+    reader.beforeStep(stepExecution);
+
+    assertEquals(Long.valueOf(1L), reader.read());
+    assertEquals(Long.valueOf(2L), reader.read());
+    assertEquals(Long.valueOf(3L), reader.read());
+    assertNull(reader.read());
+  }
+
+  @Test
+  public void testAfterStep() {
+    reader.beforeStep(stepExecution);
+
+    assertNull(reader.afterStep(stepExecution));
+
+    Mockito.verify(pluginSelectionStore, Mockito.times(1)).remove(TEST_SELECTION_KEY);
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.plugins.writers;
+
+import static junit.framework.TestCase.*;
+import static org.comixedproject.batch.plugins.RunPluginConfiguration.PARAM_RUN_PLUGIN_NAME;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.plugins.PluginException;
+import org.comixedproject.plugins.PluginManager;
+import org.comixedproject.plugins.model.Plugin;
+import org.comixedproject.plugins.runners.PluginRunner;
+import org.comixedproject.repositories.comicbooks.ComicBookSelection;
+import org.comixedproject.service.comicbooks.ComicBookService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RunPluginWriterTest {
+  private static final String TEST_PLUGIN_NAME = "Test Plugin";
+  private static final Long TEST_COMIC_BOOK_ID = 17L;
+  private static final Long TEST_OTHER_COMIC_BOOK_ID = 29L;
+
+  @InjectMocks private RunPluginWriter writer;
+  @Mock private PluginManager pluginManager;
+  @Mock private PluginRunner pluginRunner;
+  @Mock private ComicBookService comicBookService;
+  @Mock private Plugin plugin;
+  @Mock private StepExecution stepExecution;
+  @Mock private JobParameters jobParameters;
+  @Mock private ComicBook comicBook;
+  @Captor private ArgumentCaptor<List<Long>> idsArgumentCaptor;
+  @Captor private ArgumentCaptor<Function<Long, Map<String, Object>>> variablesArgumentCaptor;
+
+  private ExecutionContext executionContext = new ExecutionContext();
+
+  @Before
+  public void setUp() {
+    Mockito.when(stepExecution.getJobParameters()).thenReturn(jobParameters);
+    Mockito.when(jobParameters.getString(PARAM_RUN_PLUGIN_NAME)).thenReturn(TEST_PLUGIN_NAME);
+    writer.beforeStep(stepExecution);
+  }
+
+  @Test(expected = PluginException.class)
+  public void testWritePluginNotFound() throws PluginException {
+    Mockito.when(pluginManager.loadPlugin(Mockito.anyString())).thenThrow(PluginException.class);
+
+    writer.write(new Chunk<>(TEST_COMIC_BOOK_ID));
+  }
+
+  @Test
+  public void testWrite() throws PluginException {
+    Mockito.when(pluginManager.loadPlugin(Mockito.anyString())).thenReturn(plugin);
+    Mockito.when(
+            pluginRunner.executeAll(
+                Mockito.any(Plugin.class),
+                idsArgumentCaptor.capture(),
+                variablesArgumentCaptor.capture()))
+        .thenReturn(1);
+    Mockito.when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+
+    writer.write(new Chunk<>(TEST_COMIC_BOOK_ID, TEST_OTHER_COMIC_BOOK_ID));
+
+    assertEquals(
+        List.of(TEST_COMIC_BOOK_ID, TEST_OTHER_COMIC_BOOK_ID), idsArgumentCaptor.getValue());
+
+    assertNull(writer.afterStep(stepExecution));
+    assertEquals(1, executionContext.getInt(RunPluginWriter.FAILED_RUNS_KEY));
+
+    Mockito.verify(pluginManager, Mockito.times(1)).loadPlugin(TEST_PLUGIN_NAME);
+    Mockito.verify(comicBookService, Mockito.never())
+        .findComicsWithDetailsAndPages(Mockito.any(), Mockito.anyList());
+  }
+
+  @Test
+  public void testWriteLoadsComicForRun() throws PluginException {
+    Mockito.when(pluginManager.loadPlugin(Mockito.anyString())).thenReturn(plugin);
+    Mockito.when(
+            pluginRunner.executeAll(
+                Mockito.any(Plugin.class), Mockito.anyList(), variablesArgumentCaptor.capture()))
+        .thenReturn(0);
+    Mockito.when(
+            comicBookService.findComicsWithDetailsAndPages(
+                ComicBookSelection.NOT_DELETED, List.of(TEST_COMIC_BOOK_ID)))
+        .thenReturn(List.of(comicBook));
+
+    writer.write(new Chunk<>(TEST_COMIC_BOOK_ID));
+
+    final Map<String, Object> result = variablesArgumentCaptor.getValue().apply(TEST_COMIC_BOOK_ID);
+
+    assertSame(comicBook, result.get(RunPluginWriter.COMIC_VARIABLE));
+  }
+
+  @Test
+  public void testWriteSkipsDeletedComic() throws PluginException {
+    Mockito.when(pluginManager.loadPlugin(Mockito.anyString())).thenReturn(plugin);
+    Mockito.when(
+            pluginRunner.executeAll(
+                Mockito.any(Plugin.class), Mockito.anyList(), variablesArgumentCaptor.capture()))
+        .thenReturn(0);
+    Mockito.when(
+            comicBookService.findComicsWithDetailsAndPages(
+                ComicBookSelection.NOT_DELETED, List.of(TEST_COMIC_BOOK_ID)))
+        .thenReturn(List.of());
+
+    writer.write(new Chunk<>(TEST_COMIC_BOOK_ID));
+
+    assertNull(variablesArgumentCaptor.getValue().apply(TEST_COMIC_BOOK_ID));
+  }
+}
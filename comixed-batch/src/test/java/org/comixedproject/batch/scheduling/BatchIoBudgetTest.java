@@ -0,0 +1,144 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.scheduling;
+
+import static junit.framework.TestCase.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.model.comicbooks.ComicDetail;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BatchIoBudgetTest {
+  private static final long TEST_BYTES_PER_SECOND = 1000L;
+  private static final long TEST_TARGET_LATENCY = 100L;
+  private static final double TEST_MINIMUM_RATE = 0.25;
+  private static final long ONE_SECOND = 1_000_000_000L;
+  private static final File TEST_COMIC_FILE = new File("target/test-classes/io-budget.cbz");
+
+  @InjectMocks private BatchIoBudget budget;
+  @Mock private ComicBook comicBook;
+  @Mock private ComicDetail comicDetail;
+
+  @Before
+  public void setUp() {
+    budget.bytesPerSecond = TEST_BYTES_PER_SECOND;
+    budget.targetLatency = TEST_TARGET_LATENCY;
+    budget.minimumRate = TEST_MINIMUM_RATE;
+  }
+
+  @Test
+  public void testReserveUnlimited() {
+    budget.bytesPerSecond = 0L;
+
+    assertEquals(0L, budget.reserve(TEST_BYTES_PER_SECOND * 10L, 0L));
+  }
+
+  @Test
+  public void testReserveWithinBudget() {
+    assertEquals(0L, budget.reserve(TEST_BYTES_PER_SECOND, 0L));
+  }
+
+  @Test
+  public void testReserveOverBudget() {
+    budget.reserve(TEST_BYTES_PER_SECOND, 0L);
+
+    assertEquals(ONE_SECOND / 2.0, budget.reserve(TEST_BYTES_PER_SECOND / 2L, 0L), 1.0);
+  }
+
+  @Test
+  public void testReserveRefills() {
+    budget.reserve(TEST_BYTES_PER_SECOND, 0L);
+
+    assertEquals(0L, budget.reserve(TEST_BYTES_PER_SECOND / 2L, ONE_SECOND / 2L));
+  }
+
+  @Test
+  public void testReserveAfterBackingOff() {
+    budget.recordLatency(TEST_TARGET_LATENCY * 2L, 0L);
+    budget.reserve(TEST_BYTES_PER_SECOND / 2L, 0L);
+
+    assertEquals((double) ONE_SECOND, budget.reserve(TEST_BYTES_PER_SECOND / 2L, 0L), 1.0);
+  }
+
+  @Test
+  public void testReserveRecoversOverTime() {
+    budget.recordLatency(TEST_TARGET_LATENCY * 2L, 0L);
+    budget.reserve(TEST_BYTES_PER_SECOND / 4L, 2L * ONE_SECOND);
+
+    assertEquals(0.5 + 2.0 * BatchIoBudget.RECOVERY_STEP, budget.getRate(), 0.001);
+
+    budget.reserve(TEST_BYTES_PER_SECOND / 4L, 60L * ONE_SECOND);
+
+    assertEquals(1.0, budget.getRate());
+  }
+
+  @Test
+  public void testRecordLatencyBacksOff() {
+    budget.recordLatency(TEST_TARGET_LATENCY * 2L, 0L);
+
+    assertEquals(0.5, budget.getRate());
+
+    budget.recordLatency(TEST_TARGET_LATENCY * 2L, 0L);
+    budget.recordLatency(TEST_TARGET_LATENCY * 2L, 0L);
+
+    assertEquals(TEST_MINIMUM_RATE, budget.getRate());
+  }
+
+  @Test
+  public void testRecordLatencyRecovers() {
+    budget.rate = 0.5;
+
+    budget.recordLatency(TEST_TARGET_LATENCY / 2L, 0L);
+
+    assertEquals(0.5 + BatchIoBudget.RECOVERY_STEP, budget.getRate());
+  }
+
+  @Test
+  public void testRecordLatencySmoothsSpikes() {
+    budget.recordLatency(TEST_TARGET_LATENCY / 2L, 0L);
+    budget.recordLatency(TEST_TARGET_LATENCY * 2L, 0L);
+
+    assertEquals(80.0, budget.getAverageLatency(), 0.001);
+    assertEquals(1.0, budget.getRate());
+  }
+
+  @Test
+  public void testAcquireForComic() throws IOException {
+    try (FileOutputStream output = new FileOutputStream(TEST_COMIC_FILE)) {
+      output.write(new byte[(int) TEST_BYTES_PER_SECOND / 4]);
+    }
+    Mockito.when(comicBook.getComicDetail()).thenReturn(comicDetail);
+    Mockito.when(comicDetail.getFile()).thenReturn(TEST_COMIC_FILE);
+
+    budget.acquire(comicBook, 2);
+    TEST_COMIC_FILE.delete();
+
+    assertEquals(TEST_BYTES_PER_SECOND / 2.0, budget.tokens, 1.0);
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.batch.scheduling;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BatchJobSchedulerTest {
+  private static final String TEST_ARCHIVE_JOB = "recreateComicFilesJob";
+  private static final String TEST_OTHER_ARCHIVE_JOB = "consolidateLibraryJob";
+  private static final String TEST_DATABASE_JOB = "updateComicBooksJob";
+  private static final String TEST_METADATA_JOB = "updateComicBookMetadata";
+
+  @InjectMocks private BatchJobScheduler scheduler;
+  @Mock private TaskExecutor jobTaskExecutor;
+
+  private final List<Runnable> started = new ArrayList<>();
+  private final List<String> completed = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    Mockito.doAnswer(
+            invocation -> {
+              started.add(invocation.getArgument(0));
+              return null;
+            })
+        .when(jobTaskExecutor)
+        .execute(Mockito.any(Runnable.class));
+  }
+
+  @Test
+  public void testExecuteStartsJob() {
+    this.doSubmit(TEST_ARCHIVE_JOB);
+
+    assertEquals(1, started.size());
+    assertEquals(0, scheduler.getQueuedJobCount());
+    assertEquals(1, scheduler.getRunningJobCount());
+
+    started.get(0).run();
+
+    assertEquals(List.of(TEST_ARCHIVE_JOB), completed);
+    assertEquals(0, scheduler.getRunningJobCount());
+  }
+
+  @Test
+  public void testExecuteLimitsJobsPerClass() {
+    this.doSubmit(TEST_ARCHIVE_JOB);
+    this.doSubmit(TEST_OTHER_ARCHIVE_JOB);
+
+    assertEquals(1, started.size());
+    assertEquals(1, scheduler.getQueuedJobCount());
+
+    started.get(0).run();
+
+    assertEquals(2, started.size());
+    assertEquals(0, scheduler.getQueuedJobCount());
+
+    started.get(1).run();
+
+    assertEquals(List.of(TEST_ARCHIVE_JOB, TEST_OTHER_ARCHIVE_JOB), completed);
+  }
+
+  @Test
+  public void testExecuteRunsDifferentClassesTogether() {
+    this.doSubmit(TEST_ARCHIVE_JOB);
+    this.doSubmit(TEST_DATABASE_JOB);
+    this.doSubmit(TEST_METADATA_JOB);
+
+    assertEquals(3, started.size());
+    assertEquals(3, scheduler.getRunningJobCount());
+  }
+
+  @Test
+  public void testExecuteStartsHigherPriorityFirst() {
+    scheduler.maximumJobs = 1;
+
+    this.doSubmit(TEST_METADATA_JOB);
+    this.doSubmit(TEST_ARCHIVE_JOB);
+    this.doSubmit(TEST_DATABASE_JOB);
+
+    assertEquals(1, started.size());
+    assertEquals(2, scheduler.getQueuedJobCount());
+
+    started.get(0).run();
+    started.get(1).run();
+    started.get(2).run();
+
+    assertEquals(List.of(TEST_METADATA_JOB, TEST_DATABASE_JOB, TEST_ARCHIVE_JOB), completed);
+  }
+
+  @Test
+  public void testExecuteReleasesSlotWhenJobFails() {
+    scheduler.setSubmittingJob(TEST_ARCHIVE_JOB);
+    scheduler.execute(
+        () -> {
+          throw new IllegalStateException("job failed");
+        });
+    scheduler.clearSubmittingJob();
+    this.doSubmit(TEST_OTHER_ARCHIVE_JOB);
+
+    try {
+      started.get(0).run();
+    } catch (IllegalStateException expected) {
+      assertSame(IllegalStateException.class, expected.getClass());
+    }
+
+    assertEquals(2, started.size());
+    assertEquals(1, scheduler.getRunningJobCount());
+  }
+
+  @Test
+  public void testExecuteReleasesSlotWhenStartFails() {
+    Mockito.doThrow(TaskRejectedException.class)
+        .when(jobTaskExecutor)
+        .execute(Mockito.any(Runnable.class));
+
+    try {
+      this.doSubmit(TEST_ARCHIVE_JOB);
+    } catch (TaskRejectedException expected) {
+      assertSame(TaskRejectedException.class, expected.getClass());
+    }
+
+    assertEquals(0, scheduler.getRunningJobCount());
+    assertEquals(0, scheduler.getQueuedJobCount());
+  }
+
+  @Test
+  public void testForJob() {
+    assertSame(BatchJobClass.ARCHIVE, BatchJobClass.forJob(TEST_ARCHIVE_JOB));
+    assertSame(BatchJobClass.DATABASE, BatchJobClass.forJob(TEST_DATABASE_JOB));
+    assertSame(BatchJobClass.OTHER, BatchJobClass.forJob("unknownJob"));
+    assertSame(BatchJobClass.OTHER, BatchJobClass.forJob(null));
+  }
+
+  private void doSubmit(final String jobName) {
+    scheduler.setSubmittingJob(jobName);
+    try {
+      scheduler.execute(() -> completed.add(jobName));
+    } finally {
+      scheduler.clearSubmittingJob();
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.comixedproject.adaptors.AdaptorException;
+import org.comixedproject.adaptors.archive.ArchiveAdaptor;
+import org.comixedproject.adaptors.archive.ArchiveAdaptorException;
+import org.comixedproject.adaptors.archive.model.ArchiveReadHandle;
+import org.comixedproject.adaptors.archive.model.ComicArchiveEntry;
+import org.comixedproject.adaptors.content.ComicMetadataContentAdaptor;
+import org.comixedproject.adaptors.file.FileTypeAdaptor;
+import org.comixedproject.model.archives.ArchiveType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.util.StringUtils;
+
+/**
+ * <code>ArchiveAdaptorBenchmark</code> measures listing and reading the entries of a comic archive
+ * for each archive type.
+ *
+ * <p>RAR archives cannot be written, so the CBR adaptor is only measured against an existing file:
+ * <code>java -jar comixed-benchmarks/target/benchmarks.jar ArchiveAdaptor -p archiveType=CBR -p
+ * fixture=/path/to/comic.cbr</code>
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArchiveAdaptorBenchmark {
+  @Param({"CBZ", "CB7"})
+  public String archiveType;
+
+  @Param({"24"})
+  public int pageCount;
+
+  @Param({""})
+  public String fixture;
+
+  private AnnotationConfigApplicationContext context;
+  private File directory;
+  private String filename;
+  private ArchiveAdaptor archiveAdaptor;
+  private List<String> entryNames;
+
+  @Setup
+  public void setUp() throws IOException, AdaptorException, ArchiveAdaptorException {
+    this.context = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+    final FileTypeAdaptor fileTypeAdaptor = this.context.getBean(FileTypeAdaptor.class);
+    final ArchiveType type = ArchiveType.valueOf(this.archiveType);
+    if (StringUtils.hasLength(this.fixture)) {
+      this.filename = new File(this.fixture).getAbsolutePath();
+    } else if (type == ArchiveType.CBR) {
+      throw new IllegalStateException("RAR archives cannot be generated, provide a fixture");
+    } else {
+      this.directory = Files.createTempDirectory("comixed-benchmarks").toFile();
+      this.filename =
+          BenchmarkFixtures.createArchive(
+                  fileTypeAdaptor,
+                  this.context.getBean(ComicMetadataContentAdaptor.class),
+                  this.directory,
+                  type,
+                  this.pageCount)
+              .getAbsolutePath();
+    }
+    this.archiveAdaptor = fileTypeAdaptor.getArchiveAdaptorFor(type);
+    final ArchiveReadHandle readHandle = this.archiveAdaptor.openArchiveForRead(this.filename);
+    this.entryNames =
+        this.archiveAdaptor.getEntries(readHandle).stream()
+            .map(ComicArchiveEntry::getFilename)
+            .toList();
+    this.archiveAdaptor.closeArchiveForRead(readHandle);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.context.close();
+    if (this.directory != null) {
+      FileUtils.deleteQuietly(this.directory);
+    }
+  }
+
+  @Benchmark
+  public void listEntries(final Blackhole blackhole) throws ArchiveAdaptorException {
+    final ArchiveReadHandle readHandle = this.archiveAdaptor.openArchiveForRead(this.filename);
+    blackhole.consume(this.archiveAdaptor.getEntries(readHandle));
+    this.archiveAdaptor.closeArchiveForRead(readHandle);
+  }
+
+  @Benchmark
+  public void readAllEntries(final Blackhole blackhole) throws ArchiveAdaptorException {
+    final ArchiveReadHandle readHandle = this.archiveAdaptor.openArchiveForRead(this.filename);
+    for (String entryName : this.entryNames) {
+      blackhole.consume(this.archiveAdaptor.readEntry(readHandle, entryName));
+    }
+    this.archiveAdaptor.closeArchiveForRead(readHandle);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.comixedproject.auth.AuthenticatedPrincipalCache;
+import org.comixedproject.auth.ComiXedAuthenticationFilter;
+import org.comixedproject.auth.ComiXedUserDetailsService;
+import org.comixedproject.auth.JwtTokenUtil;
+import org.comixedproject.model.user.ComiXedUser;
+import org.comixedproject.repositories.users.ComiXedUserRepository;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * <code>AuthenticationFilterBenchmark</code> measures requests authenticated per second by the
+ * {@link ComiXedAuthenticationFilter}, with the {@link AuthenticatedPrincipalCache} disabled and
+ * enabled. The user is loaded from memory, so the time saved by not querying the database on a
+ * cache hit is not included.
+ *
+ * <p>Run with: <code>java -jar comixed-benchmarks/target/benchmarks.jar AuthenticationFilter
+ * </code>
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationFilterBenchmark {
+  private static final String TEST_EMAIL = "reader@comixedproject.org";
+
+  @Param({"0", "1024"})
+  private int maximumSize;
+
+  private ComiXedAuthenticationFilter filter;
+  private MockHttpServletRequest request;
+
+  @Setup
+  public void setUp() {
+    final JwtTokenUtil jwtTokenUtil = new JwtTokenUtil();
+    ReflectionTestUtils.setField(
+        jwtTokenUtil, "userRepository", Mockito.mock(ComiXedUserRepository.class));
+    final AuthenticatedPrincipalCache cache = new AuthenticatedPrincipalCache();
+    ReflectionTestUtils.setField(cache, "maximumSize", this.maximumSize);
+
+    this.filter = new ComiXedAuthenticationFilter();
+    ReflectionTestUtils.setField(
+        this.filter, "userDetailsService", new InMemoryUserDetailsService());
+    ReflectionTestUtils.setField(this.filter, "jwtTokenUtil", jwtTokenUtil);
+    ReflectionTestUtils.setField(this.filter, "authenticatedPrincipalCache", cache);
+
+    final ComiXedUser user = new ComiXedUser();
+    user.setEmail(TEST_EMAIL);
+    this.request = new MockHttpServletRequest();
+    this.request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenUtil.generateToken(user));
+  }
+
+  @Benchmark
+  public void authenticateRequest(final Blackhole blackhole) throws ServletException, IOException {
+    SecurityContextHolder.clearContext();
+    this.filter.doFilter(this.request, new MockHttpServletResponse(), new MockFilterChain());
+    blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+  }
+
+  static class InMemoryUserDetailsService extends ComiXedUserDetailsService {
+    @Override
+    public UserDetails loadUserByUsername(final String email) {
+      return User.withUsername(email).password("password").roles("READER").build();
+    }
+  }
+}
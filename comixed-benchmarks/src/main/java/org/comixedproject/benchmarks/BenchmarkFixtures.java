@@ -0,0 +1,171 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.adaptors.AdaptorException;
+import org.comixedproject.adaptors.archive.ArchiveAdaptor;
+import org.comixedproject.adaptors.archive.ArchiveAdaptorException;
+import org.comixedproject.adaptors.archive.model.ArchiveWriteHandle;
+import org.comixedproject.adaptors.content.ComicMetadataContentAdaptor;
+import org.comixedproject.adaptors.content.ContentAdaptorException;
+import org.comixedproject.adaptors.file.FileTypeAdaptor;
+import org.comixedproject.model.archives.ArchiveType;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.model.comicbooks.ComicDetail;
+import org.comixedproject.model.comicbooks.ComicTag;
+import org.comixedproject.model.comicbooks.ComicTagType;
+
+/**
+ * <code>BenchmarkFixtures</code> generates the synthetic comic books and archives used by the
+ * benchmarks, so that no large fixtures need to be committed.
+ *
+ * <p>Everything is generated from a fixed seed so that separate runs measure the same content and
+ * can be compared with each other.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class BenchmarkFixtures {
+  public static final String COMIC_INFO_FILENAME = "ComicInfo.xml";
+  public static final int PAGE_WIDTH = 800;
+  public static final int PAGE_HEIGHT = 1200;
+
+  private static final String[] PUBLISHERS = {"Marvel", "DC Comics", "Image", "Dark Horse"};
+  private static final String[] SERIES = {
+    "Amazing Spider-Man", "Detective Comics", "Saga", "Hellboy", "Fantastic Four", "Batman"
+  };
+
+  private BenchmarkFixtures() {}
+
+  /**
+   * Creates a page image. The image is a gradient with noise so that the encoder and decoder do a
+   * comparable amount of work to a scanned page.
+   *
+   * @param width the width
+   * @param height the height
+   * @param seed the random seed
+   * @return the encoded image
+   * @throws IOException if an error occurs encoding the image
+   */
+  public static byte[] createPageImage(final int width, final int height, final long seed)
+      throws IOException {
+    final Random random = new Random(seed);
+    final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        final int red = (x * 255 / width + random.nextInt(32)) & 0xff;
+        final int green = (y * 255 / height + random.nextInt(32)) & 0xff;
+        final int blue = random.nextInt(256);
+        image.setRGB(x, y, (red << 16) | (green << 8) | blue);
+      }
+    }
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ImageIO.write(image, "jpg", output);
+    return output.toByteArray();
+  }
+
+  /**
+   * Creates a comic book with populated metadata.
+   *
+   * @param index the index used to vary the metadata
+   * @param filename the filename
+   * @param archiveType the archive type
+   * @return the comic book
+   */
+  public static ComicBook createComicBook(
+      final int index, final String filename, final ArchiveType archiveType) {
+    final ComicBook result = new ComicBook();
+    final ComicDetail detail = new ComicDetail(result, filename, archiveType);
+    result.setComicDetail(detail);
+    detail.setPublisher(PUBLISHERS[index % PUBLISHERS.length]);
+    detail.setImprint("Imprint " + (index % 3));
+    detail.setSeries(SERIES[index % SERIES.length]);
+    detail.setVolume(String.valueOf(1960 + index % 60));
+    detail.setIssueNumber(String.valueOf(index % 900 + 1));
+    detail.setTitle(String.format("The Story Of Issue %d", index));
+    detail.setDescription(
+        String.format("A synthetic issue used for benchmarking <em>record %d</em>.", index));
+    final Calendar calendar = new GregorianCalendar(2000 + index % 20, index % 12, 1);
+    detail.setCoverDate(calendar.getTime());
+    calendar.add(Calendar.MONTH, -2);
+    detail.setStoreDate(calendar.getTime());
+    for (int tag = 0; tag < 4; tag++) {
+      detail
+          .getTags()
+          .add(new ComicTag(detail, ComicTagType.CHARACTER, String.format("Character %d", tag)));
+      detail
+          .getTags()
+          .add(new ComicTag(detail, ComicTagType.WRITER, String.format("Writer %d", index % 7)));
+    }
+    return result;
+  }
+
+  /**
+   * Writes a comic archive containing a metadata file and generated pages.
+   *
+   * @param fileTypeAdaptor the file type adaptor
+   * @param metadataContentAdaptor the metadata content adaptor
+   * @param directory the target directory
+   * @param archiveType the archive type
+   * @param pageCount the number of pages
+   * @return the archive file
+   * @throws AdaptorException if an error occurs
+   */
+  public static File createArchive(
+      final FileTypeAdaptor fileTypeAdaptor,
+      final ComicMetadataContentAdaptor metadataContentAdaptor,
+      final File directory,
+      final ArchiveType archiveType,
+      final int pageCount)
+      throws AdaptorException {
+    final File result =
+        new File(
+            directory, String.format("synthetic-%d.%s", pageCount, archiveType.getExtension()));
+    log.info("Generating fixture archive: {}", result);
+    try {
+      final ArchiveAdaptor archiveAdaptor = fileTypeAdaptor.getArchiveAdaptorFor(archiveType);
+      final ArchiveWriteHandle writeHandle =
+          archiveAdaptor.openArchiveForWrite(result.getAbsolutePath());
+      archiveAdaptor.writeEntry(
+          writeHandle,
+          COMIC_INFO_FILENAME,
+          metadataContentAdaptor.createContent(
+              createComicBook(pageCount, result.getAbsolutePath(), archiveType)));
+      for (int page = 0; page < pageCount; page++) {
+        archiveAdaptor.writeEntry(
+            writeHandle,
+            String.format("page-%03d.jpg", page + 1),
+            createPageImage(PAGE_WIDTH, PAGE_HEIGHT, page));
+      }
+      archiveAdaptor.closeArchiveForWrite(writeHandle);
+    } catch (ArchiveAdaptorException | ContentAdaptorException | IOException error) {
+      throw new AdaptorException("Failed to create fixture archive", error);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.comixedproject.adaptors.AdaptorException;
+import org.comixedproject.adaptors.comicbooks.ComicBookAdaptor;
+import org.comixedproject.adaptors.content.ComicMetadataContentAdaptor;
+import org.comixedproject.adaptors.content.ContentAdaptorRules;
+import org.comixedproject.adaptors.file.FileTypeAdaptor;
+import org.comixedproject.model.archives.ArchiveType;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * <code>ComicBookLoadBenchmark</code> measures loading a comic book from its archive, including
+ * detecting each entry, hashing and decoding the pages, and parsing the metadata file.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComicBookLoadBenchmark {
+  @Param({"CBZ", "CB7"})
+  public String archiveType;
+
+  @Param({"24"})
+  public int pageCount;
+
+  private AnnotationConfigApplicationContext context;
+  private File directory;
+  private String filename;
+  private ComicBookAdaptor comicBookAdaptor;
+  private ContentAdaptorRules rules = new ContentAdaptorRules();
+
+  @Setup
+  public void setUp() throws IOException, AdaptorException {
+    this.context = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+    this.comicBookAdaptor = this.context.getBean(ComicBookAdaptor.class);
+    this.directory = Files.createTempDirectory("comixed-benchmarks").toFile();
+    this.filename =
+        BenchmarkFixtures.createArchive(
+                this.context.getBean(FileTypeAdaptor.class),
+                this.context.getBean(ComicMetadataContentAdaptor.class),
+                this.directory,
+                ArchiveType.valueOf(this.archiveType),
+                this.pageCount)
+            .getAbsolutePath();
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.context.close();
+    FileUtils.deleteQuietly(this.directory);
+  }
+
+  @Benchmark
+  public void load(final Blackhole blackhole) throws AdaptorException {
+    final ComicBook comicBook = this.comicBookAdaptor.createComic(this.filename);
+    this.comicBookAdaptor.load(comicBook, this.rules);
+    blackhole.consume(comicBook);
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.comixedproject.model.comicbooks.ComicDetail;
+import org.comixedproject.repositories.comicbooks.ComicDetailRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * <code>ComicDetailPageBenchmark</code> measures the time to load a page of comics sorted by cover
+ * date, comparing offset paging against seeking past a cursor, on the first and the 500th page of a
+ * generated library. The composite index added by the keyset sort index migration is created on the
+ * generated table.
+ *
+ * <p>When run from <code>main</code> the benchmark fails if loading the 500th page with a cursor
+ * takes more than {@value #MAXIMUM_DEPTH_RATIO} times as long as loading the first page.
+ *
+ * <p>Run with: <code>java -cp comixed-benchmarks/target/benchmarks.jar
+ * org.comixedproject.benchmarks.ComicDetailPageBenchmark</code>
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComicDetailPageBenchmark {
+  static final double MAXIMUM_DEPTH_RATIO = 3.0;
+  private static final int PAGE_SIZE = 25;
+  private static final int COMIC_COUNT = 500 * PAGE_SIZE + 1000;
+  private static final String SORT_FIELD = "coverDate";
+  private static final Sort SORT = Sort.by(SORT_FIELD).and(Sort.by("id"));
+
+  @Param({"1", "500"})
+  private int page;
+
+  private ConfigurableApplicationContext context;
+  private ComicDetailRepository repository;
+  private Date lastCoverDate;
+  private Long lastId;
+
+  public static void main(final String[] args) throws RunnerException {
+    final Collection<RunResult> results =
+        new Runner(
+                new OptionsBuilder()
+                    .include(ComicDetailPageBenchmark.class.getSimpleName() + ".loadSeekPage")
+                    .build())
+            .run();
+    double firstPage = 0.0;
+    double deepPage = 0.0;
+    for (RunResult result : results) {
+      final double score = result.getPrimaryResult().getScore();
+      if ("1".equals(result.getParams().getParam("page"))) firstPage = score;
+      else deepPage = score;
+    }
+    if (deepPage > firstPage * MAXIMUM_DEPTH_RATIO) {
+      throw new IllegalStateException(
+          String.format("Page 500 took %.1f us against %.1f us for page 1", deepPage, firstPage));
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    this.context =
+        new SpringApplicationBuilder(RepositoryBenchmarkConfiguration.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.main.banner-mode=off",
+                "spring.datasource.url=jdbc:h2:mem:comixed_page_benchmark",
+                "spring.datasource.username=sa",
+                "spring.datasource.password=",
+                "spring.jpa.hibernate.ddl-auto=create",
+                "spring.jpa.hibernate.naming.implicit-strategy=org.hibernate.boot.model.naming.ImplicitNamingStrategyLegacyJpaImpl",
+                "spring.jpa.hibernate.naming.physical-strategy=org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl",
+                "spring.liquibase.enabled=false")
+            .run();
+    this.repository = this.context.getBean(ComicDetailRepository.class);
+    this.doGenerateLibrary(this.context.getBean(JdbcTemplate.class));
+
+    if (this.page > 1) {
+      final ComicDetail last =
+          this.repository
+              .findAll(PageRequest.of((this.page - 1) * PAGE_SIZE - 1, 1, SORT))
+              .getContent()
+              .get(0);
+      this.lastCoverDate = new Date(last.getCoverDate().getTime());
+      this.lastId = last.getId();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.context.close();
+  }
+
+  @Benchmark
+  public List<ComicDetail> loadOffsetPage() {
+    return this.repository.findAll(PageRequest.of(this.page - 1, PAGE_SIZE, SORT)).getContent();
+  }
+
+  @Benchmark
+  public List<ComicDetail> loadSeekPage() {
+    return this.repository.loadComicDetailPage(
+        null, null, SORT_FIELD, true, this.lastCoverDate, this.lastId, PAGE_SIZE);
+  }
+
+  private void doGenerateLibrary(final JdbcTemplate jdbcTemplate) {
+    final Timestamp now = new Timestamp(System.currentTimeMillis());
+    final List<Object[]> comicBooks = new ArrayList<>();
+    final List<Object[]> comicDetails = new ArrayList<>();
+    for (long id = 1; id <= COMIC_COUNT; id++) {
+      comicBooks.add(new Object[] {id, now});
+      comicDetails.add(
+          new Object[] {
+            id,
+            id,
+            String.format("/library/comic-%06d.cbz", id),
+            String.format("Series %d", id % 250),
+            String.valueOf(id % 40),
+            new java.sql.Date((id * 7919L % 3650L + 7000L) * 86400000L),
+            now
+          });
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO comic_books (id, file_contents_loaded, blocked_pages_marked, update_metadata, batch_metadata_update, consolidating, recreating, purge_comic, create_metadata_source, edit_details, last_modified_on) VALUES (?, true, true, false, false, false, false, false, false, false, ?)",
+        comicBooks);
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO comic_details (id, comic_book_id, filename, archive_type, comic_state, comic_type, publisher, series, issue_number, cover_date, added_date) VALUES (?, ?, ?, 'CBZ', 'STABLE', 'ISSUE', 'Publisher', ?, ?, ?, ?)",
+        comicDetails);
+    jdbcTemplate.execute(
+        "CREATE INDEX comic_details_cover_date_id_idx ON comic_details (cover_date, id)");
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.comixedproject.adaptors.comicbooks.ComicFileAdaptor;
+import org.comixedproject.model.archives.ArchiveType;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <code>ComicFileAdaptorBenchmark</code> measures generating filenames from renaming rules, as done
+ * for every comic book during consolidation.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComicFileAdaptorBenchmark {
+  private static final int COMIC_COUNT = 1000;
+  private static final String TARGET_DIRECTORY = "/library";
+
+  @Param({
+    "$PUBLISHER/$SERIES/$VOLUME/$SERIES v$VOLUME #$ISSUE ($COVERDATE)",
+    "$PUBLISHER/$IMPRINT/$SERIES [$PUBYEAR-$PUBMONTH] $TITLE"
+  })
+  public String renamingRule;
+
+  private ComicFileAdaptor adaptor = new ComicFileAdaptor();
+  private List<ComicBook> comicBooks = new ArrayList<>();
+
+  @Setup
+  public void setUp() {
+    for (int index = 0; index < COMIC_COUNT; index++) {
+      this.comicBooks.add(
+          BenchmarkFixtures.createComicBook(
+              index, String.format("/imports/comic-%d.cbz", index), ArchiveType.CBZ));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.comicBooks.clear();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COMIC_COUNT)
+  public void createFilenameFromRule(final Blackhole blackhole) {
+    for (ComicBook comicBook : this.comicBooks) {
+      blackhole.consume(
+          this.adaptor.createFilenameFromRule(comicBook, this.renamingRule, TARGET_DIRECTORY));
+    }
+  }
+}
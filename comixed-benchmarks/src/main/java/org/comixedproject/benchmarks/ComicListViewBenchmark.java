@@ -0,0 +1,87 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.comixedproject.model.archives.ArchiveType;
+import org.comixedproject.model.comicbooks.ComicDetail;
+import org.comixedproject.model.net.library.LoadLibraryResponse;
+import org.comixedproject.views.View;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * <code>ComicListViewBenchmark</code> measures serializing a page of the library using the comic
+ * list view, with the same object mapper defaults the web client is served with.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComicListViewBenchmark {
+  @Param({"100", "1000"})
+  public int comicCount;
+
+  private ObjectWriter writer;
+  private LoadLibraryResponse response;
+
+  @Setup
+  public void setUp() {
+    this.writer =
+        Jackson2ObjectMapperBuilder.json().build().writerWithView(View.ComicListView.class);
+    final List<ComicDetail> comicDetails = new ArrayList<>();
+    for (int index = 0; index < this.comicCount; index++) {
+      comicDetails.add(
+          BenchmarkFixtures.createComicBook(
+                  index, String.format("/library/comic-%d.cbz", index), ArchiveType.CBZ)
+              .getComicDetail());
+    }
+    this.response = new LoadLibraryResponse(comicDetails, this.comicCount, true);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.response = null;
+  }
+
+  @Benchmark
+  public void serialize(final Blackhole blackhole) throws JsonProcessingException {
+    blackhole.consume(this.writer.writeValueAsString(this.response));
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.comixedproject.adaptors.content.ComicMetadataContentAdaptor;
+import org.comixedproject.adaptors.content.ContentAdaptorException;
+import org.comixedproject.adaptors.content.ContentAdaptorRules;
+import org.comixedproject.model.archives.ArchiveType;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * <code>ComicMetadataContentAdaptorBenchmark</code> measures parsing and writing ComicInfo.xml
+ * metadata files.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComicMetadataContentAdaptorBenchmark {
+  private static final String FILENAME = "synthetic.cbz";
+
+  private AnnotationConfigApplicationContext context;
+  private ComicMetadataContentAdaptor adaptor;
+  private ContentAdaptorRules rules = new ContentAdaptorRules();
+  private ComicBook comicBook;
+  private byte[] content;
+
+  @Setup
+  public void setUp() throws ContentAdaptorException {
+    this.context = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+    this.adaptor = this.context.getBean(ComicMetadataContentAdaptor.class);
+    this.comicBook = BenchmarkFixtures.createComicBook(42, FILENAME, ArchiveType.CBZ);
+    this.content = this.adaptor.createContent(this.comicBook);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.context.close();
+  }
+
+  @Benchmark
+  public void parse(final Blackhole blackhole) throws ContentAdaptorException {
+    final ComicBook target = BenchmarkFixtures.createComicBook(0, FILENAME, ArchiveType.CBZ);
+    this.adaptor.loadContent(
+        target, BenchmarkFixtures.COMIC_INFO_FILENAME, this.content, this.rules);
+    blackhole.consume(target);
+  }
+
+  @Benchmark
+  public void serialize(final Blackhole blackhole) throws ContentAdaptorException {
+    blackhole.consume(this.adaptor.createContent(this.comicBook));
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.comixedproject.adaptors.AdaptorException;
+import org.comixedproject.adaptors.content.ComicMetadataContentAdaptor;
+import org.comixedproject.adaptors.content.ContentAdaptorException;
+import org.comixedproject.adaptors.file.FileTypeAdaptor;
+import org.comixedproject.model.archives.ArchiveType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * <code>FileTypeAdaptorBenchmark</code> measures detecting the type of comic files and of the
+ * entries within them.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileTypeAdaptorBenchmark {
+  private AnnotationConfigApplicationContext context;
+  private File directory;
+  private String filename;
+  private FileTypeAdaptor fileTypeAdaptor;
+  private byte[] pageContent;
+  private byte[] metadataContent;
+
+  @Setup
+  public void setUp() throws IOException, AdaptorException, ContentAdaptorException {
+    this.context = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+    this.fileTypeAdaptor = this.context.getBean(FileTypeAdaptor.class);
+    final ComicMetadataContentAdaptor metadataContentAdaptor =
+        this.context.getBean(ComicMetadataContentAdaptor.class);
+    this.directory = Files.createTempDirectory("comixed-benchmarks").toFile();
+    this.filename =
+        BenchmarkFixtures.createArchive(
+                this.fileTypeAdaptor, metadataContentAdaptor, this.directory, ArchiveType.CBZ, 4)
+            .getAbsolutePath();
+    this.pageContent =
+        BenchmarkFixtures.createPageImage(
+            BenchmarkFixtures.PAGE_WIDTH, BenchmarkFixtures.PAGE_HEIGHT, 0L);
+    this.metadataContent =
+        metadataContentAdaptor.createContent(
+            BenchmarkFixtures.createComicBook(0, this.filename, ArchiveType.CBZ));
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.context.close();
+    FileUtils.deleteQuietly(this.directory);
+  }
+
+  @Benchmark
+  public void detectArchive(final Blackhole blackhole) throws AdaptorException {
+    blackhole.consume(this.fileTypeAdaptor.getArchiveAdaptorFor(this.filename));
+  }
+
+  @Benchmark
+  public void detectPageContent(final Blackhole blackhole) throws AdaptorException {
+    blackhole.consume(this.fileTypeAdaptor.getContentAdaptorFor(this.pageContent));
+  }
+
+  @Benchmark
+  public void detectMetadataContent(final Blackhole blackhole) throws AdaptorException {
+    blackhole.consume(this.fileTypeAdaptor.getContentAdaptorFor(this.metadataContent));
+  }
+
+  @Benchmark
+  public void getPageMimeType(final Blackhole blackhole) {
+    blackhole.consume(
+        this.fileTypeAdaptor.getMimeTypeFor(new ByteArrayInputStream(this.pageContent)));
+  }
+}
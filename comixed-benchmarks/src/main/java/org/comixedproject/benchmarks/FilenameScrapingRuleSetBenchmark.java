@@ -0,0 +1,148 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.comixedproject.adaptors.comicbooks.FilenameScraperAdaptor;
+import org.comixedproject.adaptors.comicbooks.model.FilenameScrapingRuleSet;
+import org.comixedproject.model.metadata.FilenameMetadata;
+import org.comixedproject.model.metadata.FilenameScrapingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <code>FilenameScrapingRuleSetBenchmark</code> measures filenames scraped per second, comparing
+ * applying each stored rule directly against applying the compiled rule set.
+ *
+ * <p>Run with: <code>java -jar comixed-benchmarks/target/benchmarks.jar FilenameScrapingRuleSet
+ * </code>
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilenameScrapingRuleSetBenchmark {
+  private static final int FILENAME_COUNT = 1000;
+
+  private FilenameScraperAdaptor adaptor;
+  private List<FilenameScrapingRule> rules;
+  private FilenameScrapingRuleSet ruleSet;
+  private List<String> filenames;
+
+  @Setup
+  public void setUp() {
+    this.adaptor = new FilenameScraperAdaptor();
+    this.rules = new ArrayList<>();
+    this.rules.add(
+        this.createRule(
+            "Series with volume and cover date",
+            "^(([\\w[\\s][,-]]+)?(\\sVol\\.))([0-9]{4}).*\\#([0-9]{1,5}).*\\(([a-zA-Z]+, [0-9]{4})\\).*$",
+            1,
+            2,
+            4,
+            5,
+            6,
+            "MMMMM, yyyy"));
+    this.rules.add(
+        this.createRule(
+            "Series with volume",
+            "^([\\w[\\s][,-]]+)\\sv([0-9]+)\\s#?([0-9]{1,5}).*$",
+            2,
+            1,
+            2,
+            3,
+            null,
+            null));
+    this.rules.add(
+        this.createRule(
+            "Series and issue",
+            "^([\\w[\\s][,-]]+)\\s#?([0-9]{1,5}).*$",
+            3,
+            1,
+            null,
+            2,
+            null,
+            null));
+    this.ruleSet = this.adaptor.compileRules(this.rules);
+
+    this.filenames = new ArrayList<>();
+    for (int index = 0; index < FILENAME_COUNT; index++) {
+      switch (index % 4) {
+        case 0 -> this.filenames.add(String.format("Batman Vol.2016 #%d (April, 2019)", index));
+        case 1 -> this.filenames.add(String.format("Detective Comics v1 %03d", index));
+        case 2 -> this.filenames.add(String.format("Amazing Spider-Man #%d", index));
+        default -> this.filenames.add(String.format("scan_%08d", index));
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FILENAME_COUNT)
+  public void applyStoredRules(final Blackhole blackhole) {
+    for (String filename : this.filenames) {
+      for (FilenameScrapingRule rule : this.rules) {
+        final FilenameMetadata result = this.adaptor.execute(filename, rule);
+        if (result.isFound()) {
+          blackhole.consume(result);
+          break;
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FILENAME_COUNT)
+  public void applyCompiledRuleSet(final Blackhole blackhole) {
+    blackhole.consume(this.ruleSet.applyAll(this.filenames));
+  }
+
+  private FilenameScrapingRule createRule(
+      final String name,
+      final String expression,
+      final int priority,
+      final Integer seriesPosition,
+      final Integer volumePosition,
+      final Integer issueNumberPosition,
+      final Integer coverDatePosition,
+      final String dateFormat) {
+    final FilenameScrapingRule rule = new FilenameScrapingRule(name, expression, priority);
+    rule.setSeriesPosition(seriesPosition);
+    rule.setVolumePosition(volumePosition);
+    rule.setIssueNumberPosition(issueNumberPosition);
+    rule.setCoverDatePosition(coverDatePosition);
+    rule.setDateFormat(dateFormat);
+    return rule;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.comixedproject.adaptors.GenericUtilitiesAdaptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <code>GenericUtilitiesAdaptorBenchmark</code> measures creating content hashes from byte arrays
+ * and streams for typical page sizes.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenericUtilitiesAdaptorBenchmark {
+  @Param({"65536", "1048576", "8388608"})
+  public int contentSize;
+
+  private GenericUtilitiesAdaptor adaptor = new GenericUtilitiesAdaptor();
+  private byte[] content;
+
+  @Setup
+  public void setUp() {
+    this.content = new byte[this.contentSize];
+    new Random(this.contentSize).nextBytes(this.content);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.content = null;
+  }
+
+  @Benchmark
+  public void createHashFromBytes(final Blackhole blackhole) {
+    blackhole.consume(this.adaptor.createHash(this.content));
+  }
+
+  @Benchmark
+  public void createHashFromStream(final Blackhole blackhole) throws IOException {
+    blackhole.consume(this.adaptor.createHash(new ByteArrayInputStream(this.content)));
+  }
+}
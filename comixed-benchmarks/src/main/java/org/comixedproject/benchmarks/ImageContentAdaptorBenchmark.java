@@ -0,0 +1,91 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.comixedproject.adaptors.content.ContentAdaptorRules;
+import org.comixedproject.adaptors.content.ImageContentAdaptor;
+import org.comixedproject.model.archives.ArchiveType;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * <code>ImageContentAdaptorBenchmark</code> measures turning page images into pages, which hashes
+ * and decodes each image.
+ *
+ * @author Darryl L. Pierce
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageContentAdaptorBenchmark {
+  private static final int PAGE_COUNT = 8;
+
+  private AnnotationConfigApplicationContext context;
+  private ImageContentAdaptor adaptor;
+  private ContentAdaptorRules rules = new ContentAdaptorRules();
+  private List<byte[]> pages = new ArrayList<>();
+
+  @Setup
+  public void setUp() throws IOException {
+    this.context = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+    this.adaptor = this.context.getBean(ImageContentAdaptor.class);
+    for (int index = 0; index < PAGE_COUNT; index++) {
+      this.pages.add(
+          BenchmarkFixtures.createPageImage(
+              BenchmarkFixtures.PAGE_WIDTH, BenchmarkFixtures.PAGE_HEIGHT, index));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.context.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAGE_COUNT)
+  public void loadContent(final Blackhole blackhole) {
+    final ComicBook comicBook =
+        BenchmarkFixtures.createComicBook(0, "synthetic.cbz", ArchiveType.CBZ);
+    for (int index = 0; index < this.pages.size(); index++) {
+      this.adaptor.loadContent(
+          comicBook, String.format("page-%03d.jpg", index + 1), this.pages.get(index), this.rules);
+    }
+    blackhole.consume(comicBook);
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks;
+
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * <code>RepositoryBenchmarkConfiguration</code> creates the repositories used by the benchmarks
+ * against an in-memory database, without starting the rest of the application.
+ *
+ * @author Darryl L. Pierce
+ */
+@Configuration
+@EnableAutoConfiguration
+@EnableJpaRepositories(basePackages = {"org.comixedproject.repositories"})
+@EntityScan(basePackages = {"org.comixedproject.model"})
+@EnableTransactionManagement
+public class RepositoryBenchmarkConfiguration {}
@@ -0,0 +1,195 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * <code>ComicVineStub</code> is a minimal stand-in for the ComicVine API, used so that batch
+ * scraping can be load tested without calling the real service. It answers the issue, volume and
+ * publisher detail requests made when scraping a comic, after an optional delay to simulate the
+ * latency of the real service.
+ *
+ * <p>The server must be started with the system property <code>comixed.comic-vine.base-url</code>
+ * pointing at this stub.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class ComicVineStub {
+  static final Pattern ISSUE_PATTERN = Pattern.compile("^/api/issue/4000-(\\d+)/?$");
+  static final Pattern VOLUME_PATTERN = Pattern.compile("^/api/volume/4050-(\\d+)/?$");
+  static final Pattern PUBLISHER_PATTERN = Pattern.compile("^/api/publisher/4010-(\\d+)/?$");
+  static final int ISSUES_PER_VOLUME = 50;
+  static final int VOLUMES_PER_PUBLISHER = 10;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final AtomicLong requests = new AtomicLong();
+  private final int delay;
+  private HttpServer server;
+  private ExecutorService executor;
+  private String baseUrl;
+
+  /**
+   * Creates the stub.
+   *
+   * @param delay the delay before each response, in milliseconds
+   */
+  public ComicVineStub(final int delay) {
+    this.delay = delay;
+  }
+
+  /**
+   * Starts the stub.
+   *
+   * @param port the port to listen on
+   * @throws IOException if an error occurs
+   */
+  public void start(final int port) throws IOException {
+    this.server = HttpServer.create(new InetSocketAddress(port), 0);
+    this.executor = Executors.newFixedThreadPool(8);
+    this.server.setExecutor(this.executor);
+    this.server.createContext("/api/", this::doHandle);
+    this.server.start();
+    this.baseUrl = String.format("http://localhost:%d", this.server.getAddress().getPort());
+    log.info("ComicVine stub listening: {}", this.baseUrl);
+  }
+
+  /** Stops the stub. */
+  public void stop() {
+    if (this.server != null) this.server.stop(0);
+    if (this.executor != null) this.executor.shutdownNow();
+  }
+
+  /**
+   * Returns the base URL for the stub.
+   *
+   * @return the base URL
+   */
+  public String getBaseUrl() {
+    return this.baseUrl;
+  }
+
+  /**
+   * Returns the number of requests answered.
+   *
+   * @return the request count
+   */
+  public long getRequestCount() {
+    return this.requests.get();
+  }
+
+  Map<String, Object> createResponse(final String path) {
+    Matcher matcher = ISSUE_PATTERN.matcher(path);
+    if (matcher.matches()) return this.doCreateIssue(Long.parseLong(matcher.group(1)));
+    matcher = VOLUME_PATTERN.matcher(path);
+    if (matcher.matches()) return this.doCreateVolume(Long.parseLong(matcher.group(1)));
+    matcher = PUBLISHER_PATTERN.matcher(path);
+    if (matcher.matches()) return this.doCreatePublisher(Long.parseLong(matcher.group(1)));
+    return null;
+  }
+
+  private void doHandle(final HttpExchange exchange) throws IOException {
+    try {
+      if (this.delay > 0) Thread.sleep(this.delay);
+      final Map<String, Object> results = this.createResponse(exchange.getRequestURI().getPath());
+      if (results == null) {
+        exchange.sendResponseHeaders(404, -1);
+        return;
+      }
+      final Map<String, Object> response = new LinkedHashMap<>();
+      response.put("error", "OK");
+      response.put("status_code", 1);
+      response.put("number_of_page_results", 1);
+      response.put("number_of_total_results", 1);
+      response.put("results", results);
+      final byte[] body = this.objectMapper.writeValueAsBytes(response);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream output = exchange.getResponseBody()) {
+        output.write(body);
+      }
+      this.requests.incrementAndGet();
+    } catch (InterruptedException error) {
+      Thread.currentThread().interrupt();
+      exchange.sendResponseHeaders(503, -1);
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private Map<String, Object> doCreateIssue(final long id) {
+    final long volumeId = id / ISSUES_PER_VOLUME;
+    final Map<String, Object> volume = new LinkedHashMap<>();
+    volume.put("id", String.valueOf(volumeId));
+    volume.put("name", String.format("Stub Volume %d", volumeId));
+    volume.put("api_detail_url", String.format("%s/api/volume/4050-%d/", this.baseUrl, volumeId));
+    final Map<String, Object> result = new LinkedHashMap<>();
+    result.put("id", String.valueOf(id));
+    result.put("volume", volume);
+    result.put("issue_number", String.valueOf((id % ISSUES_PER_VOLUME) + 1));
+    result.put("cover_date", "2001-04-01");
+    result.put("store_date", "2001-03-15");
+    result.put("name", String.format("Stub Issue %d", id));
+    result.put("description", "Metadata served by the load test ComicVine stub.");
+    result.put("character_credits", List.of(Map.of("name", "Stub Character")));
+    result.put("team_credits", List.of(Map.of("name", "Stub Team")));
+    result.put("location_credits", List.of(Map.of("name", "Stub City")));
+    result.put("story_arc_credits", List.of());
+    result.put("person_credits", List.of(Map.of("name", "Stub Writer", "role", "writer")));
+    return result;
+  }
+
+  private Map<String, Object> doCreateVolume(final long id) {
+    final long publisherId = id / VOLUMES_PER_PUBLISHER;
+    final Map<String, Object> publisher = new LinkedHashMap<>();
+    publisher.put("id", publisherId);
+    publisher.put("name", String.format("Stub Publisher %d", publisherId));
+    publisher.put(
+        "api_detail_url", String.format("%s/api/publisher/4010-%d/", this.baseUrl, publisherId));
+    final Map<String, Object> result = new LinkedHashMap<>();
+    result.put("id", String.valueOf(id));
+    result.put("name", String.format("Stub Volume %d", id));
+    result.put("start_year", "2001");
+    result.put("count_of_issues", ISSUES_PER_VOLUME);
+    result.put("publisher", publisher);
+    return result;
+  }
+
+  private Map<String, Object> doCreatePublisher(final long id) {
+    final Map<String, Object> result = new LinkedHashMap<>();
+    result.put("id", id);
+    result.put("name", String.format("Stub Publisher %d", id));
+    return result;
+  }
+}
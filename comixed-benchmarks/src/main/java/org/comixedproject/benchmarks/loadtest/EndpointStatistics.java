@@ -0,0 +1,62 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * <code>EndpointStatistics</code> contains the latencies and throughput measured for a single
+ * endpoint during a load test.
+ *
+ * @author Darryl L. Pierce
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointStatistics {
+  @JsonProperty("endpoint")
+  @Getter
+  private String endpoint;
+
+  @JsonProperty("requests")
+  @Getter
+  private long requests;
+
+  @JsonProperty("errors")
+  @Getter
+  private long errors;
+
+  @JsonProperty("p50Millis")
+  @Getter
+  private double p50Millis;
+
+  @JsonProperty("p99Millis")
+  @Getter
+  private double p99Millis;
+
+  @JsonProperty("maxMillis")
+  @Getter
+  private double maxMillis;
+
+  @JsonProperty("throughput")
+  @Getter
+  private double throughput;
+}
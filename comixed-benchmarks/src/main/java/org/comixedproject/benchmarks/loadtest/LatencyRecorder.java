@@ -0,0 +1,110 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <code>LatencyRecorder</code> collects the latency of every request made during a load test,
+ * grouped by endpoint. Requests made while recording is disabled, such as during warmup, are
+ * discarded.
+ *
+ * @author Darryl L. Pierce
+ */
+public class LatencyRecorder {
+  private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+  private volatile boolean recording = false;
+
+  /**
+   * Enables or disables recording.
+   *
+   * @param recording true to record requests
+   */
+  public void setRecording(final boolean recording) {
+    this.recording = recording;
+  }
+
+  /**
+   * Records a single request.
+   *
+   * @param endpoint the endpoint name
+   * @param nanos the latency in nanoseconds
+   * @param success true if the request succeeded
+   */
+  public void record(final String endpoint, final long nanos, final boolean success) {
+    if (!this.recording) return;
+    this.samples.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, success);
+  }
+
+  /**
+   * Creates the statistics for every endpoint.
+   *
+   * @param elapsedSeconds the length of the measurement period
+   * @return the statistics, ordered by endpoint name
+   */
+  public List<EndpointStatistics> getStatistics(final double elapsedSeconds) {
+    final List<EndpointStatistics> result = new ArrayList<>();
+    new TreeMap<>(this.samples)
+        .forEach((endpoint, entry) -> result.add(entry.toStatistics(endpoint, elapsedSeconds)));
+    return result;
+  }
+
+  static double percentile(final long[] sorted, final double percentile) {
+    if (sorted.length == 0) return 0.0;
+    final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return toMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+  }
+
+  private static double toMillis(final long nanos) {
+    return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  private static class Samples {
+    private long[] latencies = new long[1024];
+    private int count = 0;
+    private long errors = 0L;
+
+    synchronized void add(final long nanos, final boolean success) {
+      if (!success) this.errors++;
+      if (this.count == this.latencies.length)
+        this.latencies = Arrays.copyOf(this.latencies, this.count * 2);
+      this.latencies[this.count++] = nanos;
+    }
+
+    synchronized EndpointStatistics toStatistics(
+        final String endpoint, final double elapsedSeconds) {
+      final long[] sorted = Arrays.copyOf(this.latencies, this.count);
+      Arrays.sort(sorted);
+      return new EndpointStatistics(
+          endpoint,
+          this.count,
+          this.errors,
+          percentile(sorted, 0.50),
+          percentile(sorted, 0.99),
+          sorted.length == 0 ? 0.0 : toMillis(sorted[sorted.length - 1]),
+          elapsedSeconds > 0.0 ? this.count / elapsedSeconds : 0.0);
+    }
+  }
+}
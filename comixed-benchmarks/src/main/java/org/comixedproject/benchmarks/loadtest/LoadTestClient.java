@@ -0,0 +1,204 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * <code>LoadTestClient</code> makes requests to the application on behalf of a single virtual user
+ * and records the latency of each one. Each client keeps its own session, so that selections made
+ * by one virtual user do not affect another.
+ *
+ * @author Darryl L. Pierce
+ */
+public class LoadTestClient {
+  static final String JSON_CONTENT_TYPE = "application/json";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final String url;
+  private final LatencyRecorder recorder;
+  private final HttpClient httpClient;
+  @Getter private final String email;
+  private final String password;
+  private String token;
+
+  /**
+   * Creates the client.
+   *
+   * @param url the application URL
+   * @param recorder the latency recorder
+   * @param email the user's email
+   * @param password the user's password
+   */
+  public LoadTestClient(
+      final String url, final LatencyRecorder recorder, final String email, final String password) {
+    this.url = url;
+    this.recorder = recorder;
+    this.email = email;
+    this.password = password;
+    this.httpClient =
+        HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+  }
+
+  /**
+   * Logs in and stores the authentication token.
+   *
+   * @throws IOException if the login fails
+   */
+  public void login() throws IOException {
+    final String form =
+        String.format(
+            "email=%s&password=%s",
+            URLEncoder.encode(this.email, StandardCharsets.UTF_8),
+            URLEncoder.encode(this.password, StandardCharsets.UTF_8));
+    final HttpResponse<byte[]> response =
+        this.send(
+            "auth.login",
+            HttpRequest.newBuilder(URI.create(this.url + "/api/token/generate"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form)));
+    if (response.statusCode() != 200)
+      throw new IOException(
+          String.format("Login failed: email=%s status=%d", this.email, response.statusCode()));
+    this.token = this.objectMapper.readTree(response.body()).path("token").asText();
+  }
+
+  /**
+   * Sends a GET request to the REST API.
+   *
+   * @param endpoint the endpoint name used when recording the request
+   * @param path the request path
+   * @return the response body, or null if the request failed
+   * @throws IOException if an error occurs
+   */
+  public byte[] get(final String endpoint, final String path) throws IOException {
+    return this.doGetBody(
+        this.send(endpoint, this.createRequest(path).GET().header("Accept", "*/*")));
+  }
+
+  /**
+   * Sends a GET request to the REST API and parses the response.
+   *
+   * @param endpoint the endpoint name used when recording the request
+   * @param path the request path
+   * @return the response, or null if the request failed
+   * @throws IOException if an error occurs
+   */
+  public JsonNode getJson(final String endpoint, final String path) throws IOException {
+    return this.doParse(
+        this.doGetBody(
+            this.send(
+                endpoint, this.createRequest(path).GET().header("Accept", JSON_CONTENT_TYPE))));
+  }
+
+  /**
+   * Sends a POST request with a JSON body to the REST API and parses the response.
+   *
+   * @param endpoint the endpoint name used when recording the request
+   * @param path the request path
+   * @param body the request body
+   * @return the response, or null if the request failed or returned no content
+   * @throws IOException if an error occurs
+   */
+  public JsonNode postJson(final String endpoint, final String path, final Object body)
+      throws IOException {
+    return this.doParse(
+        this.doGetBody(
+            this.send(
+                endpoint,
+                this.createRequest(path)
+                    .header("Content-Type", JSON_CONTENT_TYPE)
+                    .header("Accept", JSON_CONTENT_TYPE)
+                    .POST(
+                        HttpRequest.BodyPublishers.ofByteArray(
+                            this.objectMapper.writeValueAsBytes(body))))));
+  }
+
+  /**
+   * Sends a GET request to the OPDS server, which uses basic authentication.
+   *
+   * @param endpoint the endpoint name used when recording the request
+   * @param path the request path
+   * @return the response body, or null if the request failed
+   * @throws IOException if an error occurs
+   */
+  public byte[] getOpds(final String endpoint, final String path) throws IOException {
+    final String credentials =
+        Base64.getEncoder()
+            .encodeToString(
+                String.format("%s:%s", this.email, this.password).getBytes(StandardCharsets.UTF_8));
+    return this.doGetBody(
+        this.send(
+            endpoint,
+            HttpRequest.newBuilder(URI.create(this.url + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Basic " + credentials)
+                .GET()));
+  }
+
+  private HttpRequest.Builder createRequest(final String path) {
+    final HttpRequest.Builder result =
+        HttpRequest.newBuilder(URI.create(this.url + path)).timeout(Duration.ofSeconds(60));
+    if (Objects.nonNull(this.token)) result.header("Authorization", "Bearer " + this.token);
+    return result;
+  }
+
+  private HttpResponse<byte[]> send(final String endpoint, final HttpRequest.Builder request)
+      throws IOException {
+    final long started = System.nanoTime();
+    try {
+      final HttpResponse<byte[]> response =
+          this.httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+      this.recorder.record(endpoint, System.nanoTime() - started, response.statusCode() / 100 == 2);
+      return response;
+    } catch (InterruptedException error) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Request interrupted", error);
+    } catch (IOException error) {
+      this.recorder.record(endpoint, System.nanoTime() - started, false);
+      throw error;
+    }
+  }
+
+  private byte[] doGetBody(final HttpResponse<byte[]> response) {
+    return response.statusCode() / 100 == 2 ? response.body() : null;
+  }
+
+  private JsonNode doParse(final byte[] body) throws IOException {
+    if (Objects.isNull(body) || body.length == 0) return null;
+    return this.objectMapper.readTree(body);
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * <code>LoadTestDriver</code> replays a mixed workload against a running ComiXed server and reports
+ * the latency and throughput of each endpoint. It is meant to be run against a library created with
+ * the <code>generate-library</code> database command, so that runs against different releases can
+ * be compared using the same data.
+ *
+ * <p>Each virtual user logs in as one of the generated readers and repeatedly loads the library,
+ * loads a grid of covers, reads pages, browses the OPDS feeds, and selects comics. When scraping is
+ * enabled the administrator also selects every comic and starts a batch scrape, which is answered
+ * by a {@link ComicVineStub} rather than ComicVine itself.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class LoadTestDriver {
+  static final int SAMPLE_PAGE_SIZE = 500;
+
+  private final LoadTestOptions options;
+
+  public LoadTestDriver(final LoadTestOptions options) {
+    this.options = options;
+  }
+
+  public static void main(final String[] args) throws IOException, InterruptedException {
+    System.exit(new LoadTestDriver(LoadTestOptions.parse(args)).run());
+  }
+
+  /**
+   * Runs the load test.
+   *
+   * @return the exit status
+   * @throws IOException if an error occurs
+   * @throws InterruptedException if the test is interrupted
+   */
+  public int run() throws IOException, InterruptedException {
+    final LatencyRecorder recorder = new LatencyRecorder();
+    ComicVineStub stub = null;
+    if (this.options.getStubPort() > 0) {
+      stub = new ComicVineStub(this.options.getStubDelay());
+      stub.start(this.options.getStubPort());
+      System.out.printf(
+          "ComicVine stub started; the server must be run with -Dcomixed.comic-vine.base-url=%s%n",
+          stub.getBaseUrl());
+    }
+    try {
+      final List<Long> comicIds = this.doLoadComicIds(recorder);
+      if (comicIds.isEmpty()) {
+        System.err.println("No comics found in the library");
+        return 1;
+      }
+      System.out.printf("Loaded %d comic ids%n", comicIds.size());
+
+      final List<VirtualUser> virtualUsers = new ArrayList<>();
+      final Random random = new Random(this.options.getSeed());
+      for (int index = 0; index < this.options.getUsers(); index++) {
+        final LoadTestClient client =
+            new LoadTestClient(
+                this.options.getUrl(),
+                recorder,
+                String.format(
+                    this.options.getUserEmail(), (index % this.options.getUserCount()) + 1),
+                this.options.getUserPassword());
+        client.login();
+        virtualUsers.add(new VirtualUser(client, comicIds, new Random(random.nextLong())));
+      }
+
+      final ExecutorService executor = Executors.newFixedThreadPool(virtualUsers.size());
+      virtualUsers.forEach(executor::submit);
+      System.out.printf("Warming up for %d seconds%n", this.options.getWarmup());
+      Thread.sleep(TimeUnit.SECONDS.toMillis(this.options.getWarmup()));
+
+      recorder.setRecording(true);
+      final long started = System.nanoTime();
+      final long stubRequests = Objects.nonNull(stub) ? stub.getRequestCount() : 0L;
+      if (this.options.isScrape()) this.doStartScraping(recorder);
+      System.out.printf("Measuring for %d seconds%n", this.options.getDuration());
+      Thread.sleep(TimeUnit.SECONDS.toMillis(this.options.getDuration()));
+      recorder.setRecording(false);
+      final double elapsed = (System.nanoTime() - started) / (double) TimeUnit.SECONDS.toNanos(1);
+
+      virtualUsers.forEach(VirtualUser::stop);
+      executor.shutdown();
+      if (!executor.awaitTermination(60, TimeUnit.SECONDS)) executor.shutdownNow();
+
+      final LoadTestReport report = new LoadTestReport();
+      report.setLabel(this.options.getLabel());
+      report.setCreatedOn(Instant.now().toString());
+      report.setUsers(this.options.getUsers());
+      report.setDurationSeconds(elapsed);
+      if (Objects.nonNull(stub)) report.setScrapeRequests(stub.getRequestCount() - stubRequests);
+      report.getEndpoints().addAll(recorder.getStatistics(elapsed));
+
+      final LoadTestReport baseline =
+          Objects.nonNull(this.options.getBaseline())
+              ? LoadTestReport.read(new File(this.options.getBaseline()))
+              : null;
+      report.print(System.out, baseline);
+      if (Objects.nonNull(this.options.getReport())) {
+        report.write(new File(this.options.getReport()));
+        System.out.printf("Report written: %s%n", this.options.getReport());
+      }
+      return 0;
+    } finally {
+      if (Objects.nonNull(stub)) stub.stop();
+    }
+  }
+
+  private List<Long> doLoadComicIds(final LatencyRecorder recorder) throws IOException {
+    final LoadTestClient client =
+        new LoadTestClient(
+            this.options.getUrl(),
+            recorder,
+            String.format(this.options.getUserEmail(), 1),
+            this.options.getUserPassword());
+    client.login();
+    final List<Long> result = new ArrayList<>();
+    final Map<String, Object> request = new HashMap<>();
+    request.put("pageSize", Math.min(SAMPLE_PAGE_SIZE, this.options.getSampleSize()));
+    request.put("pageIndex", 0);
+    while (result.size() < this.options.getSampleSize()) {
+      final JsonNode response =
+          client.postJson("library.sample", "/api/comics/details/load", request);
+      if (Objects.isNull(response) || response.path("comicDetails").size() == 0) break;
+      response.get("comicDetails").forEach(entry -> result.add(entry.path("comicId").asLong()));
+      if (!response.hasNonNull("nextCursor")) break;
+      request.put("cursor", response.get("nextCursor"));
+    }
+    return result.size() > this.options.getSampleSize()
+        ? result.subList(0, this.options.getSampleSize())
+        : result;
+  }
+
+  private void doStartScraping(final LatencyRecorder recorder) throws IOException {
+    final LoadTestClient admin =
+        new LoadTestClient(
+            this.options.getUrl(),
+            recorder,
+            this.options.getAdminEmail(),
+            this.options.getAdminPassword());
+    admin.login();
+    final Map<String, Object> selection = new HashMap<>();
+    selection.put("unscrapedState", false);
+    selection.put("selected", true);
+    admin.postJson("scrape.select", "/api/comics/selections/multiple", selection);
+    admin.postJson("scrape.start", "/api/metadata/batch/start", Map.of("skipCache", true));
+    System.out.println("Batch scraping started");
+  }
+}
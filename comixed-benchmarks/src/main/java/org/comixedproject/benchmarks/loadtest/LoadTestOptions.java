@@ -0,0 +1,113 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * <code>LoadTestOptions</code> holds the options for a load test run, parsed from command line
+ * arguments in the form <code>--name=value</code>.
+ *
+ * @author Darryl L. Pierce
+ */
+public class LoadTestOptions {
+  private static final Set<String> KNOWN_OPTIONS =
+      Set.of(
+          "url",
+          "users",
+          "duration",
+          "warmup",
+          "user-email",
+          "user-password",
+          "user-count",
+          "admin-email",
+          "admin-password",
+          "sample-size",
+          "scrape",
+          "stub-port",
+          "stub-delay",
+          "label",
+          "report",
+          "baseline",
+          "seed");
+
+  @Getter private String url = "http://localhost:7171";
+  @Getter private int users = 10;
+  @Getter private int duration = 120;
+  @Getter private int warmup = 15;
+  @Getter private String userEmail = "reader%d@loadtest.comixedproject.org";
+  @Getter private String userPassword = "loadtest";
+  @Getter private int userCount = 5;
+  @Getter private String adminEmail = "comixedadmin@localhost";
+  @Getter private String adminPassword = "comixedadmin";
+  @Getter private int sampleSize = 1000;
+  @Getter private boolean scrape = false;
+  @Getter private int stubPort = 0;
+  @Getter private int stubDelay = 50;
+  @Getter private String label = "current";
+  @Getter private String report;
+  @Getter private String baseline;
+  @Getter private long seed = 1L;
+
+  /**
+   * Parses the command line arguments.
+   *
+   * @param args the arguments
+   * @return the options
+   * @throws IllegalArgumentException if an argument is not recognized
+   */
+  public static LoadTestOptions parse(final String[] args) {
+    final Map<String, String> values = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("="))
+        throw new IllegalArgumentException("Invalid argument: " + arg);
+      values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+    }
+    final LoadTestOptions result = new LoadTestOptions();
+    result.url = values.getOrDefault("url", result.url).replaceAll("/+$", "");
+    result.users = Integer.parseInt(values.getOrDefault("users", String.valueOf(result.users)));
+    result.duration =
+        Integer.parseInt(values.getOrDefault("duration", String.valueOf(result.duration)));
+    result.warmup = Integer.parseInt(values.getOrDefault("warmup", String.valueOf(result.warmup)));
+    result.userEmail = values.getOrDefault("user-email", result.userEmail);
+    result.userPassword = values.getOrDefault("user-password", result.userPassword);
+    result.userCount =
+        Integer.parseInt(values.getOrDefault("user-count", String.valueOf(result.userCount)));
+    result.adminEmail = values.getOrDefault("admin-email", result.adminEmail);
+    result.adminPassword = values.getOrDefault("admin-password", result.adminPassword);
+    result.sampleSize =
+        Integer.parseInt(values.getOrDefault("sample-size", String.valueOf(result.sampleSize)));
+    result.scrape = Boolean.parseBoolean(values.getOrDefault("scrape", String.valueOf(false)));
+    result.stubPort =
+        Integer.parseInt(values.getOrDefault("stub-port", String.valueOf(result.stubPort)));
+    result.stubDelay =
+        Integer.parseInt(values.getOrDefault("stub-delay", String.valueOf(result.stubDelay)));
+    result.label = values.getOrDefault("label", result.label);
+    result.report = values.get("report");
+    result.baseline = values.get("baseline");
+    result.seed = Long.parseLong(values.getOrDefault("seed", String.valueOf(result.seed)));
+    values.keySet().removeAll(KNOWN_OPTIONS);
+    if (!values.isEmpty())
+      throw new IllegalArgumentException("Unknown option(s): " + values.keySet());
+    return result;
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * <code>LoadTestReport</code> contains the results of a load test run. Reports are written as JSON
+ * so that a run against one release can be compared with a run against another.
+ *
+ * @author Darryl L. Pierce
+ */
+public class LoadTestReport {
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  @JsonProperty("label")
+  @Getter
+  @Setter
+  private String label;
+
+  @JsonProperty("createdOn")
+  @Getter
+  @Setter
+  private String createdOn;
+
+  @JsonProperty("users")
+  @Getter
+  @Setter
+  private int users;
+
+  @JsonProperty("durationSeconds")
+  @Getter
+  @Setter
+  private double durationSeconds;
+
+  @JsonProperty("scrapeRequests")
+  @Getter
+  @Setter
+  private long scrapeRequests;
+
+  @JsonProperty("endpoints")
+  @Getter
+  private List<EndpointStatistics> endpoints = new ArrayList<>();
+
+  /**
+   * Reads a report.
+   *
+   * @param file the report file
+   * @return the report
+   * @throws IOException if an error occurs
+   */
+  public static LoadTestReport read(final File file) throws IOException {
+    return OBJECT_MAPPER.readValue(file, LoadTestReport.class);
+  }
+
+  /**
+   * Writes the report.
+   *
+   * @param file the report file
+   * @throws IOException if an error occurs
+   */
+  public void write(final File file) throws IOException {
+    OBJECT_MAPPER.writeValue(file, this);
+  }
+
+  /**
+   * Prints the report as a table. When a baseline is given, the change from the baseline is shown
+   * for each endpoint.
+   *
+   * @param output the output stream
+   * @param baseline the baseline report, or null
+   */
+  public void print(final PrintStream output, final LoadTestReport baseline) {
+    output.printf(
+        "%nLoad test: %s (%d users, %.0f seconds)%n", this.label, this.users, this.durationSeconds);
+    if (Objects.nonNull(baseline)) output.printf("Baseline:  %s%n", baseline.getLabel());
+    output.printf(
+        "%-22s %9s %7s %10s %10s %10s %10s%n",
+        "endpoint", "requests", "errors", "p50 (ms)", "p99 (ms)", "max (ms)", "req/s");
+    for (EndpointStatistics statistics : this.endpoints) {
+      output.printf(
+          "%-22s %9d %7d %10.1f %10.1f %10.1f %10.1f%n",
+          statistics.getEndpoint(),
+          statistics.getRequests(),
+          statistics.getErrors(),
+          statistics.getP50Millis(),
+          statistics.getP99Millis(),
+          statistics.getMaxMillis(),
+          statistics.getThroughput());
+      final Optional<EndpointStatistics> previous =
+          Objects.isNull(baseline)
+              ? Optional.empty()
+              : baseline.getEndpoints().stream()
+                  .filter(entry -> entry.getEndpoint().equals(statistics.getEndpoint()))
+                  .findFirst();
+      previous.ifPresent(
+          entry ->
+              output.printf(
+                  "%-22s %9s %7s %10s %10s %10s %10s%n",
+                  "",
+                  "",
+                  "",
+                  change(entry.getP50Millis(), statistics.getP50Millis()),
+                  change(entry.getP99Millis(), statistics.getP99Millis()),
+                  "",
+                  change(entry.getThroughput(), statistics.getThroughput())));
+    }
+    if (this.scrapeRequests > 0)
+      output.printf("Metadata requests served by the stub: %d%n", this.scrapeRequests);
+  }
+
+  static String change(final double before, final double after) {
+    if (before == 0.0) return "n/a";
+    return String.format("%+.1f%%", (after - before) * 100.0 / before);
+  }
+}
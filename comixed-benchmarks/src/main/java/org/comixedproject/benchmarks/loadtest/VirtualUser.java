@@ -0,0 +1,163 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * <code>VirtualUser</code> repeatedly performs actions chosen from the {@link Workload} until it is
+ * told to stop, imitating a reader browsing and reading the library.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class VirtualUser implements Runnable {
+  static final int LIBRARY_PAGE_SIZE = 100;
+  static final int LIBRARY_PAGES = 3;
+  static final int COVER_GRID_SIZE = 24;
+  static final int PAGES_READ = 5;
+  static final int OPDS_MAX_WIDTH = 600;
+
+  private final LoadTestClient client;
+  private final List<Long> comicIds;
+  private final Random random;
+  private volatile boolean running = true;
+
+  /**
+   * Creates the virtual user.
+   *
+   * @param client the client
+   * @param comicIds the comic book ids to work with
+   * @param random the random number generator
+   */
+  public VirtualUser(final LoadTestClient client, final List<Long> comicIds, final Random random) {
+    this.client = client;
+    this.comicIds = comicIds;
+    this.random = random;
+  }
+
+  /** Stops the virtual user after its current action. */
+  public void stop() {
+    this.running = false;
+  }
+
+  @Override
+  public void run() {
+    while (this.running && !Thread.currentThread().isInterrupted()) {
+      final Workload workload = Workload.pick(this.random);
+      try {
+        switch (workload) {
+          case LIBRARY:
+            this.doLoadLibrary();
+            break;
+          case COVERS:
+            this.doLoadCovers();
+            break;
+          case READING:
+            this.doReadComic();
+            break;
+          case OPDS:
+            this.doBrowseOpds();
+            break;
+          case SELECTION:
+            this.doSelectComics();
+            break;
+        }
+      } catch (IOException error) {
+        log.debug("Action failed: user={} action={}", this.client.getEmail(), workload, error);
+      }
+    }
+  }
+
+  private void doLoadLibrary() throws IOException {
+    final Map<String, Object> request = new HashMap<>();
+    request.put("pageSize", LIBRARY_PAGE_SIZE);
+    request.put("pageIndex", 0);
+    JsonNode response =
+        this.client.postJson("library.first-page", "/api/comics/details/load", request);
+    for (int page = 1; page < LIBRARY_PAGES && this.hasNextCursor(response); page++) {
+      request.put("cursor", response.get("nextCursor"));
+      response = this.client.postJson("library.next-page", "/api/comics/details/load", request);
+    }
+  }
+
+  private void doLoadCovers() throws IOException {
+    for (int index = 0; index < COVER_GRID_SIZE; index++) {
+      this.client.get(
+          "comic.cover", String.format("/api/comics/%d/cover/content", this.pickComic()));
+    }
+  }
+
+  private void doReadComic() throws IOException {
+    final JsonNode comic =
+        this.client.getJson("comic.details", String.format("/api/comics/%d", this.pickComic()));
+    if (Objects.isNull(comic) || !comic.path("pages").isArray()) return;
+    final JsonNode pages = comic.get("pages");
+    if (pages.size() == 0) return;
+    final int start = this.random.nextInt(pages.size());
+    for (int index = start; index < Math.min(pages.size(), start + PAGES_READ); index++) {
+      this.client.get(
+          "page.content",
+          String.format("/api/pages/%d/content", pages.get(index).path("id").asLong()));
+    }
+  }
+
+  private void doBrowseOpds() throws IOException {
+    this.client.getOpds("opds.root", "/opds");
+    this.client.getOpds("opds.publishers", "/opds/collections/publishers");
+    final long comicId = this.pickComic();
+    for (int index = 0; index < PAGES_READ; index++) {
+      this.client.getOpds(
+          "opds.page",
+          String.format("/opds/comics/%d/pages/%d/%d", comicId, index, OPDS_MAX_WIDTH));
+    }
+  }
+
+  private void doSelectComics() throws IOException {
+    final Map<String, Object> request = new HashMap<>();
+    request.put("coverYear", null);
+    request.put("coverMonth", null);
+    request.put("archiveType", this.random.nextBoolean() ? "CBZ" : "CB7");
+    request.put("comicType", null);
+    request.put("comicState", null);
+    request.put("unscrapedState", false);
+    request.put("searchText", null);
+    request.put("selected", true);
+    this.client.postJson("selection.add", "/api/comics/selections/multiple", request);
+    request.put("selected", false);
+    this.client.postJson("selection.remove", "/api/comics/selections/multiple", request);
+  }
+
+  private boolean hasNextCursor(final JsonNode response) {
+    return Objects.nonNull(response)
+        && response.hasNonNull("nextCursor")
+        && response.path("comicDetails").size() > 0;
+  }
+
+  private long pickComic() {
+    return this.comicIds.get(this.random.nextInt(this.comicIds.size()));
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.benchmarks.loadtest;
+
+import java.util.Random;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <code>Workload</code> defines the mix of actions performed by the virtual users. Each action is
+ * chosen at random in proportion to its weight.
+ *
+ * @author Darryl L. Pierce
+ */
+@AllArgsConstructor
+public enum Workload {
+  LIBRARY(30),
+  COVERS(25),
+  READING(25),
+  OPDS(15),
+  SELECTION(5);
+
+  @Getter private int weight;
+
+  /**
+   * Chooses an action at random.
+   *
+   * @param random the random number generator
+   * @return the action
+   */
+  public static Workload pick(final Random random) {
+    int total = 0;
+    for (Workload workload : values()) total += workload.weight;
+    int choice = random.nextInt(total);
+    for (Workload workload : values()) {
+      if (choice < workload.weight) return workload;
+      choice -= workload.weight;
+    }
+    return LIBRARY;
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * <code>AbstractDatabaseMaintenanceCommand</code> provides the common steps for the offline
+ * maintenance commands. It measures the size of the database before and after the command runs and
+ * reports the bytes reclaimed and the time taken.
+ *
+ * <p>For H2 the size is that of the <code>.mv.db</code> file. Note that H2 only returns free space
+ * to the filesystem when the database is compacted, so deleting rows is reported as reclaimed space
+ * only after running the <code>compact</code> command.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public abstract class AbstractDatabaseMaintenanceCommand implements DatabaseCommand {
+  static final String H2_FILE_EXTENSION = ".mv.db";
+
+  @Autowired private DataSource dataSource;
+
+  @Override
+  public void execute() throws DatabaseCommandException {
+    final long started = System.currentTimeMillis();
+    Connection connection = null;
+    try {
+      connection = this.dataSource.getConnection();
+      final DatabaseDialect dialect = DatabaseDialect.forConnection(connection);
+      final File databaseFile = this.doGetDatabaseFile(connection, dialect);
+      final long sizeBefore = this.doGetDatabaseSize(connection, dialect, databaseFile);
+      log.debug("Running {}: dialect={} size={}", this.getDescription(), dialect, sizeBefore);
+      final long reclaimedFiles = this.doExecute(connection, dialect);
+      final long sizeAfter = this.doGetDatabaseSize(connection, dialect, databaseFile);
+      long reclaimed = reclaimedFiles;
+      if (sizeBefore >= 0L && sizeAfter >= 0L) {
+        reclaimed += sizeBefore - sizeAfter;
+      } else {
+        log.debug("Database size is not available for dialect: {}", dialect);
+      }
+      log.info(
+          "{} completed: reclaimed={} bytes took={}ms",
+          this.getDescription(),
+          reclaimed,
+          System.currentTimeMillis() - started);
+    } catch (SQLException error) {
+      throw new DatabaseCommandException("Failed to run " + this.getDescription(), error);
+    } finally {
+      this.doCloseConnection(connection);
+    }
+  }
+
+  /**
+   * Returns the description used when reporting on the command.
+   *
+   * @return the description
+   */
+  protected abstract String getDescription();
+
+  /**
+   * Performs the maintenance work.
+   *
+   * @param connection the connection
+   * @param dialect the database dialect
+   * @return the number of bytes reclaimed outside of the database, such as deleted files
+   * @throws SQLException if a database error occurs
+   * @throws DatabaseCommandException if the command fails
+   */
+  protected abstract long doExecute(Connection connection, DatabaseDialect dialect)
+      throws SQLException, DatabaseCommandException;
+
+  /**
+   * Executes an update statement with the given parameters.
+   *
+   * @param connection the connection
+   * @param sql the statement
+   * @param parameters the parameters
+   * @return the update count
+   * @throws SQLException if an error occurs
+   */
+  protected int doExecuteUpdate(
+      final Connection connection, final String sql, final Object... parameters)
+      throws SQLException {
+    log.trace("Executing statement: {}", sql);
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      for (int index = 0; index < parameters.length; index++) {
+        statement.setObject(index + 1, parameters[index]);
+      }
+      return statement.executeUpdate();
+    }
+  }
+
+  /**
+   * Executes a statement that returns no update count, such as <code>ANALYZE</code>.
+   *
+   * @param connection the connection
+   * @param sql the statement
+   * @throws SQLException if an error occurs
+   */
+  protected void doExecuteStatement(final Connection connection, final String sql)
+      throws SQLException {
+    log.trace("Executing statement: {}", sql);
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+
+  /**
+   * Returns the names of all tables in the current schema.
+   *
+   * @param connection the connection
+   * @return the table names
+   * @throws SQLException if an error occurs
+   */
+  protected List<String> doGetTableNames(final Connection connection) throws SQLException {
+    final List<String> result = new ArrayList<>();
+    try (ResultSet tables =
+        connection
+            .getMetaData()
+            .getTables(connection.getCatalog(), null, "%", new String[] {"TABLE"})) {
+      while (tables.next()) {
+        result.add(tables.getString("TABLE_NAME"));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns if the named table exists, ignoring how the database folds the case of the name.
+   *
+   * @param connection the connection
+   * @param name the table name
+   * @return true if the table exists
+   * @throws SQLException if an error occurs
+   */
+  protected boolean doTableExists(final Connection connection, final String name)
+      throws SQLException {
+    return this.doGetTableNames(connection).stream().anyMatch(name::equalsIgnoreCase);
+  }
+
+  private void doCloseConnection(final Connection connection) {
+    if (connection == null) return;
+    try {
+      connection.close();
+    } catch (SQLException error) {
+      log.debug("Connection was already closed by the database", error);
+    }
+  }
+
+  private File doGetDatabaseFile(final Connection connection, final DatabaseDialect dialect)
+      throws SQLException {
+    if (dialect != DatabaseDialect.H2) return null;
+    String path = connection.getMetaData().getURL().substring("jdbc:h2:".length());
+    if (path.startsWith("mem:") || path.startsWith("tcp:") || path.startsWith("ssl:")) return null;
+    if (path.startsWith("file:")) path = path.substring("file:".length());
+    if (path.contains(";")) path = path.substring(0, path.indexOf(';'));
+    if (path.startsWith("~")) path = System.getProperty("user.home") + path.substring(1);
+    return new File(path + H2_FILE_EXTENSION);
+  }
+
+  private long doGetDatabaseSize(
+      final Connection connection, final DatabaseDialect dialect, final File databaseFile)
+      throws SQLException {
+    switch (dialect) {
+      case H2:
+        return databaseFile != null && databaseFile.exists() ? databaseFile.length() : -1L;
+      case POSTGRESQL:
+        return this.doQueryForSize(connection, "SELECT pg_database_size(current_database())");
+      case MYSQL:
+        return this.doQueryForSize(
+            connection,
+            "SELECT SUM(data_length + index_length) FROM information_schema.tables WHERE table_schema = DATABASE()");
+      default:
+        return -1L;
+    }
+  }
+
+  private long doQueryForSize(final Connection connection, final String sql) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet result = statement.executeQuery(sql)) {
+      return result.next() ? result.getLong(1) : -1L;
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>AnalyzeDatabaseCommand</code> refreshes the statistics used by the query planner.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class AnalyzeDatabaseCommand extends AbstractDatabaseMaintenanceCommand {
+  @Override
+  protected String getDescription() {
+    return "Statistics refresh";
+  }
+
+  @Override
+  protected long doExecute(final Connection connection, final DatabaseDialect dialect)
+      throws SQLException, DatabaseCommandException {
+    switch (dialect) {
+      case H2:
+      case POSTGRESQL:
+        log.info("Analyzing database");
+        this.doExecuteStatement(connection, "ANALYZE");
+        break;
+      case MYSQL:
+        for (String table : this.doGetTableNames(connection)) {
+          log.debug("Analyzing table: {}", table);
+          this.doExecuteStatement(connection, "ANALYZE TABLE " + table);
+        }
+        break;
+      default:
+        throw new DatabaseCommandException("Analyze is not supported for this database");
+    }
+    return 0L;
+  }
+}
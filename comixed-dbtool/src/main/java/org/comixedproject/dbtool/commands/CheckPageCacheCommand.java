@@ -0,0 +1,146 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>CheckPageCacheCommand</code> verifies the page cache against the database and deletes the
+ * cached images whose hash is no longer used by any page or blocked hash. Empty cache directories
+ * are removed afterward.
+ *
+ * <p>The cache stores each image under a path made from four eight-character segments of its hash.
+ * Files that do not follow that layout are left alone.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class CheckPageCacheCommand extends AbstractDatabaseMaintenanceCommand {
+  static final int HASH_SEGMENTS = 4;
+  static final int HASH_SEGMENT_LENGTH = 8;
+
+  @Value("${comixed.images.cache.location:${user.home}/.comixed/image-cache}")
+  String cacheDirectory;
+
+  @Value("${check-page-cache.dry-run:false}")
+  boolean dryRun = false;
+
+  @Override
+  protected String getDescription() {
+    return "Page cache check";
+  }
+
+  @Override
+  protected long doExecute(final Connection connection, final DatabaseDialect dialect)
+      throws SQLException, DatabaseCommandException {
+    final Path root = new File(this.cacheDirectory).toPath();
+    if (!Files.isDirectory(root)) {
+      log.info("No page cache found: {}", root);
+      return 0L;
+    }
+    final Set<String> hashes = new HashSet<>();
+    this.doLoadHashes(connection, "SELECT DISTINCT file_hash FROM comic_pages", hashes);
+    this.doLoadHashes(connection, "SELECT hash_value FROM blocked_hashes", hashes);
+    log.debug("Loaded page hashes: {}", hashes.size());
+
+    long reclaimed = 0L;
+    int checked = 0;
+    int deleted = 0;
+    try (Stream<Path> files = Files.walk(root)) {
+      final List<Path> entries = files.filter(Files::isRegularFile).collect(Collectors.toList());
+      for (Path entry : entries) {
+        final String hash = this.doGetHash(root.relativize(entry));
+        if (hash == null) {
+          log.trace("Skipping unexpected file: {}", entry);
+          continue;
+        }
+        checked++;
+        if (!hashes.contains(hash)) {
+          log.debug("Deleting stale cache entry: hash={} dry-run={}", hash, this.dryRun);
+          reclaimed += Files.size(entry);
+          deleted++;
+          if (!this.dryRun) Files.delete(entry);
+        }
+      }
+      if (!this.dryRun) this.doDeleteEmptyDirectories(root);
+    } catch (IOException error) {
+      throw new DatabaseCommandException("Failed to check page cache", error);
+    }
+    log.info("Checked page cache: entries={} stale={} dry-run={}", checked, deleted, this.dryRun);
+    return this.dryRun ? 0L : reclaimed;
+  }
+
+  private void doLoadHashes(final Connection connection, final String sql, final Set<String> hashes)
+      throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet result = statement.executeQuery(sql)) {
+      while (result.next()) {
+        final Object value = result.getObject(1);
+        hashes.add(
+            value instanceof byte[] bytes
+                ? HexFormat.of().withUpperCase().formatHex(bytes)
+                : String.valueOf(value));
+      }
+    }
+  }
+
+  private String doGetHash(final Path path) {
+    if (path.getNameCount() != HASH_SEGMENTS) return null;
+    final StringBuilder result = new StringBuilder();
+    for (Path segment : path) {
+      if (segment.toString().length() != HASH_SEGMENT_LENGTH) return null;
+      result.append(segment);
+    }
+    return result.toString();
+  }
+
+  private void doDeleteEmptyDirectories(final Path root) throws IOException {
+    try (Stream<Path> directories = Files.walk(root)) {
+      final List<Path> entries =
+          directories
+              .filter(Files::isDirectory)
+              .filter(directory -> !directory.equals(root))
+              .sorted(Comparator.reverseOrder())
+              .collect(Collectors.toList());
+      for (Path directory : entries) {
+        try (Stream<Path> children = Files.list(directory)) {
+          if (children.findAny().isEmpty()) Files.delete(directory);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>CleanupOrphansCommand</code> deletes pages, tags and metadata cache values whose parent
+ * record no longer exists. These are left behind by databases that were migrated without foreign
+ * keys or edited by hand.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class CleanupOrphansCommand extends AbstractDatabaseMaintenanceCommand {
+  @Override
+  protected String getDescription() {
+    return "Orphan cleanup";
+  }
+
+  @Override
+  protected long doExecute(final Connection connection, final DatabaseDialect dialect)
+      throws SQLException {
+    final int pages =
+        this.doExecuteUpdate(
+            connection,
+            "DELETE FROM comic_pages WHERE NOT EXISTS (SELECT 1 FROM comic_books b WHERE b.id = comic_pages.comic_book_id)");
+    final int tags =
+        this.doExecuteUpdate(
+            connection,
+            "DELETE FROM comic_tags WHERE NOT EXISTS (SELECT 1 FROM comic_details d WHERE d.id = comic_tags.comic_detail_id)");
+    final int values =
+        this.doExecuteUpdate(
+            connection,
+            "DELETE FROM metadata_cache_entries WHERE NOT EXISTS (SELECT 1 FROM metadata_cache c WHERE c.id = metadata_cache_entries.metadata_cache_id)");
+    log.info("Deleted orphans: pages={} tags={} metadata values={}", pages, tags, values);
+    return 0L;
+  }
+}
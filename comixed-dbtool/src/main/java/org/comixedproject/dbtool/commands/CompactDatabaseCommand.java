@@ -0,0 +1,78 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>CompactDatabaseCommand</code> rewrites the database to return free space to the filesystem.
+ *
+ * <p>In offline mode H2 is shut down with <code>SHUTDOWN COMPACT</code>, so this should be the last
+ * command run. PostgreSQL uses <code>VACUUM FULL</code> and MySQL uses <code>OPTIMIZE TABLE</code>.
+ * In online mode PostgreSQL uses a plain <code>VACUUM</code>, which does not lock the tables. H2
+ * can only be compacted offline.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class CompactDatabaseCommand extends AbstractDatabaseMaintenanceCommand {
+  static final String OFFLINE_MODE = "offline";
+  static final String ONLINE_MODE = "online";
+
+  @Value("${compact.mode:offline}")
+  String mode = OFFLINE_MODE;
+
+  @Override
+  protected String getDescription() {
+    return "Database compaction";
+  }
+
+  @Override
+  protected long doExecute(final Connection connection, final DatabaseDialect dialect)
+      throws SQLException, DatabaseCommandException {
+    final boolean online = ONLINE_MODE.equalsIgnoreCase(this.mode);
+    if (!online && !OFFLINE_MODE.equalsIgnoreCase(this.mode))
+      throw new DatabaseCommandException("Invalid compaction mode: " + this.mode);
+    switch (dialect) {
+      case H2:
+        if (online) throw new DatabaseCommandException("H2 can only be compacted offline");
+        log.info("Compacting H2 database: the database will be shut down");
+        this.doExecuteStatement(connection, "SHUTDOWN COMPACT");
+        break;
+      case POSTGRESQL:
+        log.info("Vacuuming PostgreSQL database: online={}", online);
+        this.doExecuteStatement(connection, online ? "VACUUM" : "VACUUM FULL");
+        break;
+      case MYSQL:
+        for (String table : this.doGetTableNames(connection)) {
+          log.debug("Optimizing table: {}", table);
+          this.doExecuteStatement(connection, "OPTIMIZE TABLE " + table);
+        }
+        break;
+      default:
+        throw new DatabaseCommandException("Compaction is not supported for this database");
+    }
+    return 0L;
+  }
+}
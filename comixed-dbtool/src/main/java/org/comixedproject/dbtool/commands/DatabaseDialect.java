@@ -0,0 +1,56 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * <code>DatabaseDialect</code> identifies the database vendor behind a connection, since the
+ * maintenance commands need vendor-specific statements.
+ *
+ * @author Darryl L. Pierce
+ */
+public enum DatabaseDialect {
+  H2("H2"),
+  POSTGRESQL("PostgreSQL"),
+  MYSQL("MySQL"),
+  OTHER("");
+
+  private final String productName;
+
+  DatabaseDialect(final String productName) {
+    this.productName = productName;
+  }
+
+  /**
+   * Returns the dialect for the given connection.
+   *
+   * @param connection the connection
+   * @return the dialect
+   * @throws SQLException if an error occurs
+   */
+  public static DatabaseDialect forConnection(final Connection connection) throws SQLException {
+    final String name = connection.getMetaData().getDatabaseProductName();
+    for (DatabaseDialect dialect : values()) {
+      if (dialect != OTHER && dialect.productName.equalsIgnoreCase(name)) return dialect;
+    }
+    return OTHER;
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.dbtool.library.SyntheticComic;
+import org.comixedproject.dbtool.library.SyntheticComicWriter;
+import org.comixedproject.dbtool.library.SyntheticLibraryGenerator;
+import org.comixedproject.dbtool.library.SyntheticLibraryStore;
+import org.comixedproject.dbtool.library.SyntheticPagePool;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>GenerateLibraryCommand</code> creates a synthetic library for load testing. It writes CBZ
+ * and CB7 files with generated pages and a <code>ComicInfo.xml</code> file, then records them in
+ * the database as processed comics along with blocked pages, readers, read states and reading
+ * lists.
+ *
+ * <p>The library is meant to be generated into an empty database. The same seed always produces the
+ * same library, so results from different releases can be compared.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class GenerateLibraryCommand implements DatabaseCommand {
+  static final String COMIC_VINE_ADAPTOR_NAME = "ComicVineMetadataAdaptor";
+  static final String API_KEY_PROPERTY = "comic-vine.api-key";
+  static final String LOAD_TEST_API_KEY = "load-test";
+  static final int BASE_IMAGE_COUNT = 16;
+
+  @Autowired private SyntheticComicWriter comicWriter;
+  @Autowired private SyntheticLibraryStore libraryStore;
+
+  @Value("${generate-library.directory:synthetic-library}")
+  String directory = "synthetic-library";
+
+  @Value("${generate-library.comics:100}")
+  int comicCount = 100;
+
+  @Value("${generate-library.pages:24}")
+  int pageCount = 24;
+
+  @Value("${generate-library.page-width:800}")
+  int pageWidth = 800;
+
+  @Value("${generate-library.page-height:1200}")
+  int pageHeight = 1200;
+
+  @Value("${generate-library.cb7-ratio:0.2}")
+  double cb7Ratio = 0.2;
+
+  @Value("${generate-library.shared-pages:8}")
+  int sharedPageCount = 8;
+
+  @Value("${generate-library.shared-page-ratio:0.05}")
+  double sharedPageRatio = 0.05;
+
+  @Value("${generate-library.blocked-pages:2}")
+  int blockedPageCount = 2;
+
+  @Value("${generate-library.users:5}")
+  int userCount = 5;
+
+  @Value("${generate-library.user-email:reader%d@loadtest.comixedproject.org}")
+  String userEmail = "reader%d@loadtest.comixedproject.org";
+
+  @Value("${generate-library.user-password:loadtest}")
+  String userPassword = "loadtest";
+
+  @Value("${generate-library.reads-per-user:25}")
+  int readsPerUser = 25;
+
+  @Value("${generate-library.reading-lists-per-user:2}")
+  int readingListsPerUser = 2;
+
+  @Value("${generate-library.reading-list-size:10}")
+  int readingListSize = 10;
+
+  @Value("${generate-library.scraping:false}")
+  boolean scraping = false;
+
+  @Value("${generate-library.seed:1}")
+  long seed = 1L;
+
+  @Override
+  public void execute() throws DatabaseCommandException {
+    log.info(
+        "Generating synthetic library: directory={} comics={}", this.directory, this.comicCount);
+    final Random random = new Random(this.seed);
+    try {
+      final SyntheticPagePool pagePool =
+          new SyntheticPagePool(
+              random, this.pageWidth, this.pageHeight, BASE_IMAGE_COUNT, this.sharedPageCount);
+      final Long metadataSourceId = this.scraping ? this.doPrepareMetadataSource() : null;
+      final List<Long> comicDetailIds = this.doCreateComics(random, pagePool, metadataSourceId);
+      this.doCreateBlockedHashes(pagePool);
+      this.doCreateReaders(random, comicDetailIds);
+    } catch (IOException | DataAccessException error) {
+      throw new DatabaseCommandException("Failed to generate synthetic library", error);
+    }
+    log.info("Synthetic library generated");
+  }
+
+  private Long doPrepareMetadataSource() throws DatabaseCommandException {
+    final Long result =
+        this.libraryStore
+            .findMetadataSource(COMIC_VINE_ADAPTOR_NAME)
+            .orElseThrow(
+                () -> new DatabaseCommandException("No ComicVine metadata source defined"));
+    log.debug("Setting default API key for metadata source: id={}", result);
+    this.libraryStore.setDefaultMetadataSourceProperty(result, API_KEY_PROPERTY, LOAD_TEST_API_KEY);
+    return result;
+  }
+
+  private List<Long> doCreateComics(
+      final Random random, final SyntheticPagePool pagePool, final Long metadataSourceId)
+      throws IOException {
+    final SyntheticLibraryGenerator generator =
+        new SyntheticLibraryGenerator(
+            random,
+            pagePool,
+            new File(this.directory),
+            this.pageCount,
+            this.cb7Ratio,
+            this.sharedPageRatio);
+    final List<Long> result = new ArrayList<>();
+    for (int index = 0; index < this.comicCount; index++) {
+      final SyntheticComic comic = generator.createComic(index);
+      this.comicWriter.write(comic);
+      result.add(this.libraryStore.saveComic(comic, metadataSourceId));
+      if ((index + 1) % 100 == 0) log.info("Generated {} of {} comics", index + 1, this.comicCount);
+    }
+    return result;
+  }
+
+  private void doCreateBlockedHashes(final SyntheticPagePool pagePool) {
+    final List<byte[]> sharedPages = pagePool.getSharedPages();
+    for (int index = 0; index < Math.min(this.blockedPageCount, sharedPages.size()); index++) {
+      final byte[] content = sharedPages.get(index);
+      log.debug("Blocking shared page: index={}", index);
+      this.libraryStore.saveBlockedHash(
+          SyntheticPagePool.createHash(content),
+          String.format("Load test page %d", index + 1),
+          Base64.getEncoder().encodeToString(content));
+    }
+  }
+
+  private void doCreateReaders(final Random random, final List<Long> comicDetailIds) {
+    final String passwordHash =
+        SyntheticPagePool.createHash(this.userPassword.getBytes(StandardCharsets.UTF_8));
+    for (int index = 0; index < this.userCount; index++) {
+      final String email = String.format(this.userEmail, index + 1);
+      if (this.libraryStore.findUser(email).isPresent()) {
+        log.warn("Skipping existing user: {}", email);
+        continue;
+      }
+      log.debug("Creating reader: {}", email);
+      final long userId = this.libraryStore.saveReader(email, passwordHash);
+      this.libraryStore.saveLastReadDates(
+          userId, this.doSelectComics(random, comicDetailIds, this.readsPerUser));
+      for (int list = 0; list < this.readingListsPerUser; list++) {
+        this.libraryStore.saveReadingList(
+            userId,
+            String.format("Load Test List %d", list + 1),
+            this.doSelectComics(random, comicDetailIds, this.readingListSize));
+      }
+    }
+  }
+
+  private List<Long> doSelectComics(
+      final Random random, final List<Long> comicDetailIds, final int count) {
+    final List<Long> result = new ArrayList<>(comicDetailIds);
+    Collections.shuffle(result, random);
+    return result.subList(0, Math.min(count, result.size()));
+  }
+}
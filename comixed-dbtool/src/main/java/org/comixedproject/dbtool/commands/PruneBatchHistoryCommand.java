@@ -0,0 +1,92 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>PruneBatchHistoryCommand</code> deletes the Spring Batch execution history for jobs that
+ * finished before the retention period. Jobs that are still running are never deleted.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class PruneBatchHistoryCommand extends AbstractDatabaseMaintenanceCommand {
+  static final String JOB_EXECUTION_TABLE = "BATCH_JOB_EXECUTION";
+  static final String OLD_JOB_EXECUTIONS =
+      "SELECT job_execution_id FROM batch_job_execution WHERE end_time < ?";
+
+  @Value("${prune-batch-history.days:30}")
+  int days = 30;
+
+  @Override
+  protected String getDescription() {
+    return "Batch history pruning";
+  }
+
+  @Override
+  protected long doExecute(final Connection connection, final DatabaseDialect dialect)
+      throws SQLException {
+    if (!this.doTableExists(connection, JOB_EXECUTION_TABLE)) {
+      log.info("No batch history found");
+      return 0L;
+    }
+    final Timestamp cutoff =
+        new Timestamp(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(this.days));
+    log.debug("Pruning batch history: cutoff={}", cutoff);
+    this.doExecuteUpdate(
+        connection,
+        "DELETE FROM batch_step_execution_context WHERE step_execution_id IN (SELECT step_execution_id FROM batch_step_execution WHERE job_execution_id IN ("
+            + OLD_JOB_EXECUTIONS
+            + "))",
+        cutoff);
+    this.doExecuteUpdate(
+        connection,
+        "DELETE FROM batch_step_execution WHERE job_execution_id IN (" + OLD_JOB_EXECUTIONS + ")",
+        cutoff);
+    this.doExecuteUpdate(
+        connection,
+        "DELETE FROM batch_job_execution_context WHERE job_execution_id IN ("
+            + OLD_JOB_EXECUTIONS
+            + ")",
+        cutoff);
+    this.doExecuteUpdate(
+        connection,
+        "DELETE FROM batch_job_execution_params WHERE job_execution_id IN ("
+            + OLD_JOB_EXECUTIONS
+            + ")",
+        cutoff);
+    final int executions =
+        this.doExecuteUpdate(
+            connection, "DELETE FROM batch_job_execution WHERE end_time < ?", cutoff);
+    final int instances =
+        this.doExecuteUpdate(
+            connection,
+            "DELETE FROM batch_job_instance WHERE job_instance_id NOT IN (SELECT job_instance_id FROM batch_job_execution)");
+    log.info("Pruned batch history: executions={} instances={}", executions, instances);
+    return 0L;
+  }
+}
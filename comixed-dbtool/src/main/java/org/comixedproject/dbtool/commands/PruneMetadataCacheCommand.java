@@ -0,0 +1,63 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>PruneMetadataCacheCommand</code> deletes metadata cache entries that are past their
+ * expiration. The default matches the expiration used by the metadata cache service.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class PruneMetadataCacheCommand extends AbstractDatabaseMaintenanceCommand {
+  @Value("${prune-metadata-cache.days:7}")
+  int days = 7;
+
+  @Override
+  protected String getDescription() {
+    return "Metadata cache pruning";
+  }
+
+  @Override
+  protected long doExecute(final Connection connection, final DatabaseDialect dialect)
+      throws SQLException {
+    final Timestamp cutoff =
+        new Timestamp(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(this.days));
+    log.debug("Pruning metadata cache: cutoff={}", cutoff);
+    final int values =
+        this.doExecuteUpdate(
+            connection,
+            "DELETE FROM metadata_cache_entries WHERE metadata_cache_id IN (SELECT id FROM metadata_cache WHERE created_on <= ?)",
+            cutoff);
+    final int entries =
+        this.doExecuteUpdate(
+            connection, "DELETE FROM metadata_cache WHERE created_on <= ?", cutoff);
+    log.info("Pruned metadata cache: entries={} values={}", entries, values);
+    return 0L;
+  }
+}
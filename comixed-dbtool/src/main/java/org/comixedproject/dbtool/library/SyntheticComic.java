@@ -0,0 +1,49 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.library;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * <code>SyntheticComic</code> represents a single generated comic book, along with the metadata
+ * that is written to its <code>ComicInfo.xml</code> file and to the database.
+ *
+ * @author Darryl L. Pierce
+ */
+public class SyntheticComic {
+  @Getter @Setter private String filename;
+  @Getter @Setter private String archiveType;
+  @Getter @Setter private String publisher;
+  @Getter @Setter private String series;
+  @Getter @Setter private String volume;
+  @Getter @Setter private String issueNumber;
+  @Getter @Setter private Date coverDate;
+  @Getter @Setter private Date storeDate;
+  @Getter @Setter private String title;
+  @Getter @Setter private String description;
+  @Getter @Setter private String referenceId;
+  @Getter private List<String> characters = new ArrayList<>();
+  @Getter private List<String> teams = new ArrayList<>();
+  @Getter private List<String> writers = new ArrayList<>();
+  @Getter private List<SyntheticPage> pages = new ArrayList<>();
+}
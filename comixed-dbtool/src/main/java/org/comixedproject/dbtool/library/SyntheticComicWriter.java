@@ -0,0 +1,177 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.library;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.compress.archivers.sevenz.SevenZArchiveEntry;
+import org.apache.commons.compress.archivers.sevenz.SevenZMethod;
+import org.apache.commons.compress.archivers.sevenz.SevenZMethodConfiguration;
+import org.apache.commons.compress.archivers.sevenz.SevenZOutputFile;
+import org.springframework.stereotype.Component;
+import org.tukaani.xz.LZMA2Options;
+
+/**
+ * <code>SyntheticComicWriter</code> writes a synthetic comic to disk as either a CBZ or a CB7 file,
+ * with a <code>ComicInfo.xml</code> file containing its metadata.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class SyntheticComicWriter {
+  static final String COMIC_INFO_FILENAME = "ComicInfo.xml";
+  static final String CB7_ARCHIVE_TYPE = "CB7";
+  static final int CB7_COMPRESSION_PRESET = 1;
+
+  /**
+   * Writes the comic file.
+   *
+   * @param comic the comic
+   * @throws IOException if an error occurs
+   */
+  public void write(final SyntheticComic comic) throws IOException {
+    final File file = new File(comic.getFilename());
+    Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+    final byte[] comicInfo;
+    try {
+      comicInfo = this.createComicInfo(comic);
+    } catch (XMLStreamException error) {
+      throw new IOException("Failed to create ComicInfo.xml", error);
+    }
+    log.trace("Writing synthetic comic: {}", file);
+    if (CB7_ARCHIVE_TYPE.equals(comic.getArchiveType())) {
+      this.doWriteCb7(file, comic.getPages(), comicInfo);
+    } else {
+      this.doWriteCbz(file, comic.getPages(), comicInfo);
+    }
+  }
+
+  /**
+   * Creates the <code>ComicInfo.xml</code> content for a comic.
+   *
+   * @param comic the comic
+   * @return the content
+   * @throws XMLStreamException if an error occurs
+   */
+  public byte[] createComicInfo(final SyntheticComic comic) throws XMLStreamException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final XMLStreamWriter writer =
+        XMLOutputFactory.newInstance().createXMLStreamWriter(output, StandardCharsets.UTF_8.name());
+    final Calendar coverDate = Calendar.getInstance();
+    coverDate.setTime(comic.getCoverDate());
+
+    writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+    writer.writeStartElement("ComicInfo");
+    this.doWriteElement(writer, "Title", comic.getTitle());
+    this.doWriteElement(writer, "Series", comic.getSeries());
+    this.doWriteElement(writer, "Number", comic.getIssueNumber());
+    this.doWriteElement(writer, "Volume", comic.getVolume());
+    this.doWriteElement(writer, "Summary", comic.getDescription());
+    this.doWriteElement(writer, "Year", String.valueOf(coverDate.get(Calendar.YEAR)));
+    this.doWriteElement(writer, "Month", String.valueOf(coverDate.get(Calendar.MONTH) + 1));
+    this.doWriteElement(writer, "Writer", String.join(", ", comic.getWriters()));
+    this.doWriteElement(writer, "Publisher", comic.getPublisher());
+    this.doWriteElement(writer, "Characters", String.join(", ", comic.getCharacters()));
+    this.doWriteElement(writer, "Teams", String.join(", ", comic.getTeams()));
+    this.doWriteElement(
+        writer,
+        "Notes",
+        "Store date: " + new SimpleDateFormat("yyyy-MM-dd").format(comic.getStoreDate()));
+    this.doWriteElement(writer, "PageCount", String.valueOf(comic.getPages().size()));
+    writer.writeStartElement("Pages");
+    for (int index = 0; index < comic.getPages().size(); index++) {
+      final SyntheticPage page = comic.getPages().get(index);
+      writer.writeEmptyElement("Page");
+      writer.writeAttribute("Image", String.valueOf(index));
+      if (index == 0) writer.writeAttribute("Type", "FrontCover");
+      writer.writeAttribute("ImageSize", String.valueOf(page.getContent().length));
+      writer.writeAttribute("ImageWidth", String.valueOf(page.getWidth()));
+      writer.writeAttribute("ImageHeight", String.valueOf(page.getHeight()));
+    }
+    writer.writeEndElement();
+    writer.writeEndElement();
+    writer.writeEndDocument();
+    writer.close();
+    return output.toByteArray();
+  }
+
+  private void doWriteElement(final XMLStreamWriter writer, final String name, final String value)
+      throws XMLStreamException {
+    if (value == null || value.isEmpty()) return;
+    writer.writeStartElement(name);
+    writer.writeCharacters(value);
+    writer.writeEndElement();
+  }
+
+  private void doWriteCbz(final File file, final List<SyntheticPage> pages, final byte[] comicInfo)
+      throws IOException {
+    try (ZipOutputStream output =
+        new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      for (SyntheticPage page : pages) {
+        output.putNextEntry(new ZipEntry(page.getFilename()));
+        output.write(page.getContent());
+        output.closeEntry();
+      }
+      output.putNextEntry(new ZipEntry(COMIC_INFO_FILENAME));
+      output.write(comicInfo);
+      output.closeEntry();
+    }
+  }
+
+  private void doWriteCb7(final File file, final List<SyntheticPage> pages, final byte[] comicInfo)
+      throws IOException {
+    try (SevenZOutputFile output = new SevenZOutputFile(file)) {
+      // a fast preset keeps generation quick and does not change the cost of reading the file
+      output.setContentMethods(
+          List.of(
+              new SevenZMethodConfiguration(
+                  SevenZMethod.LZMA2, new LZMA2Options(CB7_COMPRESSION_PRESET))));
+      for (SyntheticPage page : pages) {
+        this.doWriteCb7Entry(output, page.getFilename(), page.getContent());
+      }
+      this.doWriteCb7Entry(output, COMIC_INFO_FILENAME, comicInfo);
+    }
+  }
+
+  private void doWriteCb7Entry(
+      final SevenZOutputFile output, final String filename, final byte[] content)
+      throws IOException {
+    final SevenZArchiveEntry entry = new SevenZArchiveEntry();
+    entry.setName(filename);
+    entry.setSize(content.length);
+    output.putArchiveEntry(entry);
+    output.write(content);
+    output.closeArchiveEntry();
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.library;
+
+import java.io.File;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * <code>SyntheticLibraryGenerator</code> creates the metadata and pages for the comics in a
+ * synthetic library. The same seed always produces the same library, so that load tests run against
+ * different releases use identical data.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class SyntheticLibraryGenerator {
+  static final int ISSUES_PER_VOLUME = 50;
+  static final int FIRST_REFERENCE_ID = 100000;
+  static final int FIRST_YEAR = 1980;
+  static final int YEARS = 40;
+
+  private static final List<String> PUBLISHERS =
+      List.of("Apex Comics", "Blue Harbor", "Comet Press", "Dynamo House", "Ember Studios");
+  private static final List<String> SERIES_PREFIXES =
+      List.of("Amazing", "Astonishing", "Cosmic", "Dark", "Galactic", "Mighty", "Uncanny");
+  private static final List<String> SERIES_NAMES =
+      List.of("Avengers", "Defenders", "Guardians", "Knights", "Rangers", "Sentinels", "Titans");
+  private static final List<String> CHARACTERS =
+      List.of(
+          "Captain Dawn",
+          "The Crimson Fox",
+          "Doctor Null",
+          "Iron Lark",
+          "Lady Tempest",
+          "Night Warden",
+          "Professor Quill",
+          "Silver Comet",
+          "The Stone Giant",
+          "Volt");
+  private static final List<String> TEAMS =
+      List.of("The Dawn Patrol", "League of Lanterns", "The Outriders", "Star Legion");
+  private static final List<String> WRITERS =
+      List.of("Alex Moreau", "Jordan Kaye", "Sam Okafor", "Riley Tanaka", "Casey Lindqvist");
+
+  private final Random random;
+  private final SyntheticPagePool pagePool;
+  private final File directory;
+  private final int pageCount;
+  private final double cb7Ratio;
+  private final double sharedPageRatio;
+
+  /**
+   * Creates the generator.
+   *
+   * @param random the random number generator
+   * @param pagePool the page pool
+   * @param directory the root directory for the comic files
+   * @param pageCount the number of pages per comic
+   * @param cb7Ratio the fraction of comics written as CB7 files
+   * @param sharedPageRatio the fraction of pages taken from the shared pages
+   */
+  public SyntheticLibraryGenerator(
+      final Random random,
+      final SyntheticPagePool pagePool,
+      final File directory,
+      final int pageCount,
+      final double cb7Ratio,
+      final double sharedPageRatio) {
+    this.random = random;
+    this.pagePool = pagePool;
+    this.directory = directory;
+    this.pageCount = pageCount;
+    this.cb7Ratio = cb7Ratio;
+    this.sharedPageRatio = sharedPageRatio;
+  }
+
+  /**
+   * Creates the comic with the given index.
+   *
+   * @param index the index
+   * @return the comic
+   */
+  public SyntheticComic createComic(final int index) {
+    final int volumeIndex = index / ISSUES_PER_VOLUME;
+    final int issue = (index % ISSUES_PER_VOLUME) + 1;
+    final String publisher = PUBLISHERS.get(volumeIndex % PUBLISHERS.size());
+    final int seriesIndex = volumeIndex % (SERIES_PREFIXES.size() * SERIES_NAMES.size());
+    final int cycle = volumeIndex / (SERIES_PREFIXES.size() * SERIES_NAMES.size() * YEARS);
+    final String series =
+        String.format(
+            cycle > 0 ? "%s %s %d" : "%s %s",
+            SERIES_PREFIXES.get(seriesIndex % SERIES_PREFIXES.size()),
+            SERIES_NAMES.get(seriesIndex / SERIES_PREFIXES.size()),
+            cycle + 1);
+    final int year = FIRST_YEAR + (volumeIndex % YEARS);
+
+    final SyntheticComic result = new SyntheticComic();
+    result.setPublisher(publisher);
+    result.setSeries(series);
+    result.setVolume(String.valueOf(year));
+    result.setIssueNumber(String.valueOf(issue));
+    result.setArchiveType(this.random.nextDouble() < this.cb7Ratio ? "CB7" : "CBZ");
+    result.setFilename(
+        new File(
+                new File(new File(this.directory, publisher), series),
+                String.format(
+                    "%s v%s #%03d.%s", series, year, issue, result.getArchiveType().toLowerCase()))
+            .getAbsolutePath());
+    final Calendar calendar = Calendar.getInstance();
+    calendar.clear();
+    calendar.set(year + ((issue - 1) / 12), (issue - 1) % 12, 1);
+    result.setCoverDate(calendar.getTime());
+    calendar.add(Calendar.DAY_OF_MONTH, -14);
+    result.setStoreDate(calendar.getTime());
+    result.setTitle(String.format("Chapter %d", issue));
+    result.setDescription(
+        String.format("Issue %d of %s, published by %s.", issue, series, publisher));
+    result.setReferenceId(String.valueOf(FIRST_REFERENCE_ID + index));
+    this.doPickNames(CHARACTERS, 1 + this.random.nextInt(4), result.getCharacters());
+    this.doPickNames(TEAMS, this.random.nextInt(2), result.getTeams());
+    this.doPickNames(WRITERS, 1, result.getWriters());
+
+    for (int page = 0; page < this.pageCount; page++) {
+      final boolean shared =
+          page > 0
+              && this.pagePool.hasSharedPages()
+              && this.random.nextDouble() < this.sharedPageRatio;
+      final byte[] content =
+          shared
+              ? this.pagePool.getSharedPage(this.random)
+              : this.pagePool.createUniquePage(this.random);
+      result
+          .getPages()
+          .add(
+              new SyntheticPage(
+                  String.format("page-%03d.jpg", page + 1),
+                  SyntheticPagePool.createHash(content),
+                  this.pagePool.getWidth(),
+                  this.pagePool.getHeight(),
+                  content));
+    }
+    log.trace("Created synthetic comic: {}", result.getFilename());
+    return result;
+  }
+
+  private void doPickNames(final List<String> names, final int count, final List<String> result) {
+    while (result.size() < Math.min(count, names.size())) {
+      final String name = names.get(this.random.nextInt(names.size()));
+      if (!result.contains(name)) result.add(name);
+    }
+  }
+}
@@ -0,0 +1,317 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.library;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>SyntheticLibraryStore</code> writes the records for a synthetic library directly to the
+ * database, in the state the application leaves them after a comic has been imported and processed.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class SyntheticLibraryStore implements InitializingBean {
+  static final String COMIC_STATE_STABLE = "STABLE";
+  static final String COMIC_TYPE_ISSUE = "ISSUE";
+  static final String PAGE_STATE_STABLE = "STABLE";
+  static final String READING_LIST_STATE_STABLE = "STABLE";
+  static final String READER_ROLE = "READER";
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private SimpleJdbcInsert comicBookInsert;
+  private SimpleJdbcInsert comicDetailInsert;
+  private SimpleJdbcInsert userInsert;
+  private SimpleJdbcInsert readingListInsert;
+
+  @Override
+  public void afterPropertiesSet() {
+    this.comicBookInsert =
+        new SimpleJdbcInsert(this.jdbcTemplate)
+            .withTableName("comic_books")
+            .usingColumns(
+                "last_modified_on",
+                "file_contents_loaded",
+                "blocked_pages_marked",
+                "batch_metadata_update")
+            .usingGeneratedKeyColumns("id");
+    this.comicDetailInsert =
+        new SimpleJdbcInsert(this.jdbcTemplate)
+            .withTableName("comic_details")
+            .usingColumns(
+                "comic_book_id",
+                "archive_type",
+                "comic_state",
+                "comic_type",
+                "filename",
+                "publisher",
+                "series",
+                "volume",
+                "issue_number",
+                "cover_date",
+                "store_date",
+                "added_date",
+                "title",
+                "description")
+            .usingGeneratedKeyColumns("id");
+    this.userInsert =
+        new SimpleJdbcInsert(this.jdbcTemplate)
+            .withTableName("comixed_users")
+            .usingColumns("email", "password_hash", "created_on", "last_logged_on")
+            .usingGeneratedKeyColumns("id");
+    this.readingListInsert =
+        new SimpleJdbcInsert(this.jdbcTemplate)
+            .withTableName("reading_lists")
+            .usingColumns(
+                "owner_id",
+                "reading_list_name",
+                "name_key",
+                "summary",
+                "reading_list_state",
+                "created_on",
+                "last_modified_on")
+            .usingGeneratedKeyColumns("id");
+  }
+
+  /**
+   * Saves a comic, its pages, and its tags.
+   *
+   * @param comic the comic
+   * @param metadataSourceId the metadata source to associate with the comic, or null
+   * @return the comic detail id
+   */
+  public long saveComic(final SyntheticComic comic, final Long metadataSourceId) {
+    final Timestamp now = new Timestamp(System.currentTimeMillis());
+    final Map<String, Object> comicBook = new HashMap<>();
+    comicBook.put("last_modified_on", now);
+    comicBook.put("file_contents_loaded", true);
+    comicBook.put("blocked_pages_marked", true);
+    comicBook.put("batch_metadata_update", false);
+    final long comicBookId = this.comicBookInsert.executeAndReturnKey(comicBook).longValue();
+
+    final Map<String, Object> comicDetail = new HashMap<>();
+    comicDetail.put("comic_book_id", comicBookId);
+    comicDetail.put("archive_type", comic.getArchiveType());
+    comicDetail.put("comic_state", COMIC_STATE_STABLE);
+    comicDetail.put("comic_type", COMIC_TYPE_ISSUE);
+    comicDetail.put("filename", comic.getFilename());
+    comicDetail.put("publisher", comic.getPublisher());
+    comicDetail.put("series", comic.getSeries());
+    comicDetail.put("volume", comic.getVolume());
+    comicDetail.put("issue_number", comic.getIssueNumber());
+    comicDetail.put("cover_date", new Date(comic.getCoverDate().getTime()));
+    comicDetail.put("store_date", new Date(comic.getStoreDate().getTime()));
+    comicDetail.put("added_date", new Date(now.getTime()));
+    comicDetail.put("title", comic.getTitle());
+    comicDetail.put("description", comic.getDescription());
+    final long comicDetailId = this.comicDetailInsert.executeAndReturnKey(comicDetail).longValue();
+
+    final List<Object[]> pages = new ArrayList<>();
+    for (int index = 0; index < comic.getPages().size(); index++) {
+      final SyntheticPage page = comic.getPages().get(index);
+      pages.add(
+          new Object[] {
+            comicBookId,
+            page.getFilename(),
+            HexFormat.of().parseHex(page.getHash()),
+            page.getWidth(),
+            page.getHeight(),
+            index,
+            PAGE_STATE_STABLE
+          });
+    }
+    this.jdbcTemplate.batchUpdate(
+        "INSERT INTO comic_pages(comic_book_id, filename, file_hash, width, height, page_number, page_state) VALUES (?, ?, ?, ?, ?, ?, ?)",
+        pages);
+
+    final List<Object[]> tags = new ArrayList<>();
+    comic
+        .getCharacters()
+        .forEach(name -> tags.add(new Object[] {comicDetailId, "CHARACTER", name}));
+    comic.getTeams().forEach(name -> tags.add(new Object[] {comicDetailId, "TEAM", name}));
+    comic.getWriters().forEach(name -> tags.add(new Object[] {comicDetailId, "WRITER", name}));
+    this.jdbcTemplate.batchUpdate(
+        "INSERT INTO comic_tags(comic_detail_id, tag_type, tag_value) VALUES (?, ?, ?)", tags);
+
+    if (metadataSourceId != null) {
+      this.jdbcTemplate.update(
+          "INSERT INTO comic_metadata_sources(comic_book_id, metadata_source_id, reference_id) VALUES (?, ?, ?)",
+          comicBookId,
+          metadataSourceId,
+          comic.getReferenceId());
+    }
+    return comicDetailId;
+  }
+
+  /**
+   * Saves a blocked hash.
+   *
+   * @param hash the page hash
+   * @param label the label
+   * @param thumbnail the encoded thumbnail
+   */
+  public void saveBlockedHash(final String hash, final String label, final String thumbnail) {
+    this.jdbcTemplate.update(
+        "INSERT INTO blocked_hashes(hash_value, label, thumbnail, created_on) VALUES (?, ?, ?, ?)",
+        HexFormat.of().parseHex(hash),
+        label,
+        thumbnail,
+        new Timestamp(System.currentTimeMillis()));
+  }
+
+  /**
+   * Finds a user by email.
+   *
+   * @param email the email
+   * @return the user id, if found
+   */
+  public Optional<Long> findUser(final String email) {
+    return this.jdbcTemplate
+        .queryForList("SELECT id FROM comixed_users WHERE email = ?", Long.class, email)
+        .stream()
+        .findFirst();
+  }
+
+  /**
+   * Saves a reader.
+   *
+   * @param email the email
+   * @param passwordHash the password hash
+   * @return the user id
+   */
+  public long saveReader(final String email, final String passwordHash) {
+    final Timestamp now = new Timestamp(System.currentTimeMillis());
+    final Map<String, Object> user = new HashMap<>();
+    user.put("email", email);
+    user.put("password_hash", passwordHash);
+    user.put("created_on", now);
+    user.put("last_logged_on", now);
+    final long userId = this.userInsert.executeAndReturnKey(user).longValue();
+    this.jdbcTemplate.update(
+        "INSERT INTO comixed_user_roles(comixed_user_id, comixed_role_id) SELECT ?, id FROM comixed_roles WHERE name = ?",
+        userId,
+        READER_ROLE);
+    return userId;
+  }
+
+  /**
+   * Marks comics as read by a user.
+   *
+   * @param userId the user id
+   * @param comicDetailIds the comic detail ids
+   */
+  public void saveLastReadDates(final long userId, final List<Long> comicDetailIds) {
+    final Timestamp now = new Timestamp(System.currentTimeMillis());
+    final List<Object[]> entries = new ArrayList<>();
+    comicDetailIds.forEach(id -> entries.add(new Object[] {userId, id, now, now}));
+    this.jdbcTemplate.batchUpdate(
+        "INSERT INTO last_read_dates(comixed_user_id, comic_detail_id, last_read_on, created_on) VALUES (?, ?, ?, ?)",
+        entries);
+  }
+
+  /**
+   * Saves a reading list.
+   *
+   * @param userId the owner id
+   * @param name the list name
+   * @param comicDetailIds the comic detail ids
+   */
+  public void saveReadingList(
+      final long userId, final String name, final List<Long> comicDetailIds) {
+    final Timestamp now = new Timestamp(System.currentTimeMillis());
+    final Map<String, Object> readingList = new HashMap<>();
+    readingList.put("owner_id", userId);
+    readingList.put("reading_list_name", name);
+    readingList.put("name_key", name.toUpperCase(Locale.ROOT));
+    readingList.put("summary", "Generated for load testing");
+    readingList.put("reading_list_state", READING_LIST_STATE_STABLE);
+    readingList.put("created_on", now);
+    readingList.put("last_modified_on", now);
+    final long readingListId = this.readingListInsert.executeAndReturnKey(readingList).longValue();
+    final List<Object[]> entries = new ArrayList<>();
+    comicDetailIds.forEach(id -> entries.add(new Object[] {readingListId, id}));
+    this.jdbcTemplate.batchUpdate(
+        "INSERT INTO reading_list_entries(reading_list_id, comic_detail_id) VALUES (?, ?)",
+        entries);
+  }
+
+  /**
+   * Finds a metadata source by adaptor name.
+   *
+   * @param adaptorName the adaptor name
+   * @return the metadata source id, if found
+   */
+  public Optional<Long> findMetadataSource(final String adaptorName) {
+    return this.jdbcTemplate
+        .queryForList(
+            "SELECT id FROM metadata_sources WHERE adaptor_name = ?", Long.class, adaptorName)
+        .stream()
+        .findFirst();
+  }
+
+  /**
+   * Sets a property for a metadata source if it does not already have a value, creating the
+   * property if needed.
+   *
+   * @param metadataSourceId the metadata source id
+   * @param name the property name
+   * @param value the property value
+   */
+  public void setDefaultMetadataSourceProperty(
+      final long metadataSourceId, final String name, final String value) {
+    final Integer existing =
+        this.jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM metadata_source_properties WHERE metadata_source_id = ? AND property_name = ?",
+            Integer.class,
+            metadataSourceId,
+            name);
+    if (existing == null || existing == 0) {
+      log.debug("Creating metadata source property: {}", name);
+      this.jdbcTemplate.update(
+          "INSERT INTO metadata_source_properties(metadata_source_id, property_name, property_value) VALUES (?, ?, ?)",
+          metadataSourceId,
+          name,
+          value);
+      return;
+    }
+    final int updated =
+        this.jdbcTemplate.update(
+            "UPDATE metadata_source_properties SET property_value = ? WHERE metadata_source_id = ? AND property_name = ? AND (property_value IS NULL OR property_value = '')",
+            value,
+            metadataSourceId,
+            name);
+    log.debug("Updated {} metadata source propert{}", updated, updated == 1 ? "y" : "ies");
+  }
+}
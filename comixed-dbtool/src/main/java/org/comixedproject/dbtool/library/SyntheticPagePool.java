@@ -0,0 +1,161 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.library;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.util.DigestUtils;
+
+/**
+ * <code>SyntheticPagePool</code> provides the page images used when generating a synthetic library.
+ *
+ * <p>Encoding a JPEG for every page would make generating a large library very slow, so a small
+ * number of base images are encoded up front. Each unique page is a base image with a serial number
+ * appended after the end-of-image marker, which image decoders ignore but which gives the page its
+ * own hash. Shared pages are returned unchanged, so every comic that contains one has a duplicate
+ * page with the same hash.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class SyntheticPagePool {
+  private final List<byte[]> baseImages = new ArrayList<>();
+  private final List<byte[]> sharedPages = new ArrayList<>();
+  @Getter private final int width;
+  @Getter private final int height;
+  private long serial = 0L;
+
+  /**
+   * Creates the pool.
+   *
+   * @param random the random number generator
+   * @param width the page width
+   * @param height the page height
+   * @param baseImageCount the number of base images
+   * @param sharedPageCount the number of shared pages
+   * @throws IOException if an error occurs encoding an image
+   */
+  public SyntheticPagePool(
+      final Random random,
+      final int width,
+      final int height,
+      final int baseImageCount,
+      final int sharedPageCount)
+      throws IOException {
+    this.width = width;
+    this.height = height;
+    log.debug("Creating {} base page image{}", baseImageCount, baseImageCount == 1 ? "" : "s");
+    for (int index = 0; index < baseImageCount; index++) {
+      this.baseImages.add(this.doCreateImage(random, String.format("Page %d", index + 1)));
+    }
+    log.debug("Creating {} shared page image{}", sharedPageCount, sharedPageCount == 1 ? "" : "s");
+    for (int index = 0; index < sharedPageCount; index++) {
+      this.sharedPages.add(this.doCreateImage(random, String.format("Shared %d", index + 1)));
+    }
+  }
+
+  /**
+   * Returns the content for a page whose hash is not shared with any other page.
+   *
+   * @param random the random number generator
+   * @return the page content
+   */
+  public byte[] createUniquePage(final Random random) {
+    final byte[] image = this.baseImages.get(random.nextInt(this.baseImages.size()));
+    return ByteBuffer.allocate(image.length + Long.BYTES).put(image).putLong(this.serial++).array();
+  }
+
+  /**
+   * Returns the content for a shared page.
+   *
+   * @param random the random number generator
+   * @return the page content
+   */
+  public byte[] getSharedPage(final Random random) {
+    return this.sharedPages.get(random.nextInt(this.sharedPages.size()));
+  }
+
+  /**
+   * Returns all shared pages.
+   *
+   * @return the page contents
+   */
+  public List<byte[]> getSharedPages() {
+    return Collections.unmodifiableList(this.sharedPages);
+  }
+
+  /**
+   * Returns if the pool contains any shared pages.
+   *
+   * @return true if there are shared pages
+   */
+  public boolean hasSharedPages() {
+    return !this.sharedPages.isEmpty();
+  }
+
+  /**
+   * Returns the hash for content, in the same form the application uses for page hashes and
+   * passwords.
+   *
+   * @param content the content
+   * @return the hash
+   */
+  public static String createHash(final byte[] content) {
+    return DigestUtils.md5DigestAsHex(content).toUpperCase(Locale.ROOT);
+  }
+
+  private byte[] doCreateImage(final Random random, final String label) throws IOException {
+    final BufferedImage image =
+        new BufferedImage(this.width, this.height, BufferedImage.TYPE_INT_RGB);
+    final Graphics2D graphics = image.createGraphics();
+    try {
+      graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+      graphics.fillRect(0, 0, this.width, this.height);
+      for (int panel = 0; panel < 6; panel++) {
+        graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+        graphics.fillRect(
+            random.nextInt(this.width),
+            random.nextInt(this.height),
+            1 + random.nextInt(Math.max(1, this.width / 2)),
+            1 + random.nextInt(Math.max(1, this.height / 3)));
+      }
+      graphics.setColor(Color.BLACK);
+      graphics.setFont(new Font(Font.SANS_SERIF, Font.BOLD, Math.max(12, this.width / 16)));
+      graphics.drawString(label, this.width / 10, this.height / 2);
+    } finally {
+      graphics.dispose();
+    }
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ImageIO.write(image, "jpg", output);
+    return output.toByteArray();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AnalyzeDatabaseCommandTest {
+  private static final String TEST_TABLE_NAME = "comic_books";
+
+  @InjectMocks private AnalyzeDatabaseCommand command;
+  @Mock private DataSource dataSource;
+  @Mock private Connection connection;
+  @Mock private DatabaseMetaData metaData;
+  @Mock private Statement statement;
+  @Mock private ResultSet resultSet;
+  @Mock private ResultSet tables;
+
+  @Before
+  public void setUp() throws SQLException {
+    Mockito.when(dataSource.getConnection()).thenReturn(connection);
+    Mockito.when(connection.getMetaData()).thenReturn(metaData);
+    Mockito.when(connection.createStatement()).thenReturn(statement);
+  }
+
+  @Test(expected = DatabaseCommandException.class)
+  public void testExecuteFails() throws DatabaseCommandException, SQLException {
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("H2");
+    Mockito.when(metaData.getURL()).thenReturn("jdbc:h2:mem:comixed");
+    Mockito.when(statement.execute(Mockito.anyString())).thenThrow(SQLException.class);
+
+    try {
+      command.execute();
+    } finally {
+      Mockito.verify(connection, Mockito.times(1)).close();
+    }
+  }
+
+  @Test
+  public void testExecuteH2() throws DatabaseCommandException, SQLException {
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("H2");
+    Mockito.when(metaData.getURL()).thenReturn("jdbc:h2:mem:comixed");
+
+    command.execute();
+
+    Mockito.verify(statement, Mockito.times(1)).execute("ANALYZE");
+  }
+
+  @Test
+  public void testExecuteMySQL() throws DatabaseCommandException, SQLException {
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("MySQL");
+    Mockito.when(statement.executeQuery(Mockito.anyString())).thenReturn(resultSet);
+    Mockito.when(resultSet.next()).thenReturn(true);
+    Mockito.when(
+            metaData.getTables(
+                Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.any(String[].class)))
+        .thenReturn(tables);
+    Mockito.when(tables.next()).thenReturn(true, false);
+    Mockito.when(tables.getString("TABLE_NAME")).thenReturn(TEST_TABLE_NAME);
+
+    command.execute();
+
+    Mockito.verify(statement, Mockito.times(1)).execute("ANALYZE TABLE " + TEST_TABLE_NAME);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HexFormat;
+import javax.sql.DataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.util.FileSystemUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CheckPageCacheCommandTest {
+  private static final File TEST_CACHE_DIRECTORY = new File("target/test-page-cache");
+  private static final String TEST_USED_HASH = "0123456789ABCDEF0123456789ABCDEF";
+  private static final String TEST_STALE_HASH = "FEDCBA9876543210FEDCBA9876543210";
+  private static final String TEST_OTHER_FILENAME = "README.txt";
+
+  @InjectMocks private CheckPageCacheCommand command;
+  @Mock private DataSource dataSource;
+  @Mock private Connection connection;
+  @Mock private DatabaseMetaData metaData;
+  @Mock private Statement statement;
+  @Mock private ResultSet resultSet;
+
+  private File usedFile;
+  private File staleFile;
+  private File otherFile;
+
+  @Before
+  public void setUp() throws SQLException, IOException {
+    Mockito.when(dataSource.getConnection()).thenReturn(connection);
+    Mockito.when(connection.getMetaData()).thenReturn(metaData);
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("H2");
+    Mockito.when(metaData.getURL()).thenReturn("jdbc:h2:mem:comixed");
+
+    usedFile = this.createCacheEntry(TEST_USED_HASH);
+    staleFile = this.createCacheEntry(TEST_STALE_HASH);
+    otherFile = new File(TEST_CACHE_DIRECTORY, TEST_OTHER_FILENAME);
+    Files.write(otherFile.toPath(), "Not a cached page".getBytes());
+
+    command.cacheDirectory = TEST_CACHE_DIRECTORY.getAbsolutePath();
+  }
+
+  @After
+  public void tearDown() {
+    FileSystemUtils.deleteRecursively(TEST_CACHE_DIRECTORY);
+  }
+
+  @Test
+  public void testExecuteNoCacheDirectory() throws DatabaseCommandException, SQLException {
+    command.cacheDirectory = new File(TEST_CACHE_DIRECTORY, "missing").getAbsolutePath();
+
+    command.execute();
+
+    Mockito.verify(connection, Mockito.never()).createStatement();
+  }
+
+  @Test(expected = DatabaseCommandException.class)
+  public void testExecuteLoadingHashesFails() throws DatabaseCommandException, SQLException {
+    Mockito.when(connection.createStatement()).thenReturn(statement);
+    Mockito.when(statement.executeQuery(Mockito.anyString())).thenThrow(SQLException.class);
+
+    try {
+      command.execute();
+    } finally {
+      assertTrue(staleFile.exists());
+    }
+  }
+
+  @Test
+  public void testExecuteDryRun() throws DatabaseCommandException, SQLException {
+    this.prepareHashes();
+    command.dryRun = true;
+
+    command.execute();
+
+    assertTrue(usedFile.exists());
+    assertTrue(staleFile.exists());
+    assertTrue(otherFile.exists());
+  }
+
+  @Test
+  public void testExecute() throws DatabaseCommandException, SQLException {
+    this.prepareHashes();
+
+    command.execute();
+
+    assertTrue(usedFile.exists());
+    assertFalse(staleFile.exists());
+    assertFalse(staleFile.getParentFile().exists());
+    assertFalse(new File(TEST_CACHE_DIRECTORY, TEST_STALE_HASH.substring(0, 8)).exists());
+    assertTrue(otherFile.exists());
+
+    Mockito.verify(statement, Mockito.times(2)).executeQuery(Mockito.anyString());
+  }
+
+  private void prepareHashes() throws SQLException {
+    Mockito.when(connection.createStatement()).thenReturn(statement);
+    Mockito.when(statement.executeQuery(Mockito.anyString())).thenReturn(resultSet);
+    Mockito.when(resultSet.next()).thenReturn(true, false, false);
+    Mockito.when(resultSet.getObject(1)).thenReturn(HexFormat.of().parseHex(TEST_USED_HASH));
+  }
+
+  private File createCacheEntry(final String hash) throws IOException {
+    final File result =
+        new File(
+            TEST_CACHE_DIRECTORY,
+            String.join(
+                File.separator,
+                hash.substring(0, 8),
+                hash.substring(8, 16),
+                hash.substring(16, 24),
+                hash.substring(24, 32)));
+    result.getParentFile().mkdirs();
+    Files.write(result.toPath(), "Cached page content".getBytes());
+    return result;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CleanupOrphansCommandTest {
+  @InjectMocks private CleanupOrphansCommand command;
+  @Mock private DataSource dataSource;
+  @Mock private Connection connection;
+  @Mock private DatabaseMetaData metaData;
+  @Mock private PreparedStatement preparedStatement;
+
+  @Before
+  public void setUp() throws SQLException {
+    Mockito.when(dataSource.getConnection()).thenReturn(connection);
+    Mockito.when(connection.getMetaData()).thenReturn(metaData);
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("H2");
+    Mockito.when(metaData.getURL()).thenReturn("jdbc:h2:mem:comixed");
+    Mockito.when(connection.prepareStatement(Mockito.anyString())).thenReturn(preparedStatement);
+  }
+
+  @Test(expected = DatabaseCommandException.class)
+  public void testExecuteFails() throws DatabaseCommandException, SQLException {
+    Mockito.when(preparedStatement.executeUpdate()).thenThrow(SQLException.class);
+
+    try {
+      command.execute();
+    } finally {
+      Mockito.verify(preparedStatement, Mockito.times(1)).close();
+      Mockito.verify(connection, Mockito.times(1)).close();
+    }
+  }
+
+  @Test
+  public void testExecute() throws DatabaseCommandException, SQLException {
+    Mockito.when(preparedStatement.executeUpdate()).thenReturn(2);
+
+    command.execute();
+
+    Mockito.verify(connection, Mockito.times(3)).prepareStatement(Mockito.anyString());
+    Mockito.verify(preparedStatement, Mockito.times(3)).executeUpdate();
+    Mockito.verify(preparedStatement, Mockito.never()).setObject(Mockito.anyInt(), Mockito.any());
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CompactDatabaseCommandTest {
+  private static final String TEST_H2_URL = "jdbc:h2:mem:comixed";
+  private static final long TEST_DATABASE_SIZE = 65535L;
+
+  @InjectMocks private CompactDatabaseCommand command;
+  @Mock private DataSource dataSource;
+  @Mock private Connection connection;
+  @Mock private DatabaseMetaData metaData;
+  @Mock private Statement statement;
+  @Mock private ResultSet resultSet;
+
+  @Before
+  public void setUp() throws SQLException {
+    Mockito.when(dataSource.getConnection()).thenReturn(connection);
+    Mockito.when(connection.getMetaData()).thenReturn(metaData);
+  }
+
+  @Test(expected = DatabaseCommandException.class)
+  public void testExecuteInvalidMode() throws DatabaseCommandException, SQLException {
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("H2");
+    Mockito.when(metaData.getURL()).thenReturn(TEST_H2_URL);
+    command.mode = "sideways";
+
+    try {
+      command.execute();
+    } finally {
+      Mockito.verify(connection, Mockito.never()).createStatement();
+      Mockito.verify(connection, Mockito.times(1)).close();
+    }
+  }
+
+  @Test(expected = DatabaseCommandException.class)
+  public void testExecuteH2Online() throws DatabaseCommandException, SQLException {
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("H2");
+    Mockito.when(metaData.getURL()).thenReturn(TEST_H2_URL);
+    command.mode = CompactDatabaseCommand.ONLINE_MODE;
+
+    try {
+      command.execute();
+    } finally {
+      Mockito.verify(connection, Mockito.never()).createStatement();
+    }
+  }
+
+  @Test
+  public void testExecuteH2Offline() throws DatabaseCommandException, SQLException {
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("H2");
+    Mockito.when(metaData.getURL()).thenReturn(TEST_H2_URL);
+    Mockito.when(connection.createStatement()).thenReturn(statement);
+
+    command.execute();
+
+    Mockito.verify(statement, Mockito.times(1)).execute("SHUTDOWN COMPACT");
+    Mockito.verify(connection, Mockito.times(1)).close();
+  }
+
+  @Test
+  public void testExecuteH2OfflineConnectionAlreadyClosed()
+      throws DatabaseCommandException, SQLException {
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("H2");
+    Mockito.when(metaData.getURL()).thenReturn(TEST_H2_URL);
+    Mockito.when(connection.createStatement()).thenReturn(statement);
+    Mockito.doThrow(SQLException.class).when(connection).close();
+
+    command.execute();
+
+    Mockito.verify(statement, Mockito.times(1)).execute("SHUTDOWN COMPACT");
+  }
+
+  @Test
+  public void testExecutePostgreSQLOnline() throws DatabaseCommandException, SQLException {
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+    Mockito.when(connection.createStatement()).thenReturn(statement);
+    Mockito.when(statement.executeQuery(Mockito.anyString())).thenReturn(resultSet);
+    Mockito.when(resultSet.next()).thenReturn(true);
+    Mockito.when(resultSet.getLong(1)).thenReturn(TEST_DATABASE_SIZE);
+    command.mode = CompactDatabaseCommand.ONLINE_MODE;
+
+    command.execute();
+
+    Mockito.verify(statement, Mockito.times(1)).execute("VACUUM");
+    Mockito.verify(statement, Mockito.times(2)).executeQuery(Mockito.anyString());
+  }
+
+  @Test
+  public void testExecutePostgreSQLOffline() throws DatabaseCommandException, SQLException {
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+    Mockito.when(connection.createStatement()).thenReturn(statement);
+    Mockito.when(statement.executeQuery(Mockito.anyString())).thenReturn(resultSet);
+    Mockito.when(resultSet.next()).thenReturn(true);
+    Mockito.when(resultSet.getLong(1)).thenReturn(TEST_DATABASE_SIZE);
+
+    command.execute();
+
+    Mockito.verify(statement, Mockito.times(1)).execute("VACUUM FULL");
+  }
+
+  @Test(expected = DatabaseCommandException.class)
+  public void testExecuteUnsupportedDatabase() throws DatabaseCommandException, SQLException {
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("Derby");
+
+    try {
+      command.execute();
+    } finally {
+      Mockito.verify(connection, Mockito.never()).createStatement();
+    }
+  }
+}
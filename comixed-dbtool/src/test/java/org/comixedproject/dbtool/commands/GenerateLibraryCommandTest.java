@@ -0,0 +1,148 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import static junit.framework.TestCase.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import org.comixedproject.dbtool.library.SyntheticComic;
+import org.comixedproject.dbtool.library.SyntheticComicWriter;
+import org.comixedproject.dbtool.library.SyntheticLibraryStore;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GenerateLibraryCommandTest {
+  private static final int TEST_COMIC_COUNT = 12;
+  private static final int TEST_PAGE_COUNT = 5;
+  private static final int TEST_USER_COUNT = 3;
+  private static final long TEST_USER_ID = 717L;
+  private static final long TEST_METADATA_SOURCE_ID = 129L;
+
+  @InjectMocks private GenerateLibraryCommand command;
+  @Mock private SyntheticComicWriter comicWriter;
+  @Mock private SyntheticLibraryStore libraryStore;
+
+  @Captor private ArgumentCaptor<SyntheticComic> comicArgumentCaptor;
+  @Captor private ArgumentCaptor<List<Long>> comicDetailIdsArgumentCaptor;
+
+  @Before
+  public void setUp() {
+    command.directory = "target/test-classes/synthetic-library";
+    command.comicCount = TEST_COMIC_COUNT;
+    command.pageCount = TEST_PAGE_COUNT;
+    command.pageWidth = 64;
+    command.pageHeight = 96;
+    command.userCount = TEST_USER_COUNT;
+    command.readsPerUser = 4;
+    command.readingListsPerUser = 2;
+    command.readingListSize = 3;
+  }
+
+  @Test(expected = DatabaseCommandException.class)
+  public void testExecuteWriteFails() throws DatabaseCommandException, IOException {
+    Mockito.doThrow(IOException.class).when(comicWriter).write(Mockito.any(SyntheticComic.class));
+
+    command.execute();
+  }
+
+  @Test(expected = DatabaseCommandException.class)
+  public void testExecuteScrapingWithoutMetadataSource() throws DatabaseCommandException {
+    command.scraping = true;
+
+    Mockito.when(libraryStore.findMetadataSource(Mockito.anyString())).thenReturn(Optional.empty());
+
+    command.execute();
+  }
+
+  @Test
+  public void testExecute() throws DatabaseCommandException, IOException {
+    Mockito.when(libraryStore.saveComic(comicArgumentCaptor.capture(), Mockito.isNull()))
+        .thenReturn(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L);
+    Mockito.when(libraryStore.findUser(Mockito.anyString())).thenReturn(Optional.empty());
+    Mockito.when(libraryStore.saveReader(Mockito.anyString(), Mockito.anyString()))
+        .thenReturn(TEST_USER_ID);
+
+    command.execute();
+
+    final List<SyntheticComic> comics = comicArgumentCaptor.getAllValues();
+    assertEquals(TEST_COMIC_COUNT, comics.size());
+    for (SyntheticComic comic : comics) {
+      assertEquals(TEST_PAGE_COUNT, comic.getPages().size());
+    }
+
+    Mockito.verify(comicWriter, Mockito.times(TEST_COMIC_COUNT))
+        .write(Mockito.any(SyntheticComic.class));
+    Mockito.verify(libraryStore, Mockito.times(TEST_COMIC_COUNT))
+        .saveComic(Mockito.any(SyntheticComic.class), Mockito.isNull());
+    Mockito.verify(libraryStore, Mockito.times(2))
+        .saveBlockedHash(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+    Mockito.verify(libraryStore, Mockito.times(TEST_USER_COUNT))
+        .saveReader(Mockito.anyString(), Mockito.anyString());
+    Mockito.verify(libraryStore, Mockito.times(TEST_USER_COUNT))
+        .saveLastReadDates(Mockito.eq(TEST_USER_ID), comicDetailIdsArgumentCaptor.capture());
+    Mockito.verify(libraryStore, Mockito.times(TEST_USER_COUNT * 2))
+        .saveReadingList(Mockito.eq(TEST_USER_ID), Mockito.anyString(), Mockito.anyList());
+    Mockito.verify(libraryStore, Mockito.never()).findMetadataSource(Mockito.anyString());
+
+    for (List<Long> ids : comicDetailIdsArgumentCaptor.getAllValues()) {
+      assertEquals(4, ids.size());
+    }
+  }
+
+  @Test
+  public void testExecuteSkipsExistingUsers() throws DatabaseCommandException {
+    Mockito.when(libraryStore.findUser(Mockito.anyString())).thenReturn(Optional.of(TEST_USER_ID));
+
+    command.execute();
+
+    Mockito.verify(libraryStore, Mockito.never())
+        .saveReader(Mockito.anyString(), Mockito.anyString());
+  }
+
+  @Test
+  public void testExecuteWithScraping() throws DatabaseCommandException {
+    command.scraping = true;
+    command.userCount = 0;
+
+    Mockito.when(libraryStore.findMetadataSource(Mockito.anyString()))
+        .thenReturn(Optional.of(TEST_METADATA_SOURCE_ID));
+
+    command.execute();
+
+    Mockito.verify(libraryStore, Mockito.times(1))
+        .findMetadataSource(GenerateLibraryCommand.COMIC_VINE_ADAPTOR_NAME);
+    Mockito.verify(libraryStore, Mockito.times(1))
+        .setDefaultMetadataSourceProperty(
+            TEST_METADATA_SOURCE_ID,
+            GenerateLibraryCommand.API_KEY_PROPERTY,
+            GenerateLibraryCommand.LOAD_TEST_API_KEY);
+    Mockito.verify(libraryStore, Mockito.times(TEST_COMIC_COUNT))
+        .saveComic(Mockito.any(SyntheticComic.class), Mockito.eq(TEST_METADATA_SOURCE_ID));
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import javax.sql.DataSource;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PruneBatchHistoryCommandTest {
+  @InjectMocks private PruneBatchHistoryCommand command;
+  @Mock private DataSource dataSource;
+  @Mock private Connection connection;
+  @Mock private DatabaseMetaData metaData;
+  @Mock private ResultSet tables;
+  @Mock private PreparedStatement preparedStatement;
+
+  @Before
+  public void setUp() throws SQLException {
+    Mockito.when(dataSource.getConnection()).thenReturn(connection);
+    Mockito.when(connection.getMetaData()).thenReturn(metaData);
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("H2");
+    Mockito.when(metaData.getURL()).thenReturn("jdbc:h2:mem:comixed");
+    Mockito.when(
+            metaData.getTables(
+                Mockito.any(), Mockito.any(), Mockito.anyString(), Mockito.any(String[].class)))
+        .thenReturn(tables);
+    Mockito.when(tables.next()).thenReturn(true, false);
+  }
+
+  @Test
+  public void testExecuteNoBatchTables() throws DatabaseCommandException, SQLException {
+    Mockito.when(tables.getString("TABLE_NAME")).thenReturn("COMIC_BOOKS");
+
+    command.execute();
+
+    Mockito.verify(connection, Mockito.never()).prepareStatement(Mockito.anyString());
+  }
+
+  @Test(expected = DatabaseCommandException.class)
+  public void testExecuteFails() throws DatabaseCommandException, SQLException {
+    Mockito.when(tables.getString("TABLE_NAME"))
+        .thenReturn(PruneBatchHistoryCommand.JOB_EXECUTION_TABLE);
+    Mockito.when(connection.prepareStatement(Mockito.anyString())).thenThrow(SQLException.class);
+
+    command.execute();
+  }
+
+  @Test
+  public void testExecute() throws DatabaseCommandException, SQLException {
+    Mockito.when(tables.getString("TABLE_NAME"))
+        .thenReturn(PruneBatchHistoryCommand.JOB_EXECUTION_TABLE.toLowerCase());
+    Mockito.when(connection.prepareStatement(Mockito.anyString())).thenReturn(preparedStatement);
+    Mockito.when(preparedStatement.executeUpdate()).thenReturn(1);
+
+    command.execute();
+
+    Mockito.verify(connection, Mockito.times(6)).prepareStatement(Mockito.anyString());
+    Mockito.verify(connection, Mockito.times(1))
+        .prepareStatement("DELETE FROM batch_job_execution WHERE end_time < ?");
+    Mockito.verify(preparedStatement, Mockito.times(5))
+        .setObject(Mockito.eq(1), Mockito.any(Timestamp.class));
+    Mockito.verify(preparedStatement, Mockito.times(6)).executeUpdate();
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.commands;
+
+import static junit.framework.TestCase.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PruneMetadataCacheCommandTest {
+  private static final int TEST_DAYS = 3;
+
+  @InjectMocks private PruneMetadataCacheCommand command;
+  @Mock private DataSource dataSource;
+  @Mock private Connection connection;
+  @Mock private DatabaseMetaData metaData;
+  @Mock private PreparedStatement preparedStatement;
+  @Captor private ArgumentCaptor<Timestamp> cutoffArgumentCaptor;
+
+  @Before
+  public void setUp() throws SQLException {
+    Mockito.when(dataSource.getConnection()).thenReturn(connection);
+    Mockito.when(connection.getMetaData()).thenReturn(metaData);
+    Mockito.when(metaData.getDatabaseProductName()).thenReturn("H2");
+    Mockito.when(metaData.getURL()).thenReturn("jdbc:h2:mem:comixed");
+    Mockito.when(connection.prepareStatement(Mockito.anyString())).thenReturn(preparedStatement);
+    command.days = TEST_DAYS;
+  }
+
+  @Test(expected = DatabaseCommandException.class)
+  public void testExecuteFails() throws DatabaseCommandException, SQLException {
+    Mockito.when(preparedStatement.executeUpdate()).thenThrow(SQLException.class);
+
+    command.execute();
+  }
+
+  @Test
+  public void testExecute() throws DatabaseCommandException, SQLException {
+    Mockito.when(preparedStatement.executeUpdate()).thenReturn(5);
+
+    final long started = System.currentTimeMillis();
+    command.execute();
+
+    Mockito.verify(preparedStatement, Mockito.times(2))
+        .setObject(Mockito.eq(1), cutoffArgumentCaptor.capture());
+    final long cutoff = cutoffArgumentCaptor.getValue().getTime();
+    assertTrue(cutoff >= started - TimeUnit.DAYS.toMillis(TEST_DAYS));
+    assertTrue(cutoff <= System.currentTimeMillis() - TimeUnit.DAYS.toMillis(TEST_DAYS));
+
+    Mockito.verify(connection, Mockito.times(1))
+        .prepareStatement("DELETE FROM metadata_cache WHERE created_on <= ?");
+    Mockito.verify(preparedStatement, Mockito.times(2)).executeUpdate();
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.library;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import javax.xml.stream.XMLStreamException;
+import org.apache.commons.compress.archivers.sevenz.SevenZArchiveEntry;
+import org.apache.commons.compress.archivers.sevenz.SevenZFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SyntheticComicWriterTest {
+  private static final String TEST_SERIES = "Defenders & Friends";
+  private static final int TEST_PAGE_COUNT = 3;
+
+  private final SyntheticComicWriter writer = new SyntheticComicWriter();
+  private final File testDirectory = new File("target/test-classes/synthetic-writer");
+  private SyntheticComic comic;
+
+  @Before
+  public void setUp() throws IOException {
+    final Random random = new Random(17L);
+    final SyntheticPagePool pagePool = new SyntheticPagePool(random, 32, 48, 2, 0);
+    comic = new SyntheticComic();
+    comic.setPublisher("Apex Comics");
+    comic.setSeries(TEST_SERIES);
+    comic.setVolume("1984");
+    comic.setIssueNumber("7");
+    comic.setCoverDate(new Date());
+    comic.setStoreDate(new Date());
+    comic.setTitle("Chapter 7");
+    comic.getCharacters().add("Volt");
+    for (int index = 0; index < TEST_PAGE_COUNT; index++) {
+      final byte[] content = pagePool.createUniquePage(random);
+      comic
+          .getPages()
+          .add(
+              new SyntheticPage(
+                  String.format("page-%03d.jpg", index + 1),
+                  SyntheticPagePool.createHash(content),
+                  32,
+                  48,
+                  content));
+    }
+  }
+
+  @After
+  public void tearDown() {
+    if (comic.getFilename() != null) new File(comic.getFilename()).delete();
+  }
+
+  @Test
+  public void testCreateComicInfo() throws XMLStreamException {
+    final String result = new String(writer.createComicInfo(comic), StandardCharsets.UTF_8);
+
+    assertTrue(result.contains("<Series>Defenders &amp; Friends</Series>"));
+    assertTrue(result.contains("<Number>7</Number>"));
+    assertTrue(result.contains("<Characters>Volt</Characters>"));
+    assertTrue(result.contains("<PageCount>3</PageCount>"));
+    assertTrue(result.contains("Type=\"FrontCover\""));
+  }
+
+  @Test
+  public void testWriteCbz() throws IOException {
+    comic.setArchiveType("CBZ");
+    comic.setFilename(new File(testDirectory, "comic.cbz").getAbsolutePath());
+
+    writer.write(comic);
+
+    final List<String> entries = new ArrayList<>();
+    try (ZipFile zipFile = new ZipFile(comic.getFilename())) {
+      zipFile.stream().map(ZipEntry::getName).forEach(entries::add);
+    }
+    assertEquals(TEST_PAGE_COUNT + 1, entries.size());
+    assertTrue(entries.contains(SyntheticComicWriter.COMIC_INFO_FILENAME));
+  }
+
+  @Test
+  public void testWriteCb7() throws IOException {
+    comic.setArchiveType(SyntheticComicWriter.CB7_ARCHIVE_TYPE);
+    comic.setFilename(new File(testDirectory, "comic.cb7").getAbsolutePath());
+
+    writer.write(comic);
+
+    final List<String> entries = new ArrayList<>();
+    try (SevenZFile sevenZFile = new SevenZFile(new File(comic.getFilename()))) {
+      for (SevenZArchiveEntry entry : sevenZFile.getEntries()) entries.add(entry.getName());
+    }
+    assertEquals(TEST_PAGE_COUNT + 1, entries.size());
+    assertTrue(entries.contains(SyntheticComicWriter.COMIC_INFO_FILENAME));
+  }
+}
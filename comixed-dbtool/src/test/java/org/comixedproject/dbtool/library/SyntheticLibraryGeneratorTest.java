@@ -0,0 +1,134 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.dbtool.library;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNotNull;
+import static junit.framework.TestCase.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SyntheticLibraryGeneratorTest {
+  private static final File TEST_DIRECTORY = new File("target/test-classes/synthetic-library");
+  private static final int TEST_PAGE_COUNT = 20;
+
+  private SyntheticLibraryGenerator generator;
+
+  @Before
+  public void setUp() throws IOException {
+    generator = this.createGenerator(1L, 0.5);
+  }
+
+  @Test
+  public void testCreateComic() {
+    final SyntheticComic result = generator.createComic(0);
+
+    assertNotNull(result);
+    assertEquals("1", result.getIssueNumber());
+    assertTrue(result.getFilename().startsWith(TEST_DIRECTORY.getAbsolutePath()));
+    assertTrue(result.getFilename().endsWith("." + result.getArchiveType().toLowerCase()));
+    assertEquals(
+        String.valueOf(SyntheticLibraryGenerator.FIRST_REFERENCE_ID), result.getReferenceId());
+    assertFalse(result.getCharacters().isEmpty());
+    assertFalse(result.getWriters().isEmpty());
+    assertEquals(TEST_PAGE_COUNT, result.getPages().size());
+    for (SyntheticPage page : result.getPages()) {
+      assertEquals(SyntheticPagePool.createHash(page.getContent()), page.getHash());
+    }
+  }
+
+  @Test
+  public void testCreateComicStartsNewVolume() {
+    final SyntheticComic first = generator.createComic(0);
+    final SyntheticComic result =
+        generator.createComic(SyntheticLibraryGenerator.ISSUES_PER_VOLUME);
+
+    assertEquals("1", result.getIssueNumber());
+    assertFalse(first.getSeries().equals(result.getSeries()));
+  }
+
+  @Test
+  public void testCreateComicFilenamesAreUnique() {
+    final Set<String> filenames = new HashSet<>();
+    for (int index = 0;
+        index < SyntheticLibraryGenerator.ISSUES_PER_VOLUME * SyntheticLibraryGenerator.YEARS * 50;
+        index += SyntheticLibraryGenerator.ISSUES_PER_VOLUME) {
+      assertTrue(filenames.add(generator.createComic(index).getFilename()));
+    }
+  }
+
+  @Test
+  public void testCreateComicSharesPages() throws IOException {
+    final Set<String> hashes = new HashSet<>();
+    int pages = 0;
+    for (int index = 0; index < 10; index++) {
+      for (SyntheticPage page : generator.createComic(index).getPages()) {
+        hashes.add(page.getHash());
+        pages++;
+      }
+    }
+
+    assertTrue(hashes.size() < pages);
+  }
+
+  @Test
+  public void testCreateComicWithoutSharedPages() throws IOException {
+    generator = this.createGenerator(1L, 0.0);
+
+    final Set<String> hashes = new HashSet<>();
+    int pages = 0;
+    for (int index = 0; index < 10; index++) {
+      for (SyntheticPage page : generator.createComic(index).getPages()) {
+        hashes.add(page.getHash());
+        pages++;
+      }
+    }
+
+    assertEquals(pages, hashes.size());
+  }
+
+  @Test
+  public void testCreateComicIsRepeatable() throws IOException {
+    final SyntheticComic first = generator.createComic(7);
+    final SyntheticComic second = this.createGenerator(1L, 0.5).createComic(7);
+
+    assertEquals(first.getFilename(), second.getFilename());
+    assertEquals(first.getCharacters(), second.getCharacters());
+    assertEquals(first.getPages().get(3).getHash(), second.getPages().get(3).getHash());
+  }
+
+  private SyntheticLibraryGenerator createGenerator(final long seed, final double sharedPageRatio)
+      throws IOException {
+    final Random random = new Random(seed);
+    return new SyntheticLibraryGenerator(
+        random,
+        new SyntheticPagePool(random, 32, 48, 4, 2),
+        TEST_DIRECTORY,
+        TEST_PAGE_COUNT,
+        0.5,
+        sharedPageRatio);
+  }
+}
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.stream.Stream;
 import lombok.extern.log4j.Log4j2;
+import org.comixedproject.auth.AuthenticatedPrincipalCache;
 import org.comixedproject.auth.ComiXedUserDetailsService;
 import org.comixedproject.auth.JwtTokenUtil;
 import org.comixedproject.model.websocket.StompPrincipal;
@@ -50,6 +51,7 @@ public class ComiXedWebSocketChannelInterceptor implements ChannelInterceptor {
 
   @Autowired private ComiXedUserDetailsService userDetailsService;
   @Autowired private JwtTokenUtil jwtTokenUtil;
+  @Autowired private AuthenticatedPrincipalCache authenticatedPrincipalCache;
 
   @Override
   public Message<?> preSend(final Message<?> message, final MessageChannel channel) {
@@ -75,6 +77,14 @@ public class ComiXedWebSocketChannelInterceptor implements ChannelInterceptor {
   }
 
   void createPrincipal(final StompHeaderAccessor accessor, final String token) {
+    if (!StringUtils.isEmpty(token)) {
+      final UserDetails cached = this.authenticatedPrincipalCache.get(token);
+      if (cached != null) {
+        log.debug("using cached principal for user " + cached.getUsername());
+        accessor.setUser(new StompPrincipal(cached.getUsername()));
+        return;
+      }
+    }
     String username = null;
     if (!StringUtils.isEmpty(token)) {
       try {
@@ -88,6 +98,8 @@ public class ComiXedWebSocketChannelInterceptor implements ChannelInterceptor {
 
       if (Boolean.TRUE.equals(this.jwtTokenUtil.validateToken(token, userDetails))) {
         log.debug("authenticated user " + username + ", setting security context");
+        this.authenticatedPrincipalCache.put(
+            token, userDetails, this.jwtTokenUtil.getExpirationDateFromToken(token));
         accessor.setUser(new StompPrincipal(username));
       }
     }
@@ -18,7 +18,9 @@
 
 package org.comixedproject.http.websocket;
 
+import java.util.Date;
 import junit.framework.TestCase;
+import org.comixedproject.auth.AuthenticatedPrincipalCache;
 import org.comixedproject.auth.ComiXedUserDetailsService;
 import org.comixedproject.auth.JwtTokenUtil;
 import org.comixedproject.model.websocket.StompPrincipal;
@@ -41,6 +43,8 @@ public class ComiXedWebSocketChannelInterceptorTest {
   @Mock private JwtTokenUtil jwtTokenUtil;
   @Mock private StompHeaderAccessor stompHeaderAccessor;
   @Mock private UserDetails userDetails;
+  @Mock private AuthenticatedPrincipalCache authenticatedPrincipalCache;
+  @Mock private Date expiration;
 
   @Captor ArgumentCaptor<StompPrincipal> principalArgumentCaptor;
 
@@ -52,6 +56,23 @@ public class ComiXedWebSocketChannelInterceptorTest {
     Mockito.doNothing().when(stompHeaderAccessor).setUser(principalArgumentCaptor.capture());
   }
 
+  @Test
+  public void testCreatePrincipalCached() {
+    Mockito.reset(jwtTokenUtil, userDetailsService);
+    Mockito.when(authenticatedPrincipalCache.get(Mockito.anyString())).thenReturn(userDetails);
+    Mockito.when(userDetails.getUsername()).thenReturn(TEST_EMAIL);
+
+    interceptor.createPrincipal(stompHeaderAccessor, TEST_TOKEN);
+
+    final StompPrincipal principal = principalArgumentCaptor.getValue();
+    TestCase.assertNotNull(principal);
+    TestCase.assertEquals(TEST_EMAIL, principal.getName());
+
+    Mockito.verify(authenticatedPrincipalCache, Mockito.times(1)).get(TEST_TOKEN);
+    Mockito.verify(jwtTokenUtil, Mockito.never()).getEmailFromToken(Mockito.anyString());
+    Mockito.verify(userDetailsService, Mockito.never()).loadUserByUsername(Mockito.anyString());
+  }
+
   @Test
   public void testDoCreatePrincipalGetEmailFails() {
     Mockito.when(jwtTokenUtil.getEmailFromToken(Mockito.anyString()))
@@ -84,12 +105,16 @@ public class ComiXedWebSocketChannelInterceptorTest {
     interceptor.createPrincipal(stompHeaderAccessor, TEST_TOKEN);
 
     Mockito.verify(jwtTokenUtil, Mockito.times(1)).validateToken(TEST_TOKEN, userDetails);
+    Mockito.verify(authenticatedPrincipalCache, Mockito.never())
+        .put(Mockito.anyString(), Mockito.any(UserDetails.class), Mockito.any());
   }
 
   @Test
   public void testCreatePrincipalSuccess() {
     Mockito.when(jwtTokenUtil.validateToken(Mockito.anyString(), Mockito.any(UserDetails.class)))
         .thenReturn(true);
+    Mockito.when(jwtTokenUtil.getExpirationDateFromToken(Mockito.anyString()))
+        .thenReturn(expiration);
 
     interceptor.createPrincipal(stompHeaderAccessor, TEST_TOKEN);
 
@@ -98,6 +123,8 @@ public class ComiXedWebSocketChannelInterceptorTest {
     TestCase.assertEquals(TEST_EMAIL, principal.getName());
 
     Mockito.verify(jwtTokenUtil, Mockito.times(1)).validateToken(TEST_TOKEN, userDetails);
+    Mockito.verify(authenticatedPrincipalCache, Mockito.times(1))
+        .put(TEST_TOKEN, userDetails, expiration);
     Mockito.verify(stompHeaderAccessor, Mockito.times(1)).setUser(principal);
   }
 }
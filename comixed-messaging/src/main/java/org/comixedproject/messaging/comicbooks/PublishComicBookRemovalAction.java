@@ -18,6 +18,7 @@
 
 package org.comixedproject.messaging.comicbooks;
 
+import java.util.List;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.messaging.AbstractPublishAction;
 import org.comixedproject.messaging.PublishingException;
@@ -37,6 +38,10 @@ public class PublishComicBookRemovalAction extends AbstractPublishAction<ComicBo
   /** Topic which receives comic list removals in real time. */
   public static final String COMIC_LIST_REMOVAL_TOPIC = "/topic/comic-book-list.removal";
 
+  /** Topic which receives batches of comic list removals. */
+  public static final String COMIC_LIST_BATCH_REMOVAL_TOPIC =
+      "/topic/comic-book-list.batch-removal";
+
   /** Topic which receives individual comic removals in real time. */
   public static final String COMIC_BOOK_REMOVAL_TOPIC = "/topic/comic-book.%d.removal";
 
@@ -50,4 +55,16 @@ public class PublishComicBookRemovalAction extends AbstractPublishAction<ComicBo
         comicBook,
         View.ComicDetailsView.class);
   }
+
+  /**
+   * Publishes a single message for a batch of removed comics. The message contains only the comic
+   * detail ids, since the comics themselves no longer exist.
+   *
+   * @param comicDetailIds the comic detail ids
+   * @throws PublishingException if an error occurs
+   */
+  public void publishBatch(final List<Long> comicDetailIds) throws PublishingException {
+    log.trace("Publishing comic book list batch removal: count={}", comicDetailIds.size());
+    this.doPublish(COMIC_LIST_BATCH_REMOVAL_TOPIC, comicDetailIds, View.ComicDetailsView.class);
+  }
 }
@@ -18,6 +18,7 @@
 
 package org.comixedproject.messaging.comicbooks;
 
+import java.util.List;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.messaging.AbstractPublishAction;
 import org.comixedproject.messaging.PublishingException;
@@ -35,6 +36,9 @@ import org.springframework.stereotype.Component;
 public class PublishComicBookUpdateAction extends AbstractPublishAction<ComicBook> {
   public static final String COMIC_LIST_UPDATE_TOPIC = "/topic/comic-book-list.update";
 
+  /** Topic which receives batches of comic list updates. */
+  public static final String COMIC_LIST_BATCH_UPDATE_TOPIC = "/topic/comic-book-list.batch-update";
+
   /** Topic which receives individual comic updates in real time. */
   public static final String COMIC_BOOK_UPDATE_TOPIC = "/topic/comic-book.%d.update";
 
@@ -48,4 +52,15 @@ public class PublishComicBookUpdateAction extends AbstractPublishAction<ComicBoo
         comicBook,
         View.ComicDetailsView.class);
   }
+
+  /**
+   * Publishes a single comic list message for a batch of updated comics.
+   *
+   * @param comicBooks the comic books
+   * @throws PublishingException if an error occurs
+   */
+  public void publishBatch(final List<ComicBook> comicBooks) throws PublishingException {
+    log.trace("Publishing comic book list batch update: count={}", comicBooks.size());
+    this.doPublish(COMIC_LIST_BATCH_UPDATE_TOPIC, comicBooks, View.ComicDetailsView.class);
+  }
 }
@@ -21,6 +21,7 @@ package org.comixedproject.messaging.comicbooks;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.List;
 import org.comixedproject.messaging.PublishingException;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.views.View;
@@ -37,6 +38,7 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 public class PublishComicBookRemovalActionTest {
   private static final String TEST_COMIC_AS_JSON = "Object as JSON";
   private static final long TEST_COMIC_ID = 273L;
+  private static final List<Long> TEST_COMIC_DETAIL_IDS = List.of(3L, 5L, 7L);
 
   @InjectMocks private PublishComicBookRemovalAction action;
   @Mock private SimpMessagingTemplate messagingTemplate;
@@ -79,4 +81,14 @@ public class PublishComicBookRemovalActionTest {
             String.format(PublishComicBookRemovalAction.COMIC_BOOK_REMOVAL_TOPIC, TEST_COMIC_ID),
             TEST_COMIC_AS_JSON);
   }
+
+  @Test
+  public void testPublishBatch() throws JsonProcessingException, PublishingException {
+    action.publishBatch(TEST_COMIC_DETAIL_IDS);
+
+    Mockito.verify(objectWriter, Mockito.times(1)).writeValueAsString(TEST_COMIC_DETAIL_IDS);
+    Mockito.verify(messagingTemplate, Mockito.times(1))
+        .convertAndSend(
+            PublishComicBookRemovalAction.COMIC_LIST_BATCH_REMOVAL_TOPIC, TEST_COMIC_AS_JSON);
+  }
 }
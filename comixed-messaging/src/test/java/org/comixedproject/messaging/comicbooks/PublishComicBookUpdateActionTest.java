@@ -21,6 +21,7 @@ package org.comixedproject.messaging.comicbooks;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.List;
 import org.comixedproject.messaging.PublishingException;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.views.View;
@@ -79,4 +80,16 @@ public class PublishComicBookUpdateActionTest {
             String.format(PublishComicBookUpdateAction.COMIC_BOOK_UPDATE_TOPIC, TEST_COMIC_ID),
             TEST_COMIC_AS_JSON);
   }
+
+  @Test
+  public void testPublishBatch() throws PublishingException, JsonProcessingException {
+    final List<ComicBook> comicBooks = List.of(comicBook);
+
+    action.publishBatch(comicBooks);
+
+    Mockito.verify(objectWriter, Mockito.times(1)).writeValueAsString(comicBooks);
+    Mockito.verify(messagingTemplate, Mockito.times(1))
+        .convertAndSend(
+            PublishComicBookUpdateAction.COMIC_LIST_BATCH_UPDATE_TOPIC, TEST_COMIC_AS_JSON);
+  }
 }
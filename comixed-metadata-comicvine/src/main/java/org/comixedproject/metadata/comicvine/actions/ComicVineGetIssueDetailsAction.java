@@ -22,7 +22,6 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.metadata.MetadataException;
-import org.comixedproject.metadata.comicvine.adaptors.ComicVineMetadataAdaptor;
 import org.comixedproject.metadata.comicvine.model.*;
 import org.comixedproject.metadata.model.IssueDetailsMetadata;
 import org.comixedproject.model.comicbooks.ComicBook;
@@ -118,7 +117,7 @@ public class ComicVineGetIssueDetailsAction
 
   private ComicVineIssue getIssueDetails() throws MetadataException {
     log.debug("Setting up the issue details request");
-    this.getIssueWithDetailsAction.setBaseUrl(ComicVineMetadataAdaptor.BASE_URL);
+    this.getIssueWithDetailsAction.setBaseUrl(this.baseUrl);
     this.getIssueWithDetailsAction.setApiKey(this.apiKey);
     this.getIssueWithDetailsAction.setIssueId(this.issueId);
 
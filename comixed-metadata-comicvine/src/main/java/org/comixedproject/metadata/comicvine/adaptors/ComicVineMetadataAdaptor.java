@@ -46,6 +46,12 @@ public class ComicVineMetadataAdaptor extends AbstractMetadataAdaptor {
   /** The base URL for ComicVine. */
   public static final String BASE_URL = "https://comicvine.gamespot.com";
 
+  /** The system property used to point the adaptor at a different server, such as a test stub. */
+  public static final String BASE_URL_PROPERTY = "comixed.comic-vine.base-url";
+
+  /** The base URL used for requests. */
+  protected String baseUrl = System.getProperty(BASE_URL_PROPERTY, BASE_URL);
+
   /** The action to fetch the list of volumes. */
   protected ComicVineGetVolumesAction comicVineGetVolumesAction = new ComicVineGetVolumesAction();
 
@@ -70,7 +76,7 @@ public class ComicVineMetadataAdaptor extends AbstractMetadataAdaptor {
       throws MetadataException {
     log.debug("Fetching volumes from ComicVine: seriesName={}", seriesName);
 
-    this.comicVineGetVolumesAction.setBaseUrl(BASE_URL);
+    this.comicVineGetVolumesAction.setBaseUrl(this.baseUrl);
     this.comicVineGetVolumesAction.setApiKey(
         this.getSourcePropertyByName(metadataSource.getProperties(), PROPERTY_API_KEY, true));
     this.comicVineGetVolumesAction.setSeries(seriesName);
@@ -88,7 +94,7 @@ public class ComicVineMetadataAdaptor extends AbstractMetadataAdaptor {
       final String volume, final MetadataSource metadataSource) throws MetadataException {
     log.debug("Fetching the list of all issues from ComicVine: volume={}", volume);
 
-    this.comicVineGetAllIssuesAction.setBaseUrl(BASE_URL);
+    this.comicVineGetAllIssuesAction.setBaseUrl(this.baseUrl);
     this.comicVineGetAllIssuesAction.setApiKey(
         this.getSourcePropertyByName(metadataSource.getProperties(), PROPERTY_API_KEY, true));
     this.comicVineGetAllIssuesAction.setVolumeId(volume);
@@ -106,7 +112,7 @@ public class ComicVineMetadataAdaptor extends AbstractMetadataAdaptor {
       throws MetadataException {
     log.debug("Fetching issue from ComicVine: volume={} issueNumber={}", volume, issueNumber);
 
-    this.comicVineGetIssueAction.setBaseUrl(BASE_URL);
+    this.comicVineGetIssueAction.setBaseUrl(this.baseUrl);
     this.comicVineGetIssueAction.setApiKey(
         this.getSourcePropertyByName(metadataSource.getProperties(), PROPERTY_API_KEY, true));
     this.comicVineGetIssueAction.setVolumeId(volume);
@@ -122,7 +128,7 @@ public class ComicVineMetadataAdaptor extends AbstractMetadataAdaptor {
       final String issueId, final MetadataSource metadataSource) throws MetadataException {
     log.debug("Fetching issue details: issueId={}", issueId);
 
-    this.comicVineGetIssueDetailsAction.setBaseUrl(BASE_URL);
+    this.comicVineGetIssueDetailsAction.setBaseUrl(this.baseUrl);
     this.comicVineGetIssueDetailsAction.setApiKey(
         this.getSourcePropertyByName(metadataSource.getProperties(), PROPERTY_API_KEY, true));
     this.comicVineGetIssueDetailsAction.setIssueId(issueId);
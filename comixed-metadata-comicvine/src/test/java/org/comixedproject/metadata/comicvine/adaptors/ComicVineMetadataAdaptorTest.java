@@ -50,6 +50,7 @@ public class ComicVineMetadataAdaptorTest {
   private static final String TEST_VOLUME_ID = "129";
   private static final String TEST_ISSUE_NUMBER = "17";
   private static final String TEST_ISSUE_ID = "327";
+  private static final String TEST_BASE_URL = "http://localhost:9000";
 
   @InjectMocks private ComicVineMetadataAdaptor adaptor;
   @Mock private ComicVineGetVolumesAction getVolumesAction;
@@ -236,4 +237,18 @@ public class ComicVineMetadataAdaptorTest {
     Mockito.verify(getIssueDetailsAction, Mockito.times(1)).setApiKey(TEST_API_KEY);
     Mockito.verify(getIssueDetailsAction, Mockito.times(1)).setIssueId(TEST_ISSUE_ID);
   }
+
+  @Test
+  public void testGetIssueDetailsWithOverriddenBaseUrl() throws MetadataException {
+    adaptor.baseUrl = TEST_BASE_URL;
+
+    Mockito.when(getIssueDetailsAction.execute()).thenReturn(issueDetailsMetadata);
+
+    final IssueDetailsMetadata result = adaptor.getIssueDetails(TEST_ISSUE_ID, metadataSource);
+
+    assertNotNull(result);
+    assertSame(issueDetailsMetadata, result);
+
+    Mockito.verify(getIssueDetailsAction, Mockito.times(1)).setBaseUrl(TEST_BASE_URL);
+  }
 }
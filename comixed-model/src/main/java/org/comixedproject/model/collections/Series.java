@@ -58,6 +58,25 @@ public class Series {
   @Setter
   private Long totalIssues = 0L;
 
+  /**
+   * Creates a series with the count of issues known from its metadata.
+   *
+   * @param publisher the publisher
+   * @param name the series name
+   * @param volume the volume
+   * @param inLibrary the number of comics in the library
+   * @param totalIssues the total number of issues
+   */
+  public Series(
+      @NonNull final String publisher,
+      @NonNull final String name,
+      @NonNull final String volume,
+      @NonNull final Long inLibrary,
+      final Long totalIssues) {
+    this(publisher, name, volume, inLibrary);
+    this.totalIssues = totalIssues;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) return true;
@@ -169,6 +169,7 @@ public class ComicBook {
 
   @Transient @Getter @Setter private String metadataSourceName;
   @Transient @Getter @Setter private String metadataReferenceId;
+  @Transient @Getter @Setter private String metadataWebAddress;
 
   /**
    * Reports if the underlying comic file is missing.
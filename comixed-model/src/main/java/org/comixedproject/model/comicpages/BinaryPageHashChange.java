@@ -0,0 +1,102 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.model.comicpages;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * <code>BinaryPageHashChange</code> is a Liquibase change that copies hexadecimal page hashes into
+ * a sixteen byte binary column. It is done in Java since the supported databases do not share a
+ * function for decoding hexadecimal text.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class BinaryPageHashChange implements CustomTaskChange {
+  private static final int BATCH_SIZE = 1000;
+
+  @Getter @Setter private String tableName;
+  @Getter @Setter private String sourceColumn;
+  @Getter @Setter private String targetColumn;
+
+  @Override
+  public void execute(final Database database) throws CustomChangeException {
+    final JdbcConnection connection = (JdbcConnection) database.getConnection();
+    final String select =
+        String.format(
+            "SELECT id, %s FROM %s WHERE %s IS NULL",
+            this.sourceColumn, this.tableName, this.targetColumn);
+    final String update =
+        String.format("UPDATE %s SET %s = ? WHERE id = ?", this.tableName, this.targetColumn);
+    try (Statement query = connection.createStatement();
+        ResultSet rows = query.executeQuery(select);
+        PreparedStatement statement = connection.prepareStatement(update)) {
+      int pending = 0;
+      long converted = 0L;
+      while (rows.next()) {
+        statement.setBytes(1, PageHash.fromHex(rows.getString(2).trim()).toBytes());
+        statement.setLong(2, rows.getLong(1));
+        statement.addBatch();
+        if (++pending == BATCH_SIZE) {
+          statement.executeBatch();
+          converted += pending;
+          pending = 0;
+        }
+      }
+      if (pending > 0) {
+        statement.executeBatch();
+        converted += pending;
+      }
+      log.info("Converted page hashes: table={} count={}", this.tableName, converted);
+    } catch (Exception error) {
+      throw new CustomChangeException("Failed to convert page hashes: " + this.tableName, error);
+    }
+  }
+
+  @Override
+  public String getConfirmationMessage() {
+    return String.format("Converted %s.%s to binary", this.tableName, this.sourceColumn);
+  }
+
+  @Override
+  public void setUp() {
+    // nothing to set up
+  }
+
+  @Override
+  public void setFileOpener(final ResourceAccessor resourceAccessor) {
+    // no resources are needed
+  }
+
+  @Override
+  public ValidationErrors validate(final Database database) {
+    return new ValidationErrors();
+  }
+}
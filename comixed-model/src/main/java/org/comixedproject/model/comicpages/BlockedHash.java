@@ -36,7 +36,6 @@ import org.hibernate.annotations.Formula;
 @Entity
 @Table(name = "blocked_hashes")
 @NoArgsConstructor
-@RequiredArgsConstructor
 public class BlockedHash {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -53,12 +52,14 @@ public class BlockedHash {
   @NonNull
   private String label;
 
-  @Column(name = "hash_value", nullable = false, unique = true, updatable = false, length = 32)
-  @JsonProperty("hash")
-  @JsonView(View.BlockedHashList.class)
-  @Getter
-  @NonNull
-  private String hash;
+  @Column(
+      name = "hash_value",
+      nullable = false,
+      unique = true,
+      updatable = false,
+      length = PageHash.BYTE_LENGTH)
+  @Convert(converter = PageHashConverter.class)
+  private PageHash hash;
 
   @Column(name = "thumbnail", nullable = true, updatable = false)
   @Lob
@@ -81,6 +82,34 @@ public class BlockedHash {
   @Getter
   private Integer comicCount;
 
+  public BlockedHash(
+      @NonNull final String label, @NonNull final String hash, @NonNull final String thumbnail) {
+    this.label = label;
+    this.hash = PageHash.fromHex(hash);
+    this.thumbnail = thumbnail;
+  }
+
+  /**
+   * Returns the blocked hash.
+   *
+   * @return the hash
+   */
+  public PageHash getPageHash() {
+    return this.hash;
+  }
+
+  /**
+   * Returns the blocked hash in hexadecimal form, for display and for clients.
+   *
+   * @return the hash
+   */
+  @Transient
+  @JsonProperty("hash")
+  @JsonView(View.BlockedHashList.class)
+  public String getHash() {
+    return Objects.nonNull(this.hash) ? this.hash.toString() : null;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(label, hash);
@@ -31,7 +31,7 @@ import org.comixedproject.model.comicbooks.ComicBook;
  */
 @RequiredArgsConstructor
 public class DeletedPageAndComic {
-  @Getter @NonNull private String hash;
+  @Getter @NonNull private PageHash hash;
 
   @Getter @NonNull private ComicBook comicBook;
 
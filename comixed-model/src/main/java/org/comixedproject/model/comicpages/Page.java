@@ -68,12 +68,15 @@ public class Page {
   @NonNull
   private String filename;
 
-  @Column(name = "file_hash", length = 32, updatable = true, nullable = false)
-  @JsonProperty("hash")
-  @JsonView({View.ComicListView.class})
+  @Column(name = "file_hash", length = PageHash.BYTE_LENGTH, updatable = true, nullable = false)
+  @Convert(converter = PageHashConverter.class)
+  private PageHash hash;
+
+  @Column(name = "perceptual_hash", nullable = true, updatable = true)
+  @JsonIgnore
   @Getter
   @Setter
-  private String hash;
+  private Long perceptualHash;
 
   @Column(name = "page_number", nullable = false, updatable = true)
   @JsonProperty("pageNumber")
@@ -104,6 +107,45 @@ public class Page {
   @Getter
   private boolean blocked;
 
+  /**
+   * Returns the page hash.
+   *
+   * @return the hash
+   */
+  public PageHash getPageHash() {
+    return this.hash;
+  }
+
+  /**
+   * Sets the page hash.
+   *
+   * @param hash the hash
+   */
+  public void setPageHash(final PageHash hash) {
+    this.hash = hash;
+  }
+
+  /**
+   * Returns the page hash in hexadecimal form, for display and for clients.
+   *
+   * @return the hash
+   */
+  @Transient
+  @JsonProperty("hash")
+  @JsonView({View.ComicListView.class})
+  public String getHash() {
+    return Objects.nonNull(this.hash) ? this.hash.toString() : null;
+  }
+
+  /**
+   * Sets the page hash from its hexadecimal form.
+   *
+   * @param hash the hash
+   */
+  public void setHash(final String hash) {
+    this.hash = PageHash.fromHex(hash);
+  }
+
   /**
    * Returns the offset's index within the comicBook.
    *
@@ -123,7 +165,7 @@ public class Page {
     final Page page = (Page) o;
     return pageState == page.pageState
         && filename.equals(page.filename)
-        && hash.equals(page.hash)
+        && Objects.equals(hash, page.hash)
         && pageNumber.equals(page.pageNumber);
   }
 
@@ -0,0 +1,136 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.model.comicpages;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.io.Serializable;
+import java.util.Objects;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <code>PageHash</code> holds the 128-bit MD5 hash of a page's content as two longs, so that pages
+ * can be compared and stored without going through a hexadecimal string.
+ *
+ * @author Darryl L. Pierce
+ */
+@AllArgsConstructor
+public final class PageHash implements Comparable<PageHash>, Serializable {
+  public static final int BYTE_LENGTH = 16;
+  public static final int HEX_LENGTH = 32;
+
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  @Getter private final long high;
+  @Getter private final long low;
+
+  /**
+   * Creates a hash from its binary form.
+   *
+   * @param bytes the sixteen bytes of the hash
+   * @return the hash
+   */
+  public static PageHash fromBytes(final byte[] bytes) {
+    if (Objects.isNull(bytes)) return null;
+    if (bytes.length != BYTE_LENGTH)
+      throw new IllegalArgumentException("Invalid page hash length: " + bytes.length);
+    return new PageHash(doReadLong(bytes, 0), doReadLong(bytes, 8));
+  }
+
+  /**
+   * Creates a hash from its hexadecimal form. Values shorter than 32 digits are treated as having
+   * leading zeroes.
+   *
+   * @param hex the hexadecimal hash
+   * @return the hash
+   */
+  @JsonCreator
+  public static PageHash fromHex(final String hex) {
+    if (Objects.isNull(hex)) return null;
+    final int length = hex.length();
+    if (length > HEX_LENGTH) throw new IllegalArgumentException("Invalid page hash: " + hex);
+    long high = 0L;
+    long low = 0L;
+    for (int index = 0; index < length; index++) {
+      final int digit = Character.digit(hex.charAt(index), 16);
+      if (digit < 0) throw new IllegalArgumentException("Invalid page hash: " + hex);
+      high = (high << 4) | (low >>> 60);
+      low = (low << 4) | digit;
+    }
+    return new PageHash(high, low);
+  }
+
+  private static long doReadLong(final byte[] bytes, final int offset) {
+    long result = 0L;
+    for (int index = offset; index < offset + 8; index++) {
+      result = (result << 8) | (bytes[index] & 0xFFL);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the binary form of the hash.
+   *
+   * @return the sixteen bytes
+   */
+  public byte[] toBytes() {
+    final byte[] result = new byte[BYTE_LENGTH];
+    for (int index = 0; index < 8; index++) {
+      result[index] = (byte) (this.high >>> (56 - index * 8));
+      result[index + 8] = (byte) (this.low >>> (56 - index * 8));
+    }
+    return result;
+  }
+
+  /**
+   * Returns the hash as 32 uppercase hexadecimal digits.
+   *
+   * @return the hexadecimal hash
+   */
+  @JsonValue
+  @Override
+  public String toString() {
+    final char[] result = new char[HEX_LENGTH];
+    for (int index = 0; index < 16; index++) {
+      result[index] = HEX_DIGITS[(int) (this.high >>> (60 - index * 4)) & 0xF];
+      result[index + 16] = HEX_DIGITS[(int) (this.low >>> (60 - index * 4)) & 0xF];
+    }
+    return new String(result);
+  }
+
+  @Override
+  public int compareTo(final PageHash other) {
+    final int result = Long.compareUnsigned(this.high, other.high);
+    return result != 0 ? result : Long.compareUnsigned(this.low, other.low);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    final PageHash that = (PageHash) o;
+    return high == that.high && low == that.low;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(this.high ^ this.low);
+  }
+}
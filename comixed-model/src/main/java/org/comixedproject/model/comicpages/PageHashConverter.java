@@ -0,0 +1,41 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.model.comicpages;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Objects;
+
+/**
+ * <code>PageHashConverter</code> stores a {@link PageHash} as a sixteen byte binary column.
+ *
+ * @author Darryl L. Pierce
+ */
+@Converter
+public class PageHashConverter implements AttributeConverter<PageHash, byte[]> {
+  @Override
+  public byte[] convertToDatabaseColumn(final PageHash hash) {
+    return Objects.nonNull(hash) ? hash.toBytes() : null;
+  }
+
+  @Override
+  public PageHash convertToEntityAttribute(final byte[] value) {
+    return PageHash.fromBytes(value);
+  }
+}
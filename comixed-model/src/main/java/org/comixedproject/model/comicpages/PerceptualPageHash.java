@@ -0,0 +1,36 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.model.comicpages;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <code>PerceptualPageHash</code> pairs a page's perceptual hash with its content hash and comic
+ * book, for building the index of similar pages.
+ *
+ * @author Darryl L. Pierce
+ */
+@AllArgsConstructor
+public class PerceptualPageHash {
+  @Getter private Long id;
+  @Getter private Long comicBookId;
+  @Getter private PageHash hash;
+  @Getter private Long perceptualHash;
+}
@@ -43,8 +43,10 @@ public class ProcessComicStatus {
   public static final String MARK_BLOCKED_PAGES_STEP_NAME = "mark-blocked-pages-step";
   public static final String LOAD_FILE_DETAILS_STEP_NAME = "load-file-details-step";
   public static final String FILE_CONTENTS_PROCESSED_STEP_NAME = "file-contents-processed-step";
+  public static final String PROCESS_COMIC_STEP_NAME = "process-comic-step";
   public static final String TOTAL_COMICS = "add-comic-state.total-comics";
   public static final String PROCESSED_COMICS = "add-comic-state.processed-comics";
+  public static final String CHUNK_SIZE = "add-comic-state.chunk-size";
 
   @JsonProperty("active")
   @JsonView(View.GenericObjectView.class)
@@ -76,4 +78,10 @@ public class ProcessComicStatus {
   @Getter
   @Setter
   private long processed;
+
+  @JsonProperty("chunkSize")
+  @JsonView(View.GenericObjectView.class)
+  @Getter
+  @Setter
+  private int chunkSize;
 }
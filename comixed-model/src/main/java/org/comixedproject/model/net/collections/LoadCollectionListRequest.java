@@ -47,4 +47,8 @@ public class LoadCollectionListRequest {
   @JsonProperty("sortDirection")
   @Getter
   private String sortDirection;
+
+  @JsonProperty("cursor")
+  @Getter
+  private CollectionEntryCursor cursor;
 }
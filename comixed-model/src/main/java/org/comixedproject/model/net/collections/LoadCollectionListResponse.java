@@ -42,4 +42,8 @@ public class LoadCollectionListResponse {
   @JsonProperty("totalEntries")
   @Getter
   private long totalEntries;
+
+  @JsonProperty("nextCursor")
+  @Getter
+  private CollectionEntryCursor nextCursor;
 }
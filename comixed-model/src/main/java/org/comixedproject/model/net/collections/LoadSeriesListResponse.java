@@ -34,4 +34,8 @@ public class LoadSeriesListResponse {
   @JsonProperty("series")
   @Getter
   private List<Series> series;
+
+  @JsonProperty("totalSeries")
+  @Getter
+  private long totalSeries;
 }
@@ -0,0 +1,50 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.model.net.comicbooks;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * <code>ComicDetailCursor</code> marks the position of the last comic returned in a page of comics.
+ * It holds the value of that comic's sort field and its id, so the next page can be loaded by
+ * seeking past it instead of skipping over the rows that came before.
+ *
+ * <p>Dates are encoded as milliseconds since the epoch and enumerated values by name.
+ *
+ * @author Darryl L. Pierce
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComicDetailCursor {
+  @JsonProperty("sortValue")
+  @Getter
+  private String sortValue;
+
+  @JsonProperty("id")
+  @Getter
+  private Long id;
+
+  @Override
+  public String toString() {
+    return "ComicDetailCursor{" + "sortValue='" + sortValue + '\'' + ", id=" + id + '}';
+  }
+}
@@ -91,6 +91,10 @@ public class LoadComicDetailsRequest {
   @Getter
   private String sortDirection;
 
+  @JsonProperty("cursor")
+  @Getter
+  private ComicDetailCursor cursor;
+
   @Override
   public String toString() {
     return "LoadComicDetailsRequest{"
@@ -128,6 +132,8 @@ public class LoadComicDetailsRequest {
         + ", sortDirection='"
         + sortDirection
         + '\''
+        + ", cursor="
+        + cursor
         + '}';
   }
 }
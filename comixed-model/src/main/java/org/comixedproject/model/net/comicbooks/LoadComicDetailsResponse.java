@@ -64,4 +64,9 @@ public class LoadComicDetailsResponse {
   @JsonView(View.ComicDetailsView.class)
   @Getter
   private List<LastRead> lastReadEntries;
+
+  @JsonProperty("nextCursor")
+  @JsonView(View.ComicDetailsView.class)
+  @Getter
+  private ComicDetailCursor nextCursor;
 }
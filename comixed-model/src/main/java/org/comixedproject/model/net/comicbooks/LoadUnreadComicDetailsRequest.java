@@ -48,4 +48,8 @@ public class LoadUnreadComicDetailsRequest {
   @JsonProperty("sortDirection")
   @Getter
   private String sortDirection;
+
+  @JsonProperty("cursor")
+  @Getter
+  private ComicDetailCursor cursor;
 }
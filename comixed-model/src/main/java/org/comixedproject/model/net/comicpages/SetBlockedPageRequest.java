@@ -35,4 +35,12 @@ public class SetBlockedPageRequest {
   @JsonProperty("hashes")
   @Getter
   private List<String> hashes;
+
+  @JsonProperty("similarDistance")
+  @Getter
+  private Integer similarDistance;
+
+  public SetBlockedPageRequest(final List<String> hashes) {
+    this.hashes = hashes;
+  }
 }
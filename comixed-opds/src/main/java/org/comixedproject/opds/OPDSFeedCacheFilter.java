@@ -0,0 +1,105 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.opds;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Objects;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.opds.service.OPDSFeedCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * <code>OPDSFeedCacheFilter</code> answers conditional requests for OPDS feeds and serves feeds
+ * from {@link OPDSFeedCache} when the library has not changed since they were generated.
+ *
+ * <p>Comic book content and pages are not handled by this filter.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class OPDSFeedCacheFilter extends OncePerRequestFilter {
+  static final String OPDS_PATH = "/opds";
+  static final String OPDS_COMICS_PATH = "/opds/comics/";
+
+  @Autowired private OPDSFeedCache opdsFeedCache;
+
+  @Override
+  protected boolean shouldNotFilter(final HttpServletRequest request) {
+    final String path = request.getRequestURI().substring(request.getContextPath().length());
+    return !HttpMethod.GET.matches(request.getMethod())
+        || !(path.equals(OPDS_PATH) || path.startsWith(OPDS_PATH + "/"))
+        || path.startsWith(OPDS_COMICS_PATH);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      final HttpServletRequest request,
+      final HttpServletResponse response,
+      final FilterChain filterChain)
+      throws ServletException, IOException {
+    final Principal principal = request.getUserPrincipal();
+    final String email = Objects.nonNull(principal) ? principal.getName() : null;
+    final String etag = this.opdsFeedCache.getETag(email);
+    final long lastModified = this.opdsFeedCache.getLastModified(email);
+
+    if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+      log.trace("OPDS feed not modified: {}", request.getRequestURI());
+      return;
+    }
+
+    final String key = this.doCreateKey(email, request);
+    final OPDSFeedCache.CachedFeed cached = this.opdsFeedCache.get(key, etag);
+    if (Objects.nonNull(cached)) {
+      log.trace("Serving cached OPDS feed: {}", key);
+      response.setContentType(cached.getContentType());
+      response.setContentLength(cached.getContent().length);
+      response.getOutputStream().write(cached.getContent());
+      return;
+    }
+
+    final ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+    try {
+      filterChain.doFilter(request, wrapper);
+      if (wrapper.getStatus() == HttpStatus.OK.value() && Objects.nonNull(principal)) {
+        this.opdsFeedCache.put(
+            key, etag, wrapper.getContentType(), wrapper.getContentAsByteArray());
+      }
+    } finally {
+      wrapper.copyBodyToResponse();
+    }
+  }
+
+  private String doCreateKey(final String email, final HttpServletRequest request) {
+    final String query = request.getQueryString();
+    return String.format(
+        "%s|%s%s", email, request.getRequestURI(), Objects.isNull(query) ? "" : "?" + query);
+  }
+}
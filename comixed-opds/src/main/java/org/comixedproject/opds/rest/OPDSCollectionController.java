@@ -77,6 +77,8 @@ public class OPDSCollectionController {
    * @param collectionType the collection type
    * @param name the collection name
    * @param unread the unread flag
+   * @param after the id of the last comic on the previous page
+   * @param before the id of the first comic on the following page
    * @return the feed
    */
   @GetMapping(value = "/opds/collections/{type}/{name}", produces = MediaType.APPLICATION_XML_VALUE)
@@ -86,7 +88,9 @@ public class OPDSCollectionController {
       final Principal principal,
       @PathVariable("type") final CollectionType collectionType,
       @PathVariable("name") final String name,
-      @RequestParam(name = "unread", defaultValue = "false") final boolean unread) {
+      @RequestParam(name = "unread", defaultValue = "false") final boolean unread,
+      @RequestParam(name = "after", defaultValue = "0") final long after,
+      @RequestParam(name = "before", defaultValue = "0") final long before) {
     final String collectionName = this.opdsUtils.urlDecodeString(name);
     final String email = principal.getName();
     log.info(
@@ -96,6 +100,6 @@ public class OPDSCollectionController {
         collectionName,
         unread);
     return this.opdsAcquisitionService.getEntriesForCollectionFeed(
-        email, collectionType, collectionName, unread);
+        email, collectionType, collectionName, unread, after, before);
   }
 }
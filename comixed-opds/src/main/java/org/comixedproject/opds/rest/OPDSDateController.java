@@ -99,6 +99,8 @@ public class OPDSDateController {
    * @param year the year
    * @param week the week
    * @param unread the unread flag
+   * @param after the id of the last comic on the previous page
+   * @param before the id of the first comic on the following page
    * @return the comics as acquisition links
    */
   @GetMapping(
@@ -111,9 +113,12 @@ public class OPDSDateController {
       final Principal principal,
       @PathVariable("year") @NonNull final Integer year,
       @PathVariable("week") @NonNull final Integer week,
-      @RequestParam(name = "unread", defaultValue = "false") final boolean unread) {
+      @RequestParam(name = "unread", defaultValue = "false") final boolean unread,
+      @RequestParam(name = "after", defaultValue = "0") final long after,
+      @RequestParam(name = "before", defaultValue = "0") final long before) {
     final String email = principal.getName();
     log.info("Loading comics for year {} and week {} for {}", year, week, email);
-    return this.opdsAcquisitionService.getComicsFeedForYearAndWeek(email, year, week, unread);
+    return this.opdsAcquisitionService.getComicsFeedForYearAndWeek(
+        email, year, week, unread, after, before);
   }
 }
@@ -130,6 +130,8 @@ public class OPDSPublisherController {
    * @param publisher the publisher name
    * @param series the series name
    * @param volume the volume
+   * @param after the id of the last comic on the previous page
+   * @param before the id of the first comic on the following page
    * @return the feed
    */
   @GetMapping(
@@ -143,7 +145,9 @@ public class OPDSPublisherController {
       @RequestParam(name = "unread", defaultValue = "false") final boolean unread,
       @PathVariable("publisher") @NonNull final String publisher,
       @PathVariable("series") @NonNull final String series,
-      @PathVariable("volume") @NonNull final String volume) {
+      @PathVariable("volume") @NonNull final String volume,
+      @RequestParam(name = "after", defaultValue = "0") final long after,
+      @RequestParam(name = "before", defaultValue = "0") final long before) {
     final String email = principal.getName();
     final String publisherName = this.opdsUtils.urlDecodeString(publisher);
     final String seriesName = this.opdsUtils.urlDecodeString(series);
@@ -155,6 +159,6 @@ public class OPDSPublisherController {
         seriesName,
         volumeName);
     return this.opdsAcquisitionService.getComicFeedsForPublisherAndSeriesAndVolume(
-        publisherName, seriesName, volumeName, email, unread);
+        publisherName, seriesName, volumeName, email, unread, after, before);
   }
 }
@@ -53,9 +53,12 @@ public class OPDSSearchController {
 
   @GetMapping(value = "/opds/search", produces = MediaType.APPLICATION_XML_VALUE)
   @PreAuthorize("hasRole('READER')")
-  public OPDSAcquisitionFeed search(final @RequestParam("terms") String searchTerms) {
+  public OPDSAcquisitionFeed search(
+      final @RequestParam("terms") String searchTerms,
+      @RequestParam(name = "after", defaultValue = "0") final long after,
+      @RequestParam(name = "before", defaultValue = "0") final long before) {
     log.info("Searching for {}", searchTerms);
     return this.opdsAcquisitionService.getComicsFeedForSearchTerms(
-        this.opdsUtils.urlDecodeString(searchTerms));
+        this.opdsUtils.urlDecodeString(searchTerms), after, before);
   }
 }
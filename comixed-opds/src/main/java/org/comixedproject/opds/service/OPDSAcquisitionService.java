@@ -18,9 +18,12 @@
 
 package org.comixedproject.opds.service;
 
+import static org.comixedproject.opds.model.OPDSAcquisitionFeed.ACQUISITION_FEED_LINK_TYPE;
 import static org.comixedproject.opds.model.OPDSNavigationFeed.NAVIGATION_FEED_LINK_TYPE;
 import static org.comixedproject.opds.service.OPDSNavigationService.*;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
@@ -38,6 +41,7 @@ import org.comixedproject.service.comicbooks.ComicDetailService;
 import org.comixedproject.service.lists.ReadingListException;
 import org.comixedproject.service.lists.ReadingListService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -53,42 +57,37 @@ public class OPDSAcquisitionService {
   @Autowired private ReadingListService readingListService;
   @Autowired private OPDSUtils opdsUtils;
 
+  @Value("${comixed.opds.page-size:100}")
+  int pageSize = 100;
+
   private SimpleDateFormat simpleDateFormat = new SimpleDateFormat("MMM dd yyyy");
 
   /**
-   * Retrieves the acquisition feed for the specific collection. Comics previously read by the user
-   * are filtered out if the unread flag is set.
+   * Retrieves one page of the acquisition feed for the specific collection. Comics previously read
+   * by the user are filtered out if the unread flag is set.
    *
    * @param email the reader's email address
    * @param collectionType the collection type
    * @param collectionName the collection name
    * @param unread the unread flag
+   * @param after the id of the last comic on the previous page, or 0
+   * @param before the id of the first comic on the following page, or 0
    * @return the feed
    */
   public OPDSAcquisitionFeed getEntriesForCollectionFeed(
       final String email,
       final CollectionType collectionType,
       final String collectionName,
-      final boolean unread) {
-
-    return this.createCollectionEntriesFeed(
+      final boolean unread,
+      final long after,
+      final long before) {
+    final OPDSAcquisitionFeed feed =
         new OPDSAcquisitionFeed(
             String.format(
                 String.format(
                     "%s: %s", collectionType.getOpdsNavigationFeedTitle(), collectionName),
                 collectionName),
-            String.valueOf(collectionType.getOpdsIdKey())),
-        this.comicDetailService.getAllComicsForTag(
-            collectionType.getComicTagType(), collectionName, email, unread));
-  }
-
-  private OPDSAcquisitionFeed createCollectionEntriesFeed(
-      final OPDSAcquisitionFeed feed, final List<ComicDetail> entries) {
-    entries.forEach(
-        comic -> {
-          log.trace("Adding comic to collection entries: {}", comic.getId());
-          feed.getEntries().add(this.opdsUtils.createComicEntry(comic));
-        });
+            String.valueOf(collectionType.getOpdsIdKey()));
     String type = feed.getTitle().split(": ")[0];
     String name = this.opdsUtils.urlEncodeString(feed.getTitle().split(": ")[1]);
     feed.getLinks()
@@ -97,18 +96,34 @@ public class OPDSAcquisitionService {
                 NAVIGATION_FEED_LINK_TYPE,
                 SELF,
                 String.format("/opds/collections/%s/%s", type, name)));
+    this.doAddPage(
+        feed,
+        String.format("/opds/collections/%s/%s?unread=%s", type, name, unread),
+        after,
+        before,
+        (cursor, backwards, maximum) ->
+            this.comicDetailService.getAllComicsForTag(
+                collectionType.getComicTagType(),
+                collectionName,
+                email,
+                unread,
+                cursor,
+                backwards,
+                maximum));
     return feed;
   }
 
   /**
-   * Retrieves the acquisition feed for a given publisher, series, and volume. Comics previous read
-   * by the user are filtered if the unread flag is set.
+   * Retrieves one page of the acquisition feed for a given publisher, series, and volume. Comics
+   * previous read by the user are filtered if the unread flag is set.
    *
    * @param publisher the publisher
    * @param series the series
    * @param volume the volume
    * @param email the reader's email
    * @param unread the unread flag
+   * @param after the id of the last comic on the previous page, or 0
+   * @param before the id of the first comic on the following page, or 0
    * @return the acquisition feed
    */
   public OPDSAcquisitionFeed getComicFeedsForPublisherAndSeriesAndVolume(
@@ -116,7 +131,9 @@ public class OPDSAcquisitionService {
       final String series,
       final String volume,
       final String email,
-      final boolean unread) {
+      final boolean unread,
+      final long after,
+      final long before) {
     log.debug(
         "Getting comic feed for publisher={} series={} volume={} for {} [unread={}]",
         publisher,
@@ -130,25 +147,22 @@ public class OPDSAcquisitionService {
             String.valueOf(
                 this.opdsUtils.createIdForEntry(
                     "PUBLISHER:SERIES:VOLUME", publisher + ":" + series + ":" + volume)));
-    this.comicDetailService
-        .getAllComicBooksForPublisherAndSeriesAndVolume(publisher, series, volume, email, unread)
-        .forEach(
-            comicBook -> {
-              log.trace("Adding comic book to feed");
-              result.getEntries().add(this.opdsUtils.createComicEntry(comicBook));
-            });
-    result
-        .getLinks()
-        .add(
-            new OPDSLink(
-                NAVIGATION_FEED_LINK_TYPE,
-                SELF,
-                String.format(
-                    "/opds/collections/publishers/%s/series/%s/volumes/%s?unread=%s",
-                    this.opdsUtils.urlEncodeString(publisher),
-                    this.opdsUtils.urlEncodeString(series),
-                    this.opdsUtils.urlEncodeString(volume),
-                    String.valueOf(unread))));
+    final String url =
+        String.format(
+            "/opds/collections/publishers/%s/series/%s/volumes/%s?unread=%s",
+            this.opdsUtils.urlEncodeString(publisher),
+            this.opdsUtils.urlEncodeString(series),
+            this.opdsUtils.urlEncodeString(volume),
+            String.valueOf(unread));
+    result.getLinks().add(new OPDSLink(NAVIGATION_FEED_LINK_TYPE, SELF, url));
+    this.doAddPage(
+        result,
+        url,
+        after,
+        before,
+        (cursor, backwards, maximum) ->
+            this.comicDetailService.getComicBooksForPublisherAndSeriesAndVolume(
+                publisher, series, volume, email, unread, cursor, backwards, maximum));
     return result;
   }
 
@@ -185,17 +199,24 @@ public class OPDSAcquisitionService {
   }
 
   /**
-   * Retrieves the acquisition feed of comics with a store date in the given week and year.Comics
-   * previous read by the user are filtered if the unread flag is set.
+   * Retrieves one page of the acquisition feed of comics with a store date in the given week and
+   * year. Comics previous read by the user are filtered if the unread flag is set.
    *
    * @param email the reader's email address
    * @param year the target year
    * @param week the target week
    * @param unread the unread flag
+   * @param after the id of the last comic on the previous page, or 0
+   * @param before the id of the first comic on the following page, or 0
    * @return the acquisition feed
    */
   public OPDSAcquisitionFeed getComicsFeedForYearAndWeek(
-      final String email, final int year, final int week, final boolean unread) {
+      final String email,
+      final int year,
+      final int week,
+      final boolean unread,
+      final long after,
+      final long before) {
     final Date weekStarts = this.getDateFor(year, week, Calendar.SUNDAY);
     final Date weekEnds = this.getDateFor(year, week, Calendar.SATURDAY);
 
@@ -205,21 +226,18 @@ public class OPDSAcquisitionService {
                 "Comics For Week Of %s To %s",
                 simpleDateFormat.format(weekStarts), simpleDateFormat.format(weekEnds)),
             String.valueOf(COMIC_STORE_DATE_FOR_YEAR_ID + year));
+    final String url =
+        String.format("/opds/dates/released/years/%d/weeks/%d?unread=%s", year, week, unread);
+    response.getLinks().add(new OPDSLink(NAVIGATION_FEED_LINK_TYPE, SELF, url));
     log.trace("Loading comics");
-    this.comicDetailService.getComicsForYearAndWeek(year, week, email, unread).stream()
-        .forEach(
-            comicBook -> {
-              log.trace("Adding comic to collection entries: {}", comicBook.getId());
-              response.getEntries().add(this.opdsUtils.createComicEntry(comicBook));
-            });
-    response
-        .getLinks()
-        .add(
-            new OPDSLink(
-                NAVIGATION_FEED_LINK_TYPE,
-                SELF,
-                String.format(
-                    "/opds/dates/released/years/%d/weeks/%d?unread=%s", year, week, unread)));
+    this.doAddPage(
+        response,
+        url,
+        after,
+        before,
+        (cursor, backwards, maximum) ->
+            this.comicDetailService.getComicsForYearAndWeek(
+                year, week, email, unread, cursor, backwards, maximum));
     return response;
   }
 
@@ -232,26 +250,81 @@ public class OPDSAcquisitionService {
   }
 
   /**
-   * Returns a feed contain those comics that match the provided search term.
+   * Returns one page of a feed contain those comics that match the provided search term.
    *
    * @param term the term
+   * @param after the id of the last comic on the previous page, or 0
+   * @param before the id of the first comic on the following page, or 0
    * @return the feeds
    */
-  public OPDSAcquisitionFeed getComicsFeedForSearchTerms(final String term) {
+  public OPDSAcquisitionFeed getComicsFeedForSearchTerms(
+      final String term, final long after, final long before) {
     final OPDSAcquisitionFeed response =
         new OPDSAcquisitionFeed(String.format("Search for term: %s", term), term);
+    final String url =
+        String.format("/opds/search?terms=%s", URLEncoder.encode(term, StandardCharsets.UTF_8));
+    response.getLinks().add(new OPDSLink(NAVIGATION_FEED_LINK_TYPE, SELF, url));
     log.trace("Loading comics");
-    this.comicDetailService.getComicForSearchTerm(term).stream()
-        .forEach(
-            comicDetail -> {
-              log.trace("Adding comic to collection entries: {}", comicDetail.getId());
-              response.getEntries().add(this.opdsUtils.createComicEntry(comicDetail));
-            });
-    response
-        .getLinks()
-        .add(
-            new OPDSLink(
-                NAVIGATION_FEED_LINK_TYPE, SELF, String.format("/opds/search?terms=%s", term)));
+    this.doAddPage(
+        response,
+        url,
+        after,
+        before,
+        (cursor, backwards, maximum) ->
+            this.comicDetailService.getComicsForSearchTerm(term, cursor, backwards, maximum));
     return response;
   }
+
+  private void doAddPage(
+      final OPDSAcquisitionFeed feed,
+      final String url,
+      final long after,
+      final long before,
+      final PageLoader loader) {
+    final boolean backwards = before > 0L;
+    final List<ComicDetail> entries =
+        loader.load(backwards ? before : after, backwards, this.pageSize + 1);
+    final boolean more = entries.size() > this.pageSize;
+    List<ComicDetail> page = entries;
+    if (more) {
+      page = backwards ? entries.subList(1, entries.size()) : entries.subList(0, this.pageSize);
+    }
+    page.forEach(
+        comicDetail -> {
+          log.trace("Adding comic to feed entries: {}", comicDetail.getId());
+          feed.getEntries().add(this.opdsUtils.createComicEntry(comicDetail));
+        });
+
+    final boolean hasPrevious = backwards ? more : after > 0L;
+    final boolean hasNext = backwards || more;
+    if (hasPrevious) {
+      feed.getLinks().add(new OPDSLink(ACQUISITION_FEED_LINK_TYPE, FIRST, url));
+    }
+    if (page.isEmpty()) return;
+    if (hasPrevious) {
+      feed.getLinks()
+          .add(
+              new OPDSLink(
+                  ACQUISITION_FEED_LINK_TYPE,
+                  PREVIOUS,
+                  this.doAddCursor(url, "before", page.get(0).getId())));
+    }
+    if (hasNext) {
+      feed.getLinks()
+          .add(
+              new OPDSLink(
+                  ACQUISITION_FEED_LINK_TYPE,
+                  NEXT,
+                  this.doAddCursor(url, "after", page.get(page.size() - 1).getId())));
+    }
+  }
+
+  private String doAddCursor(final String url, final String name, final Long id) {
+    return String.format("%s%s%s=%d", url, url.contains("?") ? "&" : "?", name, id);
+  }
+
+  @FunctionalInterface
+  interface PageLoader {
+    List<ComicDetail> load(long comicDetailId, boolean before, int maximum);
+  }
 }
@@ -0,0 +1,189 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.opds.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.service.comicbooks.ComicBooksPurgedEvent;
+import org.comixedproject.service.comicbooks.ComicStateChangedEvent;
+import org.comixedproject.service.library.ReadStateIndex;
+import org.comixedproject.service.lists.ReadingListStateChangedEvent;
+import org.comixedproject.service.user.UserAccountChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <code>OPDSFeedCache</code> holds generated OPDS feeds, keyed by the requesting user and the feed
+ * path, along with the version of the library they were generated from.
+ *
+ * <p>The version combines the time the library last changed with the time the user's read state
+ * last changed, so it is used directly as the feed's ETag and Last-Modified value. The library
+ * version only moves forward once a change is committed, so a feed generated while the change is
+ * still pending is not cached under the new version. A cached feed is only served while its version
+ * is still current. Feeds larger than the maximum feed size are never held, but are still answered
+ * with <code>304 Not Modified</code> when the client's copy is current.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class OPDSFeedCache {
+  @Autowired private ReadStateIndex readStateIndex;
+
+  @Value("${comixed.opds.feed-cache.maximum-size:128}")
+  int maximumSize = 128;
+
+  @Value("${comixed.opds.feed-cache.maximum-feed-size:524288}")
+  int maximumFeedSize = 524288;
+
+  final AtomicLong libraryChanged = new AtomicLong(System.currentTimeMillis());
+  final Map<String, CachedFeed> feeds =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CachedFeed> eldest) {
+          return this.size() > maximumSize;
+        }
+      };
+
+  /**
+   * Moves the library version forward after a comic book changes state.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onComicStateChanged(final ComicStateChangedEvent event) {
+    this.touch();
+  }
+
+  /**
+   * Moves the library version forward after a reading list changes state.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onReadingListStateChanged(final ReadingListStateChangedEvent event) {
+    this.touch();
+  }
+
+  /**
+   * Moves the library version forward after comic books are purged.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onComicBooksPurged(final ComicBooksPurgedEvent event) {
+    this.touch();
+  }
+
+  /**
+   * Discards every cached feed when a user account changes, since the user's roles may have
+   * changed.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void onUserAccountChanged(final UserAccountChangedEvent event) {
+    log.debug("User account changed: discarding cached OPDS feeds");
+    this.feeds.clear();
+  }
+
+  /**
+   * Returns the time the feeds for the given user last changed, in milliseconds since the epoch.
+   *
+   * @param email the user's email, or null for feeds that do not depend on the user
+   * @return the timestamp
+   */
+  public long getLastModified(final String email) {
+    final long result = this.libraryChanged.get();
+    return Objects.isNull(email)
+        ? result
+        : Math.max(result, this.readStateIndex.getLastChanged(email));
+  }
+
+  /**
+   * Returns the ETag for the feeds of the given user.
+   *
+   * @param email the user's email, or null for feeds that do not depend on the user
+   * @return the ETag
+   */
+  public String getETag(final String email) {
+    final long userChanged = Objects.isNull(email) ? 0L : this.readStateIndex.getLastChanged(email);
+    return String.format("\"%x-%x\"", this.libraryChanged.get(), userChanged);
+  }
+
+  /**
+   * Returns the cached feed for the key if it was generated for the given ETag.
+   *
+   * @param key the cache key
+   * @param etag the current ETag
+   * @return the feed, or null if none is cached
+   */
+  public synchronized CachedFeed get(final String key, final String etag) {
+    final CachedFeed result = this.feeds.get(key);
+    if (Objects.isNull(result)) return null;
+    if (!result.getEtag().equals(etag)) {
+      log.trace("Discarding stale OPDS feed: {}", key);
+      this.feeds.remove(key);
+      return null;
+    }
+    return result;
+  }
+
+  /**
+   * Stores a generated feed. Feeds larger than the maximum feed size are not stored.
+   *
+   * @param key the cache key
+   * @param etag the ETag the feed was generated for
+   * @param contentType the content type
+   * @param content the feed content
+   */
+  public synchronized void put(
+      final String key, final String etag, final String contentType, final byte[] content) {
+    if (this.maximumSize <= 0 || content.length > this.maximumFeedSize) {
+      log.trace("Not caching OPDS feed: {} ({} bytes)", key, content.length);
+      return;
+    }
+    this.feeds.put(key, new CachedFeed(etag, contentType, content));
+  }
+
+  private void touch() {
+    final long now = System.currentTimeMillis();
+    this.libraryChanged.accumulateAndGet(
+        now, (previous, current) -> Math.max(previous + 1L, current));
+  }
+
+  /**
+   * <code>CachedFeed</code> holds the serialized content of a single feed.
+   *
+   * @author Darryl L. Pierce
+   */
+  @AllArgsConstructor
+  public static class CachedFeed {
+    @Getter private final String etag;
+    @Getter private final String contentType;
+    @Getter private final byte[] content;
+  }
+}
@@ -56,6 +56,9 @@ public class OPDSNavigationService {
   public static final String UNNAMED = "UNNAMED";
   public static final String SUBSECTION = "subsection";
   public static final String SELF = "self";
+  public static final String FIRST = "first";
+  public static final String PREVIOUS = "previous";
+  public static final String NEXT = "next";
   public static final String ROOT_ID = "1";
   public static final String LIBRARY_ID = "10";
   public static final long PUBLISHERS_ID = 11L;
@@ -0,0 +1,139 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.opds;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import java.io.IOException;
+import java.security.Principal;
+import org.comixedproject.opds.service.OPDSFeedCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@RunWith(MockitoJUnitRunner.class)
+public class OPDSFeedCacheFilterTest {
+  private static final String TEST_EMAIL = "reader@comixedproject.org";
+  private static final String TEST_ETAG = "\"1-2\"";
+  private static final long TEST_LAST_MODIFIED = 1700000000000L;
+  private static final String TEST_URI = "/opds/library";
+  private static final String TEST_KEY = TEST_EMAIL + "|" + TEST_URI;
+  private static final String TEST_CONTENT_TYPE = "application/xml";
+  private static final byte[] TEST_CONTENT = "<feed/>".getBytes();
+
+  @InjectMocks private OPDSFeedCacheFilter filter;
+  @Mock private OPDSFeedCache opdsFeedCache;
+  @Mock private Principal principal;
+
+  private MockHttpServletRequest request = new MockHttpServletRequest("GET", TEST_URI);
+  private MockHttpServletResponse response = new MockHttpServletResponse();
+  private int chainCalls = 0;
+  private FilterChain filterChain =
+      new FilterChain() {
+        @Override
+        public void doFilter(final ServletRequest request, final ServletResponse response)
+            throws IOException, ServletException {
+          chainCalls++;
+          response.setContentType(TEST_CONTENT_TYPE);
+          response.getOutputStream().write(TEST_CONTENT);
+        }
+      };
+
+  @Before
+  public void setUp() {
+    Mockito.when(principal.getName()).thenReturn(TEST_EMAIL);
+    request.setUserPrincipal(principal);
+    Mockito.when(opdsFeedCache.getETag(TEST_EMAIL)).thenReturn(TEST_ETAG);
+    Mockito.when(opdsFeedCache.getLastModified(TEST_EMAIL)).thenReturn(TEST_LAST_MODIFIED);
+  }
+
+  @Test
+  public void testShouldNotFilterComicContent() {
+    assertTrue(
+        filter.shouldNotFilter(new MockHttpServletRequest("GET", "/opds/comics/17/content/x")));
+  }
+
+  @Test
+  public void testShouldNotFilterNonOPDSPath() {
+    assertTrue(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/api/library")));
+  }
+
+  @Test
+  public void testShouldNotFilterPost() {
+    assertTrue(filter.shouldNotFilter(new MockHttpServletRequest("POST", TEST_URI)));
+  }
+
+  @Test
+  public void testShouldFilterFeed() {
+    assertFalse(filter.shouldNotFilter(request));
+  }
+
+  @Test
+  public void testNotModified() throws ServletException, IOException {
+    request.addHeader("If-None-Match", TEST_ETAG);
+
+    filter.doFilterInternal(request, response, filterChain);
+
+    assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+    assertEquals(0, chainCalls);
+  }
+
+  @Test
+  public void testServedFromCache() throws ServletException, IOException {
+    Mockito.when(opdsFeedCache.get(TEST_KEY, TEST_ETAG))
+        .thenReturn(new OPDSFeedCache.CachedFeed(TEST_ETAG, TEST_CONTENT_TYPE, TEST_CONTENT));
+
+    filter.doFilterInternal(request, response, filterChain);
+
+    assertEquals(HttpStatus.OK.value(), response.getStatus());
+    assertEquals(TEST_ETAG, response.getHeader("ETag"));
+    assertEquals(new String(TEST_CONTENT), response.getContentAsString());
+    assertEquals(0, chainCalls);
+  }
+
+  @Test
+  public void testGeneratedAndCached() throws ServletException, IOException {
+    filter.doFilterInternal(request, response, filterChain);
+
+    assertEquals(HttpStatus.OK.value(), response.getStatus());
+    assertEquals(TEST_ETAG, response.getHeader("ETag"));
+    assertEquals(new String(TEST_CONTENT), response.getContentAsString());
+    assertEquals(1, chainCalls);
+
+    Mockito.verify(opdsFeedCache, Mockito.times(1))
+        .put(
+            Mockito.eq(TEST_KEY),
+            Mockito.eq(TEST_ETAG),
+            Mockito.eq(TEST_CONTENT_TYPE),
+            Mockito.any(byte[].class));
+  }
+}
@@ -38,6 +38,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
 public class OPDSCollectionControllerTest {
+  private static final long TEST_AFTER = 717L;
+  private static final long TEST_BEFORE = 0L;
   private static final String TEST_ENCODED_NAME = "Collection Entry Name";
   private static final String TEST_DECODED_NAME = "The decoded collection name";
   private static final String TEST_EMAIL = "reader@comixedproject.org";
@@ -83,18 +85,30 @@ public class OPDSCollectionControllerTest {
                 Mockito.anyString(),
                 Mockito.any(CollectionType.class),
                 Mockito.anyString(),
-                Mockito.anyBoolean()))
+                Mockito.anyBoolean(),
+                Mockito.anyLong(),
+                Mockito.anyLong()))
         .thenReturn(acquisitionFeed);
 
     final OPDSAcquisitionFeed response =
         controller.getEntriesForCollectionFeed(
-            principal, TEST_COLLECTION_TYPE, TEST_ENCODED_NAME, TEST_UNREAD);
+            principal,
+            TEST_COLLECTION_TYPE,
+            TEST_ENCODED_NAME,
+            TEST_UNREAD,
+            TEST_AFTER,
+            TEST_BEFORE);
 
     assertNotNull(response);
     assertSame(acquisitionFeed, response);
 
     Mockito.verify(opdsAcquisitionService, Mockito.times(1))
         .getEntriesForCollectionFeed(
-            TEST_EMAIL, TEST_COLLECTION_TYPE, TEST_DECODED_NAME, TEST_UNREAD);
+            TEST_EMAIL,
+            TEST_COLLECTION_TYPE,
+            TEST_DECODED_NAME,
+            TEST_UNREAD,
+            TEST_AFTER,
+            TEST_BEFORE);
   }
 }
@@ -37,6 +37,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
 public class OPDSDateControllerTest {
+  private static final long TEST_AFTER = 717L;
+  private static final long TEST_BEFORE = 0L;
   private static final Integer TEST_YEAR = 2022;
   private static final Integer TEST_WEEK = RandomUtils.nextInt(52);
   private static final boolean TEST_UNREAD = RandomUtils.nextBoolean();
@@ -88,16 +90,23 @@ public class OPDSDateControllerTest {
   public void testLoadComicsForYearAndWeek() throws OPDSException {
     Mockito.when(
             opdsAcquisitionService.getComicsFeedForYearAndWeek(
-                Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyBoolean()))
+                Mockito.anyString(),
+                Mockito.anyInt(),
+                Mockito.anyInt(),
+                Mockito.anyBoolean(),
+                Mockito.anyLong(),
+                Mockito.anyLong()))
         .thenReturn(opdsAcquisitionFeed);
 
     final OPDSAcquisitionFeed response =
-        controller.loadComicsForYearAndWeek(principal, TEST_YEAR, TEST_WEEK, TEST_UNREAD);
+        controller.loadComicsForYearAndWeek(
+            principal, TEST_YEAR, TEST_WEEK, TEST_UNREAD, TEST_AFTER, TEST_BEFORE);
 
     assertNotNull(response);
     assertSame(opdsAcquisitionFeed, response);
 
     Mockito.verify(opdsAcquisitionService, Mockito.times(1))
-        .getComicsFeedForYearAndWeek(TEST_EMAIL, TEST_YEAR, TEST_WEEK, TEST_UNREAD);
+        .getComicsFeedForYearAndWeek(
+            TEST_EMAIL, TEST_YEAR, TEST_WEEK, TEST_UNREAD, TEST_AFTER, TEST_BEFORE);
   }
 }
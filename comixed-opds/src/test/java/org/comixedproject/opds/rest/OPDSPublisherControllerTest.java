@@ -43,6 +43,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
 public class OPDSPublisherControllerTest {
+  private static final long TEST_AFTER = 717L;
+  private static final long TEST_BEFORE = 0L;
   private static final String TEST_PUBLISHER_ENCODED = "The+Publisher";
   private static final String TEST_PUBLISHER = "The Publisher";
   private static final boolean TEST_UNREAD = RandomUtils.nextBoolean();
@@ -140,7 +142,9 @@ public class OPDSPublisherControllerTest {
                 Mockito.anyString(),
                 Mockito.anyString(),
                 Mockito.anyString(),
-                Mockito.anyBoolean()))
+                Mockito.anyBoolean(),
+                Mockito.anyLong(),
+                Mockito.anyLong()))
         .thenReturn(acquisitionFeed);
 
     final OPDSAcquisitionFeed result =
@@ -149,13 +153,21 @@ public class OPDSPublisherControllerTest {
             TEST_UNREAD,
             TEST_PUBLISHER_ENCODED,
             TEST_SERIES_ENCODED,
-            TEST_VOLUME_ENCODED);
+            TEST_VOLUME_ENCODED,
+            TEST_AFTER,
+            TEST_BEFORE);
 
     assertNotNull(result);
     assertSame(acquisitionFeed, result);
 
     Mockito.verify(opdsAcquisitionService, Mockito.times(1))
         .getComicFeedsForPublisherAndSeriesAndVolume(
-            TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_EMAIL, TEST_UNREAD);
+            TEST_PUBLISHER,
+            TEST_SERIES,
+            TEST_VOLUME,
+            TEST_EMAIL,
+            TEST_UNREAD,
+            TEST_AFTER,
+            TEST_BEFORE);
   }
 }
@@ -33,6 +33,7 @@ import org.comixedproject.opds.OPDSUtils;
 import org.comixedproject.opds.model.CollectionType;
 import org.comixedproject.opds.model.OPDSAcquisitionFeed;
 import org.comixedproject.opds.model.OPDSAcquisitionFeedEntry;
+import org.comixedproject.opds.model.OPDSLink;
 import org.comixedproject.service.comicbooks.ComicBookService;
 import org.comixedproject.service.comicbooks.ComicDetailService;
 import org.comixedproject.service.lists.ReadingListException;
@@ -62,6 +63,7 @@ public class OPDSAcquisitionServiceTest {
   private static final Integer TEST_WEEK = RandomUtils.nextInt(52);
   private static final String TEST_SEARCH_TERM = "the search term";
   private static final String TEST_TAG_NAME = "Tag value";
+  private static final int TEST_PAGE_SIZE = 2;
 
   @InjectMocks private OPDSAcquisitionService service;
   @Mock private ComicBookService comicBookService;
@@ -83,6 +85,7 @@ public class OPDSAcquisitionServiceTest {
     Mockito.when(readingList.getEntries()).thenReturn(comicDetailList);
     Mockito.when(opdsUtils.urlEncodeString(Mockito.anyString())).thenReturn(TEST_ENCODED_NAME);
     comicDetailList.add(comicDetail);
+    service.pageSize = TEST_PAGE_SIZE;
   }
 
   @Test
@@ -92,19 +95,28 @@ public class OPDSAcquisitionServiceTest {
                 Mockito.any(ComicTagType.class),
                 Mockito.anyString(),
                 Mockito.anyString(),
-                Mockito.anyBoolean()))
+                Mockito.anyBoolean(),
+                Mockito.anyLong(),
+                Mockito.anyBoolean(),
+                Mockito.anyInt()))
         .thenReturn(comicDetailList);
 
     final OPDSAcquisitionFeed result =
         service.getEntriesForCollectionFeed(
-            TEST_EMAIL, CollectionType.characters, TEST_COLLECTION_ENTRY_NAME, TEST_UNREAD);
+            TEST_EMAIL, CollectionType.characters, TEST_COLLECTION_ENTRY_NAME, TEST_UNREAD, 0L, 0L);
 
     TestCase.assertNotNull(result);
     assertFalse(result.getEntries().isEmpty());
 
     Mockito.verify(comicDetailService, Mockito.times(1))
         .getAllComicsForTag(
-            ComicTagType.CHARACTER, TEST_COLLECTION_ENTRY_NAME, TEST_EMAIL, TEST_UNREAD);
+            ComicTagType.CHARACTER,
+            TEST_COLLECTION_ENTRY_NAME,
+            TEST_EMAIL,
+            TEST_UNREAD,
+            0L,
+            false,
+            TEST_PAGE_SIZE + 1);
   }
 
   @Test
@@ -114,18 +126,28 @@ public class OPDSAcquisitionServiceTest {
                 Mockito.any(ComicTagType.class),
                 Mockito.anyString(),
                 Mockito.anyString(),
-                Mockito.anyBoolean()))
+                Mockito.anyBoolean(),
+                Mockito.anyLong(),
+                Mockito.anyBoolean(),
+                Mockito.anyInt()))
         .thenReturn(comicDetailList);
 
     final OPDSAcquisitionFeed result =
         service.getEntriesForCollectionFeed(
-            TEST_EMAIL, CollectionType.teams, TEST_COLLECTION_ENTRY_NAME, TEST_UNREAD);
+            TEST_EMAIL, CollectionType.teams, TEST_COLLECTION_ENTRY_NAME, TEST_UNREAD, 0L, 0L);
 
     TestCase.assertNotNull(result);
     assertFalse(result.getEntries().isEmpty());
 
     Mockito.verify(comicDetailService, Mockito.times(1))
-        .getAllComicsForTag(ComicTagType.TEAM, TEST_COLLECTION_ENTRY_NAME, TEST_EMAIL, TEST_UNREAD);
+        .getAllComicsForTag(
+            ComicTagType.TEAM,
+            TEST_COLLECTION_ENTRY_NAME,
+            TEST_EMAIL,
+            TEST_UNREAD,
+            0L,
+            false,
+            TEST_PAGE_SIZE + 1);
   }
 
   @Test
@@ -135,19 +157,28 @@ public class OPDSAcquisitionServiceTest {
                 Mockito.any(ComicTagType.class),
                 Mockito.anyString(),
                 Mockito.anyString(),
-                Mockito.anyBoolean()))
+                Mockito.anyBoolean(),
+                Mockito.anyLong(),
+                Mockito.anyBoolean(),
+                Mockito.anyInt()))
         .thenReturn(comicDetailList);
 
     final OPDSAcquisitionFeed result =
         service.getEntriesForCollectionFeed(
-            TEST_EMAIL, CollectionType.locations, TEST_COLLECTION_ENTRY_NAME, TEST_UNREAD);
+            TEST_EMAIL, CollectionType.locations, TEST_COLLECTION_ENTRY_NAME, TEST_UNREAD, 0L, 0L);
 
     TestCase.assertNotNull(result);
     assertFalse(result.getEntries().isEmpty());
 
     Mockito.verify(comicDetailService, Mockito.times(1))
         .getAllComicsForTag(
-            ComicTagType.LOCATION, TEST_COLLECTION_ENTRY_NAME, TEST_EMAIL, TEST_UNREAD);
+            ComicTagType.LOCATION,
+            TEST_COLLECTION_ENTRY_NAME,
+            TEST_EMAIL,
+            TEST_UNREAD,
+            0L,
+            false,
+            TEST_PAGE_SIZE + 1);
   }
 
   @Test
@@ -157,41 +188,60 @@ public class OPDSAcquisitionServiceTest {
                 Mockito.any(ComicTagType.class),
                 Mockito.anyString(),
                 Mockito.anyString(),
-                Mockito.anyBoolean()))
+                Mockito.anyBoolean(),
+                Mockito.anyLong(),
+                Mockito.anyBoolean(),
+                Mockito.anyInt()))
         .thenReturn(comicDetailList);
 
     final OPDSAcquisitionFeed result =
         service.getEntriesForCollectionFeed(
-            TEST_EMAIL, CollectionType.stories, TEST_COLLECTION_ENTRY_NAME, TEST_UNREAD);
+            TEST_EMAIL, CollectionType.stories, TEST_COLLECTION_ENTRY_NAME, TEST_UNREAD, 0L, 0L);
 
     TestCase.assertNotNull(result);
     assertFalse(result.getEntries().isEmpty());
 
     Mockito.verify(comicDetailService, Mockito.times(1))
         .getAllComicsForTag(
-            ComicTagType.STORY, TEST_COLLECTION_ENTRY_NAME, TEST_EMAIL, TEST_UNREAD);
+            ComicTagType.STORY,
+            TEST_COLLECTION_ENTRY_NAME,
+            TEST_EMAIL,
+            TEST_UNREAD,
+            0L,
+            false,
+            TEST_PAGE_SIZE + 1);
   }
 
   @Test
   public void testGetComicFeedForPublisherAndSeriesAndVolume() {
     Mockito.when(
-            comicDetailService.getAllComicBooksForPublisherAndSeriesAndVolume(
+            comicDetailService.getComicBooksForPublisherAndSeriesAndVolume(
                 Mockito.anyString(),
                 Mockito.anyString(),
                 Mockito.anyString(),
                 Mockito.anyString(),
-                Mockito.anyBoolean()))
+                Mockito.anyBoolean(),
+                Mockito.anyLong(),
+                Mockito.anyBoolean(),
+                Mockito.anyInt()))
         .thenReturn(comicDetailList);
 
     final OPDSAcquisitionFeed result =
         service.getComicFeedsForPublisherAndSeriesAndVolume(
-            TEST_PUBLISHER_NAME, TEST_SERIES_NAME, TEST_VOLUME, TEST_EMAIL, TEST_UNREAD);
+            TEST_PUBLISHER_NAME, TEST_SERIES_NAME, TEST_VOLUME, TEST_EMAIL, TEST_UNREAD, 0L, 0L);
 
     Assertions.assertNotNull(result);
 
     Mockito.verify(comicDetailService, Mockito.times(1))
-        .getAllComicBooksForPublisherAndSeriesAndVolume(
-            TEST_PUBLISHER_NAME, TEST_SERIES_NAME, TEST_VOLUME, TEST_EMAIL, TEST_UNREAD);
+        .getComicBooksForPublisherAndSeriesAndVolume(
+            TEST_PUBLISHER_NAME,
+            TEST_SERIES_NAME,
+            TEST_VOLUME,
+            TEST_EMAIL,
+            TEST_UNREAD,
+            0L,
+            false,
+            TEST_PAGE_SIZE + 1);
   }
 
   @Test(expected = OPDSException.class)
@@ -230,35 +280,162 @@ public class OPDSAcquisitionServiceTest {
   public void testGetComicsFeedForYearAndWeek() {
     Mockito.when(
             comicDetailService.getComicsForYearAndWeek(
-                Mockito.anyInt(), Mockito.anyInt(), Mockito.anyString(), Mockito.anyBoolean()))
+                Mockito.anyInt(),
+                Mockito.anyInt(),
+                Mockito.anyString(),
+                Mockito.anyBoolean(),
+                Mockito.anyLong(),
+                Mockito.anyBoolean(),
+                Mockito.anyInt()))
         .thenReturn(comicDetailList);
     Mockito.when(opdsUtils.createComicEntry(Mockito.any(ComicDetail.class))).thenReturn(comicEntry);
 
     final OPDSAcquisitionFeed result =
-        service.getComicsFeedForYearAndWeek(TEST_EMAIL, TEST_YEAR, TEST_WEEK, TEST_UNREAD);
+        service.getComicsFeedForYearAndWeek(TEST_EMAIL, TEST_YEAR, TEST_WEEK, TEST_UNREAD, 0L, 0L);
 
     assertNotNull(result);
     assertFalse(result.getEntries().isEmpty());
     assertEquals(comicDetailList.size(), result.getEntries().size());
 
     Mockito.verify(comicDetailService, Mockito.times(1))
-        .getComicsForYearAndWeek(TEST_YEAR, TEST_WEEK, TEST_EMAIL, TEST_UNREAD);
+        .getComicsForYearAndWeek(
+            TEST_YEAR, TEST_WEEK, TEST_EMAIL, TEST_UNREAD, 0L, false, TEST_PAGE_SIZE + 1);
     Mockito.verify(opdsUtils, Mockito.times(1)).createComicEntry(comicDetail);
   }
 
   @Test
   public void testGetComicsForSearchTerm() {
-    Mockito.when(comicDetailService.getComicForSearchTerm(Mockito.anyString()))
+    Mockito.when(
+            comicDetailService.getComicsForSearchTerm(
+                Mockito.anyString(), Mockito.anyLong(), Mockito.anyBoolean(), Mockito.anyInt()))
         .thenReturn(comicDetailList);
     Mockito.when(opdsUtils.createComicEntry(Mockito.any(ComicDetail.class))).thenReturn(comicEntry);
 
-    final OPDSAcquisitionFeed result = service.getComicsFeedForSearchTerms(TEST_SEARCH_TERM);
+    final OPDSAcquisitionFeed result =
+        service.getComicsFeedForSearchTerms(TEST_SEARCH_TERM, 0L, 0L);
 
     assertNotNull(result);
     assertFalse(result.getEntries().isEmpty());
     assertEquals(comicDetailList.size(), result.getEntries().size());
 
-    Mockito.verify(comicDetailService, Mockito.times(1)).getComicForSearchTerm(TEST_SEARCH_TERM);
+    Mockito.verify(comicDetailService, Mockito.times(1))
+        .getComicsForSearchTerm(TEST_SEARCH_TERM, 0L, false, TEST_PAGE_SIZE + 1);
     Mockito.verify(opdsUtils, Mockito.times(1)).createComicEntry(comicDetail);
   }
+
+  @Test
+  public void testGetComicsForSearchTermEncodesLinks() {
+    final List<ComicDetail> entries = new ArrayList<>();
+    for (long id = 1L; id <= TEST_PAGE_SIZE + 1; id++) {
+      final ComicDetail entry = Mockito.mock(ComicDetail.class);
+      Mockito.when(entry.getId()).thenReturn(id);
+      entries.add(entry);
+    }
+    Mockito.when(
+            comicDetailService.getComicsForSearchTerm(
+                Mockito.anyString(), Mockito.anyLong(), Mockito.anyBoolean(), Mockito.anyInt()))
+        .thenReturn(entries);
+
+    final OPDSAcquisitionFeed result =
+        service.getComicsFeedForSearchTerms("batman & robin #1/2", 0L, 0L);
+
+    assertEquals(
+        "/opds/search?terms=batman+%26+robin+%231%2F2",
+        this.getLink(result, OPDSNavigationService.SELF));
+    assertEquals(
+        "/opds/search?terms=batman+%26+robin+%231%2F2&after=2",
+        this.getLink(result, OPDSNavigationService.NEXT));
+  }
+
+  @Test
+  public void testGetComicFeedFirstPage() {
+    this.loadPublisherFeedPage(1L, 2L, 3L);
+
+    final OPDSAcquisitionFeed result =
+        service.getComicFeedsForPublisherAndSeriesAndVolume(
+            TEST_PUBLISHER_NAME, TEST_SERIES_NAME, TEST_VOLUME, TEST_EMAIL, TEST_UNREAD, 0L, 0L);
+
+    assertEquals(TEST_PAGE_SIZE, result.getEntries().size());
+    assertNull(this.getLink(result, OPDSNavigationService.FIRST));
+    assertNull(this.getLink(result, OPDSNavigationService.PREVIOUS));
+    assertTrue(this.getLink(result, OPDSNavigationService.NEXT).endsWith("&after=2"));
+  }
+
+  @Test
+  public void testGetComicFeedLastPage() {
+    this.loadPublisherFeedPage(3L);
+
+    final OPDSAcquisitionFeed result =
+        service.getComicFeedsForPublisherAndSeriesAndVolume(
+            TEST_PUBLISHER_NAME, TEST_SERIES_NAME, TEST_VOLUME, TEST_EMAIL, TEST_UNREAD, 2L, 0L);
+
+    assertEquals(1, result.getEntries().size());
+    assertNotNull(this.getLink(result, OPDSNavigationService.FIRST));
+    assertTrue(this.getLink(result, OPDSNavigationService.PREVIOUS).endsWith("&before=3"));
+    assertNull(this.getLink(result, OPDSNavigationService.NEXT));
+
+    Mockito.verify(comicDetailService, Mockito.times(1))
+        .getComicBooksForPublisherAndSeriesAndVolume(
+            TEST_PUBLISHER_NAME,
+            TEST_SERIES_NAME,
+            TEST_VOLUME,
+            TEST_EMAIL,
+            TEST_UNREAD,
+            2L,
+            false,
+            TEST_PAGE_SIZE + 1);
+  }
+
+  @Test
+  public void testGetComicFeedPreviousPage() {
+    this.loadPublisherFeedPage(2L, 3L, 4L);
+
+    final OPDSAcquisitionFeed result =
+        service.getComicFeedsForPublisherAndSeriesAndVolume(
+            TEST_PUBLISHER_NAME, TEST_SERIES_NAME, TEST_VOLUME, TEST_EMAIL, TEST_UNREAD, 0L, 5L);
+
+    assertEquals(TEST_PAGE_SIZE, result.getEntries().size());
+    assertNotNull(this.getLink(result, OPDSNavigationService.FIRST));
+    assertTrue(this.getLink(result, OPDSNavigationService.PREVIOUS).endsWith("&before=3"));
+    assertTrue(this.getLink(result, OPDSNavigationService.NEXT).endsWith("&after=4"));
+
+    Mockito.verify(comicDetailService, Mockito.times(1))
+        .getComicBooksForPublisherAndSeriesAndVolume(
+            TEST_PUBLISHER_NAME,
+            TEST_SERIES_NAME,
+            TEST_VOLUME,
+            TEST_EMAIL,
+            TEST_UNREAD,
+            5L,
+            true,
+            TEST_PAGE_SIZE + 1);
+  }
+
+  private void loadPublisherFeedPage(final Long... ids) {
+    final List<ComicDetail> entries = new ArrayList<>();
+    for (Long id : ids) {
+      final ComicDetail entry = Mockito.mock(ComicDetail.class);
+      Mockito.when(entry.getId()).thenReturn(id);
+      entries.add(entry);
+    }
+    Mockito.when(
+            comicDetailService.getComicBooksForPublisherAndSeriesAndVolume(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyBoolean(),
+                Mockito.anyLong(),
+                Mockito.anyBoolean(),
+                Mockito.anyInt()))
+        .thenReturn(entries);
+  }
+
+  private String getLink(final OPDSAcquisitionFeed feed, final String relation) {
+    return feed.getLinks().stream()
+        .filter(link -> link.getRelation().equals(relation))
+        .map(OPDSLink::getReference)
+        .findFirst()
+        .orElse(null);
+  }
 }
@@ -0,0 +1,154 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.opds.service;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNotNull;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.assertTrue;
+
+import org.comixedproject.model.comicbooks.ComicState;
+import org.comixedproject.model.lists.ReadingListState;
+import org.comixedproject.service.comicbooks.ComicBooksPurgedEvent;
+import org.comixedproject.service.comicbooks.ComicStateChangedEvent;
+import org.comixedproject.service.library.ReadStateIndex;
+import org.comixedproject.service.lists.ReadingListStateChangedEvent;
+import org.comixedproject.service.user.UserAccountChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class OPDSFeedCacheTest {
+  private static final String TEST_EMAIL = "reader@comixedproject.org";
+  private static final String TEST_KEY = TEST_EMAIL + "|/opds/library";
+  private static final String TEST_CONTENT_TYPE = "application/xml";
+  private static final byte[] TEST_CONTENT = "<feed/>".getBytes();
+  private static final long TEST_USER_CHANGED = 717L;
+
+  @InjectMocks private OPDSFeedCache cache;
+  @Mock private ReadStateIndex readStateIndex;
+  @Mock private ComicBooksPurgedEvent comicBooksPurgedEvent;
+  @Mock private UserAccountChangedEvent userAccountChangedEvent;
+
+  @Before
+  public void setUp() {
+    Mockito.when(readStateIndex.getLastChanged(TEST_EMAIL)).thenReturn(TEST_USER_CHANGED);
+  }
+
+  @Test
+  public void testGetETagIncludesUserState() {
+    final String anonymous = cache.getETag(null);
+    final String result = cache.getETag(TEST_EMAIL);
+
+    assertTrue(result.startsWith("\""));
+    assertTrue(result.endsWith("-" + Long.toHexString(TEST_USER_CHANGED) + "\""));
+    assertFalse(anonymous.equals(result));
+  }
+
+  @Test
+  public void testGetLastModified() {
+    cache.libraryChanged.set(TEST_USER_CHANGED - 1L);
+
+    assertEquals(TEST_USER_CHANGED, cache.getLastModified(TEST_EMAIL));
+    assertEquals(TEST_USER_CHANGED - 1L, cache.getLastModified(null));
+  }
+
+  @Test
+  public void testPutAndGet() {
+    final String etag = cache.getETag(TEST_EMAIL);
+    cache.put(TEST_KEY, etag, TEST_CONTENT_TYPE, TEST_CONTENT);
+
+    final OPDSFeedCache.CachedFeed result = cache.get(TEST_KEY, etag);
+
+    assertNotNull(result);
+    assertEquals(TEST_CONTENT_TYPE, result.getContentType());
+    assertSame(TEST_CONTENT, result.getContent());
+  }
+
+  @Test
+  public void testPutFeedTooLarge() {
+    cache.maximumFeedSize = TEST_CONTENT.length - 1;
+    final String etag = cache.getETag(TEST_EMAIL);
+
+    cache.put(TEST_KEY, etag, TEST_CONTENT_TYPE, TEST_CONTENT);
+
+    assertTrue(cache.feeds.isEmpty());
+  }
+
+  @Test
+  public void testPutEvictsLeastRecentlyUsed() {
+    cache.maximumSize = 1;
+    final String etag = cache.getETag(TEST_EMAIL);
+
+    cache.put(TEST_KEY, etag, TEST_CONTENT_TYPE, TEST_CONTENT);
+    cache.put(TEST_KEY + "/other", etag, TEST_CONTENT_TYPE, TEST_CONTENT);
+
+    assertEquals(1, cache.feeds.size());
+    assertTrue(cache.feeds.containsKey(TEST_KEY + "/other"));
+  }
+
+  @Test
+  public void testComicStateChangeInvalidatesFeeds() {
+    final String etag = cache.getETag(TEST_EMAIL);
+    cache.put(TEST_KEY, etag, TEST_CONTENT_TYPE, TEST_CONTENT);
+
+    cache.onComicStateChanged(new ComicStateChangedEvent(17L, ComicState.CHANGED));
+
+    final String newEtag = cache.getETag(TEST_EMAIL);
+    assertFalse(etag.equals(newEtag));
+    assertNull(cache.get(TEST_KEY, newEtag));
+    assertTrue(cache.feeds.isEmpty());
+  }
+
+  @Test
+  public void testReadingListStateChangeInvalidatesFeeds() {
+    final String etag = cache.getETag(TEST_EMAIL);
+    cache.put(TEST_KEY, etag, TEST_CONTENT_TYPE, TEST_CONTENT);
+
+    cache.onReadingListStateChanged(new ReadingListStateChangedEvent(23L, ReadingListState.STABLE));
+
+    assertNull(cache.get(TEST_KEY, cache.getETag(TEST_EMAIL)));
+  }
+
+  @Test
+  public void testComicBooksPurgedInvalidatesFeeds() {
+    final String etag = cache.getETag(TEST_EMAIL);
+
+    cache.onComicBooksPurged(comicBooksPurgedEvent);
+
+    assertFalse(etag.equals(cache.getETag(TEST_EMAIL)));
+  }
+
+  @Test
+  public void testUserAccountChangedClearsFeeds() {
+    final String etag = cache.getETag(TEST_EMAIL);
+    cache.put(TEST_KEY, etag, TEST_CONTENT_TYPE, TEST_CONTENT);
+
+    cache.onUserAccountChanged(userAccountChangedEvent);
+
+    assertTrue(cache.feeds.isEmpty());
+  }
+}
@@ -18,8 +18,6 @@
 
 package org.comixedproject.plugins;
 
-import java.io.IOException;
-
 /**
  * <code>PluginException</code> is thrown when an error occurs during the run of a plugin.
  *
@@ -30,7 +28,7 @@ public class PluginException extends Exception {
     super(message);
   }
 
-  public PluginException(String message, IOException cause) {
+  public PluginException(String message, Throwable cause) {
     super(message, cause);
   }
 }
@@ -26,6 +26,7 @@ import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.comixedproject.adaptors.file.FileTypeAdaptor;
+import org.comixedproject.plugins.interpreters.PluginCodeCache;
 import org.comixedproject.plugins.model.Plugin;
 import org.comixedproject.plugins.model.PluginDescriptor;
 import org.springframework.beans.factory.InitializingBean;
@@ -33,23 +34,38 @@ import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationStartupAware;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Component;
 
 /**
  * <code>PluginManager</code> loads plugins from disk.
  *
+ * <p>When lazy loading is enabled the plugins are not loaded during startup, but instead when they
+ * are first requested.
+ *
  * @author Darryl L. Pierce
  */
 @Component
 @EnableConfigurationProperties
 @Log4j2
-public class PluginManager implements InitializingBean {
+public class PluginManager implements InitializingBean, ApplicationStartupAware {
+  static final String LOAD_PLUGINS_STEP = "comixed.plugins.load";
+
   @Autowired private ObjectFactory<Plugin> pluginObjectFactory;
   @Autowired private FileTypeAdaptor fileTypeAdaptor;
+  @Autowired private PluginCodeCache pluginCodeCache;
 
   @Value("${comixed.plugins.location}")
   String pluginLocation;
 
+  @Value("${comixed.plugins.lazy-load:false}")
+  boolean lazyLoad = false;
+
+  private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+  private volatile boolean loaded = false;
+
   /** the key is the plugin name, the value is a map of a plugin filename to the file's contents */
   Map<String, PluginDescriptor> plugins = new HashMap<>();
 
@@ -62,6 +78,7 @@ public class PluginManager implements InitializingBean {
    */
   public Plugin loadPlugin(String name) throws PluginException {
     log.debug("Loading plugin details");
+    this.doLoadDeferredPlugins();
     PluginDescriptor descriptor = this.plugins.get(name);
     if (descriptor == null) throw new PluginException("no such plugin: " + name);
     return descriptor.getPlugin();
@@ -69,13 +86,41 @@ public class PluginManager implements InitializingBean {
 
   @Override
   public void afterPropertiesSet() throws Exception {
+    if (this.lazyLoad) {
+      log.debug("Deferring loading plugins until first use");
+      return;
+    }
     log.debug("initial loading of plugins");
     this.loadPlugins();
   }
 
-  public void loadPlugins() throws PluginException {
+  @Override
+  public void setApplicationStartup(final ApplicationStartup applicationStartup) {
+    this.applicationStartup = applicationStartup;
+  }
+
+  public synchronized void loadPlugins() throws PluginException {
+    final StartupStep step = this.applicationStartup.start(LOAD_PLUGINS_STEP);
+    try {
+      this.doLoadPlugins();
+    } finally {
+      step.tag("count", String.valueOf(this.plugins.size()));
+      step.end();
+    }
+  }
+
+  private synchronized void doLoadDeferredPlugins() throws PluginException {
+    if (this.lazyLoad && !this.loaded) {
+      log.debug("Loading deferred plugins");
+      this.loadPlugins();
+    }
+  }
+
+  private void doLoadPlugins() throws PluginException {
+    this.loaded = true;
     log.debug("Clearing plugin list");
     this.plugins.clear();
+    this.pluginCodeCache.clear();
     var pluginDirectory = new File(this.pluginLocation);
     if (!pluginDirectory.exists()) {
       log.debug("Plugin directory does not exist: {}", pluginDirectory.getAbsolutePath());
@@ -144,7 +189,8 @@ public class PluginManager implements InitializingBean {
    *
    * @return the plugins
    */
-  public List<PluginDescriptor> getPluginList() {
+  public List<PluginDescriptor> getPluginList() throws PluginException {
+    this.doLoadDeferredPlugins();
     log.debug("Returning the list of plugins");
     List<PluginDescriptor> result = new ArrayList<>();
     for (PluginDescriptor value : this.plugins.values()) {
@@ -31,6 +31,9 @@ public abstract class AbstractPluginInterpreter implements PluginInterpreter {
   @Override
   public void initialize() throws PluginException {}
 
+  @Override
+  public void setVariable(String name, Object value) throws PluginException {}
+
   @Override
   public void start(Plugin plugin) throws PluginException {}
 
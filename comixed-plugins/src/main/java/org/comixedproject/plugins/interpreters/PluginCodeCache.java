@@ -0,0 +1,79 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.plugins.interpreters;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.adaptors.GenericUtilitiesAdaptor;
+import org.comixedproject.plugins.PluginException;
+import org.comixedproject.plugins.model.Plugin;
+import org.python.core.PyCode;
+import org.python.core.PyException;
+import org.python.util.PythonInterpreter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>PluginCodeCache</code> holds the compiled code for each plugin, keyed by the hash of the
+ * plugin's script, so that a script is only parsed and compiled once no matter how many times or on
+ * how many interpreters it is run.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class PluginCodeCache {
+  @Autowired private GenericUtilitiesAdaptor genericUtilitiesAdaptor;
+
+  final Map<String, PyCode> codeCache = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the compiled code for a plugin, compiling it on the given interpreter if needed.
+   *
+   * @param interpreter the interpreter
+   * @param plugin the plugin
+   * @return the compiled code
+   * @throws PluginException if the script could not be compiled
+   */
+  public PyCode getCode(final PythonInterpreter interpreter, final Plugin plugin)
+      throws PluginException {
+    final byte[] script = plugin.getScript();
+    final String hash = this.genericUtilitiesAdaptor.createHash(script);
+    PyCode result = this.codeCache.get(hash);
+    if (result == null) {
+      log.debug("Compiling plugin: name={} hash={}", plugin.getName(), hash);
+      try {
+        result =
+            interpreter.compile(new String(script, StandardCharsets.UTF_8), plugin.getEntryPoint());
+      } catch (PyException error) {
+        throw new PluginException("failed to compile plugin: " + plugin.getName(), error);
+      }
+      this.codeCache.put(hash, result);
+    }
+    return result;
+  }
+
+  /** Discards all compiled code. */
+  public void clear() {
+    log.debug("Clearing compiled plugin code");
+    this.codeCache.clear();
+  }
+}
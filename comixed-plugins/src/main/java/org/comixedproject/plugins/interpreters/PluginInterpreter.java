@@ -35,6 +35,15 @@ public interface PluginInterpreter {
    */
   void initialize() throws PluginException;
 
+  /**
+   * Invoked after initialization to make a value available to the plugin by name.
+   *
+   * @param name the variable name
+   * @param value the value
+   * @throws PluginException if an error occurs
+   */
+  void setVariable(String name, Object value) throws PluginException;
+
   /**
    * Invoked to begin execution of the plugin.
    *
@@ -26,7 +26,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
-import org.comixedproject.plugins.runners.PluginRunner;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -49,7 +48,6 @@ import org.springframework.util.StringUtils;
 @Log4j2
 public class PluginInterpreterLoader implements InitializingBean {
   @Autowired private ApplicationContext context;
-  @Autowired private PluginRunner pluginRunner;
 
   private List<PluginInterpreterEntry> runtimes = new ArrayList<>();
   private Map<String, String> interpreters = new HashMap<>();
@@ -102,7 +100,7 @@ public class PluginInterpreterLoader implements InitializingBean {
   public PluginInterpreter getLanguage(String language) {
     log.debug("Retrieving interpreter: language={}", language);
     log.debug("Returning instance");
-    return (PluginInterpreter) this.context.getBean(language);
+    return (PluginInterpreter) this.context.getBean(this.interpreters.get(language));
   }
 
   @NoArgsConstructor
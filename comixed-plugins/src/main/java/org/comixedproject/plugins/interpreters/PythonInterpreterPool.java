@@ -0,0 +1,147 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.plugins.interpreters;
+
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.plugins.PluginException;
+import org.python.core.PyString;
+import org.python.core.PyStringMap;
+import org.python.util.PythonInterpreter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>PythonInterpreterPool</code> maintains a bounded pool of {@link PythonInterpreter}
+ * instances. Creating an interpreter is expensive and an interpreter cannot be shared between
+ * threads, so each plugin run borrows one for its exclusive use and returns it afterward with its
+ * namespace reset, keeping the interpreter warm for the next run.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class PythonInterpreterPool implements InitializingBean, DisposableBean {
+  @Value("${comixed.plugins.python.pool-size:4}")
+  int poolSize = 4;
+
+  @Value("${comixed.plugins.python.warm-size:1}")
+  int warmSize = 1;
+
+  @Value("${comixed.plugins.python.borrow-timeout:30000}")
+  long borrowTimeout = 30000L;
+
+  final Deque<PythonInterpreter> idle = new ConcurrentLinkedDeque<>();
+  Semaphore permits;
+
+  @Override
+  public void afterPropertiesSet() {
+    this.permits = new Semaphore(Math.max(1, this.poolSize), true);
+    if (this.warmSize > 0) {
+      log.debug("Warming Python interpreters in the background: count={}", this.warmSize);
+      CompletableFuture.runAsync(this::doWarmInterpreters);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    log.debug("Closing idle Python interpreters: count={}", this.idle.size());
+    PythonInterpreter interpreter;
+    while ((interpreter = this.idle.pollFirst()) != null) {
+      interpreter.close();
+    }
+  }
+
+  /**
+   * Borrows an interpreter, waiting until one is available if the pool is exhausted.
+   *
+   * @return the interpreter
+   * @throws PluginException if no interpreter could be obtained
+   */
+  public PythonInterpreter borrow() throws PluginException {
+    try {
+      if (!this.permits.tryAcquire(this.borrowTimeout, TimeUnit.MILLISECONDS))
+        throw new PluginException("Timed out waiting for a Python interpreter");
+    } catch (InterruptedException error) {
+      Thread.currentThread().interrupt();
+      throw new PluginException("Interrupted waiting for a Python interpreter", error);
+    }
+    final PythonInterpreter interpreter = this.idle.pollFirst();
+    if (interpreter != null) {
+      log.trace("Reusing idle Python interpreter");
+      return interpreter;
+    }
+    try {
+      return this.createInterpreter();
+    } catch (RuntimeException error) {
+      this.permits.release();
+      throw new PluginException("Failed to create Python interpreter", error);
+    }
+  }
+
+  /**
+   * Returns a borrowed interpreter to the pool. Interpreters that are not reusable, such as after a
+   * failed or interrupted run, are closed instead.
+   *
+   * @param interpreter the interpreter
+   * @param reusable true if the interpreter can be used again
+   */
+  public void release(final PythonInterpreter interpreter, final boolean reusable) {
+    try {
+      if (reusable && this.idle.size() < this.poolSize) {
+        log.trace("Returning Python interpreter to the pool");
+        interpreter.setLocals(this.createLocals());
+        this.idle.addFirst(interpreter);
+      } else {
+        log.trace("Closing Python interpreter");
+        interpreter.close();
+      }
+    } finally {
+      this.permits.release();
+    }
+  }
+
+  PythonInterpreter createInterpreter() {
+    log.debug("Creating Python interpreter");
+    return new PythonInterpreter();
+  }
+
+  private PyStringMap createLocals() {
+    final PyStringMap result = new PyStringMap();
+    result.__setitem__("__name__", new PyString("__main__"));
+    return result;
+  }
+
+  private void doWarmInterpreters() {
+    try {
+      while (this.idle.size() < Math.min(this.warmSize, this.poolSize)) {
+        this.idle.addLast(this.createInterpreter());
+      }
+      log.debug("Python interpreters warmed: count={}", this.idle.size());
+    } catch (RuntimeException error) {
+      log.error("Failed to warm Python interpreters", error);
+    }
+  }
+}
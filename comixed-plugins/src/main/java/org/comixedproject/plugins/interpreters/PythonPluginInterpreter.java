@@ -20,8 +20,10 @@ package org.comixedproject.plugins.interpreters;
 
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.plugins.PluginException;
+import org.comixedproject.plugins.model.Plugin;
 import org.comixedproject.service.comicbooks.ComicBookService;
 import org.comixedproject.service.comicpages.PageService;
+import org.python.core.PyCode;
 import org.python.util.PythonInterpreter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
@@ -32,6 +34,10 @@ import org.springframework.stereotype.Component;
  * <code>PythonPluginInterpreter</code> defines a type of {@link PluginInterpreter} that executes
  * Python code.
  *
+ * <p>The interpreter is borrowed from the {@link PythonInterpreterPool} when initialized and
+ * returned when finished, and the plugin's script is compiled once through the {@link
+ * PluginCodeCache}.
+ *
  * @author Darryl L. Pierce
  */
 @Component
@@ -40,19 +46,52 @@ import org.springframework.stereotype.Component;
 public class PythonPluginInterpreter extends AbstractPluginInterpreter {
   @Autowired private ComicBookService comicBookService;
   @Autowired private PageService pageService;
+  @Autowired private PythonInterpreterPool interpreterPool;
+  @Autowired private PluginCodeCache pluginCodeCache;
 
-  private PythonInterpreter interpreter;
+  PythonInterpreter interpreter;
+  boolean reusable = true;
 
   @Override
   public void initialize() throws PluginException {
     super.initialize();
 
     log.debug("Initializing Python runtime environment");
-    this.interpreter = new PythonInterpreter();
+    this.interpreter = this.interpreterPool.borrow();
+    this.reusable = true;
 
     this.loadRuntimeObjects();
   }
 
+  @Override
+  public void setVariable(final String name, final Object value) {
+    log.trace("Setting Python variable: {}", name);
+    this.interpreter.set(name, value);
+  }
+
+  @Override
+  public void start(final Plugin plugin) throws PluginException {
+    final PyCode code = this.pluginCodeCache.getCode(this.interpreter, plugin);
+    log.debug("Executing plugin: {}", plugin.getName());
+    try {
+      this.interpreter.exec(code);
+    } catch (RuntimeException error) {
+      this.reusable = false;
+      throw new PluginException("plugin failed: " + plugin.getName(), error);
+    }
+  }
+
+  @Override
+  public void finish() throws PluginException {
+    if (this.interpreter != null) {
+      log.debug("Releasing Python runtime environment");
+      this.interpreterPool.release(
+          this.interpreter, this.reusable && !Thread.currentThread().isInterrupted());
+      this.interpreter = null;
+    }
+    super.finish();
+  }
+
   private void loadRuntimeObjects() {
     log.debug("Loading ComiXed Python runtime objects");
     this.interpreter.set("comicService", this.comicBookService);
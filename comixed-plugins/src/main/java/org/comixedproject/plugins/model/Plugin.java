@@ -46,6 +46,9 @@ public class Plugin {
   public static final String PLUGIN_VERSION = "version";
   public static final String PLUGIN_DESCRIPTION = "description";
   public static final String PLUGIN_AUTHOR = "author";
+  public static final String PLUGIN_ENTRY_POINT = "entry-point";
+  public static final String PLUGIN_TIMEOUT = "timeout";
+  public static final String DEFAULT_ENTRY_POINT = "plugin.py";
 
   @Autowired private PluginInterpreterLoader interpreterLoader;
 
@@ -78,10 +81,37 @@ public class Plugin {
     return this.descriptor.getAuthor();
   }
 
+  public String getEntryPoint() {
+    return this.descriptor.getEntryPoint();
+  }
+
+  /**
+   * Returns the maximum number of seconds a single run of the plugin may take, or null if the
+   * plugin uses the default timeout.
+   *
+   * @return the timeout
+   */
+  public Long getTimeout() {
+    return this.descriptor.getTimeout();
+  }
+
   public Map<String, byte[]> getEntries() {
     return this.descriptor.getEntries();
   }
 
+  /**
+   * Returns the content of the plugin's entry point.
+   *
+   * @return the script
+   * @throws PluginException if the entry point is missing
+   */
+  public byte[] getScript() throws PluginException {
+    final byte[] result = this.getEntries().get(this.getEntryPoint());
+    if (result == null)
+      throw new PluginException("plugin entry point not found: " + this.getEntryPoint());
+    return result;
+  }
+
   /**
    * Sets the file entries for the plugin.
    *
@@ -114,6 +144,16 @@ public class Plugin {
     this.descriptor.setDescription(
         (String) properties.getOrDefault(PLUGIN_DESCRIPTION, "No description"));
     this.descriptor.setAuthor((String) properties.getOrDefault(PLUGIN_AUTHOR, "anonymous"));
+    this.descriptor.setEntryPoint(
+        (String) properties.getOrDefault(PLUGIN_ENTRY_POINT, DEFAULT_ENTRY_POINT));
+    String timeout = (String) properties.get(PLUGIN_TIMEOUT);
+    if (!StringUtils.isEmpty(timeout)) {
+      try {
+        this.descriptor.setTimeout(Long.parseLong(timeout.trim()));
+      } catch (NumberFormatException error) {
+        throw new PluginException("invalid plugin timeout: " + timeout, error);
+      }
+    }
   }
 
   /**
@@ -67,5 +67,8 @@ public class PluginDescriptor {
   @JsonView(View.PluginList.class)
   private String description;
 
+  @Getter @Setter private String entryPoint;
+  @Getter @Setter private Long timeout;
+
   @Getter @Setter private Map<String, byte[]> entries = new HashMap<>();
 }
@@ -18,39 +18,262 @@
 
 package org.comixedproject.plugins.runners;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.plugins.PluginException;
 import org.comixedproject.plugins.interpreters.PluginInterpreter;
+import org.comixedproject.plugins.interpreters.PluginInterpreterLoader;
 import org.comixedproject.plugins.model.Plugin;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 /**
  * <code>PluginRunner</code> provides a component that can execute Python code from within the
  * context of a ComiXed application.
  *
- * <p>It runs the code by spawning a new instance of the interpreter for each set of code to be
- * executed. This is done to keep allow each plugin to run in its own pristine environment.
+ * <p>Plugins are run on a bounded pool of threads, so several runs can proceed in parallel. Each
+ * run gets its own interpreter for the length of the run, and is abandoned if it takes longer than
+ * the plugin's timeout. A timeout of zero or less lets the plugin run until it finishes. The wall
+ * and CPU time used by each plugin are recorded as metrics.
  *
  * @author Darryl L. Pierce
  */
 @Component
 @Log4j2
-public class PluginRunner {
+public class PluginRunner implements InitializingBean, DisposableBean {
+  static final String PLUGIN_RUN_METRIC = "comixed.plugins.run";
+  static final String PLUGIN_CPU_METRIC = "comixed.plugins.cpu-time";
+  static final String PLUGIN_TIMEOUT_METRIC = "comixed.plugins.timeouts";
+
+  @Autowired private PluginInterpreterLoader pluginInterpreterLoader;
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+  @Autowired(required = false)
+  private PlatformTransactionManager transactionManager;
+
+  @Value("${comixed.plugins.threads:4}")
+  int threadCount = 4;
+
+  @Value("${comixed.plugins.timeout:60}")
+  long defaultTimeout = 60L;
+
+  private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+  ExecutorService executor;
+
+  @Override
+  public void afterPropertiesSet() {
+    this.executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, this.threadCount), new CustomizableThreadFactory("CX-Plugin-"));
+  }
+
+  @Override
+  public void destroy() {
+    log.debug("Stopping plugin runner");
+    this.executor.shutdownNow();
+  }
+
+  /**
+   * Runs a plugin once and waits for it to finish.
+   *
+   * @param plugin the plugin
+   * @param variables the variables to pass to the plugin
+   * @throws PluginException if the plugin fails or times out
+   */
+  public void execute(final Plugin plugin, final Map<String, Object> variables)
+      throws PluginException {
+    this.doWaitFor(plugin, this.doSubmit(plugin, () -> variables, false));
+  }
+
   /**
-   * Starts the execution of a plugin.
+   * Runs a plugin once for each item, in parallel, and waits for all of the runs to finish. A
+   * failed run does not stop the others.
+   *
+   * <p>The variables for each run are created on the plugin's thread, inside a read-only
+   * transaction that lasts for the whole run, so any entities loaded for the run remain attached
+   * while the plugin uses them. A run whose variables are null is skipped.
    *
-   * @param interpreter the interpreter for the plugin
    * @param plugin the plugin
-   * @throws PluginException if an error occurs
+   * @param items the items to run the plugin for
+   * @param variables creates the variables for an item
+   * @return the number of runs that failed
+   * @param <T> the item type
    */
-  public void execute(PluginInterpreter interpreter, Plugin plugin) throws PluginException {
-    log.debug("invoking interpreter lifecycle method: initialize()");
-    interpreter.initialize();
+  public <T> int executeAll(
+      final Plugin plugin, final List<T> items, final Function<T, Map<String, Object>> variables) {
+    log.debug("Running plugin: name={} runs={}", plugin.getName(), items.size());
+    final List<PluginRun> runs = new ArrayList<>();
+    items.forEach(item -> runs.add(this.doSubmit(plugin, () -> variables.apply(item), true)));
+    int failed = 0;
+    for (PluginRun run : runs) {
+      try {
+        this.doWaitFor(plugin, run);
+      } catch (PluginException error) {
+        log.error("Plugin run failed: " + plugin.getName(), error);
+        failed++;
+      }
+    }
+    return failed;
+  }
+
+  private PluginRun doSubmit(
+      final Plugin plugin,
+      final Supplier<Map<String, Object>> variables,
+      final boolean transacted) {
+    final PluginRun result = new PluginRun();
+    result.future =
+        this.executor.submit(
+            () ->
+                transacted
+                    ? this.doRunInTransaction(plugin, variables, result)
+                    : this.doRun(plugin, variables, result));
+    return result;
+  }
+
+  private Void doRunInTransaction(
+      final Plugin plugin, final Supplier<Map<String, Object>> variables, final PluginRun run)
+      throws PluginException {
+    if (Objects.isNull(this.transactionManager)) return this.doRun(plugin, variables, run);
+    final DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+    definition.setReadOnly(true);
+    final TransactionStatus status = this.transactionManager.getTransaction(definition);
+    boolean finished = false;
+    try {
+      this.doRun(plugin, variables, run);
+      finished = true;
+    } finally {
+      if (finished) {
+        this.transactionManager.commit(status);
+      } else {
+        this.transactionManager.rollback(status);
+      }
+    }
+    return null;
+  }
+
+  private Void doRun(
+      final Plugin plugin, final Supplier<Map<String, Object>> variables, final PluginRun run)
+      throws PluginException {
+    run.started = System.nanoTime();
+    final long cpuStarted = this.getCpuTime();
+    String outcome = "failure";
+    final PluginInterpreter interpreter =
+        this.pluginInterpreterLoader.getLanguage(plugin.getLanguage());
+    final Map<String, Object> values = variables.get();
+    if (Objects.isNull(values)) {
+      log.debug("No variables for plugin run, skipping: {}", plugin.getName());
+      return null;
+    }
+    try {
+      log.debug("invoking interpreter lifecycle method: initialize()");
+      interpreter.initialize();
 
-    log.debug("invoking interpreter lifecycle method: start()");
-    interpreter.start(plugin);
+      for (Map.Entry<String, Object> variable : values.entrySet()) {
+        interpreter.setVariable(variable.getKey(), variable.getValue());
+      }
+
+      log.debug("invoking interpreter lifecycle method: start()");
+      interpreter.start(plugin);
+      outcome = "success";
+    } finally {
+      log.debug("invoking interpreter lifecycle method: finish()");
+      interpreter.finish();
+      Timer.builder(PLUGIN_RUN_METRIC)
+          .description("Plugin run time")
+          .tag("plugin", plugin.getName())
+          .tag("result", outcome)
+          .register(this.meterRegistry)
+          .record(System.nanoTime() - run.started, TimeUnit.NANOSECONDS);
+      if (cpuStarted >= 0L) {
+        Timer.builder(PLUGIN_CPU_METRIC)
+            .description("Plugin CPU time")
+            .tag("plugin", plugin.getName())
+            .register(this.meterRegistry)
+            .record(this.getCpuTime() - cpuStarted, TimeUnit.NANOSECONDS);
+      }
+    }
+    return null;
+  }
+
+  private void doWaitFor(final Plugin plugin, final PluginRun run) throws PluginException {
+    final long timeout =
+        TimeUnit.SECONDS.toNanos(
+            Objects.nonNull(plugin.getTimeout()) ? plugin.getTimeout() : this.defaultTimeout);
+    try {
+      if (timeout <= 0L) {
+        log.trace("Waiting for plugin without a timeout: {}", plugin.getName());
+        run.future.get();
+        return;
+      }
+      while (true) {
+        final long started = run.started;
+        final long remaining = started == 0L ? timeout : started + timeout - System.nanoTime();
+        if (started != 0L && remaining <= 0L) {
+          this.doAbandon(plugin, run);
+        }
+        try {
+          run.future.get(Math.max(remaining, 1L), TimeUnit.NANOSECONDS);
+          return;
+        } catch (TimeoutException error) {
+          log.trace("Still waiting for plugin: {}", plugin.getName());
+        }
+      }
+    } catch (ExecutionException error) {
+      if (error.getCause() instanceof PluginException) throw (PluginException) error.getCause();
+      throw new PluginException("plugin failed: " + plugin.getName(), error.getCause());
+    } catch (InterruptedException error) {
+      Thread.currentThread().interrupt();
+      run.future.cancel(true);
+      throw new PluginException("interrupted waiting for plugin: " + plugin.getName(), error);
+    }
+  }
+
+  private void doAbandon(final Plugin plugin, final PluginRun run) throws PluginException {
+    log.warn("Plugin timed out: {}", plugin.getName());
+    run.future.cancel(true);
+    Counter.builder(PLUGIN_TIMEOUT_METRIC)
+        .description("Plugin runs that timed out")
+        .tag("plugin", plugin.getName())
+        .register(this.meterRegistry)
+        .increment();
+    throw new PluginException("plugin timed out: " + plugin.getName());
+  }
+
+  private long getCpuTime() {
+    return this.threadMXBean.isCurrentThreadCpuTimeSupported()
+        ? this.threadMXBean.getCurrentThreadCpuTime()
+        : -1L;
+  }
 
-    log.debug("invoking interpreter lifecycle method: finish()");
-    interpreter.finish();
+  /** Tracks a single submitted run of a plugin. */
+  static class PluginRun {
+    volatile long started = 0L;
+    Future<Void> future;
   }
 }
@@ -24,6 +24,7 @@ import java.io.File;
 import java.io.InputStream;
 import java.util.List;
 import org.comixedproject.adaptors.file.FileTypeAdaptor;
+import org.comixedproject.plugins.interpreters.PluginCodeCache;
 import org.comixedproject.plugins.model.Plugin;
 import org.comixedproject.plugins.model.PluginDescriptor;
 import org.junit.Test;
@@ -42,6 +43,7 @@ public class PluginManagerTest {
   @Mock private ObjectFactory<Plugin> pluginObjectFactory;
   @Mock private Plugin plugin;
   @Mock private FileTypeAdaptor fileTypeAdaptor;
+  @Mock private PluginCodeCache pluginCodeCache;
   @Captor private ArgumentCaptor<InputStream> inputStreamArgumentCaptor;
   @Mock private PluginDescriptor pluginDescriptor;
 
@@ -99,12 +101,44 @@ public class PluginManagerTest {
     assertFalse(pluginManager.plugins.isEmpty());
     assertTrue(pluginManager.plugins.containsKey(TEST_PLUGIN_NAME));
 
+    Mockito.verify(pluginCodeCache, Mockito.times(1)).clear();
+
     Mockito.verify(fileTypeAdaptor, Mockito.times(1))
         .getSubtype(inputStreamArgumentCaptor.getValue());
   }
 
   @Test
-  public void testGetPluginList() {
+  public void testAfterPropertiesSetLazyLoad() throws Exception {
+    pluginManager.lazyLoad = true;
+    pluginManager.pluginLocation = TEST_EXAMPLE_PLUGIN_FILE;
+
+    pluginManager.afterPropertiesSet();
+
+    Mockito.verify(pluginCodeCache, Mockito.never()).clear();
+  }
+
+  @Test
+  public void testGetPluginListLoadsDeferredPlugins() throws PluginException {
+    pluginManager.lazyLoad = true;
+    pluginManager.pluginLocation =
+        new File(TEST_EXAMPLE_PLUGIN_FILE).getParentFile().getAbsolutePath();
+
+    Mockito.when(fileTypeAdaptor.getSubtype(inputStreamArgumentCaptor.capture())).thenReturn("zip");
+    Mockito.when(pluginObjectFactory.getObject()).thenReturn(plugin);
+    Mockito.when(plugin.getName()).thenReturn(TEST_PLUGIN_NAME);
+    Mockito.when(plugin.getDescriptor()).thenReturn(pluginDescriptor);
+
+    pluginManager.getPluginList();
+    final List<PluginDescriptor> result = pluginManager.getPluginList();
+
+    assertEquals(1, result.size());
+    assertSame(pluginDescriptor, result.get(0));
+
+    Mockito.verify(pluginCodeCache, Mockito.times(1)).clear();
+  }
+
+  @Test
+  public void testGetPluginList() throws PluginException {
     for (int index = 0; index < 25; index++)
       pluginManager.plugins.put(TEST_PLUGIN_NAME + index, pluginDescriptor);
 
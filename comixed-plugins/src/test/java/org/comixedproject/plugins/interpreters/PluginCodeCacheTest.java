@@ -0,0 +1,90 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.plugins.interpreters;
+
+import static junit.framework.TestCase.*;
+
+import org.comixedproject.adaptors.GenericUtilitiesAdaptor;
+import org.comixedproject.plugins.PluginException;
+import org.comixedproject.plugins.model.Plugin;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.python.core.PyCode;
+import org.python.core.PyException;
+import org.python.util.PythonInterpreter;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PluginCodeCacheTest {
+  private static final byte[] TEST_SCRIPT = "print('Hello')".getBytes();
+  private static final String TEST_SCRIPT_HASH = "0123456789ABCDEF0123456789ABCDEF";
+  private static final String TEST_ENTRY_POINT = "plugin.py";
+  private static final String TEST_PLUGIN_NAME = "Test Plugin";
+
+  @InjectMocks private PluginCodeCache pluginCodeCache;
+  @Mock private GenericUtilitiesAdaptor genericUtilitiesAdaptor;
+  @Mock private PythonInterpreter interpreter;
+  @Mock private Plugin plugin;
+  @Mock private PyCode code;
+
+  @Before
+  public void setUp() throws PluginException {
+    Mockito.when(plugin.getScript()).thenReturn(TEST_SCRIPT);
+    Mockito.when(plugin.getName()).thenReturn(TEST_PLUGIN_NAME);
+    Mockito.when(genericUtilitiesAdaptor.createHash(TEST_SCRIPT)).thenReturn(TEST_SCRIPT_HASH);
+  }
+
+  @Test(expected = PluginException.class)
+  public void testGetCodeCompileFails() throws PluginException {
+    Mockito.when(plugin.getEntryPoint()).thenReturn(TEST_ENTRY_POINT);
+    Mockito.when(interpreter.compile(Mockito.anyString(), Mockito.anyString()))
+        .thenThrow(PyException.class);
+
+    try {
+      pluginCodeCache.getCode(interpreter, plugin);
+    } finally {
+      assertTrue(pluginCodeCache.codeCache.isEmpty());
+    }
+  }
+
+  @Test
+  public void testGetCodeCompilesOnce() throws PluginException {
+    Mockito.when(plugin.getEntryPoint()).thenReturn(TEST_ENTRY_POINT);
+    Mockito.when(interpreter.compile(Mockito.anyString(), Mockito.anyString())).thenReturn(code);
+
+    for (int index = 0; index < 5; index++) {
+      assertSame(code, pluginCodeCache.getCode(interpreter, plugin));
+    }
+
+    Mockito.verify(interpreter, Mockito.times(1)).compile("print('Hello')", TEST_ENTRY_POINT);
+  }
+
+  @Test
+  public void testClear() throws PluginException {
+    pluginCodeCache.codeCache.put(TEST_SCRIPT_HASH, code);
+
+    pluginCodeCache.clear();
+
+    assertTrue(pluginCodeCache.codeCache.isEmpty());
+  }
+}
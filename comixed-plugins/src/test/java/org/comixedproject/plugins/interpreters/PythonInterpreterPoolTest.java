@@ -0,0 +1,126 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.plugins.interpreters;
+
+import static junit.framework.TestCase.*;
+
+import org.comixedproject.plugins.PluginException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.python.core.PyStringMap;
+import org.python.util.PythonInterpreter;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PythonInterpreterPoolTest {
+  private static final int TEST_POOL_SIZE = 2;
+
+  @Spy private PythonInterpreterPool pool;
+  @Mock private PythonInterpreter interpreter;
+  @Mock private PythonInterpreter otherInterpreter;
+
+  @Before
+  public void setUp() {
+    pool.poolSize = TEST_POOL_SIZE;
+    pool.warmSize = 0;
+    pool.borrowTimeout = 10L;
+    pool.afterPropertiesSet();
+
+    Mockito.doReturn(interpreter, otherInterpreter).when(pool).createInterpreter();
+  }
+
+  @After
+  public void tearDown() {
+    pool.destroy();
+  }
+
+  @Test
+  public void testBorrowCreatesInterpreter() throws PluginException {
+    final PythonInterpreter result = pool.borrow();
+
+    assertSame(interpreter, result);
+
+    Mockito.verify(pool, Mockito.times(1)).createInterpreter();
+  }
+
+  @Test
+  public void testBorrowReusesReleasedInterpreter() throws PluginException {
+    pool.release(pool.borrow(), true);
+
+    final PythonInterpreter result = pool.borrow();
+
+    assertSame(interpreter, result);
+
+    Mockito.verify(pool, Mockito.times(1)).createInterpreter();
+    Mockito.verify(interpreter, Mockito.times(1)).setLocals(Mockito.any(PyStringMap.class));
+  }
+
+  @Test
+  public void testReleaseNotReusable() throws PluginException {
+    pool.release(pool.borrow(), false);
+
+    assertTrue(pool.idle.isEmpty());
+
+    Mockito.verify(interpreter, Mockito.times(1)).close();
+  }
+
+  @Test(expected = PluginException.class)
+  public void testBorrowPoolExhausted() throws PluginException {
+    pool.borrow();
+    pool.borrow();
+
+    pool.borrow();
+  }
+
+  @Test
+  public void testBorrowAfterReleaseWhenExhausted() throws PluginException {
+    final PythonInterpreter first = pool.borrow();
+    pool.borrow();
+    pool.release(first, true);
+
+    assertSame(first, pool.borrow());
+  }
+
+  @Test(expected = PluginException.class)
+  public void testBorrowCreateFails() throws PluginException {
+    Mockito.doThrow(RuntimeException.class).when(pool).createInterpreter();
+
+    try {
+      pool.borrow();
+    } finally {
+      assertEquals(TEST_POOL_SIZE, pool.permits.availablePermits());
+    }
+  }
+
+  @Test
+  public void testDestroy() throws PluginException {
+    pool.release(pool.borrow(), true);
+
+    pool.destroy();
+
+    assertTrue(pool.idle.isEmpty());
+
+    Mockito.verify(interpreter, Mockito.times(1)).close();
+  }
+}
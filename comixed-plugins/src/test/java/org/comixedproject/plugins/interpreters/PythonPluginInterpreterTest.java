@@ -0,0 +1,112 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.plugins.interpreters;
+
+import static junit.framework.TestCase.*;
+
+import org.comixedproject.plugins.PluginException;
+import org.comixedproject.plugins.model.Plugin;
+import org.comixedproject.service.comicbooks.ComicBookService;
+import org.comixedproject.service.comicpages.PageService;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.python.core.PyCode;
+import org.python.core.PyException;
+import org.python.util.PythonInterpreter;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PythonPluginInterpreterTest {
+  private static final String TEST_VARIABLE_NAME = "comic";
+  private static final Object TEST_VARIABLE_VALUE = "The variable value";
+
+  @InjectMocks private PythonPluginInterpreter pluginInterpreter;
+  @Mock private ComicBookService comicBookService;
+  @Mock private PageService pageService;
+  @Mock private PythonInterpreterPool interpreterPool;
+  @Mock private PluginCodeCache pluginCodeCache;
+  @Mock private PythonInterpreter interpreter;
+  @Mock private Plugin plugin;
+  @Mock private PyCode code;
+
+  @Test
+  public void testInitialize() throws PluginException {
+    Mockito.when(interpreterPool.borrow()).thenReturn(interpreter);
+    pluginInterpreter.initialize();
+
+    assertSame(interpreter, pluginInterpreter.interpreter);
+
+    Mockito.verify(interpreter, Mockito.times(1)).set("comicService", comicBookService);
+    Mockito.verify(interpreter, Mockito.times(1)).set("pageService", pageService);
+  }
+
+  @Test
+  public void testSetVariable() throws PluginException {
+    Mockito.when(interpreterPool.borrow()).thenReturn(interpreter);
+    pluginInterpreter.initialize();
+
+    pluginInterpreter.setVariable(TEST_VARIABLE_NAME, TEST_VARIABLE_VALUE);
+
+    Mockito.verify(interpreter, Mockito.times(1)).set(TEST_VARIABLE_NAME, TEST_VARIABLE_VALUE);
+  }
+
+  @Test
+  public void testStartAndFinish() throws PluginException {
+    Mockito.when(interpreterPool.borrow()).thenReturn(interpreter);
+    Mockito.when(pluginCodeCache.getCode(interpreter, plugin)).thenReturn(code);
+
+    pluginInterpreter.initialize();
+    pluginInterpreter.start(plugin);
+    pluginInterpreter.finish();
+
+    assertNull(pluginInterpreter.interpreter);
+
+    Mockito.verify(interpreter, Mockito.times(1)).exec(code);
+    Mockito.verify(interpreterPool, Mockito.times(1)).release(interpreter, true);
+  }
+
+  @Test(expected = PluginException.class)
+  public void testStartPluginFails() throws PluginException {
+    Mockito.when(interpreterPool.borrow()).thenReturn(interpreter);
+    Mockito.when(pluginCodeCache.getCode(interpreter, plugin)).thenReturn(code);
+    Mockito.doThrow(PyException.class).when(interpreter).exec(code);
+
+    pluginInterpreter.initialize();
+    try {
+      pluginInterpreter.start(plugin);
+    } finally {
+      pluginInterpreter.finish();
+
+      Mockito.verify(interpreterPool, Mockito.times(1)).release(interpreter, false);
+    }
+  }
+
+  @Test
+  public void testFinishWithoutInitialize() throws PluginException {
+    pluginInterpreter.interpreter = null;
+
+    pluginInterpreter.finish();
+
+    Mockito.verify(interpreterPool, Mockito.never())
+        .release(Mockito.any(PythonInterpreter.class), Mockito.anyBoolean());
+  }
+}
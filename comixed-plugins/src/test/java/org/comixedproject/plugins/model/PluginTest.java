@@ -1,6 +1,7 @@
 package org.comixedproject.plugins.model;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertSame;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -25,6 +26,9 @@ public class PluginTest {
   private static final String TEST_PLUGIN_VERSION = "1.2.3";
   private static final String TEST_AUTHOR_NAME = "Jim Lahey";
   private static final String TEST_DESCRIPTION = "My awesome testing plugin";
+  private static final String TEST_ENTRY_POINT = "main.py";
+  private static final long TEST_TIMEOUT = 90L;
+  private static final byte[] TEST_SCRIPT = "print('Hello')".getBytes();
 
   private static final Map<String, byte[]> TEST_PLUGIN_ENTRIES = new HashMap<>();
 
@@ -36,8 +40,11 @@ public class PluginTest {
                 + (Plugin.PLUGIN_NAME + ": " + TEST_PLUGIN_NAME + "\n")
                 + (Plugin.PLUGIN_VERSION + ":" + TEST_PLUGIN_VERSION + "\n")
                 + (Plugin.PLUGIN_AUTHOR + ":" + TEST_AUTHOR_NAME + "\n")
-                + (Plugin.PLUGIN_DESCRIPTION + ":" + TEST_DESCRIPTION + "\n"))
+                + (Plugin.PLUGIN_DESCRIPTION + ":" + TEST_DESCRIPTION + "\n")
+                + (Plugin.PLUGIN_ENTRY_POINT + ":" + TEST_ENTRY_POINT + "\n")
+                + (Plugin.PLUGIN_TIMEOUT + ":" + TEST_TIMEOUT + "\n"))
             .getBytes());
+    TEST_PLUGIN_ENTRIES.put(TEST_ENTRY_POINT, TEST_SCRIPT);
   }
 
   @Test
@@ -51,7 +58,29 @@ public class PluginTest {
     assertEquals(TEST_PLUGIN_VERSION, plugin.getVersion());
     assertEquals(TEST_AUTHOR_NAME, plugin.getAuthor());
     assertEquals(TEST_DESCRIPTION, plugin.getDescription());
+    assertEquals(TEST_ENTRY_POINT, plugin.getEntryPoint());
+    assertEquals(Long.valueOf(TEST_TIMEOUT), plugin.getTimeout());
 
     Mockito.verify(interpreterLoader, Mockito.times(1)).hasLanguage(TEST_PLUGIN_LANGUAGE);
   }
+
+  @Test
+  public void testGetScript() throws PluginException {
+    Mockito.when(interpreterLoader.hasLanguage(Mockito.anyString())).thenReturn(true);
+
+    plugin.setEntries(TEST_PLUGIN_ENTRIES);
+
+    assertSame(TEST_SCRIPT, plugin.getScript());
+  }
+
+  @Test(expected = PluginException.class)
+  public void testGetScriptMissingEntryPoint() throws PluginException {
+    Mockito.when(interpreterLoader.hasLanguage(Mockito.anyString())).thenReturn(true);
+    final Map<String, byte[]> entries = new HashMap<>();
+    entries.put(Plugin.MANIFEST_FILENAME, TEST_PLUGIN_ENTRIES.get(Plugin.MANIFEST_FILENAME));
+
+    plugin.setEntries(entries);
+
+    plugin.getScript();
+  }
 }
@@ -0,0 +1,216 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.plugins.runners;
+
+import static junit.framework.TestCase.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.comixedproject.plugins.PluginException;
+import org.comixedproject.plugins.interpreters.PluginInterpreter;
+import org.comixedproject.plugins.interpreters.PluginInterpreterLoader;
+import org.comixedproject.plugins.model.Plugin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PluginRunnerTest {
+  private static final String TEST_PLUGIN_NAME = "Test Plugin";
+  private static final String TEST_PLUGIN_LANGUAGE = "python";
+  private static final String TEST_VARIABLE_NAME = "comic";
+  private static final Object TEST_VARIABLE_VALUE = "The variable value";
+
+  @InjectMocks private PluginRunner pluginRunner;
+  @Mock private PluginInterpreterLoader pluginInterpreterLoader;
+  @Mock private PluginInterpreter pluginInterpreter;
+  @Mock private Plugin plugin;
+  @Mock private PlatformTransactionManager transactionManager;
+  @Mock private TransactionStatus transactionStatus;
+
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Before
+  public void setUp() {
+    ReflectionTestUtils.setField(pluginRunner, "meterRegistry", meterRegistry);
+    pluginRunner.threadCount = 2;
+    pluginRunner.afterPropertiesSet();
+
+    Mockito.when(plugin.getName()).thenReturn(TEST_PLUGIN_NAME);
+    Mockito.when(plugin.getLanguage()).thenReturn(TEST_PLUGIN_LANGUAGE);
+    Mockito.when(plugin.getTimeout()).thenReturn(null);
+    Mockito.when(pluginInterpreterLoader.getLanguage(Mockito.anyString()))
+        .thenReturn(pluginInterpreter);
+  }
+
+  @After
+  public void tearDown() {
+    pluginRunner.destroy();
+  }
+
+  @Test
+  public void testExecute() throws PluginException {
+    pluginRunner.execute(plugin, Map.of(TEST_VARIABLE_NAME, TEST_VARIABLE_VALUE));
+
+    assertEquals(
+        1L,
+        meterRegistry
+            .get(PluginRunner.PLUGIN_RUN_METRIC)
+            .tag("plugin", TEST_PLUGIN_NAME)
+            .tag("result", "success")
+            .timer()
+            .count());
+
+    final var inOrder = Mockito.inOrder(pluginInterpreter);
+    inOrder.verify(pluginInterpreter).initialize();
+    inOrder.verify(pluginInterpreter).setVariable(TEST_VARIABLE_NAME, TEST_VARIABLE_VALUE);
+    inOrder.verify(pluginInterpreter).start(plugin);
+    inOrder.verify(pluginInterpreter).finish();
+    Mockito.verify(pluginInterpreterLoader, Mockito.times(1)).getLanguage(TEST_PLUGIN_LANGUAGE);
+  }
+
+  @Test(expected = PluginException.class)
+  public void testExecuteFails() throws PluginException {
+    Mockito.doThrow(PluginException.class).when(pluginInterpreter).start(plugin);
+
+    try {
+      pluginRunner.execute(plugin, Map.of());
+    } finally {
+      assertEquals(
+          1L,
+          meterRegistry
+              .get(PluginRunner.PLUGIN_RUN_METRIC)
+              .tag("result", "failure")
+              .timer()
+              .count());
+      Mockito.verify(pluginInterpreter, Mockito.times(1)).finish();
+    }
+  }
+
+  @Test(expected = PluginException.class)
+  public void testExecuteTimesOut() throws PluginException {
+    Mockito.when(plugin.getTimeout()).thenReturn(1L);
+    Mockito.doAnswer(
+            invocation -> {
+              Thread.sleep(5000L);
+              return null;
+            })
+        .when(pluginInterpreter)
+        .start(plugin);
+
+    try {
+      pluginRunner.execute(plugin, Map.of());
+    } finally {
+      assertEquals(
+          1.0,
+          meterRegistry
+              .get(PluginRunner.PLUGIN_TIMEOUT_METRIC)
+              .tag("plugin", TEST_PLUGIN_NAME)
+              .counter()
+              .count());
+    }
+  }
+
+  @Test
+  public void testExecuteWithoutTimeout() throws PluginException {
+    Mockito.when(plugin.getTimeout()).thenReturn(0L);
+    pluginRunner.defaultTimeout = 1L;
+    Mockito.doAnswer(
+            invocation -> {
+              Thread.sleep(1500L);
+              return null;
+            })
+        .when(pluginInterpreter)
+        .start(plugin);
+
+    pluginRunner.execute(plugin, Map.of());
+
+    Mockito.verify(pluginInterpreter, Mockito.times(1)).finish();
+  }
+
+  @Test
+  public void testExecuteAll() throws PluginException {
+    Mockito.when(transactionManager.getTransaction(Mockito.any(TransactionDefinition.class)))
+        .thenReturn(transactionStatus);
+
+    Mockito.doNothing()
+        .doThrow(PluginException.class)
+        .doNothing()
+        .when(pluginInterpreter)
+        .start(plugin);
+
+    final int result =
+        pluginRunner.executeAll(
+            plugin, List.of(1, 2, 3), value -> Map.of(TEST_VARIABLE_NAME, value));
+
+    assertEquals(1, result);
+
+    Mockito.verify(pluginInterpreter, Mockito.times(3)).start(plugin);
+    Mockito.verify(pluginInterpreter, Mockito.times(3)).finish();
+    Mockito.verify(transactionManager, Mockito.times(3))
+        .getTransaction(Mockito.any(TransactionDefinition.class));
+    Mockito.verify(transactionManager, Mockito.times(2)).commit(transactionStatus);
+    Mockito.verify(transactionManager, Mockito.times(1)).rollback(transactionStatus);
+  }
+
+  @Test
+  public void testExecuteAllLoadsVariablesOnPluginThread() throws PluginException {
+    Mockito.when(transactionManager.getTransaction(Mockito.any(TransactionDefinition.class)))
+        .thenReturn(transactionStatus);
+
+    final List<String> threadNames = new CopyOnWriteArrayList<>();
+
+    pluginRunner.executeAll(
+        plugin,
+        List.of(1),
+        value -> {
+          threadNames.add(Thread.currentThread().getName());
+          return Map.of(TEST_VARIABLE_NAME, value);
+        });
+
+    assertEquals(1, threadNames.size());
+    assertTrue(threadNames.get(0).startsWith("CX-Plugin-"));
+
+    Mockito.verify(pluginInterpreter, Mockito.times(1)).setVariable(TEST_VARIABLE_NAME, 1);
+  }
+
+  @Test
+  public void testExecuteAllSkipsRunWithoutVariables() throws PluginException {
+    Mockito.when(transactionManager.getTransaction(Mockito.any(TransactionDefinition.class)))
+        .thenReturn(transactionStatus);
+
+    final int result = pluginRunner.executeAll(plugin, List.of(1), value -> null);
+
+    assertEquals(0, result);
+
+    Mockito.verify(pluginInterpreter, Mockito.never()).start(plugin);
+    Mockito.verify(transactionManager, Mockito.times(1)).commit(transactionStatus);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.repositories.comicbooks;
+
+import java.util.List;
+import org.comixedproject.model.comicbooks.ComicBook;
+
+/**
+ * <code>ComicBookKeysetRepository</code> streams the comic books in a {@link ComicBookSelection} in
+ * ascending id order. The ids are read in pages that start after the last id of the previous page
+ * and stop at the highest id that matched when the read began, and the comic books are then loaded
+ * by id with their details and pages in a single query.
+ *
+ * @author Darryl L. Pierce
+ */
+public interface ComicBookKeysetRepository {
+  /**
+   * Returns the highest id of the comic books in a selection.
+   *
+   * @param selection the selection
+   * @return the id, or null if no comics are selected
+   */
+  Long findMaxIdForSelection(ComicBookSelection selection);
+
+  /**
+   * Returns the next page of ids for the comic books in a selection, in ascending order.
+   *
+   * @param selection the selection
+   * @param lastId the last id of the previous page
+   * @param maxId the highest id to return
+   * @param count the page size
+   * @return the ids
+   */
+  List<Long> findIdsForSelection(ComicBookSelection selection, long lastId, long maxId, int count);
+
+  /**
+   * Loads comic books by id with their details and pages, in ascending id order. Comic books that
+   * no longer match the selection are skipped.
+   *
+   * @param selection the selection
+   * @param ids the ids
+   * @return the comic books
+   */
+  List<ComicBook> findAllWithDetailsAndPages(ComicBookSelection selection, List<Long> ids);
+}
@@ -0,0 +1,83 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.repositories.comicbooks;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.comicbooks.ComicBook;
+
+/**
+ * <code>ComicBookKeysetRepositoryImpl</code> provides the queries behind {@link
+ * ComicBookKeysetRepository}.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class ComicBookKeysetRepositoryImpl implements ComicBookKeysetRepository {
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public Long findMaxIdForSelection(final ComicBookSelection selection) {
+    log.trace("Finding max id for comic selection: {}", selection);
+    return this.entityManager
+        .createQuery(
+            "SELECT MAX(c.id) FROM ComicBook c WHERE " + selection.getPredicate(), Long.class)
+        .getSingleResult();
+  }
+
+  @Override
+  public List<Long> findIdsForSelection(
+      final ComicBookSelection selection, final long lastId, final long maxId, final int count) {
+    log.trace(
+        "Finding comic ids for selection: {} after={} max={} count={}",
+        selection,
+        lastId,
+        maxId,
+        count);
+    return this.entityManager
+        .createQuery(
+            "SELECT c.id FROM ComicBook c WHERE ("
+                + selection.getPredicate()
+                + ") AND c.id > :lastId AND c.id <= :maxId ORDER BY c.id",
+            Long.class)
+        .setParameter("lastId", lastId)
+        .setParameter("maxId", maxId)
+        .setMaxResults(count)
+        .getResultList();
+  }
+
+  @Override
+  public List<ComicBook> findAllWithDetailsAndPages(
+      final ComicBookSelection selection, final List<Long> ids) {
+    if (ids.isEmpty()) return new ArrayList<>();
+    log.trace(
+        "Loading comics with details and pages: selection={} count={}", selection, ids.size());
+    return this.entityManager
+        .createQuery(
+            "SELECT DISTINCT c FROM ComicBook c LEFT JOIN FETCH c.comicDetail LEFT JOIN FETCH c.pages WHERE c.id IN :ids AND ("
+                + selection.getPredicate()
+                + ") ORDER BY c.id",
+            ComicBook.class)
+        .setParameter("ids", ids)
+        .getResultList();
+  }
+}
@@ -36,7 +36,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ComicBookRepository extends JpaRepository<ComicBook, Long> {
+public interface ComicBookRepository
+    extends JpaRepository<ComicBook, Long>, ComicBookKeysetRepository {
   /**
    * Returns all comics not read by the specified user.
    *
@@ -95,19 +96,9 @@ public interface ComicBookRepository extends JpaRepository<ComicBook, Long> {
    * @return the comic list
    */
   @Query(
-      "SELECT c FROM ComicBook c WHERE c IN (SELECT p.comicBook FROM Page p WHERE p.hash = :hash)")
+      "SELECT c FROM ComicBook c WHERE c IN (SELECT p.comicBook FROM Page p WHERE p.hash = :#{T(org.comixedproject.model.comicpages.PageHash).fromHex(#hash)})")
   List<ComicBook> findComicsForPageHash(@Param("hash") String hash);
 
-  /**
-   * Loads all comics with the given state, ordered by last modified date.
-   *
-   * @param state the state
-   * @param pageable the page request
-   * @return the comics
-   */
-  @Query("SELECT c FROM ComicBook c WHERE c.comicDetail.comicState = :state")
-  List<ComicBook> findForState(@Param("state") ComicState state, Pageable pageable);
-
   /**
    * Returns the number of comics with the given state value.
    *
@@ -118,24 +109,12 @@ public interface ComicBookRepository extends JpaRepository<ComicBook, Long> {
   long findForStateCount(@Param("state") ComicState state);
 
   /**
-   * Returns unprocessed comics that have their file loaded flag turned off.
-   *
-   * @param pageable the page request
-   * @return the list of comics
-   */
-  @Query(
-      "SELECT c FROM ComicBook c WHERE c.comicDetail.comicState = 'UNPROCESSED' AND c.createMetadataSource = true")
-  List<ComicBook> findUnprocessedComicsWithCreateMetadataFlagSet(Pageable pageable);
-
-  /**
-   * Returns unprocessed comics that have their file loaded flag turned off.
+   * Returns the number of unprocessed comics.
    *
-   * @param pageable the page request
-   * @return the list of comics
+   * @return the count
    */
-  @Query(
-      "SELECT c FROM ComicBook c WHERE c.comicDetail.comicState = 'UNPROCESSED' AND c.fileContentsLoaded = false")
-  List<ComicBook> findUnprocessedComicsWithoutContent(Pageable pageable);
+  @Query("SELECT COUNT(c) FROM ComicBook c WHERE c.comicDetail.comicState = 'UNPROCESSED'")
+  int findUnprocessedComicsCount();
 
   /**
    * Returns the number of unprocessed comics without file contents loaded.
@@ -155,16 +134,6 @@ public interface ComicBookRepository extends JpaRepository<ComicBook, Long> {
       "SELECT COUNT(c) FROM ComicBook c WHERE c.comicDetail.comicState = 'UNPROCESSED' AND c.createMetadataSource = true")
   int findComicsWithCreateMeatadataSourceFlag();
 
-  /**
-   * Returns unprocessed comics that have their blocked pages marked flag turned off.
-   *
-   * @param pageable the page request
-   * @return the list of comics
-   */
-  @Query(
-      "SELECT c FROM ComicBook c WHERE c.comicDetail.comicState = 'UNPROCESSED' AND c.fileContentsLoaded = true AND c.blockedPagesMarked = false")
-  List<ComicBook> findUnprocessedComicsForMarkedPageBlocking(Pageable pageable);
-
   /**
    * Returns the number of unprocessed comics for page blocking.
    *
@@ -174,16 +143,6 @@ public interface ComicBookRepository extends JpaRepository<ComicBook, Long> {
       "SELECT COUNT(c) FROM ComicBook c WHERE c.comicDetail.comicState = 'UNPROCESSED' AND c.fileContentsLoaded = true AND c.blockedPagesMarked = false")
   int findUnprocessedComicsForMarkedPageBlockingCount();
 
-  /**
-   * Returns unprocessed comics that have been fully processed.
-   *
-   * @param pageable the page request
-   * @return the list of comics
-   */
-  @Query(
-      "SELECT c FROM ComicBook c WHERE c.comicDetail.comicState = 'UNPROCESSED' AND c.fileContentsLoaded = true AND c.blockedPagesMarked = true")
-  List<ComicBook> findProcessedComics(Pageable pageable);
-
   /**
    * Returns the numboer of unprocessed comics.
    *
@@ -193,25 +152,6 @@ public interface ComicBookRepository extends JpaRepository<ComicBook, Long> {
       "SELECT COUNT(c) FROM ComicBook c WHERE c.comicDetail.comicState = 'UNPROCESSED' AND c.fileContentsLoaded = true AND c.blockedPagesMarked = true")
   int findProcessedComicsCount();
 
-  /**
-   * Returns comics that are waiting to have their metadata update flag set.
-   *
-   * @param pageable the page request
-   * @return the list of comics
-   */
-  @Query(
-      "SELECT c FROM ComicBook c WHERE c.comicDetail.comicState = 'CHANGED' AND c.updateMetadata = true")
-  List<ComicBook> findComicsWithMetadataToUpdate(Pageable pageable);
-
-  /**
-   * Returns comics that are marked to have their metadata batch processed.
-   *
-   * @param pageable the page request
-   * @return the list of comics
-   */
-  @Query("SELECT c FROM ComicBook c WHERE c.batchMetadataUpdate = true")
-  List<ComicBook> findComicsForBatchMetadataUpdate(Pageable pageable);
-
   /**
    * Returns comics that are in the deleted state.
    *
@@ -231,15 +171,6 @@ public interface ComicBookRepository extends JpaRepository<ComicBook, Long> {
       "SELECT c FROM ComicBook c WHERE c.consolidating = true AND c.comicDetail.comicState != 'DELETED'")
   List<ComicBook> findComicsToBeMoved(Pageable pageable);
 
-  /**
-   * Returns comics that are marked to be recreated.
-   *
-   * @param pageable the page request
-   * @return the list of comics
-   */
-  @Query("SELECT c FROM ComicBook c WHERE c.recreating = true")
-  List<ComicBook> findComicsToRecreate(Pageable pageable);
-
   /**
    * Returns a single comic that matches the given criteria.
    *
@@ -402,15 +333,6 @@ public interface ComicBookRepository extends JpaRepository<ComicBook, Long> {
       "SELECT DISTINCT d.publisher FROM ComicDetail d WHERE d IN (SELECT t.comicDetail.id FROM ComicTag t WHERE t.type = 'STORY' AND t.value = :name)")
   List<String> findDistinctPublishersForStory(@Param("name") String name);
 
-  /**
-   * Returns all comics that are marked for purging.
-   *
-   * @param pageable the page request
-   * @return the comics
-   */
-  @Query("SELECT c FROM ComicBook c WHERE c.purgeComic = true")
-  List<ComicBook> findComicsMarkedForPurging(Pageable pageable);
-
   /**
    * Returns the individual year values for comics in the library.
    *
@@ -569,15 +491,6 @@ public interface ComicBookRepository extends JpaRepository<ComicBook, Long> {
       "SELECT d FROM ComicDetail d JOIN FETCH d.comicBook WHERE LOWER(d.title) LIKE LOWER(concat('%', :term, '%')) OR LOWER(d.description) LIKE LOWER(concat('%', :term, '%'))")
   List<ComicDetail> findForSearchTerms(@Param("term") String term);
 
-  /**
-   * Returns comics that have their edit details flag set.
-   *
-   * @param pageable the request size
-   * @return the comic list
-   */
-  @Query("SELECT c FROM ComicBook c WHERE c.editDetails = true")
-  List<ComicBook> findComicsWithEditDetails(Pageable pageable);
-
   /**
    * Returns all comics that have duplicate pages.
    *
@@ -597,15 +510,6 @@ public interface ComicBookRepository extends JpaRepository<ComicBook, Long> {
       "SELECT COUNT(c) FROM ComicBook c WHERE c.id NOT IN (SELECT s.comicBook.id FROM ComicMetadataSource s)")
   long getUnscrapedComicCount();
 
-  /**
-   * Returns a set of comic books without an associated comic detail record.
-   *
-   * @param batchChunkSize the batch chunk size
-   * @return the list of comic books
-   */
-  @Query("SELECT c FROM ComicBook c WHERE c.id NOT IN (SELECT d.comicBook.id FROM ComicDetail d)")
-  List<ComicBook> getComicBooksWithoutDetails(int batchChunkSize);
-
   @Modifying
   @Query(
       "UPDATE ComicBook c SET c.consolidating = true WHERE c.id IN (:ids) AND c.consolidating = FALSE")
@@ -615,6 +519,110 @@ public interface ComicBookRepository extends JpaRepository<ComicBook, Long> {
   @Query("UPDATE ComicBook c SET c.recreating = true WHERE c.id IN (:ids) AND c.recreating = FALSE")
   void markForRecreationById(@Param("ids") List<Long> ids);
 
+  /**
+   * Loads a set of comic books by id, along with their details.
+   *
+   * @param ids the comic book ids
+   * @return the comic books
+   */
+  @Query("SELECT c FROM ComicBook c LEFT JOIN FETCH c.comicDetail WHERE c.id IN (:ids)")
+  List<ComicBook> loadByIds(@Param("ids") List<Long> ids);
+
   @Query("SELECT b FROM ComicBook b WHERE b.comicDetail.id IN (:comicDetailIds)")
   List<ComicBook> loadByComicDetailId(@Param("comicDetailIds") List comicDetailIds);
+
+  /**
+   * Returns the ids for comics marked for purging.
+   *
+   * @param pageable the page request
+   * @return the comic book ids
+   */
+  @Query("SELECT c.id FROM ComicBook c WHERE c.purgeComic = true ORDER BY c.id")
+  List<Long> findIdsMarkedForPurging(Pageable pageable);
+
+  /**
+   * Returns the comic detail ids for a set of comic books.
+   *
+   * @param ids the comic book ids
+   * @return the comic detail ids
+   */
+  @Query("SELECT d.id FROM ComicDetail d WHERE d.comicBook.id IN (:ids)")
+  List<Long> getComicDetailIdsForComicBooks(@Param("ids") List<Long> ids);
+
+  /**
+   * Removes a set of comic books from all reading lists.
+   *
+   * @param ids the comic book ids
+   */
+  @Modifying
+  @Query(
+      value =
+          "DELETE FROM reading_list_entries WHERE comic_detail_id IN (SELECT d.id FROM comic_details d WHERE d.comic_book_id IN (:ids))",
+      nativeQuery = true)
+  void purgeReadingListEntries(@Param("ids") List<Long> ids);
+
+  /**
+   * Deletes the last read entries for a set of comic books.
+   *
+   * @param ids the comic book ids
+   */
+  @Modifying
+  @Query(
+      "DELETE FROM LastRead r WHERE r.comicDetail.id IN (SELECT d.id FROM ComicDetail d WHERE d.comicBook.id IN (:ids))")
+  void purgeLastReadEntries(@Param("ids") List<Long> ids);
+
+  /**
+   * Deletes the tags for a set of comic books.
+   *
+   * @param ids the comic book ids
+   */
+  @Modifying
+  @Query(
+      "DELETE FROM ComicTag t WHERE t.comicDetail.id IN (SELECT d.id FROM ComicDetail d WHERE d.comicBook.id IN (:ids))")
+  void purgeComicTags(@Param("ids") List<Long> ids);
+
+  /**
+   * Clears any story entry references to a set of comic books.
+   *
+   * @param ids the comic book ids
+   */
+  @Modifying
+  @Query("UPDATE StoryEntry e SET e.comicBook = null WHERE e.comicBook.id IN (:ids)")
+  void purgeStoryEntryReferences(@Param("ids") List<Long> ids);
+
+  /**
+   * Deletes the pages for a set of comic books.
+   *
+   * @param ids the comic book ids
+   */
+  @Modifying
+  @Query("DELETE FROM Page p WHERE p.comicBook.id IN (:ids)")
+  void purgePages(@Param("ids") List<Long> ids);
+
+  /**
+   * Deletes the metadata sources for a set of comic books.
+   *
+   * @param ids the comic book ids
+   */
+  @Modifying
+  @Query("DELETE FROM ComicMetadataSource s WHERE s.comicBook.id IN (:ids)")
+  void purgeMetadataSources(@Param("ids") List<Long> ids);
+
+  /**
+   * Deletes the comic details for a set of comic books.
+   *
+   * @param ids the comic book ids
+   */
+  @Modifying
+  @Query("DELETE FROM ComicDetail d WHERE d.comicBook.id IN (:ids)")
+  void purgeComicDetails(@Param("ids") List<Long> ids);
+
+  /**
+   * Deletes a set of comic books. Their dependent records must already have been deleted.
+   *
+   * @param ids the comic book ids
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM ComicBook c WHERE c.id IN (:ids)")
+  void purgeComicBooks(@Param("ids") List<Long> ids);
 }
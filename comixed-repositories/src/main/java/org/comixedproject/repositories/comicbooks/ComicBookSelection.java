@@ -0,0 +1,52 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.repositories.comicbooks;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <code>ComicBookSelection</code> identifies a set of comic books that is processed by a batch
+ * step, along with the JPQL predicate that selects them. Each predicate uses <code>c</code> as the
+ * alias for the comic book.
+ *
+ * @author Darryl L. Pierce
+ */
+@AllArgsConstructor
+public enum ComicBookSelection {
+  INSERTED("c.comicDetail.comicState = 'ADDED'"),
+  UNPROCESSED("c.comicDetail.comicState = 'UNPROCESSED'"),
+  UNPROCESSED_WITHOUT_CONTENT(
+      "c.comicDetail.comicState = 'UNPROCESSED' AND c.fileContentsLoaded = false"),
+  UNPROCESSED_FOR_BLOCKED_PAGES(
+      "c.comicDetail.comicState = 'UNPROCESSED' AND c.fileContentsLoaded = true AND c.blockedPagesMarked = false"),
+  UNPROCESSED_WITH_CREATE_METADATA_SOURCE(
+      "c.comicDetail.comicState = 'UNPROCESSED' AND c.createMetadataSource = true"),
+  PROCESSED(
+      "c.comicDetail.comicState = 'UNPROCESSED' AND c.fileContentsLoaded = true AND c.blockedPagesMarked = true"),
+  METADATA_TO_UPDATE("c.comicDetail.comicState = 'CHANGED' AND c.updateMetadata = true"),
+  FOR_BATCH_METADATA_UPDATE("c.batchMetadataUpdate = true"),
+  TO_BE_MOVED("c.consolidating = true AND c.comicDetail.comicState != 'DELETED'"),
+  TO_RECREATE("c.recreating = true"),
+  WITH_EDIT_DETAILS("c.editDetails = true"),
+  NOT_DELETED("c.comicDetail.comicState != 'DELETED'"),
+  WITHOUT_DETAILS("c.id NOT IN (SELECT d.comicBook.id FROM ComicDetail d)");
+
+  @Getter private String predicate;
+}
@@ -0,0 +1,77 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.repositories.comicbooks;
+
+import java.util.List;
+import org.comixedproject.model.collections.CollectionEntry;
+import org.comixedproject.model.comicbooks.ComicDetail;
+import org.comixedproject.model.comicbooks.ComicTagType;
+import org.springframework.data.domain.Example;
+
+/**
+ * <code>ComicDetailPageRepository</code> loads pages of {@link ComicDetail} and {@link
+ * CollectionEntry} records using the seek method: each page starts after the sort value and id of
+ * the last row of the previous page, so loading a deep page costs the same as loading the first.
+ *
+ * @author Darryl L. Pierce
+ */
+public interface ComicDetailPageRepository {
+  /**
+   * Loads a page of comic details. Null sort values are ordered before all other values, and the id
+   * breaks ties in the same direction as the sort field.
+   *
+   * @param example the filter, or null
+   * @param email the user whose read comics are excluded, or null
+   * @param sortField the entity field to sort on
+   * @param ascending true to sort in ascending order
+   * @param lastValue the sort value of the last comic on the previous page
+   * @param lastId the id of the last comic on the previous page, or null for the first page
+   * @param pageSize the page size
+   * @return the comic details
+   */
+  List<ComicDetail> loadComicDetailPage(
+      Example<ComicDetail> example,
+      String email,
+      String sortField,
+      boolean ascending,
+      Comparable<?> lastValue,
+      Long lastId,
+      int pageSize);
+
+  /**
+   * Loads a page of collection entries for a tag type, sorted either by tag value or by comic count
+   * with the tag value breaking ties.
+   *
+   * @param tagType the tag type
+   * @param byCount true to sort by the comic count
+   * @param ascending true to sort in ascending order
+   * @param lastValue the tag value of the last entry on the previous page, or null for the first
+   *     page
+   * @param lastCount the comic count of the last entry on the previous page
+   * @param pageSize the page size
+   * @return the collection entries
+   */
+  List<CollectionEntry> loadCollectionEntryPage(
+      ComicTagType tagType,
+      boolean byCount,
+      boolean ascending,
+      String lastValue,
+      Long lastCount,
+      int pageSize);
+}
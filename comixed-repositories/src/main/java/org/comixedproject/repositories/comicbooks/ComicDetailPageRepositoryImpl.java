@@ -0,0 +1,182 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.repositories.comicbooks;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.collections.CollectionEntry;
+import org.comixedproject.model.comicbooks.ComicDetail;
+import org.comixedproject.model.comicbooks.ComicTag;
+import org.comixedproject.model.comicbooks.ComicTagType;
+import org.comixedproject.model.library.LastRead;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Example;
+import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
+
+/**
+ * <code>ComicDetailPageRepositoryImpl</code> provides the criteria queries behind {@link
+ * ComicDetailPageRepository}.
+ *
+ * @author Darryl L. Pierce
+ */
+@Log4j2
+public class ComicDetailPageRepositoryImpl implements ComicDetailPageRepository {
+  static final String ID_FIELD = "id";
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public List<ComicDetail> loadComicDetailPage(
+      final Example<ComicDetail> example,
+      final String email,
+      final String sortField,
+      final boolean ascending,
+      final Comparable<?> lastValue,
+      final Long lastId,
+      final int pageSize) {
+    log.trace(
+        "Loading comic detail page: sort={} [{}] last={}/{} size={}",
+        sortField,
+        ascending ? "asc" : "desc",
+        lastValue,
+        lastId,
+        pageSize);
+    final HibernateCriteriaBuilder builder = this.doGetCriteriaBuilder();
+    final CriteriaQuery<ComicDetail> query = builder.createQuery(ComicDetail.class);
+    final Root<ComicDetail> root = query.from(ComicDetail.class);
+    final Path<Long> id = root.get(ID_FIELD);
+    final List<Predicate> predicates = new ArrayList<>();
+    if (Objects.nonNull(example)) {
+      final Predicate filter = QueryByExamplePredicateBuilder.getPredicate(root, builder, example);
+      if (Objects.nonNull(filter)) predicates.add(filter);
+    }
+    if (Objects.nonNull(email)) {
+      final Subquery<Long> read = query.subquery(Long.class);
+      final Root<LastRead> lastRead = read.from(LastRead.class);
+      read.select(lastRead.get("comicDetail").get(ID_FIELD))
+          .where(builder.equal(lastRead.get("user").get("email"), email));
+      predicates.add(builder.not(id.in(read)));
+    }
+    if (ID_FIELD.equals(sortField)) {
+      if (Objects.nonNull(lastId)) predicates.add(this.doCompare(builder, id, lastId, ascending));
+      query.orderBy(ascending ? builder.asc(id) : builder.desc(id));
+    } else {
+      final Path<Comparable> field = root.get(sortField);
+      if (Objects.nonNull(lastId))
+        predicates.add(
+            this.doCreateSeekPredicate(builder, field, id, lastValue, lastId, ascending));
+      query.orderBy(
+          ascending ? builder.asc(field, true) : builder.desc(field, false),
+          ascending ? builder.asc(id) : builder.desc(id));
+    }
+    query.select(root).where(predicates.toArray(new Predicate[0]));
+    return this.entityManager.createQuery(query).setMaxResults(pageSize).getResultList();
+  }
+
+  @Override
+  public List<CollectionEntry> loadCollectionEntryPage(
+      final ComicTagType tagType,
+      final boolean byCount,
+      final boolean ascending,
+      final String lastValue,
+      final Long lastCount,
+      final int pageSize) {
+    log.trace(
+        "Loading collection entry page: type={} by count={} [{}] last={}/{} size={}",
+        tagType,
+        byCount,
+        ascending ? "asc" : "desc",
+        lastValue,
+        lastCount,
+        pageSize);
+    final HibernateCriteriaBuilder builder = this.doGetCriteriaBuilder();
+    final CriteriaQuery<CollectionEntry> query = builder.createQuery(CollectionEntry.class);
+    final Root<ComicTag> root = query.from(ComicTag.class);
+    final Path<String> value = root.get("value");
+    final Expression<Long> count = builder.count(root);
+    final Predicate ofType = builder.equal(root.get("type"), tagType);
+    query
+        .select(builder.construct(CollectionEntry.class, new Selection<?>[] {value, count}))
+        .groupBy(value);
+    if (byCount) {
+      query.where(ofType);
+      if (Objects.nonNull(lastValue))
+        query.having(
+            builder.or(
+                this.doCompare(builder, count, lastCount, ascending),
+                builder.and(
+                    builder.equal(count, lastCount),
+                    this.doCompare(builder, value, lastValue, ascending))));
+      query.orderBy(
+          ascending ? builder.asc(count) : builder.desc(count),
+          ascending ? builder.asc(value) : builder.desc(value));
+    } else {
+      if (Objects.nonNull(lastValue))
+        query.where(ofType, this.doCompare(builder, value, lastValue, ascending));
+      else query.where(ofType);
+      query.orderBy(ascending ? builder.asc(value) : builder.desc(value));
+    }
+    return this.entityManager.createQuery(query).setMaxResults(pageSize).getResultList();
+  }
+
+  private HibernateCriteriaBuilder doGetCriteriaBuilder() {
+    return this.entityManager.unwrap(Session.class).getCriteriaBuilder();
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private Predicate doCreateSeekPredicate(
+      final HibernateCriteriaBuilder builder,
+      final Path<Comparable> field,
+      final Path<Long> id,
+      final Comparable value,
+      final Long lastId,
+      final boolean ascending) {
+    final Predicate afterId = this.doCompare(builder, id, lastId, ascending);
+    if (Objects.isNull(value)) {
+      log.trace("Seeking past null sort values");
+      return ascending
+          ? builder.or(builder.and(builder.isNull(field), afterId), builder.isNotNull(field))
+          : builder.and(builder.isNull(field), afterId);
+    }
+    final Predicate sameValue = builder.and(builder.equal(field, value), afterId);
+    return ascending
+        ? builder.or(builder.greaterThan(field, value), sameValue)
+        : builder.or(builder.lessThan(field, value), sameValue, builder.isNull(field));
+  }
+
+  private <T extends Comparable<? super T>> Predicate doCompare(
+      final HibernateCriteriaBuilder builder,
+      final Expression<T> field,
+      final T value,
+      final boolean ascending) {
+    return ascending ? builder.greaterThan(field, value) : builder.lessThan(field, value);
+  }
+}
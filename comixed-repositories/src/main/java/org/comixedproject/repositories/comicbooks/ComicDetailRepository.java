@@ -18,10 +18,12 @@
 
 package org.comixedproject.repositories.comicbooks;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import org.comixedproject.model.collections.CollectionEntry;
+import org.comixedproject.model.collections.Series;
 import org.comixedproject.model.comicbooks.ComicDetail;
 import org.comixedproject.model.comicbooks.ComicTagType;
 import org.springframework.data.domain.Pageable;
@@ -37,7 +39,8 @@ import org.springframework.stereotype.Repository;
  * @author Darryl L. Pierce
  */
 @Repository
-public interface ComicDetailRepository extends JpaRepository<ComicDetail, Long> {
+public interface ComicDetailRepository
+    extends JpaRepository<ComicDetail, Long>, ComicDetailPageRepository {
   /**
    * Returns a set of records with an id greater than the one provided.
    *
@@ -48,6 +51,32 @@ public interface ComicDetailRepository extends JpaRepository<ComicDetail, Long>
   @Query("SELECT d FROM ComicDetail d WHERE d.id > :lastId ORDER BY d.id")
   List<ComicDetail> getWithIdGreaterThan(@Param("lastId") Long lastId, Pageable pageRequest);
 
+  /**
+   * Returns the records for a set of comic books.
+   *
+   * @param comicBookIds the comic book ids
+   * @return the records
+   */
+  @Query("SELECT d FROM ComicDetail d WHERE d.comicBook.id IN (:comicBookIds)")
+  List<ComicDetail> getForComicBookIds(@Param("comicBookIds") Collection<Long> comicBookIds);
+
+  /**
+   * Returns the records for a set of issues in a single publisher, series, and volume.
+   *
+   * @param publisher the publisher
+   * @param series the series
+   * @param volume the volume
+   * @param issueNumbers the issue numbers
+   * @return the records
+   */
+  @Query(
+      "SELECT d FROM ComicDetail d WHERE d.publisher = :publisher AND d.series = :series AND d.volume = :volume AND d.issueNumber IN (:issueNumbers)")
+  List<ComicDetail> getForIssueNumbers(
+      @Param("publisher") String publisher,
+      @Param("series") String series,
+      @Param("volume") String volume,
+      @Param("issueNumbers") Collection<String> issueNumbers);
+
   /**
    * Returns the set of all publishers with comics that have not been read by the specified user.
    *
@@ -375,4 +404,171 @@ public interface ComicDetailRepository extends JpaRepository<ComicDetail, Long>
   @Query(
       "SELECT d FROM ComicDetail d WHERE d.id NOT IN (SELECT r.comicDetail.id FROM LastRead r WHERE r.user.email = :email)")
   List<ComicDetail> loadUnreadComicDetails(@Param("email") String email, Pageable pageable);
+
+  /**
+   * Returns every series and volume in the library with the number of comics in the library and the
+   * number of issues known from the series metadata, loaded with a single grouped query.
+   *
+   * @return the series list
+   */
+  @Query(
+      "SELECT new org.comixedproject.model.collections.Series(d.publisher, d.series, d.volume, COUNT(d), (SELECT COUNT(i) FROM Issue i WHERE i.series = d.series AND i.volume = d.volume)) FROM ComicDetail d WHERE LENGTH(d.publisher) > 0 AND LENGTH(d.series) > 0 AND d.volume IS NOT NULL GROUP BY d.publisher, d.series, d.volume")
+  List<Series> loadSeriesCatalog();
+
+  /**
+   * Returns the first page of records for the given publisher, series, and volume, ordered by cover
+   * date and id.
+   *
+   * @param publisher the publisher
+   * @param series the series
+   * @param volume the volume
+   * @param pageable the page request
+   * @return the matching records
+   */
+  @Query(
+      "SELECT d FROM ComicDetail d WHERE d.publisher = :publisher AND d.series = :series AND d.volume = :volume ORDER BY d.coverDate NULLS FIRST, d.id")
+  List<ComicDetail> getPageForPublisherAndSeriesAndVolume(
+      @Param("publisher") String publisher,
+      @Param("series") String series,
+      @Param("volume") String volume,
+      Pageable pageable);
+
+  /**
+   * Returns the page of records for the given publisher, series, and volume that follow the given
+   * record, ordered by cover date and id.
+   *
+   * @param publisher the publisher
+   * @param series the series
+   * @param volume the volume
+   * @param lastId the id of the last record on the previous page
+   * @param pageable the page request
+   * @return the matching records
+   */
+  @Query(
+      "SELECT d FROM ComicDetail d, ComicDetail c WHERE c.id = :lastId AND d.publisher = :publisher AND d.series = :series AND d.volume = :volume AND ((c.coverDate IS NULL AND (d.coverDate IS NOT NULL OR d.id > c.id)) OR d.coverDate > c.coverDate OR (d.coverDate = c.coverDate AND d.id > c.id)) ORDER BY d.coverDate NULLS FIRST, d.id")
+  List<ComicDetail> getPageForPublisherAndSeriesAndVolumeAfter(
+      @Param("publisher") String publisher,
+      @Param("series") String series,
+      @Param("volume") String volume,
+      @Param("lastId") long lastId,
+      Pageable pageable);
+
+  /**
+   * Returns the page of records for the given publisher, series, and volume that precede the given
+   * record, in descending order by cover date and id.
+   *
+   * @param publisher the publisher
+   * @param series the series
+   * @param volume the volume
+   * @param firstId the id of the first record on the following page
+   * @param pageable the page request
+   * @return the matching records
+   */
+  @Query(
+      "SELECT d FROM ComicDetail d, ComicDetail c WHERE c.id = :firstId AND d.publisher = :publisher AND d.series = :series AND d.volume = :volume AND ((c.coverDate IS NULL AND d.coverDate IS NULL AND d.id < c.id) OR (c.coverDate IS NOT NULL AND (d.coverDate IS NULL OR d.coverDate < c.coverDate OR (d.coverDate = c.coverDate AND d.id < c.id)))) ORDER BY d.coverDate DESC NULLS LAST, d.id DESC")
+  List<ComicDetail> getPageForPublisherAndSeriesAndVolumeBefore(
+      @Param("publisher") String publisher,
+      @Param("series") String series,
+      @Param("volume") String volume,
+      @Param("firstId") long firstId,
+      Pageable pageable);
+
+  /**
+   * Returns the page of records with a cover date between the given start and end dates, inclusive,
+   * and an id greater than the one provided.
+   *
+   * @param startDate the start date
+   * @param endDate the end date
+   * @param lastId the id of the last record on the previous page
+   * @param pageable the page request
+   * @return the matching records
+   */
+  @Query(
+      "SELECT d FROM ComicDetail d WHERE d.coverDate IS NOT NULL AND d.coverDate >= :startDate AND d.coverDate <= :endDate AND d.id > :lastId ORDER BY d.id")
+  List<ComicDetail> getPageForYearAndWeekAfter(
+      @Param("startDate") Date startDate,
+      @Param("endDate") Date endDate,
+      @Param("lastId") long lastId,
+      Pageable pageable);
+
+  /**
+   * Returns the page of records with a cover date between the given start and end dates, inclusive,
+   * and an id less than the one provided, in descending order by id.
+   *
+   * @param startDate the start date
+   * @param endDate the end date
+   * @param firstId the id of the first record on the following page
+   * @param pageable the page request
+   * @return the matching records
+   */
+  @Query(
+      "SELECT d FROM ComicDetail d WHERE d.coverDate IS NOT NULL AND d.coverDate >= :startDate AND d.coverDate <= :endDate AND d.id < :firstId ORDER BY d.id DESC")
+  List<ComicDetail> getPageForYearAndWeekBefore(
+      @Param("startDate") Date startDate,
+      @Param("endDate") Date endDate,
+      @Param("firstId") long firstId,
+      Pageable pageable);
+
+  /**
+   * Returns the page of records that match the given search term with an id greater than the one
+   * provided.
+   *
+   * @param term the search term
+   * @param lastId the id of the last record on the previous page
+   * @param pageable the page request
+   * @return the matching records
+   */
+  @Query(
+      "SELECT d FROM ComicDetail d JOIN FETCH d.comicBook WHERE (LOWER(d.title) LIKE LOWER(concat('%', :term, '%')) OR LOWER(d.description) LIKE LOWER(concat('%', :term, '%'))) AND d.id > :lastId ORDER BY d.id")
+  List<ComicDetail> getPageForSearchTermAfter(
+      @Param("term") String term, @Param("lastId") long lastId, Pageable pageable);
+
+  /**
+   * Returns the page of records that match the given search term with an id less than the one
+   * provided, in descending order by id.
+   *
+   * @param term the search term
+   * @param firstId the id of the first record on the following page
+   * @param pageable the page request
+   * @return the matching records
+   */
+  @Query(
+      "SELECT d FROM ComicDetail d JOIN FETCH d.comicBook WHERE (LOWER(d.title) LIKE LOWER(concat('%', :term, '%')) OR LOWER(d.description) LIKE LOWER(concat('%', :term, '%'))) AND d.id < :firstId ORDER BY d.id DESC")
+  List<ComicDetail> getPageForSearchTermBefore(
+      @Param("term") String term, @Param("firstId") long firstId, Pageable pageable);
+
+  /**
+   * Returns the page of records with the given tag with an id greater than the one provided.
+   *
+   * @param tagType the tag type
+   * @param tagValue the tag value
+   * @param lastId the id of the last record on the previous page
+   * @param pageable the page request
+   * @return the matching records
+   */
+  @Query(
+      "SELECT d FROM ComicDetail d WHERE d.id IN (SELECT t.comicDetail.id FROM ComicTag t WHERE t.type = :tagType AND t.value = :tagValue) AND d.id > :lastId ORDER BY d.id")
+  List<ComicDetail> getPageForTagAfter(
+      @Param("tagType") ComicTagType tagType,
+      @Param("tagValue") String tagValue,
+      @Param("lastId") long lastId,
+      Pageable pageable);
+
+  /**
+   * Returns the page of records with the given tag with an id less than the one provided, in
+   * descending order by id.
+   *
+   * @param tagType the tag type
+   * @param tagValue the tag value
+   * @param firstId the id of the first record on the following page
+   * @param pageable the page request
+   * @return the matching records
+   */
+  @Query(
+      "SELECT d FROM ComicDetail d WHERE d.id IN (SELECT t.comicDetail.id FROM ComicTag t WHERE t.type = :tagType AND t.value = :tagValue) AND d.id < :firstId ORDER BY d.id DESC")
+  List<ComicDetail> getPageForTagBefore(
+      @Param("tagType") ComicTagType tagType,
+      @Param("tagValue") String tagValue,
+      @Param("firstId") long firstId,
+      Pageable pageable);
 }
@@ -20,6 +20,7 @@ package org.comixedproject.repositories.comicpages;
 
 import java.util.List;
 import org.comixedproject.model.comicpages.BlockedHash;
+import org.comixedproject.model.comicpages.PageHash;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -36,9 +37,20 @@ public interface BlockedHashRepository extends JpaRepository<BlockedHash, Long>
    * @param hash the offset hash
    * @return the instance, or <code>null</code> if no such hash is registered
    */
-  @Query("SELECT b FROM BlockedHash b WHERE b.hash = :#{#hash}")
+  @Query(
+      "SELECT b FROM BlockedHash b WHERE b.hash = :#{T(org.comixedproject.model.comicpages.PageHash).fromHex(#hash)}")
   BlockedHash findByHash(@Param("hash") String hash);
 
+  /**
+   * Returns all entries for the given hashes.
+   *
+   * @param hashes the hashes
+   * @return the entries
+   */
+  @Query(
+      "SELECT b FROM BlockedHash b WHERE b.hash IN (:#{#hashes.![T(org.comixedproject.model.comicpages.PageHash).fromHex(#this)]})")
+  List<BlockedHash> findByHashes(@Param("hashes") List<String> hashes);
+
   /**
    * Retrieves all blocked page records.
    *
@@ -53,5 +65,5 @@ public interface BlockedHashRepository extends JpaRepository<BlockedHash, Long>
    * @return the hashes
    */
   @Query("SELECT b.hash FROM BlockedHash b")
-  List<String> getHashes();
+  List<PageHash> getHashes();
 }
@@ -18,10 +18,14 @@
 
 package org.comixedproject.repositories.comicpages;
 
+import java.util.Collection;
 import java.util.List;
 import org.comixedproject.model.comicpages.DeletedPageAndComic;
 import org.comixedproject.model.comicpages.Page;
+import org.comixedproject.model.comicpages.PageHash;
 import org.comixedproject.model.comicpages.PageState;
+import org.comixedproject.model.comicpages.PerceptualPageHash;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -49,7 +53,9 @@ public interface PageRepository extends CrudRepository<Page, Long> {
    * @param hash the page hash
    * @return the page
    */
-  List<Page> findByHash(String hash);
+  @Query(
+      "SELECT p FROM Page p WHERE p.hash = :#{T(org.comixedproject.model.comicpages.PageHash).fromHex(#hash)}")
+  List<Page> findByHash(@Param("hash") String hash);
 
   /**
    * Returns a list of Pages with duplicate hashes.
@@ -67,7 +73,9 @@ public interface PageRepository extends CrudRepository<Page, Long> {
    * @param state the state
    * @return the pages
    */
-  List<Page> findByHashAndPageState(String hash, PageState state);
+  @Query(
+      "SELECT p FROM Page p WHERE p.hash = :#{T(org.comixedproject.model.comicpages.PageHash).fromHex(#hash)} AND p.pageState = :state")
+  List<Page> findByHashAndPageState(@Param("hash") String hash, @Param("state") PageState state);
 
   /**
    * Loads all pages marked for deletion along with their owning comic.
@@ -77,4 +85,45 @@ public interface PageRepository extends CrudRepository<Page, Long> {
   @Query(
       "SELECT new org.comixedproject.model.comicpages.DeletedPageAndComic(p.hash, p.comicBook) FROM Page p WHERE p.pageState = 'DELETED'")
   List<DeletedPageAndComic> loadAllDeletedPages();
+
+  /**
+   * Loads the perceptual hashes for pages after the given id, in id order.
+   *
+   * @param lastId the last page id already loaded
+   * @param pageable the page size
+   * @return the perceptual hashes
+   */
+  @Query(
+      "SELECT new org.comixedproject.model.comicpages.PerceptualPageHash(p.id, p.comicBook.id, p.hash, p.perceptualHash) FROM Page p WHERE p.id > :lastId AND p.perceptualHash IS NOT NULL ORDER BY p.id")
+  List<PerceptualPageHash> loadPerceptualHashes(@Param("lastId") long lastId, Pageable pageable);
+
+  /**
+   * Loads the perceptual hashes for the pages of the given comic books.
+   *
+   * @param ids the comic book ids
+   * @return the perceptual hashes
+   */
+  @Query(
+      "SELECT new org.comixedproject.model.comicpages.PerceptualPageHash(p.id, p.comicBook.id, p.hash, p.perceptualHash) FROM Page p WHERE p.comicBook.id IN (:ids) AND p.perceptualHash IS NOT NULL")
+  List<PerceptualPageHash> loadPerceptualHashesForComicBooks(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Loads the perceptual hashes for pages with any of the given content hashes.
+   *
+   * @param hashes the page hashes
+   * @return the perceptual hashes
+   */
+  @Query(
+      "SELECT new org.comixedproject.model.comicpages.PerceptualPageHash(p.id, p.comicBook.id, p.hash, p.perceptualHash) FROM Page p WHERE p.hash IN (:hashes) AND p.perceptualHash IS NOT NULL")
+  List<PerceptualPageHash> loadPerceptualHashesForHashes(
+      @Param("hashes") Collection<PageHash> hashes);
+
+  /**
+   * Returns the distinct perceptual hashes for pages whose content hash is blocked.
+   *
+   * @return the perceptual hashes
+   */
+  @Query(
+      "SELECT DISTINCT p.perceptualHash FROM Page p WHERE p.perceptualHash IS NOT NULL AND p.hash IN (SELECT b.hash FROM BlockedHash b)")
+  List<Long> getBlockedPerceptualHashes();
 }
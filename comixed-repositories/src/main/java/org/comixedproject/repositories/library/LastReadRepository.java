@@ -25,6 +25,7 @@ import org.comixedproject.model.net.user.ComicsReadStatistic;
 import org.comixedproject.model.user.ComiXedUser;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -88,6 +89,39 @@ public interface LastReadRepository extends JpaRepository<LastRead, Long> {
   List<LastRead> loadByComicBookIds(
       @Param("user") final ComiXedUser user, @Param("comicDetails") List<ComicDetail> comicDetails);
 
+  /**
+   * Returns the ids of all comics read by a user.
+   *
+   * @param email the user's email
+   * @return the comic detail ids
+   */
+  @Query("SELECT e.comicDetail.id FROM LastRead e WHERE e.user.email = :email")
+  List<Long> loadComicDetailIdsForUser(@Param("email") String email);
+
+  /**
+   * Returns the ids of the comics read by a user from a set of comic books.
+   *
+   * @param user the user
+   * @param comicBookIds the comic book ids
+   * @return the comic detail ids
+   */
+  @Query(
+      "SELECT e.comicDetail.id FROM LastRead e WHERE e.user = :user AND e.comicDetail.comicBook.id IN (:comicBookIds)")
+  List<Long> loadComicDetailIdsForComicBooks(
+      @Param("user") ComiXedUser user, @Param("comicBookIds") List<Long> comicBookIds);
+
+  /**
+   * Deletes the entries for a user for a set of comics.
+   *
+   * @param user the user
+   * @param comicDetailIds the comic detail ids
+   * @return the number of entries deleted
+   */
+  @Modifying
+  @Query("DELETE FROM LastRead e WHERE e.user = :user AND e.comicDetail.id IN (:comicDetailIds)")
+  int deleteForComicDetailIds(
+      @Param("user") ComiXedUser user, @Param("comicDetailIds") List<Long> comicDetailIds);
+
   @Query(
       "SELECT new org.comixedproject.model.net.user.ComicsReadStatistic(d.publisher, COUNT(d)) FROM ComicDetail d WHERE d.publisher IS NOT NULL AND d IN (SELECT l.comicDetail FROM LastRead l WHERE l.user = :user) GROUP BY d.publisher")
   List<ComicsReadStatistic> loadComicsReadStatistics(@Param("user") ComiXedUser user);
@@ -0,0 +1,213 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.repositories.liquibase;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Objects;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationStartupAware;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>LiquibaseChangelogGate</code> skips running Liquibase during startup when the changelog has
+ * not changed since the last successful run against the same database.
+ *
+ * <p>A digest of the changelog files, the database URL and the change sets the database has applied
+ * is stored after each run. The applied change sets are summarized by the number of rows in the
+ * changelog table and the id, author, file and checksum of the last one executed, so that an older
+ * copy of the database restored at the same URL is still migrated. On the next start, if the digest
+ * matches and the changelog table exists, the checksum validation and update are skipped.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class LiquibaseChangelogGate implements BeanPostProcessor, ApplicationStartupAware {
+  static final String CHECK_CHANGELOG_STEP = "comixed.liquibase.check-changelog";
+  static final String DEFAULT_CHANGELOG_TABLE = "DATABASECHANGELOG";
+
+  @Value("${comixed.liquibase.skip-unchanged:false}")
+  boolean skipUnchanged = false;
+
+  @Value("${comixed.liquibase.digest-file:${user.home}/.comixed/liquibase.digest}")
+  String digestFile;
+
+  @Value("${comixed.liquibase.changelog-files:classpath*:db/**/*.xml}")
+  String changelogFiles = "classpath*:db/**/*.xml";
+
+  private ResourcePatternResolver resourcePatternResolver =
+      new PathMatchingResourcePatternResolver();
+  private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+  private boolean storeDigest = false;
+
+  @Override
+  public void setApplicationStartup(final ApplicationStartup applicationStartup) {
+    this.applicationStartup = applicationStartup;
+  }
+
+  @Override
+  public Object postProcessBeforeInitialization(final Object bean, final String beanName)
+      throws BeansException {
+    if (this.skipUnchanged && bean instanceof SpringLiquibase liquibase) {
+      final StartupStep step = this.applicationStartup.start(CHECK_CHANGELOG_STEP);
+      try {
+        this.storeDigest = true;
+        if (this.isChangelogTablePresent(liquibase)
+            && Objects.equals(this.createDigest(liquibase), this.loadDigest())) {
+          log.info("Liquibase changelog unchanged, skipping update");
+          liquibase.setShouldRun(false);
+          this.storeDigest = false;
+          step.tag("skipped", "true");
+        }
+      } catch (IOException | SQLException | NoSuchAlgorithmException error) {
+        log.warn("Failed to check Liquibase changelog", error);
+        this.storeDigest = false;
+      } finally {
+        step.end();
+      }
+    }
+    return bean;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(final Object bean, final String beanName)
+      throws BeansException {
+    if (bean instanceof SpringLiquibase liquibase && this.storeDigest) {
+      log.debug("Storing Liquibase changelog digest: {}", this.digestFile);
+      try {
+        final String digest = this.createDigest(liquibase);
+        final File file = new File(this.digestFile);
+        Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+        Files.writeString(file.toPath(), digest, StandardCharsets.UTF_8);
+      } catch (IOException | SQLException | NoSuchAlgorithmException error) {
+        log.warn("Failed to store Liquibase changelog digest", error);
+      }
+      this.storeDigest = false;
+    }
+    return bean;
+  }
+
+  String createDigest(final SpringLiquibase liquibase)
+      throws IOException, SQLException, NoSuchAlgorithmException {
+    final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+    try (Connection connection = liquibase.getDataSource().getConnection()) {
+      digest.update(connection.getMetaData().getURL().getBytes(StandardCharsets.UTF_8));
+      final String tableName = this.doFindChangelogTable(connection.getMetaData(), liquibase);
+      if (Objects.nonNull(tableName)) {
+        this.doAddAppliedChangeSets(digest, connection, tableName);
+      }
+    }
+    final Resource[] resources = this.resourcePatternResolver.getResources(this.changelogFiles);
+    Arrays.sort(resources, Comparator.comparing(Resource::getDescription));
+    for (Resource resource : resources) {
+      log.trace("Adding changelog file to digest: {}", resource.getFilename());
+      digest.update(String.valueOf(resource.getFilename()).getBytes(StandardCharsets.UTF_8));
+      try (InputStream input = resource.getInputStream()) {
+        digest.update(input.readAllBytes());
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private void doAddAppliedChangeSets(
+      final MessageDigest digest, final Connection connection, final String tableName)
+      throws SQLException {
+    log.trace("Adding applied change sets to digest");
+    try (Statement statement = connection.createStatement()) {
+      try (ResultSet count = statement.executeQuery("SELECT COUNT(*) FROM " + tableName)) {
+        if (count.next()) {
+          digest.update(String.valueOf(count.getLong(1)).getBytes(StandardCharsets.UTF_8));
+        }
+      }
+      statement.setMaxRows(1);
+      try (ResultSet last =
+          statement.executeQuery(
+              "SELECT ID, AUTHOR, FILENAME, MD5SUM FROM "
+                  + tableName
+                  + " ORDER BY ORDEREXECUTED DESC")) {
+        if (last.next()) {
+          for (int column = 1; column <= 4; column++) {
+            digest.update(String.valueOf(last.getString(column)).getBytes(StandardCharsets.UTF_8));
+          }
+        }
+      }
+    }
+  }
+
+  boolean isChangelogTablePresent(final SpringLiquibase liquibase) throws SQLException {
+    try (Connection connection = liquibase.getDataSource().getConnection()) {
+      return Objects.nonNull(this.doFindChangelogTable(connection.getMetaData(), liquibase));
+    }
+  }
+
+  private String doFindChangelogTable(
+      final DatabaseMetaData metaData, final SpringLiquibase liquibase) throws SQLException {
+    final String tableName =
+        Objects.isNull(liquibase.getDatabaseChangeLogTable())
+            ? DEFAULT_CHANGELOG_TABLE
+            : liquibase.getDatabaseChangeLogTable();
+    if (this.doFindTable(metaData, tableName.toUpperCase(Locale.ROOT))) {
+      return tableName.toUpperCase(Locale.ROOT);
+    }
+    if (this.doFindTable(metaData, tableName.toLowerCase(Locale.ROOT))) {
+      return tableName.toLowerCase(Locale.ROOT);
+    }
+    return null;
+  }
+
+  private boolean doFindTable(final DatabaseMetaData metaData, final String name)
+      throws SQLException {
+    try (ResultSet tables = metaData.getTables(null, null, name, null)) {
+      return tables.next();
+    }
+  }
+
+  private String loadDigest() throws IOException {
+    final File file = new File(this.digestFile);
+    if (!file.exists()) {
+      log.debug("No Liquibase changelog digest found: {}", this.digestFile);
+      return null;
+    }
+    return Files.readString(file.toPath(), StandardCharsets.UTF_8).trim();
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.repositories.comicbooks;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
+import static junit.framework.TestCase.assertTrue;
+
+import com.github.springtestdbunit.DbUnitTestExecutionListener;
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import java.util.ArrayList;
+import java.util.List;
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.repositories.RepositoryContext;
+import org.hibernate.Hibernate;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.support.DirtiesContextTestExecutionListener;
+import org.springframework.test.context.transaction.TransactionalTestExecutionListener;
+import org.springframework.transaction.annotation.Transactional;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = RepositoryContext.class)
+@TestPropertySource(locations = "classpath:application.properties")
+@DatabaseSetup("classpath:test-database.xml")
+@TestExecutionListeners({
+  DependencyInjectionTestExecutionListener.class,
+  DirtiesContextTestExecutionListener.class,
+  TransactionalTestExecutionListener.class,
+  DbUnitTestExecutionListener.class
+})
+public class ComicBookKeysetRepositoryTest {
+  private static final int TEST_PAGE_SIZE = 4;
+  private static final long TEST_MAX_ID = 2000L;
+  private static final long TEST_SNAPSHOT_ID = 1020L;
+  private static final long TEST_COMIC_WITH_PAGES = 1000L;
+
+  @Autowired private ComicBookRepository repository;
+
+  @Test
+  public void testFindMaxIdForSelection() {
+    assertEquals(
+        TEST_MAX_ID, repository.findMaxIdForSelection(ComicBookSelection.TO_RECREATE).longValue());
+  }
+
+  @Test
+  public void testFindMaxIdForEmptySelection() {
+    assertNull(repository.findMaxIdForSelection(ComicBookSelection.UNPROCESSED));
+  }
+
+  @Test
+  public void testFindIdsForSelection() {
+    final List<Long> expected =
+        repository.findAll().stream()
+            .map(ComicBook::getId)
+            .filter(id -> id <= TEST_SNAPSHOT_ID)
+            .sorted()
+            .toList();
+    final List<Long> result = new ArrayList<>();
+    long lastId = 0L;
+    List<Long> page;
+    do {
+      page =
+          repository.findIdsForSelection(
+              ComicBookSelection.TO_RECREATE, lastId, TEST_SNAPSHOT_ID, TEST_PAGE_SIZE);
+      assertTrue(page.size() <= TEST_PAGE_SIZE);
+      if (!page.isEmpty()) lastId = page.get(page.size() - 1);
+      result.addAll(page);
+    } while (!page.isEmpty());
+
+    assertEquals(expected, result);
+  }
+
+  @Test
+  public void testFindIdsForSelectionAppliesPredicate() {
+    final List<Long> result =
+        repository.findIdsForSelection(
+            ComicBookSelection.TO_BE_MOVED, 0L, TEST_MAX_ID, TEST_PAGE_SIZE);
+
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  @Transactional
+  public void testFindAllWithDetailsAndPages() {
+    final List<Long> ids = List.of(1002L, TEST_COMIC_WITH_PAGES, 1001L);
+
+    final List<ComicBook> result =
+        repository.findAllWithDetailsAndPages(ComicBookSelection.TO_RECREATE, ids);
+
+    assertEquals(
+        List.of(TEST_COMIC_WITH_PAGES, 1001L, 1002L),
+        result.stream().map(ComicBook::getId).toList());
+    final ComicBook comicBook = result.get(0);
+    assertTrue(Hibernate.isInitialized(comicBook.getComicDetail()));
+    assertTrue(Hibernate.isInitialized(comicBook.getPages()));
+    assertEquals(5, comicBook.getPages().size());
+  }
+
+  @Test
+  public void testFindAllWithDetailsAndPagesSkipsUnselected() {
+    assertTrue(
+        repository
+            .findAllWithDetailsAndPages(
+                ComicBookSelection.TO_BE_MOVED, List.of(TEST_COMIC_WITH_PAGES))
+            .isEmpty());
+  }
+
+  @Test
+  public void testFindAllWithDetailsAndPagesNoIds() {
+    assertTrue(
+        repository
+            .findAllWithDetailsAndPages(ComicBookSelection.TO_RECREATE, new ArrayList<>())
+            .isEmpty());
+  }
+}
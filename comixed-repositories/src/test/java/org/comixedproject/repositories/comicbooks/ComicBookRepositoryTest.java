@@ -49,6 +49,7 @@ import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
 import org.springframework.test.context.support.DirtiesContextTestExecutionListener;
 import org.springframework.test.context.transaction.TransactionalTestExecutionListener;
+import org.springframework.transaction.annotation.Transactional;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest(classes = RepositoryContext.class)
@@ -83,6 +84,8 @@ public class ComicBookRepositoryTest {
   private static final String TEST_HASH_WITH_NO_COMICS = "FEDCBA9876543210FEDCBA9876543210";
   private static final String TEST_HASH_WITH_COMICS = "0123456789ABCDEF0123456789ABCDEF";
   private static final int TEST_BATCH_SIZE = 1;
+  private static final long TEST_PURGEABLE_COMIC_ID = 1000L;
+  private static final long TEST_PURGEABLE_COMIC_DETAIL_ID = 2000L;
 
   @Autowired private ComicBookRepository repository;
 
@@ -104,6 +107,28 @@ public class ComicBookRepositoryTest {
     assertFalse(result.isPresent());
   }
 
+  @Transactional
+  @Test
+  public void testPurgeComicBooks() {
+    final List<Long> ids = List.of(TEST_PURGEABLE_COMIC_ID);
+
+    assertEquals(
+        List.of(TEST_PURGEABLE_COMIC_DETAIL_ID), repository.getComicDetailIdsForComicBooks(ids));
+
+    repository.purgeReadingListEntries(ids);
+    repository.purgeLastReadEntries(ids);
+    repository.purgeComicTags(ids);
+    repository.purgeStoryEntryReferences(ids);
+    repository.purgePages(ids);
+    repository.purgeMetadataSources(ids);
+    repository.purgeComicDetails(ids);
+    repository.purgeComicBooks(ids);
+
+    assertFalse(repository.findById(TEST_PURGEABLE_COMIC_ID).isPresent());
+    assertTrue(repository.getComicDetailIdsForComicBooks(ids).isEmpty());
+    assertTrue(repository.findById(TEST_COMIC_ID).isPresent());
+  }
+
   @Test
   public void testPageCount() {
     assertEquals(5, comicBook.getPageCount());
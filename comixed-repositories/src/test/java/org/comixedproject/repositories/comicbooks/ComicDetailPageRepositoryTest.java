@@ -0,0 +1,236 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.repositories.comicbooks;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+import com.github.springtestdbunit.DbUnitTestExecutionListener;
+import com.github.springtestdbunit.annotation.DatabaseSetup;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+import org.comixedproject.model.collections.CollectionEntry;
+import org.comixedproject.model.comicbooks.ComicDetail;
+import org.comixedproject.model.comicbooks.ComicTagType;
+import org.comixedproject.repositories.RepositoryContext;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.test.context.support.DirtiesContextTestExecutionListener;
+import org.springframework.test.context.transaction.TransactionalTestExecutionListener;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = RepositoryContext.class)
+@TestPropertySource(locations = "classpath:application.properties")
+@DatabaseSetup("classpath:test-database.xml")
+@TestExecutionListeners({
+  DependencyInjectionTestExecutionListener.class,
+  DirtiesContextTestExecutionListener.class,
+  TransactionalTestExecutionListener.class,
+  DbUnitTestExecutionListener.class
+})
+public class ComicDetailPageRepositoryTest {
+  private static final int TEST_PAGE_SIZE = 2;
+  private static final String TEST_PUBLISHER = "Marvel";
+  private static final String TEST_EMAIL = "comixedreader@localhost";
+
+  @Autowired private ComicDetailRepository repository;
+
+  @Test
+  public void testLoadComicDetailPageById() {
+    this.doTestPaging("id", true, ComicDetail::getId);
+    this.doTestPaging("id", false, ComicDetail::getId);
+  }
+
+  @Test
+  public void testLoadComicDetailPageByCoverDate() {
+    this.doTestPaging("coverDate", true, ComicDetail::getCoverDate);
+    this.doTestPaging("coverDate", false, ComicDetail::getCoverDate);
+  }
+
+  @Test
+  public void testLoadComicDetailPageByAddedDate() {
+    this.doTestPaging("addedDate", true, ComicDetail::getAddedDate);
+    this.doTestPaging("addedDate", false, ComicDetail::getAddedDate);
+  }
+
+  @Test
+  public void testLoadComicDetailPageBySeries() {
+    this.doTestPaging("series", true, ComicDetail::getSeries);
+    this.doTestPaging("series", false, ComicDetail::getSeries);
+  }
+
+  @Test
+  public void testLoadComicDetailPageByIssueNumber() {
+    this.doTestPaging("sortableIssueNumber", true, ComicDetail::getSortableIssueNumber);
+    this.doTestPaging("sortableIssueNumber", false, ComicDetail::getSortableIssueNumber);
+  }
+
+  @Test
+  public void testLoadComicDetailPageByComicState() {
+    this.doTestPaging("comicState", true, ComicDetail::getComicState);
+    this.doTestPaging("comicState", false, ComicDetail::getComicState);
+  }
+
+  @Test
+  public void testLoadComicDetailPageWithExample() {
+    final ComicDetail probe = new ComicDetail();
+    probe.setComicState(null);
+    probe.setCoverDate(null);
+    probe.setMonthPublished(null);
+    probe.setYearPublished(null);
+    probe.setAddedDate(null);
+    probe.setComicType(null);
+    probe.setUnscraped(null);
+    probe.setPublisher(TEST_PUBLISHER);
+    final Example<ComicDetail> example =
+        Example.of(
+            probe,
+            ExampleMatcher.matching()
+                .withMatcher("publisher", ExampleMatcher.GenericPropertyMatchers.exact()));
+
+    final List<ComicDetail> result =
+        repository.loadComicDetailPage(example, null, "id", true, null, null, 100);
+
+    assertFalse(result.isEmpty());
+    assertEquals(repository.count(example), result.size());
+    assertTrue(result.stream().allMatch(entry -> TEST_PUBLISHER.equals(entry.getPublisher())));
+  }
+
+  @Test
+  public void testLoadComicDetailPageUnread() {
+    final List<Long> expected =
+        repository.loadUnreadComicDetails(TEST_EMAIL, Pageable.unpaged()).stream()
+            .map(ComicDetail::getId)
+            .sorted()
+            .toList();
+
+    final List<Long> result = new ArrayList<>();
+    List<ComicDetail> page =
+        repository.loadComicDetailPage(null, TEST_EMAIL, "id", true, null, null, TEST_PAGE_SIZE);
+    while (!page.isEmpty()) {
+      page.forEach(entry -> result.add(entry.getId()));
+      final ComicDetail last = page.get(page.size() - 1);
+      page =
+          repository.loadComicDetailPage(
+              null, TEST_EMAIL, "id", true, last.getId(), last.getId(), TEST_PAGE_SIZE);
+    }
+
+    assertFalse(expected.isEmpty());
+    assertTrue(expected.size() < repository.count());
+    assertEquals(expected, result);
+  }
+
+  @Test
+  public void testLoadCollectionEntryPageByValue() {
+    this.doTestCollectionPaging(false, true);
+    this.doTestCollectionPaging(false, false);
+  }
+
+  @Test
+  public void testLoadCollectionEntryPageByCount() {
+    this.doTestCollectionPaging(true, true);
+    this.doTestCollectionPaging(true, false);
+  }
+
+  private void doTestPaging(
+      final String sortField,
+      final boolean ascending,
+      final Function<ComicDetail, Comparable<?>> sortValue) {
+    final Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+    final List<Long> expected =
+        repository.findAll(Sort.by(direction, sortField).and(Sort.by(direction, "id"))).stream()
+            .map(ComicDetail::getId)
+            .toList();
+
+    final List<Long> result = new ArrayList<>();
+    List<ComicDetail> page =
+        repository.loadComicDetailPage(
+            null, null, sortField, ascending, null, null, TEST_PAGE_SIZE);
+    while (!page.isEmpty()) {
+      assertTrue(page.size() <= TEST_PAGE_SIZE);
+      page.forEach(entry -> result.add(entry.getId()));
+      final ComicDetail last = page.get(page.size() - 1);
+      page =
+          repository.loadComicDetailPage(
+              null,
+              null,
+              sortField,
+              ascending,
+              this.doNormalize(sortValue.apply(last)),
+              last.getId(),
+              TEST_PAGE_SIZE);
+    }
+
+    assertEquals(expected, result);
+  }
+
+  private Comparable<?> doNormalize(final Comparable<?> value) {
+    // dates loaded from the database are timestamps, which do not compare against plain dates
+    if (value instanceof Date date) return new Date(date.getTime());
+    return value;
+  }
+
+  private void doTestCollectionPaging(final boolean byCount, final boolean ascending) {
+    Comparator<CollectionEntry> order =
+        byCount
+            ? Comparator.comparingLong(CollectionEntry::getComicCount)
+                .thenComparing(CollectionEntry::getTagValue)
+            : Comparator.comparing(CollectionEntry::getTagValue);
+    if (!ascending) order = order.reversed();
+    final List<String> expected =
+        repository.loadCollectionEntries(ComicTagType.CHARACTER, Pageable.unpaged()).stream()
+            .sorted(order)
+            .map(CollectionEntry::getTagValue)
+            .toList();
+
+    final List<String> result = new ArrayList<>();
+    List<CollectionEntry> page =
+        repository.loadCollectionEntryPage(
+            ComicTagType.CHARACTER, byCount, ascending, null, null, 1);
+    while (!page.isEmpty()) {
+      final CollectionEntry last = page.get(page.size() - 1);
+      result.add(last.getTagValue());
+      page =
+          repository.loadCollectionEntryPage(
+              ComicTagType.CHARACTER,
+              byCount,
+              ascending,
+              last.getTagValue(),
+              last.getComicCount(),
+              1);
+    }
+
+    assertFalse(expected.isEmpty());
+    assertEquals(expected, result);
+  }
+}
@@ -18,6 +18,7 @@
 
 package org.comixedproject.repositories.comicbooks;
 
+import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertTrue;
@@ -25,12 +26,16 @@ import static junit.framework.TestCase.assertTrue;
 import com.github.springtestdbunit.DbUnitTestExecutionListener;
 import com.github.springtestdbunit.annotation.DatabaseSetup;
 import java.util.List;
+import org.comixedproject.model.collections.Series;
 import org.comixedproject.model.comicbooks.ComicDetail;
+import org.comixedproject.model.comicbooks.ComicTagType;
 import org.comixedproject.repositories.RepositoryContext;
+import org.comixedproject.repositories.collections.IssueRepository;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -55,8 +60,10 @@ public class ComicDetailRepositoryTest {
   private static final String TEST_READ_SERIES = "Steve Rogers: Captain America";
   private static final String TEST_READ_VOLUME = "2017";
   private static final String TEST_EMAIL = "comixedreader@localhost";
+  private static final String TEST_CHARACTER = "Captain America";
 
   @Autowired private ComicDetailRepository repository;
+  @Autowired private IssueRepository issueRepository;
 
   @Test
   public void testGetAllUnreadForPublisherAndSeriesAndVolume() {
@@ -94,4 +101,71 @@ public class ComicDetailRepositoryTest {
 
     assertFalse(result.stream().filter(entry -> entry.getUnscraped()).toList().isEmpty());
   }
+
+  @Test
+  public void testLoadSeriesCatalog() {
+    final List<Series> result = repository.loadSeriesCatalog();
+
+    assertNotNull(result);
+    assertFalse(result.isEmpty());
+
+    final Series series =
+        result.stream()
+            .filter(
+                entry ->
+                    entry.getName().equals(TEST_READ_SERIES)
+                        && entry.getVolume().equals(TEST_READ_VOLUME))
+            .findFirst()
+            .get();
+    assertEquals(TEST_PUBLISHER, series.getPublisher());
+    assertTrue(series.getInLibrary() > 0L);
+    assertEquals(
+        issueRepository.getCountForSeriesAndVolume(TEST_READ_SERIES, TEST_READ_VOLUME),
+        series.getTotalIssues().longValue());
+  }
+
+  @Test
+  public void testGetPageForPublisherAndSeriesAndVolume() {
+    final List<ComicDetail> result =
+        repository.getPageForPublisherAndSeriesAndVolume(
+            TEST_PUBLISHER, TEST_READ_SERIES, TEST_READ_VOLUME, PageRequest.of(0, 2));
+
+    assertEquals(List.of(2006L, 2010L), result.stream().map(ComicDetail::getId).toList());
+  }
+
+  @Test
+  public void testGetPageForPublisherAndSeriesAndVolumeAfter() {
+    final List<ComicDetail> result =
+        repository.getPageForPublisherAndSeriesAndVolumeAfter(
+            TEST_PUBLISHER, TEST_READ_SERIES, TEST_READ_VOLUME, 2010L, PageRequest.of(0, 2));
+
+    assertEquals(List.of(2005L, 2001L), result.stream().map(ComicDetail::getId).toList());
+  }
+
+  @Test
+  public void testGetPageForPublisherAndSeriesAndVolumeBefore() {
+    final List<ComicDetail> result =
+        repository.getPageForPublisherAndSeriesAndVolumeBefore(
+            TEST_PUBLISHER, TEST_READ_SERIES, TEST_READ_VOLUME, 2005L, PageRequest.of(0, 2));
+
+    assertEquals(List.of(2010L, 2006L), result.stream().map(ComicDetail::getId).toList());
+  }
+
+  @Test
+  public void testGetPageForTagAfter() {
+    final List<ComicDetail> result =
+        repository.getPageForTagAfter(
+            ComicTagType.CHARACTER, TEST_CHARACTER, 2000L, PageRequest.of(0, 10));
+
+    assertEquals(List.of(2001L), result.stream().map(ComicDetail::getId).toList());
+  }
+
+  @Test
+  public void testGetPageForTagBefore() {
+    final List<ComicDetail> result =
+        repository.getPageForTagBefore(
+            ComicTagType.CHARACTER, TEST_CHARACTER, 2001L, PageRequest.of(0, 10));
+
+    assertEquals(List.of(2000L), result.stream().map(ComicDetail::getId).toList());
+  }
 }
@@ -24,6 +24,7 @@ import com.github.springtestdbunit.DbUnitTestExecutionListener;
 import com.github.springtestdbunit.annotation.DatabaseSetup;
 import java.util.List;
 import org.comixedproject.model.comicpages.BlockedHash;
+import org.comixedproject.model.comicpages.PageHash;
 import org.comixedproject.repositories.RepositoryContext;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -66,6 +67,16 @@ public class BlockedHashRepositoryTest {
     assertEquals(TEST_HASH_IN_DATABASE, result.getHash());
   }
 
+  @Test
+  public void testFindByHashes() {
+    final List<BlockedHash> result =
+        repository.findByHashes(List.of(TEST_HASH_IN_DATABASE, TEST_HASH_NOT_IN_DATABASE));
+
+    assertNotNull(result);
+    assertEquals(1, result.size());
+    assertEquals(TEST_HASH_IN_DATABASE, result.get(0).getHash());
+  }
+
   @Test
   public void testGetAll() {
     final List<BlockedHash> result = repository.getAll();
@@ -76,9 +87,10 @@ public class BlockedHashRepositoryTest {
 
   @Test
   public void testGetHashes() {
-    final List<String> result = repository.getHashes();
+    final List<PageHash> result = repository.getHashes();
 
     assertNotNull(result);
     assertFalse(result.isEmpty());
+    assertTrue(result.contains(PageHash.fromHex(TEST_HASH_IN_DATABASE)));
   }
 }
@@ -31,12 +31,15 @@ import java.util.ArrayList;
 import java.util.List;
 import org.comixedproject.model.comicpages.DeletedPageAndComic;
 import org.comixedproject.model.comicpages.Page;
+import org.comixedproject.model.comicpages.PageHash;
 import org.comixedproject.model.comicpages.PageState;
+import org.comixedproject.model.comicpages.PerceptualPageHash;
 import org.comixedproject.repositories.RepositoryContext;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -62,6 +65,8 @@ public class PageRepositoryTest {
   private static final String TEST_INVALID_HASH = "111111111AAAAAA1111111111AAAAAA1";
   public static final String TEST_NOT_DELETED_HASH = "6789ABCDEF0123456789ABCDEF012345";
   private static final String TEST_DELETED_HASH = "56789ABCDEF0123456789ABCDEF01234";
+  private static final Long TEST_BLOCKED_PERCEPTUAL_HASH = 255L;
+  private static final Long TEST_COMIC_BOOK_ID = 1000L;
 
   static {
     TEST_DUPLICATE_PAGE_HASHES.add(TEST_DUPLICATE_PAGE_HASH_1);
@@ -142,4 +147,58 @@ public class PageRepositoryTest {
     assertNotNull(result);
     assertFalse(result.isEmpty());
   }
+
+  @Test
+  public void testLoadPerceptualHashes() {
+    final List<PerceptualPageHash> result =
+        repository.loadPerceptualHashes(0L, PageRequest.of(0, 10));
+
+    assertNotNull(result);
+    assertEquals(3, result.size());
+    assertEquals(Long.valueOf(1000L), result.get(0).getId());
+    assertEquals(TEST_COMIC_BOOK_ID, result.get(0).getComicBookId());
+    assertEquals(TEST_DUPLICATE_PAGE_HASH_2, result.get(0).getHash().toString());
+    assertEquals(TEST_BLOCKED_PERCEPTUAL_HASH, result.get(0).getPerceptualHash());
+  }
+
+  @Test
+  public void testLoadPerceptualHashesAfterId() {
+    final List<PerceptualPageHash> result =
+        repository.loadPerceptualHashes(1000L, PageRequest.of(0, 1));
+
+    assertNotNull(result);
+    assertEquals(1, result.size());
+    assertEquals(Long.valueOf(1001L), result.get(0).getId());
+  }
+
+  @Test
+  public void testLoadPerceptualHashesForComicBooks() {
+    final List<PerceptualPageHash> result =
+        repository.loadPerceptualHashesForComicBooks(List.of(TEST_COMIC_BOOK_ID));
+
+    assertNotNull(result);
+    assertEquals(3, result.size());
+    result.forEach(entry -> assertEquals(TEST_COMIC_BOOK_ID, entry.getComicBookId()));
+  }
+
+  @Test
+  public void testLoadPerceptualHashesForHashes() {
+    final List<PerceptualPageHash> result =
+        repository.loadPerceptualHashesForHashes(
+            List.of(
+                PageHash.fromHex(TEST_DUPLICATE_PAGE_HASH_2), PageHash.fromHex(TEST_INVALID_HASH)));
+
+    assertNotNull(result);
+    assertEquals(1, result.size());
+    assertEquals(TEST_DUPLICATE_PAGE_HASH_2, result.get(0).getHash().toString());
+    assertEquals(TEST_BLOCKED_PERCEPTUAL_HASH, result.get(0).getPerceptualHash());
+  }
+
+  @Test
+  public void testGetBlockedPerceptualHashes() {
+    final List<Long> result = repository.getBlockedPerceptualHashes();
+
+    assertNotNull(result);
+    assertEquals(List.of(TEST_BLOCKED_PERCEPTUAL_HASH), result);
+  }
 }
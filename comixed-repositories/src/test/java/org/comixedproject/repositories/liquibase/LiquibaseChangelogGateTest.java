@@ -0,0 +1,215 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.repositories.liquibase;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LiquibaseChangelogGateTest {
+  private static final String TEST_BEAN_NAME = "liquibase";
+  private static final File TEST_DIGEST_FILE = new File("target/test-classes/liquibase.digest");
+  private static final String TEST_CHANGELOG_FILES = "classpath:test-database.xml";
+  private static final String TEST_DATABASE_URL = "jdbc:h2:mem:comixed_test";
+  private static final long TEST_APPLIED_COUNT = 27L;
+  private static final String TEST_LAST_CHANGE_SET = "005_binary_page_hashes";
+
+  @InjectMocks private LiquibaseChangelogGate gate;
+  @Mock private SpringLiquibase liquibase;
+  @Mock private DataSource dataSource;
+  @Mock private Connection connection;
+  @Mock private DatabaseMetaData databaseMetaData;
+  @Mock private ResultSet tables;
+  @Mock private Statement statement;
+  @Mock private ResultSet appliedCount;
+  @Mock private ResultSet lastApplied;
+
+  @Before
+  public void setUp() {
+    TEST_DIGEST_FILE.delete();
+    gate.skipUnchanged = true;
+    gate.digestFile = TEST_DIGEST_FILE.getPath();
+    gate.changelogFiles = TEST_CHANGELOG_FILES;
+  }
+
+  @After
+  public void tearDown() {
+    TEST_DIGEST_FILE.delete();
+  }
+
+  private void doStubDatabase(final boolean changelogTablePresent) throws SQLException {
+    Mockito.when(liquibase.getDataSource()).thenReturn(dataSource);
+    Mockito.when(dataSource.getConnection()).thenReturn(connection);
+    Mockito.when(connection.getMetaData()).thenReturn(databaseMetaData);
+    Mockito.when(databaseMetaData.getURL()).thenReturn(TEST_DATABASE_URL);
+    Mockito.when(
+            databaseMetaData.getTables(
+                Mockito.isNull(), Mockito.isNull(), Mockito.anyString(), Mockito.isNull()))
+        .thenReturn(tables);
+    Mockito.when(tables.next()).thenReturn(changelogTablePresent);
+    if (changelogTablePresent) {
+      Mockito.when(connection.createStatement()).thenReturn(statement);
+      Mockito.when(statement.executeQuery(Mockito.startsWith("SELECT COUNT")))
+          .thenReturn(appliedCount);
+      Mockito.when(statement.executeQuery(Mockito.startsWith("SELECT ID"))).thenReturn(lastApplied);
+      Mockito.when(appliedCount.next()).thenReturn(true);
+      Mockito.when(appliedCount.getLong(1)).thenReturn(TEST_APPLIED_COUNT);
+      Mockito.when(lastApplied.next()).thenReturn(true);
+      Mockito.when(lastApplied.getString(Mockito.anyInt())).thenReturn(TEST_LAST_CHANGE_SET);
+    }
+  }
+
+  @Test
+  public void testBeforeInitializationDisabled() {
+    gate.skipUnchanged = false;
+
+    final Object result = gate.postProcessBeforeInitialization(liquibase, TEST_BEAN_NAME);
+
+    assertSame(liquibase, result);
+
+    Mockito.verifyNoInteractions(liquibase);
+  }
+
+  @Test
+  public void testBeforeInitializationOtherBean() {
+    final Object bean = new Object();
+
+    assertSame(bean, gate.postProcessBeforeInitialization(bean, TEST_BEAN_NAME));
+  }
+
+  @Test
+  public void testFirstRunStoresDigest()
+      throws SQLException, IOException, NoSuchAlgorithmException {
+    this.doStubDatabase(true);
+
+    gate.postProcessBeforeInitialization(liquibase, TEST_BEAN_NAME);
+    gate.postProcessAfterInitialization(liquibase, TEST_BEAN_NAME);
+
+    assertTrue(TEST_DIGEST_FILE.exists());
+    assertEquals(
+        gate.createDigest(liquibase),
+        Files.readString(TEST_DIGEST_FILE.toPath(), StandardCharsets.UTF_8));
+
+    Mockito.verify(liquibase, Mockito.never()).setShouldRun(Mockito.anyBoolean());
+  }
+
+  @Test
+  public void testUnchangedChangelogSkipsUpdate()
+      throws SQLException, IOException, NoSuchAlgorithmException {
+    this.doStubDatabase(true);
+    Files.writeString(TEST_DIGEST_FILE.toPath(), gate.createDigest(liquibase));
+    final long lastModified = TEST_DIGEST_FILE.lastModified() - 10000L;
+    TEST_DIGEST_FILE.setLastModified(lastModified);
+
+    gate.postProcessBeforeInitialization(liquibase, TEST_BEAN_NAME);
+    gate.postProcessAfterInitialization(liquibase, TEST_BEAN_NAME);
+
+    assertEquals(lastModified, TEST_DIGEST_FILE.lastModified());
+
+    Mockito.verify(liquibase, Mockito.times(1)).setShouldRun(false);
+  }
+
+  @Test
+  public void testChangedChangelogRunsUpdate() throws SQLException, IOException {
+    this.doStubDatabase(true);
+    Files.writeString(TEST_DIGEST_FILE.toPath(), "previous-digest");
+
+    gate.postProcessBeforeInitialization(liquibase, TEST_BEAN_NAME);
+    gate.postProcessAfterInitialization(liquibase, TEST_BEAN_NAME);
+
+    assertFalse(
+        "previous-digest"
+            .equals(Files.readString(TEST_DIGEST_FILE.toPath(), StandardCharsets.UTF_8)));
+
+    Mockito.verify(liquibase, Mockito.never()).setShouldRun(Mockito.anyBoolean());
+  }
+
+  @Test
+  public void testRestoredDatabaseRunsUpdate()
+      throws SQLException, IOException, NoSuchAlgorithmException {
+    this.doStubDatabase(true);
+    Files.writeString(TEST_DIGEST_FILE.toPath(), gate.createDigest(liquibase));
+    Mockito.when(appliedCount.getLong(1)).thenReturn(TEST_APPLIED_COUNT - 3L);
+
+    gate.postProcessBeforeInitialization(liquibase, TEST_BEAN_NAME);
+
+    Mockito.verify(liquibase, Mockito.never()).setShouldRun(Mockito.anyBoolean());
+  }
+
+  @Test
+  public void testChangedLastChangeSetRunsUpdate()
+      throws SQLException, IOException, NoSuchAlgorithmException {
+    this.doStubDatabase(true);
+    Files.writeString(TEST_DIGEST_FILE.toPath(), gate.createDigest(liquibase));
+    Mockito.when(lastApplied.getString(Mockito.anyInt())).thenReturn("004_older_change_set");
+
+    gate.postProcessBeforeInitialization(liquibase, TEST_BEAN_NAME);
+
+    Mockito.verify(liquibase, Mockito.never()).setShouldRun(Mockito.anyBoolean());
+  }
+
+  @Test
+  public void testStoredDigestIncludesAppliedChangeSets()
+      throws SQLException, IOException, NoSuchAlgorithmException {
+    this.doStubDatabase(true);
+    Files.writeString(TEST_DIGEST_FILE.toPath(), "previous-digest");
+
+    gate.postProcessBeforeInitialization(liquibase, TEST_BEAN_NAME);
+    Mockito.when(appliedCount.getLong(1)).thenReturn(TEST_APPLIED_COUNT + 1L);
+    gate.postProcessAfterInitialization(liquibase, TEST_BEAN_NAME);
+
+    assertEquals(
+        gate.createDigest(liquibase),
+        Files.readString(TEST_DIGEST_FILE.toPath(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testMissingChangelogTableRunsUpdate()
+      throws SQLException, IOException, NoSuchAlgorithmException {
+    this.doStubDatabase(false);
+    Files.writeString(TEST_DIGEST_FILE.toPath(), gate.createDigest(liquibase));
+
+    gate.postProcessBeforeInitialization(liquibase, TEST_BEAN_NAME);
+
+    Mockito.verify(liquibase, Mockito.never()).setShouldRun(Mockito.anyBoolean());
+  }
+}
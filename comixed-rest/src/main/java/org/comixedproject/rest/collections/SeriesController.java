@@ -23,6 +23,7 @@ import java.util.List;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.model.collections.Issue;
 import org.comixedproject.model.net.collections.LoadSeriesDetailRequest;
+import org.comixedproject.model.net.collections.LoadSeriesListRequest;
 import org.comixedproject.model.net.collections.LoadSeriesListResponse;
 import org.comixedproject.service.collections.SeriesService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,8 +44,9 @@ public class SeriesController {
   @Autowired private SeriesService seriesService;
 
   /**
-   * Returns the list of series, sorted by the given sort field.
+   * Returns one page of the list of series, filtered and sorted by the given fields.
    *
+   * @param request the request body
    * @return the response
    */
   @PostMapping(
@@ -53,9 +55,21 @@ public class SeriesController {
       consumes = MediaType.APPLICATION_JSON_VALUE)
   @PreAuthorize("hasRole('READER')")
   @Timed(value = "comixed.series.load-list")
-  public LoadSeriesListResponse loadSeriesList() {
-    log.info("Loading series");
-    return new LoadSeriesListResponse(this.seriesService.getSeriesList());
+  public LoadSeriesListResponse loadSeriesList(@RequestBody() final LoadSeriesListRequest request) {
+    final String searchText = request.getSearchText();
+    log.info(
+        "Loading series: search={} size={} index={}",
+        searchText,
+        request.getPageSize(),
+        request.getPageIndex());
+    return new LoadSeriesListResponse(
+        this.seriesService.getSeriesList(
+            searchText,
+            request.getPageSize(),
+            request.getPageIndex(),
+            request.getSortBy(),
+            request.getSortDirection()),
+        this.seriesService.getSeriesCount(searchText));
   }
 
   /**
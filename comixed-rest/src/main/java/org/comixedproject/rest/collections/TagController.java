@@ -20,7 +20,10 @@ package org.comixedproject.rest.collections;
 
 import com.fasterxml.jackson.annotation.JsonView;
 import io.micrometer.core.annotation.Timed;
+import java.util.List;
+import java.util.Objects;
 import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.collections.CollectionEntry;
 import org.comixedproject.model.comicbooks.ComicTagType;
 import org.comixedproject.model.net.collections.LoadCollectionListRequest;
 import org.comixedproject.model.net.collections.LoadCollectionListResponse;
@@ -56,13 +59,23 @@ public class TagController {
       @PathVariable("tagType") final String tagType) {
     final ComicTagType tag = ComicTagType.forValue(tagType);
     log.info("Loading collection list entries: type={}", tag);
+    final List<CollectionEntry> entries =
+        Objects.nonNull(request.getCursor())
+            ? this.comicDetailService.loadCollectionEntryPage(
+                tag,
+                request.getPageSize(),
+                request.getCursor(),
+                request.getSortBy(),
+                request.getSortDirection())
+            : this.comicDetailService.loadCollectionEntries(
+                tag,
+                request.getPageSize(),
+                request.getPageIndex(),
+                request.getSortBy(),
+                request.getSortDirection());
     return new LoadCollectionListResponse(
-        this.comicDetailService.loadCollectionEntries(
-            tag,
-            request.getPageSize(),
-            request.getPageIndex(),
-            request.getSortBy(),
-            request.getSortDirection()),
-        this.comicDetailService.loadCollectionTotalEntries(tag));
+        entries,
+        this.comicDetailService.loadCollectionTotalEntries(tag),
+        this.comicDetailService.getNextCursor(entries, request.getPageSize()));
   }
 }
@@ -29,6 +29,7 @@ import java.io.InputStream;
 import java.security.Principal;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.log4j.Log4j2;
@@ -349,22 +350,42 @@ public class ComicBookController {
       throws LastReadException {
     final String email = principal.getName();
     log.debug("Loading comics: {}", request);
-    final List<ComicDetail> comicDetails =
-        this.comicDetailService.loadComicDetailList(
-            request.getPageSize(),
-            request.getPageIndex(),
-            request.getCoverYear(),
-            request.getCoverMonth(),
-            request.getArchiveType(),
-            request.getComicType(),
-            request.getComicState(),
-            request.getUnscrapedState(),
-            request.getSearchText(),
-            request.getPublisher(),
-            request.getSeries(),
-            request.getVolume(),
-            request.getSortBy(),
-            request.getSortDirection());
+    final List<ComicDetail> comicDetails;
+    if (Objects.nonNull(request.getCursor()) && Objects.nonNull(request.getPageSize())) {
+      comicDetails =
+          this.comicDetailService.loadComicDetailPage(
+              request.getPageSize(),
+              request.getCursor(),
+              request.getCoverYear(),
+              request.getCoverMonth(),
+              request.getArchiveType(),
+              request.getComicType(),
+              request.getComicState(),
+              request.getUnscrapedState(),
+              request.getSearchText(),
+              request.getPublisher(),
+              request.getSeries(),
+              request.getVolume(),
+              request.getSortBy(),
+              request.getSortDirection());
+    } else {
+      comicDetails =
+          this.comicDetailService.loadComicDetailList(
+              request.getPageSize(),
+              request.getPageIndex(),
+              request.getCoverYear(),
+              request.getCoverMonth(),
+              request.getArchiveType(),
+              request.getComicType(),
+              request.getComicState(),
+              request.getUnscrapedState(),
+              request.getSearchText(),
+              request.getPublisher(),
+              request.getSeries(),
+              request.getVolume(),
+              request.getSortBy(),
+              request.getSortDirection());
+    }
     final List<Integer> coverYears =
         this.comicDetailService.getCoverYears(
             request.getCoverYear(),
@@ -407,7 +428,9 @@ public class ComicBookController {
         coverMonths,
         this.comicBookService.getComicBookCount(),
         filterCount,
-        this.lastReadService.loadForComicDetails(email, comicDetails));
+        this.lastReadService.loadForComicDetails(email, comicDetails),
+        this.comicDetailService.getNextCursor(
+            comicDetails, request.getPageSize(), request.getSortBy(), request.getSortDirection()));
   }
 
   /**
@@ -438,7 +461,8 @@ public class ComicBookController {
         coverMonths,
         ids.size(),
         ids.size(),
-        this.lastReadService.loadForComicDetails(email, comicDetails));
+        this.lastReadService.loadForComicDetails(email, comicDetails),
+        null);
   }
 
   /**
@@ -481,7 +505,8 @@ public class ComicBookController {
         this.comicDetailService.getCoverMonths(tagType, tagValue),
         this.comicBookService.getComicBookCount(),
         this.comicDetailService.getFilterCount(tagType, tagValue),
-        this.lastReadService.loadForComicDetails(email, comicDetails));
+        this.lastReadService.loadForComicDetails(email, comicDetails),
+        null);
   }
 
   @PostMapping(
@@ -506,14 +531,18 @@ public class ComicBookController {
         sortBy,
         sortDirection);
     final List<ComicDetail> comicDetails =
-        this.comicDetailService.loadUnreadComicDetails(
-            email, pageSize, pageIndex, sortBy, sortDirection);
+        Objects.nonNull(request.getCursor())
+            ? this.comicDetailService.loadUnreadComicDetailPage(
+                email, pageSize, request.getCursor(), sortBy, sortDirection)
+            : this.comicDetailService.loadUnreadComicDetails(
+                email, pageSize, pageIndex, sortBy, sortDirection);
     return new LoadComicDetailsResponse(
         comicDetails,
         Collections.emptyList(),
         Collections.emptyList(),
         this.comicBookService.getComicBookCount(),
         this.lastReadService.getUnreadCountForUser(email),
-        this.lastReadService.loadForComicDetails(email, comicDetails));
+        this.lastReadService.loadForComicDetails(email, comicDetails),
+        this.comicDetailService.getNextCursor(comicDetails, pageSize, sortBy, sortDirection));
   }
 }
@@ -28,6 +28,7 @@ import io.micrometer.core.annotation.Timed;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.adaptors.file.FileTypeAdaptor;
@@ -39,6 +40,7 @@ import org.comixedproject.model.net.blockedpage.UnmarkPageWithHashRequest;
 import org.comixedproject.model.net.comicpages.SetBlockedPageRequest;
 import org.comixedproject.service.comicpages.BlockedHashException;
 import org.comixedproject.service.comicpages.BlockedHashService;
+import org.comixedproject.service.comicpages.SimilarPageService;
 import org.comixedproject.views.View;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParametersBuilder;
@@ -50,11 +52,13 @@ import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * <code>BlockedHashController</code> provides endpoints for working with instances of {@link
@@ -65,8 +69,11 @@ import org.springframework.web.multipart.MultipartFile;
 @RestController
 @Log4j2
 public class BlockedHashController {
+  static final int MAX_SIMILAR_DISTANCE = 10;
+
   @Autowired private BlockedHashService blockedHashService;
   @Autowired private FileTypeAdaptor fileTypeAdaptor;
+  @Autowired private SimilarPageService similarPageService;
 
   @Autowired
   @Qualifier("batchJobLauncher")
@@ -129,7 +136,9 @@ public class BlockedHashController {
   }
 
   /**
-   * Blocks pages by type.
+   * Blocks pages by type. If the request contains a similar distance then pages that are
+   * near-duplicates of the given pages are blocked as well. The distance must be between 0 and
+   * {@value #MAX_SIMILAR_DISTANCE}, otherwise the request is rejected as a bad request.
    *
    * @param request the request body
    * @throws JobInstanceAlreadyCompleteException if an error occurs
@@ -148,7 +157,21 @@ public class BlockedHashController {
           JobExecutionAlreadyRunningException,
           JobParametersInvalidException,
           JobRestartException {
-    final List<String> hashes = request.getHashes();
+    List<String> hashes = request.getHashes();
+    final Integer similarDistance = request.getSimilarDistance();
+    if (Objects.nonNull(similarDistance)
+        && (similarDistance < 0 || similarDistance > MAX_SIMILAR_DISTANCE)) {
+      log.debug("Invalid similar distance: {}", similarDistance);
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          String.format(
+              "Similar distance must be between 0 and %d: %d",
+              MAX_SIMILAR_DISTANCE, similarDistance));
+    }
+    if (Objects.nonNull(similarDistance) && similarDistance > 0) {
+      log.debug("Finding similar pages: distance={}", similarDistance);
+      hashes = this.similarPageService.findSimilarHashes(hashes, similarDistance);
+    }
     log.info("Block {} hash{}", hashes.size(), hashes.size() == 1 ? "" : "es");
     this.blockedHashService.blockPages(hashes);
     this.launchMarkPagesWithHashProcess(hashes);
@@ -0,0 +1,68 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.rest.comicpages;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.batch.scheduling.BatchIoBudget;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * <code>PageRequestLatencyFilter</code> measures how long page requests take and reports it to the
+ * {@link BatchIoBudget}, which slows down batch archive reads and writes while pages load slowly.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class PageRequestLatencyFilter extends OncePerRequestFilter {
+  static final String PAGES_PATH = "/api/pages/";
+
+  @Autowired private BatchIoBudget batchIoBudget;
+
+  @Override
+  protected boolean shouldNotFilter(final HttpServletRequest request) {
+    final String path = request.getRequestURI().substring(request.getContextPath().length());
+    return !HttpMethod.GET.matches(request.getMethod()) || !path.startsWith(PAGES_PATH);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      final HttpServletRequest request,
+      final HttpServletResponse response,
+      final FilterChain filterChain)
+      throws ServletException, IOException {
+    final long started = System.nanoTime();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      final long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+      log.trace("Page request latency: {}ms {}", latency, request.getRequestURI());
+      this.batchIoBudget.recordLatency(latency);
+    }
+  }
+}
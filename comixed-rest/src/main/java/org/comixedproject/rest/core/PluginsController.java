@@ -18,18 +18,31 @@
 
 package org.comixedproject.rest.core;
 
+import static org.comixedproject.batch.plugins.RunPluginConfiguration.PARAM_RUN_PLUGIN_NAME;
+import static org.comixedproject.batch.plugins.RunPluginConfiguration.PARAM_RUN_PLUGIN_SELECTION;
+import static org.comixedproject.batch.plugins.RunPluginConfiguration.PARAM_RUN_PLUGIN_STARTED;
+import static org.comixedproject.rest.comicbooks.ComicBookSelectionController.LIBRARY_SELECTIONS;
+
 import com.fasterxml.jackson.annotation.JsonView;
 import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpSession;
 import java.util.List;
 import lombok.extern.log4j.Log4j2;
+import org.comixedproject.batch.plugins.PluginSelectionStore;
 import org.comixedproject.plugins.PluginException;
 import org.comixedproject.plugins.PluginManager;
 import org.comixedproject.plugins.model.PluginDescriptor;
+import org.comixedproject.service.comicbooks.ComicBookSelectionService;
 import org.comixedproject.views.View;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -44,16 +57,27 @@ import org.springframework.web.bind.annotation.RestController;
 @Log4j2
 public class PluginsController {
   @Autowired private PluginManager pluginManager;
+  @Autowired private ComicBookSelectionService comicBookSelectionService;
+  @Autowired private PluginSelectionStore pluginSelectionStore;
+
+  @Autowired
+  @Qualifier("batchJobLauncher")
+  private JobLauncher jobLauncher;
+
+  @Autowired
+  @Qualifier("runPluginJob")
+  private Job runPluginJob;
 
   /**
    * Returns the list of previously loaded plugins.
    *
    * @return the list of plugins
+   * @throws PluginException if an error occurs
    */
   @GetMapping(value = "/plugins", produces = MediaType.APPLICATION_JSON_VALUE)
   @Timed(value = "comixed.plugins.get-all")
   @JsonView(View.PluginList.class)
-  public List<PluginDescriptor> getList() {
+  public List<PluginDescriptor> getList() throws PluginException {
     log.info("Fetching the list of plugins");
     return this.pluginManager.getPluginList();
   }
@@ -76,4 +100,37 @@ public class PluginsController {
     this.pluginManager.loadPlugins();
     return this.pluginManager.getPluginList();
   }
+
+  /**
+   * Starts a batch process that runs a plugin against the selected comics.
+   *
+   * @param session the session
+   * @param name the plugin name
+   * @throws Exception if an error occurs
+   */
+  @PostMapping(value = "/plugins/{name}/run")
+  @PreAuthorize("hasRole('ADMIN')")
+  @Timed(value = "comixed.plugins.run-selected")
+  public void runPlugin(final HttpSession session, @PathVariable("name") final String name)
+      throws Exception {
+    log.info("Running plugin on selected comics: {}", name);
+    this.pluginManager.loadPlugin(name);
+    final List<Long> selectedComicBookIdList =
+        this.comicBookSelectionService.decodeSelections(session.getAttribute(LIBRARY_SELECTIONS));
+    final String selection = this.pluginSelectionStore.store(selectedComicBookIdList);
+    log.trace("Launching run plugin process");
+    try {
+      this.jobLauncher.run(
+          this.runPluginJob,
+          new JobParametersBuilder()
+              .addLong(PARAM_RUN_PLUGIN_STARTED, System.currentTimeMillis())
+              .addString(PARAM_RUN_PLUGIN_NAME, name)
+              .addString(PARAM_RUN_PLUGIN_SELECTION, selection)
+              .toJobParameters());
+    } catch (Exception error) {
+      log.trace("Discarding plugin selection for failed launch");
+      this.pluginSelectionStore.remove(selection);
+      throw error;
+    }
+  }
 }
@@ -18,6 +18,7 @@
 
 package org.comixedproject.rest.collections;
 
+import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertSame;
 
@@ -25,6 +26,7 @@ import java.util.List;
 import org.comixedproject.model.collections.Issue;
 import org.comixedproject.model.collections.Series;
 import org.comixedproject.model.net.collections.LoadSeriesDetailRequest;
+import org.comixedproject.model.net.collections.LoadSeriesListRequest;
 import org.comixedproject.model.net.collections.LoadSeriesListResponse;
 import org.comixedproject.service.collections.SeriesService;
 import org.junit.Test;
@@ -39,6 +41,12 @@ public class SeriesControllerTest {
   private static final String TEST_PUBLISHER = "Publisher Name";
   private static final String TEST_SERIES = "Series Name";
   private static final String TEST_VOLUME = "2022";
+  private static final String TEST_SEARCH_TEXT = "series";
+  private static final int TEST_PAGE_SIZE = 25;
+  private static final int TEST_PAGE_INDEX = 3;
+  private static final String TEST_SORT_BY = "name";
+  private static final String TEST_SORT_DIRECTION = "desc";
+  private static final long TEST_TOTAL_SERIES = 717L;
 
   @InjectMocks private SeriesController controller;
   @Mock private SeriesService seriesService;
@@ -47,14 +55,33 @@ public class SeriesControllerTest {
 
   @Test
   public void testLoadSeriesList() {
-    Mockito.when(seriesService.getSeriesList()).thenReturn(seriesList);
+    Mockito.when(
+            seriesService.getSeriesList(
+                Mockito.anyString(),
+                Mockito.anyInt(),
+                Mockito.anyInt(),
+                Mockito.anyString(),
+                Mockito.anyString()))
+        .thenReturn(seriesList);
+    Mockito.when(seriesService.getSeriesCount(Mockito.anyString())).thenReturn(TEST_TOTAL_SERIES);
 
-    final LoadSeriesListResponse result = controller.loadSeriesList();
+    final LoadSeriesListResponse result =
+        controller.loadSeriesList(
+            new LoadSeriesListRequest(
+                TEST_SEARCH_TEXT,
+                TEST_PAGE_SIZE,
+                TEST_PAGE_INDEX,
+                TEST_SORT_BY,
+                TEST_SORT_DIRECTION));
 
     assertNotNull(result);
     assertSame(seriesList, result.getSeries());
+    assertEquals(TEST_TOTAL_SERIES, result.getTotalSeries());
 
-    Mockito.verify(seriesService, Mockito.times(1)).getSeriesList();
+    Mockito.verify(seriesService, Mockito.times(1))
+        .getSeriesList(
+            TEST_SEARCH_TEXT, TEST_PAGE_SIZE, TEST_PAGE_INDEX, TEST_SORT_BY, TEST_SORT_DIRECTION);
+    Mockito.verify(seriesService, Mockito.times(1)).getSeriesCount(TEST_SEARCH_TEXT);
   }
 
   @Test
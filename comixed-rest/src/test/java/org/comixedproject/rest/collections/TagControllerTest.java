@@ -24,6 +24,7 @@ import java.util.List;
 import org.apache.commons.lang.math.RandomUtils;
 import org.comixedproject.model.collections.CollectionEntry;
 import org.comixedproject.model.comicbooks.ComicTagType;
+import org.comixedproject.model.net.collections.CollectionEntryCursor;
 import org.comixedproject.model.net.collections.LoadCollectionListRequest;
 import org.comixedproject.model.net.collections.LoadCollectionListResponse;
 import org.comixedproject.service.comicbooks.ComicDetailService;
@@ -47,6 +48,8 @@ public class TagControllerTest {
   @InjectMocks private TagController controller;
   @Mock private ComicDetailService comicDetailService;
   @Mock private List<CollectionEntry> collectionEntryList;
+  @Mock private CollectionEntryCursor cursor;
+  @Mock private CollectionEntryCursor nextCursor;
 
   @Test
   public void testLocalCollection() {
@@ -60,20 +63,60 @@ public class TagControllerTest {
         .thenReturn(collectionEntryList);
     Mockito.when(comicDetailService.loadCollectionTotalEntries(Mockito.any(ComicTagType.class)))
         .thenReturn(TEST_COMIC_COUNT);
+    Mockito.when(comicDetailService.getNextCursor(Mockito.anyList(), Mockito.anyInt()))
+        .thenReturn(nextCursor);
 
     final LoadCollectionListResponse result =
         controller.loadCollectionList(
             new LoadCollectionListRequest(
-                TEST_PAGE_SIZE, TEST_PAGE_INDEX, TEST_SORT_BY, TEST_SORT_DIRECTION),
+                TEST_PAGE_SIZE, TEST_PAGE_INDEX, TEST_SORT_BY, TEST_SORT_DIRECTION, null),
             TEST_TAG_TYPE.getValue());
 
     assertNotNull(result);
     assertSame(collectionEntryList, result.getEntries());
     assertEquals(TEST_COMIC_COUNT, result.getTotalEntries());
+    assertSame(nextCursor, result.getNextCursor());
 
     Mockito.verify(comicDetailService, Mockito.times(1))
         .loadCollectionEntries(
             TEST_TAG_TYPE, TEST_PAGE_SIZE, TEST_PAGE_INDEX, TEST_SORT_BY, TEST_SORT_DIRECTION);
     Mockito.verify(comicDetailService, Mockito.times(1)).loadCollectionTotalEntries(TEST_TAG_TYPE);
   }
+
+  @Test
+  public void testLoadCollectionAfterCursor() {
+    Mockito.when(
+            comicDetailService.loadCollectionEntryPage(
+                Mockito.any(ComicTagType.class),
+                Mockito.anyInt(),
+                Mockito.any(CollectionEntryCursor.class),
+                Mockito.anyString(),
+                Mockito.anyString()))
+        .thenReturn(collectionEntryList);
+    Mockito.when(comicDetailService.loadCollectionTotalEntries(Mockito.any(ComicTagType.class)))
+        .thenReturn(TEST_COMIC_COUNT);
+    Mockito.when(comicDetailService.getNextCursor(Mockito.anyList(), Mockito.anyInt()))
+        .thenReturn(nextCursor);
+
+    final LoadCollectionListResponse result =
+        controller.loadCollectionList(
+            new LoadCollectionListRequest(
+                TEST_PAGE_SIZE, TEST_PAGE_INDEX, TEST_SORT_BY, TEST_SORT_DIRECTION, cursor),
+            TEST_TAG_TYPE.getValue());
+
+    assertNotNull(result);
+    assertSame(collectionEntryList, result.getEntries());
+    assertSame(nextCursor, result.getNextCursor());
+
+    Mockito.verify(comicDetailService, Mockito.times(1))
+        .loadCollectionEntryPage(
+            TEST_TAG_TYPE, TEST_PAGE_SIZE, cursor, TEST_SORT_BY, TEST_SORT_DIRECTION);
+    Mockito.verify(comicDetailService, Mockito.never())
+        .loadCollectionEntries(
+            Mockito.any(ComicTagType.class),
+            Mockito.anyInt(),
+            Mockito.anyInt(),
+            Mockito.anyString(),
+            Mockito.anyString());
+  }
 }
@@ -112,6 +112,8 @@ public class ComicBookControllerTest {
   @Mock private HttpSession httpSession;
   @Mock private Principal principal;
   @Mock private List<LastRead> lastReadEntryList;
+  @Mock private ComicDetailCursor comicDetailCursor;
+  @Mock private ComicDetailCursor nextComicDetailCursor;
 
   @Captor private ArgumentCaptor<InputStream> inputStreamCaptor;
 
@@ -550,7 +552,8 @@ public class ComicBookControllerTest {
                 TEST_SERIES,
                 TEST_VOLUME,
                 TEST_SORT_FIELD,
-                TEST_SORT_DIRECTION));
+                TEST_SORT_DIRECTION,
+                null));
 
     assertNotNull(result);
     assertSame(comicDetailList, result.getComicDetails());
@@ -561,6 +564,72 @@ public class ComicBookControllerTest {
     assertSame(lastReadEntryList, result.getLastReadEntries());
   }
 
+  @Test
+  public void testLoadComicDetailsAfterCursor() throws LastReadException {
+    Mockito.when(
+            comicDetailService.loadComicDetailPage(
+                TEST_PAGE_SIZE,
+                comicDetailCursor,
+                TEST_COVER_YEAR,
+                TEST_COVER_MONTH,
+                TEST_ARCHIVE_TYPE,
+                TEST_COMIC_TYPE,
+                TEST_COMIC_STATE,
+                TEST_UNSCRAPED_STATE,
+                TEST_SEARCH_TEXT,
+                TEST_PUBLISHER,
+                TEST_SERIES,
+                TEST_VOLUME,
+                TEST_SORT_FIELD,
+                TEST_SORT_DIRECTION))
+        .thenReturn(comicDetailList);
+    Mockito.when(
+            comicDetailService.getNextCursor(
+                comicDetailList, TEST_PAGE_SIZE, TEST_SORT_FIELD, TEST_SORT_DIRECTION))
+        .thenReturn(nextComicDetailCursor);
+
+    final LoadComicDetailsResponse result =
+        controller.loadComicDetailList(
+            principal,
+            new LoadComicDetailsRequest(
+                TEST_PAGE_SIZE,
+                TEST_PAGE_INDEX,
+                TEST_COVER_YEAR,
+                TEST_COVER_MONTH,
+                TEST_ARCHIVE_TYPE,
+                TEST_COMIC_TYPE,
+                TEST_COMIC_STATE,
+                TEST_UNSCRAPED_STATE,
+                TEST_SEARCH_TEXT,
+                TEST_PUBLISHER,
+                TEST_SERIES,
+                TEST_VOLUME,
+                TEST_SORT_FIELD,
+                TEST_SORT_DIRECTION,
+                comicDetailCursor));
+
+    assertNotNull(result);
+    assertSame(comicDetailList, result.getComicDetails());
+    assertSame(nextComicDetailCursor, result.getNextCursor());
+
+    Mockito.verify(comicDetailService, Mockito.never())
+        .loadComicDetailList(
+            Mockito.anyInt(),
+            Mockito.anyInt(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any());
+  }
+
   @Test
   public void testLoadComicDetailsById() throws LastReadException {
     Mockito.when(comicDetailService.loadComicDetailListById(Mockito.anySet()))
@@ -662,7 +731,7 @@ public class ComicBookControllerTest {
         controller.loadUnreadComicDetailList(
             principal,
             new LoadUnreadComicDetailsRequest(
-                TEST_PAGE_SIZE, TEST_PAGE_INDEX, TEST_SORT_FIELD, TEST_SORT_DIRECTION));
+                TEST_PAGE_SIZE, TEST_PAGE_INDEX, TEST_SORT_FIELD, TEST_SORT_DIRECTION, null));
 
     assertNotNull(result);
     assertSame(comicDetailList, result.getComicDetails());
@@ -677,4 +746,38 @@ public class ComicBookControllerTest {
             TEST_EMAIL, TEST_PAGE_SIZE, TEST_PAGE_INDEX, TEST_SORT_FIELD, TEST_SORT_DIRECTION);
     Mockito.verify(lastReadService, Mockito.times(1)).getUnreadCountForUser(TEST_EMAIL);
   }
+
+  @Test
+  public void testLoadUnreadComicDetailsAfterCursor() throws LastReadException {
+    Mockito.when(
+            comicDetailService.loadUnreadComicDetailPage(
+                Mockito.anyString(),
+                Mockito.anyInt(),
+                Mockito.any(ComicDetailCursor.class),
+                Mockito.anyString(),
+                Mockito.anyString()))
+        .thenReturn(comicDetailList);
+    Mockito.when(
+            comicDetailService.getNextCursor(
+                comicDetailList, TEST_PAGE_SIZE, TEST_SORT_FIELD, TEST_SORT_DIRECTION))
+        .thenReturn(nextComicDetailCursor);
+
+    final LoadComicDetailsResponse result =
+        controller.loadUnreadComicDetailList(
+            principal,
+            new LoadUnreadComicDetailsRequest(
+                TEST_PAGE_SIZE,
+                TEST_PAGE_INDEX,
+                TEST_SORT_FIELD,
+                TEST_SORT_DIRECTION,
+                comicDetailCursor));
+
+    assertNotNull(result);
+    assertSame(comicDetailList, result.getComicDetails());
+    assertSame(nextComicDetailCursor, result.getNextCursor());
+
+    Mockito.verify(comicDetailService, Mockito.times(1))
+        .loadUnreadComicDetailPage(
+            TEST_EMAIL, TEST_PAGE_SIZE, comicDetailCursor, TEST_SORT_FIELD, TEST_SORT_DIRECTION);
+  }
 }
@@ -38,6 +38,7 @@ import org.comixedproject.model.net.blockedpage.UnmarkPageWithHashRequest;
 import org.comixedproject.model.net.comicpages.SetBlockedPageRequest;
 import org.comixedproject.service.comicpages.BlockedHashException;
 import org.comixedproject.service.comicpages.BlockedHashService;
+import org.comixedproject.service.comicpages.SimilarPageService;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -52,17 +53,22 @@ import org.springframework.batch.core.repository.JobExecutionAlreadyRunningExcep
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 @RunWith(MockitoJUnitRunner.class)
 public class BlockedHashControllerTest {
   private static final String TEST_PAGE_HASH = "0123456789ABCDEF0123456789ABCDEF";
+  private static final String TEST_SIMILAR_PAGE_HASH = "FEDCBA9876543210FEDCBA9876543210";
+  private static final int TEST_SIMILAR_DISTANCE = 6;
   private static final byte[] TEST_PAGE_CONTENT = "The page content".getBytes();
 
   @InjectMocks private BlockedHashController controller;
   @Mock private BlockedHashService blockedHashService;
   @Mock private FileTypeAdaptor fileTypeAdaptor;
+  @Mock private SimilarPageService similarPageService;
   @Mock private List<BlockedHash> blockedHashList;
   @Mock private BlockedHash blockedHash;
   @Mock private BlockedHash blockedHashRecord;
@@ -150,6 +156,82 @@ public class BlockedHashControllerTest {
 
     Mockito.verify(blockedHashService, Mockito.times(1)).blockPages(pageHashList);
     Mockito.verify(jobLauncher, Mockito.times(1)).run(markPagesWithHashJob, jobParameters);
+    Mockito.verify(similarPageService, Mockito.never())
+        .findSimilarHashes(Mockito.anyList(), Mockito.anyInt());
+  }
+
+  @Test
+  public void testBlockPageWithSimilarPages()
+      throws JobInstanceAlreadyCompleteException,
+          JobExecutionAlreadyRunningException,
+          JobParametersInvalidException,
+          JobRestartException {
+    final List<String> pageHashList = new ArrayList<>();
+    pageHashList.add(TEST_PAGE_HASH);
+    final List<String> similarHashList = new ArrayList<>();
+    similarHashList.add(TEST_PAGE_HASH);
+    similarHashList.add(TEST_SIMILAR_PAGE_HASH);
+
+    Mockito.when(similarPageService.findSimilarHashes(Mockito.anyList(), Mockito.anyInt()))
+        .thenReturn(similarHashList);
+    Mockito.when(jobLauncher.run(Mockito.any(Job.class), jobParametersArgumentCaptor.capture()))
+        .thenReturn(jobExecution);
+
+    controller.blockPageHashes(new SetBlockedPageRequest(pageHashList, TEST_SIMILAR_DISTANCE));
+
+    final List<JobParameters> jobParameters = jobParametersArgumentCaptor.getAllValues();
+
+    assertEquals(2, jobParameters.size());
+    assertEquals(TEST_PAGE_HASH, jobParameters.get(0).getString(PARAM_MARK_PAGES_TARGET_HASH));
+    assertEquals(
+        TEST_SIMILAR_PAGE_HASH, jobParameters.get(1).getString(PARAM_MARK_PAGES_TARGET_HASH));
+
+    Mockito.verify(similarPageService, Mockito.times(1))
+        .findSimilarHashes(pageHashList, TEST_SIMILAR_DISTANCE);
+    Mockito.verify(blockedHashService, Mockito.times(1)).blockPages(similarHashList);
+  }
+
+  @Test
+  public void testBlockPageWithNegativeSimilarDistance()
+      throws JobInstanceAlreadyCompleteException,
+          JobExecutionAlreadyRunningException,
+          JobParametersInvalidException,
+          JobRestartException {
+    final List<String> pageHashList = new ArrayList<>();
+    pageHashList.add(TEST_PAGE_HASH);
+
+    try {
+      controller.blockPageHashes(new SetBlockedPageRequest(pageHashList, -1));
+      fail("Expected a bad request");
+    } catch (ResponseStatusException error) {
+      assertEquals(HttpStatus.BAD_REQUEST, error.getStatusCode());
+    }
+
+    Mockito.verify(similarPageService, Mockito.never())
+        .findSimilarHashes(Mockito.anyList(), Mockito.anyInt());
+    Mockito.verify(blockedHashService, Mockito.never()).blockPages(Mockito.anyList());
+  }
+
+  @Test
+  public void testBlockPageWithSimilarDistanceTooLarge()
+      throws JobInstanceAlreadyCompleteException,
+          JobExecutionAlreadyRunningException,
+          JobParametersInvalidException,
+          JobRestartException {
+    final List<String> pageHashList = new ArrayList<>();
+    pageHashList.add(TEST_PAGE_HASH);
+
+    try {
+      controller.blockPageHashes(
+          new SetBlockedPageRequest(pageHashList, BlockedHashController.MAX_SIMILAR_DISTANCE + 1));
+      fail("Expected a bad request");
+    } catch (ResponseStatusException error) {
+      assertEquals(HttpStatus.BAD_REQUEST, error.getStatusCode());
+    }
+
+    Mockito.verify(similarPageService, Mockito.never())
+        .findSimilarHashes(Mockito.anyList(), Mockito.anyInt());
+    Mockito.verify(blockedHashService, Mockito.never()).blockPages(Mockito.anyList());
   }
 
   @Test
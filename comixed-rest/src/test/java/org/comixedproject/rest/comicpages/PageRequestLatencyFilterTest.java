@@ -0,0 +1,87 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.rest.comicpages;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import org.comixedproject.batch.scheduling.BatchIoBudget;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PageRequestLatencyFilterTest {
+  private static final String TEST_PAGE_URI = "/api/pages/717/content";
+
+  @InjectMocks private PageRequestLatencyFilter filter;
+  @Mock private BatchIoBudget batchIoBudget;
+
+  private MockHttpServletResponse response = new MockHttpServletResponse();
+  private int chainCalls = 0;
+  private FilterChain filterChain = (request, response) -> chainCalls++;
+
+  @Test
+  public void testShouldNotFilterOtherPaths() {
+    assertTrue(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/api/comics/717")));
+  }
+
+  @Test
+  public void testShouldNotFilterOtherMethods() {
+    assertTrue(filter.shouldNotFilter(new MockHttpServletRequest("POST", TEST_PAGE_URI)));
+  }
+
+  @Test
+  public void testShouldFilterPageRequests() {
+    assertFalse(filter.shouldNotFilter(new MockHttpServletRequest("GET", TEST_PAGE_URI)));
+  }
+
+  @Test
+  public void testRecordsLatency() throws ServletException, IOException {
+    filter.doFilterInternal(
+        new MockHttpServletRequest("GET", TEST_PAGE_URI), response, filterChain);
+
+    assertEquals(1, chainCalls);
+
+    Mockito.verify(batchIoBudget, Mockito.times(1)).recordLatency(Mockito.anyLong());
+  }
+
+  @Test(expected = ServletException.class)
+  public void testRecordsLatencyOnError() throws ServletException, IOException {
+    try {
+      filter.doFilterInternal(
+          new MockHttpServletRequest("GET", TEST_PAGE_URI),
+          response,
+          (request, response) -> {
+            throw new ServletException("failed");
+          });
+    } finally {
+      Mockito.verify(batchIoBudget, Mockito.times(1)).recordLatency(Mockito.anyLong());
+    }
+  }
+}
@@ -18,28 +18,64 @@
 
 package org.comixedproject.rest.core;
 
+import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.assertTrue;
+import static org.comixedproject.batch.plugins.RunPluginConfiguration.PARAM_RUN_PLUGIN_NAME;
+import static org.comixedproject.batch.plugins.RunPluginConfiguration.PARAM_RUN_PLUGIN_SELECTION;
+import static org.comixedproject.batch.plugins.RunPluginConfiguration.PARAM_RUN_PLUGIN_STARTED;
+import static org.comixedproject.rest.comicbooks.ComicBookSelectionController.LIBRARY_SELECTIONS;
 
+import jakarta.servlet.http.HttpSession;
 import java.util.List;
+import org.comixedproject.batch.plugins.PluginSelectionStore;
 import org.comixedproject.plugins.PluginException;
 import org.comixedproject.plugins.PluginManager;
+import org.comixedproject.plugins.model.Plugin;
 import org.comixedproject.plugins.model.PluginDescriptor;
+import org.comixedproject.service.comicbooks.ComicBookSelectionService;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.annotation.Qualifier;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PluginsControllerTest {
+  private static final String TEST_PLUGIN_NAME = "Test Plugin";
+  private static final String TEST_SELECTION_KEY = "the-selection-key";
+
   @InjectMocks private PluginsController pluginsController;
   @Mock private PluginManager pluginManager;
   @Mock private List<PluginDescriptor> pluginList;
+  @Mock private ComicBookSelectionService comicBookSelectionService;
+  @Mock private PluginSelectionStore pluginSelectionStore;
+  @Mock private JobLauncher jobLauncher;
+  @Mock private JobExecution jobExecution;
+  @Mock private HttpSession session;
+  @Mock private Plugin plugin;
+  @Mock private Object encodedSelections;
+
+  @Mock
+  @Qualifier("runPluginJob")
+  private Job runPluginJob;
+
+  @Captor private ArgumentCaptor<JobParameters> jobParametersArgumentCaptor;
+
+  private List<Long> selectedIds = List.of(17L, 29L);
 
   @Test
-  public void testGetListOfPlugins() {
+  public void testGetListOfPlugins() throws PluginException {
     Mockito.when(pluginManager.getPluginList()).thenReturn(pluginList);
 
     List<PluginDescriptor> result = pluginsController.getList();
@@ -61,4 +97,68 @@ public class PluginsControllerTest {
     Mockito.verify(pluginManager, Mockito.times(1)).loadPlugins();
     Mockito.verify(pluginManager, Mockito.times(1)).getPluginList();
   }
+
+  @Test(expected = PluginException.class)
+  public void testRunPluginNotFound() throws Exception {
+    Mockito.when(pluginManager.loadPlugin(Mockito.anyString())).thenThrow(PluginException.class);
+
+    try {
+      pluginsController.runPlugin(session, TEST_PLUGIN_NAME);
+    } finally {
+      Mockito.verify(jobLauncher, Mockito.never())
+          .run(Mockito.any(Job.class), Mockito.any(JobParameters.class));
+    }
+  }
+
+  @Test
+  public void testRunPlugin() throws Exception {
+    Mockito.when(pluginManager.loadPlugin(Mockito.anyString())).thenReturn(plugin);
+    Mockito.when(session.getAttribute(LIBRARY_SELECTIONS)).thenReturn(encodedSelections);
+    Mockito.when(comicBookSelectionService.decodeSelections(Mockito.any())).thenReturn(selectedIds);
+    Mockito.when(pluginSelectionStore.store(Mockito.anyList())).thenReturn(TEST_SELECTION_KEY);
+    Mockito.when(jobLauncher.run(Mockito.any(Job.class), jobParametersArgumentCaptor.capture()))
+        .thenReturn(jobExecution);
+
+    pluginsController.runPlugin(session, TEST_PLUGIN_NAME);
+
+    final JobParameters jobParameters = jobParametersArgumentCaptor.getValue();
+    assertTrue(jobParameters.getParameters().containsKey(PARAM_RUN_PLUGIN_STARTED));
+    assertEquals(TEST_PLUGIN_NAME, jobParameters.getString(PARAM_RUN_PLUGIN_NAME));
+    assertEquals(TEST_SELECTION_KEY, jobParameters.getString(PARAM_RUN_PLUGIN_SELECTION));
+
+    Mockito.verify(pluginManager, Mockito.times(1)).loadPlugin(TEST_PLUGIN_NAME);
+    Mockito.verify(comicBookSelectionService, Mockito.times(1)).decodeSelections(encodedSelections);
+    Mockito.verify(pluginSelectionStore, Mockito.times(1)).store(selectedIds);
+    Mockito.verify(jobLauncher, Mockito.times(1)).run(runPluginJob, jobParameters);
+  }
+
+  @Test(expected = JobInstanceAlreadyCompleteException.class)
+  public void testRunPluginLaunchFailsRemovesSelection() throws Exception {
+    Mockito.when(pluginManager.loadPlugin(Mockito.anyString())).thenReturn(plugin);
+    Mockito.when(session.getAttribute(LIBRARY_SELECTIONS)).thenReturn(encodedSelections);
+    Mockito.when(comicBookSelectionService.decodeSelections(Mockito.any())).thenReturn(selectedIds);
+    Mockito.when(pluginSelectionStore.store(Mockito.anyList())).thenReturn(TEST_SELECTION_KEY);
+    Mockito.when(jobLauncher.run(Mockito.any(Job.class), Mockito.any(JobParameters.class)))
+        .thenThrow(JobInstanceAlreadyCompleteException.class);
+
+    try {
+      pluginsController.runPlugin(session, TEST_PLUGIN_NAME);
+    } finally {
+      Mockito.verify(pluginSelectionStore, Mockito.times(1)).remove(TEST_SELECTION_KEY);
+    }
+  }
+
+  @Test
+  public void testRunPluginKeepsSelectionForLaunchedJob() throws Exception {
+    Mockito.when(pluginManager.loadPlugin(Mockito.anyString())).thenReturn(plugin);
+    Mockito.when(session.getAttribute(LIBRARY_SELECTIONS)).thenReturn(encodedSelections);
+    Mockito.when(comicBookSelectionService.decodeSelections(Mockito.any())).thenReturn(selectedIds);
+    Mockito.when(pluginSelectionStore.store(Mockito.anyList())).thenReturn(TEST_SELECTION_KEY);
+    Mockito.when(jobLauncher.run(Mockito.any(Job.class), Mockito.any(JobParameters.class)))
+        .thenReturn(jobExecution);
+
+    pluginsController.runPlugin(session, TEST_PLUGIN_NAME);
+
+    Mockito.verify(pluginSelectionStore, Mockito.never()).remove(Mockito.anyString());
+  }
 }
@@ -0,0 +1,45 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.service.admin;
+
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <code>ConfigurationChangedEvent</code> is published when configuration options are saved. It
+ * carries the names of the options that were saved and the new snapshot of all options.
+ *
+ * @author Darryl L. Pierce
+ */
+@AllArgsConstructor
+public class ConfigurationChangedEvent {
+  @Getter private final Set<String> changedOptions;
+  @Getter private final ConfigurationSnapshot snapshot;
+
+  /**
+   * Returns if the option with the given name was changed.
+   *
+   * @param name the option name
+   * @return true if it was changed
+   */
+  public boolean isChanged(final String name) {
+    return this.changedOptions.contains(name);
+  }
+}
@@ -20,22 +20,31 @@ package org.comixedproject.service.admin;
 
 import jakarta.transaction.Transactional;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang.StringUtils;
 import org.comixedproject.model.admin.ConfigurationOption;
 import org.comixedproject.repositories.admin.ConfigurationRepository;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * <code>ConfigurationService</code> provides business rules for instances of {@link
  * ConfigurationOption}.
  *
+ * <p>Option values are read from an immutable {@link ConfigurationSnapshot} that is loaded at
+ * startup, so reading an option does not touch the database. Saving options publishes a {@link
+ * ConfigurationChangedEvent}, and the snapshot is replaced once the save is committed.
+ *
  * @author Darryl L. Pierce
  */
 @Service
 @Log4j2
-public class ConfigurationService {
+public class ConfigurationService implements InitializingBean {
   public static final String CFG_LIBRARY_MAX_RECORDS = "library.max-records";
   public static final String CFG_LIBRARY_ROOT_DIRECTORY = "library.root-directory";
   public static final String CFG_LIBRARY_COMIC_RENAMING_RULE = "library.comic-book.renaming-rule";
@@ -50,6 +59,44 @@ public class ConfigurationService {
       "library.metadata.create-external-files";
 
   @Autowired private ConfigurationRepository configurationRepository;
+  @Autowired private ApplicationEventPublisher applicationEventPublisher;
+
+  private volatile ConfigurationSnapshot snapshot;
+
+  @Override
+  public void afterPropertiesSet() {
+    this.reloadSnapshot();
+  }
+
+  /**
+   * Reloads the snapshot of all configuration options from the database.
+   *
+   * @return the snapshot
+   */
+  public ConfigurationSnapshot reloadSnapshot() {
+    log.debug("Loading configuration snapshot");
+    final ConfigurationSnapshot result = new ConfigurationSnapshot(this.getAll());
+    this.snapshot = result;
+    return result;
+  }
+
+  /**
+   * Returns the current snapshot of all configuration options.
+   *
+   * @return the snapshot
+   */
+  public ConfigurationSnapshot getSnapshot() {
+    ConfigurationSnapshot result = this.snapshot;
+    if (result == null) {
+      synchronized (this) {
+        result = this.snapshot;
+        if (result == null) {
+          result = this.reloadSnapshot();
+        }
+      }
+    }
+    return result;
+  }
 
   /**
    * Returns all configuration options.
@@ -86,7 +133,25 @@ public class ConfigurationService {
       this.configurationRepository.save(entry);
     }
 
-    return this.getAll();
+    final List<ConfigurationOption> result = this.getAll();
+    final Set<String> changedOptions =
+        options.stream().map(ConfigurationOption::getName).collect(Collectors.toSet());
+    log.trace("Publishing configuration change: {}", changedOptions);
+    this.applicationEventPublisher.publishEvent(
+        new ConfigurationChangedEvent(changedOptions, new ConfigurationSnapshot(result)));
+    return result;
+  }
+
+  /**
+   * Replaces the snapshot once saved options are committed, so other threads never read values that
+   * could still be rolled back.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onConfigurationChanged(final ConfigurationChangedEvent event) {
+    log.debug("Replacing configuration snapshot: {}", event.getChangedOptions());
+    this.snapshot = event.getSnapshot();
   }
 
   /**
@@ -96,9 +161,7 @@ public class ConfigurationService {
    * @return the option value
    */
   public String getOptionValue(final String name) {
-    log.trace("Loading option");
-    final ConfigurationOption option = this.configurationRepository.findByName(name);
-    return option != null ? option.getValue() : null;
+    return this.getSnapshot().getValue(name);
   }
 
   public String getOptionValue(final String name, final String defaultValue) {
@@ -0,0 +1,60 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.service.admin;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.comixedproject.model.admin.ConfigurationOption;
+
+/**
+ * <code>ConfigurationSnapshot</code> is an immutable copy of the values of all {@link
+ * ConfigurationOption}s at a point in time.
+ *
+ * @author Darryl L. Pierce
+ */
+public class ConfigurationSnapshot {
+  private final Map<String, String> values;
+
+  public ConfigurationSnapshot(final Collection<ConfigurationOption> options) {
+    final Map<String, String> entries = new HashMap<>();
+    options.forEach(option -> entries.put(option.getName(), option.getValue()));
+    this.values = Collections.unmodifiableMap(entries);
+  }
+
+  /**
+   * Returns the value for the option with the given name.
+   *
+   * @param name the option name
+   * @return the option value, or null if it is not set
+   */
+  public String getValue(final String name) {
+    return this.values.get(name);
+  }
+
+  /**
+   * Returns the number of options in the snapshot.
+   *
+   * @return the option count
+   */
+  public int size() {
+    return this.values.size();
+  }
+}
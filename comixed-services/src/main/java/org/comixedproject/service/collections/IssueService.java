@@ -24,6 +24,7 @@ import org.comixedproject.model.collections.Issue;
 import org.comixedproject.repositories.collections.IssueRepository;
 import org.comixedproject.service.comicbooks.ComicDetailService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +38,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class IssueService {
   @Autowired private IssueRepository issueRepository;
   @Autowired private ComicDetailService comicDetailServices;
+  @Autowired private ApplicationEventPublisher applicationEventPublisher;
 
   /**
    * Returns the number of issues for the given series and volume.
@@ -99,10 +101,15 @@ public class IssueService {
    */
   @Transactional
   public List<Issue> saveAll(final List<Issue> issues) {
-    this.deleteSeriesAndVolume(issues.get(0).getSeries(), issues.get(0).getVolume());
+    final String series = issues.get(0).getSeries();
+    final String volume = issues.get(0).getVolume();
+    log.debug("Deleting all issues: series={} volume={}", series, volume);
+    this.issueRepository.deleteSeriesAndVolume(series, volume);
     this.issueRepository.flush();
     log.debug("Saving {} issue{}", issues.size(), issues.size() == 1 ? "" : "s");
-    return this.issueRepository.saveAll(issues);
+    final List<Issue> result = this.issueRepository.saveAll(issues);
+    this.applicationEventPublisher.publishEvent(new IssuesChangedEvent(series, volume));
+    return result;
   }
 
   /**
@@ -115,5 +122,6 @@ public class IssueService {
   public void deleteSeriesAndVolume(final String series, final String volume) {
     log.debug("Deleting all issues: series={} volume={}", series, volume);
     this.issueRepository.deleteSeriesAndVolume(series, volume);
+    this.applicationEventPublisher.publishEvent(new IssuesChangedEvent(series, volume));
   }
 }
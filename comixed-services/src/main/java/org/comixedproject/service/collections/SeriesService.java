@@ -18,26 +18,97 @@
 
 package org.comixedproject.service.collections;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.model.collections.Issue;
 import org.comixedproject.model.collections.Series;
-import org.comixedproject.service.comicbooks.ComicBookService;
+import org.comixedproject.service.comicbooks.ComicBooksPurgedEvent;
+import org.comixedproject.service.comicbooks.ComicDetailService;
+import org.comixedproject.service.comicbooks.ComicStateChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
 
 /**
  * <code>SeriesService</code> provides methods for working with instances of {@link Series}.
  *
+ * <p>The series list is served from a catalog that is loaded with a single grouped query and held
+ * in memory. The catalog is discarded once a comic state change or purge is committed, and the
+ * issue count for a single series is refreshed in place when its issue metadata changes.
+ *
  * @author Darryl L. Pierce
  */
 @Service
 @Log4j2
 public class SeriesService {
-  @Autowired private ComicBookService comicBookService;
+  @Autowired private ComicDetailService comicDetailService;
   @Autowired private IssueService issueService;
 
+  private final AtomicLong catalogVersion = new AtomicLong();
+  volatile List<Series> seriesCatalog;
+
+  /**
+   * Discards the series catalog after a comic book changes state.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onComicStateChanged(final ComicStateChangedEvent event) {
+    log.trace("Comic book state changed: discarding series catalog");
+    this.invalidate();
+  }
+
+  /**
+   * Discards the series catalog after comic books are purged.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onComicBooksPurged(final ComicBooksPurgedEvent event) {
+    log.trace("Comic books purged: discarding series catalog");
+    this.invalidate();
+  }
+
+  /**
+   * Refreshes the total issue count for the series and volume whose issue metadata changed.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void onIssuesChanged(final IssuesChangedEvent event) {
+    final List<Series> catalog = this.seriesCatalog;
+    if (Objects.isNull(catalog)) return;
+    final String name = event.getSeries();
+    final String volume = event.getVolume();
+    final long totalIssues = this.issueService.getCountForSeriesAndVolume(name, volume);
+    log.debug(
+        "Updating series catalog issue count: series={} volume={} count={}",
+        name,
+        volume,
+        totalIssues);
+    this.seriesCatalog =
+        catalog.stream()
+            .map(
+                series ->
+                    series.getName().equals(name) && series.getVolume().equals(volume)
+                        ? new Series(
+                            series.getPublisher(),
+                            series.getName(),
+                            series.getVolume(),
+                            series.getInLibrary(),
+                            totalIssues)
+                        : series)
+            .collect(Collectors.toUnmodifiableList());
+  }
+
   /**
    * Returns the list of all series and volumes.
    *
@@ -45,15 +116,48 @@ public class SeriesService {
    */
   public List<Series> getSeriesList() {
     log.debug("Loading series list");
-    final List<Series> result = this.comicBookService.getAllSeriesAndVolumes();
-    result.forEach(
-        series -> {
-          log.trace(
-              "Loading total issue count for series: {} {}", series.getName(), series.getVolume());
-          series.setTotalIssues(
-              this.issueService.getCountForSeriesAndVolume(series.getName(), series.getVolume()));
-        });
-    return result;
+    return this.getSeriesCatalog();
+  }
+
+  /**
+   * Returns one page of the series list, filtered and sorted on the server.
+   *
+   * @param searchText text to match against the publisher or series name
+   * @param pageSize the page size, or zero for all entries
+   * @param pageIndex the page index
+   * @param sortBy the sort field
+   * @param sortDirection the sort direction
+   * @return the list of series
+   */
+  public List<Series> getSeriesList(
+      final String searchText,
+      final int pageSize,
+      final int pageIndex,
+      final String sortBy,
+      final String sortDirection) {
+    log.debug(
+        "Loading series list: search={} size={} index={} sort={} direction={}",
+        searchText,
+        pageSize,
+        pageIndex,
+        sortBy,
+        sortDirection);
+    final List<Series> entries = this.doFilterSeries(searchText);
+    entries.sort(this.doCreateComparator(sortBy, sortDirection));
+    if (pageSize <= 0) return entries;
+    final int start = Math.min(entries.size(), Math.max(0, pageIndex) * pageSize);
+    return new ArrayList<>(entries.subList(start, Math.min(entries.size(), start + pageSize)));
+  }
+
+  /**
+   * Returns the number of series and volumes that match the search text.
+   *
+   * @param searchText text to match against the publisher or series name
+   * @return the count
+   */
+  public long getSeriesCount(final String searchText) {
+    log.debug("Loading series count: search={}", searchText);
+    return this.doFilterSeries(searchText).size();
   }
 
   /**
@@ -70,4 +174,63 @@ public class SeriesService {
     log.debug("Loading series detail: publisher={} name={} volume={}", publisher, name, volume);
     return this.issueService.getAll(publisher, name, volume);
   }
+
+  List<Series> getSeriesCatalog() {
+    List<Series> result = this.seriesCatalog;
+    if (Objects.isNull(result)) {
+      synchronized (this) {
+        result = this.seriesCatalog;
+        if (Objects.isNull(result)) {
+          final long version = this.catalogVersion.get();
+          result = List.copyOf(this.comicDetailService.loadSeriesCatalog());
+          log.debug("Loaded series catalog: {} entries", result.size());
+          if (version == this.catalogVersion.get()) {
+            this.seriesCatalog = result;
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  private void invalidate() {
+    this.catalogVersion.incrementAndGet();
+    this.seriesCatalog = null;
+  }
+
+  private List<Series> doFilterSeries(final String searchText) {
+    final List<Series> catalog = this.getSeriesCatalog();
+    if (!StringUtils.hasLength(searchText)) return new ArrayList<>(catalog);
+    final String text = searchText.toLowerCase(Locale.ROOT);
+    return catalog.stream()
+        .filter(
+            series ->
+                series.getPublisher().toLowerCase(Locale.ROOT).contains(text)
+                    || series.getName().toLowerCase(Locale.ROOT).contains(text))
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  private Comparator<Series> doCreateComparator(final String sortBy, final String sortDirection) {
+    final Comparator<Series> natural =
+        Comparator.comparing(Series::getPublisher)
+            .thenComparing(Series::getName)
+            .thenComparing(Series::getVolume);
+    if (!StringUtils.hasLength(sortBy)) return natural;
+
+    Comparator<Series> result;
+    switch (sortBy) {
+      case "publisher" -> result = natural;
+      case "name" -> result =
+          Comparator.comparing(Series::getName)
+              .thenComparing(Series::getVolume)
+              .thenComparing(Series::getPublisher);
+      case "volume" -> result = Comparator.comparing(Series::getVolume).thenComparing(natural);
+      case "total-issues" -> result =
+          Comparator.comparing(Series::getTotalIssues).thenComparing(natural);
+      case "in-library" -> result =
+          Comparator.comparing(Series::getInLibrary).thenComparing(natural);
+      default -> result = natural;
+    }
+    return "desc".equals(sortDirection) ? result.reversed() : result;
+  }
 }
@@ -22,9 +22,11 @@ import static org.comixedproject.state.comicbooks.ComicStateHandler.HEADER_COMIC
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.FileUtils;
@@ -42,16 +44,23 @@ import org.comixedproject.model.net.comicbooks.PageOrderEntry;
 import org.comixedproject.model.net.library.PublisherAndYearSegment;
 import org.comixedproject.model.net.library.RemoteLibrarySegmentState;
 import org.comixedproject.repositories.comicbooks.ComicBookRepository;
+import org.comixedproject.repositories.comicbooks.ComicBookSelection;
 import org.comixedproject.state.comicbooks.ComicEvent;
 import org.comixedproject.state.comicbooks.ComicStateChangeListener;
 import org.comixedproject.state.comicbooks.ComicStateHandler;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.messaging.Message;
 import org.springframework.statemachine.state.State;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * <code>ComicBookService</code> provides business rules for instances of {@link ComicBook}.
@@ -67,6 +76,10 @@ public class ComicBookService implements InitializingBean, ComicStateChangeListe
   @Autowired private PublishComicBookUpdateAction publishComicBookUpdateAction;
   @Autowired private PublishComicBookRemovalAction publishComicBookRemovalAction;
   @Autowired private ImprintService imprintService;
+  @Autowired private ApplicationEventPublisher applicationEventPublisher;
+
+  @Value("${comixed.batch.purge.batch-size:500}")
+  private int purgeBatchSize = 500;
 
   /**
    * Retrieves a single comic by id. It is expected that this comic exists.
@@ -281,6 +294,8 @@ public class ComicBookService implements InitializingBean, ComicStateChangeListe
     final var comic = message.getHeaders().get(HEADER_COMIC, ComicBook.class);
     if (comic == null) return;
     log.debug("Processing comic state change: [{}] =>  {}", comic.getId(), state.getId());
+    this.applicationEventPublisher.publishEvent(
+        new ComicStateChangedEvent(comic.getId(), state.getId()));
     if (state.getId() == ComicState.REMOVED) {
       log.trace("Publishing comic removal");
       try {
@@ -292,6 +307,12 @@ public class ComicBookService implements InitializingBean, ComicStateChangeListe
       comic.getComicDetail().setComicState(state.getId());
       comic.setLastModifiedOn(new Date());
       final ComicBook updated = this.comicBookRepository.save(comic);
+      final List<ComicBook> batchUpdate = this.doGetBatchUpdate();
+      if (Objects.nonNull(batchUpdate)) {
+        log.trace("Adding comic to batch update");
+        batchUpdate.add(updated);
+        return;
+      }
       log.trace("Publishing comic  update");
       try {
         this.publishComicBookUpdateAction.publish(updated);
@@ -326,17 +347,6 @@ public class ComicBookService implements InitializingBean, ComicStateChangeListe
     return this.doGetComic(comicId);
   }
 
-  /**
-   * Retrieves inserted comics that have not been processed.
-   *
-   * @param count the number of comics to return
-   * @return the comics
-   */
-  public List<ComicBook> findInsertedComics(final int count) {
-    log.trace("Loading newly inserted comics");
-    return this.comicBookRepository.findForState(ComicState.ADDED, PageRequest.of(0, count));
-  }
-
   /**
    * Retrieves the number of unprocessed comics that are waiting to have their contents loaded.
    *
@@ -358,69 +368,73 @@ public class ComicBookService implements InitializingBean, ComicStateChangeListe
   }
 
   /**
-   * Retrieves unprocessed comics that have the create metadata flag set.
+   * Retrieves the number of unprocessed comics.
    *
-   * @param count the number of comics to return
-   * @return the comics
+   * @return the count
    */
-  public List<ComicBook> findComicsWithCreateMetadataFlagSet(int count) {
-    log.trace("Loading unprocessed comics that need to have their contents loaded");
-    return this.comicBookRepository.findUnprocessedComicsWithCreateMetadataFlagSet(
-        PageRequest.of(0, count));
+  public long getUnprocessedComicsCount() {
+    log.trace("Getting the number of unprocessed comics");
+    return this.comicBookRepository.findUnprocessedComicsCount();
   }
 
   /**
-   * Retrieves unprocessed comics that are waiting to have their contents loaded.
+   * Retrieves the highest id of the comics in a selection.
    *
-   * @param count the number of comics to return
-   * @return the comics
+   * @param selection the selection
+   * @return the id, or null if no comics are selected
    */
-  public List<ComicBook> findUnprocessedComicsWithoutContent(int count) {
-    log.trace("Loading unprocessed comics that need to have their contents loaded");
-    return this.comicBookRepository.findUnprocessedComicsWithoutContent(PageRequest.of(0, count));
+  public Long getMaxIdForSelection(final ComicBookSelection selection) {
+    log.trace("Getting max id for comic selection: {}", selection);
+    return this.comicBookRepository.findMaxIdForSelection(selection);
   }
 
   /**
-   * Returns the number of unprocessed comics that are waiting to have the blocked pages marked.
+   * Retrieves the next page of ids for the comics in a selection, in ascending order.
    *
-   * @return the count
+   * @param selection the selection
+   * @param lastId the last id of the previous page
+   * @param maxId the highest id to return
+   * @param count the page size
+   * @return the ids
    */
-  public long getUnprocessedComicsForMarkedPageBlockingCount() {
-    log.trace("Getting unprocessed comics that need page blocking count");
-    return this.comicBookRepository.findUnprocessedComicsForMarkedPageBlockingCount();
+  public List<Long> findIdsForSelection(
+      final ComicBookSelection selection, final long lastId, final long maxId, final int count) {
+    log.trace("Loading comic ids for selection: {}", selection);
+    return this.comicBookRepository.findIdsForSelection(selection, lastId, maxId, count);
   }
 
   /**
-   * Retrieves unprocessed comics that are waiting to have the blocked pages marked.
+   * Retrieves comics by id with their details and pages loaded, skipping any that are no longer in
+   * the selection.
    *
-   * @param count the number of comics to return
+   * @param selection the selection
+   * @param ids the ids
    * @return the comics
    */
-  public List<ComicBook> findUnprocessedComicsForMarkedPageBlocking(final int count) {
-    log.trace("Loading unprocessed comics that need page blocking");
-    return this.comicBookRepository.findUnprocessedComicsForMarkedPageBlocking(
-        PageRequest.of(0, count));
+  public List<ComicBook> findComicsWithDetailsAndPages(
+      final ComicBookSelection selection, final List<Long> ids) {
+    log.trace("Loading comics with details and pages");
+    return this.comicBookRepository.findAllWithDetailsAndPages(selection, ids);
   }
 
   /**
-   * Returns the number of unprocessed comics that have had their contents processed.
+   * Returns the number of unprocessed comics that are waiting to have the blocked pages marked.
    *
    * @return the count
    */
-  public long getProcessedComicsCount() {
-    log.trace("Getting count of unprocessed comics that are fully processed");
-    return this.comicBookRepository.findProcessedComicsCount();
+  public long getUnprocessedComicsForMarkedPageBlockingCount() {
+    log.trace("Getting unprocessed comics that need page blocking count");
+    return this.comicBookRepository.findUnprocessedComicsForMarkedPageBlockingCount();
   }
 
   /**
-   * Retrieves unprocessed comics that have had their contents processed.
+   * Returns the number of unprocessed comics that have had their contents processed.
    *
-   * @param count the number of comics to return
-   * @return the comics
+   * @return the count
    */
-  public List<ComicBook> findProcessedComics(final int count) {
-    log.trace("Loading unprocessed comics that are fully processed");
-    return this.comicBookRepository.findProcessedComics(PageRequest.of(0, count));
+  public long getProcessedComicsCount() {
+    log.trace("Getting count of unprocessed comics that are fully processed");
+    return this.comicBookRepository.findProcessedComicsCount();
   }
 
   /**
@@ -442,22 +456,6 @@ public class ComicBookService implements InitializingBean, ComicStateChangeListe
         });
   }
 
-  /**
-   * Returns comics that are waiting to have their metadata updated.
-   *
-   * @param count the number of comics to return
-   * @return the list of comics
-   */
-  public List<ComicBook> findComicsWithMetadataToUpdate(final int count) {
-    log.trace("Getting comics that are ready to have their metadata updated");
-    return this.comicBookRepository.findComicsWithMetadataToUpdate(PageRequest.of(0, count));
-  }
-
-  public List<ComicBook> findComicsForBatchMetadataUpdate(final int count) {
-    log.trace("Getting comics that are flagged for batch metadata update");
-    return this.comicBookRepository.findComicsForBatchMetadataUpdate(PageRequest.of(0, count));
-  }
-
   /**
    * Returns the number of comics enqueued for batch metadata update.
    *
@@ -490,6 +488,19 @@ public class ComicBookService implements InitializingBean, ComicStateChangeListe
     return this.comicBookRepository.findComicsToBeMoved(PageRequest.of(0, count));
   }
 
+  /**
+   * Returns one page of the comics that are to be moved, ordered by id.
+   *
+   * @param pageIndex the page index
+   * @param pageSize the page size
+   * @return the list of comics
+   */
+  public List<ComicBook> findComicsToBeMoved(final int pageIndex, final int pageSize) {
+    log.trace("Finding page of comics to be moved: page={} size={}", pageIndex, pageSize);
+    return this.comicBookRepository.findComicsToBeMoved(
+        PageRequest.of(pageIndex, pageSize, Sort.by("id")));
+  }
+
   /**
    * Returns all comics.
    *
@@ -501,51 +512,84 @@ public class ComicBookService implements InitializingBean, ComicStateChangeListe
   }
 
   /**
-   * Marks comics for deletion.
+   * Marks comics for deletion. The comics are loaded in batches rather than individually, and a
+   * single comic list update is published once the changes are committed.
    *
    * @param ids the comic ids
    */
+  @Transactional
   public void deleteComicBooksById(final List<Long> ids) {
-    ids.forEach(
-        id -> {
-          final ComicBook comicBook;
-          try {
-            comicBook = this.doGetComic(id);
-            if (comicBook != null) {
-              log.trace("Marking comicBook for deletion: id={}", comicBook.getId());
-              this.comicStateHandler.fireEvent(comicBook, ComicEvent.deleteComic);
-            }
-          } catch (ComicBookException error) {
-            log.error("Failed to load comic", error);
-          }
-        });
+    this.doStartBatchUpdate();
+    for (int start = 0; start < ids.size(); start += this.purgeBatchSize) {
+      final List<Long> batch =
+          ids.subList(start, Math.min(ids.size(), start + this.purgeBatchSize));
+      log.trace("Loading batch of comics to mark for deletion: count={}", batch.size());
+      this.comicBookRepository
+          .loadByIds(batch)
+          .forEach(
+              comicBook -> {
+                log.trace("Marking comicBook for deletion: id={}", comicBook.getId());
+                this.comicStateHandler.fireEvent(comicBook, ComicEvent.deleteComic);
+              });
+    }
   }
 
   /**
-   * Unmarks comics for deletion.
+   * Unmarks comics for deletion. The comics are loaded in batches rather than individually, and a
+   * single comic list update is published once the changes are committed.
    *
    * @param ids the comic ids
    */
+  @Transactional
   public void undeleteComicBooksById(final List<Long> ids) {
-    ids.forEach(
-        id -> {
-          final ComicBook comicBook = this.comicBookRepository.getById(id.longValue());
-          if (comicBook != null) {
-            log.trace("Unmarking comicBook for deletion: id={}", comicBook.getId());
-            this.comicStateHandler.fireEvent(comicBook, ComicEvent.undeleteComic);
+    this.doStartBatchUpdate();
+    for (int start = 0; start < ids.size(); start += this.purgeBatchSize) {
+      final List<Long> batch =
+          ids.subList(start, Math.min(ids.size(), start + this.purgeBatchSize));
+      log.trace("Loading batch of comics to unmark for deletion: count={}", batch.size());
+      this.comicBookRepository
+          .loadByIds(batch)
+          .forEach(
+              comicBook -> {
+                log.trace("Unmarking comicBook for deletion: id={}", comicBook.getId());
+                this.comicStateHandler.fireEvent(comicBook, ComicEvent.undeleteComic);
+              });
+    }
+  }
+
+  private void doStartBatchUpdate() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.hasResource(this)) return;
+    log.trace("Starting comic book batch update");
+    final List<ComicBook> batchUpdate = new ArrayList<>();
+    TransactionSynchronizationManager.bindResource(this, batchUpdate);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            doPublishBatchUpdate(batchUpdate);
+          }
+
+          @Override
+          public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ComicBookService.this);
           }
         });
   }
 
-  /**
-   * Finds all comics to be recreated.
-   *
-   * @param count the number of comics to return
-   * @return the list of comics
-   */
-  public List<ComicBook> findComicsToRecreate(final int count) {
-    log.trace("Finding all comics to be recreated");
-    return this.comicBookRepository.findComicsToRecreate(PageRequest.of(0, count));
+  @SuppressWarnings("unchecked")
+  private List<ComicBook> doGetBatchUpdate() {
+    return (List<ComicBook>) TransactionSynchronizationManager.getResource(this);
+  }
+
+  private void doPublishBatchUpdate(final List<ComicBook> comicBooks) {
+    if (comicBooks.isEmpty()) return;
+    log.trace("Publishing comic book batch update: count={}", comicBooks.size());
+    try {
+      this.publishComicBookUpdateAction.publishBatch(comicBooks);
+    } catch (PublishingException error) {
+      log.error("Failed to publish comic book batch update", error);
+    }
   }
 
   /**
@@ -589,14 +633,57 @@ public class ComicBookService implements InitializingBean, ComicStateChangeListe
   }
 
   /**
-   * Returns comics marked for purging.
+   * Returns the ids for comics marked for purging.
    *
-   * @param count the number of comics to return
-   * @return the comics
+   * @param count the maximum number of ids to return
+   * @return the comic book ids
    */
-  public List<ComicBook> findComicsMarkedForPurging(final int count) {
-    log.trace("Loading comics marked for purging");
-    return this.comicBookRepository.findComicsMarkedForPurging(PageRequest.of(0, count));
+  public List<Long> findIdsMarkedForPurging(final int count) {
+    log.trace("Finding ids for comics marked for purging");
+    return this.comicBookRepository.findIdsMarkedForPurging(PageRequest.of(0, count));
+  }
+
+  /**
+   * Purges a set of comics from the database using set-based deletes. Dependent records are removed
+   * in dependency order, in batches bounded by the purge batch size, and a single removal message
+   * is published for each batch once the purge is committed.
+   *
+   * @param ids the comic book ids
+   */
+  @Transactional
+  public void purgeComicBooks(final List<Long> ids) {
+    for (int start = 0; start < ids.size(); start += this.purgeBatchSize) {
+      final List<Long> batch =
+          ids.subList(start, Math.min(ids.size(), start + this.purgeBatchSize));
+      log.debug("Purging batch of comic books: count={}", batch.size());
+      final List<Long> comicDetailIds =
+          this.comicBookRepository.getComicDetailIdsForComicBooks(batch);
+      this.comicBookRepository.purgeReadingListEntries(batch);
+      this.comicBookRepository.purgeLastReadEntries(batch);
+      this.comicBookRepository.purgeComicTags(batch);
+      this.comicBookRepository.purgeStoryEntryReferences(batch);
+      this.comicBookRepository.purgePages(batch);
+      this.comicBookRepository.purgeMetadataSources(batch);
+      this.comicBookRepository.purgeComicDetails(batch);
+      this.comicBookRepository.purgeComicBooks(batch);
+      this.applicationEventPublisher.publishEvent(
+          new ComicBooksPurgedEvent(new ArrayList<>(batch), comicDetailIds));
+    }
+  }
+
+  /**
+   * Publishes the removal of a batch of purged comic books once the purge is committed.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onComicBooksPurged(final ComicBooksPurgedEvent event) {
+    log.trace("Publishing comic book batch removal");
+    try {
+      this.publishComicBookRemovalAction.publishBatch(event.getComicDetailIds());
+    } catch (PublishingException error) {
+      log.error("Failed to publish comic book batch removal", error);
+    }
   }
 
   /**
@@ -792,17 +879,6 @@ public class ComicBookService implements InitializingBean, ComicStateChangeListe
     return this.comicBookRepository.findForSearchTerms(term);
   }
 
-  /**
-   * Retrieves comic books that have their edit details flag set.
-   *
-   * @param count the maximum records
-   * @return the comic books
-   */
-  public List<ComicBook> findComicsWithEditDetails(final int count) {
-    log.debug("Loading up to {} comics with edit flag set", count);
-    return this.comicBookRepository.findComicsWithEditDetails(PageRequest.of(0, count));
-  }
-
   /**
    * Returns the list of all publishers in the library, along with the count of series for each.
    *
@@ -839,17 +915,6 @@ public class ComicBookService implements InitializingBean, ComicStateChangeListe
     return this.comicBookRepository.getUnscrapedComicCount();
   }
 
-  /**
-   * Returns a set of records without an associated {@link ComicDetail} record.
-   *
-   * @param batchChunkSize the batch chunk size
-   * @return the records
-   */
-  public List<ComicBook> getComicBooksWithoutDetails(final int batchChunkSize) {
-    log.debug("Loading ComicBook records without a ComicDetail: chunk size={}", batchChunkSize);
-    return this.comicBookRepository.getComicBooksWithoutDetails(batchChunkSize);
-  }
-
   @Transactional
   public void prepareForConsolidation(final List<Long> ids) {
     this.comicBookRepository.markForConsolidationById(ids);
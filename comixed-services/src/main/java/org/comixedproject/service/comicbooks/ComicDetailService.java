@@ -23,15 +23,20 @@ import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.model.archives.ArchiveType;
 import org.comixedproject.model.collections.CollectionEntry;
+import org.comixedproject.model.collections.Series;
 import org.comixedproject.model.comicbooks.ComicDetail;
 import org.comixedproject.model.comicbooks.ComicState;
 import org.comixedproject.model.comicbooks.ComicTagType;
 import org.comixedproject.model.comicbooks.ComicType;
+import org.comixedproject.model.net.collections.CollectionEntryCursor;
+import org.comixedproject.model.net.comicbooks.ComicDetailCursor;
 import org.comixedproject.repositories.comicbooks.ComicDetailRepository;
+import org.comixedproject.service.library.ReadStateIndex;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -46,7 +51,10 @@ import org.springframework.util.StringUtils;
 @Service
 @Log4j2
 public class ComicDetailService {
+  static final int LOOKUP_BATCH_SIZE = 500;
+
   @Autowired private ComicDetailRepository comicDetailRepository;
+  @Autowired private ReadStateIndex readStateIndex;
 
   @Autowired
   private ObjectFactory<ComicDetailExampleBuilder> comicDetailExampleBuilderObjectFactory;
@@ -64,6 +72,49 @@ public class ComicDetailService {
     return this.comicDetailRepository.getWithIdGreaterThan(lastId, PageRequest.of(0, maximum));
   }
 
+  /**
+   * Loads the comic details for a set of comic books. The ids are looked up in batches to bound the
+   * size of each query.
+   *
+   * @param comicBookIds the comic book ids
+   * @return the comic details
+   */
+  @Transactional
+  public List<ComicDetail> getForComicBookIds(final List<Long> comicBookIds) {
+    log.debug("Loading comic details for {} comic book(s)", comicBookIds.size());
+    final List<ComicDetail> result = new ArrayList<>();
+    for (int start = 0; start < comicBookIds.size(); start += LOOKUP_BATCH_SIZE) {
+      final List<Long> batch =
+          comicBookIds.subList(start, Math.min(start + LOOKUP_BATCH_SIZE, comicBookIds.size()));
+      result.addAll(this.comicDetailRepository.getForComicBookIds(batch));
+    }
+    return result;
+  }
+
+  /**
+   * Loads the comic details for a set of issues in a single publisher, series, and volume.
+   *
+   * @param publisher the publisher
+   * @param series the series
+   * @param volume the volume
+   * @param issueNumbers the issue numbers
+   * @return the comic details
+   */
+  @Transactional
+  public List<ComicDetail> getForIssueNumbers(
+      final String publisher,
+      final String series,
+      final String volume,
+      final Collection<String> issueNumbers) {
+    log.debug(
+        "Loading comic details: publisher={} series={} volume={} issues={}",
+        publisher,
+        series,
+        volume,
+        issueNumbers.size());
+    return this.comicDetailRepository.getForIssueNumbers(publisher, series, volume, issueNumbers);
+  }
+
   /**
    * Returns the set of all publishers. Filters out comics read by the user if the flag is set.
    *
@@ -183,6 +234,17 @@ public class ComicDetailService {
     }
   }
 
+  /**
+   * Returns every series and volume with the number of comics in the library and the total number
+   * of issues known for it.
+   *
+   * @return the series list
+   */
+  public List<Series> loadSeriesCatalog() {
+    log.debug("Loading series catalog");
+    return this.comicDetailRepository.loadSeriesCatalog();
+  }
+
   /**
    * Returns the list of entries for the given publisher, series, and volume. Optionally filters by
    * the unread status for the given user.
@@ -207,8 +269,10 @@ public class ComicDetailService {
           series,
           volume,
           email);
-      return this.comicDetailRepository.getAllUnreadForPublisherAndSeriesAndVolume(
-          publisher, series, volume, email);
+      return this.readStateIndex.filterUnread(
+          email,
+          this.comicDetailRepository.getAllForPublisherAndSeriesAndVolume(
+              publisher, series, volume));
     }
 
     log.debug(
@@ -304,17 +368,9 @@ public class ComicDetailService {
    */
   public List<ComicDetail> getComicsForYearAndWeek(
       final int year, final int week, final String email, final boolean unread) {
-    log.trace("Converting year and week to start and end dates");
-    final GregorianCalendar calendar = new GregorianCalendar();
-    calendar.setTimeZone(TimeZone.getTimeZone("UTC"));
-    calendar.set(Calendar.YEAR, year);
-    calendar.set(Calendar.WEEK_OF_YEAR, week);
-    log.trace("Getting first day of requested week");
-    calendar.set(Calendar.DAY_OF_WEEK, Calendar.SUNDAY);
-    final Date startDate = calendar.getTime();
-    log.trace("Getting last day of requested week");
-    calendar.set(Calendar.DAY_OF_WEEK, Calendar.SATURDAY);
-    final Date endDate = calendar.getTime();
+    final Date[] weekDates = this.doGetWeekDates(year, week);
+    final Date startDate = weekDates[0];
+    final Date endDate = weekDates[1];
 
     if (unread) {
       log.debug(
@@ -322,7 +378,8 @@ public class ComicDetailService {
           year,
           week,
           email);
-      return this.comicDetailRepository.getAllUnreadForYearAndWeek(startDate, endDate, email);
+      return this.readStateIndex.filterUnread(
+          email, this.comicDetailRepository.getAllForYearAndWeek(startDate, endDate));
     } else {
       log.debug("Loading all comics for year and week: year={} week={}", year, week);
       return this.comicDetailRepository.getAllForYearAndWeek(startDate, endDate);
@@ -361,6 +418,175 @@ public class ComicDetailService {
     }
   }
 
+  /**
+   * Returns a page of comics for the given publisher, series, and volume, ordered by cover date.
+   * Pages are located by a keyset cursor: the id of the last comic on the previous page, or the id
+   * of the first comic on the following page when paging backwards. Optionally filters by the
+   * unread status for the given user.
+   *
+   * @param publisher the publisher
+   * @param series the series
+   * @param volume the volume
+   * @param email the user email
+   * @param unread the unread flag
+   * @param comicDetailId the cursor, or 0 for the first page
+   * @param before true if the page precedes the cursor
+   * @param maximum the maximum number of comics
+   * @return the comic details
+   */
+  @Transactional
+  public List<ComicDetail> getComicBooksForPublisherAndSeriesAndVolume(
+      final String publisher,
+      final String series,
+      final String volume,
+      final String email,
+      final boolean unread,
+      final long comicDetailId,
+      final boolean before,
+      final int maximum) {
+    log.debug(
+        "Loading comics page: publisher={} series={} volume={} email={} unread={} cursor={} before={}",
+        publisher,
+        series,
+        volume,
+        email,
+        unread,
+        comicDetailId,
+        before);
+    return this.doLoadKeysetPage(
+        (id, pageable) -> {
+          if (before)
+            return this.comicDetailRepository.getPageForPublisherAndSeriesAndVolumeBefore(
+                publisher, series, volume, id, pageable);
+          if (id <= 0L)
+            return this.comicDetailRepository.getPageForPublisherAndSeriesAndVolume(
+                publisher, series, volume, pageable);
+          return this.comicDetailRepository.getPageForPublisherAndSeriesAndVolumeAfter(
+              publisher, series, volume, id, pageable);
+        },
+        comicDetailId,
+        before,
+        email,
+        unread,
+        maximum);
+  }
+
+  /**
+   * Returns a page of comics for the given year and week, located by a keyset cursor. Optionally
+   * filters by the unread state for the given user.
+   *
+   * @param year the year
+   * @param week the week
+   * @param email the user's email
+   * @param unread the unread flag
+   * @param comicDetailId the cursor, or 0 for the first page
+   * @param before true if the page precedes the cursor
+   * @param maximum the maximum number of comics
+   * @return the matching comics
+   */
+  @Transactional
+  public List<ComicDetail> getComicsForYearAndWeek(
+      final int year,
+      final int week,
+      final String email,
+      final boolean unread,
+      final long comicDetailId,
+      final boolean before,
+      final int maximum) {
+    final Date[] weekDates = this.doGetWeekDates(year, week);
+    log.debug(
+        "Loading comics page for year and week: year={} week={} email={} unread={} cursor={} before={}",
+        year,
+        week,
+        email,
+        unread,
+        comicDetailId,
+        before);
+    return this.doLoadKeysetPage(
+        (id, pageable) ->
+            before
+                ? this.comicDetailRepository.getPageForYearAndWeekBefore(
+                    weekDates[0], weekDates[1], id, pageable)
+                : this.comicDetailRepository.getPageForYearAndWeekAfter(
+                    weekDates[0], weekDates[1], id, pageable),
+        comicDetailId,
+        before,
+        email,
+        unread,
+        maximum);
+  }
+
+  /**
+   * Returns a page of comics that match the given search term, located by a keyset cursor.
+   *
+   * @param term the search term
+   * @param comicDetailId the cursor, or 0 for the first page
+   * @param before true if the page precedes the cursor
+   * @param maximum the maximum number of comics
+   * @return the matching comics
+   */
+  @Transactional
+  public List<ComicDetail> getComicsForSearchTerm(
+      final String term, final long comicDetailId, final boolean before, final int maximum) {
+    log.debug(
+        "Loading comics page for search term: \"{}\" cursor={} before={}",
+        term,
+        comicDetailId,
+        before);
+    return this.doLoadKeysetPage(
+        (id, pageable) ->
+            before
+                ? this.comicDetailRepository.getPageForSearchTermBefore(term, id, pageable)
+                : this.comicDetailRepository.getPageForSearchTermAfter(term, id, pageable),
+        comicDetailId,
+        before,
+        null,
+        false,
+        maximum);
+  }
+
+  /**
+   * Returns a page of comics with the given tag type and value, located by a keyset cursor.
+   * Optionally filters by the unread state for the given user.
+   *
+   * @param tagType the tag type
+   * @param tagValue the tag value
+   * @param email the use's email
+   * @param unread the unread flag
+   * @param comicDetailId the cursor, or 0 for the first page
+   * @param before true if the page precedes the cursor
+   * @param maximum the maximum number of comics
+   * @return the matching comics
+   */
+  @Transactional
+  public List<ComicDetail> getAllComicsForTag(
+      final ComicTagType tagType,
+      final String tagValue,
+      final String email,
+      final boolean unread,
+      final long comicDetailId,
+      final boolean before,
+      final int maximum) {
+    log.debug(
+        "Loading comics page for tag: type={} value={} email={} unread={} cursor={} before={}",
+        tagType,
+        tagValue,
+        email,
+        unread,
+        comicDetailId,
+        before);
+    return this.doLoadKeysetPage(
+        (id, pageable) ->
+            before
+                ? this.comicDetailRepository.getPageForTagBefore(tagType, tagValue, id, pageable)
+                : this.comicDetailRepository.getPageForTagAfter(tagType, tagValue, id, pageable),
+        comicDetailId,
+        before,
+        email,
+        unread,
+        maximum);
+  }
+
   /**
    * Returns the page of comics for the given index and filters.
    *
@@ -424,6 +650,102 @@ public class ComicDetailService {
     }
   }
 
+  /**
+   * Loads the page of comics that follows the given cursor, using the same filters and sort fields
+   * as {@link #loadComicDetailList(Integer, Integer, Integer, Integer, ArchiveType, ComicType,
+   * ComicState, Boolean, String, String, String, String, String, String)}. The page is found by
+   * seeking past the cursor rather than skipping rows, so deep pages load as quickly as the first.
+   *
+   * @param pageSize the page size
+   * @param cursor the cursor, or null for the first page
+   * @param coverYear the cover year filter
+   * @param coverMonth the cover month filter
+   * @param archiveType the archive type filter
+   * @param comicType the comic type filter
+   * @param comicState the comic state filter
+   * @param unscrapedState the unscraped state filter
+   * @param searchText the search text filter
+   * @param publisher the publisher filter
+   * @param series the series filter
+   * @param volume the volume filter
+   * @param sortBy the sort field
+   * @param sortDirection the sort direction
+   * @return the comic details
+   */
+  public List<ComicDetail> loadComicDetailPage(
+      final int pageSize,
+      final ComicDetailCursor cursor,
+      final Integer coverYear,
+      final Integer coverMonth,
+      final ArchiveType archiveType,
+      final ComicType comicType,
+      final ComicState comicState,
+      final Boolean unscrapedState,
+      final String searchText,
+      final String publisher,
+      final String series,
+      final String volume,
+      final String sortBy,
+      final String sortDirection) {
+    log.debug("Loading comic details after cursor: {}", cursor);
+    final ComicDetailExampleBuilder builder =
+        this.comicDetailExampleBuilderObjectFactory.getObject();
+
+    builder.setCoverYear(coverYear);
+    builder.setCoverMonth(coverMonth);
+    builder.setArchiveType(archiveType);
+    builder.setComicType(comicType);
+    builder.setComicState(comicState);
+    builder.setUnscrapedState(unscrapedState);
+    builder.setSearchText(searchText);
+    builder.setPublisher(publisher);
+    builder.setSeries(series);
+    builder.setVolume(volume);
+
+    return this.doLoadComicDetailPage(
+        builder.build(), null, pageSize, cursor, sortBy, sortDirection);
+  }
+
+  /**
+   * Returns the cursor that loads the page following the given one, or null if it was the last
+   * page.
+   *
+   * @param comicDetails the comic details
+   * @param pageSize the page size
+   * @param sortBy the sort field
+   * @param sortDirection the sort direction
+   * @return the cursor
+   */
+  public ComicDetailCursor getNextCursor(
+      final List<ComicDetail> comicDetails,
+      final Integer pageSize,
+      final String sortBy,
+      final String sortDirection) {
+    if (Objects.isNull(pageSize) || comicDetails.size() < pageSize) {
+      log.trace("No more comics to load");
+      return null;
+    }
+    final ComicDetail last = comicDetails.get(comicDetails.size() - 1);
+    final Object sortValue =
+        switch (this.doGetSortField(sortBy, sortDirection)) {
+          case "archiveType" -> last.getArchiveType();
+          case "comicState" -> last.getComicState();
+          case "comicType" -> last.getComicType();
+          case "publisher" -> last.getPublisher();
+          case "series" -> last.getSeries();
+          case "volume" -> last.getVolume();
+          case "sortableIssueNumber" -> last.getSortableIssueNumber();
+          case "addedDate" -> last.getAddedDate();
+          case "coverDate" -> last.getCoverDate();
+          default -> null;
+        };
+    final String encoded;
+    if (sortValue instanceof Date date) encoded = String.valueOf(date.getTime());
+    else if (sortValue instanceof Enum<?> value) encoded = value.name();
+    else encoded = (String) sortValue;
+    return new ComicDetailCursor(encoded, last.getId());
+  }
+
   /**
    * Returns the total number of comics found when the given filters are applied.
    *
@@ -698,6 +1020,52 @@ public class ComicDetailService {
         tagType, PageRequest.of(pageIndex, pageSize));
   }
 
+  /**
+   * Loads the page of tag values that follows the given cursor. Entries are sorted by comic count
+   * when sorting on <code>comic-count</code>, and by tag value otherwise.
+   *
+   * @param tagType the tag type
+   * @param pageSize the number of records to return
+   * @param cursor the cursor, or null for the first page
+   * @param sortBy the sort field
+   * @param sortDirection the sort direction
+   * @return the collection entries
+   */
+  public List<CollectionEntry> loadCollectionEntryPage(
+      final ComicTagType tagType,
+      final int pageSize,
+      final CollectionEntryCursor cursor,
+      final String sortBy,
+      final String sortDirection) {
+    log.debug("Loading collection entries: type={} cursor={} size={}", tagType, cursor, pageSize);
+    final boolean hasCursor = Objects.nonNull(cursor) && Objects.nonNull(cursor.getTagValue());
+    return this.comicDetailRepository.loadCollectionEntryPage(
+        tagType,
+        "comic-count".equals(sortBy),
+        !"desc".equals(sortDirection),
+        hasCursor ? cursor.getTagValue() : null,
+        hasCursor ? Objects.requireNonNullElse(cursor.getComicCount(), 0L) : null,
+        pageSize);
+  }
+
+  /**
+   * Returns the cursor that loads the page of tag values following the given one, or null if it was
+   * the last page.
+   *
+   * @param entries the collection entries
+   * @param pageSize the page size
+   * @return the cursor
+   */
+  public CollectionEntryCursor getNextCursor(
+      final List<CollectionEntry> entries, final int pageSize) {
+    if (entries.size() < pageSize) {
+      log.trace("No more collection entries to load");
+      return null;
+    }
+    final CollectionEntry last = entries.get(entries.size() - 1);
+    return new CollectionEntryCursor(last.getTagValue(), last.getComicCount());
+  }
+
   /**
    * Returns the number of comic books with a given tag type.
    *
@@ -715,6 +1083,18 @@ public class ComicDetailService {
       return Sort.unsorted();
     }
 
+    Sort.Direction direction = Sort.Direction.DESC;
+    if (sortDirection.equals("asc")) {
+      direction = Sort.Direction.ASC;
+    }
+    return Sort.by(direction, this.doGetSortField(sortBy, sortDirection));
+  }
+
+  private String doGetSortField(final String sortBy, final String sortDirection) {
+    if (!StringUtils.hasLength(sortBy) || !StringUtils.hasLength(sortDirection)) {
+      return "id";
+    }
+
     String fieldName;
     switch (sortBy) {
       case "archive-type" -> fieldName = "archiveType";
@@ -726,12 +1106,39 @@ public class ComicDetailService {
       case "cover-date" -> fieldName = "coverDate";
       default -> fieldName = "id";
     }
+    return fieldName;
+  }
 
-    Sort.Direction direction = Sort.Direction.DESC;
-    if (sortDirection.equals("asc")) {
-      direction = Sort.Direction.ASC;
+  private List<ComicDetail> doLoadComicDetailPage(
+      final Example<ComicDetail> example,
+      final String email,
+      final int pageSize,
+      final ComicDetailCursor cursor,
+      final String sortBy,
+      final String sortDirection) {
+    final String sortField = this.doGetSortField(sortBy, sortDirection);
+    final boolean ascending =
+        !StringUtils.hasLength(sortBy)
+            || !StringUtils.hasLength(sortDirection)
+            || sortDirection.equals("asc");
+    Comparable<?> lastValue = null;
+    Long lastId = null;
+    if (Objects.nonNull(cursor) && Objects.nonNull(cursor.getId())) {
+      lastId = cursor.getId();
+      final String value = cursor.getSortValue();
+      if (Objects.nonNull(value)) {
+        lastValue =
+            switch (sortField) {
+              case "archiveType" -> ArchiveType.valueOf(value);
+              case "comicState" -> ComicState.valueOf(value);
+              case "comicType" -> ComicType.valueOf(value);
+              case "addedDate", "coverDate" -> new Date(Long.parseLong(value));
+              default -> value;
+            };
+      }
     }
-    return Sort.by(direction, fieldName);
+    return this.comicDetailRepository.loadComicDetailPage(
+        example, email, sortField, ascending, lastValue, lastId, pageSize);
   }
 
   public List<ComicDetail> loadUnreadComicDetails(
@@ -745,4 +1152,69 @@ public class ComicDetailService {
     return this.comicDetailRepository.loadUnreadComicDetails(
         email, PageRequest.of(pageIndex, pageSize, this.doCreateSort(sortBy, sortDirection)));
   }
+
+  /**
+   * Loads the page of comics unread by the given user that follows the given cursor.
+   *
+   * @param email the user's email
+   * @param pageSize the page size
+   * @param cursor the cursor, or null for the first page
+   * @param sortBy the sort field
+   * @param sortDirection the sort direction
+   * @return the comic details
+   */
+  public List<ComicDetail> loadUnreadComicDetailPage(
+      final String email,
+      final int pageSize,
+      final ComicDetailCursor cursor,
+      final String sortBy,
+      final String sortDirection) {
+    log.debug(
+        "Loading unread comics for user: email={} cursor={} size={}", email, cursor, pageSize);
+    return this.doLoadComicDetailPage(null, email, pageSize, cursor, sortBy, sortDirection);
+  }
+
+  private List<ComicDetail> doLoadKeysetPage(
+      final KeysetQuery query,
+      final long comicDetailId,
+      final boolean before,
+      final String email,
+      final boolean unread,
+      final int maximum) {
+    final List<ComicDetail> result = new ArrayList<>();
+    long cursor = comicDetailId;
+    while (result.size() < maximum) {
+      final List<ComicDetail> entries = query.load(cursor, PageRequest.of(0, maximum));
+      result.addAll(unread ? this.readStateIndex.filterUnread(email, entries) : entries);
+      if (entries.size() < maximum) break;
+      cursor = entries.get(entries.size() - 1).getId();
+      log.trace("Page not filled, continuing from comic: id={}", cursor);
+    }
+    final List<ComicDetail> page =
+        new ArrayList<>(result.subList(0, Math.min(maximum, result.size())));
+    if (before) {
+      Collections.reverse(page);
+    }
+    return page;
+  }
+
+  private Date[] doGetWeekDates(final int year, final int week) {
+    log.trace("Converting year and week to start and end dates");
+    final GregorianCalendar calendar = new GregorianCalendar();
+    calendar.setTimeZone(TimeZone.getTimeZone("UTC"));
+    calendar.set(Calendar.YEAR, year);
+    calendar.set(Calendar.WEEK_OF_YEAR, week);
+    log.trace("Getting first day of requested week");
+    calendar.set(Calendar.DAY_OF_WEEK, Calendar.SUNDAY);
+    final Date startDate = calendar.getTime();
+    log.trace("Getting last day of requested week");
+    calendar.set(Calendar.DAY_OF_WEEK, Calendar.SATURDAY);
+    final Date endDate = calendar.getTime();
+    return new Date[] {startDate, endDate};
+  }
+
+  @FunctionalInterface
+  interface KeysetQuery {
+    List<ComicDetail> load(long comicDetailId, Pageable pageable);
+  }
 }
@@ -35,6 +35,7 @@ import org.comixedproject.messaging.comicpages.PublishBlockedPageUpdateAction;
 import org.comixedproject.messaging.library.PublishDuplicatePageListUpdateAction;
 import org.comixedproject.model.comicpages.BlockedHash;
 import org.comixedproject.model.comicpages.Page;
+import org.comixedproject.model.comicpages.PageHash;
 import org.comixedproject.model.net.DownloadDocument;
 import org.comixedproject.repositories.comicpages.BlockedHashRepository;
 import org.comixedproject.service.library.DuplicatePageService;
@@ -53,6 +54,7 @@ public class BlockedHashService {
   static final String PAGE_LABEL_HEADER = "Page Label";
   static final String PAGE_HASH_HEADER = "Hash Value";
   static final String PAGE_SNAPSHOT_HEADER = "Encoded Snapshot";
+  static final int DELETE_BATCH_SIZE = 500;
 
   @Autowired private BlockedHashRepository blockedHashRepository;
   @Autowired private CsvAdaptor csvAdaptor;
@@ -99,7 +101,7 @@ public class BlockedHashService {
    *
    * @return the blocked page hashes
    */
-  public List<String> getHashes() {
+  public List<PageHash> getHashes() {
     log.debug("Loading all blocked page hashes");
     return this.blockedHashRepository.getHashes();
   }
@@ -270,7 +272,8 @@ public class BlockedHashService {
   }
 
   /**
-   * Deletes a set of entries based on their hashes.
+   * Deletes a set of entries based on their hashes. The entries are loaded and deleted in batches
+   * rather than individually.
    *
    * @param hashes the entry hashes
    * @return the deleted entries
@@ -279,21 +282,24 @@ public class BlockedHashService {
   public List<String> deleteBlockedPages(final List<String> hashes) {
     log.debug("Deleting {} blocked page entr{}", hashes.size(), hashes.size() == 1 ? "y" : "ies");
     List<String> result = new ArrayList<>();
-    hashes.forEach(
-        hash -> {
-          log.trace("Loading blocked page for hash: {}", hash);
-          final BlockedHash entry = this.blockedHashRepository.findByHash(hash);
-          if (entry != null) {
-            log.trace("Deleting entry: id={}", entry.getId());
-            this.blockedHashRepository.delete(entry);
+    for (int start = 0; start < hashes.size(); start += DELETE_BATCH_SIZE) {
+      final List<String> batch =
+          hashes.subList(start, Math.min(hashes.size(), start + DELETE_BATCH_SIZE));
+      log.trace("Loading blocked pages for hashes: count={}", batch.size());
+      final List<BlockedHash> entries = this.blockedHashRepository.findByHashes(batch);
+      if (entries.isEmpty()) continue;
+      log.trace("Deleting entries: count={}", entries.size());
+      this.blockedHashRepository.deleteAllInBatch(entries);
+      entries.forEach(
+          entry -> {
             result.add(entry.getHash());
             try {
               this.publishBlockedPageRemovalAction.publish(entry);
             } catch (PublishingException error) {
               log.error("Failed to publish blocked hash removed", error);
             }
-          }
-        });
+          });
+    }
     log.trace("Returning list of deleted blocked pages");
     return result;
   }
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.model.comicpages.DeletedPage;
+import org.comixedproject.model.comicpages.PageHash;
 import org.comixedproject.repositories.comicpages.PageRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -47,7 +48,7 @@ public class DeletedPageService {
   @Transactional
   public List<DeletedPage> loadAll() {
     log.debug("Loading all deleted pages");
-    final Map<String, DeletedPage> result = new HashMap<>();
+    final Map<PageHash, DeletedPage> result = new HashMap<>();
     this.pageRepository
         .loadAllDeletedPages()
         .forEach(
@@ -59,7 +60,8 @@ public class DeletedPageService {
               if (!result.containsKey(deletedPageAndComic.getHash())) {
                 log.trace("Creating new hash entry");
                 result.put(
-                    deletedPageAndComic.getHash(), new DeletedPage(deletedPageAndComic.getHash()));
+                    deletedPageAndComic.getHash(),
+                    new DeletedPage(deletedPageAndComic.getHash().toString()));
               }
               log.trace("Adding comic to hash entry");
               result
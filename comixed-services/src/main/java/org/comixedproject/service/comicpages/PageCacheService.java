@@ -18,15 +18,24 @@
 
 package org.comixedproject.service.comicpages;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import java.io.*;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.IOUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 @Log4j2
 public class PageCacheService {
+  static final String CACHE_REQUESTS_METRIC = "comixed.page-cache.requests";
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
   @Value("${comixed.images.cache.location}")
   private String cacheDirectory;
 
@@ -46,17 +55,28 @@ public class PageCacheService {
 
       try (FileInputStream input = new FileInputStream(file)) {
         result = IOUtils.readFully(input, (int) file.length());
+        this.doRecordRequest("hit");
       } catch (Exception error) {
         log.error("Failed to load cached image", error);
+        this.doRecordRequest("error");
       }
 
       return result;
     }
 
     log.debug("No image in cache");
+    this.doRecordRequest("miss");
     return null;
   }
 
+  private void doRecordRequest(final String result) {
+    Counter.builder(CACHE_REQUESTS_METRIC)
+        .description("Page cache lookups")
+        .tag("result", result)
+        .register(this.meterRegistry)
+        .increment();
+  }
+
   File getFileForHash(final String hash) {
     if (hash.length() != 32) {
       return null;
@@ -168,6 +168,17 @@ public class PageService implements InitializingBean, PageStateChangeListener {
     return this.pageRepository.findByHashAndPageState(hash, PageState.DELETED);
   }
 
+  /**
+   * Returns the perceptual hashes for all pages whose hash is blocked.
+   *
+   * @return the perceptual hashes
+   */
+  @Transactional
+  public List<Long> getBlockedPerceptualHashes() {
+    log.trace("Fetching blocked perceptual hashes");
+    return this.pageRepository.getBlockedPerceptualHashes();
+  }
+
   /**
    * Updates the deleted state for individual pages.
    *
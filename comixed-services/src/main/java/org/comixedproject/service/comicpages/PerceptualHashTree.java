@@ -0,0 +1,198 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.service.comicpages;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * <code>PerceptualHashTree</code> is a BK-tree of 64-bit perceptual hashes using Hamming distance.
+ * Each child is stored under its distance from the parent, so a search within distance <code>k
+ * </code> only visits children whose distance falls within <code>k</code> of the query's distance
+ * from the parent, leaving most of the tree unvisited for small values of <code>k</code>.
+ *
+ * <p>Removing the last value for a hash leaves its node in place, since the node still routes
+ * searches to its children.
+ *
+ * <p>The tree is not thread-safe.
+ *
+ * @param <T> the type of value stored with each hash
+ * @author Darryl L. Pierce
+ */
+public class PerceptualHashTree<T> {
+  private static final int MAX_DISTANCE = Long.SIZE;
+
+  private Node<T> root;
+  @Getter private int size = 0;
+
+  /**
+   * Returns the Hamming distance between two hashes.
+   *
+   * @param first the first hash
+   * @param second the second hash
+   * @return the distance
+   */
+  public static int distance(final long first, final long second) {
+    return Long.bitCount(first ^ second);
+  }
+
+  /**
+   * Adds a value to the tree. Values with the same hash are kept together in a single node, and a
+   * value already stored for a hash is not added again.
+   *
+   * @param hash the perceptual hash
+   * @param value the value
+   */
+  public void add(final long hash, final T value) {
+    if (Objects.isNull(this.root)) {
+      this.root = new Node<>(hash);
+      this.root.values.add(value);
+      this.size++;
+      return;
+    }
+    Node<T> node = this.root;
+    while (true) {
+      final int distance = distance(hash, node.hash);
+      if (distance == 0) {
+        if (!node.values.contains(value)) {
+          node.values.add(value);
+          this.size++;
+        }
+        return;
+      }
+      final Node<T> next = node.getChild(distance);
+      if (Objects.isNull(next)) {
+        final Node<T> child = new Node<>(hash);
+        child.values.add(value);
+        node.addChild(distance, child);
+        this.size++;
+        return;
+      }
+      node = next;
+    }
+  }
+
+  /**
+   * Removes a value from the tree.
+   *
+   * @param hash the perceptual hash
+   * @param value the value
+   * @return true if the value was found and removed
+   */
+  public boolean remove(final long hash, final T value) {
+    Node<T> node = this.root;
+    while (Objects.nonNull(node)) {
+      final int distance = distance(hash, node.hash);
+      if (distance == 0) {
+        if (!node.values.remove(value)) return false;
+        this.size--;
+        return true;
+      }
+      node = node.getChild(distance);
+    }
+    return false;
+  }
+
+  /**
+   * Returns all values whose hash is within the given distance of a hash.
+   *
+   * @param hash the perceptual hash
+   * @param maximum the maximum distance
+   * @return the values
+   */
+  public List<T> search(final long hash, final int maximum) {
+    final List<T> result = new ArrayList<>();
+    this.doSearch(hash, maximum, result, false);
+    return result;
+  }
+
+  /**
+   * Returns if any value has a hash within the given distance of a hash.
+   *
+   * @param hash the perceptual hash
+   * @param maximum the maximum distance
+   * @return true if a match exists
+   */
+  public boolean containsWithin(final long hash, final int maximum) {
+    return this.doSearch(hash, maximum, null, true);
+  }
+
+  private boolean doSearch(
+      final long hash, final int maximum, final List<T> result, final boolean stopAtFirst) {
+    if (Objects.isNull(this.root)) return false;
+    boolean found = false;
+    final Deque<Node<T>> pending = new ArrayDeque<>();
+    pending.push(this.root);
+    while (!pending.isEmpty()) {
+      final Node<T> node = pending.pop();
+      final int distance = distance(hash, node.hash);
+      if (distance <= maximum && !node.values.isEmpty()) {
+        if (stopAtFirst) return true;
+        found = true;
+        result.addAll(node.values);
+      }
+      for (int index = 0; index < node.childCount; index++) {
+        if (Math.abs(node.childDistances[index] - distance) <= maximum)
+          pending.push(node.children[index]);
+      }
+    }
+    return found;
+  }
+
+  /** Children are kept in small parallel arrays since most nodes have only a few of them. */
+  private static class Node<T> {
+    private final long hash;
+    private final List<T> values = new ArrayList<>(1);
+    private byte[] childDistances = new byte[0];
+    private Node<T>[] children = newChildren(0);
+    private int childCount = 0;
+
+    private Node(final long hash) {
+      this.hash = hash;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newChildren(final int length) {
+      return new Node[length];
+    }
+
+    private Node<T> getChild(final int distance) {
+      for (int index = 0; index < this.childCount; index++) {
+        if (this.childDistances[index] == distance) return this.children[index];
+      }
+      return null;
+    }
+
+    private void addChild(final int distance, final Node<T> child) {
+      if (this.childCount == this.children.length) {
+        final int length = Math.min(MAX_DISTANCE, Math.max(2, this.childCount * 2));
+        this.childDistances = Arrays.copyOf(this.childDistances, length);
+        this.children = Arrays.copyOf(this.children, length);
+      }
+      this.childDistances[this.childCount] = (byte) distance;
+      this.children[this.childCount] = child;
+      this.childCount++;
+    }
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.service.comicpages;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.comicpages.PageHash;
+import org.comixedproject.model.comicpages.PerceptualPageHash;
+import org.comixedproject.repositories.comicpages.PageRepository;
+import org.comixedproject.service.comicbooks.ComicBooksPurgedEvent;
+import org.comixedproject.service.comicbooks.ComicStateChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <code>SimilarPageService</code> finds pages whose images are near-duplicates of a given page,
+ * using the perceptual hash stored with each page. The hashes are held in a {@link
+ * PerceptualHashTree} that is loaded on first use and then extended with newly added pages before
+ * each search. Since pages are deleted or have their perceptual hash filled in when comics change
+ * state or are purged, the entries for those comics are reloaded before the next search.
+ *
+ * @author Darryl L. Pierce
+ */
+@Service
+@Log4j2
+public class SimilarPageService {
+  static final int LOOKUP_BATCH_SIZE = 500;
+
+  @Autowired private PageRepository pageRepository;
+
+  @Value("${comixed.pages.similar.load-size:10000}")
+  int loadSize = 10000;
+
+  final PerceptualHashTree<PerceptualPageHash> index = new PerceptualHashTree<>();
+  final Map<Long, List<PerceptualPageHash>> entriesByComicBook = new HashMap<>();
+  final Set<Long> changedComicBookIds = ConcurrentHashMap.newKeySet();
+  long lastPageId = 0L;
+
+  /**
+   * Marks a comic book's pages for reloading after it changes state.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onComicStateChanged(final ComicStateChangedEvent event) {
+    log.trace("Comic book state changed: id={}", event.getComicBookId());
+    this.changedComicBookIds.add(event.getComicBookId());
+  }
+
+  /**
+   * Marks the pages of purged comic books for removal.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onComicBooksPurged(final ComicBooksPurgedEvent event) {
+    log.trace("Comic books purged: count={}", event.getComicBookIds().size());
+    this.changedComicBookIds.addAll(event.getComicBookIds());
+  }
+
+  /**
+   * Returns the given hashes along with the hashes of all pages within the given perceptual
+   * distance of them.
+   *
+   * @param hashes the page hashes
+   * @param distance the maximum number of differing perceptual hash bits
+   * @return the hashes
+   */
+  @Transactional
+  public synchronized List<String> findSimilarHashes(
+      final List<String> hashes, final int distance) {
+    final Set<String> result = new LinkedHashSet<>(hashes);
+    if (distance <= 0) return new ArrayList<>(result);
+    this.doUpdateIndex();
+    final List<PageHash> pageHashes =
+        hashes.stream().map(PageHash::fromHex).collect(Collectors.toList());
+    final Map<PageHash, Set<Long>> perceptualHashes = this.doLoadPerceptualHashes(pageHashes);
+    final Map<PageHash, Set<Long>> candidates = new LinkedHashMap<>();
+    for (PageHash hash : pageHashes) {
+      final Set<Long> values = perceptualHashes.getOrDefault(hash, Set.of());
+      log.trace("Searching for similar pages: hash={} count={}", hash, values.size());
+      values.forEach(
+          perceptualHash ->
+              this.index.search(perceptualHash, distance).stream()
+                  .map(PerceptualPageHash::getHash)
+                  .filter(candidate -> !result.contains(candidate.toString()))
+                  .forEach(
+                      candidate ->
+                          candidates
+                              .computeIfAbsent(candidate, key -> new HashSet<>())
+                              .add(perceptualHash)));
+    }
+    final Map<PageHash, Set<Long>> current = this.doLoadPerceptualHashes(candidates.keySet());
+    candidates.forEach(
+        (candidate, matched) -> {
+          if (this.doIsStillSimilar(current.get(candidate), matched, distance))
+            result.add(candidate.toString());
+        });
+    log.debug("Found similar pages: requested={} found={}", hashes.size(), result.size());
+    return new ArrayList<>(result);
+  }
+
+  /**
+   * Returns if any current perceptual hash for a candidate is within the distance of a hash that
+   * matched it. This removes matches for pages that changed since the index was last updated.
+   */
+  private boolean doIsStillSimilar(
+      final Set<Long> current, final Set<Long> matched, final int distance) {
+    return Objects.nonNull(current)
+        && current.stream()
+            .anyMatch(
+                value ->
+                    matched.stream()
+                        .anyMatch(
+                            perceptualHash ->
+                                PerceptualHashTree.distance(value, perceptualHash) <= distance));
+  }
+
+  private Map<PageHash, Set<Long>> doLoadPerceptualHashes(final Collection<PageHash> hashes) {
+    final Map<PageHash, Set<Long>> result = new HashMap<>();
+    this.doInBatches(
+        new ArrayList<>(hashes),
+        batch ->
+            this.pageRepository
+                .loadPerceptualHashesForHashes(batch)
+                .forEach(
+                    entry ->
+                        result
+                            .computeIfAbsent(entry.getHash(), key -> new HashSet<>())
+                            .add(entry.getPerceptualHash())));
+    return result;
+  }
+
+  private void doUpdateIndex() {
+    List<PerceptualPageHash> entries;
+    do {
+      entries =
+          this.pageRepository.loadPerceptualHashes(this.lastPageId, PageRequest.of(0, loadSize));
+      entries.forEach(this::doAddEntry);
+      if (!entries.isEmpty()) this.lastPageId = entries.get(entries.size() - 1).getId();
+    } while (entries.size() == this.loadSize);
+
+    if (!this.changedComicBookIds.isEmpty()) {
+      final List<Long> ids = new ArrayList<>(this.changedComicBookIds);
+      this.changedComicBookIds.removeAll(ids);
+      log.debug("Reloading similar page entries: comics={}", ids.size());
+      ids.forEach(this::doRemoveComicBook);
+      this.doInBatches(
+          ids,
+          batch ->
+              this.pageRepository.loadPerceptualHashesForComicBooks(batch).stream()
+                  .filter(entry -> entry.getId() <= this.lastPageId)
+                  .forEach(this::doAddEntry));
+    }
+    log.trace("Similar page index: entries={} last id={}", this.index.getSize(), this.lastPageId);
+  }
+
+  private void doAddEntry(final PerceptualPageHash entry) {
+    this.index.add(entry.getPerceptualHash(), entry);
+    this.entriesByComicBook
+        .computeIfAbsent(entry.getComicBookId(), key -> new ArrayList<>())
+        .add(entry);
+  }
+
+  private void doRemoveComicBook(final Long comicBookId) {
+    final List<PerceptualPageHash> entries = this.entriesByComicBook.remove(comicBookId);
+    if (Objects.nonNull(entries))
+      entries.forEach(entry -> this.index.remove(entry.getPerceptualHash(), entry));
+  }
+
+  private <T> void doInBatches(final List<T> values, final Consumer<List<T>> action) {
+    for (int start = 0; start < values.size(); start += LOOKUP_BATCH_SIZE) {
+      action.accept(values.subList(start, Math.min(values.size(), start + LOOKUP_BATCH_SIZE)));
+    }
+  }
+}
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.model.comicpages.Page;
+import org.comixedproject.model.comicpages.PageHash;
 import org.comixedproject.model.library.DuplicatePage;
 import org.comixedproject.repositories.comicpages.PageRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -52,14 +53,14 @@ public class DuplicatePageService {
     log.trace("Getting pages from repository");
     final List<Page> pages = this.pageRepository.getDuplicatePages();
     log.trace("Build duplicate page list");
-    Map<String, DuplicatePage> mapped = new HashMap<>();
+    Map<PageHash, DuplicatePage> mapped = new HashMap<>();
     for (Page page : pages) {
       log.trace("Looking for existing entry");
-      DuplicatePage entry = mapped.get(page.getHash());
+      DuplicatePage entry = mapped.get(page.getPageHash());
       if (entry == null) {
         log.trace("Creating new entry");
         entry = new DuplicatePage(page.getHash());
-        mapped.put(entry.getHash(), entry);
+        mapped.put(page.getPageHash(), entry);
       }
       log.trace("Loading comic into entry");
       entry.getComics().add(page.getComicBook().getComicDetail());
@@ -22,7 +22,6 @@ import static org.comixedproject.state.comicbooks.ComicStateHandler.HEADER_COMIC
 import static org.comixedproject.state.comicbooks.ComicStateHandler.HEADER_USER;
 
 import java.util.*;
-import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.messaging.PublishingException;
 import org.comixedproject.messaging.library.PublishLastReadRemovedAction;
@@ -36,6 +35,7 @@ import org.comixedproject.model.user.ComiXedUser;
 import org.comixedproject.repositories.library.LastReadRepository;
 import org.comixedproject.service.comicbooks.ComicBookException;
 import org.comixedproject.service.comicbooks.ComicBookService;
+import org.comixedproject.service.comicbooks.ComicDetailService;
 import org.comixedproject.service.user.ComiXedUserException;
 import org.comixedproject.service.user.UserService;
 import org.comixedproject.state.comicbooks.ComicEvent;
@@ -50,7 +50,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * <code>LastReadService</code> provides rules for marking instances of {@link ComicBook} as read by
- * {@link ComiXedUser}s.
+ * {@link ComiXedUser}s. Every change is also applied to the {@link ReadStateIndex}.
  *
  * @author Darryl L. Pierce
  */
@@ -60,6 +60,8 @@ public class LastReadService implements InitializingBean, ComicStateChangeListen
   @Autowired private ComicStateHandler comicStateHandler;
   @Autowired private UserService userService;
   @Autowired private ComicBookService comicBookService;
+  @Autowired private ComicDetailService comicDetailService;
+  @Autowired private ReadStateIndex readStateIndex;
   @Autowired private LastReadRepository lastReadRepository;
   @Autowired private PublishLastReadUpdatedAction publishLastReadUpdatedAction;
   @Autowired private PublishLastReadRemovedAction publishLastReadRemovedAction;
@@ -108,6 +110,7 @@ public class LastReadService implements InitializingBean, ComicStateChangeListen
     log.trace("Creating last read record");
     final LastRead lastRead =
         this.lastReadRepository.save(new LastRead(comicBook.getComicDetail(), user));
+    this.readStateIndex.markAsRead(user.getEmail(), List.of(comicBook.getComicDetail().getId()));
     try {
       this.publishLastReadUpdatedAction.publish(lastRead);
     } catch (PublishingException error) {
@@ -121,6 +124,7 @@ public class LastReadService implements InitializingBean, ComicStateChangeListen
         this.lastReadRepository.loadEntryForComicAndUser(comicBook.getComicDetail(), user);
     log.trace("Deleting last read record");
     this.lastReadRepository.delete(lastRead);
+    this.readStateIndex.markAsUnread(user.getEmail(), List.of(comicBook.getComicDetail().getId()));
     try {
       this.publishLastReadRemovedAction.publish(lastRead);
     } catch (PublishingException error) {
@@ -137,59 +141,51 @@ public class LastReadService implements InitializingBean, ComicStateChangeListen
   }
 
   /**
-   * Marks comic books as read by the user.
+   * Marks comic books as read by the user. The comics are loaded with batched queries, and only
+   * those not already read are inserted.
    *
    * @param email the user's email
    * @param ids the set of comic ids
-   * @throws LastReadException if the user or any comic book was not found
+   * @throws LastReadException if the user was not found
    */
+  @Transactional
   public void markComicBooksAsRead(final String email, final List<Long> ids)
       throws LastReadException {
     final ComiXedUser user = this.doFindUser(email);
-    final Set<Long> existingIds =
-        this.lastReadRepository.loadEntriesForUser(user).stream()
-            .map(lastRead -> lastRead.getComicDetail().getComicId())
-            .collect(Collectors.toSet());
+    log.trace("Loading unread comics: count={}", ids.size());
+    final List<ComicDetail> unread =
+        this.readStateIndex.filterUnread(email, this.comicDetailService.getForComicBookIds(ids));
+    if (unread.isEmpty()) {
+      log.debug("All comics already marked as read");
+      return;
+    }
+    log.debug("Marking {} comic(s) as read", unread.size());
     this.lastReadRepository.saveAll(
-        ids.stream()
-            .filter(comicBookId -> !existingIds.contains(comicBookId))
-            .map(
-                comicBookId -> {
-                  final ComicBook comicBook;
-                  try {
-                    comicBook = this.doFindComicBook(comicBookId);
-                    return new LastRead(comicBook.getComicDetail(), user);
-                  } catch (LastReadException error) {
-                    log.error("Failed to load comic book", error);
-                    return null;
-                  }
-                })
-            .filter(Objects::nonNull)
-            .toList());
+        unread.stream().map(comicDetail -> new LastRead(comicDetail, user)).toList());
+    this.readStateIndex.markAsRead(email, unread.stream().map(ComicDetail::getId).toList());
   }
 
   /**
-   * Marks comic books as unread by the user.
+   * Marks comic books as unread by the user with a single delete.
    *
    * @param email the user's email
    * @param ids the set of comic ids
    * @throws LastReadException if the user was not found
    */
+  @Transactional
   public void markComicBooksAsUnread(final String email, final List<Long> ids)
       throws LastReadException {
     final ComiXedUser user = this.doFindUser(email);
-    this.lastReadRepository.deleteAll(
-        this.lastReadRepository.loadEntriesForUser(user).stream()
-            .filter(lastRead -> ids.contains(lastRead.getComicDetail().getComicId()))
-            .toList());
-  }
-
-  private ComicBook doFindComicBook(final Long comicBookId) throws LastReadException {
-    try {
-      return this.comicBookService.getComic(comicBookId);
-    } catch (ComicBookException error) {
-      throw new LastReadException("Failed to load comic book", error);
+    log.trace("Loading read comics: count={}", ids.size());
+    final List<Long> comicDetailIds =
+        this.lastReadRepository.loadComicDetailIdsForComicBooks(user, ids);
+    if (comicDetailIds.isEmpty()) {
+      log.debug("No comics marked as read");
+      return;
     }
+    log.debug("Marking {} comic(s) as unread", comicDetailIds.size());
+    this.lastReadRepository.deleteForComicDetailIds(user, comicDetailIds);
+    this.readStateIndex.markAsUnread(email, comicDetailIds);
   }
 
   /**
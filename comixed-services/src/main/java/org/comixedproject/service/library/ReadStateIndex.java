@@ -0,0 +1,196 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.service.library;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.comicbooks.ComicDetail;
+import org.comixedproject.repositories.library.LastReadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * <code>ReadStateIndex</code> holds, for each user, a bitmap of the ids of the comics they have
+ * read. A user's bitmap is loaded from the last read records with a single query the first time it
+ * is needed, and is then kept up to date by {@link LastReadService}.
+ *
+ * <p>Bitmaps are never modified once published: each update replaces the user's bitmap with an
+ * updated copy, so readers always see a consistent set without locking. Updates made within a
+ * transaction are applied once it commits, so a rolled back change is never visible.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class ReadStateIndex {
+  @Autowired private LastReadRepository lastReadRepository;
+
+  final Map<String, BitSet> readComics = new ConcurrentHashMap<>();
+  final Map<String, Long> lastChanged = new ConcurrentHashMap<>();
+
+  /**
+   * Returns if the user has read the given comic.
+   *
+   * @param email the user's email
+   * @param comicDetailId the comic detail id
+   * @return true if the comic has been read
+   */
+  public boolean isRead(final String email, final long comicDetailId) {
+    return this.doContains(this.doGetBitmap(email), comicDetailId);
+  }
+
+  /**
+   * Returns the comics in the given list that the user has not read.
+   *
+   * @param email the user's email
+   * @param comicDetails the comics
+   * @return the unread comics
+   */
+  public List<ComicDetail> filterUnread(final String email, final List<ComicDetail> comicDetails) {
+    final BitSet bitmap = this.doGetBitmap(email);
+    return comicDetails.stream()
+        .filter(comicDetail -> !this.doContains(bitmap, comicDetail.getId()))
+        .toList();
+  }
+
+  /**
+   * Returns the number of comics the user has read.
+   *
+   * @param email the user's email
+   * @return the count
+   */
+  public int getReadCount(final String email) {
+    return this.doGetBitmap(email).cardinality();
+  }
+
+  /**
+   * Returns when the user's read state last changed, as milliseconds since the epoch. Each change
+   * moves the value forward by at least one, so it can also be used as a version.
+   *
+   * @param email the user's email
+   * @return the timestamp, or zero if the read state has not changed since startup
+   */
+  public long getLastChanged(final String email) {
+    return this.lastChanged.getOrDefault(email, 0L);
+  }
+
+  /**
+   * Records that the user has read the given comics.
+   *
+   * @param email the user's email
+   * @param comicDetailIds the comic detail ids
+   */
+  public void markAsRead(final String email, final Collection<Long> comicDetailIds) {
+    this.doAfterCommit(() -> this.doUpdate(email, comicDetailIds, true));
+  }
+
+  /**
+   * Records that the user has not read the given comics.
+   *
+   * @param email the user's email
+   * @param comicDetailIds the comic detail ids
+   */
+  public void markAsUnread(final String email, final Collection<Long> comicDetailIds) {
+    this.doAfterCommit(() -> this.doUpdate(email, comicDetailIds, false));
+  }
+
+  /**
+   * Discards the bitmap for a user, so that it is reloaded the next time it is needed.
+   *
+   * @param email the user's email
+   */
+  public void invalidate(final String email) {
+    this.doAfterCommit(
+        () -> {
+          log.debug("Discarding read state index: {}", email);
+          this.readComics.remove(email);
+          this.doTouch(email);
+        });
+  }
+
+  private void doAfterCommit(final Runnable update) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      update.run();
+      return;
+    }
+    log.trace("Deferring read state index update until commit");
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            update.run();
+          }
+        });
+  }
+
+  private BitSet doGetBitmap(final String email) {
+    return this.readComics.computeIfAbsent(email, this::doLoadBitmap);
+  }
+
+  private BitSet doLoadBitmap(final String email) {
+    log.debug("Loading read state index: {}", email);
+    final BitSet result = new BitSet();
+    this.lastReadRepository
+        .loadComicDetailIdsForUser(email)
+        .forEach(comicDetailId -> this.doSet(result, comicDetailId, true));
+    return result;
+  }
+
+  private void doUpdate(
+      final String email, final Collection<Long> comicDetailIds, final boolean read) {
+    if (comicDetailIds.isEmpty()) {
+      return;
+    }
+    this.doGetBitmap(email);
+    this.readComics.computeIfPresent(
+        email,
+        (key, existing) -> {
+          final BitSet result = (BitSet) existing.clone();
+          comicDetailIds.forEach(comicDetailId -> this.doSet(result, comicDetailId, read));
+          return result;
+        });
+    this.doTouch(email);
+  }
+
+  private void doTouch(final String email) {
+    final long now = System.currentTimeMillis();
+    this.lastChanged.merge(email, now, (previous, current) -> Math.max(previous + 1L, current));
+  }
+
+  private void doSet(final BitSet bitmap, final Long comicDetailId, final boolean read) {
+    if (comicDetailId == null || comicDetailId < 0L || comicDetailId > Integer.MAX_VALUE) {
+      log.warn("Comic detail id out of range for read state index: {}", comicDetailId);
+      return;
+    }
+    bitmap.set(comicDetailId.intValue(), read);
+  }
+
+  private boolean doContains(final BitSet bitmap, final Long comicDetailId) {
+    return comicDetailId != null
+        && comicDetailId >= 0L
+        && comicDetailId <= Integer.MAX_VALUE
+        && bitmap.get(comicDetailId.intValue());
+  }
+}
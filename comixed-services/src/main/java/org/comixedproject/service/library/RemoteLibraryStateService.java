@@ -24,6 +24,7 @@ import org.comixedproject.messaging.library.PublishRemoteLibraryUpdateAction;
 import org.comixedproject.model.comicbooks.ComicState;
 import org.comixedproject.model.net.library.RemoteLibraryState;
 import org.comixedproject.service.comicbooks.ComicBookService;
+import org.comixedproject.service.comicbooks.ComicBooksPurgedEvent;
 import org.comixedproject.state.comicbooks.ComicEvent;
 import org.comixedproject.state.comicbooks.ComicStateChangeListener;
 import org.comixedproject.state.comicbooks.ComicStateHandler;
@@ -32,6 +33,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.Message;
 import org.springframework.statemachine.state.State;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * <code>RemoteLibraryStateService</code> provide business methods for working with the state of the
@@ -55,6 +57,22 @@ public class RemoteLibraryStateService implements InitializingBean, ComicStateCh
   @Override
   public void onComicStateChange(
       final State<ComicState, ComicEvent> state, final Message<ComicEvent> message) {
+    this.doPublishLibraryState();
+  }
+
+  /**
+   * Publishes the library state after comic books are purged, since purged comics do not pass
+   * through the state machine.
+   *
+   * @param event the event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onComicBooksPurged(final ComicBooksPurgedEvent event) {
+    log.trace("Comic books purged");
+    this.doPublishLibraryState();
+  }
+
+  private void doPublishLibraryState() {
     log.debug("Publishing library state update");
     try {
       this.publishRemoteLibraryUpdateAction.publish(this.getLibraryState());
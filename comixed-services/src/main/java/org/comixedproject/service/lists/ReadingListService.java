@@ -18,29 +18,33 @@
 
 package org.comixedproject.service.lists;
 
-import static org.comixedproject.state.comicbooks.ComicStateHandler.HEADER_COMIC;
+import static org.comixedproject.state.lists.ReadingListStateHandler.HEADER_COMIC_DETAILS;
 import static org.comixedproject.state.lists.ReadingListStateHandler.HEADER_READING_LIST;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.adaptors.csv.CsvAdaptor;
 import org.comixedproject.messaging.PublishingException;
 import org.comixedproject.messaging.lists.PublishReadingListDeletedAction;
 import org.comixedproject.messaging.lists.PublishReadingListUpdateAction;
-import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.model.comicbooks.ComicDetail;
 import org.comixedproject.model.lists.ReadingList;
 import org.comixedproject.model.lists.ReadingListState;
 import org.comixedproject.model.net.DownloadDocument;
 import org.comixedproject.model.user.ComiXedUser;
 import org.comixedproject.repositories.lists.ReadingListRepository;
-import org.comixedproject.service.comicbooks.ComicBookException;
-import org.comixedproject.service.comicbooks.ComicBookService;
+import org.comixedproject.service.comicbooks.ComicDetailService;
 import org.comixedproject.service.user.ComiXedUserException;
 import org.comixedproject.service.user.UserService;
 import org.comixedproject.state.lists.ReadingListEvent;
@@ -48,6 +52,7 @@ import org.comixedproject.state.lists.ReadingListStateChangeListener;
 import org.comixedproject.state.lists.ReadingListStateHandler;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.Message;
 import org.springframework.statemachine.state.State;
 import org.springframework.stereotype.Service;
@@ -71,10 +76,11 @@ public class ReadingListService implements ReadingListStateChangeListener, Initi
   @Autowired private ReadingListStateHandler readingListStateHandler;
   @Autowired private ReadingListRepository readingListRepository;
   @Autowired private UserService userService;
-  @Autowired private ComicBookService comicBookService;
+  @Autowired private ComicDetailService comicDetailService;
   @Autowired private CsvAdaptor csvAdaptor;
   @Autowired private PublishReadingListUpdateAction publishReadingListUpdateAction;
   @Autowired private PublishReadingListDeletedAction publishReadingListDeletedAction;
+  @Autowired private ApplicationEventPublisher applicationEventPublisher;
 
   /**
    * Returns all reading lists for the user with the given email.
@@ -190,7 +196,8 @@ public class ReadingListService implements ReadingListStateChangeListener, Initi
   }
 
   /**
-   * Adds comics to the specified reading list.
+   * Adds comics to the specified reading list. The comics are loaded in batches and added with a
+   * single state event, so the list is saved and published once per request.
    *
    * @param email the owner's email address
    * @param id the reading list id
@@ -203,32 +210,16 @@ public class ReadingListService implements ReadingListStateChangeListener, Initi
   public ReadingList addComicsToList(String email, long id, List<Long> comicIds)
       throws ReadingListException {
     log.trace("Loading reading list: id={}", id);
-    final ReadingList readingList = this.doLoadReadingList(id);
-    log.trace("Verifying owner: {}", email);
-    if (!readingList.getOwner().getEmail().equals(email)) {
-      throw new ReadingListException(
-          "User is not owner: " + email + " != " + readingList.getOwner().getEmail());
-    }
-    comicIds.forEach(
-        comicId -> {
-          try {
-            log.trace("Loading comicBook: id={}", comicId);
-            final ComicBook comicBook = this.comicBookService.getComic(comicId);
-            log.trace("Adding comicBook to reading list");
-            Map<String, Object> headers = new HashMap<>();
-            headers.put(HEADER_COMIC, comicBook);
-            this.readingListStateHandler.fireEvent(
-                readingList, ReadingListEvent.comicAdded, headers);
-          } catch (ComicBookException error) {
-            log.error("Failed to add comic to reading list", error);
-          }
-        });
+    final ReadingList readingList = this.doLoadReadingListForOwner(id, email);
+    log.trace("Loading comic details: count={}", comicIds.size());
+    final List<ComicDetail> comicDetails = this.comicDetailService.getForComicBookIds(comicIds);
+    this.doFireComicsEvent(readingList, ReadingListEvent.comicsAdded, comicDetails);
     log.trace("Returning reading list");
     return this.doLoadReadingList(id);
   }
 
   /**
-   * Removes comics from the specified reading list.
+   * Removes comics from the specified reading list with a single state event.
    *
    * @param email the owner's email
    * @param id the reading list record id
@@ -241,25 +232,31 @@ public class ReadingListService implements ReadingListStateChangeListener, Initi
   public ReadingList removeComicsFromList(String email, long id, List<Long> comicBookIds)
       throws ReadingListException {
     log.trace("Loading reading list: id={}", id);
-    final ReadingList readingList = this.doLoadReadingList(id);
-    log.trace("Verifying owner: {}", email);
-    if (!readingList.getOwner().getEmail().equals(email)) {
-      throw new ReadingListException(
-          "User is not owner: " + email + " != " + readingList.getOwner().getEmail());
-    }
-
+    final ReadingList readingList = this.doLoadReadingListForOwner(id, email);
+    final Set<Long> removedIds = new HashSet<>(comicBookIds);
     final List<ComicDetail> removedEntries =
         readingList.getEntries().stream()
-            .filter(comicDetail -> comicBookIds.contains(comicDetail.getComicId()))
+            .filter(comicDetail -> removedIds.contains(comicDetail.getComicId()))
             .toList();
-    readingList.getEntries().removeAll(removedEntries);
-    this.readingListRepository.save(readingList);
-    this.readingListRepository.flush();
-
+    this.doFireComicsEvent(readingList, ReadingListEvent.comicsRemoved, removedEntries);
     log.trace("Returning reading list");
     return this.doLoadReadingList(id);
   }
 
+  private void doFireComicsEvent(
+      final ReadingList readingList,
+      final ReadingListEvent event,
+      final List<ComicDetail> comicDetails) {
+    if (comicDetails.isEmpty()) {
+      log.debug("No comics to update in reading list");
+      return;
+    }
+    log.trace("Firing reading list event: {} comic(s)", comicDetails.size());
+    final Map<String, Object> headers = new HashMap<>();
+    headers.put(HEADER_COMIC_DETAILS, comicDetails);
+    this.readingListStateHandler.fireEvent(readingList, event, headers);
+  }
+
   private ReadingList doLoadReadingList(final long id) throws ReadingListException {
     final ReadingList result = this.readingListRepository.getById(id);
     if (result == null) throw new ReadingListException("No such reading list: id=" + id);
@@ -282,6 +279,8 @@ public class ReadingListService implements ReadingListStateChangeListener, Initi
     readingList.setLastModifiedOn(new Date());
     log.trace("Saving updated reading list");
     final ReadingList savedReadingList = this.readingListRepository.save(readingList);
+    this.applicationEventPublisher.publishEvent(
+        new ReadingListStateChangedEvent(savedReadingList.getId(), state.getId()));
     try {
       log.trace("Publishing changes");
       this.publishReadingListUpdateAction.publish(savedReadingList);
@@ -354,7 +353,7 @@ public class ReadingListService implements ReadingListStateChangeListener, Initi
       final String email, final String name, final InputStream input)
       throws ReadingListException, IOException {
     final ReadingList readingList = this.createReadingList(email, name, "");
-    final Long readingListId = readingList.getId();
+    final List<List<String>> issues = new ArrayList<>();
     this.csvAdaptor.decodeRecords(
         input,
         new String[] {
@@ -362,18 +361,35 @@ public class ReadingListService implements ReadingListStateChangeListener, Initi
         },
         (index, row) -> {
           if (index > 0) {
-            log.trace("Looking for comicBook");
-            final ComicBook comicBook =
-                this.comicBookService.findComic(row.get(1), row.get(2), row.get(3), row.get(4));
-            if (comicBook != null) {
-              final ReadingList list = this.readingListRepository.getById(readingListId);
-              log.trace("Adding comicBook to reading list");
-              Map<String, Object> headers = new HashMap<>();
-              headers.put(HEADER_COMIC, comicBook);
-              this.readingListStateHandler.fireEvent(list, ReadingListEvent.comicAdded, headers);
-            }
+            issues.add(Arrays.asList(row.get(1), row.get(2), row.get(3), row.get(4)));
           }
         });
+
+    log.trace("Grouping {} issue(s) by publisher, series and volume", issues.size());
+    final Map<List<String>, Set<String>> issueNumbersByVolume = new LinkedHashMap<>();
+    issues.forEach(
+        issue ->
+            issueNumbersByVolume
+                .computeIfAbsent(issue.subList(0, 3), key -> new HashSet<>())
+                .add(issue.get(3)));
+    final Map<List<String>, ComicDetail> comicDetailsByIssue = new HashMap<>();
+    issueNumbersByVolume.forEach(
+        (volume, issueNumbers) ->
+            this.comicDetailService
+                .getForIssueNumbers(volume.get(0), volume.get(1), volume.get(2), issueNumbers)
+                .forEach(
+                    comicDetail ->
+                        comicDetailsByIssue.putIfAbsent(
+                            Arrays.asList(
+                                comicDetail.getPublisher(),
+                                comicDetail.getSeries(),
+                                comicDetail.getVolume(),
+                                comicDetail.getIssueNumber()),
+                            comicDetail)));
+    final List<ComicDetail> comicDetails =
+        issues.stream().map(comicDetailsByIssue::get).filter(Objects::nonNull).toList();
+    log.debug("Found {} of {} issue(s) for reading list", comicDetails.size(), issues.size());
+    this.doFireComicsEvent(readingList, ReadingListEvent.comicsAdded, comicDetails);
   }
 
   private void ensureReadingListIsUnique(final String name, final ComiXedUser owner)
@@ -0,0 +1,34 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.service.lists;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.comixedproject.model.lists.ReadingListState;
+
+/**
+ * <code>ReadingListStateChangedEvent</code> is published when a reading list changes state.
+ *
+ * @author Darryl L. Pierce
+ */
+@AllArgsConstructor
+public class ReadingListStateChangedEvent {
+  @Getter private final Long readingListId;
+  @Getter private final ReadingListState readingListState;
+}
@@ -20,19 +20,26 @@ package org.comixedproject.service.metadata;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.adaptors.comicbooks.FilenameScraperAdaptor;
+import org.comixedproject.adaptors.comicbooks.model.FilenameScrapingRuleSet;
 import org.comixedproject.model.metadata.FilenameMetadata;
 import org.comixedproject.model.metadata.FilenameScrapingRule;
 import org.comixedproject.repositories.metadata.FilenameScrapingRuleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * <code>FilenameScrapingRuleService</code> provides business rules for working with instances of
  * {@link FilenameScrapingRule}.
  *
+ * <p>The rules are compiled once into a {@link FilenameScrapingRuleSet} which is cached until the
+ * rules are replaced.
+ *
  * @author Darryl L. Pierce
  */
 @Service
@@ -41,6 +48,8 @@ public class FilenameScrapingRuleService {
   @Autowired private FilenameScrapingRuleRepository filenameScrapingRuleRepository;
   @Autowired private FilenameScraperAdaptor filenameScraperAdaptor;
 
+  private volatile FilenameScrapingRuleSet ruleSet;
+
   /**
    * Returns all rules, sorted by priority.
    *
@@ -79,7 +88,11 @@ public class FilenameScrapingRuleService {
           rules.add(rule);
         });
     log.trace("Saving new filename scrapign rules");
-    return this.filenameScrapingRuleRepository.saveAll(rules);
+    final List<FilenameScrapingRule> result = this.filenameScrapingRuleRepository.saveAll(rules);
+    log.trace("Recompiling filename scraping rules");
+    final FilenameScrapingRuleSet updated = this.filenameScraperAdaptor.compileRules(rules);
+    this.doAfterCommit(() -> this.ruleSet = updated);
+    return result;
   }
 
   /**
@@ -89,17 +102,53 @@ public class FilenameScrapingRuleService {
    * @return the metadata
    */
   public FilenameMetadata loadFilenameMetadata(final String filename) {
-    log.trace("Loading filename scraping rules");
-    final List<FilenameScrapingRule> rules = this.loadRules();
-    for (FilenameScrapingRule rule : rules) {
-      log.trace("Testing filename scraping rule: priority={}", rule.getPriority());
-      final FilenameMetadata result = this.filenameScraperAdaptor.execute(filename, rule);
-      if (result.isFound()) {
-        log.trace("Rule applied!");
-        return result;
+    log.trace("Applying filename scraping rules: {}", filename);
+    return this.getRuleSet().apply(filename);
+  }
+
+  /**
+   * Attempts to load metadata from a list of filenames.
+   *
+   * @param filenames the filenames
+   * @return the metadata, in the same order as the filenames
+   */
+  public List<FilenameMetadata> loadFilenameMetadata(final List<String> filenames) {
+    log.trace("Applying filename scraping rules: count={}", filenames.size());
+    return this.getRuleSet().applyAll(filenames);
+  }
+
+  /**
+   * Returns the compiled rule set, compiling it from the stored rules if needed.
+   *
+   * @return the rule set
+   */
+  public FilenameScrapingRuleSet getRuleSet() {
+    FilenameScrapingRuleSet result = this.ruleSet;
+    if (Objects.isNull(result)) {
+      synchronized (this) {
+        result = this.ruleSet;
+        if (Objects.isNull(result)) {
+          log.debug("Compiling filename scraping rules");
+          result = this.filenameScraperAdaptor.compileRules(this.loadRules());
+          this.ruleSet = result;
+        }
       }
     }
-    log.trace("No applicable rule found");
-    return new FilenameMetadata();
+    return result;
+  }
+
+  private void doAfterCommit(final Runnable update) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      update.run();
+      return;
+    }
+    log.trace("Deferring filename scraping rule replacement until commit");
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            update.run();
+          }
+        });
   }
 }
@@ -20,6 +20,10 @@ package org.comixedproject.service.metadata;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -60,6 +64,12 @@ import org.springframework.util.StringUtils;
 @Service
 @Log4j2
 public class MetadataService {
+  static final String LOOKUPS_METRIC = "comixed.metadata.lookups";
+  static final String REMOTE_LOOKUP_METRIC = "comixed.metadata.remote";
+  static final String VOLUMES_LOOKUP = "volumes";
+  static final String ISSUE_LOOKUP = "issue";
+  static final String ISSUE_DETAILS_LOOKUP = "issue-details";
+
   @Autowired private MetadataAdaptorRegistry metadataAdaptorRegistry;
   @Autowired private MetadataSourceService metadataSourceService;
   @Autowired private ObjectMapper objectMapper;
@@ -70,6 +80,9 @@ public class MetadataService {
   @Autowired private IssueService issueService;
   @Autowired private ConfigurationService configurationService;
 
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
   /**
    * Retrieves a list of volumes for the given series, up to the max records specified.
    *
@@ -98,8 +111,10 @@ public class MetadataService {
 
     if (result.isEmpty()) {
       log.debug("Fetching from scraping source");
+      final Timer.Sample sample = Timer.start(this.meterRegistry);
       final List<VolumeMetadata> fetched =
           metadataAdaptor.getVolumes(series, maxRecords, metadataSource);
+      this.doRecordRemoteLookup(sample, VOLUMES_LOOKUP, source);
 
       log.debug("Fetched {} volume{}", fetched.size(), fetched.size() == 1 ? "" : "s");
       if (fetched.isEmpty()) {
@@ -118,6 +133,8 @@ public class MetadataService {
         log.debug("Caching fetched entries: source={} key={}", source, key);
         this.metadataCacheService.saveToCache(source, key, cacheEntries);
       }
+    } else {
+      this.doRecordCachedLookup(VOLUMES_LOOKUP, source);
     }
 
     return result;
@@ -190,7 +207,9 @@ public class MetadataService {
 
     if (result == null) {
       log.debug("Fetching from scraping source");
+      final Timer.Sample sample = Timer.start(this.meterRegistry);
       result = metadataAdaptor.getIssue(volumeId, issueNumber, metadataSource);
+      this.doRecordRemoteLookup(sample, ISSUE_LOOKUP, source);
       if (result != null) {
         log.debug("Encoding fetched issue");
         final List<String> encodedValues = new ArrayList<>();
@@ -202,6 +221,8 @@ public class MetadataService {
         log.debug("Caching fetched issue: source={} key={}", source, key);
         this.metadataCacheService.saveToCache(source, key, encodedValues);
       }
+    } else {
+      this.doRecordCachedLookup(ISSUE_LOOKUP, source);
     }
 
     return result;
@@ -247,7 +268,9 @@ public class MetadataService {
 
     if (issueDetails == null) {
       log.debug("Fetching issue details");
+      final Timer.Sample sample = Timer.start(this.meterRegistry);
       issueDetails = metadataAdaptor.getIssueDetails(issueId, metadataSource);
+      this.doRecordRemoteLookup(sample, ISSUE_DETAILS_LOOKUP, source);
 
       if (issueDetails != null) {
         log.debug("Encoding fetched issue details");
@@ -260,6 +283,8 @@ public class MetadataService {
           log.error("Failed to cache issue details", error);
         }
       }
+    } else {
+      this.doRecordCachedLookup(ISSUE_DETAILS_LOOKUP, source);
     }
 
     if (issueDetails != null) {
@@ -413,6 +438,31 @@ public class MetadataService {
     return new Date(localDateTime.atOffset(ZoneOffset.UTC).toInstant().toEpochMilli());
   }
 
+  private void doRecordCachedLookup(final String lookup, final String source) {
+    this.doCountLookup(lookup, source, "cache");
+  }
+
+  private void doRecordRemoteLookup(
+      final Timer.Sample sample, final String lookup, final String source) {
+    this.doCountLookup(lookup, source, "remote");
+    sample.stop(
+        Timer.builder(REMOTE_LOOKUP_METRIC)
+            .description("Time spent fetching metadata from remote sources")
+            .tag("lookup", lookup)
+            .tag("source", source)
+            .register(this.meterRegistry));
+  }
+
+  private void doCountLookup(final String lookup, final String source, final String origin) {
+    Counter.builder(LOOKUPS_METRIC)
+        .description("Metadata lookups answered from the cache or a remote source")
+        .tag("lookup", lookup)
+        .tag("source", source)
+        .tag("origin", origin)
+        .register(this.meterRegistry)
+        .increment();
+  }
+
   private IssueDetailsMetadata doLoadIssueDetails(final String source, final String key)
       throws MetadataException {
     final List<String> cachedEntries = this.metadataCacheService.getFromCache(source, key);
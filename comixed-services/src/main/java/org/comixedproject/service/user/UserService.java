@@ -28,6 +28,7 @@ import org.comixedproject.model.user.ComiXedUser;
 import org.comixedproject.repositories.users.ComiXedUserRepository;
 import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +38,7 @@ public class UserService {
   @Autowired private ComiXedUserRepository userRepository;
   @Autowired private GenericUtilitiesAdaptor genericUtilitiesAdaptor;
   @Autowired private PublishCurrentUserAction publishCurrentUserAction;
+  @Autowired private ApplicationEventPublisher applicationEventPublisher;
 
   /**
    * Finds a user by email address.
@@ -146,6 +148,7 @@ public class UserService {
     }
 
     log.trace("Updating user details");
+    final String originalEmail = user.getEmail();
     user.setEmail(email);
     if (StringUtils.isNotEmpty(password)) {
       user.setPasswordHash(this.genericUtilitiesAdaptor.createHash(password.getBytes()));
@@ -154,6 +157,8 @@ public class UserService {
     log.trace("Saving updated user");
     try {
       final ComiXedUser result = this.userRepository.save(user);
+      log.trace("Publishing user account change");
+      this.applicationEventPublisher.publishEvent(new UserAccountChangedEvent(originalEmail));
       this.doPublishUserUpdate(result);
       return result;
     } catch (ConstraintViolationException error) {
@@ -22,6 +22,7 @@ import static junit.framework.TestCase.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.comixedproject.model.admin.ConfigurationOption;
 import org.comixedproject.repositories.admin.ConfigurationRepository;
 import org.junit.Before;
@@ -29,6 +30,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.*;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ConfigurationServiceTest {
@@ -41,8 +43,10 @@ public class ConfigurationServiceTest {
   @Mock private ConfigurationOption option;
   @Mock private ConfigurationOption existingOption;
   @Mock private ConfigurationOption savedOption;
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
 
   @Captor private ArgumentCaptor<ConfigurationOption> configurationOptionArgumentCaptor;
+  @Captor private ArgumentCaptor<ConfigurationChangedEvent> configurationChangedEventArgumentCaptor;
 
   private List<ConfigurationOption> optionList = new ArrayList<>();
 
@@ -67,7 +71,7 @@ public class ConfigurationServiceTest {
 
   @Test
   public void testSaveConfigurationOptionsEntryNotFound() throws ConfigurationOptionException {
-    Mockito.when(configurationRepository.findByName(Mockito.anyString())).thenReturn(null);
+    Mockito.when(configurationRepository.getAll()).thenReturn(new ArrayList<>());
     Mockito.when(configurationRepository.save(configurationOptionArgumentCaptor.capture()))
         .thenReturn(existingOption);
 
@@ -102,81 +106,146 @@ public class ConfigurationServiceTest {
         .findByName(TEST_OPTION_NAME);
     Mockito.verify(existingOption, Mockito.times(optionList.size())).setValue(TEST_OPTION_VALUE);
     Mockito.verify(configurationRepository, Mockito.times(optionList.size())).save(existingOption);
+    Mockito.verify(applicationEventPublisher, Mockito.times(1))
+        .publishEvent(configurationChangedEventArgumentCaptor.capture());
+
+    final ConfigurationChangedEvent event = configurationChangedEventArgumentCaptor.getValue();
+    assertTrue(event.isChanged(TEST_OPTION_NAME));
+    assertEquals(TEST_OPTION_VALUE, event.getSnapshot().getValue(TEST_OPTION_NAME));
+    Mockito.verify(configurationRepository, Mockito.times(1)).getAll();
+  }
+
+  @Test
+  public void testSaveConfigurationOptionsDoesNotReplaceSnapshot()
+      throws ConfigurationOptionException {
+    Mockito.when(configurationRepository.getAll())
+        .thenReturn(new ArrayList<>())
+        .thenReturn(optionList);
+    Mockito.when(configurationRepository.findByName(Mockito.anyString()))
+        .thenReturn(existingOption);
+
+    final ConfigurationSnapshot snapshot = service.reloadSnapshot();
+
+    service.saveOptions(optionList);
+
+    assertSame(snapshot, service.getSnapshot());
+    assertNull(service.getOptionValue(TEST_OPTION_NAME));
+  }
+
+  @Test
+  public void testOnConfigurationChanged() {
+    final ConfigurationSnapshot snapshot = new ConfigurationSnapshot(optionList);
+
+    service.onConfigurationChanged(
+        new ConfigurationChangedEvent(Set.of(TEST_OPTION_NAME), snapshot));
+
+    assertSame(snapshot, service.getSnapshot());
+    assertEquals(TEST_OPTION_VALUE, service.getOptionValue(TEST_OPTION_NAME));
   }
 
   @Test
   public void testGetOptionValueNotFound() {
-    Mockito.when(configurationRepository.findByName(Mockito.anyString())).thenReturn(null);
+    Mockito.when(configurationRepository.getAll()).thenReturn(new ArrayList<>());
 
     final String result = service.getOptionValue(TEST_OPTION_NAME);
 
     assertNull(result);
 
-    Mockito.verify(configurationRepository, Mockito.times(1)).findByName(TEST_OPTION_NAME);
+    Mockito.verify(configurationRepository, Mockito.times(1)).getAll();
+    Mockito.verify(configurationRepository, Mockito.never()).findByName(Mockito.anyString());
   }
 
   @Test
   public void testGetOptionValue() {
-    Mockito.when(configurationRepository.findByName(Mockito.anyString())).thenReturn(option);
+    Mockito.when(configurationRepository.getAll()).thenReturn(optionList);
 
     final String result = service.getOptionValue(TEST_OPTION_NAME);
 
     assertNotNull(result);
     assertEquals(TEST_OPTION_VALUE, result);
 
-    Mockito.verify(configurationRepository, Mockito.times(1)).findByName(TEST_OPTION_NAME);
+    Mockito.verify(configurationRepository, Mockito.times(1)).getAll();
+    Mockito.verify(configurationRepository, Mockito.never()).findByName(Mockito.anyString());
   }
 
   @Test
   public void testGetOptionValueWithDefaultNotFound() {
-    Mockito.when(configurationRepository.findByName(Mockito.anyString())).thenReturn(null);
+    Mockito.when(configurationRepository.getAll()).thenReturn(new ArrayList<>());
 
     final String result = service.getOptionValue(TEST_OPTION_NAME, TEST_DEFAULT_OPTION_VALUE);
 
     assertNotNull(result);
     assertEquals(TEST_DEFAULT_OPTION_VALUE, result);
 
-    Mockito.verify(configurationRepository, Mockito.times(1)).findByName(TEST_OPTION_NAME);
+    Mockito.verify(configurationRepository, Mockito.times(1)).getAll();
+    Mockito.verify(configurationRepository, Mockito.never()).findByName(Mockito.anyString());
   }
 
   @Test
   public void testGetOptionValueWithDefault() {
-    Mockito.when(configurationRepository.findByName(Mockito.anyString())).thenReturn(option);
+    Mockito.when(configurationRepository.getAll()).thenReturn(optionList);
 
     final String result = service.getOptionValue(TEST_OPTION_NAME, TEST_DEFAULT_OPTION_VALUE);
 
     assertNotNull(result);
     assertEquals(TEST_OPTION_VALUE, result);
 
-    Mockito.verify(configurationRepository, Mockito.times(1)).findByName(TEST_OPTION_NAME);
+    Mockito.verify(configurationRepository, Mockito.times(1)).getAll();
+    Mockito.verify(configurationRepository, Mockito.never()).findByName(Mockito.anyString());
   }
 
   @Test
   public void testIsFeatureEnabledNotFound() {
-    Mockito.when(configurationRepository.findByName(Mockito.anyString())).thenReturn(null);
+    Mockito.when(configurationRepository.getAll()).thenReturn(new ArrayList<>());
 
     assertFalse(service.isFeatureEnabled(TEST_OPTION_NAME));
 
-    Mockito.verify(configurationRepository, Mockito.times(1)).findByName(TEST_OPTION_NAME);
+    Mockito.verify(configurationRepository, Mockito.times(1)).getAll();
+    Mockito.verify(configurationRepository, Mockito.never()).findByName(Mockito.anyString());
   }
 
   @Test
   public void testIsFeatureEnabledNotEnabled() {
     Mockito.when(option.getValue()).thenReturn(Boolean.FALSE.toString());
-    Mockito.when(configurationRepository.findByName(Mockito.anyString())).thenReturn(option);
+    Mockito.when(configurationRepository.getAll()).thenReturn(optionList);
 
     assertFalse(service.isFeatureEnabled(TEST_OPTION_NAME));
 
-    Mockito.verify(configurationRepository, Mockito.times(1)).findByName(TEST_OPTION_NAME);
+    Mockito.verify(configurationRepository, Mockito.times(1)).getAll();
+    Mockito.verify(configurationRepository, Mockito.never()).findByName(Mockito.anyString());
   }
 
   @Test
   public void testIsFeatureEnabledEnabled() {
     Mockito.when(option.getValue()).thenReturn(Boolean.TRUE.toString());
-    Mockito.when(configurationRepository.findByName(Mockito.anyString())).thenReturn(option);
+    Mockito.when(configurationRepository.getAll()).thenReturn(optionList);
 
     assertTrue(service.isFeatureEnabled(TEST_OPTION_NAME));
 
-    Mockito.verify(configurationRepository, Mockito.times(1)).findByName(TEST_OPTION_NAME);
+    Mockito.verify(configurationRepository, Mockito.times(1)).getAll();
+    Mockito.verify(configurationRepository, Mockito.never()).findByName(Mockito.anyString());
+  }
+
+  @Test
+  public void testAfterPropertiesSetLoadsSnapshot() {
+    Mockito.when(configurationRepository.getAll()).thenReturn(optionList);
+
+    service.afterPropertiesSet();
+
+    assertEquals(1, service.getSnapshot().size());
+
+    Mockito.verify(configurationRepository, Mockito.times(1)).getAll();
+  }
+
+  @Test
+  public void testGetOptionValueUsesSnapshot() {
+    Mockito.when(configurationRepository.getAll()).thenReturn(optionList);
+
+    for (int index = 0; index < 5; index++) {
+      assertEquals(TEST_OPTION_VALUE, service.getOptionValue(TEST_OPTION_NAME));
+    }
+
+    Mockito.verify(configurationRepository, Mockito.times(1)).getAll();
+    Mockito.verify(configurationRepository, Mockito.never()).findByName(Mockito.anyString());
   }
 }
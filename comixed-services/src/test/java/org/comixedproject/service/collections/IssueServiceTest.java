@@ -29,10 +29,13 @@ import org.comixedproject.service.comicbooks.ComicDetailService;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
 
 @RunWith(MockitoJUnitRunner.class)
 public class IssueServiceTest {
@@ -47,6 +50,8 @@ public class IssueServiceTest {
   @Mock private ComicDetailService comicDetailService;
   @Mock private List<Issue> savedIssueList;
   @Mock private ComicDetail comicDetail;
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
+  @Captor private ArgumentCaptor<IssuesChangedEvent> issuesChangedEventArgumentCaptor;
 
   private List<Issue> issueList = new ArrayList<>();
   private List<ComicDetail> comicDetailList = new ArrayList<>();
@@ -139,6 +144,10 @@ public class IssueServiceTest {
     Mockito.verify(issueRepository, Mockito.times(1))
         .deleteSeriesAndVolume(TEST_SERIES, TEST_VOLUME);
     Mockito.verify(issueRepository, Mockito.times(1)).saveAll(issueList);
+    Mockito.verify(applicationEventPublisher, Mockito.times(1))
+        .publishEvent(issuesChangedEventArgumentCaptor.capture());
+    assertEquals(TEST_SERIES, issuesChangedEventArgumentCaptor.getValue().getSeries());
+    assertEquals(TEST_VOLUME, issuesChangedEventArgumentCaptor.getValue().getVolume());
   }
 
   @Test
@@ -152,5 +161,8 @@ public class IssueServiceTest {
 
     Mockito.verify(issueRepository, Mockito.times(1))
         .deleteSeriesAndVolume(TEST_SERIES, TEST_VOLUME);
+    Mockito.verify(applicationEventPublisher, Mockito.times(1))
+        .publishEvent(issuesChangedEventArgumentCaptor.capture());
+    assertEquals(TEST_SERIES, issuesChangedEventArgumentCaptor.getValue().getSeries());
   }
 }
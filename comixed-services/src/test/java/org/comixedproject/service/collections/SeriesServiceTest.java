@@ -21,13 +21,18 @@ package org.comixedproject.service.collections;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertNotNull;
+import static junit.framework.TestCase.assertNull;
 import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
 import org.comixedproject.model.collections.Issue;
 import org.comixedproject.model.collections.Series;
-import org.comixedproject.service.comicbooks.ComicBookService;
+import org.comixedproject.model.comicbooks.ComicState;
+import org.comixedproject.service.comicbooks.ComicBooksPurgedEvent;
+import org.comixedproject.service.comicbooks.ComicDetailService;
+import org.comixedproject.service.comicbooks.ComicStateChangedEvent;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -43,9 +48,12 @@ public class SeriesServiceTest {
   private static final String TEST_VOLUME = "2022";
   private static final Long TEST_ISSUE_COUNT = 29L;
   private static final Long TEST_TOTAL_ISSUES = 79L;
+  private static final String TEST_OTHER_PUBLISHER = "Another publisher";
+  private static final String TEST_OTHER_SERIES = "Another series";
+  private static final long TEST_UPDATED_TOTAL_ISSUES = 91L;
 
   @InjectMocks private SeriesService service;
-  @Mock private ComicBookService comicBookService;
+  @Mock private ComicDetailService comicDetailService;
   @Mock private IssueService issueService;
   @Mock private List<Issue> issueList;
 
@@ -53,14 +61,15 @@ public class SeriesServiceTest {
 
   @Before
   public void setUp() {
-    seriesList.add(new Series(TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_ISSUE_COUNT));
+    seriesList.add(
+        new Series(TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_ISSUE_COUNT, TEST_TOTAL_ISSUES));
+    seriesList.add(new Series(TEST_OTHER_PUBLISHER, TEST_OTHER_SERIES, TEST_VOLUME, 5L, 12L));
+    seriesList.add(new Series(TEST_OTHER_PUBLISHER, TEST_SERIES, "1975", 3L, 40L));
   }
 
   @Test
   public void testLoadSeriesList() {
-    Mockito.when(comicBookService.getAllSeriesAndVolumes()).thenReturn(seriesList);
-    Mockito.when(issueService.getCountForSeriesAndVolume(Mockito.anyString(), Mockito.anyString()))
-        .thenReturn(TEST_TOTAL_ISSUES);
+    Mockito.when(comicDetailService.loadSeriesCatalog()).thenReturn(seriesList);
 
     final List<Series> result = service.getSeriesList();
 
@@ -73,8 +82,132 @@ public class SeriesServiceTest {
     assertEquals(TEST_ISSUE_COUNT, result.get(0).getInLibrary());
     assertEquals(TEST_TOTAL_ISSUES, result.get(0).getTotalIssues());
 
-    Mockito.verify(comicBookService, Mockito.times(1)).getAllSeriesAndVolumes();
-    Mockito.verify(issueService, Mockito.times(seriesList.size()))
+    Mockito.verify(comicDetailService, Mockito.times(1)).loadSeriesCatalog();
+    Mockito.verify(issueService, Mockito.never())
+        .getCountForSeriesAndVolume(Mockito.anyString(), Mockito.anyString());
+  }
+
+  @Test
+  public void testLoadSeriesListIsCached() {
+    Mockito.when(comicDetailService.loadSeriesCatalog()).thenReturn(seriesList);
+
+    service.getSeriesList();
+    final List<Series> result = service.getSeriesList();
+
+    assertEquals(seriesList, result);
+
+    Mockito.verify(comicDetailService, Mockito.times(1)).loadSeriesCatalog();
+  }
+
+  @Test
+  public void testLoadSeriesListPage() {
+    Mockito.when(comicDetailService.loadSeriesCatalog()).thenReturn(seriesList);
+
+    final List<Series> result = service.getSeriesList("", 2, 0, "name", "asc");
+
+    assertNotNull(result);
+    assertEquals(2, result.size());
+    assertEquals(TEST_OTHER_SERIES, result.get(0).getName());
+    assertEquals(TEST_SERIES, result.get(1).getName());
+    assertEquals("1975", result.get(1).getVolume());
+  }
+
+  @Test
+  public void testLoadSeriesListLastPage() {
+    Mockito.when(comicDetailService.loadSeriesCatalog()).thenReturn(seriesList);
+
+    final List<Series> result = service.getSeriesList("", 2, 1, "name", "asc");
+
+    assertEquals(1, result.size());
+    assertEquals(TEST_SERIES, result.get(0).getName());
+    assertEquals(TEST_VOLUME, result.get(0).getVolume());
+  }
+
+  @Test
+  public void testLoadSeriesListPagePastEnd() {
+    Mockito.when(comicDetailService.loadSeriesCatalog()).thenReturn(seriesList);
+
+    final List<Series> result = service.getSeriesList("", 2, 5, "name", "asc");
+
+    assertNotNull(result);
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  public void testLoadSeriesListSortedDescending() {
+    Mockito.when(comicDetailService.loadSeriesCatalog()).thenReturn(seriesList);
+
+    final List<Series> result = service.getSeriesList("", 0, 0, "total-issues", "desc");
+
+    assertEquals(seriesList.size(), result.size());
+    assertEquals(TEST_TOTAL_ISSUES, result.get(0).getTotalIssues());
+    assertEquals(Long.valueOf(12L), result.get(2).getTotalIssues());
+  }
+
+  @Test
+  public void testLoadSeriesListFiltered() {
+    Mockito.when(comicDetailService.loadSeriesCatalog()).thenReturn(seriesList);
+
+    final List<Series> result = service.getSeriesList("ANOTHER", 0, 0, "in-library", "asc");
+
+    assertEquals(2, result.size());
+    assertEquals(TEST_SERIES, result.get(0).getName());
+    assertEquals(TEST_OTHER_SERIES, result.get(1).getName());
+    assertEquals(2L, service.getSeriesCount("another"));
+    assertEquals(seriesList.size(), service.getSeriesCount(""));
+  }
+
+  @Test
+  public void testComicStateChangeDiscardsCatalog() {
+    Mockito.when(comicDetailService.loadSeriesCatalog()).thenReturn(seriesList);
+    service.getSeriesList();
+
+    service.onComicStateChanged(new ComicStateChangedEvent(17L, ComicState.CHANGED));
+
+    assertNull(service.seriesCatalog);
+
+    service.getSeriesList();
+
+    Mockito.verify(comicDetailService, Mockito.times(2)).loadSeriesCatalog();
+  }
+
+  @Test
+  public void testComicBooksPurgedDiscardsCatalog() {
+    Mockito.when(comicDetailService.loadSeriesCatalog()).thenReturn(seriesList);
+    service.getSeriesList();
+
+    service.onComicBooksPurged(new ComicBooksPurgedEvent(List.of(17L), List.of(17L)));
+
+    assertNull(service.seriesCatalog);
+  }
+
+  @Test
+  public void testIssuesChangedWithoutCatalog() {
+    service.onIssuesChanged(new IssuesChangedEvent(TEST_SERIES, TEST_VOLUME));
+
+    assertNull(service.seriesCatalog);
+
+    Mockito.verify(issueService, Mockito.never())
+        .getCountForSeriesAndVolume(Mockito.anyString(), Mockito.anyString());
+  }
+
+  @Test
+  public void testIssuesChangedUpdatesSingleSeries() {
+    Mockito.when(comicDetailService.loadSeriesCatalog()).thenReturn(seriesList);
+    Mockito.when(issueService.getCountForSeriesAndVolume(Mockito.anyString(), Mockito.anyString()))
+        .thenReturn(TEST_UPDATED_TOTAL_ISSUES);
+    service.getSeriesList();
+
+    service.onIssuesChanged(new IssuesChangedEvent(TEST_SERIES, TEST_VOLUME));
+
+    final List<Series> result = service.getSeriesList();
+    assertEquals(Long.valueOf(TEST_UPDATED_TOTAL_ISSUES), result.get(0).getTotalIssues());
+    assertEquals(Long.valueOf(12L), result.get(1).getTotalIssues());
+    assertEquals(Long.valueOf(40L), result.get(2).getTotalIssues());
+    assertEquals(TEST_TOTAL_ISSUES, seriesList.get(0).getTotalIssues());
+
+    Mockito.verify(comicDetailService, Mockito.times(1)).loadSeriesCatalog();
+    Mockito.verify(issueService, Mockito.times(1))
         .getCountForSeriesAndVolume(TEST_SERIES, TEST_VOLUME);
   }
 
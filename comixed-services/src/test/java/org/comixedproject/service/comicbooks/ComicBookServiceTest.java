@@ -19,6 +19,7 @@
 package org.comixedproject.service.comicbooks;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertNotNull;
 import static junit.framework.TestCase.assertNull;
 import static junit.framework.TestCase.assertSame;
@@ -48,6 +49,7 @@ import org.comixedproject.model.net.comicbooks.PageOrderEntry;
 import org.comixedproject.model.net.library.PublisherAndYearSegment;
 import org.comixedproject.model.net.library.RemoteLibrarySegmentState;
 import org.comixedproject.repositories.comicbooks.ComicBookRepository;
+import org.comixedproject.repositories.comicbooks.ComicBookSelection;
 import org.comixedproject.service.user.ComiXedUserException;
 import org.comixedproject.state.comicbooks.ComicEvent;
 import org.comixedproject.state.comicbooks.ComicStateHandler;
@@ -56,21 +58,26 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.statemachine.state.State;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @RunWith(MockitoJUnitRunner.class)
 @SpringBootTest
 public class ComicBookServiceTest {
   private static final long TEST_COMIC_BOOK_ID = 5;
+  private static final long TEST_COMIC_DETAIL_ID = 7L;
   private static final String TEST_COMIC_FILENAME = "src/test/resources/example.cbz";
   private static final ComicType TEST_COMIC_TYPE =
       ComicType.values()[RandomUtils.nextInt(ComicType.values().length)];
@@ -79,6 +86,7 @@ public class ComicBookServiceTest {
   private static final String TEST_VOLUME = "Volume Name";
   private static final String TEST_ISSUE_NUMBER = "237";
   private static final int TEST_MAXIMUM_COMICS = 100;
+  private static final int TEST_PAGE_NUMBER = 7;
   private static final String TEST_BEFORE_PREVIOUS_ISSUE_NUMBER = "5";
   private static final String TEST_PREVIOUS_ISSUE_NUMBER = "5";
   private static final String TEST_CURRENT_ISSUE_NUMBER = "7";
@@ -97,7 +105,6 @@ public class ComicBookServiceTest {
   private static final String TEST_STORY_NAME = "The Story Name";
   private static final long TEST_COMIC_COUNT = 239L;
   private static final String TEST_SEARCH_TERMS = "The search terms";
-  private static final int TEST_BATCH_CHUNK_SIZE = 25;
   private final List<ComicBook> comicBookList = new ArrayList<>();
   private final List<ComicDetail> comicDetailList = new ArrayList<>();
   private final List<ComicBook> comicsBySeries = new ArrayList<>();
@@ -125,6 +132,7 @@ public class ComicBookServiceTest {
   @Mock private Message<ComicEvent> message;
   @Mock private MessageHeaders messageHeaders;
   @Mock private ImprintService imprintService;
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
   @Mock private List<String> collectionList;
   @Mock private List<String> publisherList;
   @Mock private LastRead lastRead;
@@ -134,6 +142,8 @@ public class ComicBookServiceTest {
   @Mock private List<Series> publisherDetail;
   @Captor private ArgumentCaptor<Pageable> pageableCaptor;
   @Captor private ArgumentCaptor<PageRequest> pageRequestCaptor;
+  @Captor private ArgumentCaptor<ComicBooksPurgedEvent> comicBooksPurgedEventCaptor;
+  @Captor private ArgumentCaptor<ComicStateChangedEvent> comicStateChangedEventCaptor;
 
   @Before
   public void setUp() throws ComiXedUserException {
@@ -234,6 +244,9 @@ public class ComicBookServiceTest {
     Mockito.verify(comicBook, Mockito.times(1)).setLastModifiedOn(Mockito.any(Date.class));
     Mockito.verify(comicBookRepository, Mockito.times(1)).save(comicBook);
     Mockito.verify(comicUpdatePublishAction, Mockito.times(1)).publish(comicBookRecord);
+    Mockito.verify(applicationEventPublisher, Mockito.times(1))
+        .publishEvent(comicStateChangedEventCaptor.capture());
+    assertEquals(TEST_STATE, comicStateChangedEventCaptor.getValue().getComicState());
   }
 
   @Test
@@ -511,26 +524,6 @@ public class ComicBookServiceTest {
         .fireEvent(comicBook, ComicEvent.metadataCleared);
   }
 
-  @Test
-  public void testFindInsertedComics() {
-    Mockito.when(
-            comicBookRepository.findForState(
-                Mockito.any(ComicState.class), pageableCaptor.capture()))
-        .thenReturn(comicBookList);
-
-    final List<ComicBook> result = service.findInsertedComics(TEST_MAXIMUM_COMICS);
-
-    assertNotNull(result);
-    assertSame(comicBookList, result);
-
-    final Pageable pageable = pageableCaptor.getValue();
-    assertNotNull(pageable);
-    assertEquals(0, pageable.getPageNumber());
-    assertEquals(TEST_MAXIMUM_COMICS, pageable.getPageSize());
-
-    Mockito.verify(comicBookRepository, Mockito.times(1)).findForState(ComicState.ADDED, pageable);
-  }
-
   @Test
   public void testGetUnprocessedComicsWithoutContentCount() {
     Mockito.when(comicBookRepository.findUnprocessedComicsWithoutContentCount())
@@ -557,107 +550,97 @@ public class ComicBookServiceTest {
   }
 
   @Test
-  public void testFindComicsWithCreateMetadataFlagSet() {
-    Mockito.when(
-            comicBookRepository.findUnprocessedComicsWithCreateMetadataFlagSet(
-                pageableCaptor.capture()))
-        .thenReturn(comicBookList);
-
-    final List<ComicBook> result = service.findComicsWithCreateMetadataFlagSet(TEST_MAXIMUM_COMICS);
+  public void testGetUnprocessedComicsCount() {
+    Mockito.when(comicBookRepository.findUnprocessedComicsCount()).thenReturn(TEST_MAXIMUM_COMICS);
 
-    assertNotNull(result);
-    assertSame(comicBookList, result);
+    final long result = service.getUnprocessedComicsCount();
 
-    final Pageable pageable = pageableCaptor.getValue();
-    assertNotNull(pageable);
-    assertEquals(0, pageable.getPageNumber());
-    assertEquals(TEST_MAXIMUM_COMICS, pageable.getPageSize());
+    assertEquals(TEST_MAXIMUM_COMICS, result);
 
-    Mockito.verify(comicBookRepository, Mockito.times(1))
-        .findUnprocessedComicsWithCreateMetadataFlagSet(pageable);
+    Mockito.verify(comicBookRepository, Mockito.times(1)).findUnprocessedComicsCount();
   }
 
   @Test
-  public void testFindUnprocessedComicsWithoutContent() {
-    Mockito.when(comicBookRepository.findUnprocessedComicsWithoutContent(pageableCaptor.capture()))
-        .thenReturn(comicBookList);
+  public void testGetMaxIdForSelection() {
+    Mockito.when(comicBookRepository.findMaxIdForSelection(Mockito.any(ComicBookSelection.class)))
+        .thenReturn(TEST_COMIC_BOOK_ID);
 
-    final List<ComicBook> result = service.findUnprocessedComicsWithoutContent(TEST_MAXIMUM_COMICS);
+    final Long result = service.getMaxIdForSelection(ComicBookSelection.UNPROCESSED);
 
     assertNotNull(result);
-    assertSame(comicBookList, result);
-
-    final Pageable pageable = pageableCaptor.getValue();
-    assertNotNull(pageable);
-    assertEquals(0, pageable.getPageNumber());
-    assertEquals(TEST_MAXIMUM_COMICS, pageable.getPageSize());
+    assertEquals(TEST_COMIC_BOOK_ID, result.longValue());
 
     Mockito.verify(comicBookRepository, Mockito.times(1))
-        .findUnprocessedComicsWithoutContent(pageable);
+        .findMaxIdForSelection(ComicBookSelection.UNPROCESSED);
   }
 
   @Test
-  public void testGetUnprocessedComicsForMarkedPageBlockingCount() {
-    Mockito.when(comicBookRepository.findUnprocessedComicsForMarkedPageBlockingCount())
-        .thenReturn(TEST_MAXIMUM_COMICS);
-
-    final long result = service.getUnprocessedComicsForMarkedPageBlockingCount();
+  public void testFindIdsForSelection() {
+    Mockito.when(
+            comicBookRepository.findIdsForSelection(
+                Mockito.any(ComicBookSelection.class),
+                Mockito.anyLong(),
+                Mockito.anyLong(),
+                Mockito.anyInt()))
+        .thenReturn(idList);
+
+    final List<Long> result =
+        service.findIdsForSelection(
+            ComicBookSelection.UNPROCESSED,
+            TEST_COMIC_BOOK_ID,
+            TEST_COMIC_BOOK_ID + 100L,
+            TEST_MAXIMUM_COMICS);
 
-    assertEquals(TEST_MAXIMUM_COMICS, result);
+    assertNotNull(result);
+    assertSame(idList, result);
 
     Mockito.verify(comicBookRepository, Mockito.times(1))
-        .findUnprocessedComicsForMarkedPageBlockingCount();
+        .findIdsForSelection(
+            ComicBookSelection.UNPROCESSED,
+            TEST_COMIC_BOOK_ID,
+            TEST_COMIC_BOOK_ID + 100L,
+            TEST_MAXIMUM_COMICS);
   }
 
   @Test
-  public void testFindUnprocessedComicsForMarkedPageBlocking() {
+  public void testFindComicsWithDetailsAndPages() {
     Mockito.when(
-            comicBookRepository.findUnprocessedComicsForMarkedPageBlocking(
-                pageableCaptor.capture()))
+            comicBookRepository.findAllWithDetailsAndPages(
+                Mockito.any(ComicBookSelection.class), Mockito.anyList()))
         .thenReturn(comicBookList);
 
     final List<ComicBook> result =
-        service.findUnprocessedComicsForMarkedPageBlocking(TEST_MAXIMUM_COMICS);
+        service.findComicsWithDetailsAndPages(ComicBookSelection.UNPROCESSED, idList);
 
     assertNotNull(result);
     assertSame(comicBookList, result);
 
-    final Pageable pageable = pageableCaptor.getValue();
-    assertNotNull(pageable);
-    assertEquals(0, pageable.getPageNumber());
-    assertEquals(TEST_MAXIMUM_COMICS, pageable.getPageSize());
-
     Mockito.verify(comicBookRepository, Mockito.times(1))
-        .findUnprocessedComicsForMarkedPageBlocking(pageable);
+        .findAllWithDetailsAndPages(ComicBookSelection.UNPROCESSED, idList);
   }
 
   @Test
-  public void testGetProcessedComicsCount() {
-    Mockito.when(comicBookRepository.findProcessedComicsCount()).thenReturn(TEST_MAXIMUM_COMICS);
+  public void testGetUnprocessedComicsForMarkedPageBlockingCount() {
+    Mockito.when(comicBookRepository.findUnprocessedComicsForMarkedPageBlockingCount())
+        .thenReturn(TEST_MAXIMUM_COMICS);
 
-    final long result = service.getProcessedComicsCount();
+    final long result = service.getUnprocessedComicsForMarkedPageBlockingCount();
 
     assertEquals(TEST_MAXIMUM_COMICS, result);
 
-    Mockito.verify(comicBookRepository, Mockito.times(1)).findProcessedComicsCount();
+    Mockito.verify(comicBookRepository, Mockito.times(1))
+        .findUnprocessedComicsForMarkedPageBlockingCount();
   }
 
   @Test
-  public void testFindProcessedComics() {
-    Mockito.when(comicBookRepository.findProcessedComics(pageableCaptor.capture()))
-        .thenReturn(comicBookList);
-
-    final List<ComicBook> result = service.findProcessedComics(TEST_MAXIMUM_COMICS);
+  public void testGetProcessedComicsCount() {
+    Mockito.when(comicBookRepository.findProcessedComicsCount()).thenReturn(TEST_MAXIMUM_COMICS);
 
-    assertNotNull(result);
-    assertSame(comicBookList, result);
+    final long result = service.getProcessedComicsCount();
 
-    final Pageable pageable = pageableCaptor.getValue();
-    assertNotNull(pageable);
-    assertEquals(0, pageable.getPageNumber());
-    assertEquals(TEST_MAXIMUM_COMICS, pageable.getPageSize());
+    assertEquals(TEST_MAXIMUM_COMICS, result);
 
-    Mockito.verify(comicBookRepository, Mockito.times(1)).findProcessedComics(pageable);
+    Mockito.verify(comicBookRepository, Mockito.times(1)).findProcessedComicsCount();
   }
 
   @Test
@@ -702,29 +685,23 @@ public class ComicBookServiceTest {
   }
 
   @Test
-  public void testFindComicsWithMetadataToUpdate() {
-    Mockito.when(comicBookRepository.findComicsWithMetadataToUpdate(pageableCaptor.capture()))
-        .thenReturn(comicBookList);
-
-    final List<ComicBook> result = service.findComicsWithMetadataToUpdate(TEST_MAXIMUM_COMICS);
+  public void testFindComicsForBatchMetadataUpdateCount() {
+    Mockito.when(comicBookRepository.findComicsForBatchMetadataUpdateCount())
+        .thenReturn(TEST_COMIC_COUNT);
 
-    assertNotNull(result);
-    assertSame(comicBookList, result);
+    final long result = service.findComicsForBatchMetadataUpdateCount();
 
-    final Pageable pageable = pageableCaptor.getValue();
-    assertNotNull(pageable);
-    assertEquals(0, pageable.getPageNumber());
-    assertEquals(TEST_MAXIMUM_COMICS, pageable.getPageSize());
+    assertEquals(TEST_COMIC_COUNT, result);
 
-    Mockito.verify(comicBookRepository, Mockito.times(1)).findComicsWithMetadataToUpdate(pageable);
+    Mockito.verify(comicBookRepository, Mockito.times(1)).findComicsForBatchMetadataUpdateCount();
   }
 
   @Test
-  public void testFindComicsForBatchMetadataUpdate() {
-    Mockito.when(comicBookRepository.findComicsForBatchMetadataUpdate(pageableCaptor.capture()))
+  public void testFindAllComicsMarkedForDeletion() {
+    Mockito.when(comicBookRepository.findComicsMarkedForDeletion(pageableCaptor.capture()))
         .thenReturn(comicBookList);
 
-    final List<ComicBook> result = service.findComicsForBatchMetadataUpdate(TEST_MAXIMUM_COMICS);
+    final List<ComicBook> result = service.findComicsMarkedForDeletion(TEST_MAXIMUM_COMICS);
 
     assertNotNull(result);
     assertSame(comicBookList, result);
@@ -734,28 +711,15 @@ public class ComicBookServiceTest {
     assertEquals(0, pageable.getPageNumber());
     assertEquals(TEST_MAXIMUM_COMICS, pageable.getPageSize());
 
-    Mockito.verify(comicBookRepository, Mockito.times(1))
-        .findComicsForBatchMetadataUpdate(pageable);
-  }
-
-  @Test
-  public void testFindComicsForBatchMetadataUpdateCount() {
-    Mockito.when(comicBookRepository.findComicsForBatchMetadataUpdateCount())
-        .thenReturn(TEST_COMIC_COUNT);
-
-    final long result = service.findComicsForBatchMetadataUpdateCount();
-
-    assertEquals(TEST_COMIC_COUNT, result);
-
-    Mockito.verify(comicBookRepository, Mockito.times(1)).findComicsForBatchMetadataUpdateCount();
+    Mockito.verify(comicBookRepository, Mockito.times(1)).findComicsMarkedForDeletion(pageable);
   }
 
   @Test
-  public void testFindAllComicsMarkedForDeletion() {
-    Mockito.when(comicBookRepository.findComicsMarkedForDeletion(pageableCaptor.capture()))
+  public void testFindComicsToBeMoved() {
+    Mockito.when(comicBookRepository.findComicsToBeMoved(pageableCaptor.capture()))
         .thenReturn(comicBookList);
 
-    final List<ComicBook> result = service.findComicsMarkedForDeletion(TEST_MAXIMUM_COMICS);
+    final List<ComicBook> result = service.findComicsToBeMoved(TEST_MAXIMUM_COMICS);
 
     assertNotNull(result);
     assertSame(comicBookList, result);
@@ -765,23 +729,25 @@ public class ComicBookServiceTest {
     assertEquals(0, pageable.getPageNumber());
     assertEquals(TEST_MAXIMUM_COMICS, pageable.getPageSize());
 
-    Mockito.verify(comicBookRepository, Mockito.times(1)).findComicsMarkedForDeletion(pageable);
+    Mockito.verify(comicBookRepository, Mockito.times(1)).findComicsToBeMoved(pageable);
   }
 
   @Test
-  public void testFindComicsToBeMoved() {
+  public void testFindComicsToBeMovedPage() {
     Mockito.when(comicBookRepository.findComicsToBeMoved(pageableCaptor.capture()))
         .thenReturn(comicBookList);
 
-    final List<ComicBook> result = service.findComicsToBeMoved(TEST_MAXIMUM_COMICS);
+    final List<ComicBook> result =
+        service.findComicsToBeMoved(TEST_PAGE_NUMBER, TEST_MAXIMUM_COMICS);
 
     assertNotNull(result);
     assertSame(comicBookList, result);
 
     final Pageable pageable = pageableCaptor.getValue();
     assertNotNull(pageable);
-    assertEquals(0, pageable.getPageNumber());
+    assertEquals(TEST_PAGE_NUMBER, pageable.getPageNumber());
     assertEquals(TEST_MAXIMUM_COMICS, pageable.getPageSize());
+    assertNotNull(pageable.getSort().getOrderFor("id"));
 
     Mockito.verify(comicBookRepository, Mockito.times(1)).findComicsToBeMoved(pageable);
   }
@@ -803,11 +769,13 @@ public class ComicBookServiceTest {
     idList.clear();
     idList.add(TEST_COMIC_BOOK_ID);
 
-    Mockito.when(comicBookRepository.getById(Mockito.anyLong())).thenReturn(null);
+    Mockito.when(comicBookRepository.loadByIds(Mockito.anyList())).thenReturn(new ArrayList<>());
 
     service.deleteComicBooksById(idList);
 
-    Mockito.verify(comicBookRepository, Mockito.times(idList.size())).getById(TEST_COMIC_BOOK_ID);
+    Mockito.verify(comicBookRepository, Mockito.times(1)).loadByIds(idList);
+    Mockito.verify(comicStateHandler, Mockito.never())
+        .fireEvent(Mockito.any(ComicBook.class), Mockito.any(ComicEvent.class));
   }
 
   @Test
@@ -815,55 +783,85 @@ public class ComicBookServiceTest {
     idList.clear();
     idList.add(TEST_COMIC_BOOK_ID);
 
-    Mockito.when(comicBookRepository.getById(Mockito.anyLong())).thenReturn(comicBook);
+    Mockito.when(comicBookRepository.loadByIds(Mockito.anyList())).thenReturn(List.of(comicBook));
 
     service.deleteComicBooksById(idList);
 
-    Mockito.verify(comicBookRepository, Mockito.times(idList.size())).getById(TEST_COMIC_BOOK_ID);
+    Mockito.verify(comicBookRepository, Mockito.times(1)).loadByIds(idList);
     Mockito.verify(comicStateHandler, Mockito.times(idList.size()))
         .fireEvent(comicBook, ComicEvent.deleteComic);
   }
 
   @Test
-  public void testUndeleteComicBookByIdInvalidId() {
+  public void testDeleteComicBooksByIdPublishesBatchAfterCommit() throws PublishingException {
+    idList.clear();
     idList.add(TEST_COMIC_BOOK_ID);
 
-    Mockito.when(comicBookRepository.getById(Mockito.anyLong())).thenReturn(null);
+    Mockito.when(comicBookRepository.loadByIds(Mockito.anyList())).thenReturn(List.of(comicBook));
+    Mockito.when(message.getHeaders()).thenReturn(messageHeaders);
+    Mockito.when(messageHeaders.get(Mockito.anyString(), Mockito.any(Class.class)))
+        .thenReturn(comicBook);
+    Mockito.when(state.getId()).thenReturn(ComicState.DELETED);
+    Mockito.when(comicBookRepository.save(Mockito.any(ComicBook.class)))
+        .thenReturn(comicBookRecord);
+    Mockito.doAnswer(
+            invocation -> {
+              service.onComicStateChange(state, message);
+              return null;
+            })
+        .when(comicStateHandler)
+        .fireEvent(comicBook, ComicEvent.deleteComic);
 
-    service.undeleteComicBooksById(idList);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      service.deleteComicBooksById(idList);
+
+      Mockito.verify(comicUpdatePublishAction, Mockito.never())
+          .publish(Mockito.any(ComicBook.class));
+      Mockito.verify(comicUpdatePublishAction, Mockito.never()).publishBatch(Mockito.anyList());
+
+      final List<TransactionSynchronization> synchronizations =
+          TransactionSynchronizationManager.getSynchronizations();
+      synchronizations.forEach(TransactionSynchronization::afterCommit);
+      synchronizations.forEach(
+          synchronization ->
+              synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertFalse(TransactionSynchronizationManager.hasResource(service));
 
-    Mockito.verify(comicBookRepository, Mockito.times(idList.size())).getById(TEST_COMIC_BOOK_ID);
+    Mockito.verify(comicUpdatePublishAction, Mockito.times(1))
+        .publishBatch(List.of(comicBookRecord));
   }
 
   @Test
-  public void testUndeleteComicBooksById() {
+  public void testUndeleteComicBookByIdInvalidId() {
+    idList.clear();
     idList.add(TEST_COMIC_BOOK_ID);
 
-    Mockito.when(comicBookRepository.getById(Mockito.anyLong())).thenReturn(comicBook);
+    Mockito.when(comicBookRepository.loadByIds(Mockito.anyList())).thenReturn(new ArrayList<>());
 
     service.undeleteComicBooksById(idList);
 
-    Mockito.verify(comicBookRepository, Mockito.times(idList.size())).getById(TEST_COMIC_BOOK_ID);
-    Mockito.verify(comicStateHandler, Mockito.times(idList.size()))
-        .fireEvent(comicBook, ComicEvent.undeleteComic);
+    Mockito.verify(comicBookRepository, Mockito.times(1)).loadByIds(idList);
+    Mockito.verify(comicStateHandler, Mockito.never())
+        .fireEvent(Mockito.any(ComicBook.class), Mockito.any(ComicEvent.class));
   }
 
   @Test
-  public void testFindAllComicsToRecreate() {
-    Mockito.when(comicBookRepository.findComicsToRecreate(pageableCaptor.capture()))
-        .thenReturn(comicBookList);
-
-    final List<ComicBook> result = service.findComicsToRecreate(TEST_MAXIMUM_COMICS);
+  public void testUndeleteComicBooksById() {
+    idList.clear();
+    idList.add(TEST_COMIC_BOOK_ID);
 
-    assertNotNull(result);
-    assertSame(comicBookList, result);
+    Mockito.when(comicBookRepository.loadByIds(Mockito.anyList())).thenReturn(List.of(comicBook));
 
-    final Pageable pageable = pageableCaptor.getValue();
-    assertNotNull(pageable);
-    assertEquals(0, pageable.getPageNumber());
-    assertEquals(TEST_MAXIMUM_COMICS, pageable.getPageSize());
+    service.undeleteComicBooksById(idList);
 
-    Mockito.verify(comicBookRepository, Mockito.times(1)).findComicsToRecreate(pageable);
+    Mockito.verify(comicBookRepository, Mockito.times(1)).loadByIds(idList);
+    Mockito.verify(comicStateHandler, Mockito.times(idList.size()))
+        .fireEvent(comicBook, ComicEvent.undeleteComic);
   }
 
   @Test
@@ -926,21 +924,72 @@ public class ComicBookServiceTest {
   }
 
   @Test
-  public void testFindComicsMarkedForPurging() {
-    Mockito.when(comicBookRepository.findComicsMarkedForPurging(pageableCaptor.capture()))
-        .thenReturn(comicBookList);
+  public void testFindIdsMarkedForPurging() {
+    Mockito.when(comicBookRepository.findIdsMarkedForPurging(pageableCaptor.capture()))
+        .thenReturn(idList);
 
-    final List<ComicBook> result = service.findComicsMarkedForPurging(TEST_MAXIMUM_COMICS);
+    final List<Long> result = service.findIdsMarkedForPurging(TEST_MAXIMUM_COMICS);
 
     assertNotNull(result);
-    assertSame(comicBookList, result);
+    assertSame(idList, result);
 
     final Pageable pageable = pageableCaptor.getValue();
     assertNotNull(pageable);
     assertEquals(0, pageable.getPageNumber());
     assertEquals(TEST_MAXIMUM_COMICS, pageable.getPageSize());
+  }
+
+  @Test
+  public void testPurgeComicBooks() throws PublishingException {
+    idList.clear();
+    idList.add(TEST_COMIC_BOOK_ID);
+    final List<Long> comicDetailIds = List.of(TEST_COMIC_DETAIL_ID);
+
+    Mockito.when(comicBookRepository.getComicDetailIdsForComicBooks(Mockito.anyList()))
+        .thenReturn(comicDetailIds);
+
+    service.purgeComicBooks(idList);
+
+    final InOrder inOrder = Mockito.inOrder(comicBookRepository, comicRemovalPublishAction);
+    inOrder.verify(comicBookRepository, Mockito.times(1)).getComicDetailIdsForComicBooks(idList);
+    inOrder.verify(comicBookRepository, Mockito.times(1)).purgeReadingListEntries(idList);
+    inOrder.verify(comicBookRepository, Mockito.times(1)).purgeLastReadEntries(idList);
+    inOrder.verify(comicBookRepository, Mockito.times(1)).purgeComicTags(idList);
+    inOrder.verify(comicBookRepository, Mockito.times(1)).purgeStoryEntryReferences(idList);
+    inOrder.verify(comicBookRepository, Mockito.times(1)).purgePages(idList);
+    inOrder.verify(comicBookRepository, Mockito.times(1)).purgeMetadataSources(idList);
+    inOrder.verify(comicBookRepository, Mockito.times(1)).purgeComicDetails(idList);
+    inOrder.verify(comicBookRepository, Mockito.times(1)).purgeComicBooks(idList);
+
+    Mockito.verify(applicationEventPublisher, Mockito.times(1))
+        .publishEvent(comicBooksPurgedEventCaptor.capture());
+    assertEquals(idList, comicBooksPurgedEventCaptor.getValue().getComicBookIds());
+    assertSame(comicDetailIds, comicBooksPurgedEventCaptor.getValue().getComicDetailIds());
+    Mockito.verify(comicRemovalPublishAction, Mockito.never()).publishBatch(Mockito.anyList());
+  }
+
+  @Test
+  public void testOnComicBooksPurged() throws PublishingException {
+    final List<Long> comicDetailIds = List.of(TEST_COMIC_DETAIL_ID);
+
+    service.onComicBooksPurged(
+        new ComicBooksPurgedEvent(List.of(TEST_COMIC_BOOK_ID), comicDetailIds));
+
+    Mockito.verify(comicRemovalPublishAction, Mockito.times(1)).publishBatch(comicDetailIds);
+  }
+
+  @Test
+  public void testOnComicBooksPurgedPublishingException() throws PublishingException {
+    final List<Long> comicDetailIds = List.of(TEST_COMIC_DETAIL_ID);
+
+    Mockito.doThrow(PublishingException.class)
+        .when(comicRemovalPublishAction)
+        .publishBatch(Mockito.anyList());
 
-    Mockito.verify(comicBookRepository, Mockito.times(1)).findComicsMarkedForPurging(pageable);
+    service.onComicBooksPurged(
+        new ComicBooksPurgedEvent(List.of(TEST_COMIC_BOOK_ID), comicDetailIds));
+
+    Mockito.verify(comicRemovalPublishAction, Mockito.times(1)).publishBatch(comicDetailIds);
   }
 
   @Test(expected = ComicBookException.class)
@@ -1205,23 +1254,6 @@ public class ComicBookServiceTest {
     Mockito.verify(comicBookRepository, Mockito.times(1)).findForSearchTerms(TEST_SEARCH_TERMS);
   }
 
-  @Test
-  public void testFindComicsWithEditDetails() {
-    Mockito.when(comicBookRepository.findComicsWithEditDetails(pageableCaptor.capture()))
-        .thenReturn(comicBookList);
-
-    final List<ComicBook> result = service.findComicsWithEditDetails(TEST_MAXIMUM_COMICS);
-
-    assertNotNull(result);
-    assertSame(comicBookList, result);
-
-    final Pageable pageable = pageableCaptor.getValue();
-    assertEquals(0, pageable.getPageNumber());
-    assertEquals(TEST_MAXIMUM_COMICS, pageable.getPageSize());
-
-    Mockito.verify(comicBookRepository, Mockito.times(1)).findComicsWithEditDetails(pageable);
-  }
-
   @Test
   public void testGetAllPublishers() {
     Mockito.when(comicBookRepository.getAllPublishersWithSeriesCount())
@@ -1272,20 +1304,6 @@ public class ComicBookServiceTest {
     Mockito.verify(comicBookRepository, Mockito.times(1)).getUnscrapedComicCount();
   }
 
-  @Test
-  public void testGetComicBooksWithoutDetails() {
-    Mockito.when(comicBookRepository.getComicBooksWithoutDetails(Mockito.anyInt()))
-        .thenReturn(comicBookList);
-
-    final List<ComicBook> result = service.getComicBooksWithoutDetails(TEST_BATCH_CHUNK_SIZE);
-
-    assertNotNull(result);
-    assertSame(comicBookList, result);
-
-    Mockito.verify(comicBookRepository, Mockito.times(1))
-        .getComicBooksWithoutDetails(TEST_BATCH_CHUNK_SIZE);
-  }
-
   @Test(expected = ComicBookException.class)
   public void testPrepareForMetadataUpdateInvalidComicBookId() throws ComicBookException {
     Mockito.when(comicBookRepository.getById(Mockito.anyLong())).thenReturn(null);
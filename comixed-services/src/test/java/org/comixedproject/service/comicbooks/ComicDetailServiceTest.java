@@ -21,6 +21,7 @@ package org.comixedproject.service.comicbooks;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertNotNull;
+import static junit.framework.TestCase.assertNull;
 import static junit.framework.TestCase.assertSame;
 import static junit.framework.TestCase.assertTrue;
 
@@ -29,11 +30,15 @@ import java.util.stream.Stream;
 import org.apache.commons.lang.math.RandomUtils;
 import org.comixedproject.model.archives.ArchiveType;
 import org.comixedproject.model.collections.CollectionEntry;
+import org.comixedproject.model.collections.Series;
 import org.comixedproject.model.comicbooks.ComicDetail;
 import org.comixedproject.model.comicbooks.ComicState;
 import org.comixedproject.model.comicbooks.ComicTagType;
 import org.comixedproject.model.comicbooks.ComicType;
+import org.comixedproject.model.net.collections.CollectionEntryCursor;
+import org.comixedproject.model.net.comicbooks.ComicDetailCursor;
 import org.comixedproject.repositories.comicbooks.ComicDetailRepository;
+import org.comixedproject.service.library.ReadStateIndex;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -46,6 +51,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -77,6 +83,8 @@ public class ComicDetailServiceTest {
 
   @InjectMocks private ComicDetailService service;
   @Mock private ComicDetailRepository comicDetailRepository;
+  @Mock private ReadStateIndex readStateIndex;
+  @Mock private List<ComicDetail> unreadComicDetailList;
   @Mock private Set<String> publisherList;
   @Mock private Set<String> seriesList;
   @Mock private Set<String> volumeList;
@@ -93,6 +101,7 @@ public class ComicDetailServiceTest {
   @Mock private List<Integer> coverYearList;
   @Mock private List<Integer> coverMonthList;
   @Mock private List<CollectionEntry> collectionEntryList;
+  @Mock private List<Series> seriesCatalog;
 
   @Captor private ArgumentCaptor<Pageable> pageableArgumentCaptor;
   @Captor private ArgumentCaptor<Date> startDateArgumentCaptor;
@@ -148,6 +157,18 @@ public class ComicDetailServiceTest {
         .getWithIdGreaterThan(TEST_LAST_ID, pageable);
   }
 
+  @Test
+  public void testLoadSeriesCatalog() {
+    Mockito.when(comicDetailRepository.loadSeriesCatalog()).thenReturn(seriesCatalog);
+
+    final List<Series> result = service.loadSeriesCatalog();
+
+    assertNotNull(result);
+    assertSame(seriesCatalog, result);
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1)).loadSeriesCatalog();
+  }
+
   @Test
   public void testGetAllPublishersWithUnread() {
     Mockito.when(comicDetailRepository.getAllUnreadPublishers(Mockito.anyString()))
@@ -306,20 +327,22 @@ public class ComicDetailServiceTest {
   @Test
   public void testGetAllComicBooksForPublisherAndSeriesAndVolumeWithUnread() {
     Mockito.when(
-            comicDetailRepository.getAllUnreadForPublisherAndSeriesAndVolume(
-                Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.anyString()))
+            comicDetailRepository.getAllForPublisherAndSeriesAndVolume(
+                Mockito.anyString(), Mockito.anyString(), Mockito.anyString()))
         .thenReturn(comicDetailList);
+    Mockito.when(readStateIndex.filterUnread(Mockito.anyString(), Mockito.anyList()))
+        .thenReturn(unreadComicDetailList);
 
     final List<ComicDetail> result =
         service.getAllComicBooksForPublisherAndSeriesAndVolume(
             TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_EMAIL, true);
 
     assertNotNull(result);
-    assertSame(comicDetailList, result);
+    assertSame(unreadComicDetailList, result);
 
     Mockito.verify(comicDetailRepository, Mockito.times(1))
-        .getAllUnreadForPublisherAndSeriesAndVolume(
-            TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_EMAIL);
+        .getAllForPublisherAndSeriesAndVolume(TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME);
+    Mockito.verify(readStateIndex, Mockito.times(1)).filterUnread(TEST_EMAIL, comicDetailList);
   }
 
   @Test
@@ -424,24 +447,25 @@ public class ComicDetailServiceTest {
   @Test
   public void testGetComicsForYearAndWeekWithUnread() {
     Mockito.when(
-            comicDetailRepository.getAllUnreadForYearAndWeek(
-                startDateArgumentCaptor.capture(),
-                endDateArgumentCaptor.capture(),
-                Mockito.anyString()))
+            comicDetailRepository.getAllForYearAndWeek(
+                startDateArgumentCaptor.capture(), endDateArgumentCaptor.capture()))
         .thenReturn(comicDetailList);
+    Mockito.when(readStateIndex.filterUnread(Mockito.anyString(), Mockito.anyList()))
+        .thenReturn(unreadComicDetailList);
 
     final List<ComicDetail> result =
         service.getComicsForYearAndWeek(TEST_YEAR, TEST_WEEK, TEST_EMAIL, true);
 
     assertNotNull(result);
-    assertSame(comicDetailList, result);
+    assertSame(unreadComicDetailList, result);
 
     final Date startDate = startDateArgumentCaptor.getValue();
     final Date endDate = endDateArgumentCaptor.getValue();
     assertTrue(endDate.after(startDate));
 
     Mockito.verify(comicDetailRepository, Mockito.times(1))
-        .getAllUnreadForYearAndWeek(startDate, endDate, TEST_EMAIL);
+        .getAllForYearAndWeek(startDate, endDate);
+    Mockito.verify(readStateIndex, Mockito.times(1)).filterUnread(TEST_EMAIL, comicDetailList);
   }
 
   @Test
@@ -884,4 +908,453 @@ public class ComicDetailServiceTest {
     Mockito.verify(comicDetailRepository, Mockito.times(1))
         .loadUnreadComicDetails(TEST_EMAIL, pageable);
   }
+
+  @Test
+  public void testLoadComicDetailPageFirstPage() {
+    Mockito.when(
+            comicDetailRepository.loadComicDetailPage(
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.anyString(),
+                Mockito.anyBoolean(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.anyInt()))
+        .thenReturn(comicDetailList);
+
+    final List<ComicDetail> result =
+        service.loadComicDetailPage(
+            TEST_PAGE_SIZE,
+            null,
+            TEST_COVER_YEAR,
+            TEST_COVER_MONTH,
+            TEST_ARCHIVE_TYPE,
+            TEST_COMIC_TYPE,
+            TEST_COMIC_STATE,
+            TEST_UNSCRAPED_STATE,
+            TEST_SEARCH_TEXT,
+            TEST_PUBLISHER,
+            TEST_SERIES,
+            TEST_VOLUME,
+            "cover-date",
+            "desc");
+
+    assertNotNull(result);
+    assertSame(comicDetailList, result);
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .loadComicDetailPage(
+            comicDetailExample, null, "coverDate", false, null, null, TEST_PAGE_SIZE);
+  }
+
+  @Test
+  public void testLoadComicDetailPageAfterCursor() {
+    final Date coverDate = new Date();
+    Mockito.when(
+            comicDetailRepository.loadComicDetailPage(
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.anyString(),
+                Mockito.anyBoolean(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.anyInt()))
+        .thenReturn(comicDetailList);
+
+    final List<ComicDetail> result =
+        service.loadComicDetailPage(
+            TEST_PAGE_SIZE,
+            new ComicDetailCursor(String.valueOf(coverDate.getTime()), TEST_LAST_ID),
+            TEST_COVER_YEAR,
+            TEST_COVER_MONTH,
+            TEST_ARCHIVE_TYPE,
+            TEST_COMIC_TYPE,
+            TEST_COMIC_STATE,
+            TEST_UNSCRAPED_STATE,
+            TEST_SEARCH_TEXT,
+            TEST_PUBLISHER,
+            TEST_SERIES,
+            TEST_VOLUME,
+            "cover-date",
+            "asc");
+
+    assertNotNull(result);
+    assertSame(comicDetailList, result);
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .loadComicDetailPage(
+            comicDetailExample, null, "coverDate", true, coverDate, TEST_LAST_ID, TEST_PAGE_SIZE);
+  }
+
+  @Test
+  public void testLoadComicDetailPageAfterEnumCursor() {
+    service.loadComicDetailPage(
+        TEST_PAGE_SIZE,
+        new ComicDetailCursor(TEST_COMIC_STATE.name(), TEST_LAST_ID),
+        TEST_COVER_YEAR,
+        TEST_COVER_MONTH,
+        TEST_ARCHIVE_TYPE,
+        TEST_COMIC_TYPE,
+        TEST_COMIC_STATE,
+        TEST_UNSCRAPED_STATE,
+        TEST_SEARCH_TEXT,
+        TEST_PUBLISHER,
+        TEST_SERIES,
+        TEST_VOLUME,
+        "comic-state",
+        "asc");
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .loadComicDetailPage(
+            comicDetailExample,
+            null,
+            "comicState",
+            true,
+            TEST_COMIC_STATE,
+            TEST_LAST_ID,
+            TEST_PAGE_SIZE);
+  }
+
+  @Test
+  public void testLoadUnreadComicDetailPage() {
+    Mockito.when(
+            comicDetailRepository.loadComicDetailPage(
+                Mockito.any(),
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyBoolean(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.anyInt()))
+        .thenReturn(comicDetailList);
+
+    final List<ComicDetail> result =
+        service.loadUnreadComicDetailPage(
+            TEST_EMAIL, TEST_PAGE_SIZE, new ComicDetailCursor(null, TEST_LAST_ID), null, null);
+
+    assertNotNull(result);
+    assertSame(comicDetailList, result);
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .loadComicDetailPage(null, TEST_EMAIL, "id", true, null, TEST_LAST_ID, TEST_PAGE_SIZE);
+  }
+
+  @Test
+  public void testGetNextCursorPartialPage() {
+    comicDetailList.add(comicDetail);
+
+    assertNull(service.getNextCursor(comicDetailList, TEST_PAGE_SIZE, "cover-date", "asc"));
+  }
+
+  @Test
+  public void testGetNextCursorUnpaged() {
+    comicDetailList.add(comicDetail);
+
+    assertNull(service.getNextCursor(comicDetailList, null, "cover-date", "asc"));
+  }
+
+  @Test
+  public void testGetNextCursorForDate() {
+    final Date coverDate = new Date();
+    Mockito.when(comicDetail.getId()).thenReturn(TEST_LAST_ID);
+    Mockito.when(comicDetail.getCoverDate()).thenReturn(coverDate);
+    comicDetailList.add(comicDetail);
+
+    final ComicDetailCursor result =
+        service.getNextCursor(comicDetailList, comicDetailList.size(), "cover-date", "asc");
+
+    assertNotNull(result);
+    assertEquals(String.valueOf(coverDate.getTime()), result.getSortValue());
+    assertEquals(TEST_LAST_ID, result.getId().longValue());
+  }
+
+  @Test
+  public void testGetNextCursorForEnum() {
+    Mockito.when(comicDetail.getId()).thenReturn(TEST_LAST_ID);
+    Mockito.when(comicDetail.getArchiveType()).thenReturn(TEST_ARCHIVE_TYPE);
+    comicDetailList.add(comicDetail);
+
+    final ComicDetailCursor result =
+        service.getNextCursor(comicDetailList, comicDetailList.size(), "archive-type", "desc");
+
+    assertNotNull(result);
+    assertEquals(TEST_ARCHIVE_TYPE.name(), result.getSortValue());
+  }
+
+  @Test
+  public void testGetNextCursorForId() {
+    Mockito.when(comicDetail.getId()).thenReturn(TEST_LAST_ID);
+    comicDetailList.add(comicDetail);
+
+    final ComicDetailCursor result =
+        service.getNextCursor(comicDetailList, comicDetailList.size(), null, null);
+
+    assertNotNull(result);
+    assertNull(result.getSortValue());
+    assertEquals(TEST_LAST_ID, result.getId().longValue());
+  }
+
+  @Test
+  public void testLoadCollectionEntryPage() {
+    Mockito.when(
+            comicDetailRepository.loadCollectionEntryPage(
+                Mockito.any(ComicTagType.class),
+                Mockito.anyBoolean(),
+                Mockito.anyBoolean(),
+                Mockito.any(),
+                Mockito.any(),
+                Mockito.anyInt()))
+        .thenReturn(collectionEntryList);
+
+    final List<CollectionEntry> result =
+        service.loadCollectionEntryPage(
+            TEST_TAG_TYPE,
+            TEST_PAGE_SIZE,
+            new CollectionEntryCursor(TEST_TAG_VALUE, TEST_FILTER_COUNT),
+            TEST_SORT_BY,
+            "desc");
+
+    assertNotNull(result);
+    assertSame(collectionEntryList, result);
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .loadCollectionEntryPage(
+            TEST_TAG_TYPE, true, false, TEST_TAG_VALUE, TEST_FILTER_COUNT, TEST_PAGE_SIZE);
+  }
+
+  @Test
+  public void testLoadCollectionEntryPageFirstPage() {
+    service.loadCollectionEntryPage(TEST_TAG_TYPE, TEST_PAGE_SIZE, null, "name", "asc");
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .loadCollectionEntryPage(TEST_TAG_TYPE, false, true, null, null, TEST_PAGE_SIZE);
+  }
+
+  @Test
+  public void testGetNextCollectionCursor() {
+    final List<CollectionEntry> entries =
+        List.of(new CollectionEntry(TEST_TAG_VALUE, TEST_FILTER_COUNT));
+
+    final CollectionEntryCursor result = service.getNextCursor(entries, entries.size());
+
+    assertNotNull(result);
+    assertEquals(TEST_TAG_VALUE, result.getTagValue());
+    assertEquals(TEST_FILTER_COUNT, result.getComicCount().longValue());
+
+    assertNull(service.getNextCursor(entries, entries.size() + 1));
+  }
+
+  @Test
+  public void testGetForComicBookIdsInBatches() {
+    final List<Long> ids = new ArrayList<>();
+    for (long index = 0; index < ComicDetailService.LOOKUP_BATCH_SIZE + 1; index++) {
+      ids.add(index);
+    }
+    comicDetailList.add(comicDetail);
+    Mockito.when(comicDetailRepository.getForComicBookIds(Mockito.anyCollection()))
+        .thenReturn(comicDetailList);
+
+    final List<ComicDetail> result = service.getForComicBookIds(ids);
+
+    assertNotNull(result);
+    assertEquals(2, result.size());
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .getForComicBookIds(ids.subList(0, ComicDetailService.LOOKUP_BATCH_SIZE));
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .getForComicBookIds(
+            ids.subList(
+                ComicDetailService.LOOKUP_BATCH_SIZE, ComicDetailService.LOOKUP_BATCH_SIZE + 1));
+  }
+
+  @Test
+  public void testGetForIssueNumbers() {
+    final Set<String> issueNumbers = Set.of("1", "2");
+    Mockito.when(
+            comicDetailRepository.getForIssueNumbers(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyCollection()))
+        .thenReturn(comicDetailList);
+
+    final List<ComicDetail> result =
+        service.getForIssueNumbers(TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, issueNumbers);
+
+    assertSame(comicDetailList, result);
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .getForIssueNumbers(TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, issueNumbers);
+  }
+
+  @Test
+  public void testGetComicBooksForPublisherAndSeriesAndVolumeFirstPage() {
+    final List<ComicDetail> entries = this.createComicDetails(1L, 2L);
+    Mockito.when(
+            comicDetailRepository.getPageForPublisherAndSeriesAndVolume(
+                Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(entries);
+
+    final List<ComicDetail> result =
+        service.getComicBooksForPublisherAndSeriesAndVolume(
+            TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_EMAIL, false, 0L, false, 3);
+
+    assertEquals(entries, result);
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .getPageForPublisherAndSeriesAndVolume(
+            TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, PageRequest.of(0, 3));
+  }
+
+  @Test
+  public void testGetComicBooksForPublisherAndSeriesAndVolumeAfter() {
+    final List<ComicDetail> entries = this.createComicDetails(1L, 2L);
+    Mockito.when(
+            comicDetailRepository.getPageForPublisherAndSeriesAndVolumeAfter(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyLong(),
+                Mockito.any()))
+        .thenReturn(entries);
+
+    final List<ComicDetail> result =
+        service.getComicBooksForPublisherAndSeriesAndVolume(
+            TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_EMAIL, false, TEST_LAST_ID, false, 3);
+
+    assertEquals(entries, result);
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .getPageForPublisherAndSeriesAndVolumeAfter(
+            TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_LAST_ID, PageRequest.of(0, 3));
+  }
+
+  @Test
+  public void testGetComicBooksForPublisherAndSeriesAndVolumeBefore() {
+    final List<ComicDetail> entries = this.createComicDetails(2L, 1L);
+    Mockito.when(
+            comicDetailRepository.getPageForPublisherAndSeriesAndVolumeBefore(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyLong(),
+                Mockito.any()))
+        .thenReturn(entries);
+
+    final List<ComicDetail> result =
+        service.getComicBooksForPublisherAndSeriesAndVolume(
+            TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_EMAIL, false, TEST_LAST_ID, true, 3);
+
+    assertEquals(List.of(1L, 2L), result.stream().map(ComicDetail::getId).toList());
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .getPageForPublisherAndSeriesAndVolumeBefore(
+            TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_LAST_ID, PageRequest.of(0, 3));
+  }
+
+  @Test
+  public void testGetComicBooksForPublisherAndSeriesAndVolumeUnreadFillsPage() {
+    final List<ComicDetail> firstEntries = this.createComicDetails(1L, 2L);
+    final List<ComicDetail> secondEntries = this.createComicDetails(3L);
+    Mockito.when(
+            comicDetailRepository.getPageForPublisherAndSeriesAndVolume(
+                Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(firstEntries);
+    Mockito.when(
+            comicDetailRepository.getPageForPublisherAndSeriesAndVolumeAfter(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyLong(),
+                Mockito.any()))
+        .thenReturn(secondEntries);
+    Mockito.when(readStateIndex.filterUnread(TEST_EMAIL, firstEntries))
+        .thenReturn(List.of(firstEntries.get(0)));
+    Mockito.when(readStateIndex.filterUnread(TEST_EMAIL, secondEntries)).thenReturn(secondEntries);
+
+    final List<ComicDetail> result =
+        service.getComicBooksForPublisherAndSeriesAndVolume(
+            TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_EMAIL, true, 0L, false, 2);
+
+    assertEquals(List.of(1L, 3L), result.stream().map(ComicDetail::getId).toList());
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .getPageForPublisherAndSeriesAndVolumeAfter(
+            TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, 2L, PageRequest.of(0, 2));
+  }
+
+  @Test
+  public void testGetComicsForYearAndWeekPage() {
+    final List<ComicDetail> entries = this.createComicDetails(5L);
+    Mockito.when(
+            comicDetailRepository.getPageForYearAndWeekAfter(
+                startDateArgumentCaptor.capture(),
+                endDateArgumentCaptor.capture(),
+                Mockito.anyLong(),
+                Mockito.any()))
+        .thenReturn(entries);
+
+    final List<ComicDetail> result =
+        service.getComicsForYearAndWeek(TEST_YEAR, TEST_WEEK, TEST_EMAIL, false, 0L, false, 3);
+
+    assertEquals(entries, result);
+    assertTrue(endDateArgumentCaptor.getValue().after(startDateArgumentCaptor.getValue()));
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .getPageForYearAndWeekAfter(
+            startDateArgumentCaptor.getValue(),
+            endDateArgumentCaptor.getValue(),
+            0L,
+            PageRequest.of(0, 3));
+  }
+
+  @Test
+  public void testGetComicsForSearchTermPage() {
+    final List<ComicDetail> entries = this.createComicDetails(5L);
+    Mockito.when(
+            comicDetailRepository.getPageForSearchTermBefore(
+                Mockito.anyString(), Mockito.anyLong(), Mockito.any()))
+        .thenReturn(entries);
+
+    final List<ComicDetail> result =
+        service.getComicsForSearchTerm(TEST_SEARCH_TERM, TEST_LAST_ID, true, 3);
+
+    assertEquals(entries, result);
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .getPageForSearchTermBefore(TEST_SEARCH_TERM, TEST_LAST_ID, PageRequest.of(0, 3));
+  }
+
+  @Test
+  public void testGetAllComicsForTagPage() {
+    final List<ComicDetail> entries = this.createComicDetails(5L);
+    Mockito.when(
+            comicDetailRepository.getPageForTagAfter(
+                Mockito.any(ComicTagType.class),
+                Mockito.anyString(),
+                Mockito.anyLong(),
+                Mockito.any()))
+        .thenReturn(entries);
+    Mockito.when(readStateIndex.filterUnread(TEST_EMAIL, entries)).thenReturn(entries);
+
+    final List<ComicDetail> result =
+        service.getAllComicsForTag(
+            TEST_TAG_TYPE, TEST_TAG_VALUE, TEST_EMAIL, true, TEST_LAST_ID, false, 3);
+
+    assertEquals(entries, result);
+
+    Mockito.verify(comicDetailRepository, Mockito.times(1))
+        .getPageForTagAfter(TEST_TAG_TYPE, TEST_TAG_VALUE, TEST_LAST_ID, PageRequest.of(0, 3));
+    Mockito.verify(readStateIndex, Mockito.times(1)).filterUnread(TEST_EMAIL, entries);
+  }
+
+  private List<ComicDetail> createComicDetails(final Long... ids) {
+    final List<ComicDetail> result = new ArrayList<>();
+    for (Long id : ids) {
+      final ComicDetail entry = Mockito.mock(ComicDetail.class);
+      Mockito.when(entry.getId()).thenReturn(id);
+      result.add(entry);
+    }
+    return result;
+  }
 }
@@ -47,6 +47,7 @@ import org.comixedproject.messaging.library.PublishDuplicatePageListUpdateAction
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.model.comicpages.BlockedHash;
 import org.comixedproject.model.comicpages.Page;
+import org.comixedproject.model.comicpages.PageHash;
 import org.comixedproject.model.library.DuplicatePage;
 import org.comixedproject.model.net.DownloadDocument;
 import org.comixedproject.repositories.comicpages.BlockedHashRepository;
@@ -63,7 +64,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
 public class BlockedHashServiceTest {
-  private static final String TEST_PAGE_HASH = "The page hash";
+  private static final String TEST_PAGE_HASH = "0123456789ABCDEF0123456789ABCDEF";
   private static final String TEST_PAGE_LABEL = "The blocked page label";
   private static final String TEST_PAGE_THUMBNAIL = "The blocked page content encoded";
   private static final byte[] TEST_CSV_ROW = "The CSV file".getBytes();
@@ -97,6 +98,7 @@ public class BlockedHashServiceTest {
   @Captor private ArgumentCaptor<CsvRowDecoder> csvRowDecoderArgumentCaptor;
 
   private List<String> blockedPageHashList = new ArrayList<>();
+  private List<PageHash> blockedPageHashes = new ArrayList<>();
 
   @Before
   public void setUp() throws AdaptorException {
@@ -154,12 +156,12 @@ public class BlockedHashServiceTest {
 
   @Test
   public void testGetHashes() {
-    Mockito.when(blockedHashRepository.getHashes()).thenReturn(blockedPageHashList);
+    Mockito.when(blockedHashRepository.getHashes()).thenReturn(blockedPageHashes);
 
-    final List<String> result = service.getHashes();
+    final List<PageHash> result = service.getHashes();
 
     assertNotNull(result);
-    assertSame(blockedPageHashList, result);
+    assertSame(blockedPageHashes, result);
 
     Mockito.verify(blockedHashRepository, Mockito.times(1)).getHashes();
   }
@@ -402,23 +404,20 @@ public class BlockedHashServiceTest {
       blockedPageHashes.add(RandomStringUtils.random(32, true, true));
     }
 
-    Mockito.when(blockedHashRepository.findByHash(Mockito.anyString()))
-        .thenReturn(blockedHashRecord);
+    Mockito.when(blockedHashRepository.findByHashes(Mockito.anyList()))
+        .thenReturn(List.of(blockedHashRecord));
     Mockito.when(blockedHashRecord.getHash()).thenReturn(TEST_PAGE_HASH);
-    Mockito.doNothing().when(blockedHashRepository).delete(Mockito.any(BlockedHash.class));
 
     final List<String> result = service.deleteBlockedPages(blockedPageHashes);
 
     assertNotNull(result);
-    assertEquals(blockedPageHashes.size(), result.size());
+    assertEquals(1, result.size());
     result.forEach(hash -> assertEquals(TEST_PAGE_HASH, hash));
 
-    blockedPageHashes.forEach(
-        hash -> Mockito.verify(blockedHashRepository, Mockito.times(1)).findByHash(hash));
-    Mockito.verify(blockedHashRepository, Mockito.times(blockedPageHashes.size()))
-        .delete(blockedHashRecord);
-    Mockito.verify(publishBlockedPageRemovalAction, Mockito.times(blockedPageHashes.size()))
-        .publish(blockedHashRecord);
+    Mockito.verify(blockedHashRepository, Mockito.times(1)).findByHashes(blockedPageHashes);
+    Mockito.verify(blockedHashRepository, Mockito.times(1))
+        .deleteAllInBatch(List.of(blockedHashRecord));
+    Mockito.verify(publishBlockedPageRemovalAction, Mockito.times(1)).publish(blockedHashRecord);
   }
 
   @Test
@@ -428,10 +427,9 @@ public class BlockedHashServiceTest {
       blockedPageHashes.add(RandomStringUtils.random(32, true, true));
     }
 
-    Mockito.when(blockedHashRepository.findByHash(Mockito.anyString()))
-        .thenReturn(blockedHashRecord);
+    Mockito.when(blockedHashRepository.findByHashes(Mockito.anyList()))
+        .thenReturn(List.of(blockedHashRecord));
     Mockito.when(blockedHashRecord.getHash()).thenReturn(TEST_PAGE_HASH);
-    Mockito.doNothing().when(blockedHashRepository).delete(Mockito.any(BlockedHash.class));
     Mockito.doThrow(PublishingException.class)
         .when(publishBlockedPageRemovalAction)
         .publish(Mockito.any(BlockedHash.class));
@@ -439,15 +437,13 @@ public class BlockedHashServiceTest {
     final List<String> result = service.deleteBlockedPages(blockedPageHashes);
 
     assertNotNull(result);
-    assertEquals(blockedPageHashes.size(), result.size());
+    assertEquals(1, result.size());
     result.forEach(hash -> assertEquals(TEST_PAGE_HASH, hash));
 
-    blockedPageHashes.forEach(
-        hash -> Mockito.verify(blockedHashRepository, Mockito.times(1)).findByHash(hash));
-    Mockito.verify(blockedHashRepository, Mockito.times(blockedPageHashes.size()))
-        .delete(blockedHashRecord);
-    Mockito.verify(publishBlockedPageRemovalAction, Mockito.times(blockedPageHashes.size()))
-        .publish(blockedHashRecord);
+    Mockito.verify(blockedHashRepository, Mockito.times(1)).findByHashes(blockedPageHashes);
+    Mockito.verify(blockedHashRepository, Mockito.times(1))
+        .deleteAllInBatch(List.of(blockedHashRecord));
+    Mockito.verify(publishBlockedPageRemovalAction, Mockito.times(1)).publish(blockedHashRecord);
   }
 
   @Test
@@ -28,6 +28,7 @@ import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.model.comicbooks.ComicDetail;
 import org.comixedproject.model.comicpages.DeletedPage;
 import org.comixedproject.model.comicpages.DeletedPageAndComic;
+import org.comixedproject.model.comicpages.PageHash;
 import org.comixedproject.repositories.comicpages.PageRepository;
 import org.junit.Before;
 import org.junit.Test;
@@ -48,7 +49,8 @@ public class DeletedPageServiceTest {
   public void setUp() {
     for (int index = 0; index < 100; index++) {
       final DeletedPageAndComic deletedPageAndComic = mock(DeletedPageAndComic.class);
-      Mockito.when(deletedPageAndComic.getHash()).thenReturn(String.valueOf(index % 7));
+      Mockito.when(deletedPageAndComic.getHash())
+          .thenReturn(PageHash.fromHex(String.valueOf(index % 7)));
       final ComicBook comicBook = mock(ComicBook.class);
       Mockito.when(comicBook.getId()).thenReturn((long) index);
       final ComicDetail comicDetail = mock(ComicDetail.class);
@@ -20,6 +20,7 @@ package org.comixedproject.service.comicpages;
 
 import static junit.framework.TestCase.*;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.io.IOException;
 import org.junit.Before;
@@ -29,6 +30,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @RunWith(SpringRunner.class)
 @ContextConfiguration(classes = {PageCacheService.class})
@@ -39,8 +41,12 @@ public class PageCacheServiceTest {
 
   @Autowired private PageCacheService pageCacheService;
 
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   @Before
   public void setUp() {
+    ReflectionTestUtils.setField(pageCacheService, "meterRegistry", meterRegistry);
+
     // clean up any remnant
     final File file = pageCacheService.getFileForHash(TEST_MISSING_PAGE_HASH);
     if (file.exists()) {
@@ -53,6 +59,13 @@ public class PageCacheServiceTest {
     final byte[] result = pageCacheService.findByHash(TEST_MISSING_PAGE_HASH);
 
     assertNull(result);
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get(PageCacheService.CACHE_REQUESTS_METRIC)
+            .tag("result", "miss")
+            .counter()
+            .count());
   }
 
   @Test
@@ -60,6 +73,13 @@ public class PageCacheServiceTest {
     final byte[] result = pageCacheService.findByHash(TEST_PAGE_HASH);
 
     assertNotNull(result);
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get(PageCacheService.CACHE_REQUESTS_METRIC)
+            .tag("result", "hit")
+            .counter()
+            .count());
   }
 
   @Test
@@ -72,6 +72,7 @@ public class PageServiceTest {
 
   private List<Page> pageList = new ArrayList<>();
   private List<Long> idList = new ArrayList<>();
+  private List<Long> perceptualHashList = new ArrayList<>();
 
   @Before
   public void setUp() {
@@ -100,6 +101,18 @@ public class PageServiceTest {
         .fireEvent(comicBook, ComicEvent.detailsUpdated);
   }
 
+  @Test
+  public void testGetBlockedPerceptualHashes() {
+    Mockito.when(pageRepository.getBlockedPerceptualHashes()).thenReturn(perceptualHashList);
+
+    final List<Long> result = service.getBlockedPerceptualHashes();
+
+    assertNotNull(result);
+    assertSame(perceptualHashList, result);
+
+    Mockito.verify(pageRepository, Mockito.times(1)).getBlockedPerceptualHashes();
+  }
+
   @Test
   public void testGetOneForHash() {
     pageList.add(page);
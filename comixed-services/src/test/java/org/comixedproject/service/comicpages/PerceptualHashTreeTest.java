@@ -0,0 +1,129 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.service.comicpages;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PerceptualHashTreeTest {
+  private static final long TEST_HASH = 0x0123456789ABCDEFL;
+  private static final String TEST_VALUE = "The value";
+  private static final String TEST_OTHER_VALUE = "The other value";
+
+  private PerceptualHashTree<String> tree;
+
+  @Before
+  public void setUp() {
+    tree = new PerceptualHashTree<>();
+  }
+
+  @Test
+  public void testDistance() {
+    assertEquals(0, PerceptualHashTree.distance(TEST_HASH, TEST_HASH));
+    assertEquals(3, PerceptualHashTree.distance(TEST_HASH, TEST_HASH ^ 0b10101L));
+    assertEquals(64, PerceptualHashTree.distance(0L, -1L));
+  }
+
+  @Test
+  public void testSearchEmptyTree() {
+    assertTrue(tree.search(TEST_HASH, 64).isEmpty());
+    assertFalse(tree.containsWithin(TEST_HASH, 64));
+  }
+
+  @Test
+  public void testAddSameHash() {
+    tree.add(TEST_HASH, TEST_VALUE);
+    tree.add(TEST_HASH, TEST_OTHER_VALUE);
+
+    assertEquals(2, tree.getSize());
+    assertEquals(List.of(TEST_VALUE, TEST_OTHER_VALUE), tree.search(TEST_HASH, 0));
+  }
+
+  @Test
+  public void testAddDuplicateValue() {
+    tree.add(TEST_HASH, TEST_VALUE);
+    tree.add(TEST_HASH, TEST_VALUE);
+
+    assertEquals(1, tree.getSize());
+    assertEquals(List.of(TEST_VALUE), tree.search(TEST_HASH, 0));
+  }
+
+  @Test
+  public void testSearchWithinDistance() {
+    tree.add(TEST_HASH, TEST_VALUE);
+    tree.add(TEST_HASH ^ 0b111L, TEST_OTHER_VALUE);
+
+    assertEquals(List.of(TEST_VALUE), tree.search(TEST_HASH ^ 0b1L, 1));
+    assertTrue(tree.search(TEST_HASH ^ 0b111L, 3).contains(TEST_VALUE));
+    assertTrue(tree.containsWithin(TEST_HASH ^ 0b11L, 1));
+    assertFalse(tree.containsWithin(~TEST_HASH, 8));
+  }
+
+  @Test
+  public void testRemove() {
+    tree.add(TEST_HASH, TEST_VALUE);
+    tree.add(TEST_HASH ^ 0b111L, TEST_OTHER_VALUE);
+
+    assertTrue(tree.remove(TEST_HASH, TEST_VALUE));
+
+    assertEquals(1, tree.getSize());
+    assertEquals(List.of(TEST_OTHER_VALUE), tree.search(TEST_HASH, 3));
+    assertFalse(tree.containsWithin(TEST_HASH, 1));
+  }
+
+  @Test
+  public void testRemoveMissingValue() {
+    tree.add(TEST_HASH, TEST_VALUE);
+
+    assertFalse(tree.remove(TEST_HASH, TEST_OTHER_VALUE));
+    assertFalse(tree.remove(~TEST_HASH, TEST_VALUE));
+    assertEquals(1, tree.getSize());
+  }
+
+  @Test
+  public void testSearchMatchesLinearScan() {
+    final Random random = new Random(17L);
+    final List<Long> hashes =
+        IntStream.range(0, 2000).mapToObj(index -> random.nextLong()).collect(Collectors.toList());
+    final PerceptualHashTree<Long> hashTree = new PerceptualHashTree<>();
+    hashes.forEach(hash -> hashTree.add(hash, hash));
+
+    for (int index = 0; index < 50; index++) {
+      final long query = hashes.get(index) ^ (1L << index);
+      for (int distance : new int[] {0, 4, 24}) {
+        final List<Long> expected =
+            hashes.stream()
+                .filter(hash -> PerceptualHashTree.distance(hash, query) <= distance)
+                .sorted()
+                .collect(Collectors.toList());
+        final List<Long> result =
+            hashTree.search(query, distance).stream().sorted().collect(Collectors.toList());
+
+        assertEquals(expected, result);
+        assertEquals(!expected.isEmpty(), hashTree.containsWithin(query, distance));
+      }
+    }
+  }
+}
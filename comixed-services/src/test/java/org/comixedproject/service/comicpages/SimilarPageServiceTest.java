@@ -0,0 +1,232 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.service.comicpages;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.comixedproject.model.comicbooks.ComicState;
+import org.comixedproject.model.comicpages.PageHash;
+import org.comixedproject.model.comicpages.PerceptualPageHash;
+import org.comixedproject.repositories.comicpages.PageRepository;
+import org.comixedproject.service.comicbooks.ComicBooksPurgedEvent;
+import org.comixedproject.service.comicbooks.ComicStateChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SimilarPageServiceTest {
+  private static final String TEST_HASH = "0123456789ABCDEF0123456789ABCDEF";
+  private static final String TEST_SIMILAR_HASH = "11111111111111111111111111111111";
+  private static final String TEST_DISSIMILAR_HASH = "22222222222222222222222222222222";
+  private static final String TEST_REMOVED_HASH = "33333333333333333333333333333333";
+  private static final long TEST_PERCEPTUAL_HASH = 0x00FF00FF00FF00FFL;
+  private static final long TEST_SIMILAR_PERCEPTUAL_HASH = TEST_PERCEPTUAL_HASH ^ 0b101L;
+  private static final long TEST_DISSIMILAR_PERCEPTUAL_HASH = ~TEST_PERCEPTUAL_HASH;
+  private static final int TEST_DISTANCE = 4;
+  private static final int TEST_LOAD_SIZE = 2;
+  private static final Long TEST_COMIC_BOOK_ID = 717L;
+  private static final Long TEST_OTHER_COMIC_BOOK_ID = 718L;
+
+  @InjectMocks private SimilarPageService service;
+  @Mock private PageRepository pageRepository;
+
+  private List<PerceptualPageHash> firstBatch = new ArrayList<>();
+  private List<PerceptualPageHash> secondBatch = new ArrayList<>();
+  private List<String> hashList = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    service.loadSize = TEST_LOAD_SIZE;
+    firstBatch.add(this.doCreateEntry(1L, TEST_COMIC_BOOK_ID, TEST_HASH, TEST_PERCEPTUAL_HASH));
+    firstBatch.add(
+        this.doCreateEntry(
+            2L, TEST_OTHER_COMIC_BOOK_ID, TEST_SIMILAR_HASH, TEST_SIMILAR_PERCEPTUAL_HASH));
+    secondBatch.add(
+        this.doCreateEntry(
+            3L, TEST_OTHER_COMIC_BOOK_ID, TEST_DISSIMILAR_HASH, TEST_DISSIMILAR_PERCEPTUAL_HASH));
+    hashList.add(TEST_HASH);
+  }
+
+  @Test
+  public void testFindSimilarHashesWithoutDistance() {
+    final List<String> result = service.findSimilarHashes(hashList, 0);
+
+    assertEquals(hashList, result);
+
+    Mockito.verify(pageRepository, Mockito.never())
+        .loadPerceptualHashes(Mockito.anyLong(), Mockito.any(Pageable.class));
+  }
+
+  @Test
+  public void testFindSimilarHashes() {
+    Mockito.when(pageRepository.loadPerceptualHashes(0L, PageRequest.of(0, TEST_LOAD_SIZE)))
+        .thenReturn(firstBatch);
+    Mockito.when(pageRepository.loadPerceptualHashes(2L, PageRequest.of(0, TEST_LOAD_SIZE)))
+        .thenReturn(secondBatch);
+    Mockito.when(pageRepository.loadPerceptualHashesForHashes(List.of(PageHash.fromHex(TEST_HASH))))
+        .thenReturn(List.of(firstBatch.get(0)));
+    Mockito.when(
+            pageRepository.loadPerceptualHashesForHashes(
+                List.of(PageHash.fromHex(TEST_SIMILAR_HASH))))
+        .thenReturn(List.of(firstBatch.get(1)));
+
+    final List<String> result = service.findSimilarHashes(hashList, TEST_DISTANCE);
+
+    assertEquals(List.of(TEST_HASH, TEST_SIMILAR_HASH), result);
+    assertEquals(3L, service.lastPageId);
+    assertEquals(3, service.index.getSize());
+
+    Mockito.verify(pageRepository, Mockito.times(2))
+        .loadPerceptualHashesForHashes(Mockito.anyList());
+  }
+
+  @Test
+  public void testFindSimilarHashesUpdatesIndex() {
+    Mockito.when(pageRepository.loadPerceptualHashes(0L, PageRequest.of(0, TEST_LOAD_SIZE)))
+        .thenReturn(firstBatch);
+    Mockito.when(pageRepository.loadPerceptualHashes(2L, PageRequest.of(0, TEST_LOAD_SIZE)))
+        .thenReturn(new ArrayList<>());
+    Mockito.when(pageRepository.loadPerceptualHashesForHashes(List.of(PageHash.fromHex(TEST_HASH))))
+        .thenReturn(List.of(firstBatch.get(0)));
+    Mockito.when(
+            pageRepository.loadPerceptualHashesForHashes(
+                List.of(PageHash.fromHex(TEST_SIMILAR_HASH))))
+        .thenReturn(List.of(firstBatch.get(1)));
+
+    service.findSimilarHashes(hashList, TEST_DISTANCE);
+    service.findSimilarHashes(hashList, TEST_DISTANCE);
+
+    Mockito.verify(pageRepository, Mockito.times(1))
+        .loadPerceptualHashes(0L, PageRequest.of(0, TEST_LOAD_SIZE));
+    Mockito.verify(pageRepository, Mockito.times(2))
+        .loadPerceptualHashes(2L, PageRequest.of(0, TEST_LOAD_SIZE));
+    Mockito.verify(pageRepository, Mockito.never())
+        .loadPerceptualHashesForComicBooks(Mockito.anyCollection());
+  }
+
+  @Test
+  public void testFindSimilarHashesSkipsRemovedPages() {
+    firstBatch.set(
+        1,
+        this.doCreateEntry(
+            2L, TEST_OTHER_COMIC_BOOK_ID, TEST_REMOVED_HASH, TEST_SIMILAR_PERCEPTUAL_HASH));
+    Mockito.when(pageRepository.loadPerceptualHashes(0L, PageRequest.of(0, TEST_LOAD_SIZE)))
+        .thenReturn(firstBatch);
+    Mockito.when(pageRepository.loadPerceptualHashes(2L, PageRequest.of(0, TEST_LOAD_SIZE)))
+        .thenReturn(new ArrayList<>());
+    Mockito.when(pageRepository.loadPerceptualHashesForHashes(List.of(PageHash.fromHex(TEST_HASH))))
+        .thenReturn(List.of(firstBatch.get(0)));
+    Mockito.when(
+            pageRepository.loadPerceptualHashesForHashes(
+                List.of(PageHash.fromHex(TEST_REMOVED_HASH))))
+        .thenReturn(new ArrayList<>());
+
+    final List<String> result = service.findSimilarHashes(hashList, TEST_DISTANCE);
+
+    assertEquals(List.of(TEST_HASH), result);
+  }
+
+  @Test
+  public void testOnComicStateChanged() {
+    service.onComicStateChanged(
+        new ComicStateChangedEvent(TEST_COMIC_BOOK_ID, ComicState.UNPROCESSED));
+
+    assertTrue(service.changedComicBookIds.contains(TEST_COMIC_BOOK_ID));
+  }
+
+  @Test
+  public void testOnComicBooksPurged() {
+    service.onComicBooksPurged(
+        new ComicBooksPurgedEvent(List.of(TEST_COMIC_BOOK_ID), List.of(TEST_COMIC_BOOK_ID)));
+
+    assertTrue(service.changedComicBookIds.contains(TEST_COMIC_BOOK_ID));
+  }
+
+  @Test
+  public void testFindSimilarHashesReloadsChangedComics() {
+    Mockito.when(pageRepository.loadPerceptualHashes(0L, PageRequest.of(0, TEST_LOAD_SIZE)))
+        .thenReturn(firstBatch);
+    Mockito.when(pageRepository.loadPerceptualHashes(2L, PageRequest.of(0, TEST_LOAD_SIZE)))
+        .thenReturn(new ArrayList<>());
+    Mockito.when(pageRepository.loadPerceptualHashesForHashes(List.of(PageHash.fromHex(TEST_HASH))))
+        .thenReturn(List.of(firstBatch.get(0)));
+    Mockito.when(
+            pageRepository.loadPerceptualHashesForHashes(
+                List.of(PageHash.fromHex(TEST_SIMILAR_HASH))))
+        .thenReturn(List.of(firstBatch.get(1)));
+    Mockito.when(
+            pageRepository.loadPerceptualHashesForComicBooks(List.of(TEST_OTHER_COMIC_BOOK_ID)))
+        .thenReturn(
+            List.of(
+                this.doCreateEntry(
+                    2L,
+                    TEST_OTHER_COMIC_BOOK_ID,
+                    TEST_SIMILAR_HASH,
+                    TEST_DISSIMILAR_PERCEPTUAL_HASH)));
+
+    assertEquals(
+        List.of(TEST_HASH, TEST_SIMILAR_HASH), service.findSimilarHashes(hashList, TEST_DISTANCE));
+
+    service.onComicStateChanged(
+        new ComicStateChangedEvent(TEST_OTHER_COMIC_BOOK_ID, ComicState.UNPROCESSED));
+
+    assertEquals(List.of(TEST_HASH), service.findSimilarHashes(hashList, TEST_DISTANCE));
+    assertTrue(service.changedComicBookIds.isEmpty());
+    assertEquals(2, service.index.getSize());
+    assertEquals(1, service.entriesByComicBook.get(TEST_OTHER_COMIC_BOOK_ID).size());
+
+    Mockito.verify(pageRepository, Mockito.times(1))
+        .loadPerceptualHashes(0L, PageRequest.of(0, TEST_LOAD_SIZE));
+  }
+
+  @Test
+  public void testFindSimilarHashesRemovesPurgedComics() {
+    Mockito.when(pageRepository.loadPerceptualHashes(0L, PageRequest.of(0, TEST_LOAD_SIZE)))
+        .thenReturn(firstBatch);
+    Mockito.when(pageRepository.loadPerceptualHashes(2L, PageRequest.of(0, TEST_LOAD_SIZE)))
+        .thenReturn(new ArrayList<>());
+    Mockito.when(pageRepository.loadPerceptualHashesForHashes(List.of(PageHash.fromHex(TEST_HASH))))
+        .thenReturn(List.of(firstBatch.get(0)));
+    Mockito.when(
+            pageRepository.loadPerceptualHashesForComicBooks(List.of(TEST_OTHER_COMIC_BOOK_ID)))
+        .thenReturn(new ArrayList<>());
+
+    service.onComicBooksPurged(
+        new ComicBooksPurgedEvent(List.of(TEST_OTHER_COMIC_BOOK_ID), List.of(TEST_COMIC_BOOK_ID)));
+    final List<String> result = service.findSimilarHashes(hashList, TEST_DISTANCE);
+
+    assertEquals(List.of(TEST_HASH), result);
+    assertEquals(1, service.index.getSize());
+    assertFalse(service.entriesByComicBook.containsKey(TEST_OTHER_COMIC_BOOK_ID));
+  }
+
+  private PerceptualPageHash doCreateEntry(
+      final long id, final Long comicBookId, final String hash, final long perceptualHash) {
+    return new PerceptualPageHash(id, comicBookId, PageHash.fromHex(hash), perceptualHash);
+  }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.model.comicbooks.ComicDetail;
 import org.comixedproject.model.comicpages.Page;
+import org.comixedproject.model.comicpages.PageHash;
 import org.comixedproject.model.library.DuplicatePage;
 import org.comixedproject.repositories.comicpages.PageRepository;
 import org.junit.Before;
@@ -41,6 +42,7 @@ public class DuplicatePageServiceTest {
   public void testGetDuplicatePages() {
     pageList.add(page);
 
+    Mockito.when(page.getPageHash()).thenReturn(PageHash.fromHex(TEST_PAGE_HASH));
     Mockito.when(pageRepository.getDuplicatePages()).thenReturn(pageList);
 
     List<DuplicatePage> result = service.getDuplicatePages();
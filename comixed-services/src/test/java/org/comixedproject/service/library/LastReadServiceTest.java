@@ -36,6 +36,7 @@ import org.comixedproject.model.user.ComiXedUser;
 import org.comixedproject.repositories.library.LastReadRepository;
 import org.comixedproject.service.comicbooks.ComicBookException;
 import org.comixedproject.service.comicbooks.ComicBookService;
+import org.comixedproject.service.comicbooks.ComicDetailService;
 import org.comixedproject.service.user.ComiXedUserException;
 import org.comixedproject.service.user.UserService;
 import org.comixedproject.state.comicbooks.ComicEvent;
@@ -56,6 +57,7 @@ public class LastReadServiceTest {
   private static final long TEST_READ_COUNT = 101L;
   private static final long TEST_COMIC_BOOK_COUNT = 100L * TEST_READ_COUNT;
   private static final long TEST_COMIC_ID = 27L;
+  private static final long TEST_COMIC_DETAIL_ID = 72L;
 
   @InjectMocks private LastReadService service;
   @Mock private ComicStateHandler comicStateHandler;
@@ -64,6 +66,8 @@ public class LastReadServiceTest {
   @Mock private PublishLastReadRemovedAction publishLastReadRemovedAction;
   @Mock private UserService userService;
   @Mock private ComicBookService comicBookService;
+  @Mock private ComicDetailService comicDetailService;
+  @Mock private ReadStateIndex readStateIndex;
   @Mock private ComiXedUser user;
   @Mock private List<LastRead> lastReadEntries;
   @Mock private ComicBook comicBook;
@@ -75,6 +79,7 @@ public class LastReadServiceTest {
 
   @Captor private ArgumentCaptor<PageRequest> pageRequestArgumentCaptor;
   @Captor private ArgumentCaptor<LastRead> lastReadArgumentCaptor;
+  @Captor private ArgumentCaptor<List<LastRead>> lastReadListArgumentCaptor;
   @Mock private List<ComicsReadStatistic> comicsReadStatisticList;
   @Mock private List<ComicDetail> comicDetailList;
 
@@ -84,6 +89,7 @@ public class LastReadServiceTest {
   @Before
   public void setUp() throws ComiXedUserException {
     Mockito.when(comicBook.getComicDetail()).thenReturn(comicDetail);
+    Mockito.when(comicDetail.getId()).thenReturn(TEST_COMIC_DETAIL_ID);
     Mockito.when(message.getHeaders()).thenReturn(messageHeaders);
     Mockito.when(messageHeaders.get(HEADER_COMIC, ComicBook.class)).thenReturn(comicBook);
     Mockito.when(messageHeaders.get(HEADER_USER, ComiXedUser.class)).thenReturn(user);
@@ -103,6 +109,7 @@ public class LastReadServiceTest {
   @Test
   public void testOnComicStateChangeMarkedAsRead() throws PublishingException {
     Mockito.when(message.getPayload()).thenReturn(ComicEvent.markAsRead);
+    Mockito.when(user.getEmail()).thenReturn(TEST_EMAIL);
 
     service.onComicStateChange(state, message);
 
@@ -111,6 +118,8 @@ public class LastReadServiceTest {
     assertSame(comicDetail, record.getComicDetail());
     assertSame(user, record.getUser());
 
+    Mockito.verify(readStateIndex, Mockito.times(1))
+        .markAsRead(TEST_EMAIL, List.of(TEST_COMIC_DETAIL_ID));
     Mockito.verify(publishLastReadUpdatedAction, Mockito.times(1)).publish(savedLastReadEntry);
   }
 
@@ -134,6 +143,7 @@ public class LastReadServiceTest {
   @Test
   public void testOnComicStateChangeMarkedAsUnread() throws PublishingException {
     Mockito.when(message.getPayload()).thenReturn(ComicEvent.markAsUnread);
+    Mockito.when(user.getEmail()).thenReturn(TEST_EMAIL);
     Mockito.when(
             lastReadRepository.loadEntryForComicAndUser(
                 Mockito.any(ComicDetail.class), Mockito.any(ComiXedUser.class)))
@@ -144,6 +154,8 @@ public class LastReadServiceTest {
     Mockito.verify(lastReadRepository, Mockito.times(1))
         .loadEntryForComicAndUser(comicDetail, user);
     Mockito.verify(lastReadRepository, Mockito.times(1)).delete(savedLastReadEntry);
+    Mockito.verify(readStateIndex, Mockito.times(1))
+        .markAsUnread(TEST_EMAIL, List.of(TEST_COMIC_DETAIL_ID));
     Mockito.verify(publishLastReadRemovedAction, Mockito.times(1)).publish(savedLastReadEntry);
   }
 
@@ -245,39 +257,71 @@ public class LastReadServiceTest {
   }
 
   @Test
-  public void testMarkComicBooksAsReadNoSuchComic()
-      throws ComiXedUserException, LastReadException, ComicBookException {
-    Mockito.when(comicBookService.getComic(Mockito.anyLong())).thenThrow(ComicBookException.class);
+  public void testMarkComicBooksAsReadAlreadyRead() throws LastReadException {
+    Mockito.when(comicDetailService.getForComicBookIds(Mockito.anyList()))
+        .thenReturn(comicDetailList);
+    Mockito.when(readStateIndex.filterUnread(Mockito.anyString(), Mockito.anyList()))
+        .thenReturn(new ArrayList<>());
 
-    try {
-      service.markComicBooksAsRead(TEST_EMAIL, comicIdList);
-    } finally {
-      Mockito.verify(userService, Mockito.times(1)).findByEmail(TEST_EMAIL);
-      Mockito.verify(comicBookService, Mockito.times(1)).getComic(TEST_COMIC_ID);
-    }
+    service.markComicBooksAsRead(TEST_EMAIL, comicIdList);
+
+    Mockito.verify(comicDetailService, Mockito.times(1)).getForComicBookIds(comicIdList);
+    Mockito.verify(readStateIndex, Mockito.times(1)).filterUnread(TEST_EMAIL, comicDetailList);
+    Mockito.verify(lastReadRepository, Mockito.never()).saveAll(Mockito.anyList());
+    Mockito.verify(readStateIndex, Mockito.never())
+        .markAsRead(Mockito.anyString(), Mockito.anyCollection());
   }
 
   @Test
-  public void testMarkComicBooksAsRead()
-      throws ComiXedUserException, LastReadException, ComicBookException {
-    Mockito.when(lastReadRepository.loadEntriesForUser(Mockito.any(ComiXedUser.class)))
+  public void testMarkComicBooksAsRead() throws ComiXedUserException, LastReadException {
+    Mockito.when(comicDetailService.getForComicBookIds(Mockito.anyList()))
+        .thenReturn(comicDetailList);
+    Mockito.when(readStateIndex.filterUnread(Mockito.anyString(), Mockito.anyList()))
+        .thenReturn(List.of(comicDetail));
+    Mockito.when(lastReadRepository.saveAll(lastReadListArgumentCaptor.capture()))
         .thenReturn(lastReadList);
-    Mockito.when(comicBookService.getComic(Mockito.anyLong())).thenReturn(comicBook);
 
     service.markComicBooksAsRead(TEST_EMAIL, comicIdList);
 
+    final List<LastRead> saved = lastReadListArgumentCaptor.getValue();
+    assertEquals(1, saved.size());
+    assertSame(comicDetail, saved.get(0).getComicDetail());
+    assertSame(user, saved.get(0).getUser());
+
     Mockito.verify(userService, Mockito.times(1)).findByEmail(TEST_EMAIL);
+    Mockito.verify(readStateIndex, Mockito.times(1))
+        .markAsRead(TEST_EMAIL, List.of(TEST_COMIC_DETAIL_ID));
+  }
+
+  @Test
+  public void testMarkComicBooksAsUnreadNoneRead() throws LastReadException {
+    Mockito.when(
+            lastReadRepository.loadComicDetailIdsForComicBooks(
+                Mockito.any(ComiXedUser.class), Mockito.anyList()))
+        .thenReturn(new ArrayList<>());
+
+    service.markComicBooksAsUnread(TEST_EMAIL, comicIdList);
+
+    Mockito.verify(lastReadRepository, Mockito.never())
+        .deleteForComicDetailIds(Mockito.any(ComiXedUser.class), Mockito.anyList());
   }
 
   @Test
   public void testMarkComicBooksAsUnread() throws ComiXedUserException, LastReadException {
-    Mockito.when(lastReadRepository.loadEntriesForUser(Mockito.any(ComiXedUser.class)))
-        .thenReturn(lastReadList);
+    final List<Long> comicDetailIds = List.of(TEST_COMIC_DETAIL_ID);
+    Mockito.when(
+            lastReadRepository.loadComicDetailIdsForComicBooks(
+                Mockito.any(ComiXedUser.class), Mockito.anyList()))
+        .thenReturn(comicDetailIds);
 
     service.markComicBooksAsUnread(TEST_EMAIL, comicIdList);
 
     Mockito.verify(userService, Mockito.times(1)).findByEmail(TEST_EMAIL);
-    Mockito.verify(lastReadRepository, Mockito.times(1)).loadEntriesForUser(user);
+    Mockito.verify(lastReadRepository, Mockito.times(1))
+        .loadComicDetailIdsForComicBooks(user, comicIdList);
+    Mockito.verify(lastReadRepository, Mockito.times(1))
+        .deleteForComicDetailIds(user, comicDetailIds);
+    Mockito.verify(readStateIndex, Mockito.times(1)).markAsUnread(TEST_EMAIL, comicDetailIds);
   }
 
   @Test(expected = LastReadException.class)
@@ -0,0 +1,176 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.service.library;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertNotSame;
+import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import org.comixedproject.model.comicbooks.ComicDetail;
+import org.comixedproject.repositories.library.LastReadRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReadStateIndexTest {
+  private static final String TEST_EMAIL = "reader@comixedproject.org";
+  private static final long TEST_READ_ID = 17L;
+  private static final long TEST_UNREAD_ID = 29L;
+
+  @InjectMocks private ReadStateIndex index;
+  @Mock private LastReadRepository lastReadRepository;
+  @Mock private ComicDetail readComicDetail;
+  @Mock private ComicDetail unreadComicDetail;
+
+  private List<Long> readIdList = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    readIdList.add(TEST_READ_ID);
+    Mockito.when(lastReadRepository.loadComicDetailIdsForUser(Mockito.anyString()))
+        .thenReturn(readIdList);
+  }
+
+  @Test
+  public void testIsReadLoadsOnce() {
+    assertTrue(index.isRead(TEST_EMAIL, TEST_READ_ID));
+    assertFalse(index.isRead(TEST_EMAIL, TEST_UNREAD_ID));
+    assertEquals(1, index.getReadCount(TEST_EMAIL));
+
+    Mockito.verify(lastReadRepository, Mockito.times(1)).loadComicDetailIdsForUser(TEST_EMAIL);
+  }
+
+  @Test
+  public void testFilterUnread() {
+    Mockito.when(readComicDetail.getId()).thenReturn(TEST_READ_ID);
+    Mockito.when(unreadComicDetail.getId()).thenReturn(TEST_UNREAD_ID);
+
+    final List<ComicDetail> result =
+        index.filterUnread(TEST_EMAIL, List.of(readComicDetail, unreadComicDetail));
+
+    assertEquals(1, result.size());
+    assertSame(unreadComicDetail, result.get(0));
+  }
+
+  @Test
+  public void testMarkAsRead() {
+    index.markAsRead(TEST_EMAIL, List.of(TEST_UNREAD_ID));
+
+    assertTrue(index.isRead(TEST_EMAIL, TEST_READ_ID));
+    assertTrue(index.isRead(TEST_EMAIL, TEST_UNREAD_ID));
+  }
+
+  @Test
+  public void testMarkAsReadDoesNotModifyPublishedBitmap() {
+    index.isRead(TEST_EMAIL, TEST_READ_ID);
+    final BitSet original = index.readComics.get(TEST_EMAIL);
+
+    index.markAsRead(TEST_EMAIL, List.of(TEST_UNREAD_ID));
+
+    assertNotSame(original, index.readComics.get(TEST_EMAIL));
+    assertEquals(1, original.cardinality());
+  }
+
+  @Test
+  public void testMarkAsReadDeferredUntilCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      index.markAsRead(TEST_EMAIL, List.of(TEST_UNREAD_ID));
+
+      assertFalse(index.isRead(TEST_EMAIL, TEST_UNREAD_ID));
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertTrue(index.isRead(TEST_EMAIL, TEST_UNREAD_ID));
+  }
+
+  @Test
+  public void testMarkAsReadRolledBack() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      index.markAsRead(TEST_EMAIL, List.of(TEST_UNREAD_ID));
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(
+              synchronization ->
+                  synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertFalse(index.isRead(TEST_EMAIL, TEST_UNREAD_ID));
+    assertEquals(0L, index.getLastChanged(TEST_EMAIL));
+  }
+
+  @Test
+  public void testMarkAsUnread() {
+    index.markAsUnread(TEST_EMAIL, List.of(TEST_READ_ID));
+
+    assertFalse(index.isRead(TEST_EMAIL, TEST_READ_ID));
+    assertEquals(0, index.getReadCount(TEST_EMAIL));
+  }
+
+  @Test
+  public void testIdOutOfRange() {
+    index.markAsRead(TEST_EMAIL, List.of(Integer.MAX_VALUE + 1L));
+
+    assertFalse(index.isRead(TEST_EMAIL, Integer.MAX_VALUE + 1L));
+  }
+
+  @Test
+  public void testGetLastChangedUnchanged() {
+    assertEquals(0L, index.getLastChanged(TEST_EMAIL));
+  }
+
+  @Test
+  public void testGetLastChangedMovesForward() {
+    index.markAsRead(TEST_EMAIL, List.of(TEST_UNREAD_ID));
+    final long first = index.getLastChanged(TEST_EMAIL);
+    index.markAsUnread(TEST_EMAIL, List.of(TEST_UNREAD_ID));
+
+    assertTrue(first > 0L);
+    assertTrue(index.getLastChanged(TEST_EMAIL) > first);
+  }
+
+  @Test
+  public void testInvalidate() {
+    index.isRead(TEST_EMAIL, TEST_READ_ID);
+
+    index.invalidate(TEST_EMAIL);
+    index.isRead(TEST_EMAIL, TEST_READ_ID);
+
+    Mockito.verify(lastReadRepository, Mockito.times(2)).loadComicDetailIdsForUser(TEST_EMAIL);
+  }
+}
@@ -29,6 +29,7 @@ import org.comixedproject.model.net.library.PublisherAndYearSegment;
 import org.comixedproject.model.net.library.RemoteLibrarySegmentState;
 import org.comixedproject.model.net.library.RemoteLibraryState;
 import org.comixedproject.service.comicbooks.ComicBookService;
+import org.comixedproject.service.comicbooks.ComicBooksPurgedEvent;
 import org.comixedproject.state.comicbooks.ComicEvent;
 import org.comixedproject.state.comicbooks.ComicStateHandler;
 import org.junit.Before;
@@ -121,6 +122,22 @@ public class RemoteLibraryStateServiceTest {
     Mockito.verify(publishRemoteLibraryUpdateAction, Mockito.times(1)).publish(libraryState);
   }
 
+  @Test
+  public void testComicBooksPurged() throws PublishingException {
+    Mockito.doNothing()
+        .when(publishRemoteLibraryUpdateAction)
+        .publish(libraryStateArgumentCaptor.capture());
+
+    service.onComicBooksPurged(
+        new ComicBooksPurgedEvent(List.of(TEST_COMIC_COUNT), List.of(TEST_COMIC_COUNT)));
+
+    final RemoteLibraryState libraryState = libraryStateArgumentCaptor.getValue();
+    assertNotNull(libraryState);
+    assertEquals(TEST_COMIC_COUNT, libraryState.getTotalComics());
+
+    Mockito.verify(publishRemoteLibraryUpdateAction, Mockito.times(1)).publish(libraryState);
+  }
+
   @Test
   public void testGetLibraryState() {
     final RemoteLibraryState result = service.getLibraryState();
@@ -19,7 +19,7 @@
 package org.comixedproject.service.lists;
 
 import static org.comixedproject.service.lists.ReadingListService.*;
-import static org.comixedproject.state.comicbooks.ComicStateHandler.HEADER_COMIC;
+import static org.comixedproject.state.lists.ReadingListStateHandler.HEADER_COMIC_DETAILS;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.commons.lang.StringUtils;
 import org.comixedproject.adaptors.csv.CsvAdaptor;
 import org.comixedproject.adaptors.csv.CsvRowDecoder;
@@ -35,15 +36,13 @@ import org.comixedproject.adaptors.csv.CsvRowEncoder;
 import org.comixedproject.messaging.PublishingException;
 import org.comixedproject.messaging.lists.PublishReadingListDeletedAction;
 import org.comixedproject.messaging.lists.PublishReadingListUpdateAction;
-import org.comixedproject.model.comicbooks.ComicBook;
 import org.comixedproject.model.comicbooks.ComicDetail;
 import org.comixedproject.model.lists.ReadingList;
 import org.comixedproject.model.lists.ReadingListState;
 import org.comixedproject.model.net.DownloadDocument;
 import org.comixedproject.model.user.ComiXedUser;
 import org.comixedproject.repositories.lists.ReadingListRepository;
-import org.comixedproject.service.comicbooks.ComicBookException;
-import org.comixedproject.service.comicbooks.ComicBookService;
+import org.comixedproject.service.comicbooks.ComicDetailService;
 import org.comixedproject.service.user.ComiXedUserException;
 import org.comixedproject.service.user.UserService;
 import org.comixedproject.state.lists.ReadingListEvent;
@@ -54,6 +53,7 @@ import org.junit.runner.RunWith;
 import org.mockito.*;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.statemachine.state.State;
@@ -80,7 +80,7 @@ public class ReadingListServiceTest {
   @Mock private ReadingListStateHandler readingListStateHandler;
   @Mock private ReadingListRepository readingListRepository;
   @Mock private UserService userService;
-  @Mock private ComicBookService comicBookService;
+  @Mock private ComicDetailService comicDetailService;
   @Mock private CsvAdaptor csvAdaptor;
   @Mock private ReadingList readingList;
   @Mock private ReadingList savedReadingList;
@@ -88,7 +88,6 @@ public class ReadingListServiceTest {
   @Mock private ComiXedUser owner;
   @Mock private ComiXedUser user;
   @Mock private List<ReadingList> readingLists;
-  @Mock private ComicBook comicBook;
   @Mock private ComicDetail comicDetail;
   @Mock private State<ReadingListState, ReadingListEvent> incomingState;
   @Mock private MessageHeaders messageHeaders;
@@ -96,6 +95,10 @@ public class ReadingListServiceTest {
   @Mock private PublishReadingListUpdateAction publishReadingListUpdateAction;
   @Mock private PublishReadingListDeletedAction publishReadingListDeletedAction;
   @Mock private InputStream inputStream;
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
+
+  @Captor
+  private ArgumentCaptor<ReadingListStateChangedEvent> readingListStateChangedEventArgumentCaptor;
 
   @Captor private ArgumentCaptor<ReadingList> readingListArgumentCaptor;
   @Captor private ArgumentCaptor<Map<String, Object>> headersArgumentCaptor;
@@ -305,12 +308,13 @@ public class ReadingListServiceTest {
   }
 
   @Test
-  public void testAddComicsToListComicNotFound() throws ComicBookException, ReadingListException {
+  public void testAddComicsToListComicNotFound() throws ReadingListException {
     idList.add(TEST_COMIC_ID);
 
     Mockito.when(readingListRepository.getById(Mockito.anyLong()))
         .thenReturn(readingList, loadedReadingList);
-    Mockito.when(comicBookService.getComic(Mockito.anyLong())).thenThrow(ComicBookException.class);
+    Mockito.when(comicDetailService.getForComicBookIds(Mockito.anyList()))
+        .thenReturn(new ArrayList<>());
 
     final ReadingList result =
         service.addComicsToList(TEST_OWNER_EMAIL, TEST_READING_LIST_ID, idList);
@@ -319,16 +323,23 @@ public class ReadingListServiceTest {
     assertSame(loadedReadingList, result);
 
     Mockito.verify(readingListRepository, Mockito.times(2)).getById(TEST_READING_LIST_ID);
-    Mockito.verify(comicBookService, Mockito.times(1)).getComic(TEST_COMIC_ID);
+    Mockito.verify(comicDetailService, Mockito.times(1)).getForComicBookIds(idList);
+    Mockito.verify(readingListStateHandler, Mockito.never())
+        .fireEvent(Mockito.any(), Mockito.any(), Mockito.any());
   }
 
   @Test
-  public void testAddComicsToList() throws ComicBookException, ReadingListException {
-    idList.add(TEST_COMIC_ID);
+  public void testAddComicsToList() throws ReadingListException {
+    for (long index = 0; index < 25; index++) {
+      idList.add(TEST_COMIC_ID + index);
+    }
+    final List<ComicDetail> loadedComicDetails = new ArrayList<>();
+    loadedComicDetails.add(comicDetail);
 
     Mockito.when(readingListRepository.getById(Mockito.anyLong()))
         .thenReturn(readingList, loadedReadingList);
-    Mockito.when(comicBookService.getComic(Mockito.anyLong())).thenReturn(comicBook);
+    Mockito.when(comicDetailService.getForComicBookIds(Mockito.anyList()))
+        .thenReturn(loadedComicDetails);
     Mockito.doNothing()
         .when(readingListStateHandler)
         .fireEvent(
@@ -338,14 +349,16 @@ public class ReadingListServiceTest {
 
     ReadingList result = service.addComicsToList(TEST_OWNER_EMAIL, TEST_READING_LIST_ID, idList);
 
+    assertSame(loadedReadingList, result);
+
     final Map<String, ?> headers = headersArgumentCaptor.getValue();
     assertNotNull(headers);
-    assertSame(comicBook, headers.get(HEADER_COMIC));
+    assertSame(loadedComicDetails, headers.get(HEADER_COMIC_DETAILS));
 
     Mockito.verify(readingListRepository, Mockito.times(2)).getById(TEST_READING_LIST_ID);
-    Mockito.verify(comicBookService, Mockito.times(1)).getComic(TEST_COMIC_ID);
+    Mockito.verify(comicDetailService, Mockito.times(1)).getForComicBookIds(idList);
     Mockito.verify(readingListStateHandler, Mockito.times(1))
-        .fireEvent(readingList, ReadingListEvent.comicAdded, headers);
+        .fireEvent(readingList, ReadingListEvent.comicsAdded, headers);
   }
 
   @Test(expected = ReadingListException.class)
@@ -371,8 +384,7 @@ public class ReadingListServiceTest {
   }
 
   @Test
-  public void testRemoveComicsFromListComicNotFound()
-      throws ComicBookException, ReadingListException {
+  public void testRemoveComicsFromListComicNotFound() throws ReadingListException {
     idList.add(TEST_COMIC_ID);
 
     Mockito.when(readingListRepository.getById(Mockito.anyLong()))
@@ -385,14 +397,24 @@ public class ReadingListServiceTest {
     assertSame(loadedReadingList, result);
 
     Mockito.verify(readingListRepository, Mockito.times(2)).getById(TEST_READING_LIST_ID);
+    Mockito.verify(readingListStateHandler, Mockito.never())
+        .fireEvent(Mockito.any(), Mockito.any(), Mockito.any());
   }
 
   @Test
-  public void testRemoveComicsFromList() throws ComicBookException, ReadingListException {
+  public void testRemoveComicsFromList() throws ReadingListException {
     idList.add(TEST_COMIC_ID);
+    comicDetailList.add(comicDetail);
 
+    Mockito.when(comicDetail.getComicId()).thenReturn(TEST_COMIC_ID);
     Mockito.when(readingListRepository.getById(Mockito.anyLong()))
         .thenReturn(readingList, loadedReadingList);
+    Mockito.doNothing()
+        .when(readingListStateHandler)
+        .fireEvent(
+            Mockito.any(ReadingList.class),
+            Mockito.any(ReadingListEvent.class),
+            headersArgumentCaptor.capture());
 
     ReadingList result =
         service.removeComicsFromList(TEST_OWNER_EMAIL, TEST_READING_LIST_ID, idList);
@@ -400,7 +422,12 @@ public class ReadingListServiceTest {
     assertNotNull(result);
     assertSame(loadedReadingList, result);
 
+    final Map<String, ?> headers = headersArgumentCaptor.getValue();
+    assertEquals(List.of(comicDetail), headers.get(HEADER_COMIC_DETAILS));
+
     Mockito.verify(readingListRepository, Mockito.times(2)).getById(TEST_READING_LIST_ID);
+    Mockito.verify(readingListStateHandler, Mockito.times(1))
+        .fireEvent(readingList, ReadingListEvent.comicsRemoved, headers);
   }
 
   @Test
@@ -425,6 +452,11 @@ public class ReadingListServiceTest {
     Mockito.verify(readingList, Mockito.times(1)).setLastModifiedOn(Mockito.any(Date.class));
     Mockito.verify(readingListRepository, Mockito.times(1)).save(readingList);
     Mockito.verify(publishReadingListUpdateAction, Mockito.times(1)).publish(savedReadingList);
+    Mockito.verify(applicationEventPublisher, Mockito.times(1))
+        .publishEvent(readingListStateChangedEventArgumentCaptor.capture());
+    assertEquals(
+        TEST_READING_LIST_STATE,
+        readingListStateChangedEventArgumentCaptor.getValue().getReadingListState());
   }
 
   @Test
@@ -550,7 +582,7 @@ public class ReadingListServiceTest {
 
   @Test
   public void testDecodeAndCreateReadingListComicNotFound()
-      throws ComiXedUserException, ComicBookException, ReadingListException, IOException {
+      throws ComiXedUserException, ReadingListException, IOException {
     final List<String> decodingRow = new ArrayList<>();
     decodingRow.add(TEST_POSITION);
     decodingRow.add(TEST_PUBLISHER);
@@ -565,26 +597,27 @@ public class ReadingListServiceTest {
     Mockito.when(readingListRepository.save(readingListArgumentCaptor.capture()))
         .thenReturn(readingList);
     Mockito.when(readingListRepository.getById(Mockito.anyLong())).thenReturn(savedReadingList);
-    Mockito.doNothing()
+    Mockito.doAnswer(
+            invocation -> {
+              final CsvRowDecoder decoder = invocation.getArgument(2);
+              decoder.processRow(0, new ArrayList<>());
+              decoder.processRow(1, decodingRow);
+              return null;
+            })
         .when(csvAdaptor)
-        .decodeRecords(
-            Mockito.any(InputStream.class), Mockito.any(), rowDecoderArgumentCaptor.capture());
+        .decodeRecords(Mockito.any(InputStream.class), Mockito.any(), Mockito.any());
     Mockito.when(
-            comicBookService.findComic(
-                Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.anyString()))
-        .thenReturn(null);
+            comicDetailService.getForIssueNumbers(
+                Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.anySet()))
+        .thenReturn(new ArrayList<>());
 
     service.decodeAndCreateReadingList(TEST_OWNER_EMAIL, TEST_READING_LIST_NAME, inputStream);
 
     Mockito.verify(userService, Mockito.times(1)).findByEmail(TEST_OWNER_EMAIL);
     Mockito.verify(readingListRepository, Mockito.times(1))
         .checkForExistingReadingList(user, TEST_READING_LIST_NAME);
-
-    final CsvRowDecoder decoder = rowDecoderArgumentCaptor.getValue();
-    decoder.processRow(1, decodingRow);
-
-    Mockito.verify(comicBookService, Mockito.times(1))
-        .findComic(TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_ISSUE_NUMBER);
+    Mockito.verify(comicDetailService, Mockito.times(1))
+        .getForIssueNumbers(TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, Set.of(TEST_ISSUE_NUMBER));
     Mockito.verify(readingListStateHandler, Mockito.never())
         .fireEvent(Mockito.any(), Mockito.any(), Mockito.any());
     Mockito.verify(readingListRepository, Mockito.times(1)).getById(TEST_READING_LIST_ID);
@@ -592,13 +625,19 @@ public class ReadingListServiceTest {
 
   @Test
   public void testDecodeAndCreateReadingList()
-      throws ComiXedUserException, ComicBookException, ReadingListException, IOException {
-    final List<String> decodingRow = new ArrayList<>();
-    decodingRow.add(TEST_POSITION);
-    decodingRow.add(TEST_PUBLISHER);
-    decodingRow.add(TEST_SERIES);
-    decodingRow.add(TEST_VOLUME);
-    decodingRow.add(TEST_ISSUE_NUMBER);
+      throws ComiXedUserException, ReadingListException, IOException {
+    final List<List<String>> decodingRows = new ArrayList<>();
+    for (int index = 0; index < 3; index++) {
+      final List<String> decodingRow = new ArrayList<>();
+      decodingRow.add(String.valueOf(index + 1));
+      decodingRow.add(TEST_PUBLISHER);
+      decodingRow.add(TEST_SERIES);
+      decodingRow.add(TEST_VOLUME);
+      decodingRow.add(index == 1 ? TEST_ISSUE_NUMBER : TEST_ISSUE_NUMBER + index);
+      decodingRows.add(decodingRow);
+    }
+    final List<ComicDetail> loadedComicDetails = new ArrayList<>();
+    loadedComicDetails.add(comicDetail);
 
     Mockito.when(
             readingListRepository.checkForExistingReadingList(
@@ -606,14 +645,21 @@ public class ReadingListServiceTest {
         .thenReturn(false);
     Mockito.when(readingListRepository.save(readingListArgumentCaptor.capture()))
         .thenReturn(savedReadingList);
-    Mockito.doNothing()
+    Mockito.doAnswer(
+            invocation -> {
+              final CsvRowDecoder decoder = invocation.getArgument(2);
+              decoder.processRow(0, new ArrayList<>());
+              for (int index = 0; index < decodingRows.size(); index++) {
+                decoder.processRow(index + 1, decodingRows.get(index));
+              }
+              return null;
+            })
         .when(csvAdaptor)
-        .decodeRecords(
-            Mockito.any(InputStream.class), Mockito.any(), rowDecoderArgumentCaptor.capture());
+        .decodeRecords(Mockito.any(InputStream.class), Mockito.any(), Mockito.any());
     Mockito.when(
-            comicBookService.findComic(
-                Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.anyString()))
-        .thenReturn(comicBook);
+            comicDetailService.getForIssueNumbers(
+                Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.anySet()))
+        .thenReturn(loadedComicDetails);
     Mockito.when(savedReadingList.getId()).thenReturn(TEST_READING_LIST_ID);
     Mockito.when(readingListRepository.getById(Mockito.anyLong())).thenReturn(readingList);
     Mockito.doNothing()
@@ -625,22 +671,21 @@ public class ReadingListServiceTest {
 
     service.decodeAndCreateReadingList(TEST_OWNER_EMAIL, TEST_READING_LIST_NAME, inputStream);
 
+    final Map<String, Object> headers = headersArgumentCaptor.getValue();
+    assertEquals(List.of(comicDetail), headers.get(HEADER_COMIC_DETAILS));
+
     Mockito.verify(userService, Mockito.times(1)).findByEmail(TEST_OWNER_EMAIL);
     Mockito.verify(readingListRepository, Mockito.times(1))
         .checkForExistingReadingList(user, TEST_READING_LIST_NAME);
-
-    final CsvRowDecoder decoder = rowDecoderArgumentCaptor.getValue();
-    decoder.processRow(1, decodingRow);
-
-    final Map<String, Object> headers = headersArgumentCaptor.getValue();
-    assertFalse(headers.isEmpty());
-    assertSame(comicBook, headers.get(HEADER_COMIC));
-
-    Mockito.verify(readingListRepository, Mockito.times(2)).getById(TEST_READING_LIST_ID);
-    Mockito.verify(comicBookService, Mockito.times(1))
-        .findComic(TEST_PUBLISHER, TEST_SERIES, TEST_VOLUME, TEST_ISSUE_NUMBER);
+    Mockito.verify(readingListRepository, Mockito.times(1)).getById(TEST_READING_LIST_ID);
+    Mockito.verify(comicDetailService, Mockito.times(1))
+        .getForIssueNumbers(
+            TEST_PUBLISHER,
+            TEST_SERIES,
+            TEST_VOLUME,
+            Set.of(TEST_ISSUE_NUMBER + 0, TEST_ISSUE_NUMBER, TEST_ISSUE_NUMBER + 2));
     Mockito.verify(readingListStateHandler, Mockito.times(1))
-        .fireEvent(readingList, ReadingListEvent.comicAdded, headers);
+        .fireEvent(readingList, ReadingListEvent.comicsAdded, headers);
   }
 
   @Test
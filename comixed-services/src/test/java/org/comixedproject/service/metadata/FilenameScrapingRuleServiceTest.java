@@ -23,6 +23,7 @@ import static junit.framework.TestCase.*;
 import java.util.ArrayList;
 import java.util.List;
 import org.comixedproject.adaptors.comicbooks.FilenameScraperAdaptor;
+import org.comixedproject.adaptors.comicbooks.model.FilenameScrapingRuleSet;
 import org.comixedproject.model.metadata.FilenameMetadata;
 import org.comixedproject.model.metadata.FilenameScrapingRule;
 import org.comixedproject.repositories.metadata.FilenameScrapingRuleRepository;
@@ -31,6 +32,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.*;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @RunWith(MockitoJUnitRunner.class)
 public class FilenameScrapingRuleServiceTest {
@@ -50,6 +54,9 @@ public class FilenameScrapingRuleServiceTest {
   @Mock private List<FilenameScrapingRule> savedRuleList;
   @Mock private FilenameScrapingRule filenameScrapingRule;
   @Mock private FilenameMetadata filenameMetadata;
+  @Mock private FilenameScrapingRuleSet filenameScrapingRuleSet;
+  @Mock private List<String> filenameList;
+  @Mock private List<FilenameMetadata> filenameMetadataList;
 
   @Captor private ArgumentCaptor<List<FilenameScrapingRule>> ruleListArgumentCaptor;
 
@@ -57,6 +64,7 @@ public class FilenameScrapingRuleServiceTest {
 
   @Before
   public void setUp() {
+    ReflectionTestUtils.setField(service, "ruleSet", null);
     filenameScrapingRuleList.add(filenameScrapingRule);
 
     Mockito.when(filenameScrapingRule.getPriority()).thenReturn(TEST_PRIORITY);
@@ -109,42 +117,116 @@ public class FilenameScrapingRuleServiceTest {
     Mockito.verify(filenameScrapingRuleRepository, Mockito.times(1)).deleteAll();
     Mockito.verify(filenameScrapingRuleRepository, Mockito.times(1)).flush();
     Mockito.verify(filenameScrapingRuleRepository, Mockito.times(1)).saveAll(savedRules);
+    Mockito.verify(filenameScraperAdaptor, Mockito.times(1)).compileRules(savedRules);
   }
 
   @Test
   public void testLoadFilenameMetadata() {
     Mockito.when(filenameScrapingRuleRepository.findAll()).thenReturn(filenameScrapingRuleList);
-    Mockito.when(
-            filenameScraperAdaptor.execute(
-                Mockito.anyString(), Mockito.any(FilenameScrapingRule.class)))
-        .thenReturn(filenameMetadata);
-    Mockito.when(filenameMetadata.isFound()).thenReturn(true);
+    Mockito.when(filenameScraperAdaptor.compileRules(Mockito.anyList()))
+        .thenReturn(filenameScrapingRuleSet);
+    Mockito.when(filenameScrapingRuleSet.apply(Mockito.anyString())).thenReturn(filenameMetadata);
 
     final FilenameMetadata result = service.loadFilenameMetadata(TEST_FILENAME);
 
     assertNotNull(result);
     assertSame(filenameMetadata, result);
 
-    Mockito.verify(filenameScraperAdaptor, Mockito.times(1))
-        .execute(TEST_FILENAME, filenameScrapingRule);
+    Mockito.verify(filenameScraperAdaptor, Mockito.times(1)).compileRules(filenameScrapingRuleList);
+    Mockito.verify(filenameScrapingRuleSet, Mockito.times(1)).apply(TEST_FILENAME);
   }
 
   @Test
-  public void testLoadFilenameMetadataNotLoaded() {
+  public void testLoadFilenameMetadataUsesCachedRules() {
     Mockito.when(filenameScrapingRuleRepository.findAll()).thenReturn(filenameScrapingRuleList);
-    Mockito.when(
-            filenameScraperAdaptor.execute(
-                Mockito.anyString(), Mockito.any(FilenameScrapingRule.class)))
-        .thenReturn(filenameMetadata);
-    Mockito.when(filenameMetadata.isFound()).thenReturn(false);
+    Mockito.when(filenameScraperAdaptor.compileRules(Mockito.anyList()))
+        .thenReturn(filenameScrapingRuleSet);
+    Mockito.when(filenameScrapingRuleSet.apply(Mockito.anyString())).thenReturn(filenameMetadata);
 
-    final FilenameMetadata result = service.loadFilenameMetadata(TEST_FILENAME);
+    service.loadFilenameMetadata(TEST_FILENAME);
+    service.loadFilenameMetadata(TEST_FILENAME);
+
+    Mockito.verify(filenameScrapingRuleRepository, Mockito.times(1)).findAll();
+    Mockito.verify(filenameScraperAdaptor, Mockito.times(1)).compileRules(filenameScrapingRuleList);
+    Mockito.verify(filenameScrapingRuleSet, Mockito.times(2)).apply(TEST_FILENAME);
+  }
+
+  @Test
+  public void testLoadFilenameMetadataForList() {
+    Mockito.when(filenameScrapingRuleRepository.findAll()).thenReturn(filenameScrapingRuleList);
+    Mockito.when(filenameScraperAdaptor.compileRules(Mockito.anyList()))
+        .thenReturn(filenameScrapingRuleSet);
+    Mockito.when(filenameScrapingRuleSet.applyAll(Mockito.anyList()))
+        .thenReturn(filenameMetadataList);
+
+    final List<FilenameMetadata> result = service.loadFilenameMetadata(filenameList);
 
     assertNotNull(result);
-    assertNotSame(filenameMetadata, result);
-    assertFalse(result.isFound());
+    assertSame(filenameMetadataList, result);
+
+    Mockito.verify(filenameScrapingRuleSet, Mockito.times(1)).applyAll(filenameList);
+  }
+
+  @Test
+  public void testSaveRulesReplacesCachedRules() {
+    Mockito.when(filenameScrapingRuleRepository.saveAll(Mockito.anyList()))
+        .thenReturn(savedRuleList);
+    Mockito.when(filenameScraperAdaptor.compileRules(Mockito.anyList()))
+        .thenReturn(filenameScrapingRuleSet);
+
+    service.saveRules(filenameScrapingRuleList);
+    final FilenameScrapingRuleSet result = service.getRuleSet();
 
-    Mockito.verify(filenameScraperAdaptor, Mockito.times(1))
-        .execute(TEST_FILENAME, filenameScrapingRule);
+    assertSame(filenameScrapingRuleSet, result);
+
+    Mockito.verify(filenameScrapingRuleRepository, Mockito.never()).findAll();
+  }
+
+  @Test
+  public void testSaveRulesReplacesCachedRulesAfterCommit() {
+    final FilenameScrapingRuleSet cachedRuleSet = Mockito.mock(FilenameScrapingRuleSet.class);
+    ReflectionTestUtils.setField(service, "ruleSet", cachedRuleSet);
+    Mockito.when(filenameScrapingRuleRepository.saveAll(Mockito.anyList()))
+        .thenReturn(savedRuleList);
+    Mockito.when(filenameScraperAdaptor.compileRules(Mockito.anyList()))
+        .thenReturn(filenameScrapingRuleSet);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      service.saveRules(filenameScrapingRuleList);
+
+      assertSame(cachedRuleSet, service.getRuleSet());
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertSame(filenameScrapingRuleSet, service.getRuleSet());
+  }
+
+  @Test
+  public void testSaveRulesRolledBackKeepsCachedRules() {
+    final FilenameScrapingRuleSet cachedRuleSet = Mockito.mock(FilenameScrapingRuleSet.class);
+    ReflectionTestUtils.setField(service, "ruleSet", cachedRuleSet);
+    Mockito.when(filenameScrapingRuleRepository.saveAll(Mockito.anyList()))
+        .thenReturn(savedRuleList);
+    Mockito.when(filenameScraperAdaptor.compileRules(Mockito.anyList()))
+        .thenReturn(filenameScrapingRuleSet);
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      service.saveRules(filenameScrapingRuleList);
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(
+              synchronization ->
+                  synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertSame(cachedRuleSet, service.getRuleSet());
   }
 }
@@ -27,6 +27,7 @@ import static junit.framework.TestCase.assertTrue;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -56,6 +57,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MetadataServiceTest {
@@ -103,12 +105,14 @@ public class MetadataServiceTest {
 
   @Captor private ArgumentCaptor<List<Issue>> issueListArgumentCaptor;
 
+  private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
   private List<String> cachedEntryList = new ArrayList<>();
   private List<VolumeMetadata> fetchedVolumeList = new ArrayList<>();
   private List<IssueDetailsMetadata> issueDetailsMetadataList = new ArrayList<>();
 
   @Before
   public void setUp() throws MetadataSourceException, MetadataException {
+    ReflectionTestUtils.setField(metadataService, "meterRegistry", meterRegistry);
     Mockito.when(configurationService.isFeatureEnabled(Mockito.anyString())).thenReturn(true);
     Mockito.when(loadedComicBook.getComicDetail()).thenReturn(loadedComicDetail);
 
@@ -269,6 +273,22 @@ public class MetadataServiceTest {
       assertEquals(TEST_ENCODED_VALUE, entryList.get(index));
     }
 
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get(MetadataService.LOOKUPS_METRIC)
+            .tag("lookup", MetadataService.VOLUMES_LOOKUP)
+            .tag("origin", "remote")
+            .counter()
+            .count());
+    assertEquals(
+        1L,
+        meterRegistry
+            .get(MetadataService.REMOTE_LOOKUP_METRIC)
+            .tag("lookup", MetadataService.VOLUMES_LOOKUP)
+            .timer()
+            .count());
+
     Mockito.verify(metadataSourceService, Mockito.times(1)).getById(TEST_METADATA_SOURCE_ID);
     Mockito.verify(metadataAdaptor, Mockito.times(1))
         .getVolumes(TEST_SERIES_NAME, TEST_MAX_RECORDS, metadataSource);
@@ -331,6 +351,16 @@ public class MetadataServiceTest {
       assertSame(volumeMetadata, result.get(index));
     }
 
+    assertEquals(
+        1.0,
+        meterRegistry
+            .get(MetadataService.LOOKUPS_METRIC)
+            .tag("lookup", MetadataService.VOLUMES_LOOKUP)
+            .tag("origin", "cache")
+            .counter()
+            .count());
+    assertNull(meterRegistry.find(MetadataService.REMOTE_LOOKUP_METRIC).timer());
+
     Mockito.verify(metadataSourceService, Mockito.times(1)).getById(TEST_METADATA_SOURCE_ID);
     Mockito.verify(metadataCacheService, Mockito.times(1))
         .getFromCache(TEST_CACHE_SOURCE, TEST_VOLUME_KEY);
@@ -18,6 +18,7 @@
 
 package org.comixedproject.service.user;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
 
@@ -30,17 +31,21 @@ import org.comixedproject.repositories.users.ComiXedUserRepository;
 import org.hibernate.exception.ConstraintViolationException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 
 @RunWith(MockitoJUnitRunner.class)
 @SpringBootTest
 public class UserServiceTest {
   private static final long TEST_USER_ID = 73L;
   private static final String TEST_EMAIL = "user@somedomain.com";
+  private static final String TEST_ORIGINAL_EMAIL = "original@somedomain.com";
   private static final String TEST_PASSWORD = "Th1s!15!my!p456w0rd!";
   private static final String TEST_PASSWORD_HASH = "the password hashed";
   private static final String TEST_PROPERTY_NAME = "some.property.name";
@@ -52,6 +57,9 @@ public class UserServiceTest {
   @Mock private GenericUtilitiesAdaptor genericUtilitiesAdaptor;
   @Mock private ComiXedUser user;
   @Mock private ComiXedUser userRecord;
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
+
+  @Captor private ArgumentCaptor<UserAccountChangedEvent> userAccountChangedEventArgumentCaptor;
 
   @Test(expected = ComiXedUserException.class)
   public void testFindByEmailDoesNotExist() throws ComiXedUserException {
@@ -222,11 +230,16 @@ public class UserServiceTest {
     Mockito.when(genericUtilitiesAdaptor.createHash(Mockito.any(byte[].class)))
         .thenReturn(TEST_PASSWORD_HASH);
     Mockito.when(userRepository.save(user)).thenReturn(userRecord);
+    Mockito.when(user.getEmail()).thenReturn(TEST_ORIGINAL_EMAIL);
+    Mockito.doNothing()
+        .when(applicationEventPublisher)
+        .publishEvent(userAccountChangedEventArgumentCaptor.capture());
 
     final ComiXedUser result = service.updateCurrentUser(TEST_USER_ID, TEST_EMAIL, TEST_PASSWORD);
 
     assertNotNull(result);
     assertSame(userRecord, result);
+    assertEquals(TEST_ORIGINAL_EMAIL, userAccountChangedEventArgumentCaptor.getValue().getEmail());
 
     Mockito.verify(userRepository, Mockito.times(1)).getById(TEST_USER_ID);
     Mockito.verify(user, Mockito.times(1)).setEmail(TEST_EMAIL);
@@ -20,9 +20,13 @@ package org.comixedproject.state;
 
 import static org.comixedproject.state.comicbooks.ComicStateHandler.HEADER_COMIC;
 import static org.comixedproject.state.comicbooks.ComicStateHandler.HEADER_USER;
+import static org.comixedproject.state.lists.ReadingListStateHandler.HEADER_COMIC_DETAILS;
 import static org.comixedproject.state.lists.ReadingListStateHandler.HEADER_READING_LIST;
 
+import java.util.Collections;
+import java.util.List;
 import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.model.comicbooks.ComicDetail;
 import org.comixedproject.model.lists.ReadingList;
 import org.comixedproject.model.user.ComiXedUser;
 import org.springframework.statemachine.StateContext;
@@ -44,6 +48,19 @@ public class StateContextAccessor {
     return context.getMessageHeaders().get(HEADER_COMIC, ComicBook.class);
   }
 
+  /**
+   * Retrieves a batch of comic details from the state context.
+   *
+   * @param context the context
+   * @return the comic details
+   */
+  @SuppressWarnings("unchecked")
+  protected List<ComicDetail> fetchComicDetails(final StateContext<?, ?> context) {
+    final List<ComicDetail> result =
+        context.getMessageHeaders().get(HEADER_COMIC_DETAILS, List.class);
+    return result != null ? result : Collections.emptyList();
+  }
+
   /**
    * Retrieves a reading list from the state context.
    *
@@ -36,6 +36,8 @@ public enum ComicEvent {
   blockedPagesMarked,
   // the contents have been processed
   contentsProcessed,
+  // the file contents were loaded, blocked pages marked and metadata source created in one pass
+  comicProcessed,
   // rescan a comic,
   rescanComic,
   // prepare to update the metadata within the physical comic file
@@ -18,9 +18,13 @@
 
 package org.comixedproject.state.comicbooks;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.model.comicbooks.ComicBook;
@@ -29,17 +33,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.config.StateMachineFactory;
 import org.springframework.statemachine.state.State;
 import org.springframework.statemachine.support.DefaultStateMachineContext;
 import org.springframework.statemachine.support.LifecycleObjectSupport;
 import org.springframework.statemachine.support.StateMachineInterceptorAdapter;
 import org.springframework.statemachine.transition.Transition;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 /**
  * <code>ComicStateHandler</code> handles firing actions and notifying listeners for state changes
  * on {@link ComicBook} instances.
  *
+ * <p>The time spent handling each event, and in each listener, is recorded so that the event rate
+ * and slow listeners are visible through the metrics endpoint.
+ *
  * @author Darryl L. Pierce
  */
 @Component
@@ -50,30 +59,17 @@ public class ComicStateHandler extends LifecycleObjectSupport {
   public static final String HEADER_TARGET_DIRECTORY = "header.target-directory";
   public static final String HEADER_RENAMING_RULE = "header.renaming-rule";
   public static final String HEADER_USER = "header.user";
+  static final String EVENT_METRIC = "comixed.comic-state.event";
+  static final String LISTENER_METRIC = "comixed.comic-state.listener";
 
-  @Autowired private StateMachine<ComicState, ComicEvent> stateMachine;
+  @Autowired private StateMachineFactory<ComicState, ComicEvent> stateMachineFactory;
 
-  private Set<ComicStateChangeListener> listeners = new HashSet<>();
+  private StateMachine<ComicState, ComicEvent> stateMachine;
 
-  @Override
-  protected void onInit() throws Exception {
-    this.stateMachine
-        .getStateMachineAccessor()
-        .doWithAllRegions(
-            function ->
-                function.addStateMachineInterceptor(
-                    new StateMachineInterceptorAdapter<>() {
-                      @Override
-                      public void postStateChange(
-                          final State<ComicState, ComicEvent> state,
-                          final Message<ComicEvent> message,
-                          final Transition<ComicState, ComicEvent> transition,
-                          final StateMachine<ComicState, ComicEvent> stateMachine,
-                          final StateMachine<ComicState, ComicEvent> rootStateMachine) {
-                        listeners.forEach(listener -> listener.onComicStateChange(state, message));
-                      }
-                    }));
-  }
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+  private Set<ComicStateChangeListener> listeners = new HashSet<>();
 
   /**
    * Adds a listener.
@@ -110,15 +106,63 @@ public class ComicStateHandler extends LifecycleObjectSupport {
             .copyHeaders(headers)
             .setHeader(HEADER_COMIC, comicBook)
             .build();
-    this.stateMachine.stop();
-    this.stateMachine
-        .getStateMachineAccessor()
-        .doWithAllRegions(
-            access ->
-                access.resetStateMachine(
-                    new DefaultStateMachineContext<>(
-                        comicBook.getComicDetail().getComicState(), null, null, null)));
-    this.stateMachine.start();
-    this.stateMachine.sendEvent(message);
+    final Timer.Sample sample = Timer.start(this.meterRegistry);
+    String outcome = "failure";
+    try {
+      final StateMachine<ComicState, ComicEvent> machine = this.getStateMachine();
+      machine.stop();
+      machine
+          .getStateMachineAccessor()
+          .doWithAllRegions(
+              access ->
+                  access.resetStateMachine(
+                      new DefaultStateMachineContext<>(
+                          comicBook.getComicDetail().getComicState(), null, null, null)));
+      machine.start();
+      machine.sendEvent(message);
+      outcome = "success";
+    } finally {
+      sample.stop(
+          Timer.builder(EVENT_METRIC)
+              .description("Time spent handling comic state events")
+              .tag("event", event.name())
+              .tag("outcome", outcome)
+              .register(this.meterRegistry));
+    }
+  }
+
+  private void doNotifyListener(
+      final ComicStateChangeListener listener,
+      final State<ComicState, ComicEvent> state,
+      final Message<ComicEvent> message) {
+    Timer.builder(LISTENER_METRIC)
+        .description("Time spent in comic state change listeners")
+        .tag("listener", ClassUtils.getUserClass(listener).getSimpleName())
+        .register(this.meterRegistry)
+        .record(() -> listener.onComicStateChange(state, message));
+  }
+
+  private synchronized StateMachine<ComicState, ComicEvent> getStateMachine() {
+    if (Objects.isNull(this.stateMachine)) {
+      log.debug("Creating comic state machine");
+      this.stateMachine = this.stateMachineFactory.getStateMachine();
+      this.stateMachine
+          .getStateMachineAccessor()
+          .doWithAllRegions(
+              function ->
+                  function.addStateMachineInterceptor(
+                      new StateMachineInterceptorAdapter<>() {
+                        @Override
+                        public void postStateChange(
+                            final State<ComicState, ComicEvent> state,
+                            final Message<ComicEvent> message,
+                            final Transition<ComicState, ComicEvent> transition,
+                            final StateMachine<ComicState, ComicEvent> stateMachine,
+                            final StateMachine<ComicState, ComicEvent> rootStateMachine) {
+                          listeners.forEach(listener -> doNotifyListener(listener, state, message));
+                        }
+                      }));
+    }
+    return this.stateMachine;
   }
 }
@@ -25,7 +25,7 @@ import org.comixedproject.state.comicbooks.actions.*;
 import org.comixedproject.state.comicbooks.guards.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.statemachine.config.EnableStateMachine;
+import org.springframework.statemachine.config.EnableStateMachineFactory;
 import org.springframework.statemachine.config.EnumStateMachineConfigurerAdapter;
 import org.springframework.statemachine.config.builders.StateMachineStateConfigurer;
 import org.springframework.statemachine.config.builders.StateMachineTransitionConfigurer;
@@ -37,13 +37,14 @@ import org.springframework.statemachine.config.builders.StateMachineTransitionCo
  * @author Darryl L. Pierce
  */
 @Configuration
-@EnableStateMachine(name = "comicStateMachine")
+@EnableStateMachineFactory(name = "comicStateMachineFactory")
 public class ComicStateMachineConfiguration
     extends EnumStateMachineConfigurerAdapter<ComicState, ComicEvent> {
   @Autowired private PrepareComicForProcessingAction prepareComicForProcessingAction;
   @Autowired private FileContentsLoadedAction fileContentsLoadedAction;
   @Autowired private MetadataSourceCreatedAction metadataSourceCreatedAction;
   @Autowired private BlockedPagesMarkedAction blockedPagesMarkedAction;
+  @Autowired private ComicProcessedAction comicProcessedAction;
   @Autowired private ComicContentsProcessedGuard comicContentsProcessedGuard;
   @Autowired private UpdateMetadataAction updateMetadataAction;
   @Autowired private MetadataUpdatedAction metadataUpdatedAction;
@@ -125,6 +126,13 @@ public class ComicStateMachineConfiguration
         .target(ComicState.STABLE)
         .event(ComicEvent.contentsProcessed)
         .guard(comicContentsProcessedGuard)
+        // all comic content was processed in a single pass
+        .and()
+        .withExternal()
+        .source(ComicState.UNPROCESSED)
+        .target(ComicState.STABLE)
+        .event(ComicEvent.comicProcessed)
+        .action(comicProcessedAction)
         // the comic file was reprocessed and the database details overwritten
         .and()
         .withExternal()
@@ -21,6 +21,7 @@ package org.comixedproject.state.comicpages;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.model.comicpages.Page;
@@ -29,6 +30,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.config.StateMachineFactory;
 import org.springframework.statemachine.state.State;
 import org.springframework.statemachine.support.DefaultStateMachineContext;
 import org.springframework.statemachine.support.LifecycleObjectSupport;
@@ -46,29 +48,11 @@ import org.springframework.stereotype.Component;
 @Log4j2
 public class PageStateHandler extends LifecycleObjectSupport {
   public static final String HEADER_PAGE = "header.page";
-  @Autowired private StateMachine<PageState, PageEvent> stateMachine;
+  @Autowired private StateMachineFactory<PageState, PageEvent> stateMachineFactory;
 
-  private Set<PageStateChangeListener> listeners = new HashSet<>();
+  private StateMachine<PageState, PageEvent> stateMachine;
 
-  @Override
-  protected void onInit() throws Exception {
-    this.stateMachine
-        .getStateMachineAccessor()
-        .doWithAllRegions(
-            function ->
-                function.addStateMachineInterceptor(
-                    new StateMachineInterceptorAdapter<>() {
-                      @Override
-                      public void postStateChange(
-                          final State<PageState, PageEvent> state,
-                          final Message<PageEvent> message,
-                          final Transition<PageState, PageEvent> transition,
-                          final StateMachine<PageState, PageEvent> stateMachine,
-                          final StateMachine<PageState, PageEvent> rootStateMachine) {
-                        listeners.forEach(listener -> listener.onPageStateChange(state, message));
-                      }
-                    }));
-  }
+  private Set<PageStateChangeListener> listeners = new HashSet<>();
 
   /**
    * Adds a listener.
@@ -101,14 +85,39 @@ public class PageStateHandler extends LifecycleObjectSupport {
     log.debug("Firing page event: {} => {}", page.getId(), event);
     final Message<PageEvent> message =
         MessageBuilder.withPayload(event).copyHeaders(headers).setHeader(HEADER_PAGE, page).build();
-    this.stateMachine.stop();
-    this.stateMachine
+    final StateMachine<PageState, PageEvent> machine = this.getStateMachine();
+    machine.stop();
+    machine
         .getStateMachineAccessor()
         .doWithAllRegions(
             access ->
                 access.resetStateMachine(
                     new DefaultStateMachineContext<>(page.getPageState(), null, null, null)));
-    this.stateMachine.start();
-    this.stateMachine.sendEvent(message);
+    machine.start();
+    machine.sendEvent(message);
+  }
+
+  private synchronized StateMachine<PageState, PageEvent> getStateMachine() {
+    if (Objects.isNull(this.stateMachine)) {
+      log.debug("Creating page state machine");
+      this.stateMachine = this.stateMachineFactory.getStateMachine();
+      this.stateMachine
+          .getStateMachineAccessor()
+          .doWithAllRegions(
+              function ->
+                  function.addStateMachineInterceptor(
+                      new StateMachineInterceptorAdapter<>() {
+                        @Override
+                        public void postStateChange(
+                            final State<PageState, PageEvent> state,
+                            final Message<PageEvent> message,
+                            final Transition<PageState, PageEvent> transition,
+                            final StateMachine<PageState, PageEvent> stateMachine,
+                            final StateMachine<PageState, PageEvent> rootStateMachine) {
+                          listeners.forEach(listener -> listener.onPageStateChange(state, message));
+                        }
+                      }));
+    }
+    return this.stateMachine;
   }
 }
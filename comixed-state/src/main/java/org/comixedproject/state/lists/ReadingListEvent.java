@@ -31,5 +31,7 @@ public enum ReadingListEvent {
   updated,
   comicAdded,
   comicRemoved,
+  comicsAdded, // a batch of comics has been added to the reading list
+  comicsRemoved, // a batch of comics has been removed from the reading list
   deleted
 }
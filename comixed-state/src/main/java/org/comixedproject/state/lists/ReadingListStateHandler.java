@@ -21,6 +21,7 @@ package org.comixedproject.state.lists;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.model.lists.ReadingList;
@@ -29,6 +30,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.config.StateMachineFactory;
 import org.springframework.statemachine.state.State;
 import org.springframework.statemachine.support.DefaultStateMachineContext;
 import org.springframework.statemachine.support.LifecycleObjectSupport;
@@ -46,31 +48,13 @@ import org.springframework.stereotype.Component;
 @Log4j2
 public class ReadingListStateHandler extends LifecycleObjectSupport {
   public static final String HEADER_READING_LIST = "ReadingList";
+  public static final String HEADER_COMIC_DETAILS = "ComicDetails";
 
-  @Autowired private StateMachine<ReadingListState, ReadingListEvent> stateMachine;
+  @Autowired private StateMachineFactory<ReadingListState, ReadingListEvent> stateMachineFactory;
 
-  private Set<ReadingListStateChangeListener> listeners = new HashSet<>();
+  private StateMachine<ReadingListState, ReadingListEvent> stateMachine;
 
-  @Override
-  protected void onInit() throws Exception {
-    this.stateMachine
-        .getStateMachineAccessor()
-        .doWithAllRegions(
-            function ->
-                function.addStateMachineInterceptor(
-                    new StateMachineInterceptorAdapter<>() {
-                      @Override
-                      public void postStateChange(
-                          final State<ReadingListState, ReadingListEvent> state,
-                          final Message<ReadingListEvent> message,
-                          final Transition<ReadingListState, ReadingListEvent> transition,
-                          final StateMachine<ReadingListState, ReadingListEvent> stateMachine,
-                          final StateMachine<ReadingListState, ReadingListEvent> rootStateMachine) {
-                        listeners.forEach(
-                            listener -> listener.onReadingListStateChange(state, message));
-                      }
-                    }));
-  }
+  private Set<ReadingListStateChangeListener> listeners = new HashSet<>();
 
   /**
    * Adds a listener.
@@ -107,15 +91,42 @@ public class ReadingListStateHandler extends LifecycleObjectSupport {
             .copyHeaders(headers)
             .setHeader(HEADER_READING_LIST, readingList)
             .build();
-    this.stateMachine.stop();
-    this.stateMachine
+    final StateMachine<ReadingListState, ReadingListEvent> machine = this.getStateMachine();
+    machine.stop();
+    machine
         .getStateMachineAccessor()
         .doWithAllRegions(
             access ->
                 access.resetStateMachine(
                     new DefaultStateMachineContext<>(
                         readingList.getReadingListState(), null, null, null)));
-    this.stateMachine.start();
-    this.stateMachine.sendEvent(message);
+    machine.start();
+    machine.sendEvent(message);
+  }
+
+  private synchronized StateMachine<ReadingListState, ReadingListEvent> getStateMachine() {
+    if (Objects.isNull(this.stateMachine)) {
+      log.debug("Creating reading list state machine");
+      this.stateMachine = this.stateMachineFactory.getStateMachine();
+      this.stateMachine
+          .getStateMachineAccessor()
+          .doWithAllRegions(
+              function ->
+                  function.addStateMachineInterceptor(
+                      new StateMachineInterceptorAdapter<>() {
+                        @Override
+                        public void postStateChange(
+                            final State<ReadingListState, ReadingListEvent> state,
+                            final Message<ReadingListEvent> message,
+                            final Transition<ReadingListState, ReadingListEvent> transition,
+                            final StateMachine<ReadingListState, ReadingListEvent> stateMachine,
+                            final StateMachine<ReadingListState, ReadingListEvent>
+                                rootStateMachine) {
+                          listeners.forEach(
+                              listener -> listener.onReadingListStateChange(state, message));
+                        }
+                      }));
+    }
+    return this.stateMachine;
   }
 }
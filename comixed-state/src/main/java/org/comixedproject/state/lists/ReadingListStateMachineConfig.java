@@ -22,12 +22,14 @@ import java.util.EnumSet;
 import org.comixedproject.model.lists.ReadingList;
 import org.comixedproject.model.lists.ReadingListState;
 import org.comixedproject.state.lists.actions.AddComicToReadingListAction;
+import org.comixedproject.state.lists.actions.AddComicsToReadingListAction;
 import org.comixedproject.state.lists.actions.RemoveComicFromReadingListAction;
+import org.comixedproject.state.lists.actions.RemoveComicsFromReadingListAction;
 import org.comixedproject.state.lists.guards.ComicIsInReadingListGuard;
 import org.comixedproject.state.lists.guards.ComicIsNotInReadingListGuard;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.statemachine.config.EnableStateMachine;
+import org.springframework.statemachine.config.EnableStateMachineFactory;
 import org.springframework.statemachine.config.EnumStateMachineConfigurerAdapter;
 import org.springframework.statemachine.config.builders.StateMachineStateConfigurer;
 import org.springframework.statemachine.config.builders.StateMachineTransitionConfigurer;
@@ -39,13 +41,15 @@ import org.springframework.statemachine.config.builders.StateMachineTransitionCo
  * @author Darryl L. Pierce
  */
 @Configuration
-@EnableStateMachine(name = "readingListStateMachine")
+@EnableStateMachineFactory(name = "readingListStateMachineFactory")
 public class ReadingListStateMachineConfig
     extends EnumStateMachineConfigurerAdapter<ReadingListState, ReadingListEvent> {
   @Autowired private ComicIsInReadingListGuard comicIsInReadingListGuard;
   @Autowired private RemoveComicFromReadingListAction removeComicFromReadingListAction;
   @Autowired private ComicIsNotInReadingListGuard comicIsNotInReadingListGuard;
   @Autowired private AddComicToReadingListAction addComicToReadingListAction;
+  @Autowired private AddComicsToReadingListAction addComicsToReadingListAction;
+  @Autowired private RemoveComicsFromReadingListAction removeComicsFromReadingListAction;
 
   @Override
   public void configure(
@@ -89,6 +93,20 @@ public class ReadingListStateMachineConfig
         .event(ReadingListEvent.comicRemoved)
         .guard(comicIsInReadingListGuard)
         .action(removeComicFromReadingListAction)
+        // a batch of comics has been added to the reading list
+        .and()
+        .withExternal()
+        .source(ReadingListState.STABLE)
+        .target(ReadingListState.STABLE)
+        .event(ReadingListEvent.comicsAdded)
+        .action(addComicsToReadingListAction)
+        // a batch of comics has been removed from the reading list
+        .and()
+        .withExternal()
+        .source(ReadingListState.STABLE)
+        .target(ReadingListState.STABLE)
+        .event(ReadingListEvent.comicsRemoved)
+        .action(removeComicsFromReadingListAction)
         // the reading list has been deleted
         .and()
         .withExternal()
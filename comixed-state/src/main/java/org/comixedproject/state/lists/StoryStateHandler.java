@@ -21,6 +21,7 @@ package org.comixedproject.state.lists;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import lombok.extern.log4j.Log4j2;
 import org.comixedproject.model.lists.Story;
@@ -29,6 +30,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.statemachine.StateMachine;
+import org.springframework.statemachine.config.StateMachineFactory;
 import org.springframework.statemachine.state.State;
 import org.springframework.statemachine.support.DefaultStateMachineContext;
 import org.springframework.statemachine.support.LifecycleObjectSupport;
@@ -47,29 +49,11 @@ import org.springframework.stereotype.Component;
 public class StoryStateHandler extends LifecycleObjectSupport {
   public static final String HEADER_STORY = "Story";
 
-  @Autowired private StateMachine<StoryState, StoryEvent> stateMachine;
+  @Autowired private StateMachineFactory<StoryState, StoryEvent> stateMachineFactory;
 
-  private Set<StoryStateChangeListener> listeners = new HashSet<>();
+  private StateMachine<StoryState, StoryEvent> stateMachine;
 
-  @Override
-  protected void onInit() throws Exception {
-    this.stateMachine
-        .getStateMachineAccessor()
-        .doWithAllRegions(
-            function ->
-                function.addStateMachineInterceptor(
-                    new StateMachineInterceptorAdapter<>() {
-                      @Override
-                      public void postStateChange(
-                          final State<StoryState, StoryEvent> state,
-                          final Message<StoryEvent> message,
-                          final Transition<StoryState, StoryEvent> transition,
-                          final StateMachine<StoryState, StoryEvent> stateMachine,
-                          final StateMachine<StoryState, StoryEvent> rootStateMachine) {
-                        listeners.forEach(listener -> listener.onStoryStateChange(state, message));
-                      }
-                    }));
-  }
+  private Set<StoryStateChangeListener> listeners = new HashSet<>();
 
   /**
    * Adds a listener.
@@ -105,14 +89,40 @@ public class StoryStateHandler extends LifecycleObjectSupport {
             .copyHeaders(headers)
             .setHeader(HEADER_STORY, story)
             .build();
-    this.stateMachine.stop();
-    this.stateMachine
+    final StateMachine<StoryState, StoryEvent> machine = this.getStateMachine();
+    machine.stop();
+    machine
         .getStateMachineAccessor()
         .doWithAllRegions(
             access ->
                 access.resetStateMachine(
                     new DefaultStateMachineContext<>(story.getStoryState(), null, null, null)));
-    this.stateMachine.start();
-    this.stateMachine.sendEvent(message);
+    machine.start();
+    machine.sendEvent(message);
+  }
+
+  private synchronized StateMachine<StoryState, StoryEvent> getStateMachine() {
+    if (Objects.isNull(this.stateMachine)) {
+      log.debug("Creating story state machine");
+      this.stateMachine = this.stateMachineFactory.getStateMachine();
+      this.stateMachine
+          .getStateMachineAccessor()
+          .doWithAllRegions(
+              function ->
+                  function.addStateMachineInterceptor(
+                      new StateMachineInterceptorAdapter<>() {
+                        @Override
+                        public void postStateChange(
+                            final State<StoryState, StoryEvent> state,
+                            final Message<StoryEvent> message,
+                            final Transition<StoryState, StoryEvent> transition,
+                            final StateMachine<StoryState, StoryEvent> stateMachine,
+                            final StateMachine<StoryState, StoryEvent> rootStateMachine) {
+                          listeners.forEach(
+                              listener -> listener.onStoryStateChange(state, message));
+                        }
+                      }));
+    }
+    return this.stateMachine;
   }
 }
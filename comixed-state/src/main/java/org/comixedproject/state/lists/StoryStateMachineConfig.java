@@ -22,7 +22,7 @@ import java.util.EnumSet;
 import org.comixedproject.model.lists.Story;
 import org.comixedproject.model.lists.StoryState;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.statemachine.config.EnableStateMachine;
+import org.springframework.statemachine.config.EnableStateMachineFactory;
 import org.springframework.statemachine.config.EnumStateMachineConfigurerAdapter;
 import org.springframework.statemachine.config.builders.StateMachineStateConfigurer;
 import org.springframework.statemachine.config.builders.StateMachineTransitionConfigurer;
@@ -34,7 +34,7 @@ import org.springframework.statemachine.config.builders.StateMachineTransitionCo
  * @author Darryl L. Pierce
  */
 @Configuration
-@EnableStateMachine(name = "storyStateMachine")
+@EnableStateMachineFactory(name = "storyStateMachineFactory")
 public class StoryStateMachineConfig
     extends EnumStateMachineConfigurerAdapter<StoryState, StoryEvent> {
   @Override
@@ -0,0 +1,54 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.state.lists.actions;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.log4j.Log4j2;
+import org.comixedproject.model.comicbooks.ComicDetail;
+import org.comixedproject.model.lists.ReadingList;
+import org.comixedproject.model.lists.ReadingListState;
+import org.comixedproject.state.lists.ReadingListEvent;
+import org.springframework.statemachine.StateContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * <code>AddComicsToReadingListAction</code> adds a batch of comics to a reading list, skipping any
+ * that are already in the list.
+ *
+ * @author Darryl L. Pierce
+ */
+@Component
+@Log4j2
+public class AddComicsToReadingListAction extends AbstractReadingListAction {
+  @Override
+  public void execute(final StateContext<ReadingListState, ReadingListEvent> context) {
+    log.trace("Fetching reading list");
+    final ReadingList readingList = this.fetchReadingList(context);
+    log.trace("Fetching comic details");
+    final List<ComicDetail> comicDetails = this.fetchComicDetails(context);
+    final Set<Long> existing = new HashSet<>();
+    readingList.getEntries().forEach(entry -> existing.add(entry.getId()));
+    final List<ComicDetail> added =
+        comicDetails.stream().filter(comicDetail -> existing.add(comicDetail.getId())).toList();
+    log.debug("Adding {} comic(s) to reading list", added.size());
+    readingList.getEntries().addAll(added);
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * ComiXed - A digital comic book library management application.
+ * Copyright (C) 2023, The ComiXed Project
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses>
+ */
+
+package org.comixedproject.state.comicbooks.actions;
+
+import org.comixedproject.model.comicbooks.ComicBook;
+import org.comixedproject.model.comicbooks.ComicState;
+import org.comixedproject.state.comicbooks.ComicEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.statemachine.StateContext;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ComicProcessedActionTest {
+  @InjectMocks private ComicProcessedAction action;
+  @Mock private StateContext<ComicState, ComicEvent> context;
+  @Mock private MessageHeaders messageHeaders;
+  @Mock private ComicBook comicBook;
+
+  @Before
+  public void setUp() {
+    Mockito.when(context.getMessageHeaders()).thenReturn(messageHeaders);
+    Mockito.when(messageHeaders.get(Mockito.anyString(), Mockito.any(Class.class)))
+        .thenReturn(comicBook);
+  }
+
+  @Test
+  public void testExecute() {
+    action.execute(context);
+
+    Mockito.verify(comicBook, Mockito.times(1)).setFileContentsLoaded(true);
+    Mockito.verify(comicBook, Mockito.times(1)).setBlockedPagesMarked(true);
+    Mockito.verify(comicBook, Mockito.times(1)).setCreateMetadataSource(false);
+  }
+}
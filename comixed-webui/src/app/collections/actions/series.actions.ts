@@ -20,11 +20,20 @@ import { createAction, props } from '@ngrx/store';
 import { Series } from '@app/collections/models/series';
 import { Issue } from '@app/collections/models/issue';
 
-export const loadSeriesList = createAction('[Series] Load a series list');
+export const loadSeriesList = createAction(
+  '[Series] Load a series list',
+  props<{
+    searchText: string;
+    pageSize: number;
+    pageIndex: number;
+    sortBy: string;
+    sortDirection: string;
+  }>()
+);
 
 export const seriesLoaded = createAction(
   '[Series] A series list was loaded',
-  props<{ series: Series[] }>()
+  props<{ series: Series[]; totalSeries: number }>()
 );
 
 export const loadSeriesFailed = createAction(
@@ -53,6 +53,11 @@ describe('SeriesEffects', () => {
   const PUBLISHER = 'The publisher';
   const SERIES = 'The series';
   const VOLUME = '2022';
+  const SEARCH_TEXT = 'series';
+  const PAGE_SIZE = 25;
+  const PAGE_INDEX = 3;
+  const SORT_BY = 'name';
+  const SORT_DIRECTION = 'desc';
 
   let actions$: Observable<any>;
   let effects: SeriesEffects;
@@ -99,9 +104,21 @@ describe('SeriesEffects', () => {
 
   describe('loading series', () => {
     it('fires an action on success', () => {
-      const serviceResponse = { series: SERIES_LIST } as LoadSeriesListResponse;
-      const action = loadSeriesList();
-      const outcome = seriesLoaded({ series: SERIES_LIST });
+      const serviceResponse = {
+        series: SERIES_LIST,
+        totalSeries: SERIES_LIST.length
+      } as LoadSeriesListResponse;
+      const action = loadSeriesList({
+        searchText: SEARCH_TEXT,
+        pageSize: PAGE_SIZE,
+        pageIndex: PAGE_INDEX,
+        sortBy: SORT_BY,
+        sortDirection: SORT_DIRECTION
+      });
+      const outcome = seriesLoaded({
+        series: SERIES_LIST,
+        totalSeries: SERIES_LIST.length
+      });
 
       actions$ = hot('-a', { a: action });
       seriesService.loadSeries.and.returnValue(of(serviceResponse));
@@ -112,7 +129,13 @@ describe('SeriesEffects', () => {
 
     it('fires an action on service failure', () => {
       const serviceResponse = new HttpErrorResponse({});
-      const action = loadSeriesList();
+      const action = loadSeriesList({
+        searchText: SEARCH_TEXT,
+        pageSize: PAGE_SIZE,
+        pageIndex: PAGE_INDEX,
+        sortBy: SORT_BY,
+        sortDirection: SORT_DIRECTION
+      });
       const outcome = loadSeriesFailed();
 
       actions$ = hot('-a', { a: action });
@@ -124,7 +147,13 @@ describe('SeriesEffects', () => {
     });
 
     it('fires an action on general failure', () => {
-      const action = loadSeriesList();
+      const action = loadSeriesList({
+        searchText: SEARCH_TEXT,
+        pageSize: PAGE_SIZE,
+        pageIndex: PAGE_INDEX,
+        sortBy: SORT_BY,
+        sortDirection: SORT_DIRECTION
+      });
       const outcome = loadSeriesFailed();
 
       actions$ = hot('-a', { a: action });
@@ -42,21 +42,32 @@ export class SeriesEffects {
       ofType(loadSeriesList),
       tap(action => this.logger.debug('Loading series:', action)),
       switchMap(action =>
-        this.seriesService.loadSeries().pipe(
-          tap(response => this.logger.debug('Response received:', response)),
-          map((response: LoadSeriesListResponse) =>
-            seriesLoaded({ series: response.series })
-          ),
-          catchError(error => {
-            this.logger.error('Service failure:', error);
-            this.alertService.error(
-              this.translateService.instant(
-                'collections.series.load-series.effect-failure'
-              )
-            );
-            return of(loadSeriesFailed());
+        this.seriesService
+          .loadSeries({
+            searchText: action.searchText,
+            pageSize: action.pageSize,
+            pageIndex: action.pageIndex,
+            sortBy: action.sortBy,
+            sortDirection: action.sortDirection
           })
-        )
+          .pipe(
+            tap(response => this.logger.debug('Response received:', response)),
+            map((response: LoadSeriesListResponse) =>
+              seriesLoaded({
+                series: response.series,
+                totalSeries: response.totalSeries
+              })
+            ),
+            catchError(error => {
+              this.logger.error('Service failure:', error);
+              this.alertService.error(
+                this.translateService.instant(
+                  'collections.series.load-series.effect-failure'
+                )
+              );
+              return of(loadSeriesFailed());
+            })
+          )
       ),
       catchError(error => {
         this.logger.error('General failure:', error);
@@ -20,4 +20,5 @@ import { Series } from '@app/collections/models/series';
 
 export interface LoadSeriesListResponse {
   series: Series[];
+  totalSeries: number;
 }
@@ -46,11 +46,19 @@ import {
 import { MatInputModule } from '@angular/material/input';
 import { MatFormFieldModule } from '@angular/material/form-field';
 import { TitleService } from '@app/core/services/title.service';
-import { SortableListItem } from '@app/core/models/ui/sortable-list-item';
 import { Series } from '@app/collections/models/series';
-import { SERIES_1 } from '@app/collections/collections.fixtures';
+import { MockStore } from '@ngrx/store/testing';
+import { ActivatedRoute } from '@angular/router';
+import { BehaviorSubject } from 'rxjs';
+import { QueryParameterService } from '@app/core/services/query-parameter.service';
+import { loadSeriesList } from '@app/collections/actions/series.actions';
 
 describe('SeriesListPageComponent', () => {
+  const SEARCH_TEXT = 'series';
+  const PAGE_SIZE = 25;
+  const PAGE_INDEX = 3;
+  const SORT_BY = 'name';
+  const SORT_DIRECTION = 'desc';
   const initialState = {
     [USER_FEATURE_KEY]: { ...initialUserState, user: USER_ADMIN },
     [SERIES_FEATURE_KEY]: initialSeriesState,
@@ -62,6 +70,9 @@ describe('SeriesListPageComponent', () => {
   let titleService: TitleService;
   let titleServiceSpy: jasmine.Spy;
   let translateService: TranslateService;
+  let store: MockStore<any>;
+  let activatedRoute: ActivatedRoute;
+  let queryParameterService: QueryParameterService;
 
   beforeEach(async () => {
     await TestBed.configureTestingModule({
@@ -81,7 +92,17 @@ describe('SeriesListPageComponent', () => {
         MatInputModule,
         MatFormFieldModule
       ],
-      providers: [provideMockStore({ initialState }), TitleService]
+      providers: [
+        provideMockStore({ initialState }),
+        TitleService,
+        {
+          provide: ActivatedRoute,
+          useValue: {
+            queryParams: new BehaviorSubject<{}>({})
+          }
+        },
+        QueryParameterService
+      ]
     }).compileComponents();
 
     fixture = TestBed.createComponent(SeriesListPageComponent);
@@ -90,6 +111,9 @@ describe('SeriesListPageComponent', () => {
     titleService = TestBed.inject(TitleService);
     titleServiceSpy = spyOn(titleService, 'setTitle');
     translateService = TestBed.inject(TranslateService);
+    store = TestBed.inject(MockStore);
+    activatedRoute = TestBed.inject(ActivatedRoute);
+    queryParameterService = TestBed.inject(QueryParameterService);
     fixture.detectChanges();
   });
 
@@ -108,37 +132,27 @@ describe('SeriesListPageComponent', () => {
     });
   });
 
-  describe('sorting the table', () => {
-    const ENTRY = { sortOrder: 1, item: SERIES_1 } as SortableListItem<Series>;
-
-    it('can sort by publisher', () => {
-      expect(
-        component.dataSource.sortingDataAccessor(ENTRY.item, 'publisher')
-      ).toEqual(ENTRY.item.publisher);
-    });
-
-    it('can sort by series name', () => {
-      expect(
-        component.dataSource.sortingDataAccessor(ENTRY.item, 'name')
-      ).toEqual(ENTRY.item.name);
-    });
-
-    it('can sort by volume', () => {
-      expect(
-        component.dataSource.sortingDataAccessor(ENTRY.item, 'volume')
-      ).toEqual(ENTRY.item.volume);
-    });
-
-    it('can sort by total issues', () => {
-      expect(
-        component.dataSource.sortingDataAccessor(ENTRY.item, 'total-issues')
-      ).toEqual(ENTRY.item.totalIssues);
+  describe('when the query parameters change', () => {
+    beforeEach(() => {
+      spyOn(store, 'dispatch');
+      queryParameterService.filterText$.next(SEARCH_TEXT);
+      queryParameterService.pageSize$.next(PAGE_SIZE);
+      queryParameterService.pageIndex$.next(PAGE_INDEX);
+      queryParameterService.sortBy$.next(SORT_BY);
+      queryParameterService.sortDirection$.next(SORT_DIRECTION);
+      (activatedRoute.queryParams as BehaviorSubject<{}>).next({});
     });
 
-    it('can sort by comics in the library', () => {
-      expect(
-        component.dataSource.sortingDataAccessor(ENTRY.item, 'in-library')
-      ).toEqual(ENTRY.item.inLibrary);
+    it('loads the series list', () => {
+      expect(store.dispatch).toHaveBeenCalledWith(
+        loadSeriesList({
+          searchText: SEARCH_TEXT,
+          pageSize: PAGE_SIZE,
+          pageIndex: PAGE_INDEX,
+          sortBy: SORT_BY,
+          sortDirection: SORT_DIRECTION
+        })
+      );
     });
   });
 });
@@ -27,15 +27,16 @@ import { MatTableDataSource } from '@angular/material/table';
 import { Series } from '@app/collections/models/series';
 import { LoggerService } from '@angular-ru/cdk/logger';
 import { Store } from '@ngrx/store';
-import { ActivatedRoute, Router } from '@angular/router';
+import { ActivatedRoute } from '@angular/router';
 import { Subscription } from 'rxjs';
 import { User } from '@app/user/models/user';
 import { selectUser } from '@app/user/selectors/user.selectors';
-import { MatSort } from '@angular/material/sort';
 import { loadSeriesList } from '@app/collections/actions/series.actions';
-import { selectSeriesList } from '@app/collections/selectors/series.selectors';
+import {
+  selectSeriesList,
+  selectSeriesListTotal
+} from '@app/collections/selectors/series.selectors';
 import { MatPaginator } from '@angular/material/paginator';
-import { ConfirmationService } from '@tragically-slick/confirmation';
 import { TranslateService } from '@ngx-translate/core';
 import { TitleService } from '@app/core/services/title.service';
 import { isAdmin } from '@app/user/user.functions';
@@ -50,11 +51,13 @@ import { PAGE_SIZE_OPTIONS } from '@app/core';
 export class SeriesListPageComponent
   implements OnInit, OnDestroy, AfterViewInit
 {
-  @ViewChild(MatSort) sort: MatSort;
   @ViewChild(MatPaginator) paginator: MatPaginator;
 
   dataSource = new MatTableDataSource<Series>([]);
   seriesListSubscription: Subscription;
+  totalSeriesSubscription: Subscription;
+  queryParamSubscription: Subscription;
+  totalSeries = 0;
 
   readonly pageOptions = PAGE_SIZE_OPTIONS;
 
@@ -77,11 +80,9 @@ export class SeriesListPageComponent
   constructor(
     private logger: LoggerService,
     private store: Store<any>,
-    private confirmationSeries: ConfirmationService,
     private titleService: TitleService,
     private translateService: TranslateService,
     private activatedRoute: ActivatedRoute,
-    private router: Router,
     public queryParameterService: QueryParameterService
   ) {
     this.logger.trace('Subscribing to language change updates');
@@ -91,60 +92,59 @@ export class SeriesListPageComponent
     this.logger.trace('Subscribing to user updates');
     this.userSubscription = this.store.select(selectUser).subscribe(user => {
       this.user = user;
-      this.logger.trace('Loading user page size preference');
       this.isAdmin = isAdmin(user);
     });
+    this.logger.trace('Subscribing to query parameter updates');
+    this.queryParamSubscription = this.activatedRoute.queryParams.subscribe(
+      () => {
+        this.store.dispatch(
+          loadSeriesList({
+            searchText: this.queryParameterService.filterText$.value,
+            pageSize: this.queryParameterService.pageSize$.value,
+            pageIndex: this.queryParameterService.pageIndex$.value,
+            sortBy: this.queryParameterService.sortBy$.value,
+            sortDirection: this.queryParameterService.sortDirection$.value
+          })
+        );
+      }
+    );
+    this.logger.trace('Subscribing to series list updates');
     this.seriesListSubscription = this.store
       .select(selectSeriesList)
-      .subscribe(series => {
-        /* istanbul ignore next */
-        const pageIndex = this.dataSource.paginator?.pageIndex;
-        this.dataSource.data = series;
-        /* istanbul ignore if */
-        if (!!pageIndex) {
-          this.dataSource.paginator.pageIndex = pageIndex;
-        }
-      });
+      .subscribe(series => (this.dataSource.data = series));
+    this.totalSeriesSubscription = this.store
+      .select(selectSeriesListTotal)
+      .subscribe(totalSeries => (this.totalSeries = totalSeries));
   }
 
   ngOnInit(): void {
-    this.logger.trace('Loading series list');
-    this.store.dispatch(loadSeriesList());
+    this.loadTranslations();
+  }
+
+  ngAfterViewInit(): void {
+    this.loadTranslations();
   }
 
   ngOnDestroy(): void {
+    this.logger.trace('Unsubscribing from language change updates');
+    this.langChangeSubscription.unsubscribe();
     this.logger.trace('Unsubscribing from user updates');
     this.userSubscription.unsubscribe();
+    this.logger.trace('Unsubscribing from query parameter updates');
+    this.queryParamSubscription.unsubscribe();
     this.logger.trace('Unsubscribing from series list updates');
     this.seriesListSubscription.unsubscribe();
-  }
-
-  ngAfterViewInit(): void {
-    this.dataSource.sort = this.sort;
-    this.dataSource.sortingDataAccessor = (data, sortHeaderId) => {
-      switch (sortHeaderId) {
-        case 'publisher':
-          return data.publisher;
-        case 'name':
-          return data.name;
-        case 'volume':
-          return data.volume;
-        case 'total-issues':
-          return data.totalIssues;
-        case 'in-library':
-          return data.inLibrary;
-      }
-    };
-    this.dataSource.paginator = this.paginator;
-    this.loadTranslations();
+    this.totalSeriesSubscription.unsubscribe();
   }
 
   private loadTranslations(): void {
     this.titleService.setTitle(
       this.translateService.instant('collections.series.list-page.tab-title')
     );
-    this.paginator._intl.itemsPerPageLabel = this.translateService.instant(
-      'collections.series.label.pagination-items-per-page'
-    );
+    if (!!this.paginator) {
+      this.paginator._intl.itemsPerPageLabel = this.translateService.instant(
+        'collections.series.label.pagination-items-per-page'
+      );
+    }
   }
 }
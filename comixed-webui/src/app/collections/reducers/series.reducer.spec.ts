@@ -42,6 +42,11 @@ describe('Series Reducer', () => {
   const PUBLISHER = 'The Publisher';
   const SERIES = 'The Series';
   const VOLUME = '2022';
+  const SEARCH_TEXT = 'series';
+  const PAGE_SIZE = 25;
+  const PAGE_INDEX = 3;
+  const SORT_BY = 'name';
+  const SORT_DIRECTION = 'desc';
 
   let state: SeriesState;
 
@@ -62,6 +67,10 @@ describe('Series Reducer', () => {
       expect(state.series).toEqual([]);
     });
 
+    it('has no total series count', () => {
+      expect(state.totalSeries).toEqual(0);
+    });
+
     it('has no series detail loaded', () => {
       expect(state.detail).toEqual([]);
     });
@@ -69,7 +78,16 @@ describe('Series Reducer', () => {
 
   describe('loading series', () => {
     beforeEach(() => {
-      state = reducer({ ...state, busy: false }, loadSeriesList());
+      state = reducer(
+        { ...state, busy: false },
+        loadSeriesList({
+          searchText: SEARCH_TEXT,
+          pageSize: PAGE_SIZE,
+          pageIndex: PAGE_INDEX,
+          sortBy: SORT_BY,
+          sortDirection: SORT_DIRECTION
+        })
+      );
     });
 
     it('sets the busy flag', () => {
@@ -80,8 +98,8 @@ describe('Series Reducer', () => {
   describe('series loaded', () => {
     beforeEach(() => {
       state = reducer(
-        { ...state, busy: true, series: [] },
-        seriesLoaded({ series: SERIES_LIST })
+        { ...state, busy: true, series: [], totalSeries: 0 },
+        seriesLoaded({ series: SERIES_LIST, totalSeries: SERIES_LIST.length })
       );
     });
 
@@ -92,6 +110,10 @@ describe('Series Reducer', () => {
     it('sets the list series', () => {
       expect(state.series).toEqual(SERIES_LIST);
     });
+
+    it('sets the total series count', () => {
+      expect(state.totalSeries).toEqual(SERIES_LIST.length);
+    });
   });
 
   describe('failed to load series', () => {
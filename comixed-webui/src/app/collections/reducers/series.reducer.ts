@@ -33,12 +33,14 @@ export const SERIES_FEATURE_KEY = 'series_state';
 export interface SeriesState {
   busy: boolean;
   series: Series[];
+  totalSeries: number;
   detail: Issue[];
 }
 
 export const initialState: SeriesState = {
   busy: false,
   series: [],
+  totalSeries: 0,
   detail: []
 };
 
@@ -49,7 +51,8 @@ export const reducer = createReducer(
   on(seriesLoaded, (state, action) => ({
     ...state,
     busy: false,
-    series: action.series
+    series: action.series,
+    totalSeries: action.totalSeries
   })),
   on(loadSeriesFailed, state => ({ ...state, busy: false })),
   on(loadSeriesDetail, state => ({ ...state, busy: true, detail: [] })),
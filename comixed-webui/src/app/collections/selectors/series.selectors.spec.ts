@@ -20,6 +20,7 @@ import { SERIES_FEATURE_KEY, SeriesState } from '../reducers/series.reducer';
 import {
   selectSeriesDetail,
   selectSeriesList,
+  selectSeriesListTotal,
   selectSeriesState
 } from './series.selectors';
 import {
@@ -40,6 +41,7 @@ describe('Series Selectors', () => {
     state = {
       busy: Math.random() > 0.5,
       series: [SERIES_1, SERIES_2, SERIES_3, SERIES_4, SERIES_5],
+      totalSeries: Math.floor(Math.random() * 1000),
       detail: [ISSUE_1, ISSUE_2, ISSUE_3]
     };
   });
@@ -60,6 +62,14 @@ describe('Series Selectors', () => {
     ).toEqual(state.series);
   });
 
+  it('should select the total series count', () => {
+    expect(
+      selectSeriesListTotal({
+        [SERIES_FEATURE_KEY]: state
+      })
+    ).toEqual(state.totalSeries);
+  });
+
   it('should select the series detail', () => {
     expect(
       selectSeriesDetail({
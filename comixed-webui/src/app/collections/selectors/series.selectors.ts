@@ -27,6 +27,11 @@ export const selectSeriesList = createSelector(
   state => state.series
 );
 
+export const selectSeriesListTotal = createSelector(
+  selectSeriesState,
+  state => state.totalSeries
+);
+
 export const selectSeriesDetail = createSelector(
   selectSeriesState,
   state => state.detail
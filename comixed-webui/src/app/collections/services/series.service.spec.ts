@@ -40,6 +40,7 @@ import {
 } from '@app/collections/collections.constants';
 import { LoggerModule } from '@angular-ru/cdk/logger';
 import { LoadSeriesDetailRequest } from '@app/collections/models/net/load-series-detail-request';
+import { LoadSeriesListRequest } from '@app/collections/models/net/load-series-list-request';
 
 describe('SeriesService', () => {
   const SERIES_LIST = [SERIES_1, SERIES_2, SERIES_3, SERIES_4, SERIES_5];
@@ -47,6 +48,11 @@ describe('SeriesService', () => {
   const PUBLISHER = 'The publisher';
   const SERIES = 'The series';
   const VOLUME = '2022';
+  const SEARCH_TEXT = 'series';
+  const PAGE_SIZE = 25;
+  const PAGE_INDEX = 3;
+  const SORT_BY = 'name';
+  const SORT_DIRECTION = 'desc';
 
   let service: SeriesService;
   let httpMock: HttpTestingController;
@@ -65,14 +71,29 @@ describe('SeriesService', () => {
   });
 
   it('can load series', () => {
-    const serviceResponse = { series: SERIES_LIST } as LoadSeriesListResponse;
+    const serviceResponse = {
+      series: SERIES_LIST,
+      totalSeries: SERIES_LIST.length
+    } as LoadSeriesListResponse;
     service
-      .loadSeries()
+      .loadSeries({
+        searchText: SEARCH_TEXT,
+        pageSize: PAGE_SIZE,
+        pageIndex: PAGE_INDEX,
+        sortBy: SORT_BY,
+        sortDirection: SORT_DIRECTION
+      })
       .subscribe(response => expect(response).toEqual(serviceResponse));
 
     const req = httpMock.expectOne(interpolate(LOAD_SERIES_URL));
     expect(req.request.method).toEqual('POST');
-    expect(req.request.body).toEqual({});
+    expect(req.request.body).toEqual({
+      searchText: SEARCH_TEXT,
+      pageSize: PAGE_SIZE,
+      pageIndex: PAGE_INDEX,
+      sortBy: SORT_BY,
+      sortDirection: SORT_DIRECTION
+    } as LoadSeriesListRequest);
     req.flush(serviceResponse);
   });
 
@@ -26,6 +26,7 @@ import {
   LOAD_SERIES_URL
 } from '@app/collections/collections.constants';
 import { LoadSeriesDetailRequest } from '@app/collections/models/net/load-series-detail-request';
+import { LoadSeriesListRequest } from '@app/collections/models/net/load-series-list-request';
 
 @Injectable({
   providedIn: 'root'
@@ -33,9 +34,21 @@ import { LoadSeriesDetailRequest } from '@app/collections/models/net/load-series
 export class SeriesService {
   constructor(private logger: LoggerService, private http: HttpClient) {}
 
-  loadSeries(): Observable<any> {
-    this.logger.debug('Loading series');
-    return this.http.post(interpolate(LOAD_SERIES_URL), {});
+  loadSeries(args: {
+    searchText: string;
+    pageSize: number;
+    pageIndex: number;
+    sortBy: string;
+    sortDirection: string;
+  }): Observable<any> {
+    this.logger.debug('Loading series:', args);
+    return this.http.post(interpolate(LOAD_SERIES_URL), {
+      searchText: args.searchText,
+      pageSize: args.pageSize,
+      pageIndex: args.pageIndex,
+      sortBy: args.sortBy,
+      sortDirection: args.sortDirection
+    } as LoadSeriesListRequest);
   }
 
   loadSeriesDetail(args: {
@@ -90,7 +90,17 @@ export const comicDetailUpdated = createAction(
   props<{ comicDetail: ComicDetail }>()
 );
 
+export const comicDetailsUpdated = createAction(
+  '[Comic Details List] Received a batch of updated comic details',
+  props<{ comicDetails: ComicDetail[] }>()
+);
+
 export const comicDetailRemoved = createAction(
   '[Comic Details List] Received an removed comic detail',
   props<{ comicDetail: ComicDetail }>()
 );
+
+export const comicDetailsRemoved = createAction(
+  '[Comic Details List] Received a batch of removed comic details',
+  props<{ comicDetailIds: number[] }>()
+);
@@ -24,6 +24,8 @@ import {
 import {
   comicDetailRemoved,
   comicDetailsLoaded,
+  comicDetailsRemoved,
+  comicDetailsUpdated,
   comicDetailUpdated,
   loadComicDetails,
   loadComicDetailsById,
@@ -327,4 +329,53 @@ describe('ComicDetailsList Reducer', () => {
       });
     });
   });
+
+  describe('receiving a batch of updated comic details', () => {
+    const ORIGINAL = COMIC_DETAILS[3];
+    const UPDATE = {
+      ...ORIGINAL,
+      comicState: ComicState.DELETED
+    };
+    const NOT_SHOWN = { ...COMIC_DETAILS[4], comicState: ComicState.DELETED };
+
+    beforeEach(() => {
+      state = reducer(
+        {
+          ...state,
+          comicDetails: COMIC_DETAILS.filter(
+            entry => entry.id !== NOT_SHOWN.id
+          )
+        },
+        comicDetailsUpdated({ comicDetails: [UPDATE, NOT_SHOWN] })
+      );
+    });
+
+    it('replaces the updated comics', () => {
+      expect(state.comicDetails).not.toContain(ORIGINAL);
+      expect(state.comicDetails).toContain(UPDATE);
+    });
+
+    it('does not add comics that are not shown', () => {
+      expect(state.comicDetails).not.toContain(NOT_SHOWN);
+    });
+  });
+
+  describe('receiving a batch of removed comic details', () => {
+    const REMOVED = COMIC_DETAILS[3];
+
+    beforeEach(() => {
+      state = reducer(
+        { ...state, comicDetails: COMIC_DETAILS },
+        comicDetailsRemoved({ comicDetailIds: [REMOVED.id] })
+      );
+    });
+
+    it('removes the comics', () => {
+      expect(state.comicDetails).not.toContain(REMOVED);
+    });
+
+    it('keeps the remaining comics', () => {
+      expect(state.comicDetails.length).toEqual(COMIC_DETAILS.length - 1);
+    });
+  });
 });
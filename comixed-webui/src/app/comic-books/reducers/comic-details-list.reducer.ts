@@ -20,6 +20,8 @@ import { createFeature, createReducer, on } from '@ngrx/store';
 import {
   comicDetailRemoved,
   comicDetailsLoaded,
+  comicDetailsRemoved,
+  comicDetailsUpdated,
   comicDetailUpdated,
   loadComicDetails,
   loadComicDetailsById,
@@ -79,11 +81,26 @@ export const reducer = createReducer(
     }
     return { ...state, comicDetails };
   }),
+  on(comicDetailsUpdated, (state, action) => {
+    const comicDetails = state.comicDetails.map(entry => {
+      const update = action.comicDetails.find(
+        comicDetail => comicDetail.id === entry.id
+      );
+      return !!update ? { ...update } : entry;
+    });
+    return { ...state, comicDetails };
+  }),
   on(comicDetailRemoved, (state, action) => {
     const comicDetails = state.comicDetails.filter(
       entry => entry.id !== action.comicDetail.id
     );
     return { ...state, comicDetails };
+  }),
+  on(comicDetailsRemoved, (state, action) => {
+    const comicDetails = state.comicDetails.filter(
+      entry => !action.comicDetailIds.includes(entry.id)
+    );
+    return { ...state, comicDetails };
   })
 );
 
@@ -37,6 +37,8 @@ import { MockStore, provideMockStore } from '@ngrx/store/testing';
 import { LoggerModule } from '@angular-ru/cdk/logger';
 import { Subscription } from 'webstomp-client';
 import {
+  COMIC_LIST_BATCH_REMOVAL_TOPIC,
+  COMIC_LIST_BATCH_UPDATE_TOPIC,
   COMIC_LIST_REMOVAL_TOPIC,
   COMIC_LIST_UPDATE_TOPIC
 } from '@app/library/library.constants';
@@ -59,6 +61,8 @@ import { LoadComicDetailsResponse } from '@app/comic-books/models/net/load-comic
 import { LoadComicDetailsByIdRequest } from '@app/comic-books/models/net/load-comic-details-by-id-request';
 import {
   comicDetailRemoved,
+  comicDetailsRemoved,
+  comicDetailsUpdated,
   comicDetailUpdated
 } from '@app/comic-books/actions/comic-details-list.actions';
 import { TagType } from '@app/collections/models/comic-collection.enum';
@@ -106,6 +110,14 @@ describe('ComicDetailListService', () => {
   removalSubscription.unsubscribe = jasmine.createSpy(
     'Subscription.unsubscribe()'
   );
+  const batchRemovalSubscription = jasmine.createSpyObj(['unsubscribe']);
+  batchRemovalSubscription.unsubscribe = jasmine.createSpy(
+    'Subscription.unsubscribe()'
+  );
+  const batchUpdateSubscription = jasmine.createSpyObj(['unsubscribe']);
+  batchUpdateSubscription.unsubscribe = jasmine.createSpy(
+    'Subscription.unsubscribe()'
+  );
   let store: MockStore<any>;
   let httpMock: HttpTestingController;
 
@@ -163,6 +175,18 @@ describe('ComicDetailListService', () => {
           callback(COMIC_REMOVED);
           return {} as Subscription;
         });
+      webSocketService.subscribe
+        .withArgs(COMIC_LIST_BATCH_REMOVAL_TOPIC, jasmine.anything())
+        .and.callFake((destination, callback) => {
+          callback([COMIC_REMOVED.detail.id]);
+          return {} as Subscription;
+        });
+      webSocketService.subscribe
+        .withArgs(COMIC_LIST_BATCH_UPDATE_TOPIC, jasmine.anything())
+        .and.callFake((destination, callback) => {
+          callback([COMIC_ADDED]);
+          return {} as Subscription;
+        });
       store.setState({
         ...initialState,
         [MESSAGING_FEATURE_KEY]: { ...initialMessagingState, started: true }
@@ -194,12 +218,40 @@ describe('ComicDetailListService', () => {
         comicDetailRemoved({ comicDetail: COMIC_REMOVED.detail })
       );
     });
+
+    it('subscribes to the comic list batch removals topic', () => {
+      expect(webSocketService.subscribe).toHaveBeenCalledWith(
+        COMIC_LIST_BATCH_REMOVAL_TOPIC,
+        jasmine.anything()
+      );
+    });
+
+    it('processes comic batch removals', () => {
+      expect(store.dispatch).toHaveBeenCalledWith(
+        comicDetailsRemoved({ comicDetailIds: [COMIC_REMOVED.detail.id] })
+      );
+    });
+
+    it('subscribes to the comic list batch updates topic', () => {
+      expect(webSocketService.subscribe).toHaveBeenCalledWith(
+        COMIC_LIST_BATCH_UPDATE_TOPIC,
+        jasmine.anything()
+      );
+    });
+
+    it('processes comic batch updates', () => {
+      expect(store.dispatch).toHaveBeenCalledWith(
+        comicDetailsUpdated({ comicDetails: [COMIC_ADDED.detail] })
+      );
+    });
   });
 
   describe('when messaging stops', () => {
     beforeEach(() => {
       service.updateSubscription = updateSubscription;
       service.removalSubscription = removalSubscription;
+      service.batchRemovalSubscription = batchRemovalSubscription;
+      service.batchUpdateSubscription = batchUpdateSubscription;
       store.setState({
         ...initialState,
         [MESSAGING_FEATURE_KEY]: { ...initialMessagingState, started: false }
@@ -221,6 +273,22 @@ describe('ComicDetailListService', () => {
     it('clears the removal subscription', () => {
       expect(service.removalSubscription).toBeNull();
     });
+
+    it('unsubscribes from the comic list batch removal queue', () => {
+      expect(batchRemovalSubscription.unsubscribe).toHaveBeenCalled();
+    });
+
+    it('clears the batch removal subscription', () => {
+      expect(service.batchRemovalSubscription).toBeNull();
+    });
+
+    it('unsubscribes from the comic list batch update queue', () => {
+      expect(batchUpdateSubscription.unsubscribe).toHaveBeenCalled();
+    });
+
+    it('clears the batch update subscription', () => {
+      expect(service.batchUpdateSubscription).toBeNull();
+    });
   });
 
   it('can load a page worth of comic details', () => {
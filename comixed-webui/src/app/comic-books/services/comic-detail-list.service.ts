@@ -23,6 +23,8 @@ import { WebSocketService } from '@app/messaging';
 import { LoggerService } from '@angular-ru/cdk/logger';
 import { selectMessagingState } from '@app/messaging/selectors/messaging.selectors';
 import {
+  COMIC_LIST_BATCH_REMOVAL_TOPIC,
+  COMIC_LIST_BATCH_UPDATE_TOPIC,
   COMIC_LIST_REMOVAL_TOPIC,
   COMIC_LIST_UPDATE_TOPIC
 } from '@app/library/library.constants';
@@ -43,6 +45,8 @@ import {
 import { LoadComicDetailsByIdRequest } from '@app/comic-books/models/net/load-comic-details-by-id-request';
 import {
   comicDetailRemoved,
+  comicDetailsRemoved,
+  comicDetailsUpdated,
   comicDetailUpdated
 } from '@app/comic-books/actions/comic-details-list.actions';
 import { TagType } from '@app/collections/models/comic-collection.enum';
@@ -55,6 +59,8 @@ import { LoadUnreadComicDetailsRequest } from '@app/comic-books/models/net/load-
 export class ComicDetailListService {
   updateSubscription: Subscription;
   removalSubscription: Subscription;
+  batchRemovalSubscription: Subscription;
+  batchUpdateSubscription: Subscription;
 
   constructor(
     private logger: LoggerService,
@@ -84,6 +90,27 @@ export class ComicDetailListService {
             );
           }
         );
+        this.logger.trace('Subscribing to comic list batch removals');
+        this.batchRemovalSubscription = this.webSocketService.subscribe<
+          number[]
+        >(COMIC_LIST_BATCH_REMOVAL_TOPIC, comicDetailIds => {
+          this.logger.debug(
+            'Received comic batch removal update:',
+            comicDetailIds
+          );
+          this.store.dispatch(comicDetailsRemoved({ comicDetailIds }));
+        });
+        this.logger.trace('Subscribing to comic list batch updates');
+        this.batchUpdateSubscription = this.webSocketService.subscribe<
+          ComicBook[]
+        >(COMIC_LIST_BATCH_UPDATE_TOPIC, comicBooks => {
+          this.logger.debug('Received comic batch update:', comicBooks);
+          this.store.dispatch(
+            comicDetailsUpdated({
+              comicDetails: comicBooks.map(comicBook => comicBook.detail)
+            })
+          );
+        });
       }
 
       if (!state.started && !!this.updateSubscription) {
@@ -96,6 +123,16 @@ export class ComicDetailListService {
         this.removalSubscription.unsubscribe();
         this.removalSubscription = null;
       }
+      if (!state.started && !!this.batchRemovalSubscription) {
+        this.logger.trace('Unsubscribing from comic list batch removals');
+        this.batchRemovalSubscription.unsubscribe();
+        this.batchRemovalSubscription = null;
+      }
+      if (!state.started && !!this.batchUpdateSubscription) {
+        this.logger.trace('Unsubscribing from comic list batch updates');
+        this.batchUpdateSubscription.unsubscribe();
+        this.batchUpdateSubscription = null;
+      }
     });
   }
 